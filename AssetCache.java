@@ -0,0 +1,261 @@
+package com.example.opencv.webwhiteboard;
+
+import android.content.Context;
+import android.content.res.AssetManager;
+import android.net.Uri;
+import android.webkit.WebResourceResponse;
+
+import org.json.JSONException;
+import org.json.JSONObject;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.regex.Pattern;
+import java.util.zip.CRC32;
+
+/**
+ * 白板页面打包资源的内存缓存
+ * <p>
+ * 拦截 file:///android_asset/whiteboard/ 与 https://appassets.androidplatform.net/whiteboard/
+ * 下的请求，直接从内存返回资源内容，省去每次打开页面时从 APK 中解压读取 JS 包的开销。
+ * {@link #preloadAsync} 在应用启动时于后台线程把资源读入内存（按 LRU 控制总量）。
+ * 文件名带内容哈希的 Vite 产物按不可变资源返回一年的 Cache-Control，
+ * 其余文件（index.html 等）返回 no-cache 与基于内容的 ETag。
+ */
+public final class AssetCache {
+
+    public static final String ROOT = "whiteboard";
+    private static final String FILE_PREFIX = "/android_asset/" + ROOT + "/";
+    private static final String HTTPS_PREFIX = "/" + ROOT + "/";
+
+    private static final long BUDGET_BYTES = 24L * 1024 * 1024;
+    // 超过此大小的单个文件不缓存，按流返回
+    private static final int MAX_CACHED_FILE_BYTES = 8 * 1024 * 1024;
+    // Vite 输出的 name-[hash].ext
+    private static final Pattern HASHED_NAME = Pattern.compile(".*-[A-Za-z0-9_-]{8,}\\.[A-Za-z0-9]+$");
+    private static final Map<String, String> MIME_TYPES = new HashMap<>();
+
+    static {
+        MIME_TYPES.put("html", "text/html");
+        MIME_TYPES.put("js", "text/javascript");
+        MIME_TYPES.put("mjs", "text/javascript");
+        MIME_TYPES.put("css", "text/css");
+        MIME_TYPES.put("json", "application/json");
+        MIME_TYPES.put("svg", "image/svg+xml");
+        MIME_TYPES.put("wasm", "application/wasm");
+    }
+
+    private static AssetCache instance;
+
+    private final AssetManager assets;
+    // 按访问顺序淘汰
+    private final LinkedHashMap<String, Entry> entries = new LinkedHashMap<>(64, 0.75f, true);
+    private long bytes;
+    private long hits, misses;
+
+    private static final class Entry {
+        final byte[] data;
+        final String etag;
+
+        Entry(byte[] data) {
+            this.data = data;
+            CRC32 crc = new CRC32();
+            crc.update(data, 0, data.length);
+            this.etag = "\"" + Long.toHexString(crc.getValue()) + "-" + Integer.toHexString(data.length) + "\"";
+        }
+    }
+
+    private AssetCache(Context context) {
+        this.assets = context.getApplicationContext().getAssets();
+    }
+
+    public static synchronized AssetCache get(Context context) {
+        if (instance == null) {
+            instance = new AssetCache(context);
+        }
+        return instance;
+    }
+
+    /**
+     * 在后台线程中把页面资源读入内存：先读 index.html，再按目录顺序读取其余文件，到达容量上限为止
+     */
+    public void preloadAsync() {
+        Thread thread = new Thread(() -> {
+            try (NativeMetrics.Span span = NativeMetrics.span("assets.preload")) {
+                List<String> paths = new ArrayList<>();
+                paths.add(ROOT + "/index.html");
+                listRecursively(ROOT, paths);
+                int loaded = 0;
+                for (String path : paths) {
+                    if (bytes() >= BUDGET_BYTES) {
+                        break;
+                    }
+                    if (load(path) != null) {
+                        loaded++;
+                    }
+                }
+                span.detail(loaded + " files, " + bytes() + "B");
+            } catch (Exception e) {
+                e.printStackTrace();
+            }
+        }, "whiteboard-asset-preload");
+        thread.setDaemon(true);
+        thread.setPriority(Thread.MIN_PRIORITY);
+        thread.start();
+    }
+
+    /**
+     * 处理拦截到的请求，不属于页面资源的地址返回 null
+     */
+    public WebResourceResponse intercept(Uri url) {
+        String assetPath = assetPathOf(url);
+        if (assetPath == null) {
+            return null;
+        }
+        try {
+            Map<String, String> headers = new HashMap<>();
+            headers.put("Access-Control-Allow-Origin", "*");
+            headers.put("Cache-Control", cacheControlOf(assetPath));
+            String mimeType = mimeTypeOf(assetPath);
+            String encoding = mimeType.startsWith("text/") || mimeType.endsWith("json") || mimeType.endsWith("xml")
+                    ? "UTF-8" : null;
+            Entry entry = load(assetPath);
+            if (entry == null) {
+                // 过大的文件不进缓存，直接按流返回
+                InputStream in = assets.open(assetPath, AssetManager.ACCESS_STREAMING);
+                return new WebResourceResponse(mimeType, encoding, 200, "OK", headers, in);
+            }
+            headers.put("ETag", entry.etag);
+            headers.put("Content-Length", String.valueOf(entry.data.length));
+            return new WebResourceResponse(mimeType, encoding, 200, "OK", headers, new ByteArrayInputStream(entry.data));
+        } catch (IOException e) {
+            // 资源不存在，交由 WebView 默认处理
+            return null;
+        }
+    }
+
+    public synchronized JSONObject stats() throws JSONException {
+        JSONObject json = new JSONObject();
+        json.put("hits", hits);
+        json.put("misses", misses);
+        json.put("entries", entries.size());
+        json.put("bytes", bytes);
+        json.put("budgetBytes", BUDGET_BYTES);
+        return json;
+    }
+
+    /**
+     * 内存紧张时清空缓存
+     */
+    public synchronized void clear() {
+        entries.clear();
+        bytes = 0;
+    }
+
+    private synchronized long bytes() {
+        return bytes;
+    }
+
+    /**
+     * 从缓存或 APK 读取资源，文件过大时返回 null
+     */
+    private Entry load(String assetPath) throws IOException {
+        synchronized (this) {
+            Entry entry = entries.get(assetPath);
+            if (entry != null) {
+                hits++;
+                return entry;
+            }
+            misses++;
+        }
+        byte[] data;
+        try (InputStream in = assets.open(assetPath, AssetManager.ACCESS_STREAMING)) {
+            data = readLimited(in);
+        }
+        if (data == null) {
+            return null;
+        }
+        Entry entry = new Entry(data);
+        synchronized (this) {
+            Entry previous = entries.put(assetPath, entry);
+            bytes += data.length - (previous != null ? previous.data.length : 0);
+            Iterator<Map.Entry<String, Entry>> it = entries.entrySet().iterator();
+            while (bytes > BUDGET_BYTES && it.hasNext()) {
+                Map.Entry<String, Entry> eldest = it.next();
+                if (eldest.getValue() == entry) {
+                    continue;
+                }
+                bytes -= eldest.getValue().data.length;
+                it.remove();
+            }
+        }
+        return entry;
+    }
+
+    private void listRecursively(String dir, List<String> out) throws IOException {
+        String[] children = assets.list(dir);
+        if (children == null) {
+            return;
+        }
+        for (String child : children) {
+            String path = dir + "/" + child;
+            String[] grandChildren = assets.list(path);
+            if (grandChildren != null && grandChildren.length > 0) {
+                listRecursively(path, out);
+            } else if (!out.contains(path)) {
+                out.add(path);
+            }
+        }
+    }
+
+    private static byte[] readLimited(InputStream in) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(64 * 1024);
+        byte[] buffer = new byte[64 * 1024];
+        int n;
+        while ((n = in.read(buffer)) > 0) {
+            if (out.size() + n > MAX_CACHED_FILE_BYTES) {
+                return null;
+            }
+            out.write(buffer, 0, n);
+        }
+        return out.toByteArray();
+    }
+
+    /**
+     * 页面资源地址对应的 asset 路径（去掉查询参数），不是页面资源时返回 null
+     */
+    static String assetPathOf(Uri url) {
+        if (url == null || url.getPath() == null) {
+            return null;
+        }
+        String path = url.getPath();
+        if ("file".equals(url.getScheme()) && path.startsWith(FILE_PREFIX)) {
+            return ROOT + "/" + path.substring(FILE_PREFIX.length());
+        }
+        if ("https".equals(url.getScheme()) && LocalResourceServer.HOST.equals(url.getHost())
+                && path.startsWith(HTTPS_PREFIX)) {
+            return ROOT + "/" + path.substring(HTTPS_PREFIX.length());
+        }
+        return null;
+    }
+
+    static String cacheControlOf(String assetPath) {
+        String name = assetPath.substring(assetPath.lastIndexOf('/') + 1);
+        return HASHED_NAME.matcher(name).matches() ? "public, max-age=31536000, immutable" : "no-cache";
+    }
+
+    private static String mimeTypeOf(String assetPath) {
+        int dot = assetPath.lastIndexOf('.');
+        String mime = dot >= 0 ? MIME_TYPES.get(assetPath.substring(dot + 1).toLowerCase(Locale.ROOT)) : null;
+        return mime != null ? mime : LocalResourceServer.guessMimeType(assetPath);
+    }
+}
@@ -0,0 +1,162 @@
+package com.example.opencv.webwhiteboard;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Locale;
+
+/**
+ * 基准测试与对照测试共用的合成输入
+ * <p>
+ * 栅格图案只使用整数运算，golden/generate.mjs 中有逐像素一致的 JS 实现，两边修改时需同步。
+ */
+final class BenchFixtures {
+
+    private BenchFixtures() {
+    }
+
+    /**
+     * 生成灰度平台栅格（自上而下逐行，每字节一个像素）
+     *
+     * @param pattern gradient：带白边的横向渐变；shapes：圆环与矩形；noise：伪随机灰度，每 7 行一条空白行；
+     *                blank：全白
+     */
+    static byte[] raster(String pattern, int width, int height, int seed) {
+        byte[] data = new byte[width * height];
+        int state = seed;
+        for (int y = 0; y < height; y++) {
+            for (int x = 0; x < width; x++) {
+                int v;
+                switch (pattern) {
+                    case "gradient": {
+                        boolean inside = x >= width / 8 && x < width * 7 / 8 && y >= height / 8 && y < height * 7 / 8;
+                        v = inside ? x * 255 / (width - 1) : 255;
+                        break;
+                    }
+                    case "shapes": {
+                        int cx = width / 3, cy = height / 2;
+                        int r = Math.min(width, height) / 4;
+                        int d2 = (x - cx) * (x - cx) + (y - cy) * (y - cy);
+                        if (d2 <= r * r && d2 >= (r / 2) * (r / 2)) {
+                            v = 0;
+                        } else if (x >= width * 5 / 8 && x < width * 7 / 8 && y >= height / 4 && y < height * 3 / 4) {
+                            v = y < height / 2 ? 128 : 40;
+                        } else {
+                            v = 255;
+                        }
+                        break;
+                    }
+                    case "noise": {
+                        state = state * 1103515245 + 12345;
+                        v = y % 7 == 0 ? 255 : (state >>> 16) & 0xFF;
+                        break;
+                    }
+                    case "blank":
+                        v = 255;
+                        break;
+                    default:
+                        throw new IllegalArgumentException("未知的栅格图案: " + pattern);
+                }
+                data[y * width + x] = (byte) v;
+            }
+        }
+        return data;
+    }
+
+    /**
+     * 生成不透明的 ARGB 像素（栅格化后、灰度化前的平台图像）：伪随机颜色，每 10 行中第 0 行纯白、第 5 行纯黑
+     */
+    static int[] argb(int width, int height, int seed) {
+        int[] data = new int[width * height];
+        int state = seed;
+        for (int y = 0; y < height; y++) {
+            for (int x = 0; x < width; x++) {
+                int rgb;
+                if (y % 10 == 0) {
+                    rgb = 0xFFFFFF;
+                } else if (y % 10 == 5) {
+                    rgb = 0;
+                } else {
+                    state = state * 1103515245 + 12345;
+                    rgb = (((state >>> 16) & 0xFF) << 16) | (((state >>> 8) & 0xFF) << 8) | ((state >>> 24) & 0xFF);
+                }
+                data[y * width + x] = 0xFF000000 | rgb;
+            }
+        }
+        return data;
+    }
+
+    /**
+     * 生成 DXF 文本：网格排列的 LWPOLYLINE 折线（每条 pointsPerPath 个点的正弦曲线）、圆和圆弧
+     */
+    static byte[] dxf(int polylines, int pointsPerPath) {
+        StringBuilder sb = new StringBuilder(polylines * pointsPerPath * 24 + 1024);
+        sb.append("0\nSECTION\n2\nENTITIES\n");
+        int columns = (int) Math.ceil(Math.sqrt(polylines));
+        for (int i = 0; i < polylines; i++) {
+            double ox = (i % columns) * 12.0;
+            double oy = (i / columns) * 12.0;
+            switch (i % 8) {
+                case 6:
+                    sb.append("0\nCIRCLE\n8\n0\n10\n").append(num(ox + 5)).append("\n20\n").append(num(oy + 5))
+                            .append("\n40\n").append(num(2 + (i % 5) * 0.7)).append('\n');
+                    break;
+                case 7:
+                    sb.append("0\nARC\n8\n0\n10\n").append(num(ox + 5)).append("\n20\n").append(num(oy + 5))
+                            .append("\n40\n4\n50\n").append(i % 90).append("\n51\n").append(180 + i % 120).append('\n');
+                    break;
+                default:
+                    sb.append("0\nLWPOLYLINE\n8\n0\n90\n").append(pointsPerPath).append("\n70\n").append(i % 2).append('\n');
+                    for (int k = 0; k < pointsPerPath; k++) {
+                        double t = (double) k / (pointsPerPath - 1);
+                        sb.append("10\n").append(num(ox + t * 10)).append("\n20\n")
+                                .append(num(oy + 5 + 4 * Math.sin(t * Math.PI * (2 + i % 3)))).append('\n');
+                    }
+                    break;
+            }
+        }
+        sb.append("0\nENDSEC\n0\nEOF\n");
+        return sb.toString().getBytes(StandardCharsets.US_ASCII);
+    }
+
+    /**
+     * 生成矢量切割形式的 G 代码：折线化的圆（每段一条 G1，带注释）与细分的直线
+     */
+    static byte[] cutGCode(int shapes, int segments) {
+        StringBuilder sb = new StringBuilder(shapes * segments * 40 + 1024);
+        sb.append("; bench cut\nG90\nG21\nM4 S0\n");
+        int columns = (int) Math.ceil(Math.sqrt(shapes));
+        for (int i = 0; i < shapes; i++) {
+            double ox = (i % columns) * 12.0;
+            double oy = (i / columns) * 12.0;
+            double r = 2 + (i % 5) * 0.7;
+            sb.append("G0 X").append(num(ox + 5 + r)).append(" Y").append(num(oy + 5)).append(" F6000\n");
+            for (int k = 1; k <= segments; k++) {
+                double t = k * 2 * Math.PI / segments;
+                sb.append("G1 X").append(num(ox + 5 + r * Math.cos(t))).append(" Y").append(num(oy + 5 + r * Math.sin(t)))
+                        .append(" S80 F1000 ; seg\n");
+            }
+            sb.append("G0 X").append(num(ox)).append(" Y").append(num(oy)).append('\n');
+            for (int k = 1; k <= segments / 2; k++) {
+                sb.append("G1 X").append(num(ox + k * 10.0 / (segments / 2))).append(" Y").append(num(oy)).append(" S80\n");
+            }
+        }
+        sb.append("M5\nG0 X0 Y0\n");
+        return sb.toString().getBytes(StandardCharsets.US_ASCII);
+    }
+
+    /**
+     * 生成与页面 saveTempFile 参数相同形式的 data URL（内容为伪随机字节）
+     */
+    static String dataUrl(int bytes, int seed) {
+        return "data:application/octet-stream;base64," + java.util.Base64.getEncoder().encodeToString(randomBytes(bytes, seed));
+    }
+
+    static byte[] randomBytes(int bytes, int seed) {
+        byte[] data = new byte[bytes];
+        new java.util.Random(seed).nextBytes(data);
+        return data;
+    }
+
+    private static String num(double v) {
+        return String.format(Locale.ROOT, "%.4f", v);
+    }
+}
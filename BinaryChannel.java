@@ -0,0 +1,108 @@
+package com.example.opencv.webwhiteboard;
+
+import android.net.Uri;
+import android.webkit.WebView;
+
+import androidx.webkit.JavaScriptReplyProxy;
+import androidx.webkit.WebMessageCompat;
+import androidx.webkit.WebViewCompat;
+import androidx.webkit.WebViewFeature;
+
+import java.util.Collections;
+
+/**
+ * 页面与原生之间的二进制通道（帧格式见 {@link BinaryFrames}）
+ * <p>
+ * 通过 WebViewCompat.addWebMessageListener 向页面注入 window.WhiteboardBinary，页面以
+ * postMessage(ArrayBuffer) 发送帧，原生端经 JavaScriptReplyProxy.postMessage(byte[]) 回复，
+ * 两个方向都不经过字符串（base64、JSON 转义）。监听器与 {@link WhiteboardBridge.Proxy} 一样只能在
+ * 页面加载前注册，因此随池中的 WebView 创建，由当前 Activity 通过 {@link #attach} 接收帧。
+ * <p>
+ * 系统 WebView 不支持 ArrayBuffer 消息时 {@link #install} 返回 null，页面继续使用字符串桥方法。
+ * 所有方法在主线程调用。
+ */
+public final class BinaryChannel implements WebViewCompat.WebMessageListener {
+
+    public static final String JS_OBJECT_NAME = "WhiteboardBinary";
+
+    /**
+     * 帧处理（主线程回调，耗时工作需转到后台线程）
+     */
+    public interface Handler {
+        void onFrame(BinaryFrames.Frame frame);
+    }
+
+    private volatile Handler handler;
+    private JavaScriptReplyProxy reply;
+
+    private BinaryChannel() {
+    }
+
+    /**
+     * 为 WebView 注册二进制通道（需在 loadUrl 之前调用），不支持时返回 null
+     */
+    public static BinaryChannel install(WebView webView) {
+        if (!WebViewFeature.isFeatureSupported(WebViewFeature.WEB_MESSAGE_LISTENER)
+                || !WebViewFeature.isFeatureSupported(WebViewFeature.WEB_MESSAGE_ARRAY_BUFFER)) {
+            return null;
+        }
+        BinaryChannel channel = new BinaryChannel();
+        // 页面为 file:// 地址，没有可匹配的具体源
+        WebViewCompat.addWebMessageListener(webView, JS_OBJECT_NAME, Collections.singleton("*"), channel);
+        return channel;
+    }
+
+    public void attach(Handler handler) {
+        this.handler = handler;
+    }
+
+    public void detach() {
+        this.handler = null;
+    }
+
+    @Override
+    public void onPostMessage(WebView view, WebMessageCompat message, Uri sourceOrigin,
+                              boolean isMainFrame, JavaScriptReplyProxy replyProxy) {
+        if (!isMainFrame || message.getType() != WebMessageCompat.TYPE_ARRAY_BUFFER) {
+            return;
+        }
+        // 页面重新加载后代理会变化，始终使用最近一次收到消息的代理回复
+        reply = replyProxy;
+        byte[] data = message.getArrayBuffer();
+        BinaryFrames.Frame frame;
+        try {
+            frame = BinaryFrames.decode(data);
+        } catch (Exception e) {
+            e.printStackTrace();
+            return;
+        }
+        NativeMetrics.count("binary.framesIn", 1);
+        NativeMetrics.count("binary.bytesIn", data.length);
+        if (frame.type == BinaryFrames.TYPE_HELLO) {
+            // 通道本身的握手，与是否有 Activity 绑定无关（预加载的页面也能确认通道可用）
+            send(BinaryFrames.encode(BinaryFrames.TYPE_HELLO, BinaryFrames.FLAG_FINAL, frame.id, null, null));
+            return;
+        }
+        Handler target = handler;
+        if (target != null) {
+            target.onFrame(frame);
+        } else {
+            send(BinaryFrames.error(frame.id, "页面未绑定"));
+        }
+    }
+
+    /**
+     * 向页面发送一帧
+     *
+     * @return 页面尚未连接（没有收到过 HELLO）时返回 false
+     */
+    public boolean send(byte[] frame) {
+        if (reply == null) {
+            return false;
+        }
+        reply.postMessage(frame);
+        NativeMetrics.count("binary.framesOut", 1);
+        NativeMetrics.count("binary.bytesOut", frame.length);
+        return true;
+    }
+}
@@ -0,0 +1,243 @@
+package com.example.opencv.webwhiteboard;
+
+import org.json.JSONException;
+import org.json.JSONObject;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * 页面与原生之间二进制消息的帧格式（与 lib/binaryTransport.ts 一致，小端序）
+ * <pre>
+ *   0  u32 magic      "WBF1"
+ *   4  u8  type       帧类型（TYPE_*）
+ *   5  u8  flags      FLAG_*
+ *   6  u16 metaLength 附加 JSON 的字节数
+ *   8  u32 id         请求序号，应答帧与请求帧相同
+ *  12  u32 payloadLength
+ *  16  meta          UTF-8 JSON（方法参数、会话ID、结果等小数据），补齐到 4 字节
+ *      payload       按类型解释的二进制数据，起始位置 4 字节对齐，页面可直接建立 Float32Array 视图
+ * </pre>
+ * 折线负载：u32 count，u32 pointCounts[count]，u8 flags[count]（补齐到 4 字节，
+ * bit0 闭合、bit1 可反向），f32 坐标 x0, y0, x1, y1 ...
+ * <p>
+ * 栅格分块负载：u32 x, y, width, height, channels，随后为逐行像素。
+ * G 代码分块负载：UTF-8 文本，meta 中的 session 为 beginFile 返回的会话ID，FLAG_FINAL 表示提交文件。
+ */
+public final class BinaryFrames {
+
+    public static final int MAGIC = 0x31464257;
+    public static final int HEADER_BYTES = 16;
+
+    // 页面连接后发送，原生端回复同类型帧表示通道可用
+    public static final int TYPE_HELLO = 1;
+    // 应答：结果在 meta 中
+    public static final int TYPE_RESULT = 2;
+    // 应答：meta 为 {message}
+    public static final int TYPE_ERROR = 3;
+    public static final int TYPE_POLYLINES = 16;
+    public static final int TYPE_RASTER_TILE = 17;
+    public static final int TYPE_GCODE_CHUNK = 18;
+    // 原样回送负载（基准测试）
+    public static final int TYPE_ECHO = 127;
+
+    // 流的最后一帧
+    public static final int FLAG_FINAL = 1;
+
+    public static final int POLYLINE_CLOSED = 1;
+    public static final int POLYLINE_REVERSIBLE = 2;
+
+    private static final int MAX_META_BYTES = 0xffff;
+
+    /**
+     * 解码后的帧，payload 为指向原数组的小端序视图（不复制）
+     */
+    public static final class Frame {
+        public final int type;
+        public final int flags;
+        public final int id;
+        public final JSONObject meta;
+        public final ByteBuffer payload;
+
+        Frame(int type, int flags, int id, JSONObject meta, ByteBuffer payload) {
+            this.type = type;
+            this.flags = flags;
+            this.id = id;
+            this.meta = meta;
+            this.payload = payload;
+        }
+
+        public boolean isFinal() {
+            return (flags & FLAG_FINAL) != 0;
+        }
+    }
+
+    /**
+     * 一组折线，数组布局与帧中的负载一致
+     */
+    public static final class PolylineSet {
+        public final int[] pointCounts;
+        public final byte[] flags;
+        // 所有折线的坐标依次排列
+        public final float[] xy;
+
+        public PolylineSet(int[] pointCounts, byte[] flags, float[] xy) {
+            this.pointCounts = pointCounts;
+            this.flags = flags;
+            this.xy = xy;
+        }
+
+        public int size() {
+            return pointCounts.length;
+        }
+
+        public boolean isClosed(int i) {
+            return (flags[i] & POLYLINE_CLOSED) != 0;
+        }
+
+        public boolean isReversible(int i) {
+            return (flags[i] & POLYLINE_REVERSIBLE) != 0;
+        }
+    }
+
+    /**
+     * 一块栅格（channels 为 1 表示灰度，4 表示 RGBA），像素为 payload 中的视图
+     */
+    public static final class RasterTile {
+        public final int x, y, width, height, channels;
+        public final ByteBuffer pixels;
+
+        RasterTile(int x, int y, int width, int height, int channels, ByteBuffer pixels) {
+            this.x = x;
+            this.y = y;
+            this.width = width;
+            this.height = height;
+            this.channels = channels;
+            this.pixels = pixels;
+        }
+    }
+
+    private BinaryFrames() {
+    }
+
+    /**
+     * 解析一帧
+     *
+     * @throws IllegalArgumentException 魔数、长度不符
+     */
+    public static Frame decode(byte[] data) throws JSONException {
+        ByteBuffer buf = ByteBuffer.wrap(data).order(ByteOrder.LITTLE_ENDIAN);
+        if (data.length < HEADER_BYTES || buf.getInt(0) != MAGIC) {
+            throw new IllegalArgumentException("不是有效的二进制帧");
+        }
+        int type = buf.get(4) & 0xff;
+        int flags = buf.get(5) & 0xff;
+        int metaLength = buf.getShort(6) & 0xffff;
+        int id = buf.getInt(8);
+        long payloadLength = buf.getInt(12) & 0xffffffffL;
+        int payloadStart = HEADER_BYTES + align4(metaLength);
+        if (payloadStart + payloadLength > data.length) {
+            throw new IllegalArgumentException("帧长度不符: " + data.length);
+        }
+        JSONObject meta = metaLength == 0 ? new JSONObject()
+                : new JSONObject(new String(data, HEADER_BYTES, metaLength, StandardCharsets.UTF_8));
+        buf.position(payloadStart).limit(payloadStart + (int) payloadLength);
+        return new Frame(type, flags, id, meta, buf.slice().order(ByteOrder.LITTLE_ENDIAN));
+    }
+
+    /**
+     * 编码一帧，meta 可以为 null
+     */
+    public static byte[] encode(int type, int flags, int id, JSONObject meta, ByteBuffer payload) {
+        byte[] metaBytes = meta == null || meta.length() == 0 ? new byte[0]
+                : meta.toString().getBytes(StandardCharsets.UTF_8);
+        if (metaBytes.length > MAX_META_BYTES) {
+            throw new IllegalArgumentException("meta 过大: " + metaBytes.length);
+        }
+        int payloadLength = payload == null ? 0 : payload.remaining();
+        byte[] frame = new byte[HEADER_BYTES + align4(metaBytes.length) + payloadLength];
+        ByteBuffer buf = ByteBuffer.wrap(frame).order(ByteOrder.LITTLE_ENDIAN);
+        buf.putInt(MAGIC).put((byte) type).put((byte) flags).putShort((short) metaBytes.length)
+                .putInt(id).putInt(payloadLength);
+        buf.put(metaBytes);
+        if (payload != null) {
+            buf.position(HEADER_BYTES + align4(metaBytes.length));
+            buf.put(payload.duplicate());
+        }
+        return frame;
+    }
+
+    public static byte[] result(int id, JSONObject result) {
+        return encode(TYPE_RESULT, FLAG_FINAL, id, result, null);
+    }
+
+    public static byte[] error(int id, String message) {
+        JSONObject meta = new JSONObject();
+        try {
+            meta.put("message", message == null ? "" : message);
+        } catch (JSONException e) {
+            throw new IllegalStateException(e);
+        }
+        return encode(TYPE_ERROR, FLAG_FINAL, id, meta, null);
+    }
+
+    public static PolylineSet decodePolylines(ByteBuffer payload) {
+        ByteBuffer buf = payload.duplicate().order(ByteOrder.LITTLE_ENDIAN);
+        int count = buf.getInt();
+        if (count < 0 || count > buf.remaining() / 4) {
+            throw new IllegalArgumentException("折线数量不符: " + count);
+        }
+        int[] pointCounts = new int[count];
+        long points = 0;
+        for (int i = 0; i < count; i++) {
+            pointCounts[i] = buf.getInt();
+            points += pointCounts[i];
+        }
+        byte[] flags = new byte[count];
+        buf.get(flags);
+        buf.position(buf.position() + align4(count) - count);
+        if (points < 0 || points * 8 > buf.remaining()) {
+            throw new IllegalArgumentException("折线坐标长度不符: " + points);
+        }
+        float[] xy = new float[(int) points * 2];
+        buf.asFloatBuffer().get(xy);
+        return new PolylineSet(pointCounts, flags, xy);
+    }
+
+    public static ByteBuffer encodePolylines(PolylineSet set) {
+        int count = set.size();
+        ByteBuffer buf = ByteBuffer.allocate(4 + count * 4 + align4(count) + set.xy.length * 4)
+                .order(ByteOrder.LITTLE_ENDIAN);
+        buf.putInt(count);
+        for (int n : set.pointCounts) {
+            buf.putInt(n);
+        }
+        buf.put(set.flags);
+        buf.position(buf.position() + align4(count) - count);
+        buf.asFloatBuffer().put(set.xy);
+        buf.position(buf.limit());
+        buf.flip();
+        return buf;
+    }
+
+    public static RasterTile decodeRasterTile(ByteBuffer payload) {
+        ByteBuffer buf = payload.duplicate().order(ByteOrder.LITTLE_ENDIAN);
+        int x = buf.getInt(), y = buf.getInt(), width = buf.getInt(), height = buf.getInt(), channels = buf.getInt();
+        if (width < 0 || height < 0 || channels <= 0 || (long) width * height * channels != buf.remaining()) {
+            throw new IllegalArgumentException("栅格尺寸不符: " + width + "x" + height + "x" + channels);
+        }
+        return new RasterTile(x, y, width, height, channels, buf.slice());
+    }
+
+    public static ByteBuffer encodeRasterTile(int x, int y, int width, int height, int channels, byte[] pixels) {
+        ByteBuffer buf = ByteBuffer.allocate(20 + pixels.length).order(ByteOrder.LITTLE_ENDIAN);
+        buf.putInt(x).putInt(y).putInt(width).putInt(height).putInt(channels).put(pixels);
+        buf.flip();
+        return buf;
+    }
+
+    private static int align4(int n) {
+        return (n + 3) & ~3;
+    }
+}
@@ -0,0 +1,1336 @@
+package com.example.opencv.webwhiteboard;
+
+import org.json.JSONException;
+import org.json.JSONObject;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 位图矢量化（potrace 算法的 Java 实现，对应 HomePage.tsx 中 potrace.trace 的处理）
+ * <p>
+ * 亮度按 threshold 二值化后进行 potrace 路径分解（minority 转向策略，面积不超过 turdSize 的斑点丢弃），
+ * 每条轮廓再依次求最优多边形、调整顶点、平滑并合并曲线（optCurve）。路径分解需要在同一张位图上
+ * 逐条异或，只能串行；之后各轮廓的拟合互不相关，在 {@link WorkerPools#COMPUTE} 上并行处理。
+ * 输出的 SVG 与 node potrace 的 getSVG 格式一致。
+ */
+public class BitmapTracer {
+
+    /**
+     * 矢量化参数，默认值与 HomePage.tsx 中的 potrace 参数一致
+     */
+    public static class Options {
+        int threshold = 128;
+        int turdSize = 2;
+        double alphaMax = 1;
+        boolean optCurve = true;
+        double optTolerance = 0.2;
+
+        public static Options fromJson(String json) throws JSONException {
+            JSONObject obj = new JSONObject(json);
+            Options o = new Options();
+            o.threshold = obj.optInt("threshold", o.threshold);
+            o.turdSize = obj.optInt("turdSize", o.turdSize);
+            o.alphaMax = obj.optDouble("alphaMax", o.alphaMax);
+            o.optCurve = obj.optBoolean("optCurve", o.optCurve);
+            o.optTolerance = obj.optDouble("optTolerance", o.optTolerance);
+            return o;
+        }
+    }
+
+    /**
+     * 进度回调：stage 为 "decompose"（路径分解）或 "fit"（曲线拟合），progress 为 0-1
+     */
+    public interface ProgressListener {
+        void onProgress(String stage, double progress);
+    }
+
+    // 阈值化每个任务处理的行数
+    private static final int THRESHOLD_ROWS = 64;
+    // 曲线拟合每个任务处理的轮廓数
+    private static final int FIT_BATCH = 16;
+    // 两次进度通知之间的最小进度差
+    private static final double PROGRESS_STEP = 0.01;
+
+    private final Options options;
+    private final ProgressListener listener;
+
+    public BitmapTracer(Options options, ProgressListener listener) {
+        this.options = options;
+        this.listener = listener;
+    }
+
+    /**
+     * 与 node potrace 相同的亮度计算：透明部分先与白色背景混合
+     */
+    public static void toLuminance(int[] argb, int count, byte[] dst, int offset) {
+        for (int i = 0; i < count; i++) {
+            int p = argb[i];
+            double opacity = (p >>> 24) / 255.0;
+            double r = 255 + (((p >> 16) & 0xFF) - 255) * opacity;
+            double g = 255 + (((p >> 8) & 0xFF) - 255) * opacity;
+            double b = 255 + ((p & 0xFF) - 255) * opacity;
+            dst[offset + i] = (byte) Math.round(0.2126 * r + 0.7152 * g + 0.0722 * b);
+        }
+    }
+
+    /**
+     * 矢量化结果
+     */
+    public static class Result {
+        public final int width;
+        public final int height;
+        final List<Path> paths;
+
+        Result(int width, int height, List<Path> paths) {
+            this.width = width;
+            this.height = height;
+            this.paths = paths;
+        }
+
+        public int pathCount() {
+            return paths.size();
+        }
+
+        /**
+         * 输出完整的 SVG 文档
+         */
+        public void writeSvg(Writer out) throws IOException {
+            out.write("<svg xmlns=\"http://www.w3.org/2000/svg\" width=\"" + width + "\" height=\"" + height
+                    + "\" viewBox=\"0 0 " + width + " " + height + "\" version=\"1.1\">\n\t");
+            out.write("<path d=\"");
+            writePathData(out);
+            out.write("\" stroke=\"none\" fill=\"black\" fill-rule=\"evenodd\"/>\n</svg>");
+        }
+
+        /**
+         * 输出 path 的 d 属性内容，各轮廓之间以空格分隔
+         */
+        public void writePathData(Writer out) throws IOException {
+            StringBuilder sb = new StringBuilder(4096);
+            boolean first = true;
+            for (Path path : paths) {
+                Curve curve = path.curve;
+                if (curve == null || curve.n == 0) {
+                    continue;
+                }
+                if (!first) {
+                    sb.append(' ');
+                }
+                first = false;
+                int last = (curve.n - 1) * 3 + 2;
+                sb.append("M ");
+                fixed(sb, curve.cx[last]).append(' ');
+                fixed(sb, curve.cy[last]);
+                for (int i = 0; i < curve.n; i++) {
+                    int i3 = i * 3;
+                    if (curve.corner[i]) {
+                        sb.append(" L ");
+                        fixed(sb, curve.cx[i3 + 1]).append(' ');
+                        fixed(sb, curve.cy[i3 + 1]).append(' ');
+                        fixed(sb, curve.cx[i3 + 2]).append(' ');
+                        fixed(sb, curve.cy[i3 + 2]);
+                    } else {
+                        sb.append(" C ");
+                        fixed(sb, curve.cx[i3]).append(' ');
+                        fixed(sb, curve.cy[i3]).append(", ");
+                        fixed(sb, curve.cx[i3 + 1]).append(' ');
+                        fixed(sb, curve.cy[i3 + 1]).append(", ");
+                        fixed(sb, curve.cx[i3 + 2]).append(' ');
+                        fixed(sb, curve.cy[i3 + 2]);
+                    }
+                }
+                if (sb.length() >= 4096) {
+                    out.append(sb);
+                    sb.setLength(0);
+                }
+            }
+            out.append(sb);
+        }
+    }
+
+    /**
+     * 矢量化灰度图
+     *
+     * @param luminance 亮度数据，每字节一个像素 (0-255)，行优先
+     */
+    public Result trace(byte[] luminance, int width, int height) {
+        if (width <= 0 || height <= 0 || luminance.length < (long) width * height) {
+            throw new IllegalArgumentException("无效的图像尺寸: " + width + "x" + height);
+        }
+        BitMap original = new BitMap(width, height);
+        try (NativeMetrics.Span ignored = NativeMetrics.span("trace.threshold").detail(width + "x" + height)) {
+            WorkerPools.COMPUTE.invoke(new ThresholdTask(luminance, original, options.threshold, 0, height));
+        }
+        List<Path> paths;
+        try (NativeMetrics.Span span = NativeMetrics.span("trace.decompose")) {
+            paths = decompose(original);
+            span.detail(paths.size() + " paths");
+        }
+
+        long totalPoints = 0;
+        for (Path p : paths) {
+            totalPoints += p.len;
+        }
+        try (NativeMetrics.Span ignored = NativeMetrics.span("trace.fit").detail(totalPoints + " points")) {
+            WorkerPools.COMPUTE.invoke(new FitTask(paths, 0, paths.size(), new FitProgress(totalPoints)));
+        }
+        report("fit", 1);
+        return new Result(width, height, paths);
+    }
+
+    private void report(String stage, double progress) {
+        if (listener != null) {
+            listener.onProgress(stage, progress);
+        }
+    }
+
+    // ---- 阈值化 ----
+
+    /**
+     * 按位存储的二值图，每行按 64 位对齐；越界像素视为白色
+     */
+    static final class BitMap {
+        final int width;
+        final int height;
+        final int words;
+        final long[] bits;
+
+        BitMap(int width, int height) {
+            this.width = width;
+            this.height = height;
+            this.words = (width + 63) >>> 6;
+            this.bits = new long[words * height];
+        }
+
+        BitMap(BitMap other) {
+            this.width = other.width;
+            this.height = other.height;
+            this.words = other.words;
+            this.bits = other.bits.clone();
+        }
+
+        boolean get(int x, int y) {
+            if (x < 0 || y < 0 || x >= width || y >= height) {
+                return false;
+            }
+            return ((bits[y * words + (x >>> 6)] >>> (x & 63)) & 1L) != 0;
+        }
+
+        /**
+         * 翻转第 y 行 [fromX, toX) 范围内的像素
+         */
+        void flip(int y, int fromX, int toX) {
+            if (fromX >= toX) {
+                return;
+            }
+            int base = y * words;
+            int w0 = fromX >>> 6;
+            int w1 = (toX - 1) >>> 6;
+            long first = -1L << (fromX & 63);
+            long last = -1L >>> (63 - ((toX - 1) & 63));
+            if (w0 == w1) {
+                bits[base + w0] ^= first & last;
+                return;
+            }
+            bits[base + w0] ^= first;
+            for (int w = w0 + 1; w < w1; w++) {
+                bits[base + w] ^= -1L;
+            }
+            bits[base + w1] ^= last;
+        }
+
+        /**
+         * 从 (x, y) 起按行优先查找下一个黑色像素，返回 y * width + x，找不到返回 -1
+         */
+        long findNext(int x, int y) {
+            for (; y < height; y++, x = 0) {
+                int base = y * words;
+                int w = x >>> 6;
+                long word = bits[base + w] & (-1L << (x & 63));
+                while (true) {
+                    if (word != 0) {
+                        return (long) y * width + ((w << 6) + Long.numberOfTrailingZeros(word));
+                    }
+                    if (++w >= words) {
+                        break;
+                    }
+                    word = bits[base + w];
+                }
+            }
+            return -1;
+        }
+    }
+
+    private static final class ThresholdTask extends RecursiveAction {
+        private final byte[] luminance;
+        private final BitMap bm;
+        private final int threshold;
+        private final int fromRow;
+        private final int toRow;
+
+        ThresholdTask(byte[] luminance, BitMap bm, int threshold, int fromRow, int toRow) {
+            this.luminance = luminance;
+            this.bm = bm;
+            this.threshold = threshold;
+            this.fromRow = fromRow;
+            this.toRow = toRow;
+        }
+
+        @Override
+        protected void compute() {
+            if (toRow - fromRow > THRESHOLD_ROWS) {
+                int mid = (fromRow + toRow) >>> 1;
+                invokeAll(new ThresholdTask(luminance, bm, threshold, fromRow, mid),
+                        new ThresholdTask(luminance, bm, threshold, mid, toRow));
+                return;
+            }
+            for (int y = fromRow; y < toRow; y++) {
+                int row = y * bm.width;
+                int base = y * bm.words;
+                for (int x = 0; x < bm.width; x++) {
+                    // 亮度不超过阈值的像素为黑色
+                    if ((luminance[row + x] & 0xFF) <= threshold) {
+                        bm.bits[base + (x >>> 6)] |= 1L << (x & 63);
+                    }
+                }
+            }
+        }
+    }
+
+    // ---- 路径分解 ----
+
+    /**
+     * 单条轮廓：分解得到的顶点序列及拟合结果
+     */
+    static final class Path {
+        int[] x;
+        int[] y;
+        int len;
+        int area;
+        // 外轮廓为 true，孔洞为 false
+        boolean positive;
+        int maxX;
+        Curve curve;
+
+        Path() {
+            x = new int[16];
+            y = new int[16];
+        }
+
+        void add(int px, int py) {
+            if (len == x.length) {
+                x = Arrays.copyOf(x, len * 2);
+                y = Arrays.copyOf(y, len * 2);
+            }
+            x[len] = px;
+            y[len] = py;
+            len++;
+        }
+    }
+
+    private List<Path> decompose(BitMap original) {
+        BitMap bm = new BitMap(original);
+        List<Path> paths = new ArrayList<>();
+        int height = bm.height;
+        double reported = 0;
+        long next;
+        int cx = 0, cy = 0;
+        while ((next = bm.findNext(cx, cy)) >= 0) {
+            cx = (int) (next % bm.width);
+            cy = (int) (next / bm.width);
+            Path path = findPath(original, bm, cx, cy);
+            xorPath(bm, path);
+            if (path.area > options.turdSize) {
+                paths.add(path);
+            }
+            double progress = (double) cy / height;
+            if (progress - reported >= PROGRESS_STEP) {
+                reported = progress;
+                report("decompose", progress);
+            }
+        }
+        report("decompose", 1);
+        return paths;
+    }
+
+    private static Path findPath(BitMap original, BitMap bm, int x0, int y0) {
+        Path path = new Path();
+        int x = x0, y = y0, dirx = 0, diry = 1, tmp;
+        path.positive = original.get(x0, y0);
+        path.maxX = x0;
+        while (true) {
+            path.add(x, y);
+            if (x > path.maxX) {
+                path.maxX = x;
+            }
+            x += dirx;
+            y += diry;
+            path.area -= x * diry;
+            if (x == x0 && y == y0) {
+                break;
+            }
+            boolean l = bm.get(x + (dirx + diry - 1) / 2, y + (diry - dirx - 1) / 2);
+            boolean r = bm.get(x + (dirx - diry - 1) / 2, y + (diry + dirx - 1) / 2);
+            if (r && !l) {
+                // 歧义点按 minority 策略：周围少数一方的颜色决定转向
+                if (!majority(bm, x, y)) {
+                    tmp = dirx;
+                    dirx = -diry;
+                    diry = tmp;
+                } else {
+                    tmp = dirx;
+                    dirx = diry;
+                    diry = -tmp;
+                }
+            } else if (r) {
+                tmp = dirx;
+                dirx = -diry;
+                diry = tmp;
+            } else if (!l) {
+                tmp = dirx;
+                dirx = diry;
+                diry = -tmp;
+            }
+        }
+        return path;
+    }
+
+    private static boolean majority(BitMap bm, int x, int y) {
+        for (int i = 2; i < 5; i++) {
+            int ct = 0;
+            for (int a = -i + 1; a <= i - 1; a++) {
+                ct += bm.get(x + a, y + i - 1) ? 1 : -1;
+                ct += bm.get(x + i - 1, y + a - 1) ? 1 : -1;
+                ct += bm.get(x + a - 1, y - i) ? 1 : -1;
+                ct += bm.get(x - i, y + a) ? 1 : -1;
+            }
+            if (ct > 0) {
+                return true;
+            } else if (ct < 0) {
+                return false;
+            }
+        }
+        return false;
+    }
+
+    private static void xorPath(BitMap bm, Path path) {
+        int y1 = path.y[0];
+        for (int i = 1; i < path.len; i++) {
+            int x = path.x[i];
+            int y = path.y[i];
+            if (y != y1) {
+                bm.flip(Math.min(y1, y), x, path.maxX);
+                y1 = y;
+            }
+        }
+    }
+
+    // ---- 曲线拟合 ----
+
+    private final class FitProgress {
+        final long total;
+        final AtomicLong done = new AtomicLong();
+        double reported;
+
+        FitProgress(long total) {
+            this.total = total;
+        }
+
+        void add(long points) {
+            double progress = total == 0 ? 1 : (double) done.addAndGet(points) / total;
+            synchronized (this) {
+                if (progress - reported < PROGRESS_STEP) {
+                    return;
+                }
+                reported = progress;
+            }
+            report("fit", progress);
+        }
+    }
+
+    private final class FitTask extends RecursiveAction {
+        private final List<Path> paths;
+        private final int from;
+        private final int to;
+        private final FitProgress progress;
+
+        FitTask(List<Path> paths, int from, int to, FitProgress progress) {
+            this.paths = paths;
+            this.from = from;
+            this.to = to;
+            this.progress = progress;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from > FIT_BATCH) {
+                int mid = (from + to) >>> 1;
+                invokeAll(new FitTask(paths, from, mid, progress), new FitTask(paths, mid, to, progress));
+                return;
+            }
+            long points = 0;
+            for (int i = from; i < to; i++) {
+                Path path = paths.get(i);
+                fit(path);
+                points += path.len;
+            }
+            progress.add(points);
+        }
+    }
+
+    /**
+     * 单条轮廓的拟合流程，与 potrace 的 process_path 相同
+     */
+    void fit(Path path) {
+        Polygon poly = new Polygon(path);
+        poly.calcSums();
+        poly.calcLon();
+        poly.bestPolygon();
+        Curve curve = poly.adjustVertices();
+        if (!path.positive) {
+            curve.reverseVertices();
+        }
+        smooth(curve, options.alphaMax);
+        if (options.optCurve) {
+            curve = optiCurve(curve, options.optTolerance);
+        }
+        path.curve = curve;
+    }
+
+    /**
+     * 拟合曲线：每段包含 3 个控制点（CORNER 段只使用后两个）
+     */
+    static final class Curve {
+        final int n;
+        final boolean[] corner;
+        final double[] cx;
+        final double[] cy;
+        final double[] vx;
+        final double[] vy;
+        final double[] alpha;
+        final double[] alpha0;
+        final double[] beta;
+
+        Curve(int n) {
+            this.n = n;
+            corner = new boolean[n];
+            cx = new double[n * 3];
+            cy = new double[n * 3];
+            vx = new double[n];
+            vy = new double[n];
+            alpha = new double[n];
+            alpha0 = new double[n];
+            beta = new double[n];
+        }
+
+        void reverseVertices() {
+            for (int i = 0, j = n - 1; i < j; i++, j--) {
+                double t = vx[i];
+                vx[i] = vx[j];
+                vx[j] = t;
+                t = vy[i];
+                vy[i] = vy[j];
+                vy[j] = t;
+            }
+        }
+    }
+
+    /**
+     * 最优多边形及顶点调整（potrace 的 calc_sums、calc_lon、bestpolygon、adjust_vertices）
+     */
+    private static final class Polygon {
+        final Path path;
+        final int n;
+        final int[] px;
+        final int[] py;
+        int x0, y0;
+        double[] sx, sy, sxy, sx2, sy2;
+        int[] lon;
+        int m;
+        int[] po;
+
+        Polygon(Path path) {
+            this.path = path;
+            this.n = path.len;
+            this.px = path.x;
+            this.py = path.y;
+        }
+
+        void calcSums() {
+            x0 = px[0];
+            y0 = py[0];
+            sx = new double[n + 1];
+            sy = new double[n + 1];
+            sxy = new double[n + 1];
+            sx2 = new double[n + 1];
+            sy2 = new double[n + 1];
+            for (int i = 0; i < n; i++) {
+                double x = px[i] - x0;
+                double y = py[i] - y0;
+                sx[i + 1] = sx[i] + x;
+                sy[i + 1] = sy[i] + y;
+                sxy[i + 1] = sxy[i] + x * y;
+                sx2[i + 1] = sx2[i] + x * x;
+                sy2[i + 1] = sy2[i] + y * y;
+            }
+        }
+
+        void calcLon() {
+            int[] pivk = new int[n];
+            int[] nc = new int[n];
+            int[] ct = new int[4];
+            lon = new int[n];
+            int c0x, c0y, c1x, c1y, curx, cury, offx, offy;
+            int i, j, k, k1, dir;
+
+            k = 0;
+            for (i = n - 1; i >= 0; i--) {
+                if (px[i] != px[k] && py[i] != py[k]) {
+                    k = i + 1;
+                }
+                nc[i] = k;
+            }
+
+            for (i = n - 1; i >= 0; i--) {
+                ct[0] = ct[1] = ct[2] = ct[3] = 0;
+                dir = (3 + 3 * (px[mod(i + 1, n)] - px[i]) + (py[mod(i + 1, n)] - py[i])) / 2;
+                ct[dir]++;
+                c0x = c0y = c1x = c1y = 0;
+                k = nc[i];
+                k1 = i;
+                boolean found = false;
+                while (true) {
+                    dir = (3 + 3 * sign(px[k] - px[k1]) + sign(py[k] - py[k1])) / 2;
+                    ct[dir]++;
+                    if (ct[0] != 0 && ct[1] != 0 && ct[2] != 0 && ct[3] != 0) {
+                        pivk[i] = k1;
+                        found = true;
+                        break;
+                    }
+                    curx = px[k] - px[i];
+                    cury = py[k] - py[i];
+                    if (xprod(c0x, c0y, curx, cury) < 0 || xprod(c1x, c1y, curx, cury) > 0) {
+                        break;
+                    }
+                    if (Math.abs(curx) > 1 || Math.abs(cury) > 1) {
+                        offx = curx + ((cury >= 0 && (cury > 0 || curx < 0)) ? 1 : -1);
+                        offy = cury + ((curx <= 0 && (curx < 0 || cury < 0)) ? 1 : -1);
+                        if (xprod(c0x, c0y, offx, offy) >= 0) {
+                            c0x = offx;
+                            c0y = offy;
+                        }
+                        offx = curx + ((cury <= 0 && (cury < 0 || curx < 0)) ? 1 : -1);
+                        offy = cury + ((curx >= 0 && (curx > 0 || cury < 0)) ? 1 : -1);
+                        if (xprod(c1x, c1y, offx, offy) <= 0) {
+                            c1x = offx;
+                            c1y = offy;
+                        }
+                    }
+                    k1 = k;
+                    k = nc[k1];
+                    if (!cyclic(k, i, k1)) {
+                        break;
+                    }
+                }
+                if (!found) {
+                    // k1 为最后一个满足约束的拐点，求 k1..k 之间最后一个满足约束的点
+                    int dkx = sign(px[k] - px[k1]);
+                    int dky = sign(py[k] - py[k1]);
+                    curx = px[k1] - px[i];
+                    cury = py[k1] - py[i];
+                    long a = xprod(c0x, c0y, curx, cury);
+                    long b = xprod(c0x, c0y, dkx, dky);
+                    long c = xprod(c1x, c1y, curx, cury);
+                    long d = xprod(c1x, c1y, dkx, dky);
+                    long jj = 10000000;
+                    if (b < 0) {
+                        jj = Math.floorDiv(a, -b);
+                    }
+                    if (d > 0) {
+                        jj = Math.min(jj, Math.floorDiv(-c, d));
+                    }
+                    pivk[i] = mod((int) (k1 + jj), n);
+                }
+            }
+
+            j = pivk[n - 1];
+            lon[n - 1] = j;
+            for (i = n - 2; i >= 0; i--) {
+                if (cyclic(i + 1, pivk[i], j)) {
+                    j = pivk[i];
+                }
+                lon[i] = j;
+            }
+            for (i = n - 1; cyclic(mod(i + 1, n), j, lon[i]); i--) {
+                lon[i] = j;
+            }
+        }
+
+        private double penalty3(int i, int j) {
+            double x, y, xy, x2, y2, k;
+            if (j >= n) {
+                j -= n;
+                x = sx[j + 1] - sx[i] + sx[n];
+                y = sy[j + 1] - sy[i] + sy[n];
+                x2 = sx2[j + 1] - sx2[i] + sx2[n];
+                xy = sxy[j + 1] - sxy[i] + sxy[n];
+                y2 = sy2[j + 1] - sy2[i] + sy2[n];
+                k = j + 1 - i + n;
+            } else {
+                x = sx[j + 1] - sx[i];
+                y = sy[j + 1] - sy[i];
+                x2 = sx2[j + 1] - sx2[i];
+                xy = sxy[j + 1] - sxy[i];
+                y2 = sy2[j + 1] - sy2[i];
+                k = j + 1 - i;
+            }
+            double cx = (px[i] + px[j]) / 2.0 - px[0];
+            double cy = (py[i] + py[j]) / 2.0 - py[0];
+            double ey = px[j] - px[i];
+            double ex = -(py[j] - py[i]);
+            double a = (x2 - 2 * x * cx) / k + cx * cx;
+            double b = (xy - x * cy - y * cx) / k + cx * cy;
+            double c = (y2 - 2 * y * cy) / k + cy * cy;
+            double s = ex * ex * a + 2 * ex * ey * b + ey * ey * c;
+            return Math.sqrt(s);
+        }
+
+        void bestPolygon() {
+            double[] pen = new double[n + 1];
+            int[] prev = new int[n + 1];
+            int[] clip0 = new int[n];
+            int[] clip1 = new int[n + 1];
+            int[] seg0 = new int[n + 1];
+            int[] seg1 = new int[n + 1];
+            int i, j, k, c;
+
+            for (i = 0; i < n; i++) {
+                c = mod(lon[mod(i - 1, n)] - 1, n);
+                if (c == i) {
+                    c = mod(i + 1, n);
+                }
+                clip0[i] = c < i ? n : c;
+            }
+            j = 1;
+            for (i = 0; i < n; i++) {
+                while (j <= clip0[i]) {
+                    clip1[j] = i;
+                    j++;
+                }
+            }
+            i = 0;
+            for (j = 0; i < n; j++) {
+                seg0[j] = i;
+                i = clip0[i];
+            }
+            seg0[j] = n;
+            m = j;
+            i = n;
+            for (j = m; j > 0; j--) {
+                seg1[j] = i;
+                i = clip1[i];
+            }
+            seg1[0] = 0;
+
+            pen[0] = 0;
+            for (j = 1; j <= m; j++) {
+                for (i = seg1[j]; i <= seg0[j]; i++) {
+                    double best = -1;
+                    for (k = seg0[j - 1]; k >= clip1[i]; k--) {
+                        double thispen = penalty3(k, i) + pen[k];
+                        if (best < 0 || thispen < best) {
+                            prev[i] = k;
+                            best = thispen;
+                        }
+                    }
+                    pen[i] = best;
+                }
+            }
+            po = new int[m];
+            for (i = n, j = m - 1; i > 0; j--) {
+                i = prev[i];
+                po[j] = i;
+            }
+        }
+
+        /**
+         * 求过 i..j 各点的最小二乘直线，结果写入 out[0..3]（中心 x、y，方向 x、y）
+         */
+        private void pointslope(int i, int j, double[] out) {
+            int r = 0;
+            while (j >= n) {
+                j -= n;
+                r += 1;
+            }
+            while (i >= n) {
+                i -= n;
+                r -= 1;
+            }
+            while (j < 0) {
+                j += n;
+                r -= 1;
+            }
+            while (i < 0) {
+                i += n;
+                r += 1;
+            }
+            double x = sx[j + 1] - sx[i] + r * sx[n];
+            double y = sy[j + 1] - sy[i] + r * sy[n];
+            double x2 = sx2[j + 1] - sx2[i] + r * sx2[n];
+            double xy = sxy[j + 1] - sxy[i] + r * sxy[n];
+            double y2 = sy2[j + 1] - sy2[i] + r * sy2[n];
+            double k = j + 1 - i + r * n;
+            out[0] = x / k;
+            out[1] = y / k;
+            double a = (x2 - x * x / k) / k;
+            double b = (xy - x * y / k) / k;
+            double c = (y2 - y * y / k) / k;
+            double lambda2 = (a + c + Math.sqrt((a - c) * (a - c) + 4 * b * b)) / 2;
+            a -= lambda2;
+            c -= lambda2;
+            double l;
+            if (Math.abs(a) >= Math.abs(c)) {
+                l = Math.sqrt(a * a + b * b);
+                if (l != 0) {
+                    out[2] = -b / l;
+                    out[3] = a / l;
+                }
+            } else {
+                l = Math.sqrt(c * c + b * b);
+                if (l != 0) {
+                    out[2] = -c / l;
+                    out[3] = b / l;
+                }
+            }
+            if (l == 0) {
+                out[2] = out[3] = 0;
+            }
+        }
+
+        Curve adjustVertices() {
+            Curve curve = new Curve(m);
+            double[][] q = new double[m][9];
+            double[] line = new double[4];
+            double[] v = new double[3];
+
+            for (int i = 0; i < m; i++) {
+                int j = po[mod(i + 1, m)];
+                j = mod(j - po[i], n) + po[i];
+                pointslope(po[i], j, line);
+                double d = line[2] * line[2] + line[3] * line[3];
+                if (d != 0.0) {
+                    v[0] = line[3];
+                    v[1] = -line[2];
+                    v[2] = -v[1] * line[1] - v[0] * line[0];
+                    for (int l = 0; l < 3; l++) {
+                        for (int k = 0; k < 3; k++) {
+                            q[i][l * 3 + k] = v[l] * v[k] / d;
+                        }
+                    }
+                }
+            }
+
+            double[] qq = new double[9];
+            for (int i = 0; i < m; i++) {
+                double sxp = px[po[i]] - x0;
+                double syp = py[po[i]] - y0;
+                int j = mod(i - 1, m);
+                for (int l = 0; l < 9; l++) {
+                    qq[l] = q[j][l] + q[i][l];
+                }
+                double wx, wy;
+                while (true) {
+                    double det = qq[0] * qq[4] - qq[1] * qq[3];
+                    if (det != 0.0) {
+                        wx = (-qq[2] * qq[4] + qq[5] * qq[1]) / det;
+                        wy = (qq[2] * qq[3] - qq[5] * qq[0]) / det;
+                        break;
+                    }
+                    // 矩阵奇异（两条边平行），追加一个过原顶点的约束
+                    if (qq[0] > qq[4]) {
+                        v[0] = -qq[1];
+                        v[1] = qq[0];
+                    } else if (qq[4] != 0) {
+                        v[0] = -qq[4];
+                        v[1] = qq[3];
+                    } else {
+                        v[0] = 1;
+                        v[1] = 0;
+                    }
+                    double d = v[0] * v[0] + v[1] * v[1];
+                    v[2] = -v[1] * syp - v[0] * sxp;
+                    for (int l = 0; l < 3; l++) {
+                        for (int k = 0; k < 3; k++) {
+                            qq[l * 3 + k] += v[l] * v[k] / d;
+                        }
+                    }
+                }
+                if (Math.abs(wx - sxp) <= 0.5 && Math.abs(wy - syp) <= 0.5) {
+                    curve.vx[i] = wx + x0;
+                    curve.vy[i] = wy + y0;
+                    continue;
+                }
+                // 最优点不在原顶点所在的单位方格内，在方格边界和角点上求最小值
+                double min = quadform(qq, sxp, syp);
+                double xmin = sxp;
+                double ymin = syp;
+                if (qq[0] != 0.0) {
+                    for (int z = 0; z < 2; z++) {
+                        wy = syp - 0.5 + z;
+                        wx = -(qq[1] * wy + qq[2]) / qq[0];
+                        double cand = quadform(qq, wx, wy);
+                        if (Math.abs(wx - sxp) <= 0.5 && cand < min) {
+                            min = cand;
+                            xmin = wx;
+                            ymin = wy;
+                        }
+                    }
+                }
+                if (qq[4] != 0.0) {
+                    for (int z = 0; z < 2; z++) {
+                        wx = sxp - 0.5 + z;
+                        wy = -(qq[3] * wx + qq[5]) / qq[4];
+                        double cand = quadform(qq, wx, wy);
+                        if (Math.abs(wy - syp) <= 0.5 && cand < min) {
+                            min = cand;
+                            xmin = wx;
+                            ymin = wy;
+                        }
+                    }
+                }
+                for (int l = 0; l < 2; l++) {
+                    for (int k = 0; k < 2; k++) {
+                        wx = sxp - 0.5 + l;
+                        wy = syp - 0.5 + k;
+                        double cand = quadform(qq, wx, wy);
+                        if (cand < min) {
+                            min = cand;
+                            xmin = wx;
+                            ymin = wy;
+                        }
+                    }
+                }
+                curve.vx[i] = xmin + x0;
+                curve.vy[i] = ymin + y0;
+            }
+            return curve;
+        }
+    }
+
+    /**
+     * 按 alphaMax 将顶点处理为尖角或贝塞尔曲线
+     */
+    static void smooth(Curve curve, double alphaMax) {
+        int m = curve.n;
+        for (int i = 0; i < m; i++) {
+            int j = mod(i + 1, m);
+            int k = mod(i + 2, m);
+            double p4x = curve.vx[k] + 0.5 * (curve.vx[j] - curve.vx[k]);
+            double p4y = curve.vy[k] + 0.5 * (curve.vy[j] - curve.vy[k]);
+            double alpha;
+            double denom = ddenom(curve.vx[i], curve.vy[i], curve.vx[k], curve.vy[k]);
+            if (denom != 0.0) {
+                double dd = Math.abs(dpara(curve.vx[i], curve.vy[i], curve.vx[j], curve.vy[j], curve.vx[k], curve.vy[k]) / denom);
+                alpha = dd > 1 ? (1 - 1.0 / dd) : 0;
+                alpha = alpha / 0.75;
+            } else {
+                alpha = 4 / 3.0;
+            }
+            curve.alpha0[j] = alpha;
+            int j3 = 3 * j;
+            if (alpha >= alphaMax) {
+                curve.corner[j] = true;
+                curve.cx[j3 + 1] = curve.vx[j];
+                curve.cy[j3 + 1] = curve.vy[j];
+                curve.cx[j3 + 2] = p4x;
+                curve.cy[j3 + 2] = p4y;
+            } else {
+                if (alpha < 0.55) {
+                    alpha = 0.55;
+                } else if (alpha > 1) {
+                    alpha = 1;
+                }
+                double t = 0.5 + 0.5 * alpha;
+                curve.corner[j] = false;
+                curve.cx[j3] = curve.vx[i] + t * (curve.vx[j] - curve.vx[i]);
+                curve.cy[j3] = curve.vy[i] + t * (curve.vy[j] - curve.vy[i]);
+                curve.cx[j3 + 1] = curve.vx[k] + t * (curve.vx[j] - curve.vx[k]);
+                curve.cy[j3 + 1] = curve.vy[k] + t * (curve.vy[j] - curve.vy[k]);
+                curve.cx[j3 + 2] = p4x;
+                curve.cy[j3 + 2] = p4y;
+            }
+            curve.alpha[j] = alpha;
+            curve.beta[j] = 0.5;
+        }
+    }
+
+    /**
+     * 合并曲线段的候选结果
+     */
+    private static final class Opti {
+        double pen;
+        double c0x, c0y, c1x, c1y;
+        double t, s;
+        double alpha;
+    }
+
+    /**
+     * 在误差允许范围内把相邻的多段贝塞尔曲线合并为一段（potrace 的 opticurve）
+     */
+    static Curve optiCurve(Curve curve, double optTolerance) {
+        int m = curve.n;
+        int[] pt = new int[m + 1];
+        double[] pen = new double[m + 1];
+        int[] len = new int[m + 1];
+        Opti[] opt = new Opti[m + 1];
+        int[] convc = new int[m];
+        double[] areac = new double[m + 1];
+        Opti o = new Opti();
+
+        for (int i = 0; i < m; i++) {
+            if (!curve.corner[i]) {
+                int a = mod(i - 1, m), b = mod(i + 1, m);
+                convc[i] = sign(dpara(curve.vx[a], curve.vy[a], curve.vx[i], curve.vy[i], curve.vx[b], curve.vy[b]));
+            } else {
+                convc[i] = 0;
+            }
+        }
+
+        double area = 0.0;
+        areac[0] = 0.0;
+        double p0x = curve.vx[0], p0y = curve.vy[0];
+        for (int i = 0; i < m; i++) {
+            int i1 = mod(i + 1, m);
+            if (!curve.corner[i1]) {
+                double alpha = curve.alpha[i1];
+                area += 0.3 * alpha * (4 - alpha) * dpara(curve.cx[i * 3 + 2], curve.cy[i * 3 + 2],
+                        curve.vx[i1], curve.vy[i1], curve.cx[i1 * 3 + 2], curve.cy[i1 * 3 + 2]) / 2;
+                area += dpara(p0x, p0y, curve.cx[i * 3 + 2], curve.cy[i * 3 + 2],
+                        curve.cx[i1 * 3 + 2], curve.cy[i1 * 3 + 2]) / 2;
+            }
+            areac[i + 1] = area;
+        }
+
+        pt[0] = -1;
+        pen[0] = 0;
+        len[0] = 0;
+        for (int j = 1; j <= m; j++) {
+            pt[j] = j - 1;
+            pen[j] = pen[j - 1];
+            len[j] = len[j - 1] + 1;
+            for (int i = j - 2; i >= 0; i--) {
+                if (optiPenalty(curve, i, mod(j, m), o, optTolerance, convc, areac)) {
+                    break;
+                }
+                if (len[j] > len[i] + 1 || (len[j] == len[i] + 1 && pen[j] > pen[i] + o.pen)) {
+                    pt[j] = i;
+                    pen[j] = pen[i] + o.pen;
+                    len[j] = len[i] + 1;
+                    opt[j] = o;
+                    o = new Opti();
+                }
+            }
+        }
+
+        int om = len[m];
+        Curve ocurve = new Curve(om);
+        double[] s = new double[om];
+        double[] t = new double[om];
+        int j = m;
+        for (int i = om - 1; i >= 0; i--) {
+            int jm = mod(j, m);
+            if (pt[j] == j - 1) {
+                ocurve.corner[i] = curve.corner[jm];
+                for (int c = 0; c < 3; c++) {
+                    ocurve.cx[i * 3 + c] = curve.cx[jm * 3 + c];
+                    ocurve.cy[i * 3 + c] = curve.cy[jm * 3 + c];
+                }
+                ocurve.vx[i] = curve.vx[jm];
+                ocurve.vy[i] = curve.vy[jm];
+                ocurve.alpha[i] = curve.alpha[jm];
+                ocurve.alpha0[i] = curve.alpha0[jm];
+                ocurve.beta[i] = curve.beta[jm];
+                s[i] = t[i] = 1.0;
+            } else {
+                Opti r = opt[j];
+                ocurve.corner[i] = false;
+                ocurve.cx[i * 3] = r.c0x;
+                ocurve.cy[i * 3] = r.c0y;
+                ocurve.cx[i * 3 + 1] = r.c1x;
+                ocurve.cy[i * 3 + 1] = r.c1y;
+                ocurve.cx[i * 3 + 2] = curve.cx[jm * 3 + 2];
+                ocurve.cy[i * 3 + 2] = curve.cy[jm * 3 + 2];
+                ocurve.vx[i] = curve.cx[jm * 3 + 2] + r.s * (curve.vx[jm] - curve.cx[jm * 3 + 2]);
+                ocurve.vy[i] = curve.cy[jm * 3 + 2] + r.s * (curve.vy[jm] - curve.cy[jm * 3 + 2]);
+                ocurve.alpha[i] = r.alpha;
+                ocurve.alpha0[i] = r.alpha;
+                s[i] = r.s;
+                t[i] = r.t;
+            }
+            j = pt[j];
+        }
+        for (int i = 0; i < om; i++) {
+            int i1 = mod(i + 1, om);
+            ocurve.beta[i] = s[i] / (s[i] + t[i1]);
+        }
+        return ocurve;
+    }
+
+    /**
+     * 计算把 i..j 段合并为一段贝塞尔曲线的代价，不可合并时返回 true
+     */
+    private static boolean optiPenalty(Curve curve, int i, int j, Opti res, double optTolerance, int[] convc, double[] areac) {
+        int m = curve.n;
+        double[] vx = curve.vx, vy = curve.vy, cx = curve.cx, cy = curve.cy;
+        if (i == j) {
+            return true;
+        }
+        int k = i;
+        int i1 = mod(i + 1, m);
+        int k1 = mod(k + 1, m);
+        int conv = convc[k1];
+        if (conv == 0) {
+            return true;
+        }
+        double d = ddist(vx[i], vy[i], vx[i1], vy[i1]);
+        for (k = k1; k != j; k = k1) {
+            k1 = mod(k + 1, m);
+            int k2 = mod(k + 2, m);
+            if (convc[k1] != conv) {
+                return true;
+            }
+            if (sign(cprod(vx[i], vy[i], vx[i1], vy[i1], vx[k1], vy[k1], vx[k2], vy[k2])) != conv) {
+                return true;
+            }
+            if (iprod1(vx[i], vy[i], vx[i1], vy[i1], vx[k1], vy[k1], vx[k2], vy[k2])
+                    < d * ddist(vx[k1], vy[k1], vx[k2], vy[k2]) * -0.999847695156) {
+                return true;
+            }
+        }
+
+        double p0x = cx[mod(i, m) * 3 + 2], p0y = cy[mod(i, m) * 3 + 2];
+        double p1x = vx[mod(i + 1, m)], p1y = vy[mod(i + 1, m)];
+        double p2x = vx[mod(j, m)], p2y = vy[mod(j, m)];
+        double p3x = cx[mod(j, m) * 3 + 2], p3y = cy[mod(j, m) * 3 + 2];
+
+        double area = areac[j] - areac[i];
+        area -= dpara(vx[0], vy[0], cx[i * 3 + 2], cy[i * 3 + 2], cx[j * 3 + 2], cy[j * 3 + 2]) / 2;
+        if (i >= j) {
+            area += areac[m];
+        }
+
+        double a1 = dpara(p0x, p0y, p1x, p1y, p2x, p2y);
+        double a2 = dpara(p0x, p0y, p1x, p1y, p3x, p3y);
+        double a3 = dpara(p0x, p0y, p2x, p2y, p3x, p3y);
+        double a4 = a1 + a3 - a2;
+        if (a2 == a1) {
+            return true;
+        }
+        double t = a3 / (a3 - a4);
+        double s = a2 / (a2 - a1);
+        double a = a2 * t / 2.0;
+        if (a == 0.0) {
+            return true;
+        }
+        double r = area / a;
+        double alpha = 2 - Math.sqrt(4 - r / 0.3);
+
+        res.c0x = p0x + t * alpha * (p1x - p0x);
+        res.c0y = p0y + t * alpha * (p1y - p0y);
+        res.c1x = p3x + s * alpha * (p2x - p3x);
+        res.c1y = p3y + s * alpha * (p2y - p3y);
+        res.alpha = alpha;
+        res.t = t;
+        res.s = s;
+        p1x = res.c0x;
+        p1y = res.c0y;
+        p2x = res.c1x;
+        p2y = res.c1y;
+        res.pen = 0;
+
+        double[] pt = new double[2];
+        for (k = mod(i + 1, m); k != j; k = k1) {
+            k1 = mod(k + 1, m);
+            double tt = tangent(p0x, p0y, p1x, p1y, p2x, p2y, p3x, p3y, vx[k], vy[k], vx[k1], vy[k1]);
+            if (tt < -0.5) {
+                return true;
+            }
+            bezier(tt, p0x, p0y, p1x, p1y, p2x, p2y, p3x, p3y, pt);
+            double dk = ddist(vx[k], vy[k], vx[k1], vy[k1]);
+            if (dk == 0.0) {
+                return true;
+            }
+            double d1 = dpara(vx[k], vy[k], vx[k1], vy[k1], pt[0], pt[1]) / dk;
+            if (Math.abs(d1) > optTolerance) {
+                return true;
+            }
+            if (iprod(vx[k], vy[k], vx[k1], vy[k1], pt[0], pt[1]) < 0
+                    || iprod(vx[k1], vy[k1], vx[k], vy[k], pt[0], pt[1]) < 0) {
+                return true;
+            }
+            res.pen += d1 * d1;
+        }
+
+        for (k = i; k != j; k = k1) {
+            k1 = mod(k + 1, m);
+            double ax = cx[k * 3 + 2], ay = cy[k * 3 + 2];
+            double bx = cx[k1 * 3 + 2], by = cy[k1 * 3 + 2];
+            double tt = tangent(p0x, p0y, p1x, p1y, p2x, p2y, p3x, p3y, ax, ay, bx, by);
+            if (tt < -0.5) {
+                return true;
+            }
+            bezier(tt, p0x, p0y, p1x, p1y, p2x, p2y, p3x, p3y, pt);
+            double dk = ddist(ax, ay, bx, by);
+            if (dk == 0.0) {
+                return true;
+            }
+            double d1 = dpara(ax, ay, bx, by, pt[0], pt[1]) / dk;
+            double d2 = dpara(ax, ay, bx, by, vx[k1], vy[k1]) / dk;
+            d2 *= 0.75 * curve.alpha[k1];
+            if (d2 < 0) {
+                d1 = -d1;
+                d2 = -d2;
+            }
+            if (d1 < d2 - optTolerance) {
+                return true;
+            }
+            if (d1 < d2) {
+                res.pen += (d1 - d2) * (d1 - d2);
+            }
+        }
+        return false;
+    }
+
+    // ---- 几何工具（与 potrace 的同名函数一致）----
+
+    static int mod(int a, int n) {
+        return a >= n ? a % n : a >= 0 ? a : n - 1 - (-1 - a) % n;
+    }
+
+    private static int sign(double x) {
+        return x > 0 ? 1 : x < 0 ? -1 : 0;
+    }
+
+    private static long xprod(long p1x, long p1y, long p2x, long p2y) {
+        return p1x * p2y - p1y * p2x;
+    }
+
+    private static boolean cyclic(int a, int b, int c) {
+        if (a <= c) {
+            return a <= b && b < c;
+        }
+        return a <= b || b < c;
+    }
+
+    private static double quadform(double[] q, double x, double y) {
+        double[] v = {x, y, 1};
+        double sum = 0.0;
+        for (int i = 0; i < 3; i++) {
+            for (int j = 0; j < 3; j++) {
+                sum += v[i] * q[i * 3 + j] * v[j];
+            }
+        }
+        return sum;
+    }
+
+    private static double dpara(double p0x, double p0y, double p1x, double p1y, double p2x, double p2y) {
+        return (p1x - p0x) * (p2y - p0y) - (p2x - p0x) * (p1y - p0y);
+    }
+
+    private static double ddenom(double p0x, double p0y, double p2x, double p2y) {
+        double rx = -sign(p2y - p0y);
+        double ry = sign(p2x - p0x);
+        return ry * (p2x - p0x) - rx * (p2y - p0y);
+    }
+
+    private static double ddist(double px, double py, double qx, double qy) {
+        return Math.sqrt((px - qx) * (px - qx) + (py - qy) * (py - qy));
+    }
+
+    private static double cprod(double p0x, double p0y, double p1x, double p1y,
+                                double p2x, double p2y, double p3x, double p3y) {
+        return (p1x - p0x) * (p3y - p2y) - (p3x - p2x) * (p1y - p0y);
+    }
+
+    private static double iprod(double p0x, double p0y, double p1x, double p1y, double p2x, double p2y) {
+        return (p1x - p0x) * (p2x - p0x) + (p1y - p0y) * (p2y - p0y);
+    }
+
+    private static double iprod1(double p0x, double p0y, double p1x, double p1y,
+                                 double p2x, double p2y, double p3x, double p3y) {
+        return (p1x - p0x) * (p3x - p2x) + (p1y - p0y) * (p3y - p2y);
+    }
+
+    private static void bezier(double t, double p0x, double p0y, double p1x, double p1y,
+                               double p2x, double p2y, double p3x, double p3y, double[] out) {
+        double s = 1 - t;
+        out[0] = s * s * s * p0x + 3 * (s * s * t) * p1x + 3 * (t * t * s) * p2x + t * t * t * p3x;
+        out[1] = s * s * s * p0y + 3 * (s * s * t) * p1y + 3 * (t * t * s) * p2y + t * t * t * p3y;
+    }
+
+    /**
+     * 贝塞尔曲线与直线 q0-q1 平行的参数 t，不存在时返回 -1
+     */
+    private static double tangent(double p0x, double p0y, double p1x, double p1y, double p2x, double p2y,
+                                  double p3x, double p3y, double q0x, double q0y, double q1x, double q1y) {
+        double a0 = cprod(p0x, p0y, p1x, p1y, q0x, q0y, q1x, q1y);
+        double b0 = cprod(p1x, p1y, p2x, p2y, q0x, q0y, q1x, q1y);
+        double c0 = cprod(p2x, p2y, p3x, p3y, q0x, q0y, q1x, q1y);
+        double a = a0 - 2 * b0 + c0;
+        double b = -2 * a0 + 2 * b0;
+        double c = a0;
+        double d = b * b - 4 * a * c;
+        if (a == 0 || d < 0) {
+            return -1.0;
+        }
+        double s = Math.sqrt(d);
+        double r1 = (-b + s) / (2 * a);
+        double r2 = (-b - s) / (2 * a);
+        if (r1 >= 0 && r1 <= 1) {
+            return r1;
+        } else if (r2 >= 0 && r2 <= 1) {
+            return r2;
+        }
+        return -1.0;
+    }
+
+    /**
+     * 与 JS 的 number.toFixed(3).replace('.000', '') 相同的格式化
+     */
+    static StringBuilder fixed(StringBuilder sb, double v) {
+        double abs = Math.abs(v);
+        double scaled = abs * 1000;
+        long units;
+        double frac = scaled - Math.floor(scaled);
+        if (scaled < 1e15 && Math.abs(frac - 0.5) > 1e-6) {
+            units = (long) Math.floor(scaled) + (frac > 0.5 ? 1 : 0);
+        } else {
+            // 接近进位边界时按精确的十进制值舍入（JS toFixed 的规则）
+            units = new BigDecimal(abs).setScale(3, RoundingMode.HALF_UP).movePointRight(3).longValueExact();
+        }
+        if (v < 0) {
+            sb.append('-');
+        }
+        sb.append(units / 1000);
+        long decimals = units % 1000;
+        if (decimals != 0) {
+            sb.append('.');
+            if (decimals < 100) {
+                sb.append('0');
+            }
+            if (decimals < 10) {
+                sb.append('0');
+            }
+            sb.append(decimals);
+        }
+        return sb;
+    }
+}
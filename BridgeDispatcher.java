@@ -0,0 +1,303 @@
+package com.example.opencv.webwhiteboard;
+
+import org.json.JSONArray;
+import org.json.JSONException;
+import org.json.JSONObject;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * JS 桥调用调度器
+ * <p>
+ * 耗时的桥方法交给有界的后台 I/O 线程池执行，调用时立即返回请求ID，
+ * 完成后通过 window.__androidBridge.resolve(id, result) / reject(id, message) 通知页面，
+ * 既不阻塞 JavaBridge 线程（即 JS），也不占用 UI 线程。
+ * 导出、矢量化等可能持续数秒到数分钟的任务通过 {@link #submitLong} 交给独立的线程池与在途上限，
+ * 不会占满短调用（保存、缓存、预览查询等）的线程与许可。
+ * 同时记录每个方法的调用次数、排队与执行耗时分布及参数/结果的字符数，供页面查询；
+ * 较慢（不少于 {@link #TRACE_THRESHOLD_MS} 毫秒）或失败的调用写入 {@link NativeMetrics} 的滚动日志。
+ */
+public class BridgeDispatcher {
+
+    /**
+     * 后台任务，返回值会转换为 JSON 传给页面（String / Number / Boolean / JSONObject / JSONArray / null）
+     */
+    public interface Task {
+        Object run() throws Exception;
+    }
+
+    /**
+     * 在页面中执行脚本（由 Activity 转到 UI 线程调用 evaluateJavascript）
+     */
+    public interface ScriptRunner {
+        void run(String script);
+    }
+
+    private static final int IO_THREADS = 2;
+    // 同时在途（排队 + 执行中）的请求数，超过后调用方阻塞，JS 端大量提交时自然被限速
+    private static final int MAX_IN_FLIGHT = 16;
+    // 长任务的线程数与在途上限
+    private static final int LONG_THREADS = 2;
+    private static final int MAX_LONG_IN_FLIGHT = 8;
+    // 阻塞等待的上限，超时则拒绝本次调用
+    private static final long ACQUIRE_TIMEOUT_MS = 5000;
+    // 写入滚动日志的最小执行耗时
+    static final long TRACE_THRESHOLD_MS = 10;
+
+    private final ScriptRunner scriptRunner;
+    private final AtomicLong nextId = new AtomicLong(1);
+    private final Map<String, MethodStats> stats = new TreeMap<>();
+    private final Lane io = new Lane("bridge-io-", IO_THREADS, MAX_IN_FLIGHT);
+    private final Lane longJobs = new Lane("bridge-long-", LONG_THREADS, MAX_LONG_IN_FLIGHT);
+
+    /**
+     * 线程池与其在途许可
+     */
+    private static final class Lane {
+        final ExecutorService executor;
+        final Semaphore permits;
+        final int maxInFlight;
+
+        Lane(String threadPrefix, int threads, int maxInFlight) {
+            this.maxInFlight = maxInFlight;
+            permits = new Semaphore(maxInFlight);
+            AtomicInteger threadId = new AtomicInteger(1);
+            executor = new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+                    new LinkedBlockingQueue<>(), r -> {
+                Thread t = new Thread(r, threadPrefix + threadId.getAndIncrement());
+                t.setPriority(Thread.NORM_PRIORITY - 1);
+                return t;
+            });
+        }
+
+        int inFlight() {
+            return maxInFlight - permits.availablePermits();
+        }
+    }
+
+    public BridgeDispatcher(ScriptRunner scriptRunner) {
+        this.scriptRunner = scriptRunner;
+    }
+
+    /**
+     * 异步执行，结果通过 resolve/reject 回调页面
+     *
+     * @return 请求ID，调度器繁忙或已关闭时返回空字符串
+     */
+    public String submit(String method, Task task) {
+        String id = "req-" + nextId.getAndIncrement();
+        return enqueue(io, method, id, task) ? id : "";
+    }
+
+    /**
+     * 与 {@link #submit} 相同，但在长任务线程池中执行（导出、压缩、矢量化等）
+     */
+    public String submitLong(String method, Task task) {
+        String id = "req-" + nextId.getAndIncrement();
+        return enqueue(longJobs, method, id, task) ? id : "";
+    }
+
+    /**
+     * 异步执行，不回调页面（用于无返回值的桥方法）
+     *
+     * @return 是否已受理
+     */
+    public boolean execute(String method, Task task) {
+        return enqueue(io, method, null, task);
+    }
+
+    /**
+     * 与 {@link #execute} 相同，但在长任务线程池中执行
+     */
+    public boolean executeLong(String method, Task task) {
+        return enqueue(longJobs, method, null, task);
+    }
+
+    /**
+     * 在当前线程同步执行并记录耗时（用于必须同步返回的轻量方法）
+     */
+    public <T> T timed(String method, Callable<T> call) throws Exception {
+        long start = System.nanoTime();
+        MethodStats methodStats = statsFor(method);
+        boolean ok = false;
+        try {
+            T result = call.call();
+            ok = true;
+            if (result instanceof String) {
+                methodStats.addBytesOut(((String) result).length());
+            }
+            return result;
+        } finally {
+            methodStats.record(method, 0, System.nanoTime() - start, ok);
+        }
+    }
+
+    /**
+     * 记录桥方法收到的参数字符数（base64、G 代码文本等大参数）
+     */
+    public void payloadIn(String method, long chars) {
+        statsFor(method).addBytesIn(chars);
+    }
+
+    private boolean enqueue(Lane lane, String method, String id, Task task) {
+        Semaphore permits = lane.permits;
+        MethodStats methodStats = statsFor(method);
+        try {
+            if (!permits.tryAcquire(ACQUIRE_TIMEOUT_MS, TimeUnit.MILLISECONDS)) {
+                methodStats.reject();
+                return false;
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            methodStats.reject();
+            return false;
+        }
+        long queuedAt = System.nanoTime();
+        try {
+            lane.executor.execute(() -> {
+                long start = System.nanoTime();
+                Object result = null;
+                Exception error = null;
+                try {
+                    result = task.run();
+                } catch (Exception e) {
+                    e.printStackTrace();
+                    error = e;
+                } finally {
+                    permits.release();
+                }
+                methodStats.record(method, start - queuedAt, System.nanoTime() - start, error == null);
+                if (id != null) {
+                    deliver(methodStats, id, result, error);
+                }
+            });
+            return true;
+        } catch (RejectedExecutionException e) {
+            permits.release();
+            methodStats.reject();
+            return false;
+        }
+    }
+
+    /**
+     * 向页面推送进度（window.__androidBridge.progress(channel, payload)），channel 由页面在请求参数中指定
+     */
+    public void progress(String channel, JSONObject payload) {
+        scriptRunner.run("window.__androidBridge && window.__androidBridge.progress && window.__androidBridge.progress("
+                + JSONObject.quote(channel) + "," + payload + ")");
+    }
+
+    private void deliver(MethodStats methodStats, String id, Object result, Exception error) {
+        String script;
+        if (error == null) {
+            String literal = toJsonLiteral(result);
+            methodStats.addBytesOut(literal.length());
+            script = "window.__androidBridge && window.__androidBridge.resolve("
+                    + JSONObject.quote(id) + "," + literal + ")";
+        } else {
+            String message = error.getMessage() != null ? error.getMessage() : error.toString();
+            script = "window.__androidBridge && window.__androidBridge.reject("
+                    + JSONObject.quote(id) + "," + JSONObject.quote(message) + ")";
+        }
+        scriptRunner.run(script);
+    }
+
+    private static String toJsonLiteral(Object value) {
+        if (value == null) {
+            return "null";
+        }
+        if (value instanceof JSONObject || value instanceof JSONArray
+                || value instanceof Number || value instanceof Boolean) {
+            return value.toString();
+        }
+        return JSONObject.quote(value.toString());
+    }
+
+    private MethodStats statsFor(String method) {
+        synchronized (stats) {
+            MethodStats s = stats.get(method);
+            if (s == null) {
+                s = new MethodStats();
+                stats.put(method, s);
+            }
+            return s;
+        }
+    }
+
+    /**
+     * 各方法的调用统计（耗时单位为毫秒）
+     */
+    public JSONObject metrics() throws JSONException {
+        JSONObject methods = new JSONObject();
+        synchronized (stats) {
+            for (Map.Entry<String, MethodStats> e : stats.entrySet()) {
+                methods.put(e.getKey(), e.getValue().toJson());
+            }
+        }
+        JSONObject json = new JSONObject();
+        json.put("inFlight", io.inFlight());
+        json.put("maxInFlight", MAX_IN_FLIGHT);
+        json.put("longInFlight", longJobs.inFlight());
+        json.put("maxLongInFlight", MAX_LONG_IN_FLIGHT);
+        json.put("methods", methods);
+        return json;
+    }
+
+    public void shutdown() {
+        io.executor.shutdown();
+        longJobs.executor.shutdown();
+    }
+
+    private static class MethodStats {
+        final NativeMetrics.Timer run = new NativeMetrics.Timer();
+        final NativeMetrics.Timer queue = new NativeMetrics.Timer();
+        final AtomicLong rejected = new AtomicLong();
+        final AtomicLong bytesIn = new AtomicLong();
+        final AtomicLong bytesOut = new AtomicLong();
+
+        void record(String method, long queueNanos, long runNanos, boolean ok) {
+            queue.record(queueNanos, true);
+            run.record(runNanos, ok);
+            if (!ok || runNanos >= TRACE_THRESHOLD_MS * 1000000) {
+                NativeMetrics.trace(ok ? "bridge" : "bridge!", method, runNanos,
+                        queueNanos > 0 ? "queue " + NativeMetrics.toMillis(queueNanos) + "ms" : null);
+            }
+        }
+
+        void reject() {
+            rejected.incrementAndGet();
+            NativeMetrics.count("bridge.rejected", 1);
+        }
+
+        void addBytesIn(long n) {
+            bytesIn.addAndGet(n);
+        }
+
+        void addBytesOut(long n) {
+            bytesOut.addAndGet(n);
+        }
+
+        JSONObject toJson() throws JSONException {
+            JSONObject json = new JSONObject();
+            json.put("calls", run.count());
+            json.put("errors", run.errors());
+            json.put("rejected", rejected.get());
+            run.writeTo(json);
+            json.put("avgQueueMs", queue.avgMillis());
+            json.put("p99QueueMs", queue.percentileMillis(0.99));
+            json.put("bytesIn", bytesIn.get());
+            json.put("bytesOut", bytesOut.get());
+            return json;
+        }
+    }
+}
@@ -1,10 +1,15 @@
 import React, { useRef, useState, useEffect } from 'react';
 import { useNavigate, useLocation } from 'react-router-dom';
+import { renderRegion } from './lib/tiledImage';
+import type { TiledImageInfo } from './lib/tiledImage';
+
+// 分块大图裁剪结果的最大边长（结果经 localStorage 传回首页，不能过大）
+const MAX_TILED_CROP_EDGE = 4096;
 
 const CropPage: React.FC = () => {
   const navigate = useNavigate();
   const location = useLocation();
-  const { image, original } = (location.state || {}) as { image: string, original: string };
+  const { image, original, tiled } = (location.state || {}) as { image: string, original: string, tiled?: TiledImageInfo };
   const canvasRef = useRef<HTMLCanvasElement>(null);
   const imageRef = useRef<HTMLImageElement>(null);
   const [isReady, setIsReady] = useState(false);
@@ -367,7 +372,7 @@ const CropPage: React.FC = () => {
     setResizeCorner('');
   };
 
-  const handleOk = () => {
+  const handleOk = async () => {
     try {
       const canvas = canvasRef.current;
       const img = imageRef.current;
@@ -393,19 +398,36 @@ const CropPage: React.FC = () => {
       const cropWidth = cropBox.width * scaleX;
       const cropHeight = cropBox.height * scaleY;
 
-      // 设置临时canvas尺寸
-      tempCanvas.width = cropWidth;
-      tempCanvas.height = cropHeight;
-
-      // 绘制裁剪区域
-      tempCtx.drawImage(
-        img,
-        cropX, cropY, cropWidth, cropHeight,
-        0, 0, cropWidth, cropHeight
-      );
+      let output = tempCanvas;
+      if (tiled) {
+        // 分块大图：预览坐标换算到原图，只读取裁剪区域内的分块，级别取结果不超过上限的最细一级
+        const toSource = tiled.width / img.naturalWidth;
+        const region = {
+          x: Math.round(cropX * toSource),
+          y: Math.round(cropY * toSource),
+          width: Math.round(cropWidth * toSource),
+          height: Math.round(cropHeight * toSource),
+        };
+        let level = 0;
+        while (level < tiled.levels - 1 && Math.max(region.width, region.height) / 2 ** level > MAX_TILED_CROP_EDGE) {
+          level++;
+        }
+        output = await renderRegion(tiled, level, region);
+      } else {
+        // 设置临时canvas尺寸
+        tempCanvas.width = cropWidth;
+        tempCanvas.height = cropHeight;
+
+        // 绘制裁剪区域
+        tempCtx.drawImage(
+          img,
+          cropX, cropY, cropWidth, cropHeight,
+          0, 0, cropWidth, cropHeight
+        );
+      }
 
       // 转换为base64
-      const croppedImg = tempCanvas.toDataURL('image/jpeg', 0.9);
+      const croppedImg = output.toDataURL('image/jpeg', 0.9);
       console.log('[裁剪结果] base64前100:', croppedImg.slice(0, 100), '长度:', croppedImg.length);
       // 返回上一页并传递裁剪后图片
       localStorage.setItem('croppedImage', croppedImg); // 兜底方案
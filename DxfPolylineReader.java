@@ -0,0 +1,573 @@
+package com.example.opencv.webwhiteboard;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * DXF 流式解析，将 ENTITIES 段中的 LINE / LWPOLYLINE / POLYLINE / ARC / CIRCLE / ELLIPSE / SPLINE
+ * 转为折线。圆弧、椭圆与样条按弦高误差离散，不在内存中保留原始文本。
+ * <p>
+ * BLOCKS 段中的块定义解析为块坐标系下的折线，INSERT 按插入点、比例、旋转与行列阵列展开（支持嵌套块），
+ * 与页面端 dxf 库的处理一致；其余实体（文字、填充、标注等）与页面端一样忽略。
+ */
+public class DxfPolylineReader {
+
+    private static final int MAX_ARC_SEGMENTS = 1024;
+    // 块嵌套层数上限，防止循环引用
+    private static final int MAX_BLOCK_DEPTH = 16;
+
+    /**
+     * 块定义：基点与块坐标系下的折线，嵌套的 INSERT 在使用时展开
+     */
+    private static final class Block {
+        final double baseX, baseY;
+        final List<Polyline> polylines = new ArrayList<>();
+        final List<Insert> inserts = new ArrayList<>();
+
+        Block(double baseX, double baseY) {
+            this.baseX = baseX;
+            this.baseY = baseY;
+        }
+    }
+
+    /**
+     * 块引用
+     */
+    private static final class Insert {
+        String name;
+        double x, y, rotation, columnSpacing, rowSpacing, extrusionZ = 1;
+        double scaleX = 1, scaleY = 1;
+        int columns = 1, rows = 1;
+    }
+
+    private final double chordTolerance;
+    private final List<Polyline> result = new ArrayList<>();
+    private final Map<String, Block> blocks = new HashMap<>();
+    // 实体输出位置：ENTITIES 段为 result，BLOCKS 段为当前块
+    private Block currentBlock;
+
+    // 当前实体的属性
+    private String entity;
+    private final List<double[]> vertices = new ArrayList<>(); // x, y, bulge
+    private final List<Double> knots = new ArrayList<>();
+    private final List<Double> weights = new ArrayList<>();
+    private final List<double[]> fitPoints = new ArrayList<>();
+    private double x1, y1, x2, y2, radius, angle1, angle2, bulge, extrusionZ;
+    private double param1, param2;
+    private int flags, degree;
+    private String name;
+    private Insert insert;
+    // 旧式 POLYLINE 的顶点跟随在后续 VERTEX 实体中，直到 SEQEND
+    private boolean inPolyline;
+    private boolean polylineClosed;
+    private double polylineExtrusionZ;
+    private final List<double[]> polylineVertices = new ArrayList<>();
+
+    /**
+     * @param chordTolerance 圆弧/样条离散时允许的最大弦高误差（图纸单位）
+     */
+    public DxfPolylineReader(double chordTolerance) {
+        this.chordTolerance = chordTolerance > 0 ? chordTolerance : 0.01;
+    }
+
+    public List<Polyline> read(Reader source) throws IOException {
+        BufferedReader in = source instanceof BufferedReader
+                ? (BufferedReader) source : new BufferedReader(source, 64 * 1024);
+        // 当前段为 ENTITIES 或 BLOCKS 时解析实体
+        boolean inEntities = false;
+        String codeLine;
+        while ((codeLine = in.readLine()) != null) {
+            String value = in.readLine();
+            if (value == null) {
+                break;
+            }
+            int code;
+            try {
+                code = Integer.parseInt(codeLine.trim());
+            } catch (NumberFormatException e) {
+                continue;
+            }
+            value = value.trim();
+            if (code == 0) {
+                if (inEntities) {
+                    finishEntity();
+                }
+                if ("SECTION".equals(value)) {
+                    String nameCode = in.readLine();
+                    String name = in.readLine();
+                    inEntities = nameCode != null && name != null
+                            && ("ENTITIES".equals(name.trim()) || "BLOCKS".equals(name.trim()));
+                    continue;
+                }
+                if ("ENDSEC".equals(value) || "EOF".equals(value)) {
+                    inEntities = false;
+                    entity = null;
+                    currentBlock = null;
+                    continue;
+                }
+                if (inEntities) {
+                    startEntity(value);
+                }
+            } else if (inEntities && entity != null) {
+                groupCode(code, value);
+            }
+        }
+        finishEntity();
+        return result;
+    }
+
+    private void startEntity(String type) {
+        entity = type;
+        vertices.clear();
+        knots.clear();
+        weights.clear();
+        fitPoints.clear();
+        x1 = y1 = x2 = y2 = radius = angle1 = angle2 = bulge = 0;
+        param1 = 0;
+        param2 = Math.PI * 2;
+        extrusionZ = 1;
+        flags = 0;
+        degree = 3;
+        name = null;
+        insert = "INSERT".equals(type) ? new Insert() : null;
+    }
+
+    private void groupCode(int code, String value) {
+        if (code == 2) {
+            name = value;
+            return;
+        }
+        double v;
+        try {
+            v = Double.parseDouble(value);
+        } catch (NumberFormatException e) {
+            return;
+        }
+        if (insert != null) {
+            insertCode(code, v);
+            return;
+        }
+        switch (code) {
+            case 10:
+                if (isVertexList()) {
+                    vertices.add(new double[]{v, 0, 0});
+                } else {
+                    x1 = v;
+                }
+                break;
+            case 20:
+                if (isVertexList() && !vertices.isEmpty()) {
+                    vertices.get(vertices.size() - 1)[1] = v;
+                } else {
+                    y1 = v;
+                }
+                break;
+            case 11:
+                if ("SPLINE".equals(entity)) {
+                    fitPoints.add(new double[]{v, 0});
+                } else {
+                    x2 = v;
+                }
+                break;
+            case 21:
+                if ("SPLINE".equals(entity) && !fitPoints.isEmpty()) {
+                    fitPoints.get(fitPoints.size() - 1)[1] = v;
+                } else {
+                    y2 = v;
+                }
+                break;
+            case 40:
+                if ("SPLINE".equals(entity)) {
+                    knots.add(v);
+                } else {
+                    radius = v;
+                }
+                break;
+            case 41:
+                if ("SPLINE".equals(entity)) {
+                    weights.add(v);
+                } else {
+                    param1 = v;
+                }
+                break;
+            case 42:
+                if ("ELLIPSE".equals(entity)) {
+                    param2 = v;
+                } else if (!vertices.isEmpty()) {
+                    vertices.get(vertices.size() - 1)[2] = v;
+                } else {
+                    bulge = v;
+                }
+                break;
+            case 50:
+                angle1 = v;
+                break;
+            case 51:
+                angle2 = v;
+                break;
+            case 70:
+                flags = (int) v;
+                break;
+            case 71:
+                if ("SPLINE".equals(entity)) {
+                    degree = (int) v;
+                }
+                break;
+            case 230:
+                extrusionZ = v;
+                break;
+            default:
+                break;
+        }
+    }
+
+    private void insertCode(int code, double v) {
+        switch (code) {
+            case 10:
+                insert.x = v;
+                break;
+            case 20:
+                insert.y = v;
+                break;
+            case 41:
+                insert.scaleX = v;
+                break;
+            case 42:
+                insert.scaleY = v;
+                break;
+            case 44:
+                insert.columnSpacing = v;
+                break;
+            case 45:
+                insert.rowSpacing = v;
+                break;
+            case 50:
+                insert.rotation = v;
+                break;
+            case 70:
+                insert.columns = Math.max(1, (int) v);
+                break;
+            case 71:
+                insert.rows = Math.max(1, (int) v);
+                break;
+            case 230:
+                insert.extrusionZ = v;
+                break;
+            default:
+                break;
+        }
+    }
+
+    private boolean isVertexList() {
+        return "LWPOLYLINE".equals(entity) || "SPLINE".equals(entity);
+    }
+
+    private void finishEntity() throws IOException {
+        if (entity == null) {
+            return;
+        }
+        switch (entity) {
+            case "BLOCK":
+                currentBlock = new Block(x1, y1);
+                if (name != null) {
+                    blocks.put(name, currentBlock);
+                }
+                break;
+            case "ENDBLK":
+                currentBlock = null;
+                break;
+            case "INSERT":
+                insert.name = name;
+                if (currentBlock != null) {
+                    currentBlock.inserts.add(insert);
+                } else {
+                    expandInsert(insert, IDENTITY, result, 0);
+                }
+                break;
+            case "LINE": {
+                Polyline p = new Polyline(2);
+                p.add(mirror(x1), y1);
+                p.add(mirror(x2), y2);
+                emit(p);
+                break;
+            }
+            case "LWPOLYLINE":
+                emitVertices(vertices, (flags & 1) != 0);
+                break;
+            case "POLYLINE":
+                inPolyline = true;
+                polylineClosed = (flags & 1) != 0;
+                polylineExtrusionZ = extrusionZ;
+                polylineVertices.clear();
+                break;
+            case "VERTEX":
+                if (inPolyline) {
+                    polylineVertices.add(new double[]{x1, y1, bulge});
+                }
+                break;
+            case "SEQEND":
+                if (inPolyline) {
+                    extrusionZ = polylineExtrusionZ;
+                    emitVertices(polylineVertices, polylineClosed);
+                    inPolyline = false;
+                }
+                break;
+            case "CIRCLE": {
+                Polyline p = new Polyline();
+                appendArc(p, x1, y1, radius, 0, Math.PI * 2, true);
+                p.closed = true;
+                emit(p);
+                break;
+            }
+            case "ARC": {
+                double start = Math.toRadians(angle1);
+                double end = Math.toRadians(angle2);
+                double sweep = end - start;
+                while (sweep <= 0) {
+                    sweep += Math.PI * 2;
+                }
+                Polyline p = new Polyline();
+                appendArc(p, x1, y1, radius, start, sweep, true);
+                emit(p);
+                break;
+            }
+            case "ELLIPSE":
+                emitEllipse();
+                break;
+            case "SPLINE":
+                emitSpline();
+                break;
+            default:
+                break;
+        }
+        entity = null;
+        insert = null;
+    }
+
+    // 仿射变换 {a, b, c, d, e, f}：x' = a*x + c*y + e，y' = b*x + d*y + f
+    private static final double[] IDENTITY = {1, 0, 0, 1, 0, 0};
+
+    /**
+     * 把块引用展开为折线追加到 out，parent 为外层块引用的变换
+     */
+    private void expandInsert(Insert ins, double[] parent, List<Polyline> out, int depth) throws IOException {
+        Block block = ins.name != null ? blocks.get(ins.name) : null;
+        if (block == null) {
+            throw new IOException("DXF 引用了未定义的块: " + ins.name);
+        }
+        if (depth >= MAX_BLOCK_DEPTH) {
+            throw new IOException("DXF 块嵌套过深: " + ins.name);
+        }
+        double rad = Math.toRadians(ins.rotation);
+        double cos = Math.cos(rad), sin = Math.sin(rad);
+        // 拉伸方向为 (0, 0, -1) 时插入点与旋转在 OCS 中，变换后 X 轴镜像
+        double mirror = ins.extrusionZ < 0 ? -1 : 1;
+        for (int row = 0; row < ins.rows; row++) {
+            for (int col = 0; col < ins.columns; col++) {
+                // 阵列间距沿旋转后的坐标轴
+                double ox = col * ins.columnSpacing, oy = row * ins.rowSpacing;
+                double tx = ins.x + ox * cos - oy * sin;
+                double ty = ins.y + ox * sin + oy * cos;
+                double a = cos * ins.scaleX, b = sin * ins.scaleX;
+                double c = -sin * ins.scaleY, d = cos * ins.scaleY;
+                double e = tx - a * block.baseX - c * block.baseY;
+                double f = ty - b * block.baseX - d * block.baseY;
+                double[] local = {mirror * a, b, mirror * c, d, mirror * e, f};
+                double[] m = compose(parent, local);
+                for (Polyline src : block.polylines) {
+                    Polyline p = new Polyline(src.size());
+                    for (int i = 0; i < src.size(); i++) {
+                        double x = src.x(i), y = src.y(i);
+                        p.add(m[0] * x + m[2] * y + m[4], m[1] * x + m[3] * y + m[5]);
+                    }
+                    p.closed = src.isClosed();
+                    out.add(p);
+                }
+                for (Insert nested : block.inserts) {
+                    expandInsert(nested, m, out, depth + 1);
+                }
+            }
+        }
+    }
+
+    /**
+     * 先应用 inner 再应用 outer
+     */
+    private static double[] compose(double[] outer, double[] inner) {
+        return new double[]{
+                outer[0] * inner[0] + outer[2] * inner[1],
+                outer[1] * inner[0] + outer[3] * inner[1],
+                outer[0] * inner[2] + outer[2] * inner[3],
+                outer[1] * inner[2] + outer[3] * inner[3],
+                outer[0] * inner[4] + outer[2] * inner[5] + outer[4],
+                outer[1] * inner[4] + outer[3] * inner[5] + outer[5]};
+    }
+
+    /**
+     * 椭圆：圆心 (x1, y1)，长轴端点相对圆心 (x2, y2)，短长轴比 radius，参数范围 param1 到 param2。
+     * 坐标为 WCS，拉伸方向只决定短轴方向（参数的旋转方向）
+     */
+    private void emitEllipse() {
+        double major = Math.hypot(x2, y2);
+        if (major == 0) {
+            return;
+        }
+        double sweep = param2 - param1;
+        while (sweep <= 0) {
+            sweep += Math.PI * 2;
+        }
+        double ratio = radius * (extrusionZ < 0 ? -1 : 1);
+        double minorX = -y2 * ratio, minorY = x2 * ratio;
+        int segments = arcSegments(major, sweep);
+        Polyline p = new Polyline(segments + 1);
+        for (int i = 0; i <= segments; i++) {
+            double t = param1 + sweep * i / segments;
+            double cos = Math.cos(t), sin = Math.sin(t);
+            p.add(x1 + x2 * cos + minorX * sin, y1 + y2 * cos + minorY * sin);
+        }
+        p.closed = Math.abs(sweep - Math.PI * 2) < 1e-9;
+        emit(p);
+    }
+
+    private void emitVertices(List<double[]> list, boolean closed) {
+        if (list.isEmpty()) {
+            return;
+        }
+        Polyline p = new Polyline(list.size() + 1);
+        int n = list.size();
+        int segments = closed ? n : n - 1;
+        p.add(mirror(list.get(0)[0]), list.get(0)[1]);
+        for (int i = 0; i < segments; i++) {
+            double[] a = list.get(i);
+            double[] b = list.get((i + 1) % n);
+            double bulge = a[2];
+            if (bulge != 0) {
+                appendBulge(p, a[0], a[1], b[0], b[1], bulge);
+            } else {
+                p.add(mirror(b[0]), b[1]);
+            }
+        }
+        p.closed = closed;
+        emit(p);
+    }
+
+    /**
+     * 凸度圆弧：bulge = tan(圆心角 / 4)，正值为逆时针
+     */
+    private void appendBulge(Polyline p, double ax, double ay, double bx, double by, double bulge) {
+        double theta = 4 * Math.atan(bulge);
+        double chord = Math.hypot(bx - ax, by - ay);
+        if (chord == 0) {
+            return;
+        }
+        double r = chord / (2 * Math.sin(Math.abs(theta) / 2));
+        // 圆心位于弦中点的法线方向上
+        double mx = (ax + bx) / 2, my = (ay + by) / 2;
+        double d = Math.sqrt(Math.max(r * r - chord * chord / 4, 0));
+        double nx = -(by - ay) / chord, ny = (bx - ax) / chord;
+        double sign = (bulge > 0) == (Math.abs(theta) < Math.PI) ? 1 : -1;
+        double cx = mx + sign * nx * d, cy = my + sign * ny * d;
+        double start = Math.atan2(ay - cy, ax - cx);
+        appendArc(p, cx, cy, r, start, theta, false);
+    }
+
+    /**
+     * 追加圆弧上的点，sweep 为带符号的圆心角（弧度）
+     */
+    private void appendArc(Polyline p, double cx, double cy, double r, double start, double sweep, boolean includeStart) {
+        int segments = arcSegments(r, Math.abs(sweep));
+        for (int i = includeStart ? 0 : 1; i <= segments; i++) {
+            double a = start + sweep * i / segments;
+            p.add(mirror(cx + r * Math.cos(a)), cy + r * Math.sin(a));
+        }
+    }
+
+    private int arcSegments(double r, double sweep) {
+        if (r <= chordTolerance) {
+            return Math.max(4, (int) Math.ceil(sweep / (Math.PI / 2)));
+        }
+        // 弦高误差 e = r * (1 - cos(step / 2))
+        double step = 2 * Math.acos(1 - chordTolerance / r);
+        int n = (int) Math.ceil(sweep / step);
+        return Math.min(MAX_ARC_SEGMENTS, Math.max(n, 4));
+    }
+
+    private void emitSpline() {
+        int n = vertices.size();
+        if (n >= degree + 1 && knots.size() == n + degree + 1) {
+            double[] knotArr = new double[knots.size()];
+            for (int i = 0; i < knotArr.length; i++) {
+                knotArr[i] = knots.get(i);
+            }
+            double t0 = knotArr[degree], t1 = knotArr[n];
+            int samples = Math.min(MAX_ARC_SEGMENTS, Math.max(32, n * 8));
+            Polyline p = new Polyline(samples + 1);
+            double[] point = new double[2];
+            for (int i = 0; i <= samples; i++) {
+                double t = t0 + (t1 - t0) * i / samples;
+                deBoor(t, knotArr, point);
+                p.add(mirror(point[0]), point[1]);
+            }
+            p.closed = (flags & 1) != 0;
+            emit(p);
+        } else if (fitPoints.size() >= 2) {
+            Polyline p = new Polyline(fitPoints.size());
+            for (double[] fp : fitPoints) {
+                p.add(mirror(fp[0]), fp[1]);
+            }
+            p.closed = (flags & 1) != 0;
+            emit(p);
+        }
+    }
+
+    /**
+     * 有理 B 样条求值（de Boor 算法）
+     */
+    private void deBoor(double t, double[] knotArr, double[] out) {
+        int n = vertices.size();
+        int k = degree;
+        while (k < n - 1 && t >= knotArr[k + 1]) {
+            k++;
+        }
+        double[] dx = new double[degree + 1];
+        double[] dy = new double[degree + 1];
+        double[] dw = new double[degree + 1];
+        for (int j = 0; j <= degree; j++) {
+            double[] cp = vertices.get(j + k - degree);
+            double w = weights.size() == n ? weights.get(j + k - degree) : 1;
+            dx[j] = cp[0] * w;
+            dy[j] = cp[1] * w;
+            dw[j] = w;
+        }
+        for (int r = 1; r <= degree; r++) {
+            for (int j = degree; j >= r; j--) {
+                int i = j + k - degree;
+                double denom = knotArr[i + degree - r + 1] - knotArr[i];
+                double alpha = denom == 0 ? 0 : (t - knotArr[i]) / denom;
+                dx[j] = (1 - alpha) * dx[j - 1] + alpha * dx[j];
+                dy[j] = (1 - alpha) * dy[j - 1] + alpha * dy[j];
+                dw[j] = (1 - alpha) * dw[j - 1] + alpha * dw[j];
+            }
+        }
+        out[0] = dx[degree] / dw[degree];
+        out[1] = dy[degree] / dw[degree];
+    }
+
+    /**
+     * 拉伸方向为 (0, 0, -1) 的实体在 OCS 中 X 轴镜像
+     */
+    private double mirror(double x) {
+        return extrusionZ < 0 ? -x : x;
+    }
+
+    private void emit(Polyline p) {
+        if (p.size() >= 2) {
+            (currentBlock != null ? currentBlock.polylines : result).add(p);
+        }
+    }
+}
@@ -0,0 +1,706 @@
+package com.example.opencv.webwhiteboard;
+
+import org.json.JSONArray;
+import org.json.JSONException;
+import org.json.JSONObject;
+
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.regex.Pattern;
+import java.util.zip.CRC32;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+/**
+ * 白板的撤销/重做历史
+ * <p>
+ * 页面不再在 JS 内存中保存整份图层与对象数组的快照，而是在每次记录时只发送变化的对象：
+ * 正向差异（上一状态 → 新状态）与反向差异（新状态 → 上一状态），格式为
+ * {put: [对象], remove: [id], order?: [id], layers?: [图层]}。对象中超过一定长度的字符串
+ * （内嵌图片的 data URL、矢量原文）由页面替换为 {@link #BLOB_REF_PREFIX} 加内容哈希，
+ * 内容通过 {@link #putBlob} 按哈希存储一次。
+ * <p>
+ * 历史是一条状态序列 T[0..n]，cursor 为页面当前所在的位置；第 i 条记录是 T[i-1] 与 T[i] 之间的差异。
+ * 撤销返回第 cursor 条的反向差异，重做返回第 cursor+1 条的正向差异，页面把差异应用到自己持有的当前状态上，
+ * 耗时与历史长度无关。最近 {@link #RING_CAPACITY} 条差异保存在内存环中，其余只在日志文件中，
+ * 按记录偏移读取（一次定位与解压）。
+ * <p>
+ * 所有操作都追加写入压缩日志（小端序）：
+ * <pre>
+ * int32  magic = 0x31484257 ("WBH1")
+ * 记录：
+ *   int32  packedLength, rawLength, crc32(packed)
+ *   int8   type     BASE 初始状态 | EDIT 新记录 | CURSOR 撤销/重做后的位置 | LIVE 当前未记录的修改
+ *   byte[] packed   Deflate 压缩的内容
+ * </pre>
+ * 重新打开时按顺序重放日志恢复上次会话（包括撤销历史与最后一次同步的修改），末尾写坏的记录被截断；
+ * 随后把仍然可达的记录重写为新日志，并删除不再引用的内容文件。页面在编辑间隙定期同步 LIVE 记录，
+ * 会话中日志超过上次重写后大小的两倍（至少 {@link #COMPACT_MIN_BYTES}）时同样重写一次，被覆盖的 LIVE 记录随之丢弃。
+ */
+public final class EditHistory implements Closeable {
+
+    public static final int MAGIC = 0x31484257;
+    // 页面替换大字符串时使用的引用前缀，后接内容哈希
+    public static final String BLOB_REF_PREFIX = "\u0000blob:";
+    // 内存中保留的最近差异条数
+    public static final int RING_CAPACITY = 16;
+    // 可撤销的最大步数，超出后最早的记录不可再撤销，在下次打开时丢弃
+    public static final int MAX_ENTRIES = 500;
+    // 会话中触发日志重写的最小大小
+    public static final long COMPACT_MIN_BYTES = 4L << 20;
+
+    static final int TYPE_BASE = 1;
+    static final int TYPE_EDIT = 2;
+    static final int TYPE_CURSOR = 3;
+    static final int TYPE_LIVE = 4;
+
+    private static final int RECORD_HEADER_BYTES = 13;
+    private static final Pattern HASH = Pattern.compile("[0-9a-z]{8,128}");
+
+    private final File journalFile;
+    private final File blobDir;
+    private FileChannel journal;
+
+    // offsets[i] 为第 i 条记录（T[i-1] → T[i]）在日志中的偏移，下标从 1 开始
+    private long[] offsets = new long[64];
+    private int cursor;
+    private int size;
+    // 仍可撤销到的最早位置
+    private int first;
+    private final Transition[] ring = new Transition[RING_CAPACITY];
+    // 当前日志中初始状态与最后一条 LIVE 记录的偏移（LIVE 在记录或移动位置后失效，为 -1）
+    private long baseOffset = -1;
+    private long liveOffset = -1;
+    // 超过此大小时在会话中重写日志
+    private long compactAt = COMPACT_MIN_BYTES;
+
+    /**
+     * 一条记录的正向与反向差异（JSON 文本）
+     */
+    static final class Transition {
+        final int index;
+        final long offset;
+        final String forward;
+        final String inverse;
+
+        Transition(int index, long offset, String forward, String inverse) {
+            this.index = index;
+            this.offset = offset;
+            this.forward = forward;
+            this.inverse = inverse;
+        }
+    }
+
+    public EditHistory(File dir) {
+        this.journalFile = new File(dir, "journal.bin");
+        this.blobDir = new File(dir, "blobs");
+    }
+
+    /**
+     * 打开历史并恢复上次会话
+     *
+     * @return {recovered, state?, live?, canUndo, canRedo}；state 为当前位置的完整状态，
+     * live 为其后尚未记录的修改（差异，可能为 null）
+     */
+    public synchronized JSONObject open() throws IOException, JSONException {
+        return restore(true);
+    }
+
+    /**
+     * 重放日志并重写为新日志
+     *
+     * @param sweepBlobs 是否删除不再引用的内容文件。只在会话开始时删除：会话中页面可能已上传
+     *                   尚未被记录引用的内容
+     */
+    private JSONObject restore(boolean sweepBlobs) throws IOException, JSONException {
+        close();
+        JSONObject result = new JSONObject();
+        Recovered recovered = journalFile.exists() ? replay() : null;
+        if (recovered == null) {
+            journalFile.delete();
+            result.put("recovered", false);
+            putStatus(result);
+            return result;
+        }
+        try (NativeMetrics.Span span = NativeMetrics.span("history.recover")) {
+            // 从初始状态依次应用正向差异，得到保留的最早位置与当前位置的状态
+            int keepFrom = Math.max(0, Math.min(recovered.cursor, recovered.size - MAX_ENTRIES));
+            JSONObject state = recovered.base;
+            String keptBase = null;
+            String[] forward = new String[recovered.size + 1];
+            String[] inverse = new String[recovered.size + 1];
+            for (int i = 1; i <= recovered.size; i++) {
+                if (i == keepFrom + 1) {
+                    keptBase = state.toString();
+                }
+                String[] t = splitTransition(readRecord(recovered.channel, recovered.offsets[i]));
+                forward[i] = t[0];
+                inverse[i] = t[1];
+                if (i <= recovered.cursor) {
+                    state = applyDiff(state, new JSONObject(t[0]));
+                }
+            }
+            if (keptBase == null) {
+                keptBase = state.toString();
+            }
+            String live = recovered.liveOffset >= 0
+                    ? new String(readRecord(recovered.channel, recovered.liveOffset), StandardCharsets.UTF_8) : null;
+            recovered.channel.close();
+
+            // 只保留可达的记录，重写日志
+            Set<String> refs = rewrite(keptBase, forward, inverse, keepFrom, recovered.size,
+                    recovered.cursor - keepFrom, live);
+            if (sweepBlobs) {
+                deleteUnreferencedBlobs(refs);
+            }
+            span.detail(size + " entries, cursor " + cursor);
+
+            result.put("recovered", true);
+            result.put("state", state);
+            result.put("live", live != null ? new JSONObject(live) : JSONObject.NULL);
+            putStatus(result);
+            return result;
+        }
+    }
+
+    /**
+     * 以给定状态开始新的会话，清空历史
+     */
+    public synchronized JSONObject reset(String stateJson) throws IOException, JSONException {
+        close();
+        journalFile.delete();
+        journal = openChannel(journalFile);
+        first = 0;
+        cursor = 0;
+        size = 0;
+        Arrays.fill(ring, null);
+        baseOffset = append(TYPE_BASE, stateJson.getBytes(StandardCharsets.UTF_8));
+        liveOffset = -1;
+        compactAt = COMPACT_MIN_BYTES;
+        return status();
+    }
+
+    /**
+     * 在当前位置之后追加一条记录（丢弃可重做的记录），位置前进一步
+     */
+    public synchronized JSONObject push(String forward, String inverse) throws IOException, JSONException {
+        requireOpen();
+        pushInternal(forward, inverse);
+        NativeMetrics.count("history.pushes", 1);
+        return status();
+    }
+
+    /**
+     * 撤销一步
+     *
+     * @return 从当前位置回到上一位置的差异，不能撤销时返回 null
+     */
+    public synchronized String undo() throws IOException {
+        requireOpen();
+        if (cursor <= first) {
+            return null;
+        }
+        Transition t = transition(cursor);
+        cursor--;
+        appendCursor();
+        return t.inverse;
+    }
+
+    /**
+     * 重做一步
+     *
+     * @return 从当前位置前进到下一位置的差异，不能重做时返回 null
+     */
+    public synchronized String redo() throws IOException {
+        requireOpen();
+        if (cursor >= size) {
+            return null;
+        }
+        cursor++;
+        Transition t = transition(cursor);
+        appendCursor();
+        return t.forward;
+    }
+
+    /**
+     * 记录当前位置之后尚未成为历史的修改（相对当前位置的差异），只用于崩溃后恢复
+     */
+    public synchronized void setLive(String diff) throws IOException, JSONException {
+        requireOpen();
+        liveOffset = append(TYPE_LIVE, diff.getBytes(StandardCharsets.UTF_8));
+        if (journal.size() > compactAt) {
+            compact();
+        }
+    }
+
+    public synchronized JSONObject status() throws JSONException {
+        JSONObject json = new JSONObject();
+        putStatus(json);
+        return json;
+    }
+
+    // ---- 内容文件 ----
+
+    public boolean hasBlob(String hash) {
+        return HASH.matcher(hash).matches() && new File(blobDir, hash).exists();
+    }
+
+    /**
+     * 按哈希存储大字符串（已存在时不重复写入）
+     */
+    public void putBlob(String hash, String content) throws IOException {
+        if (!HASH.matcher(hash).matches()) {
+            throw new IllegalArgumentException("无效的内容哈希: " + hash);
+        }
+        File file = new File(blobDir, hash);
+        if (file.exists()) {
+            return;
+        }
+        blobDir.mkdirs();
+        byte[] bytes = content.getBytes(StandardCharsets.UTF_8);
+        File tmp = new File(blobDir, hash + ".tmp");
+        try (FileOutputStream out = new FileOutputStream(tmp)) {
+            out.write(bytes);
+        }
+        if (!tmp.renameTo(file)) {
+            tmp.delete();
+            throw new IOException("无法写入历史内容: " + hash);
+        }
+        NativeMetrics.count("history.blobBytes", bytes.length);
+    }
+
+    /**
+     * 读取大字符串，不存在时返回 null
+     */
+    public String readBlob(String hash) throws IOException {
+        if (!HASH.matcher(hash).matches()) {
+            return null;
+        }
+        File file = new File(blobDir, hash);
+        if (!file.exists()) {
+            return null;
+        }
+        byte[] bytes = new byte[(int) file.length()];
+        try (FileInputStream in = new FileInputStream(file)) {
+            int n = 0;
+            while (n < bytes.length) {
+                int r = in.read(bytes, n, bytes.length - n);
+                if (r < 0) {
+                    throw new IOException("历史内容被截断: " + hash);
+                }
+                n += r;
+            }
+        }
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    @Override
+    public synchronized void close() throws IOException {
+        if (journal != null) {
+            journal.close();
+            journal = null;
+        }
+    }
+
+    // ---- 状态与差异 ----
+
+    /**
+     * 把差异应用到状态 {layers, items} 上，返回新的状态（不修改参数）
+     */
+    static JSONObject applyDiff(JSONObject state, JSONObject diff) throws JSONException {
+        Map<String, Object> items = new LinkedHashMap<>();
+        JSONArray current = state.optJSONArray("items");
+        if (current != null) {
+            for (int i = 0; i < current.length(); i++) {
+                JSONObject item = current.getJSONObject(i);
+                items.put(item.getString("id"), item);
+            }
+        }
+        JSONArray remove = diff.optJSONArray("remove");
+        if (remove != null) {
+            for (int i = 0; i < remove.length(); i++) {
+                items.remove(remove.getString(i));
+            }
+        }
+        JSONArray put = diff.optJSONArray("put");
+        if (put != null) {
+            for (int i = 0; i < put.length(); i++) {
+                JSONObject item = put.getJSONObject(i);
+                items.put(item.getString("id"), item);
+            }
+        }
+        JSONArray order = diff.optJSONArray("order");
+        JSONArray nextItems = new JSONArray();
+        if (order != null) {
+            for (int i = 0; i < order.length(); i++) {
+                Object item = items.get(order.getString(i));
+                if (item != null) {
+                    nextItems.put(item);
+                }
+            }
+        } else {
+            for (Object item : items.values()) {
+                nextItems.put(item);
+            }
+        }
+        JSONObject next = new JSONObject();
+        next.put("layers", diff.has("layers") ? diff.getJSONArray("layers") : state.optJSONArray("layers"));
+        next.put("items", nextItems);
+        return next;
+    }
+
+    private static void collectRefs(Object value, Set<String> refs) throws JSONException {
+        if (value instanceof JSONObject) {
+            JSONObject object = (JSONObject) value;
+            Iterator<String> keys = object.keys();
+            while (keys.hasNext()) {
+                collectRefs(object.get(keys.next()), refs);
+            }
+        } else if (value instanceof JSONArray) {
+            JSONArray array = (JSONArray) value;
+            for (int i = 0; i < array.length(); i++) {
+                collectRefs(array.get(i), refs);
+            }
+        } else if (value instanceof String && ((String) value).startsWith(BLOB_REF_PREFIX)) {
+            refs.add(((String) value).substring(BLOB_REF_PREFIX.length()));
+        }
+    }
+
+    private void deleteUnreferencedBlobs(Set<String> refs) {
+        File[] files = blobDir.listFiles();
+        if (files == null) {
+            return;
+        }
+        for (File file : files) {
+            if (!refs.contains(file.getName())) {
+                file.delete();
+            }
+        }
+    }
+
+    // ---- 日志 ----
+
+    /**
+     * 把状态 base 与第 from+1..to 条记录写入新日志并替换原日志，位置设为 cursorValue（相对 base）
+     *
+     * @return 新日志引用的内容哈希
+     */
+    private Set<String> rewrite(String base, String[] forward, String[] inverse, int from, int to,
+                                int cursorValue, String live) throws IOException, JSONException {
+        File tmp = new File(journalFile.getPath() + ".tmp");
+        tmp.delete();
+        journal = openChannel(tmp);
+        baseOffset = append(TYPE_BASE, base.getBytes(StandardCharsets.UTF_8));
+        Set<String> refs = new HashSet<>();
+        collectRefs(new JSONObject(base), refs);
+        first = 0;
+        cursor = 0;
+        size = 0;
+        Arrays.fill(ring, null);
+        for (int i = from + 1; i <= to; i++) {
+            pushInternal(forward[i], inverse[i]);
+            collectRefs(new JSONObject(forward[i]), refs);
+            collectRefs(new JSONObject(inverse[i]), refs);
+        }
+        cursor = cursorValue;
+        if (cursor != size) {
+            appendCursor();
+        }
+        liveOffset = -1;
+        if (live != null) {
+            liveOffset = append(TYPE_LIVE, live.getBytes(StandardCharsets.UTF_8));
+            collectRefs(new JSONObject(live), refs);
+        }
+        journal.close();
+        if (!tmp.renameTo(journalFile)) {
+            journal = null;
+            throw new IOException("无法重写历史日志: " + journalFile);
+        }
+        journal = openChannel(journalFile);
+        compactAt = Math.max(COMPACT_MIN_BYTES, journal.size() * 2);
+        return refs;
+    }
+
+    /**
+     * 会话中重写日志：丢弃被覆盖的 LIVE 与 CURSOR 记录以及不可再撤销的记录。
+     * 页面可能已上传尚未被记录引用的内容，这里不清理内容文件；重写失败时按原日志重新打开
+     */
+    private void compact() throws IOException, JSONException {
+        try (NativeMetrics.Span span = NativeMetrics.span("history.compact")) {
+            long before = journal.size();
+            JSONObject state = new JSONObject(new String(readRecord(journal, baseOffset), StandardCharsets.UTF_8));
+            String[] forward = new String[size + 1];
+            String[] inverse = new String[size + 1];
+            for (int i = 1; i <= size; i++) {
+                String[] t = splitTransition(readRecord(journal, offsets[i]));
+                forward[i] = t[0];
+                inverse[i] = t[1];
+                if (i <= first) {
+                    state = applyDiff(state, new JSONObject(t[0]));
+                }
+            }
+            String live = liveOffset >= 0
+                    ? new String(readRecord(journal, liveOffset), StandardCharsets.UTF_8) : null;
+            journal.close();
+            journal = null;
+            try {
+                rewrite(state.toString(), forward, inverse, first, size, cursor - first, live);
+            } catch (IOException e) {
+                // 原日志未被替换，重放它恢复内存中的位置（不清理内容文件）
+                restore(false);
+                throw e;
+            }
+            span.detail(before + " -> " + journal.size() + " bytes");
+        }
+    }
+
+    private void putStatus(JSONObject json) throws JSONException {
+        json.put("canUndo", journal != null && cursor > first);
+        json.put("canRedo", journal != null && cursor < size);
+    }
+
+    private void requireOpen() {
+        if (journal == null) {
+            throw new IllegalStateException("历史未打开");
+        }
+    }
+
+    private void pushInternal(String forward, String inverse) throws IOException {
+        byte[] f = forward.getBytes(StandardCharsets.UTF_8);
+        byte[] inv = inverse.getBytes(StandardCharsets.UTF_8);
+        ByteBuffer body = ByteBuffer.allocate(4 + f.length + inv.length).order(ByteOrder.LITTLE_ENDIAN);
+        body.putInt(f.length).put(f).put(inv);
+        long offset = append(TYPE_EDIT, body.array());
+        cursor++;
+        size = cursor;
+        if (cursor >= offsets.length) {
+            offsets = Arrays.copyOf(offsets, offsets.length * 2);
+        }
+        offsets[cursor] = offset;
+        ring[cursor % RING_CAPACITY] = new Transition(cursor, offset, forward, inverse);
+        liveOffset = -1;
+        if (size - first > MAX_ENTRIES) {
+            first = size - MAX_ENTRIES;
+        }
+    }
+
+    private void appendCursor() throws IOException {
+        ByteBuffer body = ByteBuffer.allocate(4).order(ByteOrder.LITTLE_ENDIAN);
+        body.putInt(cursor);
+        append(TYPE_CURSOR, body.array());
+        liveOffset = -1;
+    }
+
+    private Transition transition(int index) throws IOException {
+        Transition t = ring[index % RING_CAPACITY];
+        if (t != null && t.index == index && t.offset == offsets[index]) {
+            NativeMetrics.count("history.ringHits", 1);
+            return t;
+        }
+        // 早于内存环的记录从日志读取
+        String[] parts = splitTransition(readRecord(journal, offsets[index]));
+        t = new Transition(index, offsets[index], parts[0], parts[1]);
+        ring[index % RING_CAPACITY] = t;
+        NativeMetrics.count("history.spillReads", 1);
+        return t;
+    }
+
+    private static String[] splitTransition(byte[] body) {
+        ByteBuffer buf = ByteBuffer.wrap(body).order(ByteOrder.LITTLE_ENDIAN);
+        int forwardLength = buf.getInt();
+        return new String[]{
+                new String(body, 4, forwardLength, StandardCharsets.UTF_8),
+                new String(body, 4 + forwardLength, body.length - 4 - forwardLength, StandardCharsets.UTF_8)};
+    }
+
+    private static FileChannel openChannel(File file) throws IOException {
+        File parent = file.getParentFile();
+        if (parent != null) {
+            parent.mkdirs();
+        }
+        FileChannel channel = new RandomAccessFile(file, "rw").getChannel();
+        if (channel.size() == 0) {
+            ByteBuffer header = ByteBuffer.allocate(4).order(ByteOrder.LITTLE_ENDIAN);
+            header.putInt(MAGIC).flip();
+            channel.write(header, 0);
+        }
+        return channel;
+    }
+
+    /**
+     * 追加一条记录。直接写入文件通道（不经用户态缓冲），进程被杀后已写入的记录仍在
+     */
+    private long append(int type, byte[] raw) throws IOException {
+        Deflater deflater = new Deflater(Deflater.BEST_SPEED);
+        ByteArrayOutputStream packed = new ByteArrayOutputStream(Math.max(64, raw.length / 2));
+        try {
+            deflater.setInput(raw);
+            deflater.finish();
+            byte[] chunk = new byte[8192];
+            while (!deflater.finished()) {
+                packed.write(chunk, 0, deflater.deflate(chunk));
+            }
+        } finally {
+            deflater.end();
+        }
+        byte[] bytes = packed.toByteArray();
+        CRC32 crc = new CRC32();
+        crc.update(bytes);
+        ByteBuffer buf = ByteBuffer.allocate(RECORD_HEADER_BYTES + bytes.length).order(ByteOrder.LITTLE_ENDIAN);
+        buf.putInt(bytes.length).putInt(raw.length).putInt((int) crc.getValue()).put((byte) type).put(bytes);
+        buf.flip();
+        long offset = journal.size();
+        long position = offset;
+        while (buf.hasRemaining()) {
+            position += journal.write(buf, position);
+        }
+        NativeMetrics.count("history.journalBytes", bytes.length + RECORD_HEADER_BYTES);
+        return offset;
+    }
+
+    private static byte[] readRecord(FileChannel channel, long offset) throws IOException {
+        ByteBuffer header = ByteBuffer.allocate(RECORD_HEADER_BYTES).order(ByteOrder.LITTLE_ENDIAN);
+        readFully(channel, header, offset);
+        int packedLength = header.getInt(0);
+        int rawLength = header.getInt(4);
+        ByteBuffer packed = ByteBuffer.allocate(packedLength);
+        readFully(channel, packed, offset + RECORD_HEADER_BYTES);
+        return inflate(packed.array(), rawLength);
+    }
+
+    private static byte[] inflate(byte[] packed, int rawLength) throws IOException {
+        Inflater inflater = new Inflater();
+        try {
+            inflater.setInput(packed);
+            byte[] raw = new byte[rawLength];
+            int n = 0;
+            while (n < rawLength && !inflater.finished()) {
+                int r = inflater.inflate(raw, n, rawLength - n);
+                if (r == 0 && (inflater.needsInput() || inflater.needsDictionary())) {
+                    break;
+                }
+                n += r;
+            }
+            if (n != rawLength) {
+                throw new IOException("历史记录长度不符");
+            }
+            return raw;
+        } catch (DataFormatException e) {
+            throw new IOException("历史记录损坏", e);
+        } finally {
+            inflater.end();
+        }
+    }
+
+    private static void readFully(FileChannel channel, ByteBuffer buf, long position) throws IOException {
+        while (buf.hasRemaining()) {
+            int r = channel.read(buf, position);
+            if (r < 0) {
+                throw new IOException("历史日志被截断");
+            }
+            position += r;
+        }
+        buf.flip();
+    }
+
+    /**
+     * 重放日志的结果
+     */
+    private static final class Recovered {
+        FileChannel channel;
+        JSONObject base;
+        long[] offsets = new long[64];
+        int cursor;
+        int size;
+        long liveOffset = -1;
+    }
+
+    /**
+     * 顺序读取日志，校验失败处截断；没有可用的初始状态时返回 null
+     */
+    private Recovered replay() throws IOException, JSONException {
+        FileChannel channel = new RandomAccessFile(journalFile, "rw").getChannel();
+        Recovered r = new Recovered();
+        r.channel = channel;
+        long length = channel.size();
+        ByteBuffer magic = ByteBuffer.allocate(4).order(ByteOrder.LITTLE_ENDIAN);
+        if (length < 4) {
+            channel.close();
+            return null;
+        }
+        readFully(channel, magic, 0);
+        if (magic.getInt(0) != MAGIC) {
+            channel.close();
+            return null;
+        }
+        long position = 4;
+        long baseOffset = -1;
+        ByteBuffer header = ByteBuffer.allocate(RECORD_HEADER_BYTES).order(ByteOrder.LITTLE_ENDIAN);
+        while (position + RECORD_HEADER_BYTES <= length) {
+            header.clear();
+            readFully(channel, header, position);
+            int packedLength = header.getInt(0);
+            int crcValue = header.getInt(8);
+            int type = header.get(12);
+            if (packedLength < 0 || position + RECORD_HEADER_BYTES + packedLength > length) {
+                break;
+            }
+            ByteBuffer packed = ByteBuffer.allocate(packedLength);
+            readFully(channel, packed, position + RECORD_HEADER_BYTES);
+            CRC32 crc = new CRC32();
+            crc.update(packed.array());
+            if ((int) crc.getValue() != crcValue) {
+                break;
+            }
+            if (type == TYPE_BASE) {
+                baseOffset = position;
+                r.cursor = 0;
+                r.size = 0;
+                r.liveOffset = -1;
+            } else if (type == TYPE_EDIT && baseOffset >= 0) {
+                r.cursor++;
+                r.size = r.cursor;
+                if (r.cursor >= r.offsets.length) {
+                    r.offsets = Arrays.copyOf(r.offsets, r.offsets.length * 2);
+                }
+                r.offsets[r.cursor] = position;
+                r.liveOffset = -1;
+            } else if (type == TYPE_CURSOR && baseOffset >= 0) {
+                int value = ByteBuffer.wrap(inflate(packed.array(), header.getInt(4)))
+                        .order(ByteOrder.LITTLE_ENDIAN).getInt();
+                r.cursor = Math.max(0, Math.min(value, r.size));
+                r.liveOffset = -1;
+            } else if (type == TYPE_LIVE && baseOffset >= 0) {
+                r.liveOffset = position;
+            }
+            position += RECORD_HEADER_BYTES + packedLength;
+        }
+        if (position < length) {
+            // 进程在写入中途被杀，丢弃不完整的尾部
+            channel.truncate(position);
+            NativeMetrics.count("history.truncatedBytes", length - position);
+        }
+        if (baseOffset < 0) {
+            channel.close();
+            return null;
+        }
+        r.base = new JSONObject(new String(readRecord(channel, baseOffset), StandardCharsets.UTF_8));
+        return r;
+    }
+}
@@ -0,0 +1,827 @@
+package com.example.opencv.webwhiteboard;
+
+import org.json.JSONException;
+import org.json.JSONObject;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.util.Arrays;
+
+/**
+ * G 代码压缩改写
+ * <p>
+ * 以通道过滤器的形式逐行处理：去掉注释与空行，省略与当前模态相同的 G0/G1、X/Y、F（可选 S）字，
+ * 把功率、速度相同且在容差内共线的连续 G1 合并为一条，可选地把落在同一圆弧上的 G1 折线拟合为 G2/G3。
+ * 输入按块写入，输出经 {@link GCodeWriter} 的固定缓冲区写出，内存占用只与单行长度和合并窗口
+ * （最多 {@link #MAX_RUN_POINTS} 个点）有关，与文件大小无关。
+ * <p>
+ * 只改写能完整解析的绝对坐标 G0/G1 行；其它行（M 指令、G2/G3、相对坐标、行号、参数表达式等）
+ * 去掉注释后原样输出并据此更新模态状态，无法判断影响时视为位置未知，之后的行重新输出完整坐标。
+ * 数值超过 6 位小数的行同样原样输出，保证改写后的数值与原文一致。
+ */
+public final class GCodeCompactor implements WritableByteChannel {
+
+    // 合并窗口的最大点数，满了就先输出当前的直线或圆弧
+    private static final int MAX_RUN_POINTS = 256;
+    private static final int MAX_WORDS = 32;
+    // 改写时数值按 6 位小数输出，超过的行不改写
+    private static final int MAX_DECIMALS = 6;
+    // 圆弧至少替换的线段数，过短的弧按原折线输出
+    private static final int MIN_ARC_SEGMENTS = 3;
+    // 半径过大的圆弧接近直线，控制器由 IJ 反算圆心时误差被放大
+    private static final double MAX_ARC_RADIUS = 5000;
+    private static final int READ_BUFFER = 64 * 1024;
+    private static final double[] POW10 = {
+            1e0, 1e1, 1e2, 1e3, 1e4, 1e5, 1e6, 1e7, 1e8, 1e9,
+            1e10, 1e11, 1e12, 1e13, 1e14, 1e15, 1e16, 1e17, 1e18};
+
+    private static final int TOKENS_OK = 0;
+    // 能解析但不能改写（例如小数位过多），仍可据此更新模态
+    private static final int TOKENS_RAW = 1;
+    private static final int TOKENS_UNKNOWN = 2;
+
+    private static final int KIND_LINE = 0;
+    private static final int KIND_ARC = 1;
+
+    /**
+     * 压缩选项，单位为毫米
+     */
+    public static class Options {
+        // 合并共线 G1 时中间点到合并后线段的最大距离，0 表示不合并
+        double mergeTolerance = 0.01;
+        boolean fitArcs = false;
+        // 圆弧拟合时折线顶点到圆弧、弦到圆弧的最大距离
+        double arcTolerance = 0.01;
+        int arcDecimals = 4;
+        // 省略与模态相同的 G0/G1（GRBL 等控制器支持模态运动指令）
+        boolean modalMotion = true;
+        // 省略与模态相同的 S；扫描生成器有意在每条 G1 上带 S，默认保留
+        boolean modalPower = false;
+        boolean stripComments = true;
+
+        public static Options fromJson(String json) throws JSONException {
+            JSONObject obj = new JSONObject(json);
+            Options o = new Options();
+            o.mergeTolerance = Math.max(0, obj.optDouble("mergeTolerance", o.mergeTolerance));
+            o.fitArcs = obj.optBoolean("fitArcs", o.fitArcs);
+            o.arcTolerance = Math.max(0, obj.optDouble("arcTolerance", o.arcTolerance));
+            o.arcDecimals = Math.max(1, Math.min(MAX_DECIMALS, obj.optInt("arcDecimals", o.arcDecimals)));
+            o.modalMotion = obj.optBoolean("modalMotion", o.modalMotion);
+            o.modalPower = obj.optBoolean("modalPower", o.modalPower);
+            o.stripComments = obj.optBoolean("stripComments", o.stripComments);
+            return o;
+        }
+    }
+
+    /**
+     * 压缩统计
+     */
+    public static final class Stats {
+        public long inBytes, outBytes, inLines, outLines;
+        // 被合并进直线或圆弧而省去的移动行数
+        public long mergedMoves;
+        public long arcs;
+        public long nanos;
+        // 原地压缩时是否替换了原文件（没有变小时保留原文件）
+        public boolean applied;
+
+        public JSONObject toJson() throws JSONException {
+            JSONObject json = new JSONObject();
+            json.put("inBytes", inBytes);
+            json.put("outBytes", outBytes);
+            json.put("inLines", inLines);
+            json.put("outLines", outLines);
+            json.put("mergedMoves", mergedMoves);
+            json.put("arcs", arcs);
+            json.put("ratio", inBytes > 0 ? (double) outBytes / inBytes : 1);
+            json.put("applied", applied);
+            json.put("ms", nanos / 1000000);
+            return json;
+        }
+    }
+
+    private final Options options;
+    private final GCodeWriter writer;
+    private final Stats stats = new Stats();
+    private boolean open = true;
+
+    private byte[] line = new byte[256];
+    private int len;
+    private byte[] clean = new byte[256];
+
+    // 当前行解析出的字
+    private final byte[] letters = new byte[MAX_WORDS];
+    private final double[] values = new double[MAX_WORDS];
+    private int wordCount;
+
+    // 输入的模态运动指令（可能有被省略而未输出的切换），-1 表示未知
+    private int motion = -1;
+    private boolean relative;
+    private boolean planeXY = true;
+
+    // 已输出的模态值，NaN 表示未知
+    private int outMotion = -1;
+    private double outX = Double.NaN;
+    private double outY = Double.NaN;
+    private double outF = Double.NaN;
+    private double outS = Double.NaN;
+
+    // 待输出的合并窗口：[0] 为起点（即已输出的位置），[1..runCount] 为后续各点
+    private final double[] runX = new double[MAX_RUN_POINTS + 1];
+    private final double[] runY = new double[MAX_RUN_POINTS + 1];
+    private int runCount;
+    private int runKind;
+    private double runF, runS;
+    private boolean runHasS;
+    private double arcCx, arcCy;
+    private boolean arcCcw;
+
+    public GCodeCompactor(WritableByteChannel out, Options options) {
+        this.options = options;
+        this.writer = new GCodeWriter(out);
+    }
+
+    /**
+     * 流式压缩 input 写入 output
+     */
+    public static Stats compact(File input, File output, Options options) throws IOException {
+        long start = System.nanoTime();
+        GCodeCompactor compactor;
+        try (FileInputStream in = new FileInputStream(input);
+             FileOutputStream out = new FileOutputStream(output)) {
+            FileChannel src = in.getChannel();
+            compactor = new GCodeCompactor(out.getChannel(), options);
+            ByteBuffer buffer = ByteBuffer.allocate(READ_BUFFER);
+            while (src.read(buffer) >= 0) {
+                buffer.flip();
+                compactor.write(buffer);
+                buffer.clear();
+            }
+            compactor.close();
+        }
+        Stats stats = compactor.stats();
+        stats.nanos = System.nanoTime() - start;
+        return stats;
+    }
+
+    /**
+     * 原地压缩：写入同目录下的临时文件，变小时替换原文件，否则保留原文件。
+     * 压缩期间原文件被重新保存（长度或修改时间变化）时不替换，避免用旧内容的压缩结果覆盖新文件
+     */
+    public static Stats compactInPlace(File file, Options options) throws IOException {
+        // 同一文件可能被并发压缩（保存后自动压缩与页面调用），临时文件名不能固定
+        File tmp = new File(file.getPath() + "." + Thread.currentThread().getId() + "." + System.nanoTime() + ".compact");
+        long length = file.length();
+        long modified = file.lastModified();
+        Stats stats;
+        try {
+            stats = compact(file, tmp, options);
+        } catch (IOException | RuntimeException e) {
+            tmp.delete();
+            throw e;
+        }
+        if (file.length() != length || file.lastModified() != modified) {
+            tmp.delete();
+        } else if (stats.outBytes < stats.inBytes) {
+            try {
+                StreamingFileWriter.replaceFile(tmp, file);
+            } catch (IOException e) {
+                tmp.delete();
+                throw e;
+            }
+            stats.applied = true;
+        } else {
+            tmp.delete();
+        }
+        return stats;
+    }
+
+    /**
+     * 统计信息，outBytes 在 close() 之后才准确
+     */
+    public Stats stats() {
+        stats.outBytes = writer.size();
+        return stats;
+    }
+
+    @Override
+    public int write(ByteBuffer src) throws IOException {
+        int n = src.remaining();
+        stats.inBytes += n;
+        try {
+            while (src.hasRemaining()) {
+                byte b = src.get();
+                if (b == '\n') {
+                    processLine();
+                } else {
+                    if (len == line.length) {
+                        line = Arrays.copyOf(line, len * 2);
+                    }
+                    line[len++] = b;
+                }
+            }
+        } catch (GCodeWriter.GCodeIOException e) {
+            throw e.unwrap();
+        }
+        return n;
+    }
+
+    @Override
+    public boolean isOpen() {
+        return open;
+    }
+
+    /**
+     * 处理最后一行并输出合并窗口，只刷新缓冲不关闭下游通道
+     */
+    @Override
+    public void close() throws IOException {
+        if (!open) {
+            return;
+        }
+        open = false;
+        try {
+            if (len > 0) {
+                processLine();
+            }
+            flushRun();
+        } catch (GCodeWriter.GCodeIOException e) {
+            throw e.unwrap();
+        }
+        writer.flush();
+    }
+
+    // ---- 逐行处理 ----
+
+    private void processLine() {
+        stats.inLines++;
+        int end = len;
+        len = 0;
+        // 去掉注释，剩余内容写入 clean
+        if (clean.length < end) {
+            clean = new byte[line.length];
+        }
+        int cleanLen = 0;
+        boolean comment = false;
+        for (int i = 0; i < end; i++) {
+            byte b = line[i];
+            if (b == ';') {
+                comment = true;
+                break;
+            }
+            if (b == '(') {
+                comment = true;
+                while (i < end && line[i] != ')') {
+                    i++;
+                }
+                continue;
+            }
+            clean[cleanLen++] = b;
+        }
+        int from = 0;
+        while (from < cleanLen && isBlank(clean[from])) {
+            from++;
+        }
+        while (cleanLen > from && isBlank(clean[cleanLen - 1])) {
+            cleanLen--;
+        }
+
+        wordCount = 0;
+        int tokens = from < cleanLen ? tokenize(clean, from, cleanLen) : TOKENS_OK;
+        boolean keepComment = comment && !options.stripComments;
+        if (tokens == TOKENS_OK && !keepComment && from < cleanLen && !relative && rewriteMove()) {
+            return;
+        }
+        if (from == cleanLen && !keepComment) {
+            // 空行或纯注释行
+            return;
+        }
+
+        flushRun();
+        if (tokens == TOKENS_UNKNOWN || usesModalMotion()) {
+            syncMotion();
+        }
+        if (keepComment) {
+            int s = 0, e = end;
+            while (s < e && isBlank(line[s])) {
+                s++;
+            }
+            while (e > s && isBlank(line[e - 1])) {
+                e--;
+            }
+            writer.putBytes(line, s, e - s);
+        } else {
+            writer.putBytes(clean, from, cleanLen - from);
+        }
+        endLine();
+        if (tokens == TOKENS_UNKNOWN) {
+            forgetState();
+        } else {
+            applyState();
+        }
+    }
+
+    /**
+     * 把 [from, to) 解析为字母加数值的字序列
+     */
+    private int tokenize(byte[] text, int from, int to) {
+        wordCount = 0;
+        int result = TOKENS_OK;
+        int p = from;
+        while (p < to) {
+            int c = text[p];
+            if (isBlank((byte) c)) {
+                p++;
+                continue;
+            }
+            if (c >= 'a' && c <= 'z') {
+                c -= 32;
+            }
+            if (c < 'A' || c > 'Z' || wordCount == MAX_WORDS) {
+                return TOKENS_UNKNOWN;
+            }
+            p++;
+            while (p < to && isBlank(text[p])) {
+                p++;
+            }
+            boolean negative = false;
+            if (p < to && (text[p] == '-' || text[p] == '+')) {
+                negative = text[p] == '-';
+                p++;
+            }
+            long mantissa = 0;
+            int scale = 0;
+            int digits = 0;
+            boolean dot = false;
+            while (p < to) {
+                int d = text[p];
+                if (d >= '0' && d <= '9') {
+                    if (digits < 18) {
+                        mantissa = mantissa * 10 + (d - '0');
+                        if (dot) {
+                            scale++;
+                        }
+                    } else if (!dot) {
+                        return TOKENS_UNKNOWN;
+                    } else {
+                        result = TOKENS_RAW;
+                    }
+                    digits++;
+                    p++;
+                } else if (d == '.' && !dot) {
+                    dot = true;
+                    p++;
+                } else {
+                    break;
+                }
+            }
+            if (digits == 0) {
+                return TOKENS_UNKNOWN;
+            }
+            if (scale > MAX_DECIMALS) {
+                result = TOKENS_RAW;
+            }
+            double v = mantissa / POW10[scale];
+            letters[wordCount] = (byte) c;
+            values[wordCount++] = negative ? -v : v;
+        }
+        return result;
+    }
+
+    /**
+     * 改写只含 G0/G1、X、Y、F、S 的行，不属于这种行时返回 false
+     */
+    private boolean rewriteMove() {
+        int m = -1;
+        boolean hasX = false, hasY = false, hasF = false, hasS = false;
+        double x = 0, y = 0, f = 0, s = 0;
+        for (int i = 0; i < wordCount; i++) {
+            double v = values[i];
+            switch (letters[i]) {
+                case 'G':
+                    if (m >= 0 || (v != 0 && v != 1)) {
+                        return false;
+                    }
+                    m = (int) v;
+                    break;
+                case 'X':
+                    if (hasX) {
+                        return false;
+                    }
+                    hasX = true;
+                    x = v;
+                    break;
+                case 'Y':
+                    if (hasY) {
+                        return false;
+                    }
+                    hasY = true;
+                    y = v;
+                    break;
+                case 'F':
+                    if (hasF) {
+                        return false;
+                    }
+                    hasF = true;
+                    f = v;
+                    break;
+                case 'S':
+                    if (hasS) {
+                        return false;
+                    }
+                    hasS = true;
+                    s = v;
+                    break;
+                default:
+                    return false;
+            }
+        }
+        if (m < 0) {
+            m = motion;
+            if (m != 0 && m != 1) {
+                return false;
+            }
+        }
+        motion = m;
+
+        double curX = runCount > 0 ? runX[runCount] : outX;
+        double curY = runCount > 0 ? runY[runCount] : outY;
+        boolean moves = (hasX && x != curX) || (hasY && y != curY);
+        boolean mergeable = options.mergeTolerance > 0 || (options.fitArcs && planeXY);
+        if (m == 1 && moves && mergeable && !Double.isNaN(curX) && !Double.isNaN(curY)) {
+            double nf = hasF ? f : (runCount > 0 ? runF : outF);
+            double ns = hasS ? s : (runCount > 0 ? runS : outS);
+            if (runCount > 0 && (!same(nf, runF) || !same(ns, runS))) {
+                flushRun();
+            }
+            if (runCount == 0) {
+                startRun(nf, ns);
+            }
+            runHasS |= hasS;
+            addPoint(hasX ? x : curX, hasY ? y : curY);
+            return true;
+        }
+        flushRun();
+        emitMove(m, hasX, x, hasY, y, hasF, f, hasS, s);
+        return true;
+    }
+
+    /**
+     * 输出一条移动，省略与已输出模态相同的字；没有任何需要输出的字时整行省略
+     */
+    private void emitMove(int m, boolean hasX, double x, boolean hasY, double y,
+                          boolean hasF, double f, boolean hasS, double s) {
+        boolean ex = hasX && x != outX;
+        boolean ey = hasY && y != outY;
+        boolean ef = hasF && f != outF;
+        boolean es = hasS && (!options.modalPower || s != outS);
+        if (!ex && !ey && !ef && !es) {
+            return;
+        }
+        if ((ex || ey) && (!options.modalMotion || m != outMotion)) {
+            writer.put('G').putLong(m);
+            outMotion = m;
+        }
+        if (ex) {
+            writer.put('X');
+            putValue(x);
+            outX = x;
+        }
+        if (ey) {
+            writer.put('Y');
+            putValue(y);
+            outY = y;
+        }
+        putPowerAndFeed(hasS, es, s, ef, f);
+        endLine();
+    }
+
+    private void putPowerAndFeed(boolean hasS, boolean es, double s, boolean ef, double f) {
+        if (es) {
+            writer.put('S');
+            putValue(s);
+            outS = s;
+        } else if (hasS) {
+            outS = s;
+        }
+        if (ef) {
+            writer.put('F');
+            putValue(f);
+            outF = f;
+        }
+    }
+
+    // ---- 合并窗口 ----
+
+    private void startRun(double f, double s) {
+        runX[0] = outX;
+        runY[0] = outY;
+        runCount = 0;
+        runKind = KIND_LINE;
+        runF = f;
+        runS = s;
+        runHasS = false;
+    }
+
+    private void addPoint(double x, double y) {
+        if (runCount == MAX_RUN_POINTS) {
+            restartRun();
+        }
+        if (runCount > 0) {
+            // 已经偏离直线的圆弧窗口不再尝试合并为直线
+            if (runKind == KIND_LINE && options.mergeTolerance > 0 && fitsLine(x, y)) {
+                runKind = KIND_LINE;
+            } else if (options.fitArcs && planeXY && fitsArc(x, y)) {
+                runKind = KIND_ARC;
+            } else {
+                restartRun();
+            }
+        }
+        runCount++;
+        runX[runCount] = x;
+        runY[runCount] = y;
+    }
+
+    /**
+     * 输出窗口中已有的点，并以输出后的位置为起点继续同一功率、速度的窗口
+     */
+    private void restartRun() {
+        double f = runF, s = runS;
+        boolean hasS = runHasS;
+        flushRun();
+        startRun(f, s);
+        runHasS = hasS;
+    }
+
+    /**
+     * 起点到 (x, y) 的线段能否代替窗口中的折线：各点到线段的距离在容差内，且沿线段方向不回退
+     */
+    private boolean fitsLine(double x, double y) {
+        double ax = runX[0], ay = runY[0];
+        double dx = x - ax, dy = y - ay;
+        double chord = length(dx, dy);
+        if (chord == 0) {
+            return false;
+        }
+        double ux = dx / chord, uy = dy / chord;
+        double tol = options.mergeTolerance;
+        double lastT = 0;
+        for (int i = 1; i <= runCount; i++) {
+            double px = runX[i] - ax, py = runY[i] - ay;
+            double t = px * ux + py * uy;
+            if (t < lastT - tol || t > chord + tol) {
+                return false;
+            }
+            double distance;
+            if (t < 0) {
+                distance = length(px, py);
+            } else if (t > chord) {
+                distance = length(px - dx, py - dy);
+            } else {
+                distance = Math.abs(px * uy - py * ux);
+            }
+            if (distance > tol) {
+                return false;
+            }
+            lastT = Math.max(lastT, t);
+        }
+        return true;
+    }
+
+    /**
+     * 过起点、窗口中点与 (x, y) 的圆弧能否代替窗口中的折线：
+     * 各顶点到圆的距离与各段弦高都在容差内，转向一致且总转角小于一周
+     */
+    private boolean fitsArc(double x, double y) {
+        double ax = runX[0], ay = runY[0];
+        int mid = (runCount + 1) / 2;
+        double bx = runX[mid] - ax, by = runY[mid] - ay;
+        double cx = x - ax, cy = y - ay;
+        double d = 2 * (bx * cy - by * cx);
+        if (Math.abs(d) < 1e-12) {
+            return false;
+        }
+        double b2 = bx * bx + by * by, c2 = cx * cx + cy * cy;
+        double ux = (cy * b2 - by * c2) / d;
+        double uy = (bx * c2 - cx * b2) / d;
+        double r = length(ux, uy);
+        if (r > MAX_ARC_RADIUS) {
+            return false;
+        }
+        double centerX = ax + ux, centerY = ay + uy;
+        boolean ccw = d > 0;
+        double tol = options.arcTolerance;
+        double sweep = 0;
+        double prevX = ax - centerX, prevY = ay - centerY;
+        for (int i = 1; i <= runCount + 1; i++) {
+            double px = (i <= runCount ? runX[i] : x) - centerX;
+            double py = (i <= runCount ? runY[i] : y) - centerY;
+            if (Math.abs(length(px, py) - r) > tol) {
+                return false;
+            }
+            double cross = prevX * py - prevY * px;
+            if (cross == 0 || (cross > 0) != ccw) {
+                return false;
+            }
+            double halfChord = length(px - prevX, py - prevY) / 2;
+            if (halfChord > r || r - Math.sqrt(r * r - halfChord * halfChord) > tol) {
+                return false;
+            }
+            sweep += Math.abs(Math.atan2(cross, prevX * px + prevY * py));
+            prevX = px;
+            prevY = py;
+        }
+        if (sweep >= 2 * Math.PI - 1e-3) {
+            return false;
+        }
+        arcCx = centerX;
+        arcCy = centerY;
+        arcCcw = ccw;
+        return true;
+    }
+
+    private void flushRun() {
+        int n = runCount;
+        if (n == 0) {
+            return;
+        }
+        runCount = 0;
+        boolean hasF = !Double.isNaN(runF);
+        if (runKind == KIND_ARC && n >= MIN_ARC_SEGMENTS) {
+            emitArc(runX[n], runY[n], hasF);
+            stats.arcs++;
+            stats.mergedMoves += n - 1;
+        } else if (runKind == KIND_ARC) {
+            for (int i = 1; i <= n; i++) {
+                emitMove(1, true, runX[i], true, runY[i], hasF, runF, runHasS, runS);
+            }
+        } else {
+            emitMove(1, true, runX[n], true, runY[n], hasF, runF, runHasS, runS);
+            stats.mergedMoves += n - 1;
+        }
+    }
+
+    private void emitArc(double x, double y, boolean hasF) {
+        int m = arcCcw ? 3 : 2;
+        double i = arcCx - outX, j = arcCy - outY;
+        if (!options.modalMotion || m != outMotion) {
+            writer.put('G').putLong(m);
+            outMotion = m;
+        }
+        if (x != outX) {
+            writer.put('X');
+            putValue(x);
+            outX = x;
+        }
+        if (y != outY) {
+            writer.put('Y');
+            putValue(y);
+            outY = y;
+        }
+        writer.put('I').putFixed(i, options.arcDecimals, true);
+        writer.put('J').putFixed(j, options.arcDecimals, true);
+        putPowerAndFeed(runHasS, runHasS && (!options.modalPower || runS != outS), runS,
+                hasF && runF != outF, runF);
+        endLine();
+    }
+
+    // ---- 原样输出的行 ----
+
+    /**
+     * 被省略的运动指令切换在原样输出的行之前补上，保证该行按原来的模态执行
+     */
+    private void syncMotion() {
+        if (motion >= 0 && motion != outMotion) {
+            writer.put('G').putLong(motion);
+            endLine();
+            outMotion = motion;
+        }
+    }
+
+    /**
+     * 当前行是否有坐标字而没有自己的运动指令
+     */
+    private boolean usesModalMotion() {
+        boolean axis = false;
+        for (int i = 0; i < wordCount; i++) {
+            byte c = letters[i];
+            if (c == 'G' && (values[i] == 0 || values[i] == 1 || values[i] == 2 || values[i] == 3)) {
+                return false;
+            }
+            axis |= (c >= 'X' && c <= 'Z') || (c >= 'A' && c <= 'C') || (c >= 'I' && c <= 'K') || c == 'R';
+        }
+        return axis;
+    }
+
+    /**
+     * 按原样输出的行更新模态状态
+     */
+    private void applyState() {
+        int newMotion = -1;
+        boolean positionLost = false;
+        boolean hasX = false, hasY = false;
+        double x = 0, y = 0;
+        for (int i = 0; i < wordCount; i++) {
+            double v = values[i];
+            switch (letters[i]) {
+                case 'G':
+                    int g = (int) Math.round(v * 10);
+                    if (g == 0 || g == 10 || g == 20 || g == 30) {
+                        newMotion = g / 10;
+                    } else if (g == 900) {
+                        relative = false;
+                    } else if (g == 910) {
+                        relative = true;
+                    } else if (g == 170) {
+                        planeXY = true;
+                    } else if (g == 180 || g == 190) {
+                        planeXY = false;
+                    } else if (g != 40 && g != 940) {
+                        // 坐标系、单位、回零等会改变坐标含义或位置
+                        positionLost = true;
+                    }
+                    break;
+                case 'M':
+                    if (v == 2 || v == 30) {
+                        forgetState();
+                    }
+                    break;
+                case 'X':
+                    hasX = true;
+                    x = v;
+                    break;
+                case 'Y':
+                    hasY = true;
+                    y = v;
+                    break;
+                case 'F':
+                    outF = v;
+                    break;
+                case 'S':
+                    outS = v;
+                    break;
+                default:
+                    break;
+            }
+        }
+        if (newMotion >= 0) {
+            motion = newMotion;
+            outMotion = newMotion;
+        }
+        if (positionLost) {
+            forgetState();
+        } else if (relative || (motion < 0 && (hasX || hasY))) {
+            outX = Double.NaN;
+            outY = Double.NaN;
+        } else {
+            if (hasX) {
+                outX = x;
+            }
+            if (hasY) {
+                outY = y;
+            }
+        }
+    }
+
+    private void forgetState() {
+        motion = -1;
+        outMotion = -1;
+        outX = Double.NaN;
+        outY = Double.NaN;
+        outF = Double.NaN;
+        outS = Double.NaN;
+    }
+
+    // ---- 输出 ----
+
+    private void putValue(double v) {
+        if (Math.abs(v) < 1e9) {
+            writer.putFixed(v, MAX_DECIMALS, true);
+        } else {
+            writer.putNumber(v);
+        }
+    }
+
+    private void endLine() {
+        writer.newLine();
+        stats.outLines++;
+    }
+
+    // 坐标量级有限，不需要 Math.hypot 的溢出保护（后者慢得多）
+    private static double length(double dx, double dy) {
+        return Math.sqrt(dx * dx + dy * dy);
+    }
+
+    private static boolean same(double a, double b) {
+        return Double.compare(a, b) == 0 || a == b;
+    }
+
+    private static boolean isBlank(byte b) {
+        return b == ' ' || b == '\t' || b == '\r' || b == 0x0B || b == 0x0C;
+    }
+}
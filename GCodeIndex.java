@@ -0,0 +1,890 @@
+package com.example.opencv.webwhiteboard;
+
+import java.io.Closeable;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ForkJoinTask;
+
+/**
+ * G 代码文件索引：内存映射导出的 G 代码，一次顺序扫描建立紧凑的索引，之后按需随机访问，
+ * 不把文本读入堆内存。
+ * <p>
+ * 文件按行切分为行带（每 {@link #LINES_PER_BAND} 行），每个行带记录起始字节偏移、
+ * 起始机器状态（位置、G0-G3 模式、F、S、激光开关、G90/G91、G20/G21）、运动的包围盒以及
+ * 行带开始时累计的路径长度与加工时间（按 F 计算，未设置 F 时 G0 按 {@link #DEFAULT_RAPID_FEED}、
+ * 其余按 {@link #DEFAULT_CUT_FEED}）；另每 {@link #LINE_STRIDE} 行记录一次行首偏移。
+ * 任一行带都可以从其起始状态独立解析，因此视口查询只解析与视口相交的行带，并在计算线程池上并行进行。
+ * <p>
+ * 索引写入旁路文件（sidecar），格式（小端序）：
+ * <pre>
+ * int32   magic = 0x4947584E ("NXGI")
+ * int32   version = 1
+ * int64   sourceLength, sourceModified   源文件长度与修改时间，不一致时重建
+ * int32   lineCount, strideCount, bandCount
+ * int64   moveCount
+ * float64 cutDistance, travelDistance, seconds
+ * float32 minX, minY, maxX, maxY
+ * int64   [strideCount] 第 i * LINE_STRIDE 行的字节偏移
+ * 行带记录 [bandCount]：
+ *   int64   byteOffset
+ *   int32   startLine
+ *   float32 minX, minY, maxX, maxY
+ *   float64 cutDistance, travelDistance, seconds   行带开始时的累计值
+ *   float64 x, y, feed, power        行带开始时的机器状态
+ *   int8    motion, flags            flags: bit0 相对坐标, bit1 英制, bit2 激光开启
+ *   int16   保留
+ * </pre>
+ */
+public final class GCodeIndex implements Closeable {
+
+    public static final int MAGIC = 0x4947584E;
+    public static final int VERSION = 1;
+
+    // 每隔多少行记录一次行首偏移
+    static final int LINE_STRIDE = 256;
+    // 每个行带的行数
+    static final int LINES_PER_BAND = 4096;
+    // 未设置 F 时的默认速度（mm/min），与 ScanGCodeEngine.Settings 的默认值一致
+    static final double DEFAULT_RAPID_FEED = 6000;
+    static final double DEFAULT_CUT_FEED = 1000;
+    // 圆弧离散的弦高误差（mm）
+    private static final double ARC_TOLERANCE = 0.01;
+    // 超过点数上限时放大容差的最大次数
+    private static final int MAX_TOLERANCE_STEPS = 8;
+    private static final int BAND_RECORD_BYTES = 8 + 4 + 16 + 24 + 32 + 4;
+
+    private final ByteBuffer text;
+    private final int length;
+    private final long sourceModified;
+
+    private int lineCount;
+    private long moveCount;
+    private double cutDistance;
+    private double travelDistance;
+    private double seconds;
+    private float minX = Float.POSITIVE_INFINITY, minY = Float.POSITIVE_INFINITY;
+    private float maxX = Float.NEGATIVE_INFINITY, maxY = Float.NEGATIVE_INFINITY;
+    private long[] lineOffsets;
+    private Band[] bands;
+    private boolean loadedFromSidecar;
+
+    /**
+     * 行带：起始位置、起始状态与包围盒
+     */
+    static final class Band {
+        int offset;
+        int startLine;
+        float minX = Float.POSITIVE_INFINITY, minY = Float.POSITIVE_INFINITY;
+        float maxX = Float.NEGATIVE_INFINITY, maxY = Float.NEGATIVE_INFINITY;
+        Machine start;
+
+        boolean intersects(double x0, double y0, double x1, double y1) {
+            return minX <= x1 && maxX >= x0 && minY <= y1 && maxY >= y0;
+        }
+    }
+
+    /**
+     * 模拟到某一行或某一时刻的机器状态
+     */
+    public static final class State {
+        public int line;
+        public double x;
+        public double y;
+        public double feed;
+        public boolean laser;
+        public double power;
+        public double distance;
+        public double seconds;
+    }
+
+    /**
+     * 运动段的接收方，圆弧已离散为直线段
+     */
+    interface SegmentSink {
+        /**
+         * @param cut true 为出光的加工移动，false 为空移
+         */
+        void segment(double x0, double y0, double x1, double y1, boolean cut);
+    }
+
+    private GCodeIndex(ByteBuffer text, long sourceModified) {
+        this.text = text;
+        this.length = text.limit();
+        this.sourceModified = sourceModified;
+    }
+
+    /**
+     * 打开 G 代码文件：旁路索引有效时直接读取，否则扫描建立并写入旁路文件
+     *
+     * @param sidecar 旁路索引文件，为 null 时只在内存中建立
+     */
+    public static GCodeIndex open(File gcode, File sidecar) throws IOException {
+        MappedByteBuffer mapped;
+        try (RandomAccessFile file = new RandomAccessFile(gcode, "r");
+             FileChannel channel = file.getChannel()) {
+            if (channel.size() > Integer.MAX_VALUE) {
+                throw new IOException("G代码文件过大: " + channel.size());
+            }
+            mapped = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+        }
+        GCodeIndex index = new GCodeIndex(mapped, gcode.lastModified());
+        if (sidecar != null && index.load(sidecar, gcode.lastModified())) {
+            index.loadedFromSidecar = true;
+            return index;
+        }
+        try (NativeMetrics.Span ignored = NativeMetrics.span("gcode.index").detail(gcode.length() + "B")) {
+            index.build();
+        }
+        if (sidecar != null) {
+            try {
+                index.save(sidecar, gcode.lastModified());
+            } catch (IOException e) {
+                // 旁路文件写入失败不影响本次使用
+                e.printStackTrace();
+            }
+        }
+        return index;
+    }
+
+    /**
+     * 源文件在打开之后是否未被改写（长度与修改时间不变）
+     */
+    public boolean isCurrent(File gcode) {
+        return gcode.length() == length && gcode.lastModified() == sourceModified;
+    }
+
+    /**
+     * 索引是否来自已有的旁路文件
+     */
+    public boolean isLoadedFromSidecar() {
+        return loadedFromSidecar;
+    }
+
+    public int lineCount() {
+        return lineCount;
+    }
+
+    public long moveCount() {
+        return moveCount;
+    }
+
+    public int bandCount() {
+        return bands.length;
+    }
+
+    public double cutDistance() {
+        return cutDistance;
+    }
+
+    public double travelDistance() {
+        return travelDistance;
+    }
+
+    /**
+     * 预计加工时间（秒，不含加减速）
+     */
+    public double seconds() {
+        return seconds;
+    }
+
+    /**
+     * 所有运动的包围盒 [minX, minY, maxX, maxY]，没有运动时为 0
+     */
+    public float[] bounds() {
+        if (moveCount == 0) {
+            return new float[4];
+        }
+        return new float[]{minX, minY, maxX, maxY};
+    }
+
+    // ---- 建立索引 ----
+
+    private void build() {
+        List<Band> bandList = new ArrayList<>();
+        long[] offsets = new long[16];
+        int strides = 0;
+        Machine machine = new Machine();
+        final Band[] current = {null};
+        SegmentSink sink = (x0, y0, x1, y1, cut) -> {
+            Band b = current[0];
+            float lx = (float) Math.min(x0, x1), hx = (float) Math.max(x0, x1);
+            float ly = (float) Math.min(y0, y1), hy = (float) Math.max(y0, y1);
+            if (lx < b.minX) b.minX = lx;
+            if (hx > b.maxX) b.maxX = hx;
+            if (ly < b.minY) b.minY = ly;
+            if (hy > b.maxY) b.maxY = hy;
+        };
+
+        int pos = 0;
+        int line = 0;
+        while (pos < length) {
+            if (line % LINES_PER_BAND == 0) {
+                Band band = new Band();
+                band.offset = pos;
+                band.startLine = line;
+                band.start = machine.copy();
+                bandList.add(band);
+                current[0] = band;
+            }
+            if (line % LINE_STRIDE == 0) {
+                if (strides == offsets.length) {
+                    offsets = Arrays.copyOf(offsets, strides * 2);
+                }
+                offsets[strides++] = pos;
+            }
+            int end = lineEnd(pos);
+            machine.execute(text, pos, end, sink);
+            pos = end + 1;
+            line++;
+        }
+
+        lineCount = line;
+        lineOffsets = Arrays.copyOf(offsets, strides);
+        bands = bandList.toArray(new Band[0]);
+        moveCount = machine.moves;
+        cutDistance = machine.cutDistance;
+        travelDistance = machine.travelDistance;
+        seconds = machine.seconds;
+        for (Band b : bands) {
+            if (b.minX <= b.maxX) {
+                minX = Math.min(minX, b.minX);
+                minY = Math.min(minY, b.minY);
+                maxX = Math.max(maxX, b.maxX);
+                maxY = Math.max(maxY, b.maxY);
+            }
+        }
+    }
+
+    private int lineEnd(int pos) {
+        while (pos < length && text.get(pos) != '\n') {
+            pos++;
+        }
+        return pos;
+    }
+
+    // ---- 旁路文件 ----
+
+    private void save(File sidecar, long sourceModified) throws IOException {
+        File parent = sidecar.getParentFile();
+        if (parent != null) {
+            parent.mkdirs();
+        }
+        ByteBuffer buf = ByteBuffer.allocate(4 * 2 + 8 * 2 + 4 * 3 + 8 + 8 * 3 + 4 * 4
+                + lineOffsets.length * 8 + bands.length * BAND_RECORD_BYTES).order(ByteOrder.LITTLE_ENDIAN);
+        buf.putInt(MAGIC).putInt(VERSION);
+        buf.putLong(length).putLong(sourceModified);
+        buf.putInt(lineCount).putInt(lineOffsets.length).putInt(bands.length);
+        buf.putLong(moveCount);
+        buf.putDouble(cutDistance).putDouble(travelDistance).putDouble(seconds);
+        buf.putFloat(minX).putFloat(minY).putFloat(maxX).putFloat(maxY);
+        for (long offset : lineOffsets) {
+            buf.putLong(offset);
+        }
+        for (Band b : bands) {
+            Machine m = b.start;
+            buf.putLong(b.offset).putInt(b.startLine);
+            buf.putFloat(b.minX).putFloat(b.minY).putFloat(b.maxX).putFloat(b.maxY);
+            buf.putDouble(m.cutDistance).putDouble(m.travelDistance).putDouble(m.seconds);
+            buf.putDouble(m.x).putDouble(m.y).putDouble(m.feed).putDouble(m.power);
+            buf.put((byte) m.motion).put(m.flags()).putShort((short) 0);
+        }
+        buf.flip();
+        File tmp = new File(sidecar.getPath() + ".tmp");
+        try (FileOutputStream out = new FileOutputStream(tmp)) {
+            FileChannel channel = out.getChannel();
+            while (buf.hasRemaining()) {
+                channel.write(buf);
+            }
+        }
+        if (!tmp.renameTo(sidecar)) {
+            tmp.delete();
+            throw new IOException("无法写入索引文件: " + sidecar);
+        }
+    }
+
+    private boolean load(File sidecar, long sourceModified) {
+        if (!sidecar.exists()) {
+            return false;
+        }
+        try (RandomAccessFile file = new RandomAccessFile(sidecar, "r");
+             FileChannel channel = file.getChannel()) {
+            ByteBuffer buf = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size()).order(ByteOrder.LITTLE_ENDIAN);
+            if (buf.getInt() != MAGIC || buf.getInt() != VERSION
+                    || buf.getLong() != length || buf.getLong() != sourceModified) {
+                return false;
+            }
+            lineCount = buf.getInt();
+            lineOffsets = new long[buf.getInt()];
+            bands = new Band[buf.getInt()];
+            moveCount = buf.getLong();
+            cutDistance = buf.getDouble();
+            travelDistance = buf.getDouble();
+            seconds = buf.getDouble();
+            minX = buf.getFloat();
+            minY = buf.getFloat();
+            maxX = buf.getFloat();
+            maxY = buf.getFloat();
+            for (int i = 0; i < lineOffsets.length; i++) {
+                lineOffsets[i] = buf.getLong();
+            }
+            for (int i = 0; i < bands.length; i++) {
+                Band b = new Band();
+                b.offset = (int) buf.getLong();
+                b.startLine = buf.getInt();
+                b.minX = buf.getFloat();
+                b.minY = buf.getFloat();
+                b.maxX = buf.getFloat();
+                b.maxY = buf.getFloat();
+                Machine m = new Machine();
+                m.cutDistance = buf.getDouble();
+                m.travelDistance = buf.getDouble();
+                m.seconds = buf.getDouble();
+                m.x = buf.getDouble();
+                m.y = buf.getDouble();
+                m.feed = buf.getDouble();
+                m.power = buf.getDouble();
+                m.motion = buf.get();
+                m.setFlags(buf.get());
+                buf.getShort();
+                b.start = m;
+                bands[i] = b;
+            }
+            return true;
+        } catch (IOException | RuntimeException e) {
+            // 旁路文件损坏时重建
+            e.printStackTrace();
+            return false;
+        }
+    }
+
+    // ---- 随机访问 ----
+
+    /**
+     * 读取 [fromLine, fromLine + count) 行的原文（用于文本预览），超出范围的部分忽略
+     */
+    public String readLines(int fromLine, int count) {
+        if (fromLine < 0 || fromLine >= lineCount || count <= 0) {
+            return "";
+        }
+        int start = offsetOfLine(fromLine);
+        int end = start;
+        for (int i = 0; i < count && end < length; i++) {
+            end = lineEnd(end) + 1;
+        }
+        end = Math.min(end, length);
+        byte[] bytes = new byte[end - start];
+        ByteBuffer view = text.duplicate();
+        view.position(start);
+        view.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * 行首的字节偏移：从最近的记录点向后查找
+     */
+    int offsetOfLine(int line) {
+        int pos = (int) lineOffsets[line / LINE_STRIDE];
+        for (int i = line % LINE_STRIDE; i > 0; i--) {
+            pos = lineEnd(pos) + 1;
+        }
+        return pos;
+    }
+
+    /**
+     * 执行到第 line 行（不含）时的机器状态，用于模拟进度
+     */
+    public State stateAtLine(int line) {
+        line = Math.max(0, Math.min(line, lineCount));
+        if (bands.length == 0) {
+            return new Machine().toState(0);
+        }
+        int b = bandOfLine(line);
+        Band band = bands[b];
+        Machine m = band.start.copy();
+        int pos = band.offset;
+        for (int l = band.startLine; l < line && pos < length; l++) {
+            int end = lineEnd(pos);
+            m.execute(text, pos, end, null);
+            pos = end + 1;
+        }
+        return m.toState(line);
+    }
+
+    /**
+     * 加工开始后第 t 秒正在执行的行及其结束时的状态
+     */
+    public State stateAtTime(double t) {
+        if (bands.length == 0) {
+            return new Machine().toState(0);
+        }
+        // 最后一个开始时间不晚于 t 的行带
+        int lo = 0, hi = bands.length - 1;
+        while (lo < hi) {
+            int mid = (lo + hi + 1) >>> 1;
+            if (bands[mid].start.seconds <= t) {
+                lo = mid;
+            } else {
+                hi = mid - 1;
+            }
+        }
+        Band band = bands[lo];
+        int next = lo + 1 < bands.length ? bands[lo + 1].startLine : lineCount;
+        Machine m = band.start.copy();
+        int pos = band.offset;
+        int line = band.startLine;
+        while (line < next && pos < length) {
+            int end = lineEnd(pos);
+            m.execute(text, pos, end, null);
+            pos = end + 1;
+            line++;
+            if (m.seconds >= t) {
+                break;
+            }
+        }
+        return m.toState(line);
+    }
+
+    private int bandOfLine(int line) {
+        return Math.min(line / LINES_PER_BAND, bands.length - 1);
+    }
+
+    // ---- 视口查询与预览 ----
+
+    /**
+     * 与视口相交的运动路径，连续的同类移动合并为折线（空移标记为 {@link Polyline#rapid}）
+     *
+     * @param tolerance 简化容差（mm，通常为一个屏幕像素对应的长度），0 表示不简化
+     * @param travel    是否包含空移
+     * @param maxPoints 总点数上限，超出时逐步放大容差，&lt;= 0 表示不限制
+     */
+    public List<Polyline> polylines(double x0, double y0, double x1, double y1,
+                                    double tolerance, boolean travel, int maxPoints) {
+        List<ForkJoinTask<List<Polyline>>> tasks = new ArrayList<>();
+        for (int i = 0; i < bands.length; i++) {
+            Band band = bands[i];
+            if (!band.intersects(x0, y0, x1, y1)) {
+                continue;
+            }
+            int end = i + 1 < bands.length ? bands[i + 1].offset : length;
+            tasks.add(WorkerPools.COMPUTE.submit(() -> collect(band, end, x0, y0, x1, y1, travel, tolerance)));
+        }
+        List<Polyline> result = new ArrayList<>();
+        for (ForkJoinTask<List<Polyline>> task : tasks) {
+            for (Polyline p : task.join()) {
+                appendJoined(result, p);
+            }
+        }
+        if (maxPoints > 0 && countPoints(result) > maxPoints) {
+            result = fitBudget(result, tolerance, maxPoints);
+        }
+        return result;
+    }
+
+    /**
+     * 逐步放大容差简化；仍超出点数上限时（大量短折线，例如扫描行）按固定间隔保留折线
+     */
+    private static List<Polyline> fitBudget(List<Polyline> polylines, double tolerance, int maxPoints) {
+        double tol = tolerance > 0 ? tolerance : 0.01;
+        long points = countPoints(polylines);
+        for (int step = 0; points > maxPoints && step < MAX_TOLERANCE_STEPS; step++) {
+            tol *= 2;
+            VectorPreprocessor simplifier = new VectorPreprocessor(tol, 0);
+            for (Polyline p : polylines) {
+                simplifier.simplify(p);
+            }
+            points = countPoints(polylines);
+        }
+        if (points <= maxPoints) {
+            return polylines;
+        }
+        int stride = (int) Math.ceil((double) points / maxPoints);
+        List<Polyline> kept = new ArrayList<>(polylines.size() / stride + 1);
+        for (int i = 0; i < polylines.size(); i += stride) {
+            kept.add(polylines.get(i));
+        }
+        return kept;
+    }
+
+    /**
+     * 解析一个行带，收集与视口相交的运动并简化
+     */
+    private List<Polyline> collect(Band band, int end, double x0, double y0, double x1, double y1,
+                                   boolean travel, double tolerance) {
+        List<Polyline> out = new ArrayList<>();
+        Polyline[] open = {null};
+        SegmentSink sink = (ax, ay, bx, by, cut) -> {
+            if ((!cut && !travel)
+                    || Math.max(ax, bx) < x0 || Math.min(ax, bx) > x1
+                    || Math.max(ay, by) < y0 || Math.min(ay, by) > y1) {
+                open[0] = null;
+                return;
+            }
+            Polyline p = open[0];
+            if (p == null || p.rapid == cut || p.x(p.size - 1) != (float) ax || p.y(p.size - 1) != (float) ay) {
+                p = new Polyline();
+                p.rapid = !cut;
+                p.add(ax, ay);
+                out.add(p);
+                open[0] = p;
+            }
+            p.add(bx, by);
+        };
+        Machine m = band.start.copy();
+        int pos = band.offset;
+        while (pos < end) {
+            int lineEnd = lineEnd(pos);
+            m.execute(text, pos, lineEnd, sink);
+            pos = lineEnd + 1;
+        }
+        if (tolerance > 0) {
+            VectorPreprocessor simplifier = new VectorPreprocessor(tolerance, 0);
+            List<Polyline> kept = new ArrayList<>(out.size());
+            for (Polyline p : out) {
+                if (isBelow(p, tolerance)) {
+                    // 小于一个像素的路径：空移直接丢弃，加工路径保留首尾两点
+                    if (!p.rapid) {
+                        p.xy[2] = p.xy[p.size * 2 - 2];
+                        p.xy[3] = p.xy[p.size * 2 - 1];
+                        p.size = 2;
+                        kept.add(p);
+                    }
+                    continue;
+                }
+                simplifier.simplify(p);
+                kept.add(p);
+            }
+            return kept;
+        }
+        return out;
+    }
+
+    private static boolean isBelow(Polyline p, double tolerance) {
+        float lx = Float.POSITIVE_INFINITY, ly = Float.POSITIVE_INFINITY;
+        float hx = Float.NEGATIVE_INFINITY, hy = Float.NEGATIVE_INFINITY;
+        for (int i = 0; i < p.size; i++) {
+            float x = p.x(i), y = p.y(i);
+            if (x < lx) lx = x;
+            if (x > hx) hx = x;
+            if (y < ly) ly = y;
+            if (y > hy) hy = y;
+        }
+        return hx - lx < tolerance && hy - ly < tolerance;
+    }
+
+    /**
+     * 跨行带的折线在首尾相接时合并
+     */
+    private static void appendJoined(List<Polyline> result, Polyline p) {
+        if (!result.isEmpty()) {
+            Polyline last = result.get(result.size() - 1);
+            if (last.rapid == p.rapid && p.size > 0
+                    && last.x(last.size - 1) == p.x(0) && last.y(last.size - 1) == p.y(0)) {
+                for (int i = 1; i < p.size; i++) {
+                    last.add(p.x(i), p.y(i));
+                }
+                return;
+            }
+        }
+        result.add(p);
+    }
+
+    private static long countPoints(List<Polyline> polylines) {
+        long n = 0;
+        for (Polyline p : polylines) {
+            n += p.size;
+        }
+        return n;
+    }
+
+    @Override
+    public void close() {
+        // 映射在缓冲区被回收时释放
+        bands = new Band[0];
+    }
+
+    // ---- 解释器 ----
+
+    /**
+     * 最小的 G 代码解释器：G0/G1/G2/G3、G20/G21、G90/G91、M3/M4/M5 与 F/S 模态值
+     */
+    static final class Machine {
+        double x, y;
+        double feed = Double.NaN;
+        double power;
+        int motion;
+        boolean relative;
+        boolean inches;
+        boolean laser;
+        double cutDistance, travelDistance, seconds;
+        long moves;
+
+        Machine copy() {
+            Machine m = new Machine();
+            m.x = x;
+            m.y = y;
+            m.feed = feed;
+            m.power = power;
+            m.motion = motion;
+            m.relative = relative;
+            m.inches = inches;
+            m.laser = laser;
+            m.cutDistance = cutDistance;
+            m.travelDistance = travelDistance;
+            m.seconds = seconds;
+            return m;
+        }
+
+        double distance() {
+            return cutDistance + travelDistance;
+        }
+
+        byte flags() {
+            return (byte) ((relative ? 1 : 0) | (inches ? 2 : 0) | (laser ? 4 : 0));
+        }
+
+        void setFlags(byte flags) {
+            relative = (flags & 1) != 0;
+            inches = (flags & 2) != 0;
+            laser = (flags & 4) != 0;
+        }
+
+        State toState(int line) {
+            State s = new State();
+            s.line = line;
+            s.x = x;
+            s.y = y;
+            s.feed = feed;
+            s.laser = laser;
+            s.power = power;
+            s.distance = distance();
+            s.seconds = seconds;
+            return s;
+        }
+
+        /**
+         * 执行 [start, end) 范围内的一行
+         */
+        void execute(ByteBuffer text, int start, int end, SegmentSink sink) {
+            double nx = Double.NaN, ny = Double.NaN, ci = 0, cj = 0, r = Double.NaN;
+            boolean arcCenter = false;
+            int motionWord = -1;
+            int pos = start;
+            while (pos < end) {
+                int c = text.get(pos);
+                if (c == ';') {
+                    break;
+                }
+                if (c == '(') {
+                    while (pos < end && text.get(pos) != ')') {
+                        pos++;
+                    }
+                    pos++;
+                    continue;
+                }
+                if (c >= 'a' && c <= 'z') {
+                    c -= 32;
+                }
+                if (c < 'A' || c > 'Z') {
+                    pos++;
+                    continue;
+                }
+                // 读取字母后的数值
+                int p = pos + 1;
+                while (p < end && text.get(p) == ' ') {
+                    p++;
+                }
+                int numStart = p;
+                boolean negative = false;
+                if (p < end && (text.get(p) == '-' || text.get(p) == '+')) {
+                    negative = text.get(p) == '-';
+                    p++;
+                }
+                long mantissa = 0;
+                int scale = 0;
+                boolean dot = false;
+                int digits = 0;
+                while (p < end) {
+                    int d = text.get(p);
+                    if (d >= '0' && d <= '9') {
+                        if (digits < 18) {
+                            mantissa = mantissa * 10 + (d - '0');
+                            digits++;
+                            if (dot) {
+                                scale++;
+                            }
+                        }
+                        p++;
+                    } else if (d == '.' && !dot) {
+                        dot = true;
+                        p++;
+                    } else {
+                        break;
+                    }
+                }
+                pos = p;
+                if (p == numStart) {
+                    continue;
+                }
+                double v = mantissa / POW10[scale];
+                if (negative) {
+                    v = -v;
+                }
+                switch (c) {
+                    case 'G':
+                        int g = (int) Math.round(v * 10);
+                        if (g == 0 || g == 10 || g == 20 || g == 30) {
+                            motionWord = g / 10;
+                        } else if (g == 900) {
+                            relative = false;
+                        } else if (g == 910) {
+                            relative = true;
+                        } else if (g == 200) {
+                            inches = true;
+                        } else if (g == 210) {
+                            inches = false;
+                        }
+                        break;
+                    case 'M':
+                        int mcode = (int) v;
+                        if (mcode == 3 || mcode == 4) {
+                            laser = true;
+                        } else if (mcode == 5 || mcode == 2 || mcode == 30) {
+                            laser = false;
+                        }
+                        break;
+                    case 'X':
+                        nx = v;
+                        break;
+                    case 'Y':
+                        ny = v;
+                        break;
+                    case 'I':
+                        ci = v;
+                        arcCenter = true;
+                        break;
+                    case 'J':
+                        cj = v;
+                        arcCenter = true;
+                        break;
+                    case 'R':
+                        r = v;
+                        break;
+                    case 'F':
+                        feed = v;
+                        break;
+                    case 'S':
+                        power = v;
+                        break;
+                    default:
+                        break;
+                }
+            }
+            if (motionWord >= 0) {
+                motion = motionWord;
+            }
+            if (Double.isNaN(nx) && Double.isNaN(ny)) {
+                return;
+            }
+            double unit = inches ? 25.4 : 1;
+            double tx = Double.isNaN(nx) ? x : (relative ? x + nx * unit : nx * unit);
+            double ty = Double.isNaN(ny) ? y : (relative ? y + ny * unit : ny * unit);
+            boolean cut = motion != 0 && laser && power > 0;
+            double rate = Double.isNaN(feed) || feed <= 0
+                    ? (motion == 0 ? DEFAULT_RAPID_FEED : DEFAULT_CUT_FEED)
+                    : feed * unit;
+            double len;
+            if ((motion == 2 || motion == 3) && (arcCenter || !Double.isNaN(r))) {
+                len = arc(tx, ty, ci * unit, cj * unit, r * unit, arcCenter, cut, sink);
+            } else {
+                len = Math.hypot(tx - x, ty - y);
+                if (sink != null && len > 0) {
+                    sink.segment(x, y, tx, ty, cut);
+                }
+            }
+            if (cut) {
+                cutDistance += len;
+            } else {
+                travelDistance += len;
+            }
+            seconds += len / rate * 60;
+            moves++;
+            x = tx;
+            y = ty;
+        }
+
+        /**
+         * 圆弧：返回弧长，并把离散后的线段交给 sink
+         */
+        private double arc(double tx, double ty, double ci, double cj, double r, boolean ijMode,
+                           boolean cut, SegmentSink sink) {
+            boolean clockwise = motion == 2;
+            double cx, cy;
+            if (ijMode) {
+                cx = x + ci;
+                cy = y + cj;
+            } else {
+                // R 格式：由弦长与半径求圆心，R 为负时取大于半圆的一侧
+                double dx = tx - x, dy = ty - y;
+                double d = Math.hypot(dx, dy);
+                if (d == 0 || Math.abs(r) * 2 < d) {
+                    if (sink != null && d > 0) {
+                        sink.segment(x, y, tx, ty, cut);
+                    }
+                    return d;
+                }
+                double h = Math.sqrt(r * r - d * d / 4);
+                if (clockwise == (r > 0)) {
+                    h = -h;
+                }
+                cx = x + dx / 2 - h * dy / d;
+                cy = y + dy / 2 + h * dx / d;
+            }
+            double radius = Math.hypot(x - cx, y - cy);
+            double a0 = Math.atan2(y - cy, x - cx);
+            double a1 = Math.atan2(ty - cy, tx - cx);
+            double sweep = a1 - a0;
+            if (clockwise) {
+                if (sweep >= 0) {
+                    sweep -= 2 * Math.PI;
+                }
+            } else if (sweep <= 0) {
+                sweep += 2 * Math.PI;
+            }
+            double len = Math.abs(sweep) * radius;
+            if (sink != null && len > 0) {
+                double step = radius > ARC_TOLERANCE ? 2 * Math.acos(1 - ARC_TOLERANCE / radius) : Math.PI / 4;
+                int n = (int) Math.min(720, Math.max(1, Math.ceil(Math.abs(sweep) / step)));
+                double px = x, py = y;
+                for (int i = 1; i <= n; i++) {
+                    double qx, qy;
+                    if (i == n) {
+                        qx = tx;
+                        qy = ty;
+                    } else {
+                        double a = a0 + sweep * i / n;
+                        qx = cx + radius * Math.cos(a);
+                        qy = cy + radius * Math.sin(a);
+                    }
+                    sink.segment(px, py, qx, qy, cut);
+                    px = qx;
+                    py = qy;
+                }
+            }
+            return len;
+        }
+
+        private static final double[] POW10 = {
+                1, 1e1, 1e2, 1e3, 1e4, 1e5, 1e6, 1e7, 1e8, 1e9,
+                1e10, 1e11, 1e12, 1e13, 1e14, 1e15, 1e16, 1e17, 1e18};
+    }
+}
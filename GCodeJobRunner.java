@@ -0,0 +1,373 @@
+package com.example.opencv.webwhiteboard;
+
+import org.json.JSONArray;
+import org.json.JSONException;
+import org.json.JSONObject;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+
+/**
+ * 多图层合并导出（WhiteboardPage.tsx 中 generateMergedGCode 的原生实现）
+ * <p>
+ * 各图层在 {@link WorkerPools#LAYERS} 上并行生成，分别写入独立的分段文件，写入时即完成合并所需的清理
+ * （去注释、去 M2/M30、去空行）；全部完成后按图层顺序用 FileChannel.transferTo 拼接到目标文件，
+ * 并追加唯一的 M2。整个过程内存中不会出现合并后的完整字符串。
+ */
+public class GCodeJobRunner {
+
+    /**
+     * 进度回调，可能在多个图层线程中并发调用
+     */
+    public interface ProgressListener {
+        void onProgress(JSONObject event);
+    }
+
+    // 同一图层两次进度通知之间的最小进度差
+    private static final double PROGRESS_STEP = 0.01;
+
+    /**
+     * 导出任务：jobId 作为进度通知的通道名，layers 已按输出顺序（先扫描后切割）排列
+     */
+    public static class Job {
+        String jobId;
+        String fileName;
+        // 完成后将指标快照与滚动日志导出到 fileName.trace.txt
+        boolean exportTrace;
+        final List<Layer> layers = new ArrayList<>();
+
+        public static Job fromJson(String json) throws JSONException {
+            JSONObject obj = new JSONObject(json);
+            Job job = new Job();
+            job.jobId = obj.optString("jobId", "");
+            job.fileName = obj.getString("fileName");
+            job.exportTrace = obj.optBoolean("exportTrace", false);
+            JSONArray layers = obj.getJSONArray("layers");
+            for (int i = 0; i < layers.length(); i++) {
+                JSONObject item = layers.getJSONObject(i);
+                Layer layer = new Layer();
+                layer.name = item.optString("name", "");
+                layer.kind = item.getString("kind");
+                if ("scan".equals(layer.kind)) {
+                    layer.rasterPath = item.getString("rasterPath");
+                    layer.width = item.getInt("width");
+                    layer.height = item.getInt("height");
+                    layer.settingsJson = item.getJSONObject("settings").toString();
+                } else if ("gcode".equals(layer.kind)) {
+                    layer.text = item.getString("text");
+                } else {
+                    throw new JSONException("未知的图层类型: " + layer.kind);
+                }
+                job.layers.add(layer);
+            }
+            return job;
+        }
+    }
+
+    /**
+     * 单个图层：scan 为已栅格化的扫描图层，由 {@link ScanGCodeEngine} 生成；
+     * gcode 为页面已生成的切割图层 G 代码
+     */
+    static class Layer {
+        String name;
+        String kind;
+        String rasterPath;
+        int width;
+        int height;
+        String settingsJson;
+        String text;
+    }
+
+    private final File workDir;
+    private final ProgressListener listener;
+
+    /**
+     * @param workDir 分段文件所在目录（缓存目录下），每个任务使用独立的子目录，结束后删除
+     */
+    public GCodeJobRunner(File workDir, ProgressListener listener) {
+        this.workDir = workDir;
+        this.listener = listener;
+    }
+
+    /**
+     * 执行导出并写入目标文件。单个图层失败时跳过该图层（与前端合并流程一致），其余图层照常输出
+     *
+     * @return {path, bytes, ms, layers: [{name, bytes, ms, error}]}
+     */
+    public JSONObject run(Job job, File outFile) throws Exception {
+        long start = System.nanoTime();
+        File dir = new File(workDir, "job_" + UUID.randomUUID());
+        if (!dir.mkdirs()) {
+            throw new IOException("无法创建分段目录: " + dir);
+        }
+        try {
+            int n = job.layers.size();
+            File[] segments = new File[n];
+            List<Future<long[]>> futures = new ArrayList<>(n);
+            for (int i = 0; i < n; i++) {
+                final int index = i;
+                segments[i] = new File(dir, "layer_" + i + ".seg");
+                futures.add(WorkerPools.LAYERS.submit(() -> writeSegment(index, job.layers.get(index), segments[index])));
+            }
+
+            JSONArray layerResults = new JSONArray();
+            for (int i = 0; i < n; i++) {
+                Layer layer = job.layers.get(i);
+                JSONObject result = new JSONObject();
+                result.put("name", layer.name);
+                try {
+                    long[] done = futures.get(i).get();
+                    result.put("bytes", done[0]);
+                    result.put("ms", done[1]);
+                } catch (ExecutionException e) {
+                    Throwable cause = e.getCause() != null ? e.getCause() : e;
+                    cause.printStackTrace();
+                    NativeMetrics.count("job.layerFailed", 1);
+                    segments[i].delete();
+                    result.put("bytes", 0);
+                    result.put("ms", 0);
+                    result.put("error", cause.getMessage() != null ? cause.getMessage() : cause.toString());
+                    notify(i, layer.name, 1, "failed", result.getString("error"));
+                }
+                layerResults.put(result);
+            }
+
+            JSONObject merging = new JSONObject();
+            merging.put("state", "merging");
+            emit(merging);
+            long mergeStart = System.nanoTime();
+            long bytes;
+            try (NativeMetrics.Span ignored = NativeMetrics.span("job.merge").detail(n + " layers")) {
+                bytes = concat(segments, outFile);
+            }
+            NativeMetrics.recordWrite("job.output", bytes, System.nanoTime() - mergeStart);
+
+            JSONObject json = new JSONObject();
+            json.put("path", outFile.getAbsolutePath());
+            json.put("bytes", bytes);
+            json.put("ms", (System.nanoTime() - start) / 1000000);
+            json.put("layers", layerResults);
+            return json;
+        } finally {
+            File[] files = dir.listFiles();
+            if (files != null) {
+                for (File f : files) {
+                    f.delete();
+                }
+            }
+            dir.delete();
+        }
+    }
+
+    /**
+     * @return {写入字节数, 耗时毫秒}
+     */
+    private long[] writeSegment(int index, Layer layer, File segment) throws IOException {
+        long start = System.nanoTime();
+        notify(index, layer.name, 0, "running", null);
+        try (NativeMetrics.Span ignored = NativeMetrics.span("job.layer." + layer.kind).detail(layer.name);
+             FileOutputStream fos = new FileOutputStream(segment);
+             FileChannel channel = fos.getChannel()) {
+            CleanupChannel out = new CleanupChannel(channel);
+            if ("scan".equals(layer.kind)) {
+                ScanGCodeEngine.Settings settings;
+                try {
+                    settings = ScanGCodeEngine.Settings.fromJson(layer.settingsJson);
+                } catch (JSONException e) {
+                    throw new IOException("扫描参数无效: " + e.getMessage(), e);
+                }
+                final double[] reported = {0};
+                ScanGCodeEngine.fromFile(new File(layer.rasterPath), layer.width, layer.height, settings.rasterBits, settings)
+                        .setProgressListener((doneRows, totalRows) -> {
+                            double progress = (double) doneRows / totalRows;
+                            if (progress - reported[0] >= PROGRESS_STEP && doneRows < totalRows) {
+                                reported[0] = progress;
+                                notify(index, layer.name, progress, "running", null);
+                            }
+                        })
+                        .generate(out);
+            } else {
+                out.write(ByteBuffer.wrap(layer.text.getBytes(StandardCharsets.UTF_8)));
+            }
+            out.close();
+            notify(index, layer.name, 1, "done", null);
+            return new long[]{out.written(), (System.nanoTime() - start) / 1000000};
+        }
+    }
+
+    /**
+     * 按顺序拼接分段文件（缺失的分段视为空），末尾追加程序结束指令
+     *
+     * @return 目标文件字节数
+     */
+    static long concat(File[] segments, File outFile) throws IOException {
+        try (FileOutputStream fos = new FileOutputStream(outFile);
+             FileChannel out = fos.getChannel()) {
+            for (File segment : segments) {
+                if (!segment.exists()) {
+                    continue;
+                }
+                try (FileInputStream fis = new FileInputStream(segment);
+                     FileChannel in = fis.getChannel()) {
+                    long size = in.size();
+                    long pos = 0;
+                    while (pos < size) {
+                        pos += in.transferTo(pos, size - pos, out);
+                    }
+                }
+            }
+            ByteBuffer end = ByteBuffer.wrap("M2\n".getBytes(StandardCharsets.US_ASCII));
+            while (end.hasRemaining()) {
+                out.write(end);
+            }
+            return out.size();
+        }
+    }
+
+    private void notify(int index, String name, double progress, String state, String error) {
+        try {
+            JSONObject event = new JSONObject();
+            event.put("index", index);
+            event.put("name", name);
+            event.put("progress", Math.round(progress * 1000) / 1000.0);
+            event.put("state", state);
+            if (error != null) {
+                event.put("error", error);
+            }
+            emit(event);
+        } catch (JSONException e) {
+            e.printStackTrace();
+        }
+    }
+
+    private void emit(JSONObject event) {
+        if (listener != null) {
+            listener.onProgress(event);
+        }
+    }
+
+    /**
+     * 合并清理：逐行去掉注释（; 之后）、M2/M30 及其后的内容，跳过清理后为空白的行，
+     * 保留的行以 \n 结尾。规则与 generateMergedGCode 中的正则替换一致。
+     * close() 只刷新缓冲并处理最后一行，不关闭下游通道。
+     */
+    static final class CleanupChannel implements WritableByteChannel {
+        private final WritableByteChannel out;
+        private final ByteBuffer outBuf = ByteBuffer.allocate(64 * 1024);
+        private byte[] line = new byte[256];
+        private int len;
+        private long written;
+        private boolean open = true;
+
+        CleanupChannel(WritableByteChannel out) {
+            this.out = out;
+        }
+
+        @Override
+        public int write(ByteBuffer src) throws IOException {
+            int n = src.remaining();
+            while (src.hasRemaining()) {
+                byte b = src.get();
+                if (b == '\n') {
+                    emitLine();
+                } else {
+                    if (len == line.length) {
+                        line = Arrays.copyOf(line, len * 2);
+                    }
+                    line[len++] = b;
+                }
+            }
+            return n;
+        }
+
+        private void emitLine() throws IOException {
+            int end = len;
+            for (int i = 0; i < len; i++) {
+                byte b = line[i];
+                if (b == ';' || ((b == 'M' || b == 'm') && (i == 0 || !isWord(line[i - 1])) && isEndOfProgram(i + 1))) {
+                    end = i;
+                    break;
+                }
+            }
+            boolean blank = true;
+            for (int i = 0; i < end && blank; i++) {
+                byte b = line[i];
+                blank = b == ' ' || b == '\t' || b == '\r' || b == 0x0B || b == 0x0C;
+            }
+            if (!blank) {
+                put(line, end);
+                put(new byte[]{'\n'}, 1);
+            }
+            len = 0;
+        }
+
+        // M 之后是否为独立的 2 或 30
+        private boolean isEndOfProgram(int i) {
+            if (i < len && line[i] == '2') {
+                return i + 1 >= len || !isWord(line[i + 1]);
+            }
+            if (i + 1 < len && line[i] == '3' && line[i + 1] == '0') {
+                return i + 2 >= len || !isWord(line[i + 2]);
+            }
+            return false;
+        }
+
+        private static boolean isWord(byte b) {
+            return (b >= 'a' && b <= 'z') || (b >= 'A' && b <= 'Z') || (b >= '0' && b <= '9') || b == '_';
+        }
+
+        private void put(byte[] bytes, int count) throws IOException {
+            int off = 0;
+            while (off < count) {
+                if (!outBuf.hasRemaining()) {
+                    flush();
+                }
+                int n = Math.min(outBuf.remaining(), count - off);
+                outBuf.put(bytes, off, n);
+                off += n;
+            }
+            written += count;
+        }
+
+        private void flush() throws IOException {
+            outBuf.flip();
+            while (outBuf.hasRemaining()) {
+                out.write(outBuf);
+            }
+            outBuf.clear();
+        }
+
+        long written() {
+            return written;
+        }
+
+        @Override
+        public boolean isOpen() {
+            return open;
+        }
+
+        @Override
+        public void close() throws IOException {
+            if (!open) {
+                return;
+            }
+            open = false;
+            if (len > 0) {
+                emitLine();
+            }
+            flush();
+        }
+    }
+}
@@ -0,0 +1,375 @@
+package com.example.opencv.webwhiteboard;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.nio.ByteBuffer;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * G 代码指令写入器
+ * <p>
+ * 坐标、功率、速度等数值以定点方式直接格式化进可复用的 byte[]，不经过 String.format、
+ * 装箱或中间 String；缓冲区满时整块写入通道（未绑定通道时缓冲区自动扩容，
+ * 用于并行生成的分段）。同时记录已输出的 X/Y/F 模态值，仅在变化时输出，语义与
+ * lib/gcode.ts 一致：比较的是未取整的原始数值。
+ */
+public final class GCodeWriter {
+
+    private static final int DEFAULT_CAPACITY = 256 * 1024;
+    // 单行指令的最大长度，开始新行前预留，保证一行内不会发生 flush（从而可以回滚）
+    private static final int MAX_LINE_BYTES = 160;
+    private static final long[] POW10 = {1, 10, 100, 1000, 10000, 100000, 1000000};
+
+    private final WritableByteChannel channel;
+    private byte[] buf;
+    private int pos;
+    private long flushedBytes;
+    private int lineMark = -1;
+    private int coordDecimals = 2;
+
+    // 已输出的模态值，NaN 表示尚未输出
+    private double lastX = Double.NaN;
+    private double lastY = Double.NaN;
+    private double lastF = Double.NaN;
+
+    /**
+     * 内存模式：缓冲区按需扩容，适用于并行生成的分段
+     */
+    public GCodeWriter(int initialCapacity) {
+        this.channel = null;
+        this.buf = new byte[Math.max(initialCapacity, MAX_LINE_BYTES)];
+    }
+
+    /**
+     * 文件模式：缓冲区满时整块写入通道
+     */
+    public GCodeWriter(WritableByteChannel channel) {
+        this(channel, DEFAULT_CAPACITY);
+    }
+
+    public GCodeWriter(WritableByteChannel channel, int capacity) {
+        this.channel = channel;
+        this.buf = new byte[Math.max(capacity, MAX_LINE_BYTES * 2)];
+    }
+
+    /**
+     * 设置坐标保留的小数位数（扫描为 2 位，与 roundCoord 一致；切割为 3 位）
+     */
+    public GCodeWriter setCoordinateDecimals(int decimals) {
+        if (decimals < 0 || decimals >= POW10.length) {
+            throw new IllegalArgumentException("decimals: " + decimals);
+        }
+        this.coordDecimals = decimals;
+        return this;
+    }
+
+    // ---- 原始输出 ----
+
+    public GCodeWriter put(char c) {
+        ensure(1);
+        buf[pos++] = (byte) c;
+        return this;
+    }
+
+    /**
+     * 写入纯 ASCII 文本（指令字母、固定注释等），逐字符写入不做编码
+     */
+    public GCodeWriter putAscii(String s) {
+        int n = s.length();
+        ensure(n);
+        for (int i = 0; i < n; i++) {
+            buf[pos++] = (byte) s.charAt(i);
+        }
+        return this;
+    }
+
+    /**
+     * 写入可能包含非 ASCII 字符的文本（如图层名注释），按 UTF-8 编码
+     */
+    public GCodeWriter putText(String s) {
+        byte[] bytes = s.getBytes(StandardCharsets.UTF_8);
+        ensure(bytes.length);
+        System.arraycopy(bytes, 0, buf, pos, bytes.length);
+        pos += bytes.length;
+        return this;
+    }
+
+    /**
+     * 原样写入字节（透传已有的 G 代码行）
+     */
+    public GCodeWriter putBytes(byte[] src, int off, int len) {
+        ensure(len);
+        System.arraycopy(src, off, buf, pos, len);
+        pos += len;
+        return this;
+    }
+
+    public GCodeWriter newLine() {
+        return put('\n');
+    }
+
+    public GCodeWriter putLong(long v) {
+        ensure(20);
+        if (v == Long.MIN_VALUE) {
+            return putAscii(Long.toString(v));
+        }
+        if (v < 0) {
+            buf[pos++] = '-';
+            v = -v;
+        }
+        int start = pos;
+        do {
+            buf[pos++] = (byte) ('0' + (v % 10));
+            v /= 10;
+        } while (v != 0);
+        reverse(start, pos - 1);
+        return this;
+    }
+
+    /**
+     * 定点输出：四舍五入到 decimals 位小数
+     *
+     * @param stripZeros true 时去掉末尾的 0（等价于 JS 中 Math.round(x*10^n)/10^n 再转字符串），
+     *                   false 时保留固定位数（等价于 toFixed）
+     */
+    public GCodeWriter putFixed(double v, int decimals, boolean stripZeros) {
+        ensure(24 + decimals);
+        long pow = POW10[decimals];
+        long scaled = Math.round(v * pow);
+        if (scaled < 0 || (!stripZeros && v < 0)) {
+            buf[pos++] = '-';
+        }
+        long abs = Math.abs(scaled);
+        long intPart = abs / pow;
+        long frac = abs % pow;
+        putLong(intPart);
+        int digits = decimals;
+        if (stripZeros) {
+            while (digits > 0 && frac % 10 == 0) {
+                frac /= 10;
+                digits--;
+            }
+        }
+        if (digits > 0) {
+            buf[pos++] = '.';
+            int end = pos + digits;
+            for (int i = end - 1; i >= pos; i--) {
+                buf[i] = (byte) ('0' + (frac % 10));
+                frac /= 10;
+            }
+            pos = end;
+        }
+        return this;
+    }
+
+    /**
+     * 按 JS Number.toString 的方式输出数值：整数不带小数点，非整数走慢路径
+     */
+    public GCodeWriter putNumber(double v) {
+        if (v == Math.rint(v) && Math.abs(v) < 1e15) {
+            return putLong((long) v);
+        }
+        return putAscii(jsNumber(v));
+    }
+
+    // ---- 指令行与模态 ----
+
+    /**
+     * 开始一行指令：写入换行分隔符并记录回滚点
+     */
+    public GCodeWriter beginLine() {
+        ensure(MAX_LINE_BYTES);
+        lineMark = pos;
+        return newLine();
+    }
+
+    /**
+     * 放弃当前行（例如没有任何坐标变化的移动指令）
+     */
+    public void cancelLine() {
+        if (lineMark >= 0) {
+            pos = lineMark;
+            lineMark = -1;
+        }
+    }
+
+    /**
+     * X 坐标与上次输出不同时写入，返回是否写入
+     */
+    public boolean x(double v) {
+        if (v == lastX || Double.isNaN(v)) {
+            return false;
+        }
+        put('X').putFixed(v, coordDecimals, true);
+        lastX = v;
+        return true;
+    }
+
+    public boolean y(double v) {
+        if (v == lastY || Double.isNaN(v)) {
+            return false;
+        }
+        put('Y').putFixed(v, coordDecimals, true);
+        lastY = v;
+        return true;
+    }
+
+    /**
+     * 进给速度与上次输出不同时写入
+     */
+    public boolean f(double v) {
+        if (v == lastF || Double.isNaN(v)) {
+            return false;
+        }
+        put('F').putNumber(v);
+        lastF = v;
+        return true;
+    }
+
+    /**
+     * 功率：扫描 G1 指令每条都带 S，不做模态省略
+     */
+    public GCodeWriter s(double v) {
+        put('S').putNumber(v);
+        return this;
+    }
+
+    /**
+     * 直接设置模态值（用于分段生成时假定某条指令已输出）
+     */
+    public void setModal(double x, double y, double f) {
+        lastX = x;
+        lastY = y;
+        lastF = f;
+    }
+
+    public double lastX() {
+        return lastX;
+    }
+
+    public double lastY() {
+        return lastY;
+    }
+
+    public double lastF() {
+        return lastF;
+    }
+
+    public void copyModalFrom(GCodeWriter other) {
+        setModal(other.lastX, other.lastY, other.lastF);
+    }
+
+    // ---- 缓冲区管理 ----
+
+    /**
+     * 追加另一个写入器（内存模式）的内容，并继承其模态状态
+     */
+    public void append(GCodeWriter other) throws IOException {
+        if (channel != null && other.pos > buf.length - pos) {
+            flush();
+            writeFully(ByteBuffer.wrap(other.buf, 0, other.pos));
+        } else {
+            ensure(other.pos);
+            System.arraycopy(other.buf, 0, buf, pos, other.pos);
+            pos += other.pos;
+        }
+        copyModalFrom(other);
+    }
+
+    /**
+     * 将缓冲区内容写入通道
+     */
+    public void flush() throws IOException {
+        if (channel == null || pos == 0) {
+            return;
+        }
+        writeFully(ByteBuffer.wrap(buf, 0, pos));
+        pos = 0;
+        lineMark = -1;
+    }
+
+    /**
+     * 已写出的总字节数（含缓冲区中尚未 flush 的部分）
+     */
+    public long size() {
+        return flushedBytes + pos;
+    }
+
+    /**
+     * 清空内容与模态状态以便复用
+     */
+    public void reset() {
+        pos = 0;
+        flushedBytes = 0;
+        lineMark = -1;
+        setModal(Double.NaN, Double.NaN, Double.NaN);
+    }
+
+    private void writeFully(ByteBuffer bytes) throws IOException {
+        while (bytes.hasRemaining()) {
+            flushedBytes += channel.write(bytes);
+        }
+    }
+
+    private void ensure(int n) {
+        if (pos + n <= buf.length) {
+            return;
+        }
+        if (channel != null && n <= buf.length) {
+            try {
+                flush();
+            } catch (IOException e) {
+                throw new GCodeIOException(e);
+            }
+            if (pos + n <= buf.length) {
+                return;
+            }
+        }
+        byte[] grown = new byte[Math.max(buf.length * 2, pos + n)];
+        System.arraycopy(buf, 0, grown, 0, pos);
+        buf = grown;
+    }
+
+    private void reverse(int from, int to) {
+        while (from < to) {
+            byte t = buf[from];
+            buf[from++] = buf[to];
+            buf[to--] = t;
+        }
+    }
+
+    /**
+     * 写入过程中自动 flush 失败时抛出，调用方可用 {@link #unwrap} 取回原始异常
+     */
+    public static final class GCodeIOException extends RuntimeException {
+        GCodeIOException(IOException cause) {
+            super(cause);
+        }
+
+        public IOException unwrap() {
+            return (IOException) getCause();
+        }
+    }
+
+    // ---- 文本格式化（用于头部注释等非热点路径） ----
+
+    /**
+     * 按 JS Number.toString 的方式输出数值（整数不带小数点）
+     */
+    public static String jsNumber(double v) {
+        if (v == Math.rint(v) && Math.abs(v) < 1e15) {
+            return Long.toString((long) v);
+        }
+        return new BigDecimal(Double.toString(v)).stripTrailingZeros().toPlainString();
+    }
+
+    /**
+     * 与 JS Number.prototype.toFixed 一致（按精确二进制值四舍五入，负数保留符号）
+     */
+    public static String toFixed(double v, int digits) {
+        String s = new BigDecimal(Math.abs(v)).setScale(digits, RoundingMode.HALF_UP).toPlainString();
+        return v < 0 ? "-" + s : s;
+    }
+}
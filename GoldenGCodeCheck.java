@@ -0,0 +1,145 @@
+package com.example.opencv.webwhiteboard;
+
+import org.json.JSONArray;
+import org.json.JSONObject;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+
+/**
+ * 扫描G代码对照测试：用 golden/fixtures.json 中的合成栅格运行 {@link ScanGCodeEngine}，
+ * 与 JS 生成器（lib/gcode.ts 的 generateScanGCodeFromRaster）输出的 golden/*.nc 逐行比对；
+ * 用 golden/pixel-fixtures.json 中的合成彩色图像运行 {@link RasterPipeline} 的灰度化，
+ * 与 lib/gcode.ts 的 platformPixelsToGray 输出的 golden/*.gray 逐字节比对
+ * <p>
+ * 桌面 JVM 运行（不依赖 Android 类），参数为对照文件目录，默认 golden；存在差异时以状态码 1 退出。
+ * 对照文件由 golden/generate.mjs 生成。
+ */
+public class GoldenGCodeCheck {
+
+    public static void main(String[] args) throws Exception {
+        File dir = new File(args.length > 0 ? args[0] : "golden");
+        JSONArray fixtures = new JSONArray(new String(Files.readAllBytes(new File(dir, "fixtures.json").toPath()),
+                StandardCharsets.UTF_8));
+        int failed = 0;
+        for (int i = 0; i < fixtures.length(); i++) {
+            JSONObject f = fixtures.getJSONObject(i);
+            String name = f.getString("name");
+            File golden = new File(dir, name + ".nc");
+            if (!golden.exists()) {
+                System.out.println("缺少对照文件: " + golden);
+                failed++;
+                continue;
+            }
+            String expected = new String(Files.readAllBytes(golden.toPath()), StandardCharsets.UTF_8);
+            String actual = generate(f);
+            String diff = firstDifference(expected, actual);
+            if (diff == null) {
+                System.out.println("一致   " + name + " (" + actual.length() + " 字符)");
+            } else {
+                System.out.println("不一致 " + name + ": " + diff);
+                failed++;
+            }
+        }
+        JSONArray pixelFixtures = new JSONArray(new String(Files.readAllBytes(
+                new File(dir, "pixel-fixtures.json").toPath()), StandardCharsets.UTF_8));
+        for (int i = 0; i < pixelFixtures.length(); i++) {
+            JSONObject f = pixelFixtures.getJSONObject(i);
+            String name = f.getString("name");
+            File golden = new File(dir, name + ".gray");
+            if (!golden.exists()) {
+                System.out.println("缺少对照文件: " + golden);
+                failed++;
+                continue;
+            }
+            byte[] expected = Files.readAllBytes(golden.toPath());
+            byte[] actual = toGray(f);
+            String diff = firstPixelDifference(expected, actual, f.getInt("width"));
+            if (diff == null) {
+                System.out.println("一致   " + name + " (" + actual.length + " 像素)");
+            } else {
+                System.out.println("不一致 " + name + ": " + diff);
+                failed++;
+            }
+        }
+        int total = fixtures.length() + pixelFixtures.length();
+        System.out.println(total - failed + "/" + total + " 一致");
+        if (failed > 0) {
+            System.exit(1);
+        }
+    }
+
+    /**
+     * 按对照文件的参数生成原生扫描G代码
+     */
+    static String generate(JSONObject fixture) throws Exception {
+        int width = fixture.getInt("width");
+        int height = fixture.getInt("height");
+        JSONObject settingsJson = new JSONObject(fixture.getJSONObject("settings").toString());
+        settingsJson.put("layerName", fixture.getString("layerName"));
+        settingsJson.put("itemCount", fixture.getInt("itemCount"));
+        settingsJson.put("platformWidth", fixture.getDouble("platformWidth"));
+        settingsJson.put("platformHeight", fixture.getDouble("platformHeight"));
+        ScanGCodeEngine.Settings settings = ScanGCodeEngine.Settings.fromJson(settingsJson.toString());
+        byte[] raster = BenchFixtures.raster(fixture.getString("pattern"), width, height, fixture.getInt("seed"));
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        new ScanGCodeEngine(ByteBuffer.wrap(raster), width, height, settings).generate(Channels.newChannel(out));
+        return new String(out.toByteArray(), StandardCharsets.UTF_8);
+    }
+
+    /**
+     * 按对照文件的参数做原生灰度化（与 PlatformRasterizer 逐行调用的方式相同）
+     */
+    static byte[] toGray(JSONObject fixture) throws Exception {
+        int width = fixture.getInt("width");
+        int height = fixture.getInt("height");
+        JSONObject settings = fixture.getJSONObject("settings");
+        int[] argb = BenchFixtures.argb(width, height, fixture.getInt("seed"));
+        byte[] gray = new byte[width * height];
+        int[] row = new int[width];
+        for (int y = 0; y < height; y++) {
+            System.arraycopy(argb, y * width, row, 0, width);
+            RasterPipeline.toGray(row, width, settings.optBoolean("negativeImage", false), gray, y * width);
+        }
+        return gray;
+    }
+
+    /**
+     * @return 第一个不同像素的描述，完全一致时返回 null
+     */
+    static String firstPixelDifference(byte[] expected, byte[] actual, int width) {
+        if (expected.length != actual.length) {
+            return "像素数不同：期望 " + expected.length + "，实际 " + actual.length;
+        }
+        for (int i = 0; i < expected.length; i++) {
+            if (expected[i] != actual[i]) {
+                return "像素 (" + i % width + ", " + i / width + ") 期望 " + (expected[i] & 0xFF)
+                        + "，实际 " + (actual[i] & 0xFF);
+            }
+        }
+        return null;
+    }
+
+    /**
+     * @return 第一处差异的描述，完全一致时返回 null
+     */
+    static String firstDifference(String expected, String actual) {
+        if (expected.equals(actual)) {
+            return null;
+        }
+        String[] a = expected.split("\n", -1);
+        String[] b = actual.split("\n", -1);
+        int n = Math.min(a.length, b.length);
+        for (int i = 0; i < n; i++) {
+            if (!a[i].equals(b[i])) {
+                return "第 " + (i + 1) + " 行\n  期望: " + a[i] + "\n  实际: " + b[i];
+            }
+        }
+        return "行数不同：期望 " + a.length + " 行，实际 " + b.length + " 行";
+    }
+}
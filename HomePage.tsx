@@ -5,6 +5,9 @@ import { parse as parseSvgson } from 'svgson';
 import type { CanvasItemData } from './types';
 import { CanvasItemType } from './types';
 import { parseSvgWithSvgson, createCenterCoordinateDrawing } from './WhiteboardPage';
+import { callAndroidAsync, hasAndroidMethod, onAndroidProgress, setHomePageReady } from './lib/androidBridge';
+import { loadTiledImageInfo, renderPreview } from './lib/tiledImage';
+import type { TiledImageInfo } from './lib/tiledImage';
 
 // 全局类型声明，用于Android WebView接口
 declare global {
@@ -12,16 +15,28 @@ declare global {
     cv: any; // OpenCV.js库
     setWhiteboardImage?: (base64Data?: string) => void; // Android设置白板图片接口
     setHomePageImage?: (base64Data?: string) => void; // Android设置首页图片接口
+    setHomePageTiledImage?: (infoUrl: string) => void; // Android以分块方式设置首页大图
     setCanvasSize?: (width: number, height: number) => void; // Android设置画布尺寸接口
     __pendingHomePageImage?: string; // 缓存首页图片数据
     __pendingWhiteboardImage?: { base64Data?: string; timestamp: number }; // 缓存白板图片数据
     // Android 调用：导入矢量并跳转白板
     setWhiteboardVector?: (content: string, ext?: string) => void;
+    // Android 调用：以虚拟地址导入矢量并跳转白板
+    setWhiteboardVectorUrl?: (url: string, ext?: string) => void;
     // 缓存矢量导入数据，供白板页面读取
-    __pendingVectorImport?: { content: string; ext: string } | null;
+    __pendingVectorImport?: { content?: string; url?: string; ext: string } | null;
   }
 }
 
+// 位图矢量化参数（potrace 与原生端共用）
+const TRACE_OPTIONS = {
+  threshold: 128,
+  turdSize: 2,
+  alphaMax: 1,
+  optTolerance: 0.2,
+  optCurve: true
+};
+
 const HomePage: React.FC = () => {
   const navigate = useNavigate();
   const location = useLocation();
@@ -34,6 +49,8 @@ const HomePage: React.FC = () => {
   const [isLoading, setIsLoading] = useState(false); // 加载状态
   const [isBrightnessContrastApplied, setIsBrightnessContrastApplied] = useState(false); // 是否已应用亮度和对比度调节
   const [baseImageForBrightnessContrast, setBaseImageForBrightnessContrast] = useState<string | null>(null); // 用于亮度和对比度调节的基础图片
+  // 分块导入的大图：显示的是按屏幕尺寸生成的预览，未编辑时裁剪与导出按原图读取
+  const [tiledSource, setTiledSource] = useState<{ info: TiledImageInfo; previewUrl: string } | null>(null);
 
   const fileInputRef = useRef<HTMLInputElement>(null); // 文件输入框引用
 
@@ -41,6 +58,53 @@ const HomePage: React.FC = () => {
 
 
 
+  // 原生端传入的可能是本地文件的虚拟地址（https://appassets.androidplatform.net/local/...），
+  // 读取为同源的 blob URL，避免绘制到画布后被跨域污染
+  const applyNativeImage = (src: string) => {
+    const apply = (url: string) => {
+      setTiledSource(null);
+      setImage(url);
+      setOriginalImage(url);
+      setBaseImageForBrightnessContrast(url);
+    };
+    if (!/^https?:\/\//.test(src)) {
+      apply(src);
+      return;
+    }
+    fetch(src)
+      .then(response => {
+        if (!response.ok) {
+          throw new Error(`HTTP ${response.status}`);
+        }
+        return response.blob();
+      })
+      .then(blob => apply(URL.createObjectURL(blob)))
+      .catch(e => {
+        console.error('[首页] 加载原生图片失败:', e);
+        alert('无法加载图片');
+      });
+  };
+
+  // 超大图片：只读取与屏幕尺寸相当的一级分块作为预览
+  const applyTiledImage = async (infoUrl: string) => {
+    try {
+      const info = await loadTiledImageInfo(infoUrl);
+      const maxEdge = Math.max(window.innerWidth, window.innerHeight) * (window.devicePixelRatio || 1);
+      const previewUrl = await renderPreview(info, maxEdge);
+      console.log(`[首页] 分块导入大图 ${info.width}x${info.height}，预览已生成`);
+      setImage(previewUrl);
+      setOriginalImage(previewUrl);
+      setBaseImageForBrightnessContrast(previewUrl);
+      setTiledSource({ info, previewUrl });
+    } catch (e) {
+      console.error('[首页] 加载分块图片失败:', e);
+      alert('无法加载图片');
+    }
+  };
+
+  // 显示的仍是未经编辑的预览时，裁剪与导出可以直接使用原图分块
+  const tiledUnedited = tiledSource && image === tiledSource.previewUrl ? tiledSource : null;
+
   // 提供给Android调用的图片设置接口
   useEffect(() => {
     (window as any).setHomePageImage = (base64Data?: string) => {
@@ -68,12 +132,14 @@ const HomePage: React.FC = () => {
       }else{
       console.log('[首页] Android调用setHomePageImage，base64长度:', base64Data.length);
       console.log('[首页] base64Data前100:', base64Data.substring(0, 100));
-      setImage(base64Data);
-      setOriginalImage(base64Data);
-      setBaseImageForBrightnessContrast(base64Data);
+      applyNativeImage(base64Data);
       }
     };
 
+    (window as any).setHomePageTiledImage = (infoUrl: string) => {
+      applyTiledImage(infoUrl);
+    };
+
     // 提供给Android调用的白板跳转接口
     (window as any).setWhiteboardImage = (base64Data?: string) => {
       if (base64Data) {
@@ -110,6 +176,17 @@ const HomePage: React.FC = () => {
       }
     };
 
+    // Android 调用：以虚拟地址传入矢量文件，由白板页流式读取
+    (window as any).setWhiteboardVectorUrl = (url: string, ext: string = 'svg') => {
+      try {
+        (window as any).__pendingVectorImport = { url, ext: (ext || 'svg').toLowerCase() };
+        navigate('/whiteboard');
+      } catch (e) {
+        console.error('setWhiteboardVectorUrl 失败:', e);
+        alert('无法导入矢量数据');
+      }
+    };
+
     // Android 调用：设置矢量并跳转白板
     (window as any).setWhiteboardVector = (content: string, ext: string = 'svg') => {
       try {
@@ -125,9 +202,7 @@ const HomePage: React.FC = () => {
     if ((window as any).__pendingHomePageImage) {
       const cachedData = (window as any).__pendingHomePageImage;
       console.log('[首页] 发现缓存的图片数据，长度:', cachedData.length);
-      setImage(cachedData);
-      setOriginalImage(cachedData);
-      setBaseImageForBrightnessContrast(cachedData);
+      applyNativeImage(cachedData);
       delete (window as any).__pendingHomePageImage;
     }
 
@@ -171,11 +246,17 @@ const HomePage: React.FC = () => {
       delete (window as any).__pendingWhiteboardImage;
     }
 
+    // 回调已注册，执行原生端排队推送的输入
+    setHomePageReady(true);
+
     // // 清理函数：当组件卸载时，设置一个空的处理函数
     return () => {
+      setHomePageReady(false);
       delete (window as any).setHomePageImage;
+      delete (window as any).setHomePageTiledImage;
       delete (window as any).setWhiteboardImage;
       delete (window as any).setWhiteboardVector;
+      delete (window as any).setWhiteboardVectorUrl;
     };
   }, [navigate]);
 
@@ -610,8 +691,47 @@ const HomePage: React.FC = () => {
     });
   }
 
+  // 原生端矢量化：图片写入缓存目录后由原生端解码并生成SVG，返回SVG内容
+  const convertImageToSVGNative = async (base64Image: string): Promise<string> => {
+    const sourcePath: string = await callAndroidAsync('saveTempFile', base64Image, 'trace_source.png');
+    if (!sourcePath) {
+      throw new Error('保存临时图片失败');
+    }
+    const jobId = `trace-${Date.now()}`;
+    const unsubscribe = onAndroidProgress(jobId, event => {
+      console.log(`原生矢量化 ${event.stage}: ${Math.round(event.progress * 100)}%`);
+    });
+    try {
+      const raw = await callAndroidAsync('traceBitmap', sourcePath, JSON.stringify({
+        jobId,
+        ...TRACE_OPTIONS,
+      }));
+      const result = typeof raw === 'string' ? (raw ? JSON.parse(raw) : null) : raw;
+      if (!result) {
+        throw new Error('原生矢量化失败');
+      }
+      const response = await fetch(result.url);
+      if (!response.ok) {
+        throw new Error(`读取SVG失败: ${response.status}`);
+      }
+      const svg = await response.text();
+      console.log(`原生矢量化: ${result.width}×${result.height}, ${result.paths} 条路径, ${result.ms} ms`);
+      return svg;
+    } finally {
+      unsubscribe();
+    }
+  };
+
   // 使用potrace库将图片转换为SVG
   const convertImageToSVG = async (base64Image: string): Promise<string> => {
+    // 原生端可用时优先在原生端矢量化，失败时退回 potrace
+    if (hasAndroidMethod('traceBitmap') && hasAndroidMethod('saveTempFile')) {
+      try {
+        return await convertImageToSVGNative(base64Image);
+      } catch (error) {
+        console.warn('原生矢量化失败，改用 potrace:', error);
+      }
+    }
     return new Promise((resolve, reject) => {
       try {
         // 创建canvas来处理图片
@@ -637,13 +757,7 @@ const HomePage: React.FC = () => {
                   const buffer = Buffer.from(arrayBuffer);
                   
                   // 使用Potrace将位图转换为SVG
-                  potrace.trace(buffer, {
-                    threshold: 128,
-                    turdSize: 2,
-                    alphaMax: 1,
-                    optTolerance: 0.2,
-                    optCurve: true
-                  }, (err: any, svg: string) => {
+                  potrace.trace(buffer, TRACE_OPTIONS, (err: any, svg: string) => {
                     if (err) {
                       console.error('SVG转换失败:', err);
                       reject(new Error('SVG转换失败'));
@@ -818,7 +932,8 @@ const HomePage: React.FC = () => {
   const handleNextStep = () => {
     if (image) {
       console.log('HomePage: 有图片，跳转到白板页面');
-      navigate('/whiteboard', { state: { image } });
+      // 未编辑的分块大图：白板显示预览，导出时由原生端读取原图
+      navigate('/whiteboard', { state: { image, sourceHref: tiledUnedited?.info.sourceUrl || undefined } });
     } else {
       console.log('HomePage: 无图片，跳转到白板页面1');
       navigate('/whiteboard');
@@ -1039,7 +1154,7 @@ const HomePage: React.FC = () => {
             <button onClick={() => { if (!baseImageForBrightnessContrast) return; if (window.cv && window.cv.GaussianBlur) { applyGaussianBlurOpenCV(baseImageForBrightnessContrast, 15, (result) => { setBaseImageForBrightnessContrast(result); }); } else { alert('OpenCV.js 正在加载，请稍后重试'); } }} className="px-4 py-2 bg-blue-500 text-white rounded hover:bg-blue-600">高斯模糊</button>
             <button onClick={handleEdgeExtractionAndVectorization} className="px-4 py-2 bg-blue-500 text-white rounded hover:bg-blue-600">线框提取</button>
             <button onClick={() => { if (!baseImageForBrightnessContrast) return; if (window.cv && window.cv.rotate) { applyRotate90OpenCV(baseImageForBrightnessContrast, (result) => { setBaseImageForBrightnessContrast(result); }); } else { alert('OpenCV.js 正在加载，请稍后重试'); } }} className="px-4 py-2 bg-blue-500 text-white rounded hover:bg-blue-600">旋转</button>
-            <button onClick={() => { if (!image) return; navigate('/crop', { state: { image, original: originalImage } }); }} className="px-4 py-2 bg-blue-500 text-white rounded hover:bg-blue-600">裁剪</button>
+            <button onClick={() => { if (!image) return; navigate('/crop', { state: { image, original: originalImage, tiled: tiledUnedited?.info } }); }} className="px-4 py-2 bg-blue-500 text-white rounded hover:bg-blue-600">裁剪</button>
             <button onClick={() => { if (!baseImageForBrightnessContrast) return; if (window.cv && window.cv.flip) { applyFlipHorizontalOpenCV(baseImageForBrightnessContrast, (result) => { setBaseImageForBrightnessContrast(result); }); } else { alert('OpenCV.js 正在加载，请稍后重试'); } }} className="px-4 py-2 bg-blue-500 text-white rounded hover:bg-blue-600">水平翻转</button>
             <button onClick={() => { if (!baseImageForBrightnessContrast) return; if (window.cv && window.cv.flip) { applyFlipVerticalOpenCV(baseImageForBrightnessContrast, (result) => { setBaseImageForBrightnessContrast(result); }); } else { alert('OpenCV.js 正在加载，请稍后重试'); } }} className="px-4 py-2 bg-blue-500 text-white rounded hover:bg-blue-600">垂直翻转</button>
             <button onClick={resetToOriginal} className="px-4 py-2 bg-red-500 text-white rounded hover:bg-red-600">撤销操作</button>
@@ -0,0 +1,138 @@
+package com.example.opencv.webwhiteboard;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * PLT/HPGL 流式解析，语义与 WhiteboardPage.tsx 中 simpleParseHPGL 及其折线重建一致：
+ * 只处理以 ';' 结尾的 PU / PD / PA 指令，PD 开始新折线，PU 结束折线。
+ */
+public class HpglPolylineReader {
+
+    private final List<Polyline> result = new ArrayList<>();
+    private Polyline current = new Polyline();
+    private double posX, posY;
+    private boolean penDown;
+
+    public List<Polyline> read(Reader in) throws IOException {
+        char[] buffer = new char[64 * 1024];
+        StringBuilder segment = new StringBuilder(256);
+        int n;
+        while ((n = in.read(buffer)) > 0) {
+            for (int i = 0; i < n; i++) {
+                char c = buffer[i];
+                if (c == ';') {
+                    command(segment);
+                    segment.setLength(0);
+                } else {
+                    segment.append(c);
+                }
+            }
+        }
+        finishPolyline();
+        return result;
+    }
+
+    private void command(CharSequence segment) {
+        int start = findCommand(segment);
+        if (start < 0) {
+            return;
+        }
+        char a = Character.toUpperCase(segment.charAt(start + 1));
+        List<double[]> points = parsePoints(segment, start + 2);
+        if (a == 'U') {
+            finishPolyline();
+            penDown = false;
+            for (double[] pt : points) {
+                posX = pt[0];
+                posY = pt[1];
+            }
+        } else if (a == 'D') {
+            finishPolyline();
+            penDown = true;
+            current.add(posX, posY);
+            for (double[] pt : points) {
+                posX = pt[0];
+                posY = pt[1];
+                current.add(posX, posY);
+            }
+        } else {
+            for (double[] pt : points) {
+                posX = pt[0];
+                posY = pt[1];
+                if (penDown) {
+                    current.add(posX, posY);
+                }
+            }
+        }
+    }
+
+    /**
+     * 查找段内第一个 PU / PD / PA（不区分大小写）
+     */
+    private static int findCommand(CharSequence s) {
+        for (int i = 0; i + 1 < s.length(); i++) {
+            char p = Character.toUpperCase(s.charAt(i));
+            char q = Character.toUpperCase(s.charAt(i + 1));
+            if (p == 'P' && (q == 'U' || q == 'D' || q == 'A')) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private static List<double[]> parsePoints(CharSequence s, int from) {
+        List<double[]> points = new ArrayList<>();
+        List<String> tokens = new ArrayList<>();
+        int start = from;
+        for (int i = from; i <= s.length(); i++) {
+            if (i == s.length() || s.charAt(i) == ',') {
+                String token = s.subSequence(start, i).toString().trim();
+                if (!token.isEmpty()) {
+                    tokens.add(token);
+                }
+                start = i + 1;
+            }
+        }
+        for (int i = 0; i + 1 < tokens.size(); i += 2) {
+            double x = parseLeadingNumber(tokens.get(i));
+            double y = parseLeadingNumber(tokens.get(i + 1));
+            if (!Double.isNaN(x) && !Double.isNaN(y)) {
+                points.add(new double[]{x, y});
+            }
+        }
+        return points;
+    }
+
+    /**
+     * 与 JS parseFloat 一致：解析开头的数字部分
+     */
+    private static double parseLeadingNumber(String token) {
+        int end = 0;
+        int len = token.length();
+        if (end < len && (token.charAt(end) == '-' || token.charAt(end) == '+')) end++;
+        while (end < len && (Character.isDigit(token.charAt(end)) || token.charAt(end) == '.')) end++;
+        if (end < len && (token.charAt(end) == 'e' || token.charAt(end) == 'E')) {
+            int exp = end + 1;
+            if (exp < len && (token.charAt(exp) == '-' || token.charAt(exp) == '+')) exp++;
+            if (exp < len && Character.isDigit(token.charAt(exp))) {
+                end = exp;
+                while (end < len && Character.isDigit(token.charAt(end))) end++;
+            }
+        }
+        try {
+            return Double.parseDouble(token.substring(0, end));
+        } catch (NumberFormatException e) {
+            return Double.NaN;
+        }
+    }
+
+    private void finishPolyline() {
+        if (current.size() > 1) {
+            result.add(current);
+        }
+        current = new Polyline();
+    }
+}
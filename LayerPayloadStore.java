@@ -0,0 +1,225 @@
+package com.example.opencv.webwhiteboard;
+
+import android.content.Intent;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.util.UUID;
+
+/**
+ * onNextStep 图层数据的大载荷传递
+ * <p>
+ * 图层 JSON 中内嵌的 data:...;base64 图片会撑爆 Intent 的 Binder 事务上限
+ * （TransactionTooLargeException），序列化本身也很慢。这里把载荷写入缓存文件，
+ * Intent 中只携带文件路径；图片按内容的 SHA-256 单独存储一次，载荷中替换为 file:// 引用。
+ * 小载荷仍直接放入 Intent，保持与原有接收方兼容。
+ */
+public class LayerPayloadStore {
+
+    public static final String EXTRA_LAYER_DATA = "layerData";
+    public static final String EXTRA_LAYER_DATA_FILE = "layerDataFile";
+
+    // 直接放入 Intent 的载荷上限（字符数），远小于 1MB 的 Binder 事务缓冲
+    static final int INLINE_LIMIT = 128 * 1024;
+    // 载荷文件与图片的保留时长，过期的在下次写入时清理；图片每次被引用时刷新修改时间
+    private static final long PAYLOAD_MAX_AGE_MS = 60 * 60 * 1000L;
+
+    private static final String DATA_PREFIX = "data:";
+    private static final String BASE64_MARKER = ";base64,";
+    private static final String BLOB_URI_PREFIX = "file://";
+
+    private final File payloadDir;
+    private final File blobDir;
+
+    public LayerPayloadStore(File cacheDir) {
+        payloadDir = new File(cacheDir, "layer_payload");
+        blobDir = new File(cacheDir, "layer_blobs");
+    }
+
+    /**
+     * 按载荷大小填充 Intent：小载荷直接携带，大载荷写入文件后只携带路径。
+     * 涉及磁盘写入，应在后台线程调用。
+     */
+    public void putInto(Intent intent, String data) throws IOException {
+        if (data.length() <= INLINE_LIMIT) {
+            intent.putExtra(EXTRA_LAYER_DATA, data);
+        } else {
+            long start = System.nanoTime();
+            File file = store(data);
+            NativeMetrics.recordWrite("layerPayload", file.length(), System.nanoTime() - start);
+            intent.putExtra(EXTRA_LAYER_DATA_FILE, file.getAbsolutePath());
+        }
+    }
+
+    /**
+     * 提取内嵌图片并写入载荷文件
+     *
+     * @return 载荷文件
+     */
+    public File store(String data) throws IOException {
+        if (!payloadDir.exists()) {
+            payloadDir.mkdirs();
+        }
+        if (!blobDir.exists()) {
+            blobDir.mkdirs();
+        }
+        deleteExpired(payloadDir);
+        deleteExpired(blobDir);
+        File file = new File(payloadDir, "layers_" + UUID.randomUUID() + ".json");
+        try (Writer out = new OutputStreamWriter(new FileOutputStream(file), StandardCharsets.UTF_8)) {
+            int pos = 0;
+            while (true) {
+                int start = data.indexOf(DATA_PREFIX, pos);
+                int marker = start < 0 ? -1 : data.indexOf(BASE64_MARKER, start);
+                // 只处理 "data:<mime>;base64," 形式，mime 段不应很长
+                if (start < 0 || marker < 0 || marker - start > 100) {
+                    if (start >= 0) {
+                        out.write(data, pos, start + DATA_PREFIX.length() - pos);
+                        pos = start + DATA_PREFIX.length();
+                        continue;
+                    }
+                    out.write(data, pos, data.length() - pos);
+                    break;
+                }
+                int payloadStart = marker + BASE64_MARKER.length();
+                int end = payloadStart;
+                while (end < data.length() && isBase64Char(data.charAt(end))) {
+                    end++;
+                }
+                String mimeType = data.substring(start + DATA_PREFIX.length(), marker);
+                File blob = storeBlob(mimeType, data.substring(payloadStart, end));
+                out.write(data, pos, start - pos);
+                out.write(BLOB_URI_PREFIX + blob.getAbsolutePath());
+                pos = end;
+            }
+        }
+        return file;
+    }
+
+    private File storeBlob(String mimeType, String base64) throws IOException {
+        byte[] bytes = android.util.Base64.decode(base64, android.util.Base64.DEFAULT);
+        File blob = new File(blobDir, TempFileCache.sha256(bytes) + "." + extensionFor(mimeType));
+        // 已存在的图片刷新修改时间，保留期从最近一次引用算起
+        if (!blob.setLastModified(System.currentTimeMillis())) {
+            // 先写临时文件再重命名，避免并发读到不完整的内容
+            File tmp = new File(blobDir, blob.getName() + "." + UUID.randomUUID() + ".tmp");
+            try (FileOutputStream out = new FileOutputStream(tmp)) {
+                out.write(bytes);
+            }
+            if (!tmp.renameTo(blob)) {
+                tmp.delete();
+            }
+        }
+        return blob;
+    }
+
+    private static void deleteExpired(File dir) {
+        File[] files = dir.listFiles();
+        if (files == null) {
+            return;
+        }
+        long now = System.currentTimeMillis();
+        for (File f : files) {
+            if (now - f.lastModified() > PAYLOAD_MAX_AGE_MS) {
+                f.delete();
+            }
+        }
+    }
+
+    /**
+     * 接收方读取图层数据：优先读取载荷文件（内存映射后解码），否则读取 Intent 中的字符串。
+     * 载荷中的图片为 file:// 引用，需要 data URL 时可再调用 {@link #inlineBlobs(String)}。
+     */
+    public static String load(Intent intent) throws IOException {
+        String path = intent.getStringExtra(EXTRA_LAYER_DATA_FILE);
+        if (path == null) {
+            return intent.getStringExtra(EXTRA_LAYER_DATA);
+        }
+        try (FileChannel channel = new FileInputStream(path).getChannel()) {
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            return StandardCharsets.UTF_8.decode(buffer).toString();
+        }
+    }
+
+    /**
+     * 将载荷中的图片引用还原为 data URL（兼容只接受内嵌图片的旧接收方）
+     */
+    public String inlineBlobs(String payload) throws IOException {
+        String prefix = BLOB_URI_PREFIX + blobDir.getAbsolutePath() + "/";
+        StringBuilder sb = new StringBuilder(payload.length());
+        int pos = 0;
+        int start;
+        while ((start = payload.indexOf(prefix, pos)) >= 0) {
+            int end = payload.indexOf('"', start);
+            if (end < 0) {
+                end = payload.length();
+            }
+            File blob = new File(payload.substring(BLOB_URI_PREFIX.length() + start, end));
+            sb.append(payload, pos, start);
+            sb.append(DATA_PREFIX).append(mimeTypeFor(blob.getName())).append(BASE64_MARKER);
+            sb.append(android.util.Base64.encodeToString(readAll(blob), android.util.Base64.NO_WRAP));
+            pos = end;
+        }
+        sb.append(payload, pos, payload.length());
+        return sb.toString();
+    }
+
+    private static byte[] readAll(File file) throws IOException {
+        byte[] bytes = new byte[(int) file.length()];
+        try (FileInputStream in = new FileInputStream(file)) {
+            int off = 0;
+            int n;
+            while (off < bytes.length && (n = in.read(bytes, off, bytes.length - off)) > 0) {
+                off += n;
+            }
+        }
+        return bytes;
+    }
+
+    private static boolean isBase64Char(char c) {
+        return (c >= 'A' && c <= 'Z') || (c >= 'a' && c <= 'z') || (c >= '0' && c <= '9')
+                || c == '+' || c == '/' || c == '=';
+    }
+
+    private static String extensionFor(String mimeType) {
+        switch (mimeType) {
+            case "image/png":
+                return "png";
+            case "image/jpeg":
+                return "jpg";
+            case "image/webp":
+                return "webp";
+            case "image/gif":
+                return "gif";
+            case "image/svg+xml":
+                return "svg";
+            default:
+                return "bin";
+        }
+    }
+
+    private static String mimeTypeFor(String name) {
+        String ext = name.substring(name.lastIndexOf('.') + 1);
+        switch (ext) {
+            case "png":
+                return "image/png";
+            case "jpg":
+                return "image/jpeg";
+            case "webp":
+                return "image/webp";
+            case "gif":
+                return "image/gif";
+            case "svg":
+                return "image/svg+xml";
+            default:
+                return "application/octet-stream";
+        }
+    }
+}
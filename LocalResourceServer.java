@@ -0,0 +1,193 @@
+package com.example.opencv.webwhiteboard;
+
+import android.content.Context;
+import android.content.res.AssetFileDescriptor;
+import android.net.Uri;
+import android.webkit.MimeTypeMap;
+import android.webkit.WebResourceResponse;
+
+import java.io.BufferedInputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 通过 WebViewClient.shouldInterceptRequest 向页面提供本地文件
+ * <p>
+ * 本地文件或 content:// URI 注册后得到一个虚拟地址
+ * https://appassets.androidplatform.net/local/&lt;id&gt;，页面直接用该地址加载，
+ * 文件内容以流的形式交给 WebView，不再经过 byte[]、base64 和 JS 字符串。
+ * WebView 在自己的网络线程中分块读取，页面可以通过 fetch 的 ReadableStream 边读边处理。
+ */
+public class LocalResourceServer {
+
+    public static final String HOST = "appassets.androidplatform.net";
+    private static final String LOCAL_PREFIX = "/local/";
+
+    private static final int STREAM_BUFFER_SIZE = 64 * 1024;
+
+    private final Context context;
+    private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+
+    private static class Entry {
+        final File file;
+        final Uri uri;
+        final String mimeType;
+
+        Entry(File file, Uri uri, String mimeType) {
+            this.file = file;
+            this.uri = uri;
+            this.mimeType = mimeType;
+        }
+    }
+
+    public LocalResourceServer(Context context) {
+        this.context = context.getApplicationContext();
+    }
+
+    /**
+     * 注册本地文件路径（支持 file:// 前缀）或 content:// URI
+     *
+     * @return 页面可访问的虚拟地址，文件不存在时返回 null
+     */
+    public String register(String pathOrUri) {
+        Entry entry;
+        if (pathOrUri.startsWith("content://")) {
+            Uri uri = Uri.parse(pathOrUri);
+            String mimeType = context.getContentResolver().getType(uri);
+            if (mimeType == null) {
+                mimeType = guessMimeType(uri.getPath());
+            }
+            entry = new Entry(null, uri, mimeType);
+        } else {
+            String path = pathOrUri.startsWith("file://") ? pathOrUri.substring(7) : pathOrUri;
+            File file = new File(path);
+            if (!file.exists()) {
+                return null;
+            }
+            entry = new Entry(file, null, guessMimeType(file.getName()));
+        }
+        String id = UUID.randomUUID().toString();
+        entries.put(id, entry);
+        return "https://" + HOST + LOCAL_PREFIX + id;
+    }
+
+    /**
+     * 取消注册
+     */
+    public void unregister(String url) {
+        Uri uri = Uri.parse(url);
+        String path = uri.getPath();
+        if (HOST.equals(uri.getHost()) && path != null && path.startsWith(LOCAL_PREFIX)) {
+            entries.remove(path.substring(LOCAL_PREFIX.length()));
+        }
+    }
+
+    /**
+     * 在 Java 侧打开已注册地址对应的内容，用于原生预处理
+     *
+     * @return 输入流，地址未注册时返回 null
+     */
+    public InputStream openStream(String url) throws IOException {
+        Entry entry = lookup(Uri.parse(url));
+        if (entry == null) {
+            return null;
+        }
+        InputStream in = entry.file != null
+                ? new FileInputStream(entry.file)
+                : context.getContentResolver().openInputStream(entry.uri);
+        return in == null ? null : new BufferedInputStream(in, STREAM_BUFFER_SIZE);
+    }
+
+    private Entry lookup(Uri url) {
+        String path = url.getPath();
+        if (!HOST.equals(url.getHost()) || path == null || !path.startsWith(LOCAL_PREFIX)) {
+            return null;
+        }
+        return entries.get(path.substring(LOCAL_PREFIX.length()));
+    }
+
+    /**
+     * 处理拦截到的请求，非本服务的地址返回 null 交由 WebView 默认处理
+     */
+    public WebResourceResponse intercept(Uri url) {
+        if (url == null || !HOST.equals(url.getHost())) {
+            return null;
+        }
+        Entry entry = lookup(url);
+        if (entry == null) {
+            return notFound();
+        }
+        try {
+            InputStream in;
+            Map<String, String> headers = corsHeaders();
+            if (entry.file != null) {
+                in = new FileInputStream(entry.file);
+                headers.put("Content-Length", String.valueOf(entry.file.length()));
+            } else {
+                // 提供长度以便页面显示读取进度
+                AssetFileDescriptor afd = context.getContentResolver().openAssetFileDescriptor(entry.uri, "r");
+                if (afd == null) {
+                    return notFound();
+                }
+                if (afd.getLength() != AssetFileDescriptor.UNKNOWN_LENGTH) {
+                    headers.put("Content-Length", String.valueOf(afd.getLength()));
+                }
+                in = afd.createInputStream();
+            }
+            return new WebResourceResponse(entry.mimeType, null, 200, "OK", headers,
+                    new BufferedInputStream(in, STREAM_BUFFER_SIZE));
+        } catch (Exception e) {
+            e.printStackTrace();
+            return notFound();
+        }
+    }
+
+    private static Map<String, String> corsHeaders() {
+        // 页面来源为 file://，需要允许跨域，否则图片绘制到 canvas 后无法读回像素
+        Map<String, String> headers = new HashMap<>();
+        headers.put("Access-Control-Allow-Origin", "*");
+        headers.put("Cache-Control", "no-cache");
+        return headers;
+    }
+
+    private static WebResourceResponse notFound() {
+        return new WebResourceResponse("text/plain", "UTF-8", 404, "Not Found", corsHeaders(), null);
+    }
+
+    /**
+     * 获取已注册文件的扩展名（小写，不含点），用于判断矢量格式
+     */
+    public static String extensionOf(String pathOrUri) {
+        String path = pathOrUri.startsWith("content://") ? Uri.parse(pathOrUri).getPath() : pathOrUri;
+        if (path == null) {
+            return "";
+        }
+        int dot = path.lastIndexOf('.');
+        int slash = path.lastIndexOf('/');
+        return dot > slash ? path.substring(dot + 1).toLowerCase(Locale.ROOT) : "";
+    }
+
+    /**
+     * 根据文件扩展名确定 MIME 类型
+     */
+    static String guessMimeType(String name) {
+        if (name != null) {
+            int dot = name.lastIndexOf('.');
+            if (dot >= 0) {
+                String ext = name.substring(dot + 1).toLowerCase(Locale.ROOT);
+                String mime = MimeTypeMap.getSingleton().getMimeTypeFromExtension(ext);
+                if (mime != null) {
+                    return mime;
+                }
+            }
+        }
+        return "application/octet-stream";
+    }
+}
@@ -0,0 +1,541 @@
+package com.example.opencv.webwhiteboard;
+
+import org.json.JSONArray;
+import org.json.JSONObject;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.Writer;
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * 原生路径基准测试（桌面 JVM 运行，不依赖 Android 类）
+ * <p>
+ * 覆盖 saveBlobFile / saveTempFile 的 base64 解码与写入、页面加载时图片的读取与编码，以及扫描G代码、
+ * 多图层合并清理、矢量预处理、路径排序和位图矢量化等原生引擎。输入为 {@link BenchFixtures} 生成的
+ * 合成栅格与 DXF，每个用例分多种尺寸。
+ * <p>
+ * 用法：NativeBenchmark [名称过滤] [每个用例的测量秒数，默认 3]。每个用例先预热约 1 秒，再逐次计时，
+ * 输出次数、吞吐量（次/秒、输入 MB/秒）、p50/p99 延迟、每次调用的分配量与分配速率。分配量为所有线程
+ * 累计分配字节之差（包含线程池中的并行计算），需要 HotSpot 的 com.sun.management.ThreadMXBean，
+ * 不支持时显示 -。
+ */
+public class NativeBenchmark {
+
+    /**
+     * 单次操作
+     */
+    interface Op {
+        void run() throws Exception;
+    }
+
+    private static final class Case {
+        final String name;
+        // 每次操作的输入字节数，用于计算 MB/秒
+        final long bytes;
+        final Op op;
+
+        Case(String name, long bytes, Op op) {
+            this.name = name;
+            this.bytes = bytes;
+            this.op = op;
+        }
+    }
+
+    private static final long WARMUP_NANOS = 1000000000L;
+    private static final int MIN_WARMUP = 3;
+    private static final int MIN_SAMPLES = 10;
+
+    private final File workDir;
+    private final List<Case> cases = new ArrayList<>();
+
+    NativeBenchmark(File workDir) {
+        this.workDir = workDir;
+    }
+
+    public static void main(String[] args) throws Exception {
+        String filter = args.length > 0 ? args[0] : "";
+        double seconds = args.length > 1 ? Double.parseDouble(args[1]) : 3;
+        File workDir = Files.createTempDirectory("native-bench").toFile();
+        try {
+            NativeBenchmark bench = new NativeBenchmark(workDir);
+            bench.addCases();
+            System.out.println(String.format(Locale.ROOT, "%-36s %6s %10s %10s %10s %10s %12s %10s",
+                    "用例", "次数", "次/秒", "MB/秒", "p50(ms)", "p99(ms)", "分配MB/次", "分配MB/秒"));
+            for (Case c : bench.cases) {
+                if (c.name.contains(filter)) {
+                    bench.measure(c, (long) (seconds * 1e9));
+                }
+            }
+        } finally {
+            deleteRecursively(workDir);
+            WorkerPools.LAYERS.shutdown();
+        }
+    }
+
+    private void addCases() throws Exception {
+        // saveBlobFile：base64 解码后写入目标文件
+        for (int size : new int[]{256 * 1024, 4 * 1024 * 1024, 16 * 1024 * 1024}) {
+            String base64 = Base64.getEncoder().encodeToString(BenchFixtures.randomBytes(size, size));
+            File target = new File(workDir, "blob.bin");
+            add("base64.saveBlobFile/" + sizeLabel(size), size, () -> {
+                byte[] decoded = Base64.getMimeDecoder().decode(base64);
+                try (FileOutputStream fos = new FileOutputStream(target)) {
+                    fos.write(decoded);
+                }
+            });
+        }
+
+        // saveTempFile：data URL 去前缀、解码后存入内容寻址缓存；miss 每次删除缓存文件强制重新写入
+        TempFileCache cache = new TempFileCache(new File(workDir, "temp_cache"), TempFileCache.DEFAULT_BUDGET_BYTES);
+        for (int size : new int[]{256 * 1024, 4 * 1024 * 1024, 16 * 1024 * 1024}) {
+            String dataUrl = BenchFixtures.dataUrl(size, size + 1);
+            add("base64.saveTempFile.miss/" + sizeLabel(size), size, () -> {
+                String pureBase64 = dataUrl.contains(",") ? dataUrl.split(",")[1] : dataUrl;
+                cache.put(Base64.getMimeDecoder().decode(pureBase64), "png").delete();
+            });
+            add("base64.saveTempFile.hit/" + sizeLabel(size), size, () -> {
+                String pureBase64 = dataUrl.contains(",") ? dataUrl.split(",")[1] : dataUrl;
+                cache.put(Base64.getMimeDecoder().decode(pureBase64), "png");
+            });
+        }
+
+        // 页面加载时传递图片：旧方案整文件读入并 base64 编码注入脚本，现方案经 LocalResourceServer 分块读取
+        for (int size : new int[]{1024 * 1024, 8 * 1024 * 1024}) {
+            File image = new File(workDir, "image_" + size + ".png");
+            Files.write(image.toPath(), BenchFixtures.randomBytes(size, 7));
+            add("image.readEncode/" + sizeLabel(size), size, () -> {
+                String base64 = Base64.getEncoder().encodeToString(Files.readAllBytes(image.toPath()));
+                String js = "window.setWhiteboardImage('data:image/png;base64," + base64 + "');";
+                if (js.isEmpty()) {
+                    throw new IllegalStateException();
+                }
+            });
+            add("image.stream/" + sizeLabel(size), size, () -> {
+                byte[] buf = new byte[64 * 1024];
+                try (InputStream in = new FileInputStream(image)) {
+                    while (in.read(buf) >= 0) {
+                        // 只读取，模拟 WebView 消费响应流
+                    }
+                }
+            });
+        }
+
+        // 扫描G代码：灰度（噪声，最密集）、半调网屏（图形）、1 位栅格
+        int[][] scanSizes = {{500, 500}, {2000, 2000}, {4000, 3000}};
+        for (int[] s : scanSizes) {
+            int w = s[0], h = s[1];
+            byte[] noise = BenchFixtures.raster("noise", w, h, 42);
+            ScanGCodeEngine.Settings grey = scanSettings(false, 8);
+            add("scan.greyscale/" + w + "x" + h, (long) w * h,
+                    () -> new ScanGCodeEngine(ByteBuffer.wrap(noise), w, h, grey).generate(new NullChannel()));
+
+            byte[] shapes = BenchFixtures.raster("shapes", w, h, 1);
+            ScanGCodeEngine.Settings halftone = scanSettings(true, 8);
+            add("scan.halftone/" + w + "x" + h, (long) w * h,
+                    () -> new ScanGCodeEngine(ByteBuffer.wrap(shapes), w, h, halftone).generate(new NullChannel()));
+
+            byte[] packed = pack(shapes, w, h);
+            ScanGCodeEngine.Settings bits = scanSettings(true, 1);
+            add("scan.1bit/" + w + "x" + h, (long) w * h,
+                    () -> new ScanGCodeEngine(ByteBuffer.wrap(packed), w, h, 1, bits).generate(new NullChannel()));
+        }
+
+        // G 代码格式化：GCodeWriter 定点写入与 StringBuilder + String.format 的对照，输出内容相同
+        for (int lines : new int[]{100000, 1000000}) {
+            double[] xs = new double[lines];
+            double[] ys = new double[lines];
+            int[] powers = new int[lines];
+            for (int i = 0; i < lines; i++) {
+                xs[i] = (i % 1000) * 0.13;
+                ys[i] = (i / 1000) * 0.1;
+                powers[i] = (i * 7) % 1001;
+            }
+            long bytes = writeLines(new GCodeWriter(lines * 24), xs, ys, powers).size();
+            add("gcode.writer/" + lines, bytes, () -> writeLines(new GCodeWriter(new NullChannel()), xs, ys, powers).flush());
+            add("gcode.writer.format/" + lines, bytes, () -> {
+                StringBuilder sb = new StringBuilder();
+                for (int i = 0; i < lines; i++) {
+                    sb.append('\n').append(String.format(Locale.ROOT, "G1 X%.2fY%.2fS%d", xs[i], ys[i], powers[i]));
+                }
+                new NullChannel().write(ByteBuffer.wrap(sb.toString().getBytes(StandardCharsets.US_ASCII)));
+            });
+        }
+
+        // 多图层合并清理：以噪声扫描输出为输入
+        for (int[] s : new int[][]{{1000, 1000}, {3000, 3000}}) {
+            ByteArrayOutputStream gcode = new ByteArrayOutputStream();
+            new ScanGCodeEngine(ByteBuffer.wrap(BenchFixtures.raster("noise", s[0], s[1], 42)), s[0], s[1],
+                    scanSettings(false, 8)).generate(Channels.newChannel(gcode));
+            byte[] text = gcode.toByteArray();
+            add("merge.cleanup/" + sizeLabel(text.length), text.length, () -> {
+                GCodeJobRunner.CleanupChannel out = new GCodeJobRunner.CleanupChannel(new NullChannel());
+                out.write(ByteBuffer.wrap(text));
+                out.close();
+            });
+        }
+
+        // 矢量预处理：DXF 解析、简化并写出二进制折线
+        for (int polylines : new int[]{1000, 10000, 50000}) {
+            byte[] dxf = BenchFixtures.dxf(polylines, 32);
+            File out = new File(workDir, "polylines.bin");
+            add("vector.dxf/" + polylines, dxf.length, () -> {
+                try (FileOutputStream fos = new FileOutputStream(out);
+                     FileChannel channel = fos.getChannel()) {
+                    new VectorPreprocessor(0.05, 0).process(new ByteArrayInputStream(dxf), "dxf", channel);
+                }
+            });
+        }
+
+        // G 代码索引：首次扫描建立索引、读取旁路索引、整体 LOD 预览与 10% 视口查询
+        File scanFile = new File(workDir, "scan_3000.nc");
+        new ScanGCodeEngine(ByteBuffer.wrap(BenchFixtures.raster("noise", 3000, 3000, 42)), 3000, 3000,
+                scanSettings(false, 8)).generate(scanFile);
+        File sidecar = new File(workDir, "scan_3000.idx");
+        add("gcode.index.build/" + sizeLabel(scanFile.length()), scanFile.length(), () -> GCodeIndex.open(scanFile, null));
+        add("gcode.index.load/" + sizeLabel(scanFile.length()), scanFile.length(), () -> GCodeIndex.open(scanFile, sidecar));
+        GCodeIndex index = GCodeIndex.open(scanFile, sidecar);
+        float[] b = index.bounds();
+        float w10 = (b[2] - b[0]) / 10, h10 = (b[3] - b[1]) / 10;
+        add("gcode.preview.lod", scanFile.length(),
+                () -> index.polylines(b[0], b[1], b[2], b[3], (b[2] - b[0]) / 1000, false, 200000));
+        add("gcode.preview.viewport10", scanFile.length() / 10,
+                () -> index.polylines(b[0] + 4 * w10, b[1] + 4 * h10, b[0] + 5 * w10, b[1] + 5 * h10, 0, false, 0));
+
+        // G 代码压缩：扫描输出（只省略模态字与注释）与折线化的切割路径（合并共线段、拟合圆弧）
+        File compacted = new File(workDir, "compacted.nc");
+        GCodeCompactor.Options defaults = new GCodeCompactor.Options();
+        add("gcode.compact.scan/" + sizeLabel(scanFile.length()), scanFile.length(),
+                () -> GCodeCompactor.compact(scanFile, compacted, defaults));
+        File cutFile = new File(workDir, "cut.nc");
+        Files.write(cutFile.toPath(), BenchFixtures.cutGCode(5000, 64));
+        GCodeCompactor.Options arcs = GCodeCompactor.Options.fromJson("{\"fitArcs\":true}");
+        add("gcode.compact.cut/" + sizeLabel(cutFile.length()), cutFile.length(),
+                () -> GCodeCompactor.compact(cutFile, compacted, defaults));
+        add("gcode.compact.arcs/" + sizeLabel(cutFile.length()), cutFile.length(),
+                () -> GCodeCompactor.compact(cutFile, compacted, arcs));
+
+        // 雕刻路径排序
+        for (int paths : new int[]{500, 2000}) {
+            String json = toolpathJson(paths);
+            add("toolpath.optimize/" + paths, json.length(), () -> ToolpathOptimizer.optimize(json));
+            byte[] frame = toolpathFrame(json);
+            add("toolpath.optimize.frame/" + paths, frame.length, () -> {
+                BinaryFrames.Frame f = BinaryFrames.decode(frame);
+                ToolpathOptimizer.optimize(BinaryFrames.decodePolylines(f.payload), f.meta);
+            });
+        }
+
+        // 页面与原生之间的传输（原生一侧的开销）：字符串桥为 base64 解码后重新编码回送（echoBase64），
+        // 二进制通道为解析帧后重新编码回送（ECHO 帧）
+        for (int mb : new int[]{1, 10, 50}) {
+            byte[] data = BenchFixtures.randomBytes(mb * 1024 * 1024, mb);
+            String base64 = Base64.getEncoder().encodeToString(data);
+            byte[] frame = BinaryFrames.encode(BinaryFrames.TYPE_ECHO, BinaryFrames.FLAG_FINAL, 1, null, ByteBuffer.wrap(data));
+            add("transport.string/" + sizeLabel(data.length), data.length,
+                    () -> Base64.getEncoder().encodeToString(Base64.getMimeDecoder().decode(base64)));
+            add("transport.frame/" + sizeLabel(data.length), data.length, () -> {
+                BinaryFrames.Frame f = BinaryFrames.decode(frame);
+                BinaryFrames.encode(BinaryFrames.TYPE_ECHO, BinaryFrames.FLAG_FINAL, f.id, null, f.payload);
+            });
+        }
+
+        // 撤销历史：追加一条移动单个对象的差异；在内存环内撤销/重做；往返 32 步（超出内存环，从日志读取）；
+        // 重新打开时重放日志恢复 200 条记录的会话；反复同步 LIVE 记录（含日志超过阈值时的会话内重写）
+        EditHistory pushes = new EditHistory(new File(workDir, "history_push"));
+        String base = historyState(200).toString();
+        String[] move = historyMove(0);
+        add("history.push", move[0].length() + move[1].length(), () -> {
+            pushes.reset(base);
+            pushes.push(move[0], move[1]);
+        });
+        EditHistory history = new EditHistory(new File(workDir, "history"));
+        history.reset(base);
+        for (int i = 0; i < 200; i++) {
+            String[] d = historyMove(i);
+            history.push(d[0], d[1]);
+        }
+        add("history.undoRedo.ring", 0, () -> {
+            history.undo();
+            history.redo();
+        });
+        add("history.undoRedo.depth32", 0, () -> {
+            for (int i = 0; i < 32; i++) {
+                history.undo();
+            }
+            for (int i = 0; i < 32; i++) {
+                history.redo();
+            }
+        });
+        File journal = new File(workDir, "history/journal.bin");
+        add("history.recover/200", journal.length(), () -> history.open());
+        String live = historyState(50).toString();
+        add("history.setLive", live.length(), () -> history.setLive(live));
+
+        // 位图矢量化
+        for (int[] s : new int[][]{{1000, 1000}, {3000, 2000}}) {
+            int w = s[0], h = s[1];
+            byte[] luminance = BenchFixtures.raster("noise", w, h, 3);
+            add("trace.bitmap/" + w + "x" + h, (long) w * h, () -> {
+                BitmapTracer.Result result = new BitmapTracer(new BitmapTracer.Options(), null).trace(luminance, w, h);
+                result.writeSvg(new NullWriter());
+            });
+        }
+    }
+
+    private void add(String name, long bytes, Op op) {
+        cases.add(new Case(name, bytes, op));
+    }
+
+    private void measure(Case c, long measureNanos) throws Exception {
+        long warmupEnd = System.nanoTime() + WARMUP_NANOS;
+        for (int i = 0; i < MIN_WARMUP || System.nanoTime() < warmupEnd; i++) {
+            c.op.run();
+        }
+
+        long[] samples = new long[64];
+        int n = 0;
+        long alloc0 = allocatedBytes();
+        long start = System.nanoTime();
+        long end = start + measureNanos;
+        while (n < MIN_SAMPLES || System.nanoTime() < end) {
+            long t = System.nanoTime();
+            c.op.run();
+            if (n == samples.length) {
+                samples = Arrays.copyOf(samples, n * 2);
+            }
+            samples[n++] = System.nanoTime() - t;
+        }
+        long elapsed = System.nanoTime() - start;
+        long alloc1 = allocatedBytes();
+
+        Arrays.sort(samples, 0, n);
+        double seconds = elapsed / 1e9;
+        double p50 = samples[(n - 1) / 2] / 1e6;
+        double p99 = samples[Math.max(0, (int) Math.ceil(n * 0.99) - 1)] / 1e6;
+        String allocPerOp = "-";
+        String allocRate = "-";
+        if (alloc0 >= 0 && alloc1 >= 0) {
+            allocPerOp = String.format(Locale.ROOT, "%.2f", (alloc1 - alloc0) / 1e6 / n);
+            allocRate = String.format(Locale.ROOT, "%.1f", (alloc1 - alloc0) / 1e6 / seconds);
+        }
+        System.out.println(String.format(Locale.ROOT, "%-36s %6d %10.2f %10.1f %10.2f %10.2f %12s %10s",
+                c.name, n, n / seconds, c.bytes * n / 1e6 / seconds, p50, p99, allocPerOp, allocRate));
+    }
+
+    /**
+     * 所有存活线程的累计分配字节数，不支持时返回 -1
+     */
+    private static long allocatedBytes() {
+        ThreadMXBean bean = ManagementFactory.getThreadMXBean();
+        if (!(bean instanceof com.sun.management.ThreadMXBean)) {
+            return -1;
+        }
+        com.sun.management.ThreadMXBean hotspot = (com.sun.management.ThreadMXBean) bean;
+        if (!hotspot.isThreadAllocatedMemorySupported() || !hotspot.isThreadAllocatedMemoryEnabled()) {
+            return -1;
+        }
+        long total = 0;
+        for (long bytes : hotspot.getThreadAllocatedBytes(bean.getAllThreadIds())) {
+            if (bytes > 0) {
+                total += bytes;
+            }
+        }
+        return total;
+    }
+
+    private static ScanGCodeEngine.Settings scanSettings(boolean halftone, int rasterBits) {
+        ScanGCodeEngine.Settings s = new ScanGCodeEngine.Settings();
+        s.lineDensity = 0.1;
+        s.isHalftone = halftone;
+        s.minPower = halftone ? 0 : 10;
+        s.maxPower = 80;
+        s.layerName = "bench";
+        s.itemCount = 1;
+        s.platformWidth = 400;
+        s.platformHeight = 400;
+        s.rasterBits = rasterBits;
+        return s;
+    }
+
+    /**
+     * 按半调网屏阈值（小于 128 为黑）打包为 1 位栅格，格式与 PlatformRasterizer 的输出一致
+     */
+    private static byte[] pack(byte[] grey, int width, int height) {
+        int stride = (width + 7) >> 3;
+        byte[] packed = new byte[stride * height];
+        for (int y = 0; y < height; y++) {
+            for (int x = 0; x < width; x++) {
+                if ((grey[y * width + x] & 0xFF) < 128) {
+                    packed[y * stride + (x >> 3)] |= (byte) (0x80 >>> (x & 7));
+                }
+            }
+        }
+        return packed;
+    }
+
+    private static String toolpathJson(int paths) throws Exception {
+        java.util.Random random = new java.util.Random(paths);
+        JSONArray arr = new JSONArray();
+        for (int i = 0; i < paths; i++) {
+            double cx = random.nextDouble() * 400;
+            double cy = random.nextDouble() * 400;
+            boolean closed = i % 3 == 0;
+            JSONArray pts = new JSONArray();
+            int n = 4 + random.nextInt(12);
+            for (int k = 0; k < n; k++) {
+                double a = 2 * Math.PI * k / n;
+                pts.put(cx + 3 * Math.cos(a));
+                pts.put(cy + 3 * Math.sin(a));
+            }
+            JSONObject p = new JSONObject();
+            p.put("pts", pts);
+            p.put("reversible", !closed);
+            p.put("closed", closed);
+            arr.put(p);
+        }
+        JSONObject obj = new JSONObject();
+        obj.put("paths", arr);
+        obj.put("startX", 0);
+        obj.put("startY", 0);
+        obj.put("budgetMs", 200);
+        return obj.toString();
+    }
+
+    /**
+     * 把 toolpathJson 的输入转换为二进制通道的折线帧
+     */
+    private static byte[] toolpathFrame(String json) throws Exception {
+        JSONObject obj = new JSONObject(json);
+        JSONArray arr = obj.getJSONArray("paths");
+        int[] counts = new int[arr.length()];
+        byte[] flags = new byte[arr.length()];
+        List<Float> xy = new ArrayList<>();
+        for (int i = 0; i < arr.length(); i++) {
+            JSONObject p = arr.getJSONObject(i);
+            JSONArray pts = p.getJSONArray("pts");
+            counts[i] = pts.length() / 2;
+            flags[i] = (byte) ((p.getBoolean("closed") ? BinaryFrames.POLYLINE_CLOSED : 0)
+                    | (p.getBoolean("reversible") ? BinaryFrames.POLYLINE_REVERSIBLE : 0));
+            for (int k = 0; k < pts.length(); k++) {
+                xy.add((float) pts.getDouble(k));
+            }
+        }
+        float[] coords = new float[xy.size()];
+        for (int i = 0; i < coords.length; i++) {
+            coords[i] = xy.get(i);
+        }
+        obj.remove("paths");
+        obj.put("method", "optimizeToolpath");
+        return BinaryFrames.encode(BinaryFrames.TYPE_POLYLINES, BinaryFrames.FLAG_FINAL, 1, obj,
+                BinaryFrames.encodePolylines(new BinaryFrames.PolylineSet(counts, flags, coords)));
+    }
+
+    /**
+     * 白板状态：两个图层与 count 个矩形对象，第一个对象为内容引用的图片
+     */
+    private static JSONObject historyState(int count) throws Exception {
+        JSONArray layers = new JSONArray()
+                .put(new JSONObject().put("id", "scan_layer").put("name", "扫描图层").put("isVisible", true))
+                .put(new JSONObject().put("id", "engrave_layer").put("name", "切割图层").put("isVisible", true));
+        JSONArray items = new JSONArray();
+        for (int i = 0; i < count; i++) {
+            JSONObject item = new JSONObject().put("id", "item_" + i).put("x", i).put("y", i)
+                    .put("width", 40).put("height", 30).put("rotation", 0).put("layerId", "engrave_layer");
+            if (i == 0) {
+                item.put("type", "IMAGE").put("href", EditHistory.BLOB_REF_PREFIX + "0123456789abcdef");
+            } else {
+                item.put("type", "RECTANGLE").put("strokeWidth", 1).put("color", "#000000");
+            }
+            items.put(item);
+        }
+        return new JSONObject().put("layers", layers).put("items", items);
+    }
+
+    /**
+     * 第 step 次编辑把 item_(step % 200) 平移 1：返回正向与反向差异
+     */
+    private static String[] historyMove(int step) throws Exception {
+        int i = step % 200;
+        JSONObject before = new JSONObject().put("id", "item_" + i).put("type", "RECTANGLE").put("x", i + step)
+                .put("y", i).put("width", 40).put("height", 30).put("rotation", 0).put("layerId", "engrave_layer");
+        JSONObject after = new JSONObject(before.toString()).put("x", i + step + 1);
+        return new String[]{
+                new JSONObject().put("put", new JSONArray().put(after)).toString(),
+                new JSONObject().put("put", new JSONArray().put(before)).toString()};
+    }
+
+    private static GCodeWriter writeLines(GCodeWriter out, double[] xs, double[] ys, int[] powers) {
+        for (int i = 0; i < xs.length; i++) {
+            out.beginLine().putAscii("G1 X").putFixed(xs[i], 2, false)
+                    .put('Y').putFixed(ys[i], 2, false).s(powers[i]);
+        }
+        return out;
+    }
+
+    private static String sizeLabel(long bytes) {
+        return bytes >= 1024 * 1024 ? (bytes / (1024 * 1024)) + "M" : (bytes / 1024) + "K";
+    }
+
+    private static void deleteRecursively(File f) {
+        File[] children = f.listFiles();
+        if (children != null) {
+            for (File c : children) {
+                deleteRecursively(c);
+            }
+        }
+        f.delete();
+    }
+
+    /**
+     * 丢弃写入内容的通道
+     */
+    private static final class NullChannel implements WritableByteChannel {
+        @Override
+        public int write(ByteBuffer src) {
+            int n = src.remaining();
+            src.position(src.limit());
+            return n;
+        }
+
+        @Override
+        public boolean isOpen() {
+            return true;
+        }
+
+        @Override
+        public void close() {
+        }
+    }
+
+    private static final class NullWriter extends Writer {
+        @Override
+        public void write(char[] cbuf, int off, int len) {
+        }
+
+        @Override
+        public void flush() {
+        }
+
+        @Override
+        public void close() {
+        }
+    }
+}
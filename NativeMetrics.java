@@ -0,0 +1,406 @@
+package com.example.opencv.webwhiteboard;
+
+import org.json.JSONException;
+import org.json.JSONObject;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.text.SimpleDateFormat;
+import java.util.Date;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 原生端指标注册表
+ * <p>
+ * 记录各引擎阶段的耗时分布（{@link #span}）、文件写入吞吐量（{@link #recordWrite}）与计数器，
+ * 桥方法的调用统计由 {@link BridgeDispatcher} 使用同样的 {@link Timer} 记录。快照通过 getMetrics 桥方法
+ * 返回给页面。启用 {@link #initTrace} 后，每个阶段与写入同时追加到磁盘上的滚动日志，可随导出任务一起导出。
+ */
+public final class NativeMetrics {
+
+    private static final Map<String, Timer> TIMERS = new TreeMap<>();
+    private static final Map<String, Timer> WRITES = new TreeMap<>();
+    private static final Map<String, AtomicLong> COUNTERS = new TreeMap<>();
+    private static final long START_NANOS = System.nanoTime();
+    private static volatile TraceLog traceLog;
+
+    private NativeMetrics() {
+    }
+
+    /**
+     * 耗时分布：次数、总耗时、最大值及对数分桶直方图（每个 2 的幂区间分 4 桶，分位数误差约 12%）
+     */
+    public static final class Timer {
+        private static final int SUB_BUCKETS = 4;
+        private static final int BUCKETS = 64 * SUB_BUCKETS;
+
+        private final AtomicLong count = new AtomicLong();
+        private final AtomicLong errors = new AtomicLong();
+        private final AtomicLong totalNanos = new AtomicLong();
+        private final AtomicLong maxNanos = new AtomicLong();
+        private final AtomicLong lastNanos = new AtomicLong();
+        // 计量值：写入为字节数，其余为 0
+        private final AtomicLong amount = new AtomicLong();
+        private final AtomicLongArray buckets = new AtomicLongArray(BUCKETS);
+
+        public void record(long nanos, boolean ok) {
+            count.incrementAndGet();
+            if (!ok) {
+                errors.incrementAndGet();
+            }
+            totalNanos.addAndGet(nanos);
+            maxNanos.accumulateAndGet(nanos, Math::max);
+            lastNanos.set(nanos);
+            buckets.incrementAndGet(bucketOf(nanos / 1000));
+        }
+
+        void addAmount(long value) {
+            amount.addAndGet(value);
+        }
+
+        long count() {
+            return count.get();
+        }
+
+        private static int bucketOf(long micros) {
+            if (micros < SUB_BUCKETS) {
+                return (int) Math.max(micros, 0);
+            }
+            int exp = 63 - Long.numberOfLeadingZeros(micros);
+            int sub = (int) ((micros >>> (exp - 2)) & (SUB_BUCKETS - 1));
+            return exp * SUB_BUCKETS + sub;
+        }
+
+        // 桶的上界（微秒）
+        private static long upperBoundOf(int bucket) {
+            if (bucket < SUB_BUCKETS) {
+                return bucket + 1;
+            }
+            int exp = bucket / SUB_BUCKETS;
+            int sub = bucket % SUB_BUCKETS;
+            return (long) (SUB_BUCKETS + sub + 1) << (exp - 2);
+        }
+
+        /**
+         * @param q 0-1 之间的分位
+         * @return 分位数所在桶的上界（毫秒），不超过记录到的最大值
+         */
+        double percentileMillis(double q) {
+            long n = count.get();
+            if (n == 0) {
+                return 0;
+            }
+            long rank = (long) Math.ceil(q * n);
+            long seen = 0;
+            for (int i = 0; i < BUCKETS; i++) {
+                seen += buckets.get(i);
+                if (seen >= rank) {
+                    return Math.min(upperBoundOf(i) / 1000.0, toMillis(maxNanos.get()));
+                }
+            }
+            return toMillis(maxNanos.get());
+        }
+
+        long errors() {
+            return errors.get();
+        }
+
+        double avgMillis() {
+            long n = count.get();
+            return n == 0 ? 0 : toMillis(totalNanos.get() / n);
+        }
+
+        /**
+         * 写入平均值、分位数、最大值与最近一次耗时（毫秒）
+         */
+        void writeTo(JSONObject json) throws JSONException {
+            json.put("avgMs", avgMillis());
+            json.put("p50Ms", percentileMillis(0.50));
+            json.put("p95Ms", percentileMillis(0.95));
+            json.put("p99Ms", percentileMillis(0.99));
+            json.put("maxMs", toMillis(maxNanos.get()));
+            json.put("lastMs", toMillis(lastNanos.get()));
+        }
+
+        JSONObject toJson() throws JSONException {
+            JSONObject json = new JSONObject();
+            json.put("n", count.get());
+            if (errors.get() > 0) {
+                json.put("err", errors.get());
+            }
+            writeTo(json);
+            return json;
+        }
+
+        JSONObject toWriteJson() throws JSONException {
+            JSONObject json = toJson();
+            long bytes = amount.get();
+            long nanos = totalNanos.get();
+            json.put("bytes", bytes);
+            json.put("mbps", nanos == 0 ? 0 : Math.round(bytes / (nanos / 1e9) / 1e5) / 10.0);
+            return json;
+        }
+    }
+
+    /**
+     * 阶段计时，close 时记录耗时（用于 try-with-resources）
+     */
+    public static final class Span implements AutoCloseable {
+        private final String name;
+        private final long start = System.nanoTime();
+        private boolean ok = true;
+        private String detail;
+
+        private Span(String name) {
+            this.name = name;
+        }
+
+        /**
+         * 标记阶段失败（异常路径中调用）
+         */
+        public Span fail() {
+            ok = false;
+            return this;
+        }
+
+        /**
+         * 附加写入滚动日志的说明（例如尺寸、字节数）
+         */
+        public Span detail(String detail) {
+            this.detail = detail;
+            return this;
+        }
+
+        @Override
+        public void close() {
+            recordStage(name, System.nanoTime() - start, ok, detail);
+        }
+    }
+
+    public static Span span(String name) {
+        return new Span(name);
+    }
+
+    /**
+     * 记录一个跨越多次回调、无法用 {@link Span} 包住的阶段（例如页面启动耗时）
+     */
+    public static void recordStage(String name, long nanos, boolean ok, String detail) {
+        timer(TIMERS, name).record(nanos, ok);
+        trace(ok ? "stage" : "stage!", name, nanos, detail);
+    }
+
+    /**
+     * 记录一次文件写入（字节数与耗时），快照中给出总字节数与平均吞吐量
+     */
+    public static void recordWrite(String name, long bytes, long nanos) {
+        Timer t = timer(WRITES, name);
+        t.record(nanos, true);
+        t.addAmount(bytes);
+        trace("write", name, nanos, bytes + "B");
+    }
+
+    public static void count(String name, long delta) {
+        AtomicLong counter;
+        synchronized (COUNTERS) {
+            counter = COUNTERS.get(name);
+            if (counter == null) {
+                counter = new AtomicLong();
+                COUNTERS.put(name, counter);
+            }
+        }
+        counter.addAndGet(delta);
+    }
+
+    static Timer timer(Map<String, Timer> map, String name) {
+        synchronized (map) {
+            Timer t = map.get(name);
+            if (t == null) {
+                t = new Timer();
+                map.put(name, t);
+            }
+            return t;
+        }
+    }
+
+    /**
+     * 阶段耗时、写入吞吐量与计数器的快照；没有记录的项不输出
+     */
+    public static JSONObject snapshot() throws JSONException {
+        JSONObject json = new JSONObject();
+        json.put("uptimeMs", (System.nanoTime() - START_NANOS) / 1000000);
+        JSONObject stages = new JSONObject();
+        synchronized (TIMERS) {
+            for (Map.Entry<String, Timer> e : TIMERS.entrySet()) {
+                stages.put(e.getKey(), e.getValue().toJson());
+            }
+        }
+        json.put("stages", stages);
+        JSONObject writes = new JSONObject();
+        synchronized (WRITES) {
+            for (Map.Entry<String, Timer> e : WRITES.entrySet()) {
+                writes.put(e.getKey(), e.getValue().toWriteJson());
+            }
+        }
+        json.put("writes", writes);
+        JSONObject counters = new JSONObject();
+        synchronized (COUNTERS) {
+            for (Map.Entry<String, AtomicLong> e : COUNTERS.entrySet()) {
+                counters.put(e.getKey(), e.getValue().get());
+            }
+        }
+        json.put("counters", counters);
+        TraceLog log = traceLog;
+        if (log != null) {
+            json.put("traceBytes", log.size());
+        }
+        return json;
+    }
+
+    // ---- 滚动日志 ----
+
+    /**
+     * 启用磁盘滚动日志（目录下的 trace.log 与上一份 trace.1.log）
+     */
+    public static synchronized void initTrace(File dir, long maxBytes) {
+        if (traceLog == null) {
+            traceLog = new TraceLog(dir, maxBytes);
+        }
+    }
+
+    /**
+     * 追加一行日志：时间、线程、类型、名称、耗时与说明，以制表符分隔
+     */
+    public static void trace(String kind, String name, long nanos, String detail) {
+        TraceLog log = traceLog;
+        if (log != null) {
+            log.append(kind, name, nanos, detail);
+        }
+    }
+
+    /**
+     * 将当前指标快照与滚动日志（旧的在前）写入目标文件
+     *
+     * @return 写入的字节数
+     */
+    public static long exportTrace(File target, JSONObject extra) throws IOException, JSONException {
+        JSONObject header = snapshot();
+        if (extra != null) {
+            header.put("extra", extra);
+        }
+        TraceLog log = traceLog;
+        try (OutputStream out = new FileOutputStream(target)) {
+            byte[] head = ("# metrics " + header + "\n").getBytes(StandardCharsets.UTF_8);
+            out.write(head);
+            long written = head.length;
+            if (log != null) {
+                written += log.copyTo(out);
+            }
+            return written;
+        }
+    }
+
+    private static final class TraceLog {
+        private final File current;
+        private final File previous;
+        private final long maxBytes;
+        // 单线程写入，调用方不等待磁盘 I/O
+        private final ExecutorService writer = Executors.newSingleThreadExecutor(r -> {
+            Thread t = new Thread(r, "trace-log");
+            t.setDaemon(true);
+            t.setPriority(Thread.MIN_PRIORITY);
+            return t;
+        });
+        private final SimpleDateFormat format = new SimpleDateFormat("MM-dd HH:mm:ss.SSS", Locale.ROOT);
+        private Writer out;
+        private long size;
+
+        TraceLog(File dir, long maxBytes) {
+            dir.mkdirs();
+            this.current = new File(dir, "trace.log");
+            this.previous = new File(dir, "trace.1.log");
+            this.maxBytes = maxBytes;
+        }
+
+        void append(String kind, String name, long nanos, String detail) {
+            String line = format(System.currentTimeMillis()) + '\t' + Thread.currentThread().getName() + '\t'
+                    + kind + '\t' + name + '\t' + toMillis(nanos) + "ms" + (detail != null ? '\t' + detail : "") + '\n';
+            try {
+                writer.execute(() -> write(line));
+            } catch (RuntimeException ignored) {
+                // 写线程已停止
+            }
+        }
+
+        private synchronized String format(long millis) {
+            return format.format(new Date(millis));
+        }
+
+        private synchronized void write(String line) {
+            try {
+                if (out == null) {
+                    size = current.length();
+                    out = new OutputStreamWriter(new FileOutputStream(current, true), StandardCharsets.UTF_8);
+                }
+                if (size >= maxBytes) {
+                    out.close();
+                    previous.delete();
+                    current.renameTo(previous);
+                    out = new OutputStreamWriter(new FileOutputStream(current, false), StandardCharsets.UTF_8);
+                    size = 0;
+                }
+                out.write(line);
+                out.flush();
+                size += line.getBytes(StandardCharsets.UTF_8).length;
+            } catch (IOException e) {
+                e.printStackTrace();
+            }
+        }
+
+        synchronized long size() {
+            return previous.length() + current.length();
+        }
+
+        long copyTo(OutputStream target) throws IOException {
+            // 等待已排队的日志写完
+            try {
+                writer.submit(() -> {
+                }).get(2, TimeUnit.SECONDS);
+            } catch (Exception ignored) {
+            }
+            synchronized (this) {
+                long copied = 0;
+                byte[] buf = new byte[64 * 1024];
+                for (File f : new File[]{previous, current}) {
+                    if (!f.exists()) {
+                        continue;
+                    }
+                    try (FileInputStream in = new FileInputStream(f)) {
+                        int n;
+                        while ((n = in.read(buf)) > 0) {
+                            target.write(buf, 0, n);
+                            copied += n;
+                        }
+                    }
+                }
+                return copied;
+            }
+        }
+    }
+
+    static double toMillis(long nanos) {
+        return Math.round(nanos / 1000.0) / 1000.0;
+    }
+}
@@ -0,0 +1,232 @@
+package com.example.opencv.webwhiteboard;
+
+import android.graphics.Bitmap;
+import android.graphics.BitmapFactory;
+import android.graphics.Canvas;
+import android.graphics.Color;
+import android.graphics.Paint;
+import android.graphics.RectF;
+
+import org.json.JSONArray;
+import org.json.JSONException;
+import org.json.JSONObject;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * 扫描图层的原生栅格化，对应 lib/gcode.ts 中 createPlatformImage 的图片部分：
+ * 按 lineDensity 把各图片重采样到平台像素网格（白色背景），再交给 {@link RasterPipeline}
+ * 做灰度化（可选误差扩散；与页面端一致，不处理 hFlipped / vFlipped）。平台按水平条带并行绘制，每个条带只占用一小块位图。
+ */
+public class PlatformRasterizer {
+
+    /**
+     * 打开图片数据（缓存文件路径或页面虚拟地址）
+     */
+    public interface SourceOpener {
+        InputStream open(String pathOrUrl) throws IOException;
+    }
+
+    // 每个绘制条带的行数
+    private static final int STRIP_ROWS = 64;
+
+    /**
+     * 栅格化任务参数，字段与 GCodeScanSettings 及平台尺寸对应
+     */
+    public static class Job {
+        double platformWidth;
+        double platformHeight;
+        double lineDensity;
+        double canvasWidth;
+        double canvasHeight;
+        boolean negativeImage;
+        boolean isHalftone;
+        // 半调网屏模式下在原生端做误差扩散并输出 1 位位图。默认关闭：页面端 createPlatformImage
+        // 不做误差扩散，由扫描按 128 的阈值出光，关闭时输出与页面端一致的 8 位灰度
+        boolean errorDiffusion;
+        final List<Source> sources = new ArrayList<>();
+
+        public static Job fromJson(String json) throws JSONException {
+            JSONObject obj = new JSONObject(json);
+            Job job = new Job();
+            job.platformWidth = obj.getDouble("platformWidth");
+            job.platformHeight = obj.getDouble("platformHeight");
+            job.lineDensity = obj.getDouble("lineDensity");
+            job.canvasWidth = obj.getDouble("canvasWidth");
+            job.canvasHeight = obj.getDouble("canvasHeight");
+            job.negativeImage = obj.optBoolean("negativeImage", false);
+            job.isHalftone = obj.optBoolean("isHalftone", false);
+            job.errorDiffusion = obj.optBoolean("errorDiffusion", false);
+            JSONArray items = obj.getJSONArray("items");
+            for (int i = 0; i < items.length(); i++) {
+                JSONObject item = items.getJSONObject(i);
+                Source s = new Source();
+                s.source = item.getString("source");
+                s.x = item.getDouble("x");
+                s.y = item.getDouble("y");
+                s.width = item.getDouble("width");
+                s.height = item.getDouble("height");
+                job.sources.add(s);
+            }
+            return job;
+        }
+    }
+
+    /**
+     * 单个图片：中心坐标与尺寸，单位与前端画布一致
+     */
+    static class Source {
+        String source;
+        double x, y, width, height;
+        Bitmap bitmap;
+        RectF dest;
+    }
+
+    /**
+     * 栅格化结果
+     */
+    public static class Result {
+        public int width;
+        public int height;
+        // 8：灰度；1：半调网屏位图
+        public int bitsPerPixel;
+        public byte[] data;
+    }
+
+    private final SourceOpener opener;
+
+    public PlatformRasterizer(SourceOpener opener) {
+        this.opener = opener;
+    }
+
+    public Result rasterize(Job job) throws IOException {
+        final int width = (int) Math.round(job.platformWidth / job.lineDensity);
+        final int height = (int) Math.round(job.platformHeight / job.lineDensity);
+        if (width <= 0 || height <= 0) {
+            throw new IllegalArgumentException("无效的平台尺寸: " + width + "x" + height);
+        }
+        final double scaleX = width / job.canvasWidth;
+        final double scaleY = height / job.canvasHeight;
+        try {
+            try (NativeMetrics.Span ignored = NativeMetrics.span("rasterize.decode").detail(job.sources.size() + " images")) {
+                for (Source s : job.sources) {
+                    float left = (float) ((s.x - s.width / 2) * scaleX);
+                    float top = (float) ((s.y - s.height / 2) * scaleY);
+                    s.dest = new RectF(left, top, left + (float) (s.width * scaleX), top + (float) (s.height * scaleY));
+                    s.bitmap = decode(s.source, Math.round(s.dest.width()), Math.round(s.dest.height()));
+                }
+            }
+            byte[] gray = new byte[width * height];
+            try (NativeMetrics.Span ignored = NativeMetrics.span("rasterize.draw").detail(width + "x" + height)) {
+                WorkerPools.COMPUTE.invoke(new StripTask(job, gray, width, height, 0, (height + STRIP_ROWS - 1) / STRIP_ROWS));
+            }
+            Result result = new Result();
+            result.width = width;
+            result.height = height;
+            if (job.isHalftone && job.errorDiffusion) {
+                try (NativeMetrics.Span ignored = NativeMetrics.span("rasterize.halftone").detail(width + "x" + height)) {
+                    RasterPipeline.halftone(gray, width, height);
+                    result.bitsPerPixel = 1;
+                    result.data = RasterPipeline.packBits(gray, width, height);
+                }
+            } else {
+                result.bitsPerPixel = 8;
+                result.data = gray;
+            }
+            return result;
+        } finally {
+            for (Source s : job.sources) {
+                if (s.bitmap != null) {
+                    s.bitmap.recycle();
+                    s.bitmap = null;
+                }
+            }
+        }
+    }
+
+    /**
+     * 解码图片，过大的图片按 2 的幂降采样，但不小于目标尺寸，保证重采样质量
+     */
+    private Bitmap decode(String source, int targetWidth, int targetHeight) throws IOException {
+        BitmapFactory.Options bounds = new BitmapFactory.Options();
+        bounds.inJustDecodeBounds = true;
+        try (InputStream in = opener.open(source)) {
+            BitmapFactory.decodeStream(in, null, bounds);
+        }
+        int sample = 1;
+        while (bounds.outWidth / (sample * 2) >= Math.max(targetWidth, 1)
+                && bounds.outHeight / (sample * 2) >= Math.max(targetHeight, 1)) {
+            sample *= 2;
+        }
+        BitmapFactory.Options options = new BitmapFactory.Options();
+        options.inSampleSize = sample;
+        options.inPreferredConfig = Bitmap.Config.ARGB_8888;
+        Bitmap bitmap;
+        try (InputStream in = opener.open(source)) {
+            bitmap = BitmapFactory.decodeStream(in, null, options);
+        }
+        if (bitmap == null) {
+            throw new IOException("无法解码图像: " + source);
+        }
+        return bitmap;
+    }
+
+    private static class StripTask extends RecursiveAction {
+        private final Job job;
+        private final byte[] gray;
+        private final int width;
+        private final int height;
+        private final int fromStrip;
+        private final int toStrip;
+
+        StripTask(Job job, byte[] gray, int width, int height, int fromStrip, int toStrip) {
+            this.job = job;
+            this.gray = gray;
+            this.width = width;
+            this.height = height;
+            this.fromStrip = fromStrip;
+            this.toStrip = toStrip;
+        }
+
+        @Override
+        protected void compute() {
+            int count = toStrip - fromStrip;
+            // 每个任务处理若干条带，复用同一块条带位图
+            if (count > 4) {
+                int mid = (fromStrip + toStrip) >>> 1;
+                invokeAll(new StripTask(job, gray, width, height, fromStrip, mid),
+                        new StripTask(job, gray, width, height, mid, toStrip));
+                return;
+            }
+            Bitmap strip = Bitmap.createBitmap(width, STRIP_ROWS, Bitmap.Config.ARGB_8888);
+            Canvas canvas = new Canvas(strip);
+            Paint paint = new Paint(Paint.FILTER_BITMAP_FLAG);
+            int[] row = new int[width];
+            try {
+                for (int s = fromStrip; s < toStrip; s++) {
+                    int top = s * STRIP_ROWS;
+                    int rows = Math.min(STRIP_ROWS, height - top);
+                    canvas.save();
+                    canvas.drawColor(Color.WHITE);
+                    canvas.translate(0, -top);
+                    for (Source src : job.sources) {
+                        if (src.dest.bottom > top && src.dest.top < top + rows) {
+                            canvas.drawBitmap(src.bitmap, null, src.dest, paint);
+                        }
+                    }
+                    canvas.restore();
+                    for (int r = 0; r < rows; r++) {
+                        strip.getPixels(row, 0, width, 0, r, width, 1);
+                        RasterPipeline.toGray(row, width, job.negativeImage, gray, (top + r) * width);
+                    }
+                }
+            } finally {
+                strip.recycle();
+            }
+        }
+    }
+}
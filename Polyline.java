@@ -0,0 +1,67 @@
+package com.example.opencv.webwhiteboard;
+
+import java.util.Arrays;
+
+/**
+ * 以 float 数组存储的折线（x0, y0, x1, y1, ...），供原生矢量处理使用
+ */
+public final class Polyline {
+
+    float[] xy;
+    int size;
+    boolean closed;
+    // G 代码预览中的空移路径
+    boolean rapid;
+
+    public Polyline() {
+        this(16);
+    }
+
+    public Polyline(int capacity) {
+        xy = new float[Math.max(capacity, 2) * 2];
+    }
+
+    public Polyline(float[] xy, int size, boolean closed) {
+        this.xy = xy;
+        this.size = size;
+        this.closed = closed;
+    }
+
+    public void add(double x, double y) {
+        if (size * 2 + 2 > xy.length) {
+            xy = Arrays.copyOf(xy, xy.length * 2);
+        }
+        xy[size * 2] = (float) x;
+        xy[size * 2 + 1] = (float) y;
+        size++;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isClosed() {
+        return closed;
+    }
+
+    public float x(int i) {
+        return xy[i * 2];
+    }
+
+    public float y(int i) {
+        return xy[i * 2 + 1];
+    }
+
+    /**
+     * 反转点的顺序（用于调整路径方向）
+     */
+    public void reverse() {
+        for (int i = 0, j = size - 1; i < j; i++, j--) {
+            float tx = xy[i * 2], ty = xy[i * 2 + 1];
+            xy[i * 2] = xy[j * 2];
+            xy[i * 2 + 1] = xy[j * 2 + 1];
+            xy[j * 2] = tx;
+            xy[j * 2 + 1] = ty;
+        }
+    }
+}
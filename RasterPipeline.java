@@ -0,0 +1,229 @@
+package com.example.opencv.webwhiteboard;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+
+/**
+ * 平台栅格的灰度化与半调网屏处理。灰度化对应 lib/gcode.ts 中的 platformPixelsToGray
+ * （由 GoldenGCodeCheck 与 golden/*.gray 逐字节比对）：sRGB2Linear 按通道查表，linear2sRGB 通过预先求出的
+ * 取整阈值二分查找（结果与逐像素 pow 计算一致）。
+ * <p>
+ * 误差扩散是页面端没有的可选处理（见 PlatformRasterizer.Job 的 errorDiffusion），按行分块以波前方式并行，
+ * 累加顺序与串行完全相同，输出与串行逐字节一致。
+ */
+public final class RasterPipeline {
+
+    // 误差扩散矩阵（除以 48），中心位于第 0 行第 2 列
+    private static final int[][] MATRIX = {{0, 0, 0, 7, 5}, {3, 5, 7, 5, 3}, {1, 3, 5, 3, 1}};
+    // 原始亮度不低于该值的像素视为白色，不接收扩散误差
+    private static final int WHITE_MASK = 220;
+    // 误差扩散分块宽度（列），至少为 5 才能保证上一行领先足够的列数
+    private static final int DIFFUSION_TILE = 256;
+
+    private static final double[] SRGB_TO_LINEAR = new double[256];
+    // LINEAR_THRESHOLDS[k]：linear2sRGB(l) >= k 的最小 l（k = 1..255）
+    private static final double[] LINEAR_THRESHOLDS = new double[256];
+
+    static {
+        for (int c = 0; c < 256; c++) {
+            double v = c / 255.0;
+            SRGB_TO_LINEAR[c] = v < 0.04045 ? (v / 12.92) : Math.pow((v + 0.055) / 1.055, 2.4);
+        }
+        LINEAR_THRESHOLDS[0] = Double.NEGATIVE_INFINITY;
+        for (int k = 1; k < 256; k++) {
+            LINEAR_THRESHOLDS[k] = lowestLinearFor(k);
+        }
+    }
+
+    private RasterPipeline() {
+    }
+
+    /**
+     * 与 JS linear2sRGB 相同的逐值计算
+     */
+    static int linearToSrgbExact(double l) {
+        return (int) Math.round((l > 0.0031308 ? 1.055 * (Math.pow(l, (1.0 / 2.4))) - 0.055 : 12.92 * l) * 255);
+    }
+
+    /**
+     * 查表版本的 linear2sRGB，结果限制在 0-255
+     */
+    static int linearToSrgb(double l) {
+        int lo = 0, hi = 255;
+        while (lo < hi) {
+            int mid = (lo + hi + 1) >>> 1;
+            if (l >= LINEAR_THRESHOLDS[mid]) {
+                lo = mid;
+            } else {
+                hi = mid - 1;
+            }
+        }
+        return lo;
+    }
+
+    /**
+     * 在 [-1, 2] 上按 double 的位序二分，求 linearToSrgbExact(l) >= k 的最小 l
+     */
+    private static double lowestLinearFor(int k) {
+        double lo = -1, hi = 2;
+        while (true) {
+            double mid = lo + (hi - lo) / 2;
+            if (mid <= lo || mid >= hi) {
+                return hi;
+            }
+            if (linearToSrgbExact(mid) >= k) {
+                hi = mid;
+            } else {
+                lo = mid;
+            }
+        }
+    }
+
+    /**
+     * 将一行不透明 ARGB 像素转换为灰度
+     */
+    public static void toGray(int[] argb, int count, boolean negative, byte[] dst, int offset) {
+        final double[] lut = SRGB_TO_LINEAR;
+        for (int i = 0; i < count; i++) {
+            int p = argb[i];
+            double l = 0.2126 * lut[(p >> 16) & 0xFF] + 0.7152 * lut[(p >> 8) & 0xFF] + 0.0722 * lut[p & 0xFF];
+            dst[offset + i] = (byte) linearToSrgb(negative ? 1 - l : l);
+        }
+    }
+
+    /**
+     * 误差扩散半调网屏（原地处理，输出 0 / 255）
+     * <p>
+     * 分块 (y, t) 依赖同一行的前一块和上一行的第 t + 1 块（最后一块依赖上一行最后一块），
+     * 此时上一行至少领先 5 列，两行之间写入的像素互不重叠，且每个像素接收误差的顺序与串行一致。
+     */
+    public static void halftone(byte[] gray, int width, int height) {
+        float[] work = new float[width * height];
+        for (int i = 0; i < work.length; i++) {
+            work[i] = gray[i] & 0xFF;
+        }
+        int tiles = (width + DIFFUSION_TILE - 1) / DIFFUSION_TILE;
+        if (tiles < 3 || WorkerPools.COMPUTE.getParallelism() < 2) {
+            for (int y = 0; y < height; y++) {
+                diffuse(gray, work, width, height, y, 0, width);
+            }
+            return;
+        }
+        new WavefrontDiffusion(gray, work, width, height, tiles).run();
+    }
+
+    private static final class WavefrontDiffusion {
+        private final byte[] gray;
+        private final float[] work;
+        private final int width;
+        private final int height;
+        private final int tiles;
+        // 每个分块尚未完成的依赖数
+        private final AtomicIntegerArray pending;
+        private final CountDownLatch done;
+
+        WavefrontDiffusion(byte[] gray, float[] work, int width, int height, int tiles) {
+            this.gray = gray;
+            this.work = work;
+            this.width = width;
+            this.height = height;
+            this.tiles = tiles;
+            pending = new AtomicIntegerArray(height * tiles);
+            for (int y = 0; y < height; y++) {
+                for (int t = 0; t < tiles; t++) {
+                    pending.set(y * tiles + t, (t > 0 ? 1 : 0) + (y > 0 ? 1 : 0));
+                }
+            }
+            done = new CountDownLatch(height * tiles);
+        }
+
+        void run() {
+            submit(0, 0);
+            try {
+                done.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("半调网屏处理被中断", e);
+            }
+        }
+
+        private void submit(int y, int t) {
+            WorkerPools.COMPUTE.execute(() -> runTile(y, t));
+        }
+
+        private void runTile(int y, int t) {
+            int from = t * DIFFUSION_TILE;
+            diffuse(gray, work, width, height, y, from, Math.min(width, from + DIFFUSION_TILE));
+            if (t + 1 < tiles) {
+                release(y, t + 1);
+            }
+            if (y + 1 < height) {
+                if (t > 0) {
+                    release(y + 1, t - 1);
+                }
+                if (t == tiles - 1) {
+                    release(y + 1, t);
+                }
+            }
+            done.countDown();
+        }
+
+        private void release(int y, int t) {
+            if (pending.decrementAndGet(y * tiles + t) == 0) {
+                submit(y, t);
+            }
+        }
+    }
+
+    private static void diffuse(byte[] gray, float[] work, int width, int height, int y, int fromX, int toX) {
+        for (int x = fromX, i = y * width + fromX; x < toX; x++, i++) {
+            float c = work[i];
+            int newValue = c < 128 ? 0 : 255;
+            gray[i] = (byte) newValue;
+            double quantError = c - newValue;
+            if (quantError == 0) {
+                continue;
+            }
+            for (int iy = 0; iy < 3; iy++) {
+                int my = y + iy;
+                if (my >= height) {
+                    continue;
+                }
+                for (int ix = 0; ix < 5; ix++) {
+                    int m = MATRIX[iy][ix];
+                    if (m == 0) {
+                        continue;
+                    }
+                    int mx = x + ix - 2;
+                    if (mx < 0 || mx >= width) {
+                        continue;
+                    }
+                    int target = mx + my * width;
+                    // 只对非原始白色区域扩散（目标像素尚未处理，gray 中仍是原始值）
+                    if ((gray[target] & 0xFF) < WHITE_MASK) {
+                        float v = (float) (work[target] + quantError * m / 48);
+                        work[target] = Math.max(0f, Math.min(255f, v));
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * 将 0 / 255 位图打包为每像素 1 位（1 为黑，高位在前，每行按字节对齐）
+     */
+    public static byte[] packBits(byte[] gray, int width, int height) {
+        int stride = (width + 7) >> 3;
+        byte[] packed = new byte[stride * height];
+        for (int y = 0; y < height; y++) {
+            int row = y * width;
+            int out = y * stride;
+            for (int x = 0; x < width; x++) {
+                if ((gray[row + x] & 0xFF) < 128) {
+                    packed[out + (x >> 3)] |= (byte) (0x80 >> (x & 7));
+                }
+            }
+        }
+        return packed;
+    }
+}
@@ -0,0 +1,313 @@
+package com.example.opencv.webwhiteboard;
+
+import org.json.JSONArray;
+import org.json.JSONException;
+import org.json.JSONObject;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.CancellationException;
+import java.util.regex.Pattern;
+
+/**
+ * 可断点续写的扫描G代码导出
+ * <p>
+ * 每个任务在 root/jobId 目录下保存任务描述 job.json、栅格副本 raster.bin 与检查点 checkpoint.json，
+ * G 代码按行带追加写入目标文件旁的 .part 文件。检查点在数据落盘后原子替换，记录下一个待生成的行、
+ * .part 的有效长度与模态 X/Y/S/F 状态；进程被杀后用 {@link #open} 重新打开任务，
+ * 截掉检查点之后写入的半截内容并从该行继续，最终输出与一次生成完全一致。
+ * 完成后 .part 重命名为目标文件并删除任务目录。
+ */
+public class ResumableScanExport {
+
+    // 两次检查点之间的最短间隔，避免每个行带都同步落盘
+    private static final long CHECKPOINT_INTERVAL_MS = 500;
+    // 任务 ID 由页面提供并用作目录名，只允许这些字符
+    private static final Pattern JOB_ID = Pattern.compile("[A-Za-z0-9_-]{1,64}");
+
+    /**
+     * 进度回调，在生成线程中按行带调用
+     */
+    public interface ProgressListener {
+        void onProgress(int doneRows, int totalRows, long bytes);
+    }
+
+    private final File dir;
+    private final String jobId;
+    private final JSONObject spec;
+    private volatile ScanGCodeEngine engine;
+    private volatile boolean cancelled;
+
+    private ResumableScanExport(File dir, JSONObject spec) throws JSONException {
+        this.dir = dir;
+        // 目录名已由 jobDir 校验，不使用任务描述中的值
+        this.jobId = dir.getName();
+        this.spec = spec;
+    }
+
+    /**
+     * 创建新任务：复制栅格（原文件位于可被清理的缓存目录中）并写入任务描述，已有同名任务时覆盖
+     *
+     * @param settingsJson {@link ScanGCodeEngine.Settings} 的 JSON
+     */
+    public static ResumableScanExport create(File root, String jobId, File raster, int width, int height,
+                                             String settingsJson, File target) throws IOException, JSONException {
+        File dir = jobDir(root, jobId);
+        deleteRecursively(dir);
+        if (!dir.mkdirs()) {
+            throw new IOException("无法创建任务目录: " + dir);
+        }
+        try (FileInputStream in = new FileInputStream(raster);
+             FileOutputStream out = new FileOutputStream(new File(dir, "raster.bin"))) {
+            FileChannel src = in.getChannel();
+            long size = src.size();
+            long copied = 0;
+            while (copied < size) {
+                copied += src.transferTo(copied, size - copied, out.getChannel());
+            }
+        }
+        JSONObject spec = new JSONObject();
+        spec.put("jobId", jobId);
+        spec.put("width", width);
+        spec.put("height", height);
+        spec.put("settings", new JSONObject(settingsJson));
+        spec.put("target", target.getAbsolutePath());
+        spec.put("createdAt", System.currentTimeMillis());
+        writeAtomically(new File(dir, "job.json"), spec.toString());
+        new File(partPath(target, jobId)).delete();
+        return new ResumableScanExport(dir, spec);
+    }
+
+    /**
+     * 打开未完成的任务，不存在时返回 null
+     */
+    public static ResumableScanExport open(File root, String jobId) throws IOException, JSONException {
+        File dir = jobDir(root, jobId);
+        File specFile = new File(dir, "job.json");
+        if (!specFile.exists()) {
+            return null;
+        }
+        return new ResumableScanExport(dir, new JSONObject(readText(specFile)));
+    }
+
+    /**
+     * 列出未完成的任务：[{jobId, fileName, doneRows, totalRows, bytes, createdAt, updatedAt}]
+     */
+    public static JSONArray pending(File root) {
+        JSONArray list = new JSONArray();
+        File[] dirs = root.listFiles(File::isDirectory);
+        if (dirs == null) {
+            return list;
+        }
+        for (File dir : dirs) {
+            if (!JOB_ID.matcher(dir.getName()).matches()) {
+                continue;
+            }
+            try {
+                ResumableScanExport export = open(root, dir.getName());
+                if (export != null) {
+                    list.put(export.describe());
+                }
+            } catch (Exception e) {
+                // 任务描述损坏，无法恢复
+                e.printStackTrace();
+                deleteRecursively(dir);
+            }
+        }
+        return list;
+    }
+
+    public String getJobId() {
+        return jobId;
+    }
+
+    public File getTarget() throws JSONException {
+        return new File(spec.getString("target"));
+    }
+
+    /**
+     * 任务概况，检查点不存在时 doneRows 为 0
+     */
+    public JSONObject describe() throws IOException, JSONException {
+        JSONObject json = new JSONObject();
+        json.put("jobId", jobId);
+        json.put("fileName", getTarget().getName());
+        json.put("createdAt", spec.optLong("createdAt"));
+        ScanGCodeEngine.Checkpoint cp = readCheckpoint();
+        if (cp != null) {
+            json.put("doneRows", cp.nextRow - cp.minY);
+            json.put("totalRows", cp.maxY - cp.minY + 1);
+            json.put("bytes", cp.bytes);
+            json.put("updatedAt", new File(dir, "checkpoint.json").lastModified());
+        } else {
+            json.put("doneRows", 0);
+        }
+        return json;
+    }
+
+    /**
+     * 生成（或从检查点继续生成）G 代码，完成后重命名为目标文件
+     *
+     * @return {path, bytes, ms, resumedFromRow, rows}
+     * @throws CancellationException 任务被 {@link #cancel} 取消，检查点保留，可再次调用继续
+     */
+    public JSONObject run(ProgressListener listener) throws IOException, JSONException {
+        long start = System.nanoTime();
+        File target = getTarget();
+        File part = new File(partPath(target, jobId));
+        ScanGCodeEngine.Settings settings = ScanGCodeEngine.Settings.fromJson(spec.getJSONObject("settings").toString());
+        ScanGCodeEngine engine = ScanGCodeEngine.fromFile(new File(dir, "raster.bin"),
+                spec.getInt("width"), spec.getInt("height"), settings.rasterBits, settings);
+        this.engine = engine;
+        if (cancelled) {
+            throw new CancellationException();
+        }
+
+        ScanGCodeEngine.Checkpoint resume = readCheckpoint();
+        if (resume != null && part.length() < resume.bytes) {
+            // .part 被删除或截断，检查点失效
+            resume = null;
+        }
+        final ScanGCodeEngine.Checkpoint[] latest = {resume};
+        final long[] lastSaved = {System.nanoTime()};
+        try (RandomAccessFile file = new RandomAccessFile(part, "rw");
+             FileChannel channel = file.getChannel()) {
+            // 丢弃检查点之后写入的不完整行带
+            long offset = resume != null ? resume.bytes : 0;
+            channel.truncate(offset);
+            channel.position(offset);
+            try (NativeMetrics.Span span = NativeMetrics.span("scan.resumable")) {
+                try {
+                    engine.generate(channel, resume, cp -> {
+                        latest[0] = cp;
+                        long now = System.nanoTime();
+                        if ((now - lastSaved[0]) / 1000000 >= CHECKPOINT_INTERVAL_MS) {
+                            saveCheckpoint(channel, cp);
+                            lastSaved[0] = now;
+                        }
+                        if (listener != null) {
+                            listener.onProgress(cp.nextRow - cp.minY, cp.maxY - cp.minY + 1, cp.bytes);
+                        }
+                    });
+                } catch (CancellationException | IOException e) {
+                    span.fail();
+                    // 保存最后一个完整行带的位置，下次从这里继续
+                    if (latest[0] != null && latest[0] != resume) {
+                        saveCheckpoint(channel, latest[0]);
+                    }
+                    throw e;
+                }
+                span.detail(resume != null ? "resumed@" + resume.nextRow : "fresh");
+            }
+            channel.force(true);
+        }
+
+        long bytes = part.length();
+        StreamingFileWriter.replaceFile(part, target);
+        deleteRecursively(dir);
+        long nanos = System.nanoTime() - start;
+        NativeMetrics.recordWrite("scan.resumable", bytes - (resume != null ? resume.bytes : 0), nanos);
+
+        JSONObject result = new JSONObject();
+        result.put("path", target.getAbsolutePath());
+        result.put("bytes", bytes);
+        result.put("ms", nanos / 1000000);
+        result.put("resumedFromRow", resume != null ? resume.nextRow : -1);
+        if (latest[0] != null) {
+            result.put("rows", latest[0].maxY - latest[0].minY + 1);
+        }
+        return result;
+    }
+
+    /**
+     * 请求取消：生成在当前行结束后停止，已完成的行带写入检查点
+     */
+    public void cancel() {
+        cancelled = true;
+        ScanGCodeEngine e = engine;
+        if (e != null) {
+            e.cancel();
+        }
+    }
+
+    /**
+     * 删除任务目录与未完成的输出（应先取消正在运行的任务）
+     */
+    public void discard() throws JSONException {
+        new File(partPath(getTarget(), jobId)).delete();
+        deleteRecursively(dir);
+    }
+
+    private static File jobDir(File root, String jobId) {
+        if (jobId == null || !JOB_ID.matcher(jobId).matches()) {
+            throw new IllegalArgumentException("无效的任务 ID: " + jobId);
+        }
+        return new File(root, jobId);
+    }
+
+    private ScanGCodeEngine.Checkpoint readCheckpoint() throws IOException, JSONException {
+        File file = new File(dir, "checkpoint.json");
+        if (!file.exists()) {
+            return null;
+        }
+        return ScanGCodeEngine.Checkpoint.fromJson(new JSONObject(readText(file)));
+    }
+
+    /**
+     * 先让 .part 内容落盘，再原子替换检查点，保证检查点指向的数据一定完整
+     */
+    private void saveCheckpoint(FileChannel channel, ScanGCodeEngine.Checkpoint cp) throws IOException {
+        channel.force(false);
+        try {
+            writeAtomically(new File(dir, "checkpoint.json"), cp.toJson().toString());
+        } catch (JSONException e) {
+            throw new IOException(e);
+        }
+    }
+
+    // 带任务ID：同名目标的两个任务各自续写自己的输出，续写时仍能找到同一个文件
+    private static String partPath(File target, String jobId) {
+        return target.getAbsolutePath() + "." + jobId + ".part";
+    }
+
+    private static void writeAtomically(File file, String text) throws IOException {
+        File tmp = new File(file.getPath() + ".tmp");
+        try (FileOutputStream out = new FileOutputStream(tmp)) {
+            out.write(text.getBytes(StandardCharsets.UTF_8));
+            out.getFD().sync();
+        }
+        if (!tmp.renameTo(file)) {
+            throw new IOException("无法替换文件: " + file);
+        }
+    }
+
+    private static String readText(File file) throws IOException {
+        try (FileInputStream in = new FileInputStream(file)) {
+            byte[] bytes = new byte[(int) file.length()];
+            int n = 0;
+            while (n < bytes.length) {
+                int r = in.read(bytes, n, bytes.length - n);
+                if (r < 0) {
+                    break;
+                }
+                n += r;
+            }
+            return new String(bytes, 0, n, StandardCharsets.UTF_8);
+        }
+    }
+
+    private static void deleteRecursively(File file) {
+        File[] children = file.listFiles();
+        if (children != null) {
+            for (File child : children) {
+                deleteRecursively(child);
+            }
+        }
+        file.delete();
+    }
+}
@@ -0,0 +1,647 @@
+package com.example.opencv.webwhiteboard;
+
+import org.json.JSONException;
+import org.json.JSONObject;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RecursiveTask;
+
+import static com.example.opencv.webwhiteboard.GCodeWriter.jsNumber;
+import static com.example.opencv.webwhiteboard.GCodeWriter.toFixed;
+
+/**
+ * 平台扫描 G 代码生成引擎（lib/gcode.ts 中 generatePlatformScanGCode 的 Java 实现）
+ * <p>
+ * 输入为 8 位灰度栅格（与 createPlatformImage 输出的数据一致，行优先、自上而下），
+ * 输出与 JS 版本逐字节一致的 G0/G1/S/F 指令流，包括空白行跳过、超扫描与白色截断规则。
+ * 栅格按行带(band)拆分后在 ForkJoinPool 上并行生成，再按顺序直接写入文件。
+ * 指令通过 {@link GCodeWriter} 直接格式化为字节，不产生中间字符串。
+ * <p>
+ * 每个行带写出后可通过 {@link CheckpointListener} 获得检查点（已完成的行与跨行带的模态状态），
+ * 从检查点继续生成的输出与一次生成完全一致，供 {@link ResumableScanExport} 断点续写使用。
+ */
+public class ScanGCodeEngine {
+
+    // 接近白色的像素强制不出光（与 JS 的 whiteCutoff 一致）
+    private static final int WHITE_CUTOFF = 250;
+    // 每个行带包含的行数
+    private static final int ROWS_PER_BAND = 64;
+
+    private static final ForkJoinPool POOL = WorkerPools.COMPUTE;
+
+    /**
+     * 扫描参数（对应 GCodeScanSettings 及 G 代码头部需要的图层信息）
+     */
+    public static class Settings {
+        public double lineDensity;
+        public boolean isHalftone;
+        public double minPower = 0;
+        public double maxPower = 100;
+        public double burnSpeed = 1000;
+        public double travelSpeed = 6000;
+        public double overscanDist = 3;
+
+        public String layerName = "";
+        public int itemCount;
+        public double platformWidth;
+        public double platformHeight;
+        // 栅格文件的像素位数：8 为灰度，1 为原生半调网屏输出的位图
+        public int rasterBits = 8;
+
+        public static Settings fromJson(String json) throws JSONException {
+            JSONObject obj = new JSONObject(json);
+            Settings s = new Settings();
+            s.lineDensity = obj.getDouble("lineDensity");
+            s.isHalftone = obj.optBoolean("isHalftone", false);
+            s.minPower = obj.optDouble("minPower", 0);
+            s.maxPower = obj.optDouble("maxPower", 100);
+            s.burnSpeed = obj.optDouble("burnSpeed", 1000);
+            s.travelSpeed = obj.optDouble("travelSpeed", 6000);
+            s.overscanDist = obj.optDouble("overscanDist", 3);
+            s.layerName = obj.optString("layerName", "");
+            s.itemCount = obj.optInt("itemCount", 0);
+            s.platformWidth = obj.optDouble("platformWidth", 0);
+            s.platformHeight = obj.optDouble("platformHeight", 0);
+            s.rasterBits = obj.optInt("rasterBits", 8);
+            return s;
+        }
+    }
+
+    private final Settings settings;
+    private final ByteBuffer raster;
+    private final int width;
+    private final int height;
+    // 8：每字节一个灰度像素；1：每位一个像素（1 为黑），行按字节对齐，高位在前
+    private final int bitsPerPixel;
+    private final int rowStride;
+    // 每个灰度值对应的功率，避免逐像素重复计算
+    private final double[] powerTable = new double[256];
+    private ProgressListener progressListener;
+    private volatile boolean cancelled;
+
+    /**
+     * 生成进度回调，在写入线程中按行带调用
+     */
+    public interface ProgressListener {
+        void onProgress(int doneRows, int totalRows);
+    }
+
+    /**
+     * 行带写出后的回调，调用时行带内容已写入通道
+     */
+    public interface CheckpointListener {
+        void onCheckpoint(Checkpoint checkpoint) throws IOException;
+    }
+
+    /**
+     * 断点续写所需的状态：下一个待生成的行、已跳过的空白行数、已写出的字节数，
+     * 以及跨行带的模态状态（待输出的运动与已输出的 X/Y/F）。NaN 表示尚无该值。
+     */
+    public static final class Checkpoint {
+        // 内容行范围，恢复时用于校验栅格未发生变化
+        public int minY;
+        public int maxY;
+        public int nextRow;
+        public int skippedRows;
+        public long bytes;
+        double pendingX = Double.NaN, pendingY = Double.NaN, pendingSpeed = Double.NaN, pendingPower = 0;
+        double lastX = Double.NaN, lastY = Double.NaN, lastF = Double.NaN;
+
+        public JSONObject toJson() throws JSONException {
+            JSONObject json = new JSONObject();
+            json.put("minY", minY);
+            json.put("maxY", maxY);
+            json.put("nextRow", nextRow);
+            json.put("skippedRows", skippedRows);
+            json.put("bytes", bytes);
+            putNumber(json, "pendingX", pendingX);
+            putNumber(json, "pendingY", pendingY);
+            putNumber(json, "pendingSpeed", pendingSpeed);
+            putNumber(json, "pendingPower", pendingPower);
+            putNumber(json, "lastX", lastX);
+            putNumber(json, "lastY", lastY);
+            putNumber(json, "lastF", lastF);
+            return json;
+        }
+
+        public static Checkpoint fromJson(JSONObject json) throws JSONException {
+            Checkpoint cp = new Checkpoint();
+            cp.minY = json.getInt("minY");
+            cp.maxY = json.getInt("maxY");
+            cp.nextRow = json.getInt("nextRow");
+            cp.skippedRows = json.getInt("skippedRows");
+            cp.bytes = json.getLong("bytes");
+            cp.pendingX = json.optDouble("pendingX", Double.NaN);
+            cp.pendingY = json.optDouble("pendingY", Double.NaN);
+            cp.pendingSpeed = json.optDouble("pendingSpeed", Double.NaN);
+            cp.pendingPower = json.optDouble("pendingPower", 0);
+            cp.lastX = json.optDouble("lastX", Double.NaN);
+            cp.lastY = json.optDouble("lastY", Double.NaN);
+            cp.lastF = json.optDouble("lastF", Double.NaN);
+            return cp;
+        }
+
+        // JSON 不支持 NaN，缺省即表示 NaN
+        private static void putNumber(JSONObject json, String key, double v) throws JSONException {
+            if (!Double.isNaN(v)) {
+                json.put(key, v);
+            }
+        }
+    }
+
+    /**
+     * @param raster 灰度栅格，长度至少为 width * height，每字节一个像素 (0-255)
+     */
+    public ScanGCodeEngine(ByteBuffer raster, int width, int height, Settings settings) {
+        this(raster, width, height, 8, settings);
+    }
+
+    /**
+     * @param raster       栅格数据
+     * @param bitsPerPixel 8 为灰度栅格；1 为半调网屏输出的位图（1 为黑），每行按字节对齐
+     */
+    public ScanGCodeEngine(ByteBuffer raster, int width, int height, int bitsPerPixel, Settings settings) {
+        if (bitsPerPixel != 8 && bitsPerPixel != 1) {
+            throw new IllegalArgumentException("不支持的像素位数: " + bitsPerPixel);
+        }
+        this.rowStride = bitsPerPixel == 8 ? width : (width + 7) >> 3;
+        if (raster.capacity() < (long) rowStride * height) {
+            throw new IllegalArgumentException("栅格数据长度不足: " + raster.capacity() + " < " + width + "x" + height);
+        }
+        this.raster = raster;
+        this.width = width;
+        this.height = height;
+        this.bitsPerPixel = bitsPerPixel;
+        this.settings = settings;
+        for (int c = 0; c < 256; c++) {
+            powerTable[c] = computePower(c);
+        }
+    }
+
+    /**
+     * 从栅格文件（例如 saveTempFile 写入的临时文件）创建引擎，文件以只读方式内存映射
+     */
+    public static ScanGCodeEngine fromFile(File rasterFile, int width, int height, Settings settings) throws IOException {
+        return fromFile(rasterFile, width, height, 8, settings);
+    }
+
+    public static ScanGCodeEngine fromFile(File rasterFile, int width, int height, int bitsPerPixel, Settings settings) throws IOException {
+        try (RandomAccessFile file = new RandomAccessFile(rasterFile, "r");
+             FileChannel channel = file.getChannel()) {
+            ByteBuffer mapped = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            return new ScanGCodeEngine(mapped, width, height, bitsPerPixel, settings);
+        }
+    }
+
+    public ScanGCodeEngine setProgressListener(ProgressListener listener) {
+        this.progressListener = listener;
+        return this;
+    }
+
+    /**
+     * 取消生成：正在生成的行带在下一行开始前退出，generate 抛出 {@link CancellationException}
+     */
+    public void cancel() {
+        cancelled = true;
+    }
+
+    /**
+     * 生成 G 代码并写入目标文件
+     *
+     * @return 写入的字节数
+     */
+    public long generate(File outFile) throws IOException {
+        long start = System.nanoTime();
+        long bytes;
+        try (FileOutputStream fos = new FileOutputStream(outFile);
+             FileChannel out = fos.getChannel()) {
+            bytes = generate(out);
+        }
+        NativeMetrics.recordWrite("scan.file", bytes, System.nanoTime() - start);
+        return bytes;
+    }
+
+    public long generate(WritableByteChannel channel) throws IOException {
+        return generate(channel, null, null);
+    }
+
+    /**
+     * 生成 G 代码，可从检查点继续
+     *
+     * @param resume   为 null 时从头生成；否则通道应位于 resume.bytes 处，从 resume.nextRow 继续
+     * @param listener 每个行带写出后回调，可为 null
+     * @return 本次写入的字节数
+     * @throws CancellationException 调用了 {@link #cancel}
+     */
+    public long generate(WritableByteChannel channel, Checkpoint resume, CheckpointListener listener) throws IOException {
+        GCodeWriter out = new GCodeWriter(channel);
+        try (NativeMetrics.Span span = NativeMetrics.span("scan.generate")) {
+            try {
+                writeGCode(out, resume, listener);
+                out.flush();
+            } catch (GCodeWriter.GCodeIOException e) {
+                span.fail();
+                throw e.unwrap();
+            } catch (CancellationException e) {
+                span.fail().detail("cancelled");
+                throw e;
+            }
+            span.detail(width + "x" + height + " " + out.size() + "B");
+        }
+        return out.size();
+    }
+
+    private void writeGCode(GCodeWriter out, Checkpoint resume, CheckpointListener listener) throws IOException {
+        final double dx = settings.lineDensity;
+        final double dy = settings.lineDensity;
+
+        int[] bounds = findContentBounds();
+        int minX = bounds[0], maxX = bounds[1], minY = bounds[2], maxY = bounds[3];
+        if (resume != null) {
+            if (resume.minY != minY || resume.maxY != maxY || resume.nextRow < minY || resume.nextRow > maxY + 1) {
+                throw new IOException("检查点与栅格不匹配");
+            }
+            writeBands(out, minX, maxX, minY, maxY, resume, listener);
+            return;
+        }
+
+        out.putAscii("; Platform Scan G-Code for Nexcut");
+        line(out, "; Layer: " + settings.layerName);
+        line(out, "; Image Count: " + settings.itemCount);
+        line(out, "; Platform Size: " + jsNumber(settings.platformWidth) + "x" + jsNumber(settings.platformHeight) + " mm");
+        line(out, "; Resolution: " + jsNumber(settings.lineDensity) + " mm/pixel (" + width + "x" + height + " pixels)");
+        line(out, "; Mode: " + (settings.isHalftone ? "Halftone" : "Greyscale"));
+        line(out, "; Power Range: [" + jsNumber(settings.minPower) + ", " + jsNumber(settings.maxPower) + "] (0-100 scale)");
+        line(out, "; Speed: Burn=" + jsNumber(settings.burnSpeed) + " mm/min, Travel=" + jsNumber(settings.travelSpeed) + " mm/min");
+        line(out, "; Optimization: Skip blank rows/columns, fast travel for blank areas");
+        line(out, ";");
+        line(out, "G90 ; Absolute positioning");
+        line(out, "G21 ; Units in millimeters");
+        line(out, "M4 ; Enable laser (variable power mode)");
+        line(out, "");
+
+        if (minY > maxY || minX > maxX) {
+            line(out, "; No content found in layer");
+            line(out, "M5 ; Disable laser");
+            line(out, "M2 ; End program");
+            return;
+        }
+
+        double contentWidth = (maxX - minX + 1) * dx;
+        double contentHeight = (maxY - minY + 1) * dy;
+        String reductionX = toFixed((width * dx - contentWidth) / (width * dx) * 100, 1);
+        String reductionY = toFixed((height * dy - contentHeight) / (height * dy) * 100, 1);
+        double overscan = settings.overscanDist;
+
+        line(out, "; Content detection: using threshold < " + WHITE_CUTOFF + " (instead of < 255) for better edge protection");
+        line(out, "; Halftone processing: " + (settings.isHalftone ? "ENABLED - binary threshold at 128, blank areas protected" : "DISABLED - greyscale mode"));
+        line(out, "; Reverse Movement Offset (空移): " + jsNumber(overscan) + " mm (" + jsNumber(Math.ceil(overscan / dx)) + " pixels at " + toFixed(dx, 3) + " mm/pixel)");
+        line(out, "; Content bounds: X[" + toFixed(minX * dx, 1) + ", " + toFixed(maxX * dx, 1) + "] Y[" + toFixed(minY * dy, 1) + ", " + toFixed(maxY * dy, 1) + "] mm");
+        line(out, "; Actual scan range: X[" + toFixed((minX * dx) - overscan, 1) + ", " + toFixed((maxX * dx) + overscan, 1) + "] mm (content + overscan)");
+        line(out, "; Overscan application: " + (settings.isHalftone ? "Applied in halftone mode for smooth edge transitions" : "Applied in greyscale mode for power ramping"));
+        line(out, "; Content pixels: minX=" + minX + ", maxX=" + maxX + ", minY=" + minY + ", maxY=" + maxY + " (" + (maxX - minX + 1) + "x" + (maxY - minY + 1) + " pixels)");
+        line(out, "; Content area: " + toFixed(contentWidth, 1) + "x" + toFixed(contentHeight, 1) + " mm (reduced by " + reductionX + "%x" + reductionY + "%)");
+        line(out, "; Scan area optimized: " + (maxY - minY + 1) + " rows of " + height + " total (" + toFixed((double) (maxY - minY + 1) / height * 100, 1) + "%)");
+        line(out, "");
+
+        Checkpoint start = new Checkpoint();
+        start.minY = minY;
+        start.maxY = maxY;
+        start.nextRow = minY;
+        start.bytes = out.size();
+        writeBands(out, minX, maxX, minY, maxY, start, listener);
+    }
+
+    /**
+     * 从 from.nextRow 开始生成剩余的行带并写出结尾
+     */
+    private void writeBands(GCodeWriter out, int minX, int maxX, int minY, int maxY,
+                            Checkpoint from, CheckpointListener listener) throws IOException {
+        final double dx = settings.lineDensity;
+        final double dy = settings.lineDensity;
+        double contentWidth = (maxX - minX + 1) * dx;
+        double contentHeight = (maxY - minY + 1) * dy;
+
+        ModalState carry = new ModalState();
+        carry.x1 = from.pendingX;
+        carry.y1 = from.pendingY;
+        carry.speed1 = from.pendingSpeed;
+        carry.power1 = from.pendingPower;
+        out.setModal(from.lastX, from.lastY, from.lastF);
+        int skippedRows = from.skippedRows;
+        int doneRows = from.nextRow - minY;
+        // 本次生成之前已写出的字节数
+        long baseBytes = from.bytes - out.size();
+
+        // 按顺序提交行带任务，同时在途的任务数受限，保证内存占用与总行数无关
+        int maxInFlight = POOL.getParallelism() * 2;
+        Deque<ForkJoinTask<Band>> inFlight = new ArrayDeque<>();
+        int nextRow = from.nextRow;
+        try {
+            while (nextRow <= maxY || !inFlight.isEmpty()) {
+                if (cancelled) {
+                    throw new CancellationException();
+                }
+                while (nextRow <= maxY && inFlight.size() < maxInFlight) {
+                    int end = Math.min(maxY, nextRow + ROWS_PER_BAND - 1);
+                    inFlight.addLast(POOL.submit(new BandTask(nextRow, end, minX, maxX)));
+                    nextRow = end + 1;
+                }
+                Band band = inFlight.removeFirst().join();
+                skippedRows += band.skippedRows;
+                doneRows += band.rows;
+                if (band.hasRows) {
+                    // 行带第一行的起始移动依赖上一个行带结束时的模态状态，在合并时补齐
+                    carry.goTo(out, band.firstStartX, band.firstStartY, 0, settings.travelSpeed, true);
+                    out.append(band.out);
+                    carry = band.exit;
+                }
+                if (listener != null) {
+                    out.flush();
+                    Checkpoint cp = new Checkpoint();
+                    cp.minY = minY;
+                    cp.maxY = maxY;
+                    cp.nextRow = minY + doneRows;
+                    cp.skippedRows = skippedRows;
+                    cp.bytes = baseBytes + out.size();
+                    cp.pendingX = carry.x1;
+                    cp.pendingY = carry.y1;
+                    cp.pendingSpeed = carry.speed1;
+                    cp.pendingPower = carry.power1;
+                    cp.lastX = out.lastX();
+                    cp.lastY = out.lastY();
+                    cp.lastF = out.lastF();
+                    listener.onCheckpoint(cp);
+                }
+                if (progressListener != null) {
+                    progressListener.onProgress(doneRows, maxY - minY + 1);
+                }
+            }
+        } finally {
+            // 取消或出错时不再等待其余行带
+            for (ForkJoinTask<Band> task : inFlight) {
+                task.cancel(false);
+            }
+        }
+
+        int processedRows = maxY - minY + 1;
+        line(out, "M5 ; Disable laser");
+        line(out, "");
+        line(out, "; Optimization Results:");
+        line(out, "; - Processed " + (processedRows - skippedRows) + " rows, skipped " + skippedRows + " blank rows");
+        line(out, "; - Total area reduction: " + toFixed((width * dx - contentWidth) / (width * dx) * 100, 1) + "% width × " + toFixed((height * dy - contentHeight) / (height * dy) * 100, 1) + "% height");
+        line(out, "; - Scan time reduced by skipping blank areas");
+        line(out, "M2 ; End program");
+    }
+
+    /**
+     * 计算内容边界 [minX, maxX, minY, maxY]（Y 为机器坐标，即栅格行号反转）
+     */
+    private int[] findContentBounds() {
+        int bands = (height + ROWS_PER_BAND - 1) / ROWS_PER_BAND;
+        ForkJoinTask<?>[] tasks = new ForkJoinTask<?>[bands];
+        int[][] partial = new int[bands][];
+        for (int b = 0; b < bands; b++) {
+            final int band = b;
+            tasks[b] = POOL.submit(() -> {
+                int minX = width, maxX = -1, minY = height, maxY = -1;
+                byte[] row = new byte[width];
+                int end = Math.min(height, (band + 1) * ROWS_PER_BAND);
+                for (int y = band * ROWS_PER_BAND; y < end; y++) {
+                    readRow(y, row);
+                    for (int x = 0; x < width; x++) {
+                        if ((row[x] & 0xFF) < WHITE_CUTOFF) {
+                            if (y < minY) minY = y;
+                            if (y > maxY) maxY = y;
+                            if (x < minX) minX = x;
+                            if (x > maxX) maxX = x;
+                        }
+                    }
+                }
+                partial[band] = new int[]{minX, maxX, minY, maxY};
+            });
+        }
+        int minX = width, maxX = -1, minY = height, maxY = -1;
+        for (int b = 0; b < bands; b++) {
+            tasks[b].join();
+            minX = Math.min(minX, partial[b][0]);
+            maxX = Math.max(maxX, partial[b][1]);
+            minY = Math.min(minY, partial[b][2]);
+            maxY = Math.max(maxY, partial[b][3]);
+        }
+        return new int[]{minX, maxX, minY, maxY};
+    }
+
+    /**
+     * 读取机器坐标第 y 行（对应栅格第 height - 1 - y 行）
+     */
+    private void readRow(int y, byte[] dst) {
+        ByteBuffer view = raster.duplicate();
+        view.position((height - 1 - y) * rowStride);
+        if (bitsPerPixel == 8) {
+            view.get(dst, 0, width);
+            return;
+        }
+        for (int x = 0; x < width; x += 8) {
+            int bits = view.get() & 0xFF;
+            for (int k = 0; k < 8 && x + k < width; k++) {
+                dst[x + k] = (byte) ((bits & (0x80 >> k)) != 0 ? 0 : 255);
+            }
+        }
+    }
+
+    private double computePower(int c) {
+        if (settings.isHalftone) {
+            return c < 128 ? settings.maxPower : 0;
+        }
+        if (c >= WHITE_CUTOFF) {
+            // 接近白色直接不出光
+            return 0;
+        } else if (settings.maxPower == settings.minPower) {
+            // 单一功率模式：暗于127的像素使用设定功率，亮于127的像素不出光
+            return c < 127 ? settings.maxPower : 0;
+        }
+        return Math.round(settings.minPower + (1.0 - c / 255.0) * (settings.maxPower - settings.minPower));
+    }
+
+    /**
+     * 单个行带的生成结果
+     */
+    private static class Band {
+        int rows;
+        boolean hasRows;
+        double firstStartX;
+        double firstStartY;
+        int skippedRows;
+        ModalState exit;
+        GCodeWriter out;
+    }
+
+    private class BandTask extends RecursiveTask<Band> {
+        private final int startRow;
+        private final int endRow;
+        private final int minX;
+        private final int maxX;
+
+        BandTask(int startRow, int endRow, int minX, int maxX) {
+            this.startRow = startRow;
+            this.endRow = endRow;
+            this.minX = minX;
+            this.maxX = maxX;
+        }
+
+        @Override
+        protected Band compute() {
+            final double dx = settings.lineDensity;
+            final double overscan = settings.overscanDist;
+            final double burn = settings.burnSpeed;
+            final double travel = settings.travelSpeed;
+            final int overscanPixels = (int) Math.ceil(overscan / dx);
+
+            Band band = new Band();
+            band.rows = endRow - startRow + 1;
+            band.out = new GCodeWriter(64 * 1024);
+            ModalState state = null;
+            byte[] row = new byte[width];
+
+            for (int y = startRow; y <= endRow; y++) {
+                if (cancelled) {
+                    throw new CancellationException();
+                }
+                boolean reverseDir = y % 2 != 0; // 之字形扫描
+                double currentY = y * settings.lineDensity;
+
+                readRow(y, row);
+                int rowMinX = width, rowMaxX = -1;
+                for (int x = minX; x <= maxX; x++) {
+                    if ((row[x] & 0xFF) < WHITE_CUTOFF) {
+                        if (x < rowMinX) rowMinX = x;
+                        if (x > rowMaxX) rowMaxX = x;
+                    }
+                }
+                // 跳过空白行
+                if (rowMaxX < 0) {
+                    band.skippedRows++;
+                    continue;
+                }
+
+                double contentStartX = rowMinX * dx;
+                double contentEndX = rowMaxX * dx;
+                int scanStartX = Math.max(0, rowMinX - overscanPixels);
+                int scanEndX = Math.min(width - 1, rowMaxX + overscanPixels);
+
+                // 移动到行的开始位置（带超扫描）
+                double startX = reverseDir ? contentEndX + overscan : contentStartX - overscan;
+                if (state == null) {
+                    band.hasRows = true;
+                    band.firstStartX = startX;
+                    band.firstStartY = currentY;
+                    // 假定行起始移动已由合并阶段输出
+                    state = new ModalState();
+                    state.power1 = 0;
+                    state.speed1 = travel;
+                    band.out.setModal(startX, currentY, travel);
+                } else {
+                    state.goTo(band.out, startX, currentY, 0, travel, true);
+                }
+
+                if (settings.isHalftone && overscan > 0) {
+                    double preheatX = reverseDir ? contentEndX + overscan * 0.5 : contentStartX - overscan * 0.5;
+                    state.goTo(band.out, preheatX, Double.NaN, 0, travel, false);
+                }
+
+                // 移动到扫描起始点（内容边界）
+                state.goTo(band.out, reverseDir ? contentEndX : contentStartX, Double.NaN, 0, travel, false);
+
+                int sx = scanStartX;
+                while (sx <= scanEndX) {
+                    int ix = reverseDir ? (scanEndX - (sx - scanStartX)) : sx;
+                    double power = powerTable[row[ix] & 0xFF];
+                    if (power > 0) {
+                        state.goTo(band.out, ix * dx, Double.NaN, power, burn, false);
+                        sx++;
+                    } else {
+                        // 查找连续的空白像素
+                        int blankStart = sx;
+                        int blankEnd = sx;
+                        while (blankEnd <= scanEndX) {
+                            int testIx = reverseDir ? (scanEndX - (blankEnd - scanStartX)) : blankEnd;
+                            if (powerTable[row[testIx] & 0xFF] > 0) {
+                                break;
+                            }
+                            blankEnd++;
+                        }
+                        if (blankEnd - blankStart > 3) {
+                            // 连续空白超过3个像素，使用快速移动跳过
+                            int skipToIx = reverseDir ? (scanEndX - (blankEnd - 1 - scanStartX)) : (blankEnd - 1);
+                            state.goTo(band.out, skipToIx * dx, Double.NaN, 0, travel, false);
+                            sx = blankEnd;
+                        } else {
+                            state.goTo(band.out, ix * dx, Double.NaN, 0, burn, false);
+                            sx++;
+                        }
+                    }
+                }
+
+                // 移动到行的结束位置（带超扫描）
+                double endX = reverseDir ? contentStartX - overscan : contentEndX + overscan;
+                state.goTo(band.out, endX, Double.NaN, 0, travel, true);
+                line(band.out, "");
+            }
+            band.exit = state;
+            return band;
+        }
+    }
+
+    /**
+     * 待输出的运动状态，与 JS 中 flush/goTo 闭包的语义一致（已输出的 X/Y/F 由 GCodeWriter 记录）。
+     * NaN 表示 JS 中的 null。
+     */
+    private static final class ModalState {
+        double x1 = Double.NaN, y1 = Double.NaN, speed1 = Double.NaN, power1 = 0;
+
+        void goTo(GCodeWriter out, double x, double y, double power, double speed, boolean forceFlush) {
+            if (power1 != power || speed1 != speed) {
+                flush(out);
+                power1 = power;
+                speed1 = speed;
+            }
+            if (!Double.isNaN(x)) x1 = x;
+            if (!Double.isNaN(y)) y1 = y;
+            if (forceFlush) {
+                flush(out);
+            }
+        }
+
+        void flush(GCodeWriter out) {
+            // 功率为0时使用G0（快速移动），功率大于0时使用G1（工作移动）
+            boolean isRapidMove = power1 == 0;
+            out.beginLine().putAscii(isRapidMove ? "G0 " : "G1 ");
+            boolean movedX = out.x(x1);
+            boolean movedY = out.y(y1);
+            if (!movedX && !movedY) {
+                out.cancelLine();
+                return;
+            }
+            if (!isRapidMove) {
+                out.s(power1);
+            }
+            out.f(speed1);
+        }
+    }
+
+    private static void line(GCodeWriter out, String text) {
+        out.newLine().putText(text);
+    }
+}
@@ -0,0 +1,296 @@
+package com.example.opencv.webwhiteboard;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.CharsetEncoder;
+import java.nio.charset.CoderResult;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 分块流式写文件（用于替代整文件 base64 的 saveBlobFile）
+ * <p>
+ * 前端按 beginFile -> appendChunk* -> commit/abort 的顺序调用，
+ * 每个分块在后台写线程中编码为 UTF-8 并经缓冲的 FileChannel 写入临时文件，
+ * commit 时再重命名为目标文件。内存峰值只与分块大小相关，与文件大小无关。
+ */
+public class StreamingFileWriter {
+
+    /**
+     * 写入完成回调（在写线程中调用）
+     */
+    public interface Callback {
+        void onCommitted(String fileName, File file, long bytes);
+
+        void onFailed(String fileName, Exception error);
+    }
+
+    /**
+     * 目标文件解析（由 Activity 根据下载路径决定）
+     */
+    public interface TargetResolver {
+        File resolve(String fileName);
+    }
+
+    // 同一时刻允许排队等待写入的分块数，超过后 appendChunk 会阻塞 JS 调用线程
+    private static final int MAX_PENDING_CHUNKS = 4;
+    private static final int WRITE_BUFFER_SIZE = 256 * 1024;
+
+    private final TargetResolver resolver;
+    private final Callback callback;
+    private final ExecutorService writer = Executors.newSingleThreadExecutor(r -> {
+        Thread t = new Thread(r, "gcode-file-writer");
+        t.setPriority(Thread.NORM_PRIORITY - 1);
+        return t;
+    });
+    private final Map<String, Session> sessions = new ConcurrentHashMap<>();
+    private final AtomicLong nextId = new AtomicLong(1);
+
+    public StreamingFileWriter(TargetResolver resolver, Callback callback) {
+        this.resolver = resolver;
+        this.callback = callback;
+    }
+
+    /**
+     * 开始一个写文件会话
+     *
+     * @return 会话ID，失败时返回空字符串
+     */
+    public String beginFile(String fileName) {
+        File target = resolver.resolve(fileName);
+        if (target == null) {
+            return "";
+        }
+        String id = "file-" + nextId.getAndIncrement();
+        Session session = new Session(fileName, target, id);
+        sessions.put(id, session);
+        writer.execute(() -> {
+            try {
+                session.open();
+            } catch (IOException e) {
+                session.error = e;
+            }
+        });
+        return id;
+    }
+
+    /**
+     * 追加一个文本分块。写线程积压过多时阻塞调用方以实现背压。
+     *
+     * @return 会话不存在或已失败时返回 false
+     */
+    public boolean appendChunk(String sessionId, String chunk) {
+        Session session = sessions.get(sessionId);
+        if (session == null || session.error != null) {
+            return false;
+        }
+        if (chunk == null || chunk.isEmpty()) {
+            return true;
+        }
+        return enqueue(session, () -> session.write(chunk));
+    }
+
+    /**
+     * 追加已编码为 UTF-8 的分块（二进制通道），data 交由写线程使用，调用方不得再修改
+     *
+     * @return 会话不存在或已失败时返回 false
+     */
+    public boolean appendBytes(String sessionId, ByteBuffer data) {
+        Session session = sessions.get(sessionId);
+        if (session == null || session.error != null) {
+            return false;
+        }
+        if (!data.hasRemaining()) {
+            return true;
+        }
+        return enqueue(session, () -> session.write(data));
+    }
+
+    private interface Write {
+        void run() throws IOException;
+    }
+
+    private boolean enqueue(Session session, Write write) {
+        try {
+            session.pending.acquire();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+        writer.execute(() -> {
+            try {
+                if (session.error == null) {
+                    write.run();
+                }
+            } catch (IOException e) {
+                session.error = e;
+            } finally {
+                session.pending.release();
+            }
+        });
+        return true;
+    }
+
+    /**
+     * 提交会话：刷新缓冲、关闭文件并重命名为目标文件，结果通过 Callback 通知
+     */
+    public boolean commit(String sessionId) {
+        Session session = sessions.remove(sessionId);
+        if (session == null) {
+            return false;
+        }
+        writer.execute(() -> {
+            try {
+                if (session.error != null) {
+                    throw session.error;
+                }
+                long bytes = session.finish();
+                callback.onCommitted(session.fileName, session.target, bytes);
+            } catch (Exception e) {
+                session.discard();
+                callback.onFailed(session.fileName, e);
+            }
+        });
+        return true;
+    }
+
+    /**
+     * 放弃会话并删除已写入的临时文件
+     */
+    public void abort(String sessionId) {
+        Session session = sessions.remove(sessionId);
+        if (session != null) {
+            writer.execute(session::discard);
+        }
+    }
+
+    /**
+     * 放弃所有未提交的会话并停止写线程
+     */
+    public void shutdown() {
+        for (String id : sessions.keySet()) {
+            abort(id);
+        }
+        writer.shutdown();
+    }
+
+    /**
+     * 用 source 替换 target。rename 在同一文件系统内是原子的，并直接覆盖已有的目标文件；
+     * 不支持覆盖时先把旧文件移到一旁，替换失败则还原，任何时候都不会丢失旧文件
+     */
+    static void replaceFile(File source, File target) throws IOException {
+        if (source.renameTo(target)) {
+            return;
+        }
+        if (!target.exists()) {
+            throw new IOException("无法重命名文件: " + source.getAbsolutePath());
+        }
+        File backup = new File(target.getPath() + ".bak" + System.nanoTime());
+        if (!target.renameTo(backup)) {
+            throw new IOException("无法覆盖文件: " + target.getAbsolutePath());
+        }
+        if (!source.renameTo(target)) {
+            backup.renameTo(target);
+            throw new IOException("无法重命名文件: " + source.getAbsolutePath());
+        }
+        backup.delete();
+    }
+
+    private static class Session {
+        final String fileName;
+        final File target;
+        final File partFile;
+        final Semaphore pending = new Semaphore(MAX_PENDING_CHUNKS);
+        final CharsetEncoder encoder = StandardCharsets.UTF_8.newEncoder();
+        final ByteBuffer buffer = ByteBuffer.allocateDirect(WRITE_BUFFER_SIZE);
+        volatile IOException error;
+        RandomAccessFile file;
+        FileChannel channel;
+        long written;
+        long openedAt;
+
+        Session(String fileName, File target, String id) {
+            this.fileName = fileName;
+            this.target = target;
+            // 临时文件名带会话ID，同名文件的两个会话不会写到同一个临时文件
+            this.partFile = new File(target.getParentFile(), target.getName() + "." + id + ".part");
+        }
+
+        void open() throws IOException {
+            File dir = partFile.getParentFile();
+            if (dir != null && !dir.exists()) {
+                dir.mkdirs();
+            }
+            file = new RandomAccessFile(partFile, "rw");
+            file.setLength(0);
+            channel = file.getChannel();
+            openedAt = System.nanoTime();
+        }
+
+        void write(String chunk) throws IOException {
+            CharBuffer in = CharBuffer.wrap(chunk);
+            while (true) {
+                CoderResult result = encoder.encode(in, buffer, false);
+                if (result.isOverflow()) {
+                    drain();
+                } else if (result.isUnderflow()) {
+                    break;
+                } else {
+                    result.throwException();
+                }
+            }
+        }
+
+        void write(ByteBuffer data) throws IOException {
+            while (data.hasRemaining()) {
+                if (!buffer.hasRemaining()) {
+                    drain();
+                }
+                int n = Math.min(buffer.remaining(), data.remaining());
+                ByteBuffer part = data.duplicate();
+                part.limit(part.position() + n);
+                buffer.put(part);
+                data.position(data.position() + n);
+            }
+        }
+
+        long finish() throws IOException {
+            encoder.encode(CharBuffer.allocate(0), buffer, true);
+            encoder.flush(buffer);
+            drain();
+            channel.force(false);
+            file.close();
+            replaceFile(partFile, target);
+            // 耗时包含等待页面发送分块的时间，反映整个会话的吞吐量
+            NativeMetrics.recordWrite("streamingFile", written, System.nanoTime() - openedAt);
+            return written;
+        }
+
+        void discard() {
+            try {
+                if (file != null) {
+                    file.close();
+                }
+            } catch (IOException ignored) {
+            }
+            partFile.delete();
+        }
+
+        private void drain() throws IOException {
+            buffer.flip();
+            while (buffer.hasRemaining()) {
+                written += channel.write(buffer);
+            }
+            buffer.clear();
+        }
+    }
+}
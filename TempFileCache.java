@@ -0,0 +1,226 @@
+package com.example.opencv.webwhiteboard;
+
+import org.json.JSONException;
+import org.json.JSONObject;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * 按内容寻址的临时文件缓存（saveTempFile 等）
+ * <p>
+ * 文件以内容的 SHA-256 命名，相同内容只写一次；总大小超过预算时按最近最少使用顺序淘汰。
+ * 访问顺序通过文件修改时间持久化，重启后据此恢复 LRU 顺序。
+ */
+public class TempFileCache {
+
+    public static final long DEFAULT_BUDGET_BYTES = 256L * 1024 * 1024;
+
+    private static final String TMP_SUFFIX = ".tmp";
+
+    private final File dir;
+    private long budgetBytes;
+    // accessOrder = true：迭代顺序即 LRU 顺序
+    private final LinkedHashMap<String, File> entries = new LinkedHashMap<>(64, 0.75f, true);
+    private long totalBytes;
+    private long hits;
+    private long misses;
+    private long evictions;
+    private long evictedBytes;
+
+    public TempFileCache(File dir, long budgetBytes) {
+        this.dir = dir;
+        this.budgetBytes = budgetBytes;
+        if (!dir.exists()) {
+            dir.mkdirs();
+        }
+        loadIndex();
+    }
+
+    private void loadIndex() {
+        File[] files = dir.listFiles();
+        if (files == null) {
+            return;
+        }
+        Arrays.sort(files, Comparator.comparingLong(File::lastModified));
+        for (File f : files) {
+            if (f.getName().endsWith(TMP_SUFFIX)) {
+                // 上次写入中断留下的临时文件
+                f.delete();
+                continue;
+            }
+            entries.put(f.getName(), f);
+            totalBytes += f.length();
+        }
+        evictIfNeeded(null);
+    }
+
+    /**
+     * 存入字节内容，内容已存在时直接返回已有文件
+     *
+     * @param ext 文件扩展名（不含点），可为空
+     */
+    public File put(byte[] bytes, String ext) throws IOException {
+        String key = sha256(bytes) + suffix(ext);
+        File hit = lookup(key);
+        if (hit != null) {
+            return hit;
+        }
+        File tmp = newTempFile();
+        long start = System.nanoTime();
+        try (FileOutputStream out = new FileOutputStream(tmp)) {
+            out.write(bytes);
+        }
+        NativeMetrics.recordWrite("tempCache", bytes.length, System.nanoTime() - start);
+        return commit(key, tmp);
+    }
+
+    /**
+     * 将已写好的文件移入缓存（例如原生处理的输出），内容已存在时删除源文件
+     */
+    public File putFile(File source, String ext) throws IOException {
+        String key = sha256(source) + suffix(ext);
+        File hit = lookup(key);
+        if (hit != null) {
+            source.delete();
+            return hit;
+        }
+        return commit(key, source);
+    }
+
+    /**
+     * 在缓存目录中创建临时文件，供调用方直接写入后再通过 {@link #putFile} 提交
+     */
+    public File newTempFile() {
+        return new File(dir, UUID.randomUUID() + TMP_SUFFIX);
+    }
+
+    private synchronized File lookup(String key) {
+        File file = entries.get(key);
+        if (file != null && file.exists()) {
+            hits++;
+            file.setLastModified(System.currentTimeMillis());
+            return file;
+        }
+        if (file != null) {
+            // 文件被外部删除
+            entries.remove(key);
+            totalBytes -= file.length();
+        }
+        misses++;
+        return null;
+    }
+
+    private synchronized File commit(String key, File written) throws IOException {
+        File target = new File(dir, key);
+        File existing = entries.get(key);
+        if (existing != null) {
+            // 并发写入了相同内容
+            written.delete();
+            return existing;
+        }
+        if (!written.renameTo(target)) {
+            written.delete();
+            throw new IOException("无法写入缓存文件: " + target);
+        }
+        entries.put(key, target);
+        totalBytes += target.length();
+        evictIfNeeded(key);
+        return target;
+    }
+
+    /**
+     * 淘汰最久未使用的文件直到总大小不超过预算，keep 为刚写入的条目，不会被淘汰
+     */
+    private void evictIfNeeded(String keep) {
+        Iterator<Map.Entry<String, File>> it = entries.entrySet().iterator();
+        while (totalBytes > budgetBytes && it.hasNext()) {
+            Map.Entry<String, File> e = it.next();
+            if (e.getKey().equals(keep)) {
+                continue;
+            }
+            long size = e.getValue().length();
+            e.getValue().delete();
+            it.remove();
+            totalBytes -= size;
+            evictions++;
+            evictedBytes += size;
+        }
+    }
+
+    public synchronized void setBudget(long budgetBytes) {
+        this.budgetBytes = budgetBytes;
+        evictIfNeeded(null);
+    }
+
+    public synchronized JSONObject stats() throws JSONException {
+        JSONObject json = new JSONObject();
+        json.put("hits", hits);
+        json.put("misses", misses);
+        json.put("hitRate", hits + misses == 0 ? 0 : (double) hits / (hits + misses));
+        json.put("evictions", evictions);
+        json.put("evictedBytes", evictedBytes);
+        json.put("entries", entries.size());
+        json.put("bytes", totalBytes);
+        json.put("budgetBytes", budgetBytes);
+        return json;
+    }
+
+    private static String suffix(String ext) {
+        return ext == null || ext.isEmpty() ? "" : "." + ext.toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * 取文件名的扩展名（不含点）
+     */
+    static String extensionOf(String fileName) {
+        int dot = fileName.lastIndexOf('.');
+        int slash = fileName.lastIndexOf('/');
+        return dot > slash ? fileName.substring(dot + 1) : "";
+    }
+
+    static String sha256(byte[] bytes) {
+        MessageDigest digest = newDigest();
+        return toHex(digest.digest(bytes));
+    }
+
+    static String sha256(File file) throws IOException {
+        MessageDigest digest = newDigest();
+        byte[] buffer = new byte[64 * 1024];
+        try (InputStream in = new FileInputStream(file)) {
+            int n;
+            while ((n = in.read(buffer)) > 0) {
+                digest.update(buffer, 0, n);
+            }
+        }
+        return toHex(digest.digest());
+    }
+
+    private static MessageDigest newDigest() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static String toHex(byte[] digest) {
+        StringBuilder sb = new StringBuilder(digest.length * 2);
+        for (byte b : digest) {
+            sb.append(Character.forDigit((b >> 4) & 0xF, 16)).append(Character.forDigit(b & 0xF, 16));
+        }
+        return sb.toString();
+    }
+}
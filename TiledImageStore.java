@@ -0,0 +1,357 @@
+package com.example.opencv.webwhiteboard;
+
+import android.content.Context;
+import android.graphics.Bitmap;
+import android.graphics.BitmapFactory;
+import android.graphics.BitmapRegionDecoder;
+import android.graphics.Rect;
+import android.media.ExifInterface;
+import android.net.Uri;
+import android.webkit.WebResourceResponse;
+
+import org.json.JSONException;
+import org.json.JSONObject;
+
+import java.io.ByteArrayInputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 大图的分块金字塔缓存
+ * <p>
+ * 导入超过 {@link #LARGE_IMAGE_PIXELS} 的图片时不再把整张原图交给页面：用 BitmapRegionDecoder 按区域解码，
+ * 生成逐级减半的 256×256 分块（第 0 级为原始分辨率），存放在 getCacheDir()/tiles/&lt;id&gt;/ 下。
+ * 较粗的几级（边长不超过 {@link #EAGER_EDGE}）在导入时于后台生成，更细的分块在页面请求时才解码，
+ * 因此内存与解码量取决于页面当前显示的区域和缩放级别，而不是原图大小。原图只在导出时由原生端读取。
+ * <p>
+ * 页面通过拦截请求读取：
+ * <pre>
+ *   https://appassets.androidplatform.net/tiles/&lt;id&gt;/info.json
+ *   https://appassets.androidplatform.net/tiles/&lt;id&gt;/&lt;level&gt;/&lt;col&gt;_&lt;row&gt;.jpg|png
+ * </pre>
+ */
+public final class TiledImageStore {
+
+    public static final int TILE_SIZE = 256;
+    // 超过此像素数的图片才分块（约 4000×4000）
+    public static final long LARGE_IMAGE_PIXELS = 16L * 1000 * 1000;
+    // 导入时预先生成的最细一级的边长上限，足够页面全屏显示
+    private static final int EAGER_EDGE = 2048;
+    // 保留的分块目录数量，超过后删除最早使用的
+    private static final int MAX_IMAGES = 4;
+    private static final String PREFIX = "/tiles/";
+
+    private final File root;
+    private final Map<String, TiledImage> images = new ConcurrentHashMap<>();
+
+    /**
+     * 已打开的分块图片
+     */
+    static final class TiledImage {
+        final String id;
+        final File source;
+        final File dir;
+        final int width, height, levels;
+        // 有透明通道的格式输出 PNG，其余输出 JPEG
+        final boolean png;
+        // 原图地址（本地资源服务），导出时由原生端按原始分辨率读取
+        volatile String sourceUrl;
+        private BitmapRegionDecoder decoder;
+        private boolean closed;
+
+        TiledImage(String id, File source, File dir, int width, int height, boolean png) {
+            this.id = id;
+            this.source = source;
+            this.dir = dir;
+            this.width = width;
+            this.height = height;
+            this.png = png;
+            int levels = 1;
+            while (Math.max(width, height) > (long) TILE_SIZE << (levels - 1)) {
+                levels++;
+            }
+            this.levels = levels;
+        }
+
+        int levelWidth(int level) {
+            return (int) ((width + (1L << level) - 1) >> level);
+        }
+
+        int levelHeight(int level) {
+            return (int) ((height + (1L << level) - 1) >> level);
+        }
+
+        String extension() {
+            return png ? "png" : "jpg";
+        }
+
+        File tileFile(int level, int col, int row) {
+            return new File(dir, level + "/" + col + "_" + row + "." + extension());
+        }
+
+        JSONObject info() throws JSONException {
+            JSONObject json = new JSONObject();
+            json.put("id", id);
+            json.put("width", width);
+            json.put("height", height);
+            json.put("tileSize", TILE_SIZE);
+            json.put("levels", levels);
+            json.put("tileUrl", "https://" + LocalResourceServer.HOST + PREFIX + id
+                    + "/{level}/{col}_{row}." + extension());
+            json.put("sourceUrl", sourceUrl == null ? JSONObject.NULL : sourceUrl);
+            return json;
+        }
+
+        /**
+         * 读取（必要时解码生成）一个分块
+         */
+        File tile(int level, int col, int row) throws IOException {
+            if (level < 0 || level >= levels || col < 0 || row < 0
+                    || (long) col * TILE_SIZE >= levelWidth(level) || (long) row * TILE_SIZE >= levelHeight(level)) {
+                return null;
+            }
+            File file = tileFile(level, col, row);
+            if (file.exists()) {
+                NativeMetrics.count("tiles.hits", 1);
+                return file;
+            }
+            long span = (long) TILE_SIZE << level;
+            Rect region = new Rect((int) (col * span), (int) (row * span),
+                    (int) Math.min(width, (col + 1) * span), (int) Math.min(height, (row + 1) * span));
+            BitmapFactory.Options options = new BitmapFactory.Options();
+            options.inSampleSize = 1 << level;
+            options.inPreferredConfig = png ? Bitmap.Config.ARGB_8888 : Bitmap.Config.RGB_565;
+            Bitmap bitmap;
+            // 同一图片的区域解码串行进行，避免多个分块请求同时占用大块内存
+            synchronized (this) {
+                if (file.exists()) {
+                    return file;
+                }
+                if (closed) {
+                    throw new IOException("分块图片已关闭");
+                }
+                if (decoder == null) {
+                    decoder = BitmapRegionDecoder.newInstance(source.getAbsolutePath(), false);
+                }
+                bitmap = decoder.decodeRegion(region, options);
+            }
+            if (bitmap == null) {
+                throw new IOException("无法解码区域: " + region);
+            }
+            try {
+                File parent = file.getParentFile();
+                if (parent != null && !parent.exists()) {
+                    parent.mkdirs();
+                }
+                File tmp = new File(file.getPath() + ".tmp" + Thread.currentThread().getId());
+                try (OutputStream out = new FileOutputStream(tmp)) {
+                    bitmap.compress(png ? Bitmap.CompressFormat.PNG : Bitmap.CompressFormat.JPEG, 90, out);
+                }
+                if (!tmp.renameTo(file)) {
+                    tmp.delete();
+                }
+            } finally {
+                bitmap.recycle();
+            }
+            NativeMetrics.count("tiles.decoded", 1);
+            return file;
+        }
+
+        /**
+         * 生成从最粗一级到边长不超过 maxEdge 的各级分块
+         */
+        void buildCoarseLevels(int maxEdge) throws IOException {
+            for (int level = levels - 1; level >= 0; level--) {
+                if (Math.max(levelWidth(level), levelHeight(level)) > maxEdge && level < levels - 1) {
+                    break;
+                }
+                int cols = (levelWidth(level) + TILE_SIZE - 1) / TILE_SIZE;
+                int rows = (levelHeight(level) + TILE_SIZE - 1) / TILE_SIZE;
+                for (int row = 0; row < rows; row++) {
+                    for (int col = 0; col < cols; col++) {
+                        tile(level, col, row);
+                    }
+                }
+            }
+        }
+
+        synchronized void close() {
+            closed = true;
+            if (decoder != null) {
+                decoder.recycle();
+                decoder = null;
+            }
+        }
+    }
+
+    public TiledImageStore(Context context) {
+        this.root = new File(context.getCacheDir(), "tiles");
+    }
+
+    /**
+     * 是否应当以分块方式导入：本地文件、像素数超过阈值且没有 EXIF 旋转（区域解码不处理方向）
+     */
+    public static boolean shouldTile(String path) {
+        if (path == null || path.startsWith("content://")) {
+            return false;
+        }
+        File file = new File(path.startsWith("file://") ? path.substring(7) : path);
+        if (!file.isFile()) {
+            return false;
+        }
+        BitmapFactory.Options bounds = new BitmapFactory.Options();
+        bounds.inJustDecodeBounds = true;
+        BitmapFactory.decodeFile(file.getAbsolutePath(), bounds);
+        if ((long) bounds.outWidth * bounds.outHeight <= LARGE_IMAGE_PIXELS) {
+            return false;
+        }
+        try {
+            int orientation = new ExifInterface(file.getAbsolutePath())
+                    .getAttributeInt(ExifInterface.TAG_ORIENTATION, ExifInterface.ORIENTATION_NORMAL);
+            return orientation == ExifInterface.ORIENTATION_NORMAL || orientation == ExifInterface.ORIENTATION_UNDEFINED;
+        } catch (IOException e) {
+            return true;
+        }
+    }
+
+    /**
+     * 打开图片并在后台生成较粗的几级分块，返回页面使用的 info.json 地址
+     *
+     * @param sourceUrl 原图的本地资源地址，写入 info.json 供导出使用
+     */
+    public String open(String path, String sourceUrl) throws IOException {
+        File source = new File(path.startsWith("file://") ? path.substring(7) : path);
+        String id = idOf(source);
+        TiledImage image = images.get(id);
+        if (image == null) {
+            BitmapFactory.Options bounds = new BitmapFactory.Options();
+            bounds.inJustDecodeBounds = true;
+            BitmapFactory.decodeFile(source.getAbsolutePath(), bounds);
+            if (bounds.outWidth <= 0 || bounds.outHeight <= 0) {
+                throw new IOException("无法读取图片尺寸: " + path);
+            }
+            String mime = bounds.outMimeType == null ? "" : bounds.outMimeType;
+            boolean png = mime.endsWith("png") || mime.endsWith("webp") || mime.endsWith("gif");
+            File dir = new File(root, id);
+            dir.mkdirs();
+            image = new TiledImage(id, source, dir, bounds.outWidth, bounds.outHeight, png);
+            images.put(id, image);
+            evictOldImages(id);
+        }
+        image.sourceUrl = sourceUrl;
+        // 目录的修改时间作为最近使用时间
+        image.dir.setLastModified(System.currentTimeMillis());
+        TiledImage opened = image;
+        WorkerPools.COMPUTE.execute(() -> {
+            try (NativeMetrics.Span span = NativeMetrics.span("tiles.build")) {
+                span.detail(opened.width + "x" + opened.height + ", " + opened.levels + " levels");
+                opened.buildCoarseLevels(EAGER_EDGE);
+            } catch (Exception e) {
+                e.printStackTrace();
+            }
+        });
+        return "https://" + LocalResourceServer.HOST + PREFIX + id + "/info.json";
+    }
+
+    /**
+     * 处理拦截到的分块请求，不属于分块地址时返回 null
+     */
+    public WebResourceResponse intercept(Uri url) {
+        String path = url == null ? null : url.getPath();
+        if (path == null || !LocalResourceServer.HOST.equals(url.getHost()) || !path.startsWith(PREFIX)) {
+            return null;
+        }
+        String[] parts = path.substring(PREFIX.length()).split("/");
+        TiledImage image = parts.length > 0 ? images.get(parts[0]) : null;
+        Map<String, String> headers = new HashMap<>();
+        headers.put("Access-Control-Allow-Origin", "*");
+        try {
+            if (image != null && parts.length == 2 && parts[1].equals("info.json")) {
+                headers.put("Cache-Control", "no-cache");
+                byte[] json = image.info().toString().getBytes(StandardCharsets.UTF_8);
+                return new WebResourceResponse("application/json", "UTF-8", 200, "OK", headers,
+                        new ByteArrayInputStream(json));
+            }
+            if (image != null && parts.length == 3) {
+                int level = Integer.parseInt(parts[1]);
+                String name = parts[2].substring(0, parts[2].lastIndexOf('.'));
+                int sep = name.indexOf('_');
+                File tile = image.tile(level, Integer.parseInt(name.substring(0, sep)),
+                        Integer.parseInt(name.substring(sep + 1)));
+                if (tile != null) {
+                    // id 包含源文件的路径、大小与修改时间，分块内容不会变化
+                    headers.put("Cache-Control", "public, max-age=31536000, immutable");
+                    return new WebResourceResponse(image.png ? "image/png" : "image/jpeg", null, 200, "OK",
+                            headers, new FileInputStream(tile));
+                }
+            }
+        } catch (Exception e) {
+            e.printStackTrace();
+        }
+        return new WebResourceResponse("text/plain", "UTF-8", 404, "Not Found", headers,
+                new ByteArrayInputStream(new byte[0]));
+    }
+
+    /**
+     * 释放区域解码器（分块文件保留，下次打开同一图片时复用）
+     */
+    public void close() {
+        for (TiledImage image : images.values()) {
+            image.close();
+        }
+        images.clear();
+    }
+
+    private void evictOldImages(String keepId) {
+        File[] dirs = root.listFiles(File::isDirectory);
+        if (dirs == null || dirs.length <= MAX_IMAGES) {
+            return;
+        }
+        Arrays.sort(dirs, (a, b) -> Long.compare(a.lastModified(), b.lastModified()));
+        for (int i = 0; i < dirs.length - MAX_IMAGES; i++) {
+            if (dirs[i].getName().equals(keepId)) {
+                continue;
+            }
+            TiledImage open = images.remove(dirs[i].getName());
+            if (open != null) {
+                open.close();
+            }
+            deleteRecursively(dirs[i]);
+        }
+    }
+
+    private static void deleteRecursively(File file) {
+        File[] children = file.listFiles();
+        if (children != null) {
+            for (File child : children) {
+                deleteRecursively(child);
+            }
+        }
+        file.delete();
+    }
+
+    private static String idOf(File source) throws IOException {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            digest.update((source.getAbsolutePath() + "|" + source.length() + "|" + source.lastModified())
+                    .getBytes(StandardCharsets.UTF_8));
+            byte[] hash = digest.digest();
+            StringBuilder sb = new StringBuilder();
+            for (int i = 0; i < 12; i++) {
+                sb.append(String.format("%02x", hash[i]));
+            }
+            return sb.toString();
+        } catch (Exception e) {
+            throw new IOException(e);
+        }
+    }
+}
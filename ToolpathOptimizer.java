@@ -0,0 +1,599 @@
+package com.example.opencv.webwhiteboard;
+
+import org.json.JSONArray;
+import org.json.JSONException;
+import org.json.JSONObject;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * 雕刻路径排序：决定各条切割路径的加工顺序与方向，减少 G0 空程
+ * <p>
+ * 先用网格空间索引做最近邻贪心（开放路径可反向，闭合路径可从任一顶点起刀），
+ * 再在时间预算内做 2-opt 改进，最后重新为闭合路径选择离上一条路径终点最近的起刀点。
+ * 被闭合路径包含的内轮廓必须先于外轮廓加工，避免外轮廓切下后零件移位。
+ */
+public class ToolpathOptimizer {
+
+    /**
+     * 一条切割路径
+     */
+    static final class Path {
+        // 顶点坐标 x0, y0, x1, y1 ...
+        final double[] pts;
+        final int count;
+        // 是否允许改变方向（只含直线段时才能反向或换起点）
+        final boolean reversible;
+        final boolean closed;
+        double minX, minY, maxX, maxY;
+        // 包含本路径的闭合路径（必须晚于本路径加工）
+        int[] containers = new int[0];
+
+        Path(double[] pts, boolean reversible, boolean closed) {
+            this.pts = pts;
+            this.count = pts.length / 2;
+            this.reversible = reversible;
+            this.closed = closed;
+            minX = minY = Double.POSITIVE_INFINITY;
+            maxX = maxY = Double.NEGATIVE_INFINITY;
+            for (int i = 0; i < count; i++) {
+                minX = Math.min(minX, pts[i * 2]);
+                maxX = Math.max(maxX, pts[i * 2]);
+                minY = Math.min(minY, pts[i * 2 + 1]);
+                maxY = Math.max(maxY, pts[i * 2 + 1]);
+            }
+        }
+
+        double x(int i) {
+            return pts[i * 2];
+        }
+
+        double y(int i) {
+            return pts[i * 2 + 1];
+        }
+    }
+
+    /**
+     * 排序结果中的一项：路径序号、是否反向、闭合路径的起刀顶点
+     */
+    static final class Step {
+        int path;
+        boolean reverse;
+        int startVertex;
+
+        Step(int path, boolean reverse, int startVertex) {
+            this.path = path;
+            this.reverse = reverse;
+            this.startVertex = startVertex;
+        }
+    }
+
+    private final List<Path> paths;
+    private final double startX, startY;
+    private final long budgetNanos;
+
+    private double beforeDistance;
+    private double afterDistance;
+    private int twoOptMoves;
+
+    public ToolpathOptimizer(List<Path> paths, double startX, double startY, long budgetMillis) {
+        this.paths = paths;
+        this.startX = startX;
+        this.startY = startY;
+        this.budgetNanos = budgetMillis * 1000000L;
+    }
+
+    /**
+     * 解析 {paths: [{pts, reversible, closed}], startX, startY, budgetMs}，返回排序结果 JSON
+     * {order: [{i, reverse, start}], before, after, twoOptMoves, ms}
+     */
+    public static JSONObject optimize(String json) throws JSONException {
+        long begin = System.nanoTime();
+        JSONObject obj = new JSONObject(json);
+        JSONArray arr = obj.getJSONArray("paths");
+        List<Path> paths = new ArrayList<>(arr.length());
+        for (int i = 0; i < arr.length(); i++) {
+            JSONObject p = arr.getJSONObject(i);
+            JSONArray pts = p.getJSONArray("pts");
+            double[] coords = new double[pts.length()];
+            for (int k = 0; k < coords.length; k++) {
+                coords[k] = pts.getDouble(k);
+            }
+            paths.add(new Path(coords, p.optBoolean("reversible", false), p.optBoolean("closed", false)));
+        }
+        return optimize(paths, obj, begin);
+    }
+
+    /**
+     * 二进制帧版本：路径来自折线负载，options 为 {startX, startY, budgetMs}，结果与 {@link #optimize(String)} 相同
+     */
+    public static JSONObject optimize(BinaryFrames.PolylineSet set, JSONObject options) throws JSONException {
+        long begin = System.nanoTime();
+        List<Path> paths = new ArrayList<>(set.size());
+        int offset = 0;
+        for (int i = 0; i < set.size(); i++) {
+            int n = set.pointCounts[i] * 2;
+            double[] coords = new double[n];
+            for (int k = 0; k < n; k++) {
+                coords[k] = set.xy[offset + k];
+            }
+            offset += n;
+            paths.add(new Path(coords, set.isReversible(i), set.isClosed(i)));
+        }
+        return optimize(paths, options, begin);
+    }
+
+    private static JSONObject optimize(List<Path> paths, JSONObject options, long begin) throws JSONException {
+        ToolpathOptimizer optimizer = new ToolpathOptimizer(paths,
+                options.optDouble("startX", 0), options.optDouble("startY", 0), options.optLong("budgetMs", 500));
+        List<Step> order;
+        try (NativeMetrics.Span ignored = NativeMetrics.span("toolpath.optimize").detail(paths.size() + " paths")) {
+            order = optimizer.run();
+        }
+
+        JSONArray out = new JSONArray();
+        for (Step s : order) {
+            JSONObject o = new JSONObject();
+            o.put("i", s.path);
+            o.put("reverse", s.reverse);
+            o.put("start", s.startVertex);
+            out.put(o);
+        }
+        JSONObject result = new JSONObject();
+        result.put("order", out);
+        result.put("before", optimizer.beforeDistance);
+        result.put("after", optimizer.afterDistance);
+        result.put("twoOptMoves", optimizer.twoOptMoves);
+        result.put("ms", (System.nanoTime() - begin) / 1000000);
+        return result;
+    }
+
+    List<Step> run() {
+        long deadline = System.nanoTime() + budgetNanos;
+        List<Step> original = new ArrayList<>(paths.size());
+        for (int i = 0; i < paths.size(); i++) {
+            original.add(new Step(i, false, 0));
+        }
+        beforeDistance = travel(original);
+        if (paths.size() < 2) {
+            afterDistance = beforeDistance;
+            return original;
+        }
+        findContainment();
+        Step[] order = nearestNeighbour();
+        twoOpt(order, deadline);
+        chooseLoopStarts(order);
+        List<Step> result = Arrays.asList(order);
+        afterDistance = travel(result);
+        // 优化结果不应比原始顺序更差
+        if (afterDistance > beforeDistance) {
+            afterDistance = beforeDistance;
+            return original;
+        }
+        return result;
+    }
+
+    // ---- 路径端点 ----
+
+    private double entryX(Step s) {
+        Path p = paths.get(s.path);
+        return p.x(entryIndex(p, s));
+    }
+
+    private double entryY(Step s) {
+        Path p = paths.get(s.path);
+        return p.y(entryIndex(p, s));
+    }
+
+    private double exitX(Step s) {
+        Path p = paths.get(s.path);
+        return p.x(exitIndex(p, s));
+    }
+
+    private double exitY(Step s) {
+        Path p = paths.get(s.path);
+        return p.y(exitIndex(p, s));
+    }
+
+    private static int entryIndex(Path p, Step s) {
+        if (p.closed && p.reversible) {
+            return s.startVertex;
+        }
+        return s.reverse ? p.count - 1 : 0;
+    }
+
+    private static int exitIndex(Path p, Step s) {
+        if (p.closed && p.reversible) {
+            return s.startVertex;
+        }
+        return s.reverse ? 0 : p.count - 1;
+    }
+
+    private double travel(List<Step> order) {
+        double x = startX, y = startY, sum = 0;
+        for (Step s : order) {
+            sum += Math.hypot(entryX(s) - x, entryY(s) - y);
+            x = exitX(s);
+            y = exitY(s);
+        }
+        return sum;
+    }
+
+    // ---- 内外轮廓包含关系 ----
+
+    private void findContainment() {
+        List<Integer> closedPaths = new ArrayList<>();
+        for (int i = 0; i < paths.size(); i++) {
+            if (paths.get(i).closed && paths.get(i).count >= 3) {
+                closedPaths.add(i);
+            }
+        }
+        if (closedPaths.isEmpty()) {
+            return;
+        }
+        Grid grid = new Grid(paths, closedPaths.size());
+        for (int c : closedPaths) {
+            Path p = paths.get(c);
+            grid.addBox(c, p.minX, p.minY, p.maxX, p.maxY);
+        }
+        for (int i = 0; i < paths.size(); i++) {
+            Path inner = paths.get(i);
+            List<Integer> found = new ArrayList<>();
+            for (int c : grid.cellAt(inner.x(0), inner.y(0))) {
+                if (c == i) {
+                    continue;
+                }
+                Path outer = paths.get(c);
+                if (inner.minX >= outer.minX && inner.maxX <= outer.maxX
+                        && inner.minY >= outer.minY && inner.maxY <= outer.maxY
+                        && area(inner) < area(outer)
+                        && contains(outer, inner.x(0), inner.y(0))) {
+                    found.add(c);
+                }
+            }
+            inner.containers = new int[found.size()];
+            for (int k = 0; k < found.size(); k++) {
+                inner.containers[k] = found.get(k);
+            }
+        }
+    }
+
+    private static double area(Path p) {
+        return (p.maxX - p.minX) * (p.maxY - p.minY);
+    }
+
+    /**
+     * 射线法判断点是否在闭合多边形内
+     */
+    private static boolean contains(Path poly, double x, double y) {
+        boolean inside = false;
+        for (int i = 0, j = poly.count - 1; i < poly.count; j = i++) {
+            double yi = poly.y(i), yj = poly.y(j);
+            if ((yi > y) != (yj > y)) {
+                double xi = poly.x(i), xj = poly.x(j);
+                if (x < (xj - xi) * (y - yi) / (yj - yi) + xi) {
+                    inside = !inside;
+                }
+            }
+        }
+        return inside;
+    }
+
+    // ---- 最近邻 ----
+
+    private Step[] nearestNeighbour() {
+        int n = paths.size();
+        // 尚未加工的内轮廓数，为 0 时外轮廓才可选
+        int[] blockers = new int[n];
+        for (Path p : paths) {
+            for (int c : p.containers) {
+                blockers[c]++;
+            }
+        }
+        boolean[] visited = new boolean[n];
+        // 候选起刀点：开放路径的两端（不可反向时只有起点），闭合路径的所有顶点
+        Grid grid = new Grid(paths, n);
+        for (int i = 0; i < n; i++) {
+            Path p = paths.get(i);
+            if (p.closed && p.reversible) {
+                for (int v = 0; v < p.count; v++) {
+                    grid.addPoint(i, v, p.x(v), p.y(v));
+                }
+            } else {
+                grid.addPoint(i, 0, p.x(0), p.y(0));
+                if (p.reversible) {
+                    grid.addPoint(i, p.count - 1, p.x(p.count - 1), p.y(p.count - 1));
+                }
+            }
+        }
+
+        Step[] order = new Step[n];
+        double x = startX, y = startY;
+        for (int k = 0; k < n; k++) {
+            long hit = grid.nearest(x, y, visited, blockers);
+            int best;
+            int vertex;
+            if (hit >= 0) {
+                best = (int) (hit >>> 32);
+                vertex = (int) hit;
+            } else {
+                // 网格中没有可选候选（理论上不会发生），退回线性查找
+                best = -1;
+                vertex = 0;
+                for (int i = 0; i < n; i++) {
+                    if (!visited[i] && blockers[i] == 0) {
+                        best = i;
+                        break;
+                    }
+                }
+                if (best < 0) {
+                    // 包含关系成环（重合轮廓），忽略约束
+                    for (int i = 0; i < n; i++) {
+                        if (!visited[i]) {
+                            best = i;
+                            break;
+                        }
+                    }
+                }
+            }
+            Path p = paths.get(best);
+            Step step;
+            if (p.closed && p.reversible) {
+                step = new Step(best, false, vertex);
+            } else {
+                step = new Step(best, p.reversible && vertex == p.count - 1 && vertex != 0, 0);
+            }
+            order[k] = step;
+            visited[best] = true;
+            for (int c : p.containers) {
+                blockers[c]--;
+            }
+            x = exitX(step);
+            y = exitY(step);
+        }
+        return order;
+    }
+
+    // ---- 2-opt ----
+
+    /**
+     * 反转区间 [i, j] 的加工顺序并翻转其中每条路径的方向。
+     * 区间内须全部可反向，且不能把外轮廓翻到其内轮廓之前。
+     */
+    private void twoOpt(Step[] order, long deadline) {
+        int n = order.length;
+        int[] position = new int[paths.size()];
+        for (int k = 0; k < n; k++) {
+            position[order[k].path] = k;
+        }
+        boolean improved = true;
+        while (improved && System.nanoTime() < deadline) {
+            improved = false;
+            for (int i = 0; i < n - 1; i++) {
+                if (!paths.get(order[i].path).reversible) {
+                    continue;
+                }
+                double px = i == 0 ? startX : exitX(order[i - 1]);
+                double py = i == 0 ? startY : exitY(order[i - 1]);
+                double sx = entryX(order[i]), sy = entryY(order[i]);
+                double before1 = Math.hypot(sx - px, sy - py);
+                for (int j = i + 1; j < n; j++) {
+                    if (!paths.get(order[j].path).reversible) {
+                        // 区间不能跨过不可反向的路径
+                        break;
+                    }
+                    double ex = exitX(order[j]), ey = exitY(order[j]);
+                    double delta;
+                    if (j + 1 < n) {
+                        double nx = entryX(order[j + 1]), ny = entryY(order[j + 1]);
+                        delta = Math.hypot(ex - px, ey - py) + Math.hypot(nx - sx, ny - sy)
+                                - before1 - Math.hypot(nx - ex, ny - ey);
+                    } else {
+                        delta = Math.hypot(ex - px, ey - py) - before1;
+                    }
+                    if (delta < -1e-9 && respectsContainment(order, position, i, j)) {
+                        reverse(order, position, i, j);
+                        twoOptMoves++;
+                        improved = true;
+                        sx = entryX(order[i]);
+                        sy = entryY(order[i]);
+                        before1 = Math.hypot(sx - px, sy - py);
+                    }
+                }
+                if ((i & 63) == 0 && System.nanoTime() >= deadline) {
+                    return;
+                }
+            }
+        }
+    }
+
+    private boolean respectsContainment(Step[] order, int[] position, int i, int j) {
+        for (int k = i; k <= j; k++) {
+            for (int c : paths.get(order[k].path).containers) {
+                int pos = position[c];
+                if (pos >= i && pos <= j) {
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+
+    private void reverse(Step[] order, int[] position, int i, int j) {
+        for (int a = i, b = j; a < b; a++, b--) {
+            Step t = order[a];
+            order[a] = order[b];
+            order[b] = t;
+        }
+        for (int k = i; k <= j; k++) {
+            Step s = order[k];
+            Path p = paths.get(s.path);
+            if (!(p.closed && p.reversible)) {
+                s.reverse = !s.reverse;
+            }
+            position[s.path] = k;
+        }
+    }
+
+    /**
+     * 闭合路径起刀点选离上一条路径终点最近的顶点
+     */
+    private void chooseLoopStarts(Step[] order) {
+        double x = startX, y = startY;
+        for (Step s : order) {
+            Path p = paths.get(s.path);
+            if (p.closed && p.reversible) {
+                int best = s.startVertex;
+                double bestDist = Double.POSITIVE_INFINITY;
+                for (int v = 0; v < p.count; v++) {
+                    double d = Math.hypot(p.x(v) - x, p.y(v) - y);
+                    if (d < bestDist) {
+                        bestDist = d;
+                        best = v;
+                    }
+                }
+                s.startVertex = best;
+            }
+            x = exitX(s);
+            y = exitY(s);
+        }
+    }
+
+    // ---- 均匀网格空间索引 ----
+
+    private static final class Grid {
+        private final double originX, originY, cellSize;
+        private final int cols, rows;
+        private final int[][] cellItems;
+        private final int[] cellCounts;
+        // 点索引：每项为 (路径 << 32) | 顶点
+        private final long[][] cellPoints;
+        private final int[] pointCounts;
+        private final double[][] cellCoords;
+
+        Grid(List<Path> paths, int expected) {
+            double minX = Double.POSITIVE_INFINITY, minY = Double.POSITIVE_INFINITY;
+            double maxX = Double.NEGATIVE_INFINITY, maxY = Double.NEGATIVE_INFINITY;
+            for (Path p : paths) {
+                minX = Math.min(minX, p.minX);
+                minY = Math.min(minY, p.minY);
+                maxX = Math.max(maxX, p.maxX);
+                maxY = Math.max(maxY, p.maxY);
+            }
+            double w = Math.max(maxX - minX, 1e-6), h = Math.max(maxY - minY, 1e-6);
+            int side = (int) Math.max(1, Math.min(1024, Math.ceil(Math.sqrt(Math.max(expected, 1)))));
+            cellSize = Math.max(w, h) / side;
+            cols = (int) Math.min(1024, Math.floor(w / cellSize) + 1);
+            rows = (int) Math.min(1024, Math.floor(h / cellSize) + 1);
+            originX = minX;
+            originY = minY;
+            cellItems = new int[cols * rows][];
+            cellCounts = new int[cols * rows];
+            cellPoints = new long[cols * rows][];
+            pointCounts = new int[cols * rows];
+            cellCoords = new double[cols * rows][];
+        }
+
+        private int col(double x) {
+            return Math.max(0, Math.min(cols - 1, (int) ((x - originX) / cellSize)));
+        }
+
+        private int row(double y) {
+            return Math.max(0, Math.min(rows - 1, (int) ((y - originY) / cellSize)));
+        }
+
+        void addBox(int item, double minX, double minY, double maxX, double maxY) {
+            for (int r = row(minY); r <= row(maxY); r++) {
+                for (int c = col(minX); c <= col(maxX); c++) {
+                    int cell = r * cols + c;
+                    int[] arr = cellItems[cell];
+                    if (arr == null) {
+                        arr = cellItems[cell] = new int[4];
+                    } else if (cellCounts[cell] == arr.length) {
+                        arr = cellItems[cell] = Arrays.copyOf(arr, arr.length * 2);
+                    }
+                    arr[cellCounts[cell]++] = item;
+                }
+            }
+        }
+
+        int[] cellAt(double x, double y) {
+            int cell = row(y) * cols + col(x);
+            int[] arr = cellItems[cell];
+            return arr == null ? new int[0] : Arrays.copyOf(arr, cellCounts[cell]);
+        }
+
+        void addPoint(int path, int vertex, double x, double y) {
+            int cell = row(y) * cols + col(x);
+            long[] arr = cellPoints[cell];
+            double[] coords = cellCoords[cell];
+            if (arr == null) {
+                arr = cellPoints[cell] = new long[4];
+                coords = cellCoords[cell] = new double[8];
+            } else if (pointCounts[cell] == arr.length) {
+                arr = cellPoints[cell] = Arrays.copyOf(arr, arr.length * 2);
+                coords = cellCoords[cell] = Arrays.copyOf(coords, coords.length * 2);
+            }
+            int k = pointCounts[cell]++;
+            arr[k] = ((long) path << 32) | (vertex & 0xFFFFFFFFL);
+            coords[k * 2] = x;
+            coords[k * 2 + 1] = y;
+        }
+
+        /**
+         * 按环形逐圈扩大搜索范围，返回最近的可选候选，找不到时返回 -1
+         */
+        long nearest(double x, double y, boolean[] visited, int[] blockers) {
+            int c0 = col(x), r0 = row(y);
+            long best = -1;
+            double bestDist = Double.POSITIVE_INFINITY;
+            int maxRing = Math.max(cols, rows);
+            for (int ring = 0; ring <= maxRing; ring++) {
+                // 当前圈内的点与查询点的最小可能距离
+                double ringMin = (ring - 1) * cellSize;
+                if (best >= 0 && ringMin > bestDist) {
+                    break;
+                }
+                for (int r = r0 - ring; r <= r0 + ring; r++) {
+                    if (r < 0 || r >= rows) {
+                        continue;
+                    }
+                    boolean edgeRow = r == r0 - ring || r == r0 + ring;
+                    for (int c = c0 - ring; c <= c0 + ring; c += edgeRow ? 1 : 2 * ring) {
+                        if (c >= 0 && c < cols) {
+                            int cell = r * cols + c;
+                            long[] arr = cellPoints[cell];
+                            double[] coords = cellCoords[cell];
+                            for (int k = 0; k < pointCounts[cell]; k++) {
+                                int path = (int) (arr[k] >>> 32);
+                                if (visited[path]) {
+                                    // 已加工路径的候选点移出索引（与末尾交换）
+                                    int last = --pointCounts[cell];
+                                    arr[k] = arr[last];
+                                    coords[k * 2] = coords[last * 2];
+                                    coords[k * 2 + 1] = coords[last * 2 + 1];
+                                    k--;
+                                    continue;
+                                }
+                                if (blockers[path] > 0) {
+                                    continue;
+                                }
+                                double d = Math.hypot(coords[k * 2] - x, coords[k * 2 + 1] - y);
+                                if (d < bestDist) {
+                                    bestDist = d;
+                                    best = arr[k];
+                                }
+                            }
+                        }
+                        if (ring == 0) {
+                            break;
+                        }
+                    }
+                }
+            }
+            return best;
+        }
+    }
+}
@@ -0,0 +1,277 @@
+package com.example.opencv.webwhiteboard;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * 矢量导入预处理：在 Java 侧解析 DXF / PLT 为折线，按实体并行做 Douglas-Peucker 简化，
+ * 再输出紧凑的二进制折线缓冲区供页面直接渲染。
+ * <p>
+ * 二进制格式（小端序）：
+ * <pre>
+ * int32   magic = 0x4C50584E ("NXPL")
+ * int32   version = 1
+ * int32   polylineCount
+ * int32   pointCount
+ * float32 minX, minY, maxX, maxY
+ * int32   [polylineCount] 每条折线的点数
+ * uint8   [polylineCount] 标志位（bit0 = 闭合，bit1 = 空移，仅 G 代码预览使用），补齐到 4 字节
+ * float32 [pointCount * 2] 坐标 x0, y0, x1, y1 ...
+ * </pre>
+ */
+public class VectorPreprocessor {
+
+    public static final int MAGIC = 0x4C50584E;
+    public static final int VERSION = 1;
+
+    // 每个并行任务处理的折线数
+    private static final int SIMPLIFY_BATCH = 256;
+    // 超过点数上限时放大容差的最大次数
+    private static final int MAX_TOLERANCE_STEPS = 8;
+
+    /**
+     * 处理结果统计
+     */
+    public static class Result {
+        public int polylines;
+        public long sourcePoints;
+        public long points;
+        public float minX, minY, maxX, maxY;
+    }
+
+    private final double tolerance;
+    private final int maxPointsPerPath;
+
+    /**
+     * @param tolerance        简化容差（图纸单位），对应 simplificationTolerance
+     * @param maxPointsPerPath 每条路径最大点数，对应 maxPointsPerPath，&lt;= 0 表示不限制
+     */
+    public VectorPreprocessor(double tolerance, int maxPointsPerPath) {
+        this.tolerance = Math.max(tolerance, 0);
+        this.maxPointsPerPath = maxPointsPerPath;
+    }
+
+    /**
+     * 解析、简化并把二进制结果写入通道
+     *
+     * @param ext 文件类型：dxf 或 plt
+     */
+    public Result process(InputStream source, String ext, FileChannel out) throws IOException {
+        List<Polyline> polylines;
+        try (NativeMetrics.Span ignored = NativeMetrics.span("vector.parse." + ext);
+             Reader reader = new InputStreamReader(source, StandardCharsets.UTF_8)) {
+            if ("dxf".equals(ext)) {
+                // 圆弧离散误差取简化容差的一半，给后续简化留出余量
+                polylines = new DxfPolylineReader(tolerance > 0 ? tolerance / 2 : 0.01).read(reader);
+            } else if ("plt".equals(ext)) {
+                polylines = new HpglPolylineReader().read(reader);
+            } else {
+                throw new IOException("不支持的矢量格式: " + ext);
+            }
+        }
+        Result result = new Result();
+        for (Polyline p : polylines) {
+            result.sourcePoints += p.size();
+        }
+        try (NativeMetrics.Span ignored = NativeMetrics.span("vector.simplify").detail(result.sourcePoints + " points")) {
+            WorkerPools.COMPUTE.invoke(new SimplifyTask(polylines, 0, polylines.size()));
+        }
+        long start = System.nanoTime();
+        long position = out.position();
+        write(polylines, result, out);
+        NativeMetrics.recordWrite("vector.output", out.position() - position, System.nanoTime() - start);
+        return result;
+    }
+
+    private class SimplifyTask extends RecursiveAction {
+        private final List<Polyline> polylines;
+        private final int from;
+        private final int to;
+
+        SimplifyTask(List<Polyline> polylines, int from, int to) {
+            this.polylines = polylines;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= SIMPLIFY_BATCH) {
+                for (int i = from; i < to; i++) {
+                    simplify(polylines.get(i));
+                }
+                return;
+            }
+            int mid = (from + to) >>> 1;
+            invokeAll(new SimplifyTask(polylines, from, mid), new SimplifyTask(polylines, mid, to));
+        }
+    }
+
+    /**
+     * 原地简化一条折线；超过点数上限时逐步放大容差，仍超出则均匀抽稀
+     */
+    void simplify(Polyline p) {
+        if (p.size <= 2) {
+            return;
+        }
+        boolean[] keep = new boolean[p.size];
+        double tol = tolerance;
+        int kept = tol > 0 ? douglasPeucker(p, tol, keep) : p.size;
+        if (tol <= 0) {
+            Arrays.fill(keep, true);
+        }
+        for (int step = 0; maxPointsPerPath > 1 && kept > maxPointsPerPath && step < MAX_TOLERANCE_STEPS; step++) {
+            tol = tol > 0 ? tol * 2 : 0.01;
+            kept = douglasPeucker(p, tol, keep);
+        }
+        int stride = 1;
+        if (maxPointsPerPath > 1 && kept > maxPointsPerPath) {
+            stride = (int) Math.ceil((double) kept / (maxPointsPerPath - 1));
+        }
+        int w = 0;
+        int seen = 0;
+        for (int i = 0; i < p.size; i++) {
+            if (!keep[i]) {
+                continue;
+            }
+            boolean last = i == p.size - 1;
+            if (seen++ % stride == 0 || last) {
+                p.xy[w * 2] = p.xy[i * 2];
+                p.xy[w * 2 + 1] = p.xy[i * 2 + 1];
+                w++;
+            }
+        }
+        p.size = w;
+    }
+
+    /**
+     * 非递归 Douglas-Peucker，返回保留的点数
+     */
+    private static int douglasPeucker(Polyline p, double tol, boolean[] keep) {
+        int n = p.size;
+        Arrays.fill(keep, false);
+        keep[0] = true;
+        keep[n - 1] = true;
+        int kept = 2;
+        double tol2 = tol * tol;
+        int[] stack = new int[64];
+        int top = 0;
+        stack[top++] = 0;
+        stack[top++] = n - 1;
+        float[] xy = p.xy;
+        while (top > 0) {
+            int end = stack[--top];
+            int start = stack[--top];
+            if (end - start < 2) {
+                continue;
+            }
+            double ax = xy[start * 2], ay = xy[start * 2 + 1];
+            double dx = xy[end * 2] - ax, dy = xy[end * 2 + 1] - ay;
+            double len2 = dx * dx + dy * dy;
+            double maxDist = -1;
+            int index = -1;
+            for (int i = start + 1; i < end; i++) {
+                double px = xy[i * 2] - ax, py = xy[i * 2 + 1] - ay;
+                double d;
+                if (len2 == 0) {
+                    // 首尾重合（闭合路径），使用到端点的距离
+                    d = px * px + py * py;
+                } else {
+                    double cross = px * dy - py * dx;
+                    d = cross * cross / len2;
+                }
+                if (d > maxDist) {
+                    maxDist = d;
+                    index = i;
+                }
+            }
+            if (maxDist > tol2) {
+                keep[index] = true;
+                kept++;
+                if (top + 4 > stack.length) {
+                    stack = Arrays.copyOf(stack, stack.length * 2);
+                }
+                stack[top++] = start;
+                stack[top++] = index;
+                stack[top++] = index;
+                stack[top++] = end;
+            }
+        }
+        return kept;
+    }
+
+    /**
+     * 按上述二进制格式写出折线（{@link GCodeIndex} 的预览输出共用此格式）
+     */
+    static void write(List<Polyline> polylines, Result result, FileChannel out) throws IOException {
+        float minX = Float.POSITIVE_INFINITY, minY = Float.POSITIVE_INFINITY;
+        float maxX = Float.NEGATIVE_INFINITY, maxY = Float.NEGATIVE_INFINITY;
+        long points = 0;
+        for (Polyline p : polylines) {
+            points += p.size;
+            for (int i = 0; i < p.size; i++) {
+                float x = p.xy[i * 2], y = p.xy[i * 2 + 1];
+                if (x < minX) minX = x;
+                if (x > maxX) maxX = x;
+                if (y < minY) minY = y;
+                if (y > maxY) maxY = y;
+            }
+        }
+        if (points == 0) {
+            minX = minY = maxX = maxY = 0;
+        }
+        result.polylines = polylines.size();
+        result.points = points;
+        result.minX = minX;
+        result.minY = minY;
+        result.maxX = maxX;
+        result.maxY = maxY;
+
+        int count = polylines.size();
+        ByteBuffer buf = ByteBuffer.allocateDirect(256 * 1024).order(ByteOrder.LITTLE_ENDIAN);
+        buf.putInt(MAGIC).putInt(VERSION).putInt(count).putInt((int) points);
+        buf.putFloat(minX).putFloat(minY).putFloat(maxX).putFloat(maxY);
+        for (Polyline p : polylines) {
+            ensure(buf, 4, out);
+            buf.putInt(p.size);
+        }
+        for (Polyline p : polylines) {
+            ensure(buf, 1, out);
+            buf.put((byte) ((p.closed ? 1 : 0) | (p.rapid ? 2 : 0)));
+        }
+        for (int i = count; i % 4 != 0; i++) {
+            ensure(buf, 1, out);
+            buf.put((byte) 0);
+        }
+        for (Polyline p : polylines) {
+            for (int i = 0; i < p.size * 2; i++) {
+                ensure(buf, 4, out);
+                buf.putFloat(p.xy[i]);
+            }
+        }
+        drain(buf, out);
+    }
+
+    private static void ensure(ByteBuffer buf, int n, FileChannel out) throws IOException {
+        if (buf.remaining() < n) {
+            drain(buf, out);
+        }
+    }
+
+    private static void drain(ByteBuffer buf, FileChannel out) throws IOException {
+        buf.flip();
+        while (buf.hasRemaining()) {
+            out.write(buf);
+        }
+        buf.clear();
+    }
+}
@@ -0,0 +1,206 @@
+package com.example.opencv.webwhiteboard;
+
+import android.annotation.SuppressLint;
+import android.app.Activity;
+import android.content.Context;
+import android.content.MutableContextWrapper;
+import android.os.Looper;
+import android.view.ViewGroup;
+import android.webkit.WebResourceRequest;
+import android.webkit.WebResourceResponse;
+import android.webkit.WebSettings;
+import android.webkit.WebView;
+import android.webkit.WebViewClient;
+
+/**
+ * 白板页面的 WebView 池（只保留一个实例）
+ * <p>
+ * 应用启动后在主线程空闲时创建 WebView（初始化 Chromium 内核并启动渲染进程），
+ * 注入 {@link WhiteboardBridge.Proxy} 后直接加载白板页面，页面资源由 {@link AssetCache} 从内存提供。
+ * 页面停留在首页、不调用原生方法，所以没有 Activity 绑定时也可以提前加载。
+ * WebWhiteBoardActivity 通过 {@link #acquire} 取得这个活着的页面，关闭时用 {@link #release}
+ * 归还，再次进入时只需推送新的图片或矢量输入，不再重新解析 JS 包。
+ * <p>
+ * WebView 的 Context 为 MutableContextWrapper：使用期间指向 Activity（对话框、文件选择等需要），
+ * 空闲时指向 Application，避免持有已销毁的 Activity。所有方法只能在主线程调用。
+ */
+public final class WebViewPool {
+
+    public static final String PAGE_URL = "file:///android_asset/" + AssetCache.ROOT + "/index.html";
+
+    /**
+     * 页面尚未加载
+     */
+    public static final int PAGE_NONE = 0;
+    /**
+     * 页面正在加载，完成时 Activity 的 WebViewClient 会收到 onPageFinished
+     */
+    public static final int PAGE_LOADING = 1;
+    /**
+     * 页面已加载完成，可以直接推送输入
+     */
+    public static final int PAGE_READY = 2;
+
+    private static WebView idle;
+    private static WhiteboardBridge.Proxy idleBridge;
+    private static BinaryChannel idleBinary;
+    private static int idleState = PAGE_NONE;
+    // 空闲实例是否为复用过的页面（而不是启动时预加载的）
+    private static boolean idleReused;
+    private static boolean prewarmed;
+
+    /**
+     * 租出的 WebView 与其注入的桥代理、二进制通道（不支持时为 null）
+     */
+    public static final class Lease {
+        public final WebView webView;
+        public final WhiteboardBridge.Proxy bridge;
+        public final BinaryChannel binary;
+        public final int pageState;
+        // cold：新建页面；preloaded：启动时预加载的页面；reused：上次关闭时归还的页面
+        public final String kind;
+
+        Lease(WebView webView, WhiteboardBridge.Proxy bridge, BinaryChannel binary, int pageState, String kind) {
+            this.webView = webView;
+            this.bridge = bridge;
+            this.binary = binary;
+            this.pageState = pageState;
+            this.kind = kind;
+        }
+    }
+
+    private WebViewPool() {
+    }
+
+    /**
+     * 应用启动时调用：后台读入页面资源，主线程空闲时创建 WebView 并加载页面
+     */
+    public static void prewarm(Context context) {
+        if (prewarmed) {
+            return;
+        }
+        prewarmed = true;
+        Context app = context.getApplicationContext();
+        AssetCache.get(app).preloadAsync();
+        Looper.myQueue().addIdleHandler(() -> {
+            if (idle == null) {
+                try (NativeMetrics.Span ignored = NativeMetrics.span("webview.prewarm")) {
+                    idleBridge = new WhiteboardBridge.Proxy();
+                    idle = create(app, idleBridge);
+                    idleBinary = BinaryChannel.install(idle);
+                    idleState = PAGE_LOADING;
+                    idleReused = false;
+                    idle.loadUrl(PAGE_URL);
+                }
+            }
+            return false;
+        });
+    }
+
+    /**
+     * 取出空闲的 WebView（没有时新建，页面状态为 {@link #PAGE_NONE}），Context 切换到 activity
+     */
+    public static Lease acquire(Activity activity) {
+        Lease lease;
+        if (idle != null) {
+            String kind = idleState == PAGE_NONE ? "cold" : idleReused ? "reused" : "preloaded";
+            lease = new Lease(idle, idleBridge, idleBinary, idleState, kind);
+            idle = null;
+            idleBridge = null;
+            idleBinary = null;
+            idleState = PAGE_NONE;
+        } else {
+            WhiteboardBridge.Proxy bridge = new WhiteboardBridge.Proxy();
+            WebView webView = create(activity.getApplicationContext(), bridge);
+            lease = new Lease(webView, bridge, BinaryChannel.install(webView), PAGE_NONE, "cold");
+        }
+        ((MutableContextWrapper) lease.webView.getContext()).setBaseContext(activity);
+        lease.webView.onResume();
+        return lease;
+    }
+
+    /**
+     * 归还 WebView：从界面移除并解除桥绑定。页面未加载完成或池中已有实例时直接销毁
+     *
+     * @param pageReady 页面是否已加载完成
+     */
+    public static void release(Lease lease, boolean pageReady) {
+        WebView webView = lease.webView;
+        lease.bridge.detach();
+        if (lease.binary != null) {
+            lease.binary.detach();
+        }
+        // 桥已解除绑定，在途的异步调用不会再收到结果；结束页面中的等待，复用的页面不会停在忙碌状态
+        webView.evaluateJavascript("window.__androidBridge && window.__androidBridge.rejectAll('页面已关闭，请求已取消')", null);
+        ViewGroup parent = (ViewGroup) webView.getParent();
+        if (parent != null) {
+            parent.removeView(webView);
+        }
+        webView.setDownloadListener(null);
+        webView.setWebChromeClient(null);
+        webView.setWebViewClient(new AssetClient());
+        ((MutableContextWrapper) webView.getContext()).setBaseContext(webView.getContext().getApplicationContext());
+        if (!pageReady || idle != null) {
+            webView.destroy();
+            return;
+        }
+        webView.onPause();
+        idle = webView;
+        idleBridge = lease.bridge;
+        idleBinary = lease.binary;
+        idleState = PAGE_READY;
+        idleReused = true;
+    }
+
+    /**
+     * 内存紧张时销毁空闲实例并清空资源缓存（下次进入按冷启动加载）
+     */
+    public static void trim(Context context) {
+        if (idle != null) {
+            idle.destroy();
+            idle = null;
+            idleBridge = null;
+            idleBinary = null;
+            idleState = PAGE_NONE;
+        }
+        AssetCache.get(context).clear();
+    }
+
+    @SuppressLint({"SetJavaScriptEnabled", "JavascriptInterface"})
+    private static WebView create(Context app, WhiteboardBridge.Proxy bridge) {
+        WebView webView = new WebView(new MutableContextWrapper(app));
+        WebSettings webSettings = webView.getSettings();
+        webSettings.setJavaScriptEnabled(true);
+        webSettings.setAllowFileAccess(true);
+        webSettings.setAllowUniversalAccessFromFileURLs(true);
+        webSettings.setDomStorageEnabled(true);
+        webSettings.setAllowContentAccess(true);
+
+        // 启用摄像头和麦克风权限
+        webSettings.setMediaPlaybackRequiresUserGesture(false);
+        webSettings.setMixedContentMode(WebSettings.MIXED_CONTENT_ALWAYS_ALLOW);
+
+        webView.setWebViewClient(new AssetClient());
+        webView.addJavascriptInterface(bridge, "Android");
+        return webView;
+    }
+
+    /**
+     * 池中空闲实例使用的 WebViewClient：提供页面资源并记录预加载完成
+     */
+    private static final class AssetClient extends WebViewClient {
+        @Override
+        public WebResourceResponse shouldInterceptRequest(WebView view, WebResourceRequest request) {
+            WebResourceResponse response = AssetCache.get(view.getContext()).intercept(request.getUrl());
+            return response != null ? response : super.shouldInterceptRequest(view, request);
+        }
+
+        @Override
+        public void onPageFinished(WebView view, String url) {
+            super.onPageFinished(view, url);
+            if (view == idle && PAGE_URL.equals(url)) {
+                idleState = PAGE_READY;
+            }
+        }
+    }
+}
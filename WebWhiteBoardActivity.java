@@ -2,9 +2,11 @@ package com.example.opencv.webwhiteboard;
 
 import android.os.Bundle;
 import android.view.View;
+import android.view.ViewGroup;
 import android.view.animation.Animation;
 import android.view.animation.AnimationUtils;
-import android.webkit.WebSettings;
+import android.webkit.WebResourceRequest;
+import android.webkit.WebResourceResponse;
 import android.webkit.WebView;
 import android.webkit.WebViewClient;
 import android.webkit.JavascriptInterface;
@@ -38,25 +40,82 @@ import com.example.opencv.Constant;
 import com.example.opencv.MainActivity;
 import com.example.opencv.R;
 
+import org.json.JSONArray;
+import org.json.JSONException;
 import org.json.JSONObject;
 
 import java.io.File;
-import java.io.FileInputStream;
-import java.io.InputStream;
-import java.io.OutputStream;
+import java.io.IOException;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
 public class WebWhiteBoardActivity extends AppCompatActivity {
     private WebView webView;
+    // 从池中租用的 WebView 及其桥代理、二进制通道（随 WebView 复用），onCreate 中绑定到本 Activity
+    private WebViewPool.Lease lease;
+    // 页面是否已加载完成（决定关闭时 WebView 能否归还到池中复用）
+    private boolean pageReady;
+    // 启动耗时统计：onCreate 开始时刻与 WebView 来源（cold / preloaded / reused），推送输入后清空
+    private long startupStart;
+    private String startupKind;
     private ValueCallback<Uri[]> uploadMessage;
     private final static int FILE_CHOOSER_RESULT_CODE = 10000;
     private final static int CAMERA_PERMISSION_REQUEST_CODE = 10001;
     private final static int STORAGE_PERMISSION_REQUEST_CODE = 10002;
+    // 滚动日志单个文件的大小上限（保留当前与上一份）
+    private final static long TRACE_LOG_BYTES = 512 * 1024;
 
     // 自定义下载路径，默认为 Downloads 文件夹
     private String customDownloadPath = Environment.DIRECTORY_DOWNLOADS;
 
+    // 分块流式保存文件（大体积 G 代码）
+    private StreamingFileWriter streamingFileWriter;
+
+    // 通过拦截请求向页面提供本地文件
+    private LocalResourceServer localResourceServer;
+    private TiledImageStore tiledImageStore;
+    private EditHistory editHistory;
+
+    // 耗时桥方法的后台调度与统计
+    private BridgeDispatcher bridgeDispatcher;
+
+    // onNextStep 图层数据的文件传递
+    private LayerPayloadStore layerPayloadStore;
+
+    // saveTempFile 等临时文件的内容寻址缓存
+    private TempFileCache tempFileCache;
+
+    // 正在运行的可续写扫描导出，按 jobId 索引（用于取消）
+    private final Map<String, ResumableScanExport> scanExports = new ConcurrentHashMap<>();
+    // 已受理（准备中或运行中）的扫描导出 jobId：先占用再创建检查点，同一 jobId 同时只有一个任务
+    private final Set<String> scanExportJobs = ConcurrentHashMap.newKeySet();
+
+    // 最近打开的 G 代码索引（按访问顺序淘汰），索引本身只占少量堆内存，文本通过内存映射访问
+    private static final int MAX_OPEN_GCODE_INDEXES = 4;
+    private final Map<String, GCodeIndex> gcodeIndexes = new LinkedHashMap<String, GCodeIndex>(8, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, GCodeIndex> eldest) {
+            return size() > MAX_OPEN_GCODE_INDEXES;
+        }
+    };
+
+    // 二进制通道收到的帧按顺序在此线程处理（G 代码分块必须保序），不支持二进制通道时为 null
+    private ExecutorService binaryFrames;
+
+    // 保存或导出 G 代码后的压缩选项，null 表示不压缩（默认）；压缩有损且依赖控制器支持模态指令，
+    // 只在页面通过 setSavedGCodeCompaction 明确开启时使用
+    private volatile GCodeCompactor.Options savedGCodeCompaction;
+
     @Override
     protected void onCreate(Bundle savedInstanceState) {
+        startupStart = System.nanoTime();
         super.onCreate(savedInstanceState);
         // 1. 启用 EdgeToEdge 模式
         EdgeToEdge.enable(this);
@@ -93,21 +152,59 @@ public class WebWhiteBoardActivity extends AppCompatActivity {
             customDownloadPath = gcodesDir.getAbsolutePath();
         }
 
-        // 实例化 WebView 并设置为内容视图 (只执行一次)
-        webView = findViewById(R.id.webView);
-//        webView = new WebView(this);
-//        setContentView(webView);
+        localResourceServer = new LocalResourceServer(this);
+        tiledImageStore = new TiledImageStore(this);
+        // 撤销历史放在应用存储中（不随缓存清理），重新进入时恢复上次会话
+        editHistory = new EditHistory(new File(getFilesDir(), "edit_history"));
+        layerPayloadStore = new LayerPayloadStore(getCacheDir());
+        tempFileCache = new TempFileCache(new File(getCacheDir(), "temp_cache"), TempFileCache.DEFAULT_BUDGET_BYTES);
+        NativeMetrics.initTrace(new File(getCacheDir(), "trace"), TRACE_LOG_BYTES);
+
+        bridgeDispatcher = new BridgeDispatcher(script -> runOnUiThread(() -> {
+            if (webView != null) {
+                webView.evaluateJavascript(script, null);
+            }
+        }));
+
+        streamingFileWriter = new StreamingFileWriter(this::resolveDownloadFile, new StreamingFileWriter.Callback() {
+            @Override
+            public void onCommitted(String fileName, File file, long bytes) {
+                // 压缩可能耗时较长，不占用写线程（其他会话的分块写入在同一线程排队）
+                boolean accepted = bridgeDispatcher.executeLong("afterGCodeSaved", () -> {
+                    String suffix = afterGCodeSaved(file);
+                    runOnUiThread(() -> Toast.makeText(WebWhiteBoardActivity.this,
+                            "文件已保存: " + fileName + " 到 " + customDownloadPath + suffix,
+                            Toast.LENGTH_SHORT).show());
+                    return null;
+                });
+                if (!accepted) {
+                    runOnUiThread(() -> Toast.makeText(WebWhiteBoardActivity.this,
+                            "文件已保存: " + fileName + " 到 " + customDownloadPath,
+                            Toast.LENGTH_SHORT).show());
+                }
+            }
 
-        WebSettings webSettings = webView.getSettings();
-        webSettings.setJavaScriptEnabled(true);
-        webSettings.setAllowFileAccess(true);
-        webSettings.setAllowUniversalAccessFromFileURLs(true);
-        webSettings.setDomStorageEnabled(true);
-        webSettings.setAllowContentAccess(true);
+            @Override
+            public void onFailed(String fileName, Exception error) {
+                error.printStackTrace();
+                runOnUiThread(() -> Toast.makeText(WebWhiteBoardActivity.this,
+                        "保存文件失败: " + error.getMessage(),
+                        Toast.LENGTH_SHORT).show());
+            }
+        });
 
-        // 启用摄像头和麦克风权限
-        webSettings.setMediaPlaybackRequiresUserGesture(false);
-        webSettings.setMixedContentMode(WebSettings.MIXED_CONTENT_ALWAYS_ALLOW);
+        // 从池中取出 WebView（预加载或上次归还的页面，没有时新建），替换布局中的占位 WebView
+        lease = WebViewPool.acquire(this);
+        WebView placeholder = findViewById(R.id.webView);
+        ViewGroup container = (ViewGroup) placeholder.getParent();
+        int index = container.indexOfChild(placeholder);
+        ViewGroup.LayoutParams layoutParams = placeholder.getLayoutParams();
+        container.removeViewAt(index);
+        placeholder.destroy();
+        webView = lease.webView;
+        webView.setId(R.id.webView);
+        container.addView(webView, index, layoutParams);
+        startupKind = lease.kind;
 
         // 设置下载监听器
         webView.setDownloadListener(new DownloadListener() {
@@ -177,38 +274,54 @@ public class WebWhiteBoardActivity extends AppCompatActivity {
             }
         });
 
-        // 注入JS接口
-        webView.addJavascriptInterface(new Object() {
+        // 绑定JS接口（代理对象在创建 WebView 时已注入为 window.Android）
+        lease.bridge.attach(new WhiteboardBridge() {
+            // 图层数据较大时在后台写入缓存文件，Intent 只携带文件路径（接收方用 LayerPayloadStore.load 读取）
             @JavascriptInterface
             public void onNextStep(String data) {
-                runOnUiThread(() -> {
+                bridgeDispatcher.payloadIn("onNextStep", data.length());
+                boolean accepted = bridgeDispatcher.execute("onNextStep", () -> {
                     Intent intent = new Intent(WebWhiteBoardActivity.this, com.example.opencv.image.LayerPreviewActivity.class);
-                    intent.putExtra("layerData", data);
-                    startActivity(intent);
-                    // finish();
+                    layerPayloadStore.putInto(intent, data);
+                    runOnUiThread(() -> {
+                        startActivity(intent);
+                        // finish();
+                    });
+                    return null;
                 });
+                if (!accepted) {
+                    runOnUiThread(() -> Toast.makeText(WebWhiteBoardActivity.this,
+                            "图层数据处理繁忙，请稍后重试", Toast.LENGTH_SHORT).show());
+                }
             }
 
             @JavascriptInterface
             public String saveTempFile(String base64, String fileName) {
+                bridgeDispatcher.payloadIn("saveTempFile", base64.length());
                 try {
-                    String pureBase64 = base64.contains(",") ? base64.split(",")[1] : base64;
-                    byte[] decodedBytes = android.util.Base64.decode(pureBase64, android.util.Base64.DEFAULT);
-                    java.io.File tempFile = new java.io.File(getCacheDir(), fileName);
-                    java.io.FileOutputStream fos = new java.io.FileOutputStream(tempFile);
-                    fos.write(decodedBytes);
-                    fos.close();
-                    return tempFile.getAbsolutePath();
+                    return bridgeDispatcher.timed("saveTempFile", () -> writeTempFile(base64, fileName));
                 } catch (Exception e) {
                     e.printStackTrace();
                     return "";
                 }
             }
 
+            // 异步版本：立即返回请求ID，结果（文件路径）通过 window.__androidBridge.resolve 回调
+            @JavascriptInterface
+            public String saveTempFileAsync(String base64, String fileName) {
+                bridgeDispatcher.payloadIn("saveTempFileAsync", base64.length());
+                return bridgeDispatcher.submit("saveTempFileAsync", () -> writeTempFile(base64, fileName));
+            }
+
             // 新增：前端主动请求画布大小
             @JavascriptInterface
             public String getPlatformSize() {
-                return String.format("{\"width\":%d,\"height\":%d}", Constant.PlatformWidth, Constant.PlatformHeight);
+                try {
+                    return bridgeDispatcher.timed("getPlatformSize", () ->
+                            String.format("{\"width\":%d,\"height\":%d}", Constant.PlatformWidth, Constant.PlatformHeight));
+                } catch (Exception e) {
+                    return "{}";
+                }
             }
 
             // 新增：设置自定义下载路径
@@ -223,297 +336,1341 @@ public class WebWhiteBoardActivity extends AppCompatActivity {
             // 新增：获取当前下载路径
             @JavascriptInterface
             public String getDownloadPath() {
-                return customDownloadPath;
+                try {
+                    return bridgeDispatcher.timed("getDownloadPath", () -> customDownloadPath);
+                } catch (Exception e) {
+                    return customDownloadPath;
+                }
             }
 
-            // 新增：保存 blob 文件
+            // 新增：保存 blob 文件（解码与写入在后台 I/O 线程中进行）
             @JavascriptInterface
             public void saveBlobFile(String base64, String fileName, String mimeType) {
-                runOnUiThread(() -> {
+                bridgeDispatcher.payloadIn("saveBlobFile", base64.length());
+                boolean accepted = bridgeDispatcher.execute("saveBlobFile", () -> {
                     try {
                         // 解码 base64 数据
                         byte[] decodedBytes = android.util.Base64.decode(base64, android.util.Base64.DEFAULT);
 
                         // 创建目标文件
-                        File targetFile;
-                        if (customDownloadPath.startsWith("/")) {
-                            // 绝对路径
-                            File downloadDir = new File(customDownloadPath);
-                            if (!downloadDir.exists()) {
-                                downloadDir.mkdirs();
-                            }
-                            targetFile = new File(downloadDir, fileName);
-                        } else {
-                            // 相对路径（相对于外部存储）
-                            File downloadDir = new File(Environment.getExternalStoragePublicDirectory(customDownloadPath), fileName);
-                            targetFile = downloadDir;
-                        }
+                        File targetFile = resolveDownloadFile(fileName);
 
                         // 写入文件
-                        java.io.FileOutputStream fos = new java.io.FileOutputStream(targetFile);
-                        fos.write(decodedBytes);
-                        fos.close();
-
-                        Toast.makeText(WebWhiteBoardActivity.this,
-                                "文件已保存: " + fileName + " 到 " + customDownloadPath,
-                                Toast.LENGTH_SHORT).show();
+                        long writeStart = System.nanoTime();
+                        try (java.io.FileOutputStream fos = new java.io.FileOutputStream(targetFile)) {
+                            fos.write(decodedBytes);
+                        }
+                        NativeMetrics.recordWrite("saveBlobFile", decodedBytes.length, System.nanoTime() - writeStart);
 
+                        String suffix = afterGCodeSaved(targetFile);
+                        runOnUiThread(() -> Toast.makeText(WebWhiteBoardActivity.this,
+                                "文件已保存: " + fileName + " 到 " + customDownloadPath + suffix,
+                                Toast.LENGTH_SHORT).show());
+                        return null;
                     } catch (Exception e) {
-                        e.printStackTrace();
-                        Toast.makeText(WebWhiteBoardActivity.this,
+                        runOnUiThread(() -> Toast.makeText(WebWhiteBoardActivity.this,
                                 "保存文件失败: " + e.getMessage(),
-                                Toast.LENGTH_SHORT).show();
+                                Toast.LENGTH_SHORT).show());
+                        throw e;
                     }
                 });
+                if (!accepted) {
+                    runOnUiThread(() -> Toast.makeText(WebWhiteBoardActivity.this,
+                            "保存文件失败: 后台任务繁忙", Toast.LENGTH_SHORT).show());
+                }
             }
-        }, "Android");
 
-        // 设置WebViewClient来处理页面加载完成后的操作
-        webView.setWebViewClient(new WebViewClient() {
-            @Override
-            public void onPageFinished(WebView view, String url) {
-                super.onPageFinished(view, url);
+            // 新增：原生平台扫描G代码生成。rasterPath 为 saveTempFile 写入的灰度栅格（每像素1字节），
+            // 结果直接写入下载目录，返回输出文件路径（失败返回空字符串）
+            @JavascriptInterface
+            public String generateScanGCode(String rasterPath, int width, int height, String settingsJson, String fileName) {
+                try {
+                    return bridgeDispatcher.timed("generateScanGCode",
+                            () -> runScanGCode(rasterPath, width, height, settingsJson, fileName));
+                } catch (Exception e) {
+                    return "";
+                }
+            }
 
-                // 处理图片传递
-                String imagePath = getIntent().getStringExtra("imagePath");
-                String vectorIMAGE = getIntent().getStringExtra("vectorIMAGE");
-                //Uri imageUri = getIntent().getParcelableExtra("imageUri");
+            // 异步版本：结果（输出文件路径）通过 window.__androidBridge.resolve 回调
+            @JavascriptInterface
+            public String generateScanGCodeAsync(String rasterPath, int width, int height, String settingsJson, String fileName) {
+                return bridgeDispatcher.submitLong("generateScanGCodeAsync",
+                        () -> runScanGCode(rasterPath, width, height, settingsJson, fileName));
+            }
 
-                if (imagePath != null && !imagePath.isEmpty()) {
-                    try {
-                        File file;
-                        if (imagePath.startsWith("content://")) {
-                            // 通过ContentResolver读取并保存为临时文件
-                            Uri uri = Uri.parse(imagePath);
-                            InputStream is = getContentResolver().openInputStream(uri);
-                            file = new File(getCacheDir(), "temp_image.jpg");
-                            OutputStream fos = new java.io.FileOutputStream(file);
-                            byte[] buffer = new byte[4096];
-                            int len;
-                            while ((len = is.read(buffer)) > 0) {
-                                fos.write(buffer, 0, len);
-                            }
-                            fos.close();
-                            is.close();
-                        } else {
-                            if (imagePath.startsWith("file://")) {
-                                imagePath = imagePath.substring(7);
+            // 新增：可断点续写的扫描G代码导出。jobJson 为 {jobId, rasterPath, width, height, settings, fileName}，
+            // 进度通过 window.__androidBridge.progress(jobId, {state, doneRows, totalRows, bytes}) 推送，
+            // 结果 {path, bytes, ms, resumedFromRow, rows} 通过 window.__androidBridge.resolve 回调。
+            // 只提供异步版本：大文件生成耗时较长，不应阻塞页面线程
+            @JavascriptInterface
+            public String startScanExportAsync(String jobJson) {
+                return bridgeDispatcher.submitLong("startScanExportAsync", () -> {
+                    JSONObject job = new JSONObject(jobJson);
+                    String jobId = job.getString("jobId");
+                    return runScanExportJob(jobId, () -> ResumableScanExport.create(scanExportRoot(), jobId,
+                            new File(job.getString("rasterPath")), job.getInt("width"), job.getInt("height"),
+                            job.getJSONObject("settings").toString(), resolveDownloadFile(job.getString("fileName"))));
+                });
+            }
+
+            // 从检查点继续未完成的扫描导出（例如进程被杀或取消之后），结果与 startScanExportAsync 相同
+            @JavascriptInterface
+            public String resumeScanExportAsync(String jobId) {
+                return bridgeDispatcher.submitLong("resumeScanExportAsync", () -> runScanExportJob(jobId, () -> {
+                    ResumableScanExport export = ResumableScanExport.open(scanExportRoot(), jobId);
+                    if (export == null) {
+                        throw new IllegalStateException("没有可继续的导出任务: " + jobId);
+                    }
+                    return export;
+                }));
+            }
+
+            // 未完成的扫描导出列表 [{jobId, fileName, doneRows, totalRows, bytes, createdAt, updatedAt}]
+            @JavascriptInterface
+            public String getPendingScanExports() {
+                try {
+                    return bridgeDispatcher.timed("getPendingScanExports", () -> {
+                        JSONArray list = ResumableScanExport.pending(scanExportRoot());
+                        // 正在运行的任务不算未完成
+                        JSONArray idle = new JSONArray();
+                        for (int i = 0; i < list.length(); i++) {
+                            if (!scanExports.containsKey(list.getJSONObject(i).getString("jobId"))) {
+                                idle.put(list.get(i));
                             }
-                            file = new File(imagePath);
                         }
-                        if (file.exists()) {
-                            FileInputStream fis = new FileInputStream(file);
-                            byte[] bytes = new byte[(int) file.length()];
-                            fis.read(bytes);
-                            fis.close();
-                            String base64 = android.util.Base64.encodeToString(bytes, android.util.Base64.DEFAULT);
-
-                            // 根据文件扩展名确定MIME类型
-                            String mimeType = "image/png";
-                            String fileName = file.getName().toLowerCase();
-                            if (fileName.endsWith(".jpg") || fileName.endsWith(".jpeg")) {
-                                mimeType = "image/jpeg";
-                            } else if (fileName.endsWith(".gif")) {
-                                mimeType = "image/gif";
-                            } else if (fileName.endsWith(".webp")) {
-                                mimeType = "image/webp";
-                            }
+                        return idle.toString();
+                    });
+                } catch (Exception e) {
+                    return "[]";
+                }
+            }
+
+            // 取消正在运行的扫描导出：生成在当前行结束后停止，检查点保留，可用 resumeScanExportAsync 继续
+            @JavascriptInterface
+            public boolean cancelScanExport(String jobId) {
+                ResumableScanExport export = scanExports.get(jobId);
+                if (export == null) {
+                    return false;
+                }
+                export.cancel();
+                return true;
+            }
 
-                            String dataUrl = "data:" + mimeType + ";base64," + base64;
-                            String safeJsArg = JSONObject.quote(dataUrl);
-                            String jsCode = "window.setHomePageImage(" + safeJsArg + ");";
-                            webView.evaluateJavascript(jsCode, null);
+            // 放弃未完成的扫描导出，删除检查点与未完成的输出文件
+            @JavascriptInterface
+            public boolean discardScanExport(String jobId) {
+                try {
+                    return bridgeDispatcher.timed("discardScanExport", () -> {
+                        ResumableScanExport running = scanExports.get(jobId);
+                        if (running != null) {
+                            running.cancel();
                         }
-                    } catch (Exception e) {
-                        e.printStackTrace();
-                    }
-                } else if (vectorIMAGE != null && !vectorIMAGE.isEmpty()) {
-                    try {
-                        File file;
-                        if (vectorIMAGE.startsWith("content://")) {
-                            Uri uri = Uri.parse(vectorIMAGE);
-                            InputStream is = getContentResolver().openInputStream(uri);
-                            // 读取为字符串
-                            java.io.ByteArrayOutputStream baos = new java.io.ByteArrayOutputStream();
-                            byte[] buffer = new byte[4096];
-                            int len;
-                            while ((len = is.read(buffer)) > 0) {
-                                baos.write(buffer, 0, len);
-                            }
-                            is.close();
-                            String content = new String(baos.toByteArray(), "UTF-8");
-
-                            // 尝试从 uri 推断扩展名
-                            String ext = "svg";
-                            String path = uri.getPath();
-                            if (path != null) {
-                                String lower = path.toLowerCase();
-                                if (lower.endsWith(".dxf")) ext = "dxf";
-                                else if (lower.endsWith(".plt")) ext = "plt";
-                                else if (lower.endsWith(".svg")) ext = "svg";
-                            }
-                            String temp = JSONObject.quote(content);
-                            String js = "window.setWhiteboardVector(" + JSONObject.quote(content) + ", '" + ext + "')";
-                            webView.evaluateJavascript(js, null);
-                        } else {
-                            if (vectorIMAGE.startsWith("file://")) {
-                                vectorIMAGE = vectorIMAGE.substring(7);
-                            }
-                            file = new File(vectorIMAGE);
-                            if (file.exists()) {
-                                FileInputStream fis = new FileInputStream(file);
-                                byte[] bytes = new byte[(int) file.length()];
-                                int read = fis.read(bytes);
-                                fis.close();
-                                String content = new String(bytes, "UTF-8");
-
-                                String ext = "svg";
-                                String fileName = file.getName().toLowerCase();
-                                if (fileName.endsWith(".dxf")) ext = "dxf";
-                                else if (fileName.endsWith(".plt")) ext = "plt";
-                                else if (fileName.endsWith(".svg")) ext = "svg";
-
-                                String js = "window.setWhiteboardVector(" + JSONObject.quote(content) + ", '" + ext + "')";
-                                webView.evaluateJavascript(js, null);
-                            }
+                        ResumableScanExport export = ResumableScanExport.open(scanExportRoot(), jobId);
+                        if (export == null) {
+                            return false;
                         }
-                    } catch (Exception e) {
-                        e.printStackTrace();
-                    }
-                } else {
-                    // 当既没有位图也没有矢量数据时，调用首页接口但不传递任何数据
-                    String jsCode = "window.setHomePageImage();";
-                    webView.evaluateJavascript(jsCode, null);
-
-                    // 旧方案：通过base64参数传递（已注释，保留作为备份）
-                    /*
-                    String imageBase64 = getIntent().getStringExtra("imageBase64");
-                    if (imageBase64 != null && !imageBase64.isEmpty()) {
-                        String jsCode = "window.setWhiteboardImage('" + imageBase64 + "');";
-                        webView.evaluateJavascript(jsCode, null);
-                    }
-                    */
+                        export.discard();
+                        return true;
+                    });
+                } catch (Exception e) {
+                    e.printStackTrace();
+                    return false;
                 }
             }
-        });
 
-        webView.loadUrl("file:///android_asset/whiteboard/index.html");
-    }
+            // 新增：原生矢量预处理。sourceUrl 为页面收到的本地虚拟地址，DXF/PLT 在 Java 侧解析并简化，
+            // 返回 {url, polylines, points, sourcePoints, ms}，url 指向二进制折线缓冲区（失败返回空字符串）
+            @JavascriptInterface
+            public String preprocessVector(String sourceUrl, String optionsJson) {
+                try {
+                    return bridgeDispatcher.timed("preprocessVector",
+                            () -> runVectorPreprocess(sourceUrl, optionsJson).toString());
+                } catch (Exception e) {
+                    e.printStackTrace();
+                    return "";
+                }
+            }
 
-    /**
-     * 设置自定义下载路径
-     *
-     * @param path 下载路径，可以是相对路径或绝对路径
-     */
-    public void setCustomDownloadPath(String path) {
-        this.customDownloadPath = path;
-    }
+            // 异步版本：结果 JSON 通过 window.__androidBridge.resolve 回调
+            @JavascriptInterface
+            public String preprocessVectorAsync(String sourceUrl, String optionsJson) {
+                return bridgeDispatcher.submit("preprocessVectorAsync",
+                        () -> runVectorPreprocess(sourceUrl, optionsJson));
+            }
 
-    /**
-     * 获取当前下载路径
-     *
-     * @return 当前下载路径
-     */
-    public String getCustomDownloadPath() {
-        return this.customDownloadPath;
-    }
+            // 新增：G 代码压缩。去掉注释、省略重复的模态字并合并共线 G1（可选拟合圆弧），原地替换文件；
+            // optionsJson 见 GCodeCompactor.Options（空字符串为默认选项），
+            // 返回 {path, inBytes, outBytes, inLines, outLines, mergedMoves, arcs, ratio, applied, ms}（失败返回空字符串）
+            @JavascriptInterface
+            public String compactGCode(String path, String optionsJson) {
+                try {
+                    return bridgeDispatcher.timed("compactGCode", () -> runGCodeCompaction(path, optionsJson).toString());
+                } catch (Exception e) {
+                    e.printStackTrace();
+                    return "";
+                }
+            }
 
-    /**
-     * 开始下载文件
-     */
-    private void startDownload(String url, String contentDisposition, String mimeType) {
-        try {
-            // 获取文件名
-            String fileName = URLUtil.guessFileName(url, contentDisposition, mimeType);
+            // 异步版本：结果 JSON 通过 window.__androidBridge.resolve 回调
+            @JavascriptInterface
+            public String compactGCodeAsync(String path, String optionsJson) {
+                return bridgeDispatcher.submitLong("compactGCodeAsync", () -> runGCodeCompaction(path, optionsJson));
+            }
 
-            // 创建下载请求
-            DownloadManager.Request request = new DownloadManager.Request(Uri.parse(url));
-            request.setTitle("下载文件");
-            request.setDescription("正在下载: " + fileName);
-            request.setNotificationVisibility(DownloadManager.Request.VISIBILITY_VISIBLE_NOTIFY_COMPLETED);
+            // 保存或导出 .nc/.gcode 后自动压缩的选项（见 afterGCodeSaved），空字符串表示关闭自动压缩
+            @JavascriptInterface
+            public void setSavedGCodeCompaction(String optionsJson) {
+                try {
+                    savedGCodeCompaction = optionsJson == null || optionsJson.isEmpty()
+                            ? null : GCodeCompactor.Options.fromJson(optionsJson);
+                } catch (Exception e) {
+                    e.printStackTrace();
+                }
+            }
 
-            // 根据自定义路径设置下载位置
-            if (customDownloadPath.startsWith("/")) {
-                // 绝对路径
-                File downloadDir = new File(customDownloadPath);
-                if (!downloadDir.exists()) {
-                    downloadDir.mkdirs();
+            // 新增：G 代码索引。path 为导出文件的绝对路径或下载目录中的文件名，首次打开时建立旁路索引，
+            // 返回 {lines, moves, bands, cutDistance, travelDistance, seconds, bounds, cached, ms}（失败返回空字符串）
+            @JavascriptInterface
+            public String indexGCode(String path) {
+                try {
+                    return bridgeDispatcher.timed("indexGCode", () -> runGCodeIndex(path).toString());
+                } catch (Exception e) {
+                    e.printStackTrace();
+                    return "";
                 }
-                request.setDestinationUri(Uri.fromFile(new File(downloadDir, fileName)));
-            } else {
-                // 相对路径（相对于外部存储）
-                request.setDestinationInExternalPublicDir(customDownloadPath, fileName);
             }
 
-            request.setMimeType(mimeType);
+            // 异步版本：结果 JSON 通过 window.__androidBridge.resolve 回调
+            @JavascriptInterface
+            public String indexGCodeAsync(String path) {
+                return bridgeDispatcher.submit("indexGCodeAsync", () -> runGCodeIndex(path));
+            }
 
-            // 获取下载管理器
-            DownloadManager downloadManager = (DownloadManager) getSystemService(Context.DOWNLOAD_SERVICE);
-            if (downloadManager != null) {
-                long downloadId = downloadManager.enqueue(request);
-                Toast.makeText(this, "开始下载: " + fileName + " 到 " + customDownloadPath, Toast.LENGTH_SHORT).show();
-            } else {
-                Toast.makeText(this, "下载管理器不可用", Toast.LENGTH_SHORT).show();
+            // G 代码预览折线。queryJson 为 {minX, minY, maxX, maxY, tolerance, travel, maxPoints}，视口缺省时为整个文件；
+            // 返回 {url, polylines, points, ms}，url 指向与 preprocessVector 相同格式的二进制折线缓冲区（标志位 bit1 为空移）
+            @JavascriptInterface
+            public String queryGCodePreview(String path, String queryJson) {
+                try {
+                    return bridgeDispatcher.timed("queryGCodePreview", () -> runGCodePreview(path, queryJson).toString());
+                } catch (Exception e) {
+                    e.printStackTrace();
+                    return "";
+                }
             }
-        } catch (Exception e) {
-            e.printStackTrace();
-            Toast.makeText(this, "下载失败: " + e.getMessage(), Toast.LENGTH_SHORT).show();
-        }
-    }
 
-    /**
-     * 处理 blob URL 下载
-     */
-    private void handleBlobDownload(String url, String contentDisposition, String mimeType) {
-        try {
-            // 获取文件名
-            String fileName = URLUtil.guessFileName(url, contentDisposition, mimeType);
+            // 异步版本：结果 JSON 通过 window.__androidBridge.resolve 回调
+            @JavascriptInterface
+            public String queryGCodePreviewAsync(String path, String queryJson) {
+                return bridgeDispatcher.submit("queryGCodePreviewAsync", () -> runGCodePreview(path, queryJson));
+            }
 
-            // 通过 JavaScript 获取 blob 数据
-            String jsCode = String.format(
-                    "(function() {" +
-                            "  var xhr = new XMLHttpRequest();" +
-                            "  xhr.open('GET', '%s', false);" +
-                            "  xhr.responseType = 'blob';" +
-                            "  xhr.send();" +
-                            "  var reader = new FileReader();" +
-                            "  reader.onload = function() {" +
-                            "    var base64 = reader.result.split(',')[1];" +
-                            "    Android.saveBlobFile(base64, '%s', '%s');" +
-                            "  };" +
-                            "  reader.readAsDataURL(xhr.response);" +
-                            "})();", url, fileName, mimeType);
+            // 模拟进度：queryJson 为 {line} 或 {seconds}，返回 {line, x, y, feed, laser, power, distance, seconds}
+            @JavascriptInterface
+            public String getGCodeState(String path, String queryJson) {
+                try {
+                    return bridgeDispatcher.timed("getGCodeState", () -> {
+                        GCodeIndex index = openGCodeIndex(path);
+                        JSONObject query = new JSONObject(queryJson);
+                        GCodeIndex.State state = query.has("seconds")
+                                ? index.stateAtTime(query.getDouble("seconds"))
+                                : index.stateAtLine(query.optInt("line", 0));
+                        JSONObject json = new JSONObject();
+                        json.put("line", state.line);
+                        json.put("x", state.x);
+                        json.put("y", state.y);
+                        if (!Double.isNaN(state.feed)) {
+                            json.put("feed", state.feed);
+                        }
+                        json.put("laser", state.laser);
+                        json.put("power", state.power);
+                        json.put("distance", state.distance);
+                        json.put("seconds", state.seconds);
+                        return json.toString();
+                    });
+                } catch (Exception e) {
+                    e.printStackTrace();
+                    return "";
+                }
+            }
 
-            webView.evaluateJavascript(jsCode, null);
+            // 读取 G 代码原文的 [fromLine, fromLine + count) 行，用于文本预览
+            @JavascriptInterface
+            public String readGCodeLines(String path, int fromLine, int count) {
+                try {
+                    return bridgeDispatcher.timed("readGCodeLines", () -> openGCodeIndex(path).readLines(fromLine, count));
+                } catch (Exception e) {
+                    e.printStackTrace();
+                    return "";
+                }
+            }
 
-        } catch (Exception e) {
-            e.printStackTrace();
-            Toast.makeText(this, "下载失败: " + e.getMessage(), Toast.LENGTH_SHORT).show();
-        }
-    }
+            // 新增：原生扫描图层栅格化。jobJson 包含平台尺寸、线密度、画布尺寸、处理选项及图片列表
+            // （source 为 saveTempFile 返回的缓存路径或本地虚拟地址），结果为 {path, width, height, bitsPerPixel, ms}
+            @JavascriptInterface
+            public String rasterizePlatform(String jobJson) {
+                bridgeDispatcher.payloadIn("rasterizePlatform", jobJson.length());
+                try {
+                    return bridgeDispatcher.timed("rasterizePlatform", () -> runRasterize(jobJson).toString());
+                } catch (Exception e) {
+                    e.printStackTrace();
+                    return "";
+                }
+            }
 
-    @Override
-    protected void onActivityResult(int requestCode, int resultCode, Intent data) {
-        super.onActivityResult(requestCode, resultCode, data);
-        if (requestCode == FILE_CHOOSER_RESULT_CODE) {
-            if (uploadMessage == null) return;
-            Uri[] results = null;
-            if (resultCode == Activity.RESULT_OK && data != null) {
-                Uri uri = data.getData();
-                if (uri != null) {
-                    results = new Uri[]{uri};
+            // 异步版本：结果 JSON 通过 window.__androidBridge.resolve 回调
+            @JavascriptInterface
+            public String rasterizePlatformAsync(String jobJson) {
+                bridgeDispatcher.payloadIn("rasterizePlatformAsync", jobJson.length());
+                return bridgeDispatcher.submit("rasterizePlatformAsync", () -> runRasterize(jobJson));
+            }
+
+            // 新增：多图层合并导出。jobJson 为 {jobId, fileName, layers: [{name, kind: "scan", rasterPath, width, height, settings}
+            // | {name, kind: "gcode", text}]}，各图层并行生成后拼接写入下载目录，进度通过 window.__androidBridge.progress(jobId, ...) 推送
+            @JavascriptInterface
+            public String runGCodeJob(String jobJson) {
+                bridgeDispatcher.payloadIn("runGCodeJob", jobJson.length());
+                try {
+                    return bridgeDispatcher.timed("runGCodeJob", () -> runGCodeExport(jobJson).toString());
+                } catch (Exception e) {
+                    return "";
                 }
             }
-            uploadMessage.onReceiveValue(results);
-            uploadMessage = null;
-        }
-    }
 
-    @Override
-    public void onRequestPermissionsResult(int requestCode, String[] permissions, int[] grantResults) {
-        super.onRequestPermissionsResult(requestCode, permissions, grantResults);
+            // 异步版本：结果 JSON 通过 window.__androidBridge.resolve 回调
+            @JavascriptInterface
+            public String runGCodeJobAsync(String jobJson) {
+                bridgeDispatcher.payloadIn("runGCodeJobAsync", jobJson.length());
+                return bridgeDispatcher.submitLong("runGCodeJobAsync", () -> runGCodeExport(jobJson));
+            }
 
-        if (requestCode == CAMERA_PERMISSION_REQUEST_CODE) {
+            // 新增：雕刻路径排序。pathsJson 为 {paths: [{pts, reversible, closed}], startX, startY, budgetMs}，
+            // 结果为 {order: [{i, reverse, start}], before, after, twoOptMoves, ms}
+            @JavascriptInterface
+            public String optimizeToolpath(String pathsJson) {
+                bridgeDispatcher.payloadIn("optimizeToolpath", pathsJson.length());
+                try {
+                    return bridgeDispatcher.timed("optimizeToolpath",
+                            () -> ToolpathOptimizer.optimize(pathsJson).toString());
+                } catch (Exception e) {
+                    e.printStackTrace();
+                    return "";
+                }
+            }
+
+            // 异步版本：结果 JSON 通过 window.__androidBridge.resolve 回调
+            @JavascriptInterface
+            public String optimizeToolpathAsync(String pathsJson) {
+                bridgeDispatcher.payloadIn("optimizeToolpathAsync", pathsJson.length());
+                return bridgeDispatcher.submit("optimizeToolpathAsync", () -> ToolpathOptimizer.optimize(pathsJson));
+            }
+
+            // 新增：原生位图矢量化（替代页面中的 potrace）。sourcePath 为 saveTempFile 返回的缓存路径或本地虚拟地址，
+            // optionsJson 为 {jobId, threshold, turdSize, alphaMax, optCurve, optTolerance}，
+            // 结果为 {url, width, height, paths, ms}，url 指向生成的 SVG，进度通过 window.__androidBridge.progress(jobId, ...) 推送
+            @JavascriptInterface
+            public String traceBitmap(String sourcePath, String optionsJson) {
+                try {
+                    return bridgeDispatcher.timed("traceBitmap", () -> runTrace(sourcePath, optionsJson).toString());
+                } catch (Exception e) {
+                    e.printStackTrace();
+                    return "";
+                }
+            }
+
+            // 异步版本：结果 JSON 通过 window.__androidBridge.resolve 回调
+            @JavascriptInterface
+            public String traceBitmapAsync(String sourcePath, String optionsJson) {
+                return bridgeDispatcher.submitLong("traceBitmapAsync", () -> runTrace(sourcePath, optionsJson));
+            }
+
+            // 查询临时文件缓存统计（命中、未命中、淘汰次数与占用字节）
+            @JavascriptInterface
+            public String getTempCacheStats() {
+                try {
+                    return bridgeDispatcher.timed("getTempCacheStats", () -> tempFileCache.stats().toString());
+                } catch (Exception e) {
+                    return "{}";
+                }
+            }
+
+            // 设置临时文件缓存的容量上限（MB），超出部分立即按 LRU 淘汰
+            @JavascriptInterface
+            public void setTempCacheBudget(int megabytes) {
+                if (megabytes > 0) {
+                    bridgeDispatcher.execute("setTempCacheBudget", () -> {
+                        tempFileCache.setBudget(megabytes * 1024L * 1024L);
+                        return null;
+                    });
+                }
+            }
+
+            // 查询桥方法调用统计（次数、排队与执行耗时）
+            @JavascriptInterface
+            public String getBridgeMetrics() {
+                try {
+                    return bridgeDispatcher.timed("getBridgeMetrics", () -> bridgeDispatcher.metrics().toString());
+                } catch (Exception e) {
+                    return "{}";
+                }
+            }
+
+            // 新增：原生端指标汇总，{uptimeMs, bridge, stages, writes, counters, cache, traceBytes}，
+            // 其中 stages 为各引擎阶段的耗时分布，writes 为文件写入的字节数与吞吐量
+            @JavascriptInterface
+            public String getMetrics() {
+                try {
+                    return bridgeDispatcher.timed("getMetrics", () -> collectMetrics().toString());
+                } catch (Exception e) {
+                    return "{}";
+                }
+            }
+
+            // 新增：将指标快照与滚动日志导出到下载目录，返回文件路径（失败返回空字符串）
+            @JavascriptInterface
+            public String exportTrace(String fileName) {
+                try {
+                    return bridgeDispatcher.timed("exportTrace", () -> {
+                        File target = resolveDownloadFile(fileName);
+                        NativeMetrics.exportTrace(target, collectMetrics());
+                        return target.getAbsolutePath();
+                    });
+                } catch (Exception e) {
+                    e.printStackTrace();
+                    return "";
+                }
+            }
+
+            // 字符串通道的基准：解码 base64 后重新编码返回（与二进制通道的 ECHO 帧对照）
+            @JavascriptInterface
+            public String echoBase64(String base64) {
+                bridgeDispatcher.payloadIn("echoBase64", base64.length());
+                try {
+                    return bridgeDispatcher.timed("echoBase64", () -> android.util.Base64.encodeToString(
+                            android.util.Base64.decode(base64, android.util.Base64.DEFAULT), android.util.Base64.NO_WRAP));
+                } catch (Exception e) {
+                    e.printStackTrace();
+                    return "";
+                }
+            }
+
+            // 新增：分块流式保存文件，返回会话ID
+            @JavascriptInterface
+            public String beginFile(String fileName, String mimeType) {
+                try {
+                    return bridgeDispatcher.timed("beginFile", () -> streamingFileWriter.beginFile(fileName));
+                } catch (Exception e) {
+                    return "";
+                }
+            }
+
+            // 追加文本分块（UTF-8 写入），写线程积压时会短暂阻塞
+            @JavascriptInterface
+            public boolean appendChunk(String sessionId, String chunk) {
+                if (chunk != null) {
+                    bridgeDispatcher.payloadIn("appendChunk", chunk.length());
+                }
+                try {
+                    return bridgeDispatcher.timed("appendChunk", () -> streamingFileWriter.appendChunk(sessionId, chunk));
+                } catch (Exception e) {
+                    return false;
+                }
+            }
+
+            // 提交文件，保存结果通过 Toast 提示
+            @JavascriptInterface
+            public boolean commit(String sessionId) {
+                try {
+                    return bridgeDispatcher.timed("commit", () -> streamingFileWriter.commit(sessionId));
+                } catch (Exception e) {
+                    return false;
+                }
+            }
+
+            // 放弃文件并删除已写入的部分
+            @JavascriptInterface
+            public void abort(String sessionId) {
+                try {
+                    bridgeDispatcher.timed("abort", () -> {
+                        streamingFileWriter.abort(sessionId);
+                        return null;
+                    });
+                } catch (Exception e) {
+                    e.printStackTrace();
+                }
+            }
+
+            // 撤销历史（见 EditHistory）：打开并恢复上次会话，返回 {recovered, state?, live?, canUndo, canRedo}
+            @JavascriptInterface
+            public String historyOpen() {
+                try {
+                    return bridgeDispatcher.timed("historyOpen", () -> editHistory.open().toString());
+                } catch (Exception e) {
+                    e.printStackTrace();
+                    return "";
+                }
+            }
+
+            // 以页面当前状态开始新的历史，返回 {canUndo, canRedo}
+            @JavascriptInterface
+            public String historyReset(String stateJson) {
+                bridgeDispatcher.payloadIn("historyReset", stateJson.length());
+                try {
+                    return bridgeDispatcher.timed("historyReset", () -> editHistory.reset(stateJson).toString());
+                } catch (Exception e) {
+                    e.printStackTrace();
+                    return "";
+                }
+            }
+
+            // 记录一步编辑的正向与反向差异，返回 {canUndo, canRedo}
+            @JavascriptInterface
+            public String historyPush(String forward, String inverse) {
+                bridgeDispatcher.payloadIn("historyPush", forward.length() + inverse.length());
+                try {
+                    return bridgeDispatcher.timed("historyPush", () -> editHistory.push(forward, inverse).toString());
+                } catch (Exception e) {
+                    e.printStackTrace();
+                    return "";
+                }
+            }
+
+            // 撤销一步，返回 {diff, canUndo, canRedo}，diff 为应用到当前状态上的差异（不能撤销时为 null）
+            @JavascriptInterface
+            public String historyUndo() {
+                try {
+                    return bridgeDispatcher.timed("historyUndo", () -> historyStep(editHistory.undo()));
+                } catch (Exception e) {
+                    e.printStackTrace();
+                    return "";
+                }
+            }
+
+            // 重做一步，返回 {diff, canUndo, canRedo}
+            @JavascriptInterface
+            public String historyRedo() {
+                try {
+                    return bridgeDispatcher.timed("historyRedo", () -> historyStep(editHistory.redo()));
+                } catch (Exception e) {
+                    e.printStackTrace();
+                    return "";
+                }
+            }
+
+            // 记录尚未成为历史的修改，崩溃后重新打开时恢复
+            @JavascriptInterface
+            public void historySetLive(String diff) {
+                try {
+                    bridgeDispatcher.timed("historySetLive", () -> {
+                        editHistory.setLive(diff);
+                        return null;
+                    });
+                } catch (Exception e) {
+                    e.printStackTrace();
+                }
+            }
+
+            @JavascriptInterface
+            public boolean hasHistoryBlob(String hash) {
+                return editHistory.hasBlob(hash);
+            }
+
+            // 按内容哈希存储历史中引用的大字符串（内嵌图片、矢量原文）
+            @JavascriptInterface
+            public boolean putHistoryBlob(String hash, String content) {
+                bridgeDispatcher.payloadIn("putHistoryBlob", content.length());
+                try {
+                    return bridgeDispatcher.timed("putHistoryBlob", () -> {
+                        editHistory.putBlob(hash, content);
+                        return true;
+                    });
+                } catch (Exception e) {
+                    e.printStackTrace();
+                    return false;
+                }
+            }
+
+            @JavascriptInterface
+            public String getHistoryBlob(String hash) {
+                try {
+                    String content = bridgeDispatcher.timed("getHistoryBlob", () -> editHistory.readBlob(hash));
+                    return content != null ? content : "";
+                } catch (Exception e) {
+                    e.printStackTrace();
+                    return "";
+                }
+            }
+        });
+
+        // 绑定二进制通道（折线、栅格、G 代码分块不经过 base64 / JSON 字符串）
+        if (lease.binary != null) {
+            binaryFrames = Executors.newSingleThreadExecutor(r -> new Thread(r, "binary-frames"));
+            lease.binary.attach(this::onBinaryFrame);
+        }
+
+        // 设置WebViewClient来处理页面加载完成后的操作
+        webView.setWebViewClient(new WebViewClient() {
+            @Override
+            public WebResourceResponse shouldInterceptRequest(WebView view, WebResourceRequest request) {
+                // 页面资源走内存缓存，大图分块由分块缓存提供，其余（图片、矢量文件等）由本地资源服务提供
+                WebResourceResponse response = AssetCache.get(WebWhiteBoardActivity.this).intercept(request.getUrl());
+                if (response == null) {
+                    response = tiledImageStore.intercept(request.getUrl());
+                }
+                if (response == null) {
+                    response = localResourceServer.intercept(request.getUrl());
+                }
+                return response != null ? response : super.shouldInterceptRequest(view, request);
+            }
+
+            @Override
+            public void onPageFinished(WebView view, String url) {
+                super.onPageFinished(view, url);
+                pageReady = true;
+                deliverInput();
+            }
+        });
+
+        // 页面已加载时直接推送输入；正在加载（预加载未完成）时等待 onPageFinished
+        if (lease.pageState == WebViewPool.PAGE_READY) {
+            pageReady = true;
+            deliverInput();
+        } else if (lease.pageState == WebViewPool.PAGE_NONE) {
+            webView.loadUrl(WebViewPool.PAGE_URL);
+        }
+    }
+
+    /**
+     * 处理二进制通道的帧（主线程）：回送帧直接应答，其余按到达顺序转到 binary-frames 线程
+     * <ul>
+     *   <li>POLYLINES（method=optimizeToolpath）：路径排序，应答与 optimizeToolpath 的结果 JSON 相同</li>
+     *   <li>RASTER_TILE（method=saveTempFile）：像素存入临时文件缓存，应答 {path, width, height, bitsPerPixel}</li>
+     *   <li>GCODE_CHUNK：追加到 beginFile 打开的会话，FLAG_FINAL 时提交，每帧应答 {ok}</li>
+     * </ul>
+     */
+    private void onBinaryFrame(BinaryFrames.Frame frame) {
+        if (frame.type == BinaryFrames.TYPE_ECHO) {
+            lease.binary.send(BinaryFrames.encode(BinaryFrames.TYPE_ECHO, BinaryFrames.FLAG_FINAL, frame.id,
+                    null, frame.payload));
+            return;
+        }
+        binaryFrames.execute(() -> {
+            try {
+                handleBinaryFrame(frame);
+            } catch (Exception e) {
+                e.printStackTrace();
+                replyBinary(BinaryFrames.error(frame.id, e.getMessage()));
+            }
+        });
+    }
+
+    private void handleBinaryFrame(BinaryFrames.Frame frame) throws Exception {
+        String method = frame.meta.optString("method");
+        bridgeDispatcher.payloadIn("binary." + frame.type, frame.payload.remaining());
+        if (frame.type == BinaryFrames.TYPE_GCODE_CHUNK) {
+            String sessionId = frame.meta.getString("session");
+            boolean ok = bridgeDispatcher.timed("binary.appendChunk",
+                    () -> streamingFileWriter.appendBytes(sessionId, frame.payload));
+            if (ok && frame.isFinal()) {
+                ok = bridgeDispatcher.timed("binary.commit", () -> streamingFileWriter.commit(sessionId));
+            }
+            JSONObject result = new JSONObject();
+            result.put("ok", ok);
+            replyBinary(BinaryFrames.result(frame.id, result));
+        } else if (frame.type == BinaryFrames.TYPE_POLYLINES && method.equals("optimizeToolpath")) {
+            BinaryFrames.PolylineSet set = BinaryFrames.decodePolylines(frame.payload);
+            submitBinary("binary.optimizeToolpath", frame, () -> ToolpathOptimizer.optimize(set, frame.meta));
+        } else if (frame.type == BinaryFrames.TYPE_RASTER_TILE && method.equals("saveTempFile")) {
+            BinaryFrames.RasterTile tile = BinaryFrames.decodeRasterTile(frame.payload);
+            submitBinary("binary.saveTempFile", frame, () -> {
+                byte[] pixels = new byte[tile.pixels.remaining()];
+                tile.pixels.duplicate().get(pixels);
+                File file = tempFileCache.put(pixels, TempFileCache.extensionOf(frame.meta.optString("fileName", "tile.gray")));
+                JSONObject json = new JSONObject();
+                json.put("path", file.getAbsolutePath());
+                json.put("width", tile.width);
+                json.put("height", tile.height);
+                json.put("bitsPerPixel", tile.channels * 8);
+                return json;
+            });
+        } else {
+            replyBinary(BinaryFrames.error(frame.id, "不支持的帧: type=" + frame.type + " method=" + method));
+        }
+    }
+
+    /**
+     * 在后台线程池中执行并以 RESULT / ERROR 帧应答
+     */
+    private void submitBinary(String method, BinaryFrames.Frame frame, BridgeDispatcher.Task task) {
+        boolean accepted = bridgeDispatcher.execute(method, () -> {
+            try {
+                replyBinary(BinaryFrames.result(frame.id, (JSONObject) task.run()));
+            } catch (Exception e) {
+                replyBinary(BinaryFrames.error(frame.id, e.getMessage()));
+                throw e;
+            }
+            return null;
+        });
+        if (!accepted) {
+            replyBinary(BinaryFrames.error(frame.id, "调度器繁忙"));
+        }
+    }
+
+    private void replyBinary(byte[] frame) {
+        runOnUiThread(() -> lease.binary.send(frame));
+    }
+
+    /**
+     * 把 Intent 中的图片或矢量文件推送给页面首页
+     * <p>
+     * 复用的页面可能停留在白板页，脚本经 window.__runOnHomePage 排队，回到首页并注册好回调后执行。
+     * 第一次推送完成时记录启动耗时（whiteboard.startup.cold / preloaded / reused）。
+     */
+    private void deliverInput() {
+        String jsCode = null;
+        // 处理图片传递
+        String imagePath = getIntent().getStringExtra("imagePath");
+        String vectorIMAGE = getIntent().getStringExtra("vectorIMAGE");
+        //Uri imageUri = getIntent().getParcelableExtra("imageUri");
+
+        if (imagePath != null && !imagePath.isEmpty()) {
+            try {
+                // 图片通过拦截请求以流的形式提供给页面，这里只传递一个短地址
+                String imageUrl = localResourceServer.register(imagePath);
+                if (imageUrl != null && TiledImageStore.shouldTile(imagePath)) {
+                    // 大图只传分块信息地址，页面按当前显示区域读取分块，原图留到导出时再读
+                    String infoUrl = tiledImageStore.open(imagePath, imageUrl);
+                    jsCode = "window.setHomePageTiledImage(" + JSONObject.quote(infoUrl) + ");";
+                } else if (imageUrl != null) {
+                    jsCode = "window.setHomePageImage(" + JSONObject.quote(imageUrl) + ");";
+                }
+            } catch (Exception e) {
+                e.printStackTrace();
+            }
+        } else if (vectorIMAGE != null && !vectorIMAGE.isEmpty()) {
+            try {
+                // 矢量文件同样通过拦截请求以流的形式提供，页面分块读取，
+                // 不再把整个文件读成字符串并经 JSONObject.quote 转义后注入
+                String vectorUrl = localResourceServer.register(vectorIMAGE);
+                if (vectorUrl != null) {
+                    String ext = LocalResourceServer.extensionOf(vectorIMAGE);
+                    if (!ext.equals("dxf") && !ext.equals("plt")) {
+                        ext = "svg";
+                    }
+                    jsCode = "window.setWhiteboardVectorUrl(" + JSONObject.quote(vectorUrl) + ", '" + ext + "');";
+                }
+            } catch (Exception e) {
+                e.printStackTrace();
+            }
+        } else {
+            // 当既没有位图也没有矢量数据时，调用首页接口但不传递任何数据
+            jsCode = "window.setHomePageImage();";
+
+            // 旧方案：通过base64参数传递（已注释，保留作为备份）
+            /*
+            String imageBase64 = getIntent().getStringExtra("imageBase64");
+            if (imageBase64 != null && !imageBase64.isEmpty()) {
+                String jsCode = "window.setWhiteboardImage('" + imageBase64 + "');";
+                webView.evaluateJavascript(jsCode, null);
+            }
+            */
+        }
+        if (jsCode == null) {
+            return;
+        }
+        String script = "(window.__runOnHomePage || function (task) { task(); })(function () { " + jsCode + " });";
+        String kind = startupKind;
+        startupKind = null;
+        webView.evaluateJavascript(script, kind == null ? null : value -> NativeMetrics.recordStage(
+                "whiteboard.startup." + kind, System.nanoTime() - startupStart, true, null));
+    }
+
+    /**
+     * 设置自定义下载路径
+     *
+     * @param path 下载路径，可以是相对路径或绝对路径
+     */
+    public void setCustomDownloadPath(String path) {
+        this.customDownloadPath = path;
+    }
+
+    /**
+     * 获取当前下载路径
+     *
+     * @return 当前下载路径
+     */
+    public String getCustomDownloadPath() {
+        return this.customDownloadPath;
+    }
+
+    /**
+     * 根据当前下载路径解析目标文件
+     *
+     * @param fileName 文件名
+     * @return 目标文件
+     */
+    private File resolveDownloadFile(String fileName) {
+        return new File(downloadDir(), fileName);
+    }
+
+    private File downloadDir() {
+        if (customDownloadPath.startsWith("/")) {
+            // 绝对路径
+            File downloadDir = new File(customDownloadPath);
+            if (!downloadDir.exists()) {
+                downloadDir.mkdirs();
+            }
+            return downloadDir;
+        }
+        // 相对路径（相对于外部存储）
+        return Environment.getExternalStoragePublicDirectory(customDownloadPath);
+    }
+
+    /**
+     * 页面传入的 G 代码文件路径：相对路径按下载目录解析；绝对路径按规范路径判断，必须位于下载目录内，
+     * 防止页面读取或改写应用私有文件等其他位置的文件
+     */
+    private File resolveGCodeFile(String path) throws IOException {
+        File dir = downloadDir().getCanonicalFile();
+        File file = (path.startsWith("/") ? new File(path) : new File(dir, path)).getCanonicalFile();
+        if (!file.getPath().startsWith(dir.getPath() + File.separator)) {
+            throw new IllegalArgumentException("只能访问下载目录中的 G 代码文件: " + path);
+        }
+        return file;
+    }
+
+    /**
+     * 将 base64 数据写入临时文件缓存
+     *
+     * @return 文件绝对路径
+     */
+    private String writeTempFile(String base64, String fileName) throws java.io.IOException {
+        String pureBase64 = base64.contains(",") ? base64.split(",")[1] : base64;
+        byte[] decodedBytes = android.util.Base64.decode(pureBase64, android.util.Base64.DEFAULT);
+        // 按内容寻址，相同内容不重复写入；文件名只用于保留扩展名
+        File tempFile = tempFileCache.put(decodedBytes, TempFileCache.extensionOf(fileName));
+        return tempFile.getAbsolutePath();
+    }
+
+    /**
+     * 由栅格文件生成扫描G代码并写入下载目录，结果通过 Toast 提示
+     *
+     * @return 输出文件路径
+     */
+    private String runScanGCode(String rasterPath, int width, int height, String settingsJson, String fileName) throws Exception {
+        try {
+            ScanGCodeEngine.Settings settings = ScanGCodeEngine.Settings.fromJson(settingsJson);
+            File outFile = resolveDownloadFile(fileName);
+            ScanGCodeEngine.fromFile(new File(rasterPath), width, height, settings.rasterBits, settings).generate(outFile);
+            String suffix = afterGCodeSaved(outFile);
+            runOnUiThread(() -> Toast.makeText(WebWhiteBoardActivity.this,
+                    "文件已保存: " + fileName + " 到 " + customDownloadPath + suffix,
+                    Toast.LENGTH_SHORT).show());
+            return outFile.getAbsolutePath();
+        } catch (Exception e) {
+            e.printStackTrace();
+            runOnUiThread(() -> Toast.makeText(WebWhiteBoardActivity.this,
+                    "生成G代码失败: " + e.getMessage(),
+                    Toast.LENGTH_SHORT).show());
+            throw e;
+        }
+    }
+
+    private File scanExportRoot() {
+        // 放在 files 目录而不是缓存目录，避免系统清理缓存时丢失检查点
+        return new File(getFilesDir(), "scan_exports");
+    }
+
+    /**
+     * 占用 jobId 后再创建或打开导出任务并运行：create 会清空同名任务的检查点与 .part 文件，
+     * 同名任务运行中时直接拒绝，不能先创建再检查
+     */
+    private JSONObject runScanExportJob(String jobId, Callable<ResumableScanExport> prepare) throws Exception {
+        if (!scanExportJobs.add(jobId)) {
+            throw new IllegalStateException("导出任务正在运行: " + jobId);
+        }
+        try {
+            return runScanExport(prepare.call());
+        } finally {
+            scanExportJobs.remove(jobId);
+        }
+    }
+
+    /**
+     * 运行可续写的扫描导出，取消时推送 cancelled 状态（检查点保留）
+     *
+     * @return {path, bytes, ms, resumedFromRow, rows}
+     */
+    private JSONObject runScanExport(ResumableScanExport export) throws Exception {
+        String jobId = export.getJobId();
+        if (scanExports.putIfAbsent(jobId, export) != null) {
+            throw new IllegalStateException("导出任务正在运行: " + jobId);
+        }
+        try {
+            JSONObject result = export.run((doneRows, totalRows, bytes) -> {
+                try {
+                    JSONObject event = new JSONObject();
+                    event.put("state", "running");
+                    event.put("doneRows", doneRows);
+                    event.put("totalRows", totalRows);
+                    event.put("bytes", bytes);
+                    bridgeDispatcher.progress(jobId, event);
+                } catch (JSONException ignored) {
+                }
+            });
+            String fileName = export.getTarget().getName();
+            String suffix = afterGCodeSaved(export.getTarget());
+            result.put("bytes", export.getTarget().length());
+            runOnUiThread(() -> Toast.makeText(WebWhiteBoardActivity.this,
+                    "文件已保存: " + fileName + " 到 " + customDownloadPath + suffix,
+                    Toast.LENGTH_SHORT).show());
+            return result;
+        } catch (CancellationException e) {
+            JSONObject event = new JSONObject();
+            event.put("state", "cancelled");
+            bridgeDispatcher.progress(jobId, event);
+            throw new CancellationException("导出已取消，可稍后继续");
+        } catch (Exception e) {
+            e.printStackTrace();
+            runOnUiThread(() -> Toast.makeText(WebWhiteBoardActivity.this,
+                    "生成G代码失败: " + e.getMessage(),
+                    Toast.LENGTH_SHORT).show());
+            throw e;
+        } finally {
+            scanExports.remove(jobId, export);
+        }
+    }
+
+    /**
+     * 撤销/重做的返回值：差异本身已是 JSON 文本，直接拼接，不再解析
+     */
+    private String historyStep(String diff) throws JSONException {
+        JSONObject status = editHistory.status();
+        return "{\"diff\":" + (diff != null ? diff : "null")
+                + ",\"canUndo\":" + status.getBoolean("canUndo")
+                + ",\"canRedo\":" + status.getBoolean("canRedo") + "}";
+    }
+
+    /**
+     * 汇总桥方法统计、引擎阶段耗时、写入吞吐量与临时文件缓存统计
+     */
+    private JSONObject collectMetrics() throws JSONException {
+        JSONObject json = NativeMetrics.snapshot();
+        json.put("bridge", bridgeDispatcher.metrics());
+        json.put("cache", tempFileCache.stats());
+        json.put("assets", AssetCache.get(this).stats());
+        return json;
+    }
+
+    /**
+     * 并行生成多图层G代码并合并写入下载目录，结果通过 Toast 提示
+     *
+     * @return {path, bytes, ms, layers}，任务要求导出日志时附带 tracePath
+     */
+    private JSONObject runGCodeExport(String jobJson) throws Exception {
+        GCodeJobRunner.Job job = GCodeJobRunner.Job.fromJson(jobJson);
+        String fileName = job.fileName;
+        try {
+            GCodeJobRunner runner = new GCodeJobRunner(new File(getCacheDir(), "gcode_jobs"),
+                    event -> bridgeDispatcher.progress(job.jobId, event));
+            File outFile = resolveDownloadFile(fileName);
+            JSONObject result = runner.run(job, outFile);
+            String suffix = afterGCodeSaved(outFile);
+            result.put("bytes", outFile.length());
+            if (job.exportTrace) {
+                // 与导出文件放在一起，便于用户反馈问题时一并提供
+                File traceFile = resolveDownloadFile(fileName + ".trace.txt");
+                NativeMetrics.exportTrace(traceFile, result);
+                result.put("tracePath", traceFile.getAbsolutePath());
+            }
+            runOnUiThread(() -> Toast.makeText(WebWhiteBoardActivity.this,
+                    "文件已保存: " + fileName + " 到 " + customDownloadPath + suffix,
+                    Toast.LENGTH_SHORT).show());
+            return result;
+        } catch (Exception e) {
+            e.printStackTrace();
+            runOnUiThread(() -> Toast.makeText(WebWhiteBoardActivity.this,
+                    "生成G代码失败: " + e.getMessage(),
+                    Toast.LENGTH_SHORT).show());
+            throw e;
+        }
+    }
+
+    /**
+     * 栅格化扫描图层，结果存入临时文件缓存
+     *
+     * @return {path, width, height, bitsPerPixel, ms}
+     */
+    private JSONObject runRasterize(String jobJson) throws Exception {
+        long start = System.nanoTime();
+        PlatformRasterizer rasterizer = new PlatformRasterizer(source -> {
+            if (source.startsWith("https://")) {
+                java.io.InputStream in = localResourceServer.openStream(source);
+                if (in == null) {
+                    throw new java.io.FileNotFoundException(source);
+                }
+                return in;
+            }
+            String path = source.startsWith("file://") ? source.substring(7) : source;
+            return new java.io.BufferedInputStream(new java.io.FileInputStream(path), 64 * 1024);
+        });
+        PlatformRasterizer.Result result = rasterizer.rasterize(PlatformRasterizer.Job.fromJson(jobJson));
+        File rasterFile = tempFileCache.put(result.data, result.bitsPerPixel == 1 ? "bits" : "gray");
+        JSONObject json = new JSONObject();
+        json.put("path", rasterFile.getAbsolutePath());
+        json.put("width", result.width);
+        json.put("height", result.height);
+        json.put("bitsPerPixel", result.bitsPerPixel);
+        json.put("ms", (System.nanoTime() - start) / 1000000);
+        return json;
+    }
+
+    /**
+     * 打开（必要时建立）G 代码索引，旁路文件放在缓存目录，按源文件路径命名
+     */
+    private GCodeIndex openGCodeIndex(String path) throws Exception {
+        File file = resolveGCodeFile(path);
+        String key = file.getAbsolutePath();
+        synchronized (gcodeIndexes) {
+            GCodeIndex index = gcodeIndexes.get(key);
+            if (index != null && index.isCurrent(file)) {
+                return index;
+            }
+        }
+        File sidecar = new File(new File(getCacheDir(), "gcode_index"),
+                Integer.toHexString(key.hashCode()) + "_" + file.getName() + ".idx");
+        GCodeIndex index = GCodeIndex.open(file, sidecar);
+        synchronized (gcodeIndexes) {
+            gcodeIndexes.put(key, index);
+        }
+        return index;
+    }
+
+    /**
+     * @return {lines, moves, bands, cutDistance, travelDistance, seconds, bounds, cached, ms}
+     */
+    private JSONObject runGCodeIndex(String path) throws Exception {
+        long start = System.nanoTime();
+        GCodeIndex index = openGCodeIndex(path);
+        JSONObject json = new JSONObject();
+        json.put("lines", index.lineCount());
+        json.put("moves", index.moveCount());
+        json.put("bands", index.bandCount());
+        json.put("cutDistance", index.cutDistance());
+        json.put("travelDistance", index.travelDistance());
+        json.put("seconds", index.seconds());
+        JSONArray bounds = new JSONArray();
+        for (float v : index.bounds()) {
+            bounds.put((double) v);
+        }
+        json.put("bounds", bounds);
+        json.put("cached", index.isLoadedFromSidecar());
+        json.put("ms", (System.nanoTime() - start) / 1000000);
+        return json;
+    }
+
+    private static boolean isGCodeFile(File file) {
+        String name = file.getName();
+        return name.endsWith(".nc") || name.endsWith(".gcode");
+    }
+
+    /**
+     * G 代码文件保存后的统一处理，saveBlobFile、分块写入与各原生导出写完目标文件后调用：
+     * 按 setSavedGCodeCompaction 的选项原地压缩（失败时保留原文件），再对最终文件预先建立索引，
+     * 预览页打开时直接读取旁路索引
+     *
+     * @return 附加在保存提示后的说明（压缩比例），未压缩时为空字符串
+     */
+    private String afterGCodeSaved(File file) {
+        if (!isGCodeFile(file)) {
+            return "";
+        }
+        String suffix = "";
+        GCodeCompactor.Options compaction = savedGCodeCompaction;
+        if (compaction != null) {
+            try {
+                GCodeCompactor.Stats stats = compactGCodeFile(file, compaction);
+                if (stats.applied) {
+                    suffix = String.format(Locale.ROOT, "（已压缩 %.0f%%）",
+                            100.0 * (stats.inBytes - stats.outBytes) / stats.inBytes);
+                }
+            } catch (Exception e) {
+                e.printStackTrace();
+            }
+        }
+        try {
+            openGCodeIndex(file.getAbsolutePath());
+        } catch (Exception e) {
+            e.printStackTrace();
+        }
+        return suffix;
+    }
+
+    /**
+     * 原地压缩 G 代码文件并记录指标
+     */
+    private GCodeCompactor.Stats compactGCodeFile(File file, GCodeCompactor.Options options) throws Exception {
+        GCodeCompactor.Stats stats;
+        try (NativeMetrics.Span span = NativeMetrics.span("gcode.compact")) {
+            try {
+                stats = GCodeCompactor.compactInPlace(file, options);
+            } catch (Exception e) {
+                span.fail();
+                throw e;
+            }
+            span.detail(stats.inBytes + "->" + stats.outBytes + (stats.applied ? "" : " kept"));
+        }
+        if (stats.applied) {
+            NativeMetrics.count("gcode.compact.savedBytes", stats.inBytes - stats.outBytes);
+        }
+        return stats;
+    }
+
+    /**
+     * @return {path, inBytes, outBytes, inLines, outLines, mergedMoves, arcs, ratio, applied, ms}
+     */
+    private JSONObject runGCodeCompaction(String path, String optionsJson) throws Exception {
+        File file = resolveGCodeFile(path);
+        GCodeCompactor.Options options = optionsJson == null || optionsJson.isEmpty()
+                ? new GCodeCompactor.Options() : GCodeCompactor.Options.fromJson(optionsJson);
+        JSONObject json = compactGCodeFile(file, options).toJson();
+        json.put("path", file.getAbsolutePath());
+        return json;
+    }
+
+    /**
+     * 查询视口内的 G 代码路径，结果写入缓存目录并注册为页面可访问的地址
+     *
+     * @return {url, polylines, points, ms}
+     */
+    private JSONObject runGCodePreview(String path, String queryJson) throws Exception {
+        long start = System.nanoTime();
+        GCodeIndex index = openGCodeIndex(path);
+        JSONObject query = new JSONObject(queryJson);
+        float[] bounds = index.bounds();
+        java.util.List<Polyline> polylines = index.polylines(
+                query.optDouble("minX", bounds[0]), query.optDouble("minY", bounds[1]),
+                query.optDouble("maxX", bounds[2]), query.optDouble("maxY", bounds[3]),
+                query.optDouble("tolerance", 0), query.optBoolean("travel", false),
+                query.optInt("maxPoints", 0));
+        File tmpFile = tempFileCache.newTempFile();
+        VectorPreprocessor.Result result = new VectorPreprocessor.Result();
+        try (java.nio.channels.FileChannel out = new java.io.FileOutputStream(tmpFile).getChannel()) {
+            VectorPreprocessor.write(polylines, result, out);
+        } catch (Exception e) {
+            tmpFile.delete();
+            throw e;
+        }
+        File outFile = tempFileCache.putFile(tmpFile, "bin");
+        JSONObject json = new JSONObject();
+        json.put("url", localResourceServer.register(outFile.getAbsolutePath()));
+        json.put("polylines", result.polylines);
+        json.put("points", result.points);
+        json.put("ms", (System.nanoTime() - start) / 1000000);
+        return json;
+    }
+
+    /**
+     * 解析并简化本地矢量文件，结果写入缓存目录并注册为页面可访问的地址
+     *
+     * @return {url, polylines, points, sourcePoints, ms}
+     */
+    private JSONObject runVectorPreprocess(String sourceUrl, String optionsJson) throws Exception {
+        long start = System.nanoTime();
+        JSONObject options = new JSONObject(optionsJson);
+        VectorPreprocessor preprocessor = new VectorPreprocessor(
+                options.optDouble("tolerance", 0),
+                options.optInt("maxPointsPerPath", 0));
+        File tmpFile = tempFileCache.newTempFile();
+        VectorPreprocessor.Result result;
+        try (java.io.InputStream in = localResourceServer.openStream(sourceUrl);
+             java.nio.channels.FileChannel out = new java.io.FileOutputStream(tmpFile).getChannel()) {
+            if (in == null) {
+                throw new java.io.FileNotFoundException(sourceUrl);
+            }
+            result = preprocessor.process(in, options.optString("ext", "dxf"), out);
+        } catch (Exception e) {
+            tmpFile.delete();
+            throw e;
+        }
+        File outFile = tempFileCache.putFile(tmpFile, "bin");
+        JSONObject json = new JSONObject();
+        json.put("url", localResourceServer.register(outFile.getAbsolutePath()));
+        json.put("polylines", result.polylines);
+        json.put("points", result.points);
+        json.put("sourcePoints", result.sourcePoints);
+        json.put("ms", (System.nanoTime() - start) / 1000000);
+        return json;
+    }
+
+    /**
+     * 解码图片并矢量化，SVG 写入临时文件缓存并注册为页面可访问的地址
+     *
+     * @return {url, width, height, paths, ms}
+     */
+    private JSONObject runTrace(String sourcePath, String optionsJson) throws Exception {
+        long start = System.nanoTime();
+        JSONObject optionsObj = new JSONObject(optionsJson);
+        String jobId = optionsObj.optString("jobId", "");
+        BitmapTracer.Options options = BitmapTracer.Options.fromJson(optionsJson);
+
+        android.graphics.BitmapFactory.Options decodeOptions = new android.graphics.BitmapFactory.Options();
+        decodeOptions.inPreferredConfig = android.graphics.Bitmap.Config.ARGB_8888;
+        android.graphics.Bitmap bitmap;
+        if (sourcePath.startsWith("https://")) {
+            try (java.io.InputStream in = localResourceServer.openStream(sourcePath)) {
+                if (in == null) {
+                    throw new java.io.FileNotFoundException(sourcePath);
+                }
+                bitmap = android.graphics.BitmapFactory.decodeStream(in, null, decodeOptions);
+            }
+        } else {
+            String path = sourcePath.startsWith("file://") ? sourcePath.substring(7) : sourcePath;
+            bitmap = android.graphics.BitmapFactory.decodeFile(path, decodeOptions);
+        }
+        if (bitmap == null) {
+            throw new java.io.IOException("无法解码图像: " + sourcePath);
+        }
+
+        int width = bitmap.getWidth();
+        int height = bitmap.getHeight();
+        byte[] luminance = new byte[width * height];
+        try {
+            int[] row = new int[width];
+            for (int y = 0; y < height; y++) {
+                bitmap.getPixels(row, 0, width, 0, y, width, 1);
+                BitmapTracer.toLuminance(row, width, luminance, y * width);
+            }
+        } finally {
+            bitmap.recycle();
+        }
+
+        BitmapTracer tracer = new BitmapTracer(options, (stage, progress) -> {
+            try {
+                JSONObject event = new JSONObject();
+                event.put("stage", stage);
+                event.put("progress", Math.round(progress * 1000) / 1000.0);
+                bridgeDispatcher.progress(jobId, event);
+            } catch (Exception e) {
+                e.printStackTrace();
+            }
+        });
+        BitmapTracer.Result result = tracer.trace(luminance, width, height);
+
+        File tmpFile = tempFileCache.newTempFile();
+        try (java.io.Writer out = new java.io.BufferedWriter(new java.io.OutputStreamWriter(
+                new java.io.FileOutputStream(tmpFile), java.nio.charset.StandardCharsets.UTF_8), 64 * 1024)) {
+            result.writeSvg(out);
+        } catch (Exception e) {
+            tmpFile.delete();
+            throw e;
+        }
+        File svgFile = tempFileCache.putFile(tmpFile, "svg");
+        JSONObject json = new JSONObject();
+        json.put("url", localResourceServer.register(svgFile.getAbsolutePath()));
+        json.put("width", width);
+        json.put("height", height);
+        json.put("paths", result.pathCount());
+        json.put("ms", (System.nanoTime() - start) / 1000000);
+        return json;
+    }
+
+    /**
+     * 开始下载文件
+     */
+    private void startDownload(String url, String contentDisposition, String mimeType) {
+        try {
+            // 获取文件名
+            String fileName = URLUtil.guessFileName(url, contentDisposition, mimeType);
+
+            // 创建下载请求
+            DownloadManager.Request request = new DownloadManager.Request(Uri.parse(url));
+            request.setTitle("下载文件");
+            request.setDescription("正在下载: " + fileName);
+            request.setNotificationVisibility(DownloadManager.Request.VISIBILITY_VISIBLE_NOTIFY_COMPLETED);
+
+            // 根据自定义路径设置下载位置
+            if (customDownloadPath.startsWith("/")) {
+                // 绝对路径
+                File downloadDir = new File(customDownloadPath);
+                if (!downloadDir.exists()) {
+                    downloadDir.mkdirs();
+                }
+                request.setDestinationUri(Uri.fromFile(new File(downloadDir, fileName)));
+            } else {
+                // 相对路径（相对于外部存储）
+                request.setDestinationInExternalPublicDir(customDownloadPath, fileName);
+            }
+
+            request.setMimeType(mimeType);
+
+            // 获取下载管理器
+            DownloadManager downloadManager = (DownloadManager) getSystemService(Context.DOWNLOAD_SERVICE);
+            if (downloadManager != null) {
+                long downloadId = downloadManager.enqueue(request);
+                Toast.makeText(this, "开始下载: " + fileName + " 到 " + customDownloadPath, Toast.LENGTH_SHORT).show();
+            } else {
+                Toast.makeText(this, "下载管理器不可用", Toast.LENGTH_SHORT).show();
+            }
+        } catch (Exception e) {
+            e.printStackTrace();
+            Toast.makeText(this, "下载失败: " + e.getMessage(), Toast.LENGTH_SHORT).show();
+        }
+    }
+
+    /**
+     * 处理 blob URL 下载
+     */
+    private void handleBlobDownload(String url, String contentDisposition, String mimeType) {
+        try {
+            // 获取文件名
+            String fileName = URLUtil.guessFileName(url, contentDisposition, mimeType);
+
+            // 通过 JavaScript 获取 blob 数据
+            String jsCode = String.format(
+                    "(function() {" +
+                            "  var xhr = new XMLHttpRequest();" +
+                            "  xhr.open('GET', '%s', false);" +
+                            "  xhr.responseType = 'blob';" +
+                            "  xhr.send();" +
+                            "  var reader = new FileReader();" +
+                            "  reader.onload = function() {" +
+                            "    var base64 = reader.result.split(',')[1];" +
+                            "    Android.saveBlobFile(base64, '%s', '%s');" +
+                            "  };" +
+                            "  reader.readAsDataURL(xhr.response);" +
+                            "})();", url, fileName, mimeType);
+
+            webView.evaluateJavascript(jsCode, null);
+
+        } catch (Exception e) {
+            e.printStackTrace();
+            Toast.makeText(this, "下载失败: " + e.getMessage(), Toast.LENGTH_SHORT).show();
+        }
+    }
+
+    @Override
+    protected void onActivityResult(int requestCode, int resultCode, Intent data) {
+        super.onActivityResult(requestCode, resultCode, data);
+        if (requestCode == FILE_CHOOSER_RESULT_CODE) {
+            if (uploadMessage == null) return;
+            Uri[] results = null;
+            if (resultCode == Activity.RESULT_OK && data != null) {
+                Uri uri = data.getData();
+                if (uri != null) {
+                    results = new Uri[]{uri};
+                }
+            }
+            uploadMessage.onReceiveValue(results);
+            uploadMessage = null;
+        }
+    }
+
+    @Override
+    public void onRequestPermissionsResult(int requestCode, String[] permissions, int[] grantResults) {
+        super.onRequestPermissionsResult(requestCode, permissions, grantResults);
+
+        if (requestCode == CAMERA_PERMISSION_REQUEST_CODE) {
             if (grantResults.length > 0 && grantResults[0] == PackageManager.PERMISSION_GRANTED) {
                 // 摄像头权限已授予
                 Toast.makeText(this, "摄像头权限已授予", Toast.LENGTH_SHORT).show();
@@ -534,6 +1691,39 @@ public class WebWhiteBoardActivity extends AppCompatActivity {
         }
     }
 
+    @Override
+    protected void onDestroy() {
+        // 停止正在运行的扫描导出并保存检查点，下次打开页面时可继续
+        for (ResumableScanExport export : scanExports.values()) {
+            export.cancel();
+        }
+        if (streamingFileWriter != null) {
+            streamingFileWriter.shutdown();
+        }
+        // 页面归还到池中，下次进入时复用（不再重新加载）
+        if (webView != null) {
+            webView = null;
+            WebViewPool.release(lease, pageReady);
+        }
+        if (binaryFrames != null) {
+            binaryFrames.shutdown();
+        }
+        if (tiledImageStore != null) {
+            tiledImageStore.close();
+        }
+        if (editHistory != null) {
+            try {
+                editHistory.close();
+            } catch (IOException e) {
+                e.printStackTrace();
+            }
+        }
+        if (bridgeDispatcher != null) {
+            bridgeDispatcher.shutdown();
+        }
+        super.onDestroy();
+    }
+
     public void mainPage(View view) {
         Animation scaleIn = AnimationUtils.loadAnimation(this, R.anim.anim_scale_in);
         view.startAnimation(scaleIn);
@@ -0,0 +1,24 @@
+package com.example.opencv.webwhiteboard;
+
+import android.app.Application;
+import android.content.ComponentCallbacks2;
+
+/**
+ * 应用入口：启动时预热白板页面的 WebView 并预读页面资源，内存紧张时释放
+ */
+public class WhiteboardApplication extends Application {
+
+    @Override
+    public void onCreate() {
+        super.onCreate();
+        WebViewPool.prewarm(this);
+    }
+
+    @Override
+    public void onTrimMemory(int level) {
+        super.onTrimMemory(level);
+        if (level >= ComponentCallbacks2.TRIM_MEMORY_MODERATE) {
+            WebViewPool.trim(this);
+        }
+    }
+}
@@ -0,0 +1,511 @@
+package com.example.opencv.webwhiteboard;
+
+import android.webkit.JavascriptInterface;
+
+/**
+ * 白板页面的 JS 桥（页面中的 window.Android）
+ * <p>
+ * WebView 只在页面加载时注入 addJavascriptInterface 的对象，之后替换对象需要重新加载页面。
+ * 为了让 {@link WebViewPool} 中保留的页面在不同的 WebWhiteBoardActivity 实例之间复用，
+ * 注入的始终是 {@link Proxy}，由当前 Activity 通过 {@link Proxy#attach} 提供实现；
+ * 未绑定时（页面在池中空闲）调用返回空值。各方法的说明见 WebWhiteBoardActivity 中的实现。
+ */
+public interface WhiteboardBridge {
+
+    void onNextStep(String data);
+
+    String saveTempFile(String base64, String fileName);
+
+    String saveTempFileAsync(String base64, String fileName);
+
+    String getPlatformSize();
+
+    void setDownloadPath(String path);
+
+    String getDownloadPath();
+
+    void saveBlobFile(String base64, String fileName, String mimeType);
+
+    String generateScanGCode(String rasterPath, int width, int height, String settingsJson, String fileName);
+
+    String generateScanGCodeAsync(String rasterPath, int width, int height, String settingsJson, String fileName);
+
+    String startScanExportAsync(String jobJson);
+
+    String resumeScanExportAsync(String jobId);
+
+    String getPendingScanExports();
+
+    boolean cancelScanExport(String jobId);
+
+    boolean discardScanExport(String jobId);
+
+    String preprocessVector(String sourceUrl, String optionsJson);
+
+    String preprocessVectorAsync(String sourceUrl, String optionsJson);
+
+    String compactGCode(String path, String optionsJson);
+
+    String compactGCodeAsync(String path, String optionsJson);
+
+    void setSavedGCodeCompaction(String optionsJson);
+
+    String indexGCode(String path);
+
+    String indexGCodeAsync(String path);
+
+    String queryGCodePreview(String path, String queryJson);
+
+    String queryGCodePreviewAsync(String path, String queryJson);
+
+    String getGCodeState(String path, String queryJson);
+
+    String readGCodeLines(String path, int fromLine, int count);
+
+    String rasterizePlatform(String jobJson);
+
+    String rasterizePlatformAsync(String jobJson);
+
+    String runGCodeJob(String jobJson);
+
+    String runGCodeJobAsync(String jobJson);
+
+    String optimizeToolpath(String pathsJson);
+
+    String optimizeToolpathAsync(String pathsJson);
+
+    String traceBitmap(String sourcePath, String optionsJson);
+
+    String traceBitmapAsync(String sourcePath, String optionsJson);
+
+    String getTempCacheStats();
+
+    void setTempCacheBudget(int megabytes);
+
+    String getBridgeMetrics();
+
+    String getMetrics();
+
+    String exportTrace(String fileName);
+
+    String echoBase64(String base64);
+
+    String beginFile(String fileName, String mimeType);
+
+    boolean appendChunk(String sessionId, String chunk);
+
+    boolean commit(String sessionId);
+
+    void abort(String sessionId);
+
+    String historyOpen();
+
+    String historyReset(String stateJson);
+
+    String historyPush(String forward, String inverse);
+
+    String historyUndo();
+
+    String historyRedo();
+
+    void historySetLive(String diff);
+
+    boolean hasHistoryBlob(String hash);
+
+    boolean putHistoryBlob(String hash, String content);
+
+    String getHistoryBlob(String hash);
+
+    /**
+     * 注入页面的转发对象。桥方法在 WebView 的 JavaBridge 线程中调用，target 随 Activity 切换
+     */
+    final class Proxy implements WhiteboardBridge {
+        private volatile WhiteboardBridge target;
+
+        public void attach(WhiteboardBridge target) {
+            this.target = target;
+        }
+
+        public void detach() {
+            this.target = null;
+        }
+
+        @Override
+        @JavascriptInterface
+        public void onNextStep(String data) {
+            WhiteboardBridge t = target;
+            if (t != null) {
+                t.onNextStep(data);
+            }
+        }
+
+        @Override
+        @JavascriptInterface
+        public String saveTempFile(String base64, String fileName) {
+            WhiteboardBridge t = target;
+            return t != null ? t.saveTempFile(base64, fileName) : "";
+        }
+
+        @Override
+        @JavascriptInterface
+        public String saveTempFileAsync(String base64, String fileName) {
+            WhiteboardBridge t = target;
+            return t != null ? t.saveTempFileAsync(base64, fileName) : "";
+        }
+
+        @Override
+        @JavascriptInterface
+        public String getPlatformSize() {
+            WhiteboardBridge t = target;
+            return t != null ? t.getPlatformSize() : "";
+        }
+
+        @Override
+        @JavascriptInterface
+        public void setDownloadPath(String path) {
+            WhiteboardBridge t = target;
+            if (t != null) {
+                t.setDownloadPath(path);
+            }
+        }
+
+        @Override
+        @JavascriptInterface
+        public String getDownloadPath() {
+            WhiteboardBridge t = target;
+            return t != null ? t.getDownloadPath() : "";
+        }
+
+        @Override
+        @JavascriptInterface
+        public void saveBlobFile(String base64, String fileName, String mimeType) {
+            WhiteboardBridge t = target;
+            if (t != null) {
+                t.saveBlobFile(base64, fileName, mimeType);
+            }
+        }
+
+        @Override
+        @JavascriptInterface
+        public String generateScanGCode(String rasterPath, int width, int height, String settingsJson, String fileName) {
+            WhiteboardBridge t = target;
+            return t != null ? t.generateScanGCode(rasterPath, width, height, settingsJson, fileName) : "";
+        }
+
+        @Override
+        @JavascriptInterface
+        public String generateScanGCodeAsync(String rasterPath, int width, int height, String settingsJson, String fileName) {
+            WhiteboardBridge t = target;
+            return t != null ? t.generateScanGCodeAsync(rasterPath, width, height, settingsJson, fileName) : "";
+        }
+
+        @Override
+        @JavascriptInterface
+        public String startScanExportAsync(String jobJson) {
+            WhiteboardBridge t = target;
+            return t != null ? t.startScanExportAsync(jobJson) : "";
+        }
+
+        @Override
+        @JavascriptInterface
+        public String resumeScanExportAsync(String jobId) {
+            WhiteboardBridge t = target;
+            return t != null ? t.resumeScanExportAsync(jobId) : "";
+        }
+
+        @Override
+        @JavascriptInterface
+        public String getPendingScanExports() {
+            WhiteboardBridge t = target;
+            return t != null ? t.getPendingScanExports() : "";
+        }
+
+        @Override
+        @JavascriptInterface
+        public boolean cancelScanExport(String jobId) {
+            WhiteboardBridge t = target;
+            return t != null ? t.cancelScanExport(jobId) : false;
+        }
+
+        @Override
+        @JavascriptInterface
+        public boolean discardScanExport(String jobId) {
+            WhiteboardBridge t = target;
+            return t != null ? t.discardScanExport(jobId) : false;
+        }
+
+        @Override
+        @JavascriptInterface
+        public String preprocessVector(String sourceUrl, String optionsJson) {
+            WhiteboardBridge t = target;
+            return t != null ? t.preprocessVector(sourceUrl, optionsJson) : "";
+        }
+
+        @Override
+        @JavascriptInterface
+        public String preprocessVectorAsync(String sourceUrl, String optionsJson) {
+            WhiteboardBridge t = target;
+            return t != null ? t.preprocessVectorAsync(sourceUrl, optionsJson) : "";
+        }
+
+        @Override
+        @JavascriptInterface
+        public String compactGCode(String path, String optionsJson) {
+            WhiteboardBridge t = target;
+            return t != null ? t.compactGCode(path, optionsJson) : "";
+        }
+
+        @Override
+        @JavascriptInterface
+        public String compactGCodeAsync(String path, String optionsJson) {
+            WhiteboardBridge t = target;
+            return t != null ? t.compactGCodeAsync(path, optionsJson) : "";
+        }
+
+        @Override
+        @JavascriptInterface
+        public void setSavedGCodeCompaction(String optionsJson) {
+            WhiteboardBridge t = target;
+            if (t != null) {
+                t.setSavedGCodeCompaction(optionsJson);
+            }
+        }
+
+        @Override
+        @JavascriptInterface
+        public String indexGCode(String path) {
+            WhiteboardBridge t = target;
+            return t != null ? t.indexGCode(path) : "";
+        }
+
+        @Override
+        @JavascriptInterface
+        public String indexGCodeAsync(String path) {
+            WhiteboardBridge t = target;
+            return t != null ? t.indexGCodeAsync(path) : "";
+        }
+
+        @Override
+        @JavascriptInterface
+        public String queryGCodePreview(String path, String queryJson) {
+            WhiteboardBridge t = target;
+            return t != null ? t.queryGCodePreview(path, queryJson) : "";
+        }
+
+        @Override
+        @JavascriptInterface
+        public String queryGCodePreviewAsync(String path, String queryJson) {
+            WhiteboardBridge t = target;
+            return t != null ? t.queryGCodePreviewAsync(path, queryJson) : "";
+        }
+
+        @Override
+        @JavascriptInterface
+        public String getGCodeState(String path, String queryJson) {
+            WhiteboardBridge t = target;
+            return t != null ? t.getGCodeState(path, queryJson) : "";
+        }
+
+        @Override
+        @JavascriptInterface
+        public String readGCodeLines(String path, int fromLine, int count) {
+            WhiteboardBridge t = target;
+            return t != null ? t.readGCodeLines(path, fromLine, count) : "";
+        }
+
+        @Override
+        @JavascriptInterface
+        public String rasterizePlatform(String jobJson) {
+            WhiteboardBridge t = target;
+            return t != null ? t.rasterizePlatform(jobJson) : "";
+        }
+
+        @Override
+        @JavascriptInterface
+        public String rasterizePlatformAsync(String jobJson) {
+            WhiteboardBridge t = target;
+            return t != null ? t.rasterizePlatformAsync(jobJson) : "";
+        }
+
+        @Override
+        @JavascriptInterface
+        public String runGCodeJob(String jobJson) {
+            WhiteboardBridge t = target;
+            return t != null ? t.runGCodeJob(jobJson) : "";
+        }
+
+        @Override
+        @JavascriptInterface
+        public String runGCodeJobAsync(String jobJson) {
+            WhiteboardBridge t = target;
+            return t != null ? t.runGCodeJobAsync(jobJson) : "";
+        }
+
+        @Override
+        @JavascriptInterface
+        public String optimizeToolpath(String pathsJson) {
+            WhiteboardBridge t = target;
+            return t != null ? t.optimizeToolpath(pathsJson) : "";
+        }
+
+        @Override
+        @JavascriptInterface
+        public String optimizeToolpathAsync(String pathsJson) {
+            WhiteboardBridge t = target;
+            return t != null ? t.optimizeToolpathAsync(pathsJson) : "";
+        }
+
+        @Override
+        @JavascriptInterface
+        public String traceBitmap(String sourcePath, String optionsJson) {
+            WhiteboardBridge t = target;
+            return t != null ? t.traceBitmap(sourcePath, optionsJson) : "";
+        }
+
+        @Override
+        @JavascriptInterface
+        public String traceBitmapAsync(String sourcePath, String optionsJson) {
+            WhiteboardBridge t = target;
+            return t != null ? t.traceBitmapAsync(sourcePath, optionsJson) : "";
+        }
+
+        @Override
+        @JavascriptInterface
+        public String getTempCacheStats() {
+            WhiteboardBridge t = target;
+            return t != null ? t.getTempCacheStats() : "";
+        }
+
+        @Override
+        @JavascriptInterface
+        public void setTempCacheBudget(int megabytes) {
+            WhiteboardBridge t = target;
+            if (t != null) {
+                t.setTempCacheBudget(megabytes);
+            }
+        }
+
+        @Override
+        @JavascriptInterface
+        public String getBridgeMetrics() {
+            WhiteboardBridge t = target;
+            return t != null ? t.getBridgeMetrics() : "";
+        }
+
+        @Override
+        @JavascriptInterface
+        public String getMetrics() {
+            WhiteboardBridge t = target;
+            return t != null ? t.getMetrics() : "";
+        }
+
+        @Override
+        @JavascriptInterface
+        public String exportTrace(String fileName) {
+            WhiteboardBridge t = target;
+            return t != null ? t.exportTrace(fileName) : "";
+        }
+
+        @Override
+        @JavascriptInterface
+        public String echoBase64(String base64) {
+            WhiteboardBridge t = target;
+            return t != null ? t.echoBase64(base64) : "";
+        }
+
+        @Override
+        @JavascriptInterface
+        public String beginFile(String fileName, String mimeType) {
+            WhiteboardBridge t = target;
+            return t != null ? t.beginFile(fileName, mimeType) : "";
+        }
+
+        @Override
+        @JavascriptInterface
+        public boolean appendChunk(String sessionId, String chunk) {
+            WhiteboardBridge t = target;
+            return t != null ? t.appendChunk(sessionId, chunk) : false;
+        }
+
+        @Override
+        @JavascriptInterface
+        public boolean commit(String sessionId) {
+            WhiteboardBridge t = target;
+            return t != null ? t.commit(sessionId) : false;
+        }
+
+        @Override
+        @JavascriptInterface
+        public void abort(String sessionId) {
+            WhiteboardBridge t = target;
+            if (t != null) {
+                t.abort(sessionId);
+            }
+        }
+
+        @Override
+        @JavascriptInterface
+        public String historyOpen() {
+            WhiteboardBridge t = target;
+            return t != null ? t.historyOpen() : "";
+        }
+
+        @Override
+        @JavascriptInterface
+        public String historyReset(String stateJson) {
+            WhiteboardBridge t = target;
+            return t != null ? t.historyReset(stateJson) : "";
+        }
+
+        @Override
+        @JavascriptInterface
+        public String historyPush(String forward, String inverse) {
+            WhiteboardBridge t = target;
+            return t != null ? t.historyPush(forward, inverse) : "";
+        }
+
+        @Override
+        @JavascriptInterface
+        public String historyUndo() {
+            WhiteboardBridge t = target;
+            return t != null ? t.historyUndo() : "";
+        }
+
+        @Override
+        @JavascriptInterface
+        public String historyRedo() {
+            WhiteboardBridge t = target;
+            return t != null ? t.historyRedo() : "";
+        }
+
+        @Override
+        @JavascriptInterface
+        public void historySetLive(String diff) {
+            WhiteboardBridge t = target;
+            if (t != null) {
+                t.historySetLive(diff);
+            }
+        }
+
+        @Override
+        @JavascriptInterface
+        public boolean hasHistoryBlob(String hash) {
+            WhiteboardBridge t = target;
+            return t != null ? t.hasHistoryBlob(hash) : false;
+        }
+
+        @Override
+        @JavascriptInterface
+        public boolean putHistoryBlob(String hash, String content) {
+            WhiteboardBridge t = target;
+            return t != null ? t.putHistoryBlob(hash, content) : false;
+        }
+
+        @Override
+        @JavascriptInterface
+        public String getHistoryBlob(String hash) {
+            WhiteboardBridge t = target;
+            return t != null ? t.getHistoryBlob(hash) : "";
+        }
+    }
+}
@@ -8,7 +8,11 @@ import Canvas from './components/Canvas';
 import ParameterEditor from './components/ParameterEditor';
 import CategoryPicker from './components/CategoryPicker';
 import LayerPanel from './components/LayerPanel';
-import { generatePlatformScanGCode, GCodeScanSettings } from './lib/gcode';
+import { generatePlatformScanGCode, generatePlatformScanGCodeNative, isNativeScanAvailable, prepareNativeScanLayer, GCodeScanSettings, cancelScanExportNative, discardScanExportNative, getPendingScanExports, resumeScanExportNative, setSavedGCodeCompaction } from './lib/gcode';
+import { callAndroidAsync, hasAndroidMethod, onAndroidProgress } from './lib/androidBridge';
+import { isBinaryReady, streamTextBinary } from './lib/binaryTransport';
+import { createEditHistory } from './lib/editHistory';
+import type { BoardState, HistoryStatus } from './lib/editHistory';
 import LayerSettingsPanel from './components/LayerSettingsPanel';
 import PerformanceConfigPanel from './components/PerformanceConfigPanel';
 import PerformanceMonitor from './components/PerformanceMonitor';
@@ -132,6 +136,40 @@ function simpleParseHPGL(content: string) {
   return cmds;
 }
 
+// 将原生预处理得到的二进制折线缓冲区（格式见 VectorPreprocessor.java）转换为 SVG 文本
+function polylineBufferToSvg(buffer: ArrayBuffer): string {
+  const view = new DataView(buffer);
+  if (view.getInt32(0, true) !== 0x4C50584E || view.getInt32(4, true) !== 1) {
+    throw new Error('无效的折线缓冲区');
+  }
+  const count = view.getInt32(8, true);
+  const minX = view.getFloat32(16, true);
+  const minY = view.getFloat32(20, true);
+  const maxX = view.getFloat32(24, true);
+  const maxY = view.getFloat32(28, true);
+  const countsOffset = 32;
+  const flagsOffset = countsOffset + count * 4;
+  let coordOffset = flagsOffset + Math.ceil(count / 4) * 4;
+  const width = Math.max(maxX - minX, 1e-6);
+  const height = Math.max(maxY - minY, 1e-6);
+  const elements: string[] = [];
+  for (let i = 0; i < count; i++) {
+    const n = view.getInt32(countsOffset + i * 4, true);
+    const closed = (view.getUint8(flagsOffset + i) & 1) !== 0;
+    const pts: string[] = new Array(n);
+    for (let j = 0; j < n; j++) {
+      // DXF/PLT 的 Y 轴向上，翻转到 SVG 坐标系
+      const x = view.getFloat32(coordOffset, true) - minX;
+      const y = maxY - view.getFloat32(coordOffset + 4, true);
+      pts[j] = `${x},${y}`;
+      coordOffset += 8;
+    }
+    const tag = closed ? 'polygon' : 'polyline';
+    elements.push(`<${tag} points="${pts.join(' ')}" fill="none" stroke="black"/>`);
+  }
+  return `<svg xmlns="http://www.w3.org/2000/svg" width="${width}" height="${height}" viewBox="0 0 ${width} ${height}">${elements.join('')}</svg>`;
+}
+
 // 计算包围盒工具函数
 function getGroupBoundingBox(items: CanvasItemData[]): { minX: number, minY: number, maxX: number, maxY: number } {
   let minX = Infinity, minY = Infinity, maxX = -Infinity, maxY = -Infinity;
@@ -248,7 +286,6 @@ function generateSvgForEngraving(items: CanvasItem[], canvasWidth: number, canva
   return `<svg width="${canvasWidth}mm" height="${canvasHeight}mm" viewBox="0 0 ${canvasWidth} ${canvasHeight}" xmlns="http://www.w3.org/2000/svg">\n${svgElements}\n</svg>`;
 }
 
-const MAX_HISTORY = 50;
 const ALL_PARTS = [...BASIC_SHAPES, ...PART_LIBRARY];
 
 // 1. 定义WhiteboardPageProps接口，支持canvasWidth和canvasHeight
@@ -285,7 +322,9 @@ const WhiteboardPage: React.FC<WhiteboardPageProps> = () => {
     }
   ]);
   const [items, setItems] = useState<CanvasItem[]>([]);
-  const [history, setHistory] = useState<[Layer[], CanvasItem[]][]>([]);
+  // 撤销历史：Android 上由原生端按差异保存，可在页面被杀后恢复
+  const [editHistory] = useState(createEditHistory);
+  const [historyStatus, setHistoryStatus] = useState<HistoryStatus>({ canUndo: false, canRedo: false });
 
   const [selectedItemId, setSelectedItemId] = useState<string | null>(null);
   const [activeLayerId, setActiveLayerId] = useState<string | null>(null);
@@ -311,24 +350,36 @@ const WhiteboardPage: React.FC<WhiteboardPageProps> = () => {
       // 检测是否当前有导入请求（但仍然先执行恢复，再由导入逻辑追加图片）
       const hasIncomingImport = !!(location.state?.image || location.state?.hasVectorData);
       const saved = localStorage.getItem('whiteboardAutosave');
-      if (saved) {
-        const data = JSON.parse(saved);
-        if (Array.isArray(data.layers) && Array.isArray(data.items)) {
-          setLayers(data.layers as Layer[]);
-          setItems(data.items as CanvasItem[]);
-          if (data.activeLayerId === null || typeof data.activeLayerId === 'string') {
-            setActiveLayerId(data.activeLayerId || null);
-          }
-          // 若没有导入请求，方可清理残留路由状态；有导入请求则保留以便后续导入逻辑处理
-          if (!hasIncomingImport) {
-            try { window.history.replaceState({}, document.title); } catch { }
-          }
-          console.log('[Whiteboard Restore] 已恢复本地存档', {
-            layers: (data.layers || []).length,
-            items: (data.items || []).length,
-            activeLayerId: data.activeLayerId ?? null,
-          });
+      const data = saved ? JSON.parse(saved) : null;
+      const hasAutosave = !!data && Array.isArray(data.layers) && Array.isArray(data.items);
+      // 优先恢复原生端保存的上次会话（包括撤销历史与最后的修改），没有时以本地存档开始新的历史
+      const recovered = editHistory.open(hasAutosave ? { layers: data.layers, items: data.items } : { layers, items });
+      setHistoryStatus(editHistory.status());
+      if (recovered) {
+        setLayers(recovered.layers);
+        setItems(recovered.items);
+        if (!hasIncomingImport) {
+          try { window.history.replaceState({}, document.title); } catch { }
         }
+        console.log('[Whiteboard Restore] 已恢复上次会话', {
+          layers: recovered.layers.length,
+          items: recovered.items.length,
+        });
+      } else if (hasAutosave) {
+        setLayers(data.layers as Layer[]);
+        setItems(data.items as CanvasItem[]);
+        if (data.activeLayerId === null || typeof data.activeLayerId === 'string') {
+          setActiveLayerId(data.activeLayerId || null);
+        }
+        // 若没有导入请求，方可清理残留路由状态；有导入请求则保留以便后续导入逻辑处理
+        if (!hasIncomingImport) {
+          try { window.history.replaceState({}, document.title); } catch { }
+        }
+        console.log('[Whiteboard Restore] 已恢复本地存档', {
+          layers: (data.layers || []).length,
+          items: (data.items || []).length,
+          activeLayerId: data.activeLayerId ?? null,
+        });
       }
     } catch (e) {
       console.warn('恢复白板自动保存内容失败:', e);
@@ -367,6 +418,9 @@ const WhiteboardPage: React.FC<WhiteboardPageProps> = () => {
   // 添加G代码生成进度弹窗状态
   const [isGeneratingGCode, setIsGeneratingGCode] = useState(false);
   const [generationProgress, setGenerationProgress] = useState('');
+  // 正在运行的可续写扫描导出（弹窗中显示取消按钮）
+  const [activeScanExport, setActiveScanExport] = useState<string | null>(null);
+  const scanExportCancelledRef = useRef(false);
 
   // 添加状态用于显示导入进度
   const [isImporting, setIsImporting] = useState(false);
@@ -492,8 +546,15 @@ const WhiteboardPage: React.FC<WhiteboardPageProps> = () => {
   }, [layers]);
 
   const pushHistory = useCallback((currentLayers: Layer[], currentItems: CanvasItem[]) => {
-    setHistory(prev => [...prev.slice(prev.length - MAX_HISTORY + 1), [currentLayers, currentItems]]);
-  }, []);
+    setHistoryStatus(editHistory.push({ layers: currentLayers, items: currentItems }));
+  }, [editHistory]);
+
+  // 未记录为历史的修改（拖动中的对象等）停顿后同步给原生端，页面被杀后重新进入时一并恢复
+  useEffect(() => {
+    if (!isRestored) return;
+    const timer = setTimeout(() => editHistory.saveLive({ layers, items }), 1000);
+    return () => clearTimeout(timer);
+  }, [editHistory, layers, items, isRestored]);
 
   const addItem = useCallback((itemData: CanvasItemData) => {
     pushHistory(layers, items);
@@ -706,6 +767,7 @@ const WhiteboardPage: React.FC<WhiteboardPageProps> = () => {
           x: canvasWidth / 2, // 图片中心坐标
           y: canvasHeight / 2,
           href: location.state.image,
+          sourceHref: location.state.sourceHref,
           width: newWidth,
           height: newHeight,
           rotation: 0,
@@ -753,18 +815,25 @@ const WhiteboardPage: React.FC<WhiteboardPageProps> = () => {
     }
   }, [selectedItemId, items, layers, pushHistory]);
 
-  const undo = useCallback(() => {
-    if (history.length === 0) return;
-    const [lastLayers, lastItems] = history[history.length - 1];
-    setHistory(prev => prev.slice(0, -1));
-    setLayers(lastLayers);
-    setItems(lastItems);
+  const showHistoryState = useCallback((state: BoardState | null) => {
+    setHistoryStatus(editHistory.status());
+    if (!state) return;
+    setLayers(state.layers);
+    setItems(state.items);
     // Ensure activeLayerId is still valid
-    if (!lastLayers.find(l => l.id === activeLayerId)) {
-      setActiveLayerId(lastLayers[0]?.id || null);
+    if (!state.layers.find(l => l.id === activeLayerId)) {
+      setActiveLayerId(state.layers[0]?.id || null);
     }
     setSelectedItemId(null);
-  }, [history, activeLayerId]);
+  }, [editHistory, activeLayerId]);
+
+  const undo = useCallback(() => {
+    showHistoryState(editHistory.undo({ layers, items }));
+  }, [editHistory, layers, items, showHistoryState]);
+
+  const redo = useCallback(() => {
+    showHistoryState(editHistory.redo({ layers, items }));
+  }, [editHistory, layers, items, showHistoryState]);
 
   // Layer Management - 修改图层管理逻辑
   const addLayer = useCallback(() => {
@@ -1428,16 +1497,80 @@ const WhiteboardPage: React.FC<WhiteboardPageProps> = () => {
       }
     };
 
+    // 从原生端提供的虚拟地址流式读取矢量文件，按块接收二进制数据并更新进度，
+    // 避免整个文件以转义字符串的形式经 evaluateJavascript 注入
+    (window as any).importVectorFromUrl = async (url: string, ext: string = 'svg') => {
+      setIsImporting(true);
+      setImportProgress(0);
+      setImportStatus('正在读取矢量文件');
+      // DXF/PLT 优先交给原生端解析与简化，页面只接收简化后的折线
+      if ((ext === 'dxf' || ext === 'plt') && hasAndroidMethod('preprocessVector')) {
+        try {
+          setImportStatus('正在解析矢量文件');
+          const raw = await callAndroidAsync('preprocessVector', url, JSON.stringify({
+            ext,
+            tolerance: performanceConfig.simplificationTolerance,
+            maxPointsPerPath: Number.isFinite(performanceConfig.maxPointsPerPath) ? performanceConfig.maxPointsPerPath : 0,
+          }));
+          // 异步版本回调的是对象，同步版本返回 JSON 字符串
+          const result = typeof raw === 'string' ? (raw ? JSON.parse(raw) : null) : raw;
+          if (result) {
+            console.log(`原生矢量预处理: ${result.polylines} 条路径, ${result.sourcePoints} -> ${result.points} 点, ${result.ms} ms`);
+            const buffer = await (await fetch(result.url)).arrayBuffer();
+            const svg = polylineBufferToSvg(buffer);
+            const file = new File([svg], 'android_import.svg', { type: 'image/svg+xml' });
+            const fakeEvent = { target: { files: [file] }, currentTarget: { value: '' } } as any;
+            handleImport(fakeEvent);
+            return;
+          }
+        } catch (e) {
+          console.warn('原生矢量预处理失败，回退到页面解析:', e);
+        }
+      }
+      try {
+        const response = await fetch(url);
+        if (!response.ok || !response.body) {
+          throw new Error(`HTTP ${response.status}`);
+        }
+        const total = Number(response.headers.get('Content-Length')) || 0;
+        const reader = response.body.getReader();
+        const chunks: Uint8Array[] = [];
+        let loaded = 0;
+        for (;;) {
+          const { done, value } = await reader.read();
+          if (done) break;
+          chunks.push(value);
+          loaded += value.length;
+          if (total > 0) {
+            setImportProgress(Math.round(loaded / total * 100));
+          }
+          setImportStatus(`正在读取矢量文件 ${(loaded / 1024 / 1024).toFixed(1)} MB`);
+        }
+        const file = new File(chunks, `android_import.${ext}`);
+        const fakeEvent = { target: { files: [file] }, currentTarget: { value: '' } } as any;
+        handleImport(fakeEvent);
+      } catch (e) {
+        console.error('importVectorFromUrl 失败:', e);
+        setIsImporting(false);
+        alert('矢量数据导入失败');
+      }
+    };
+
     // 如有来自首页的待处理矢量导入，立即处理
     if ((window as any).__pendingVectorImport) {
       const pending = (window as any).__pendingVectorImport;
       (window as any).__pendingVectorImport = null;
-      (window as any).importVectorToWhiteboard?.(pending.content, pending.ext);
+      if (pending.url) {
+        (window as any).importVectorFromUrl(pending.url, pending.ext);
+      } else {
+        (window as any).importVectorToWhiteboard?.(pending.content, pending.ext);
+      }
     }
     // 可选：卸载时清理
     return () => {
       delete (window as any).setWhiteboardImage;
       delete (window as any).importVectorToWhiteboard;
+      delete (window as any).importVectorFromUrl;
     };
   }, [addImage]);
 
@@ -1924,18 +2057,41 @@ const WhiteboardPage: React.FC<WhiteboardPageProps> = () => {
           overscanDist: layer.reverseMovementOffset ?? 3,
         };
 
-        const gcode = await generatePlatformScanGCode(
-          layer,
-          items,
-          canvasWidth,
-          canvasHeight,
-          settings,
-          canvasWidth,
-          canvasHeight
-        );
-
-        setGenerationProgress('正在保存文件...');
-        downloadGCode(gcode, `${fileName}_${layer.name.replace(/\s+/g, '_')}.nc`);
+        const outFileName = `${fileName}_${layer.name.replace(/\s+/g, '_')}.nc`;
+        if (isNativeScanAvailable()) {
+          // Android 原生扫描引擎：并行生成并直接写入文件，按行带保存检查点，中断后可继续
+          const jobId = `scan-${Date.now()}`;
+          scanExportCancelledRef.current = false;
+          setActiveScanExport(jobId);
+          try {
+            await generatePlatformScanGCodeNative(
+              layer,
+              items,
+              canvasWidth,
+              canvasHeight,
+              settings,
+              canvasWidth,
+              canvasHeight,
+              outFileName,
+              { jobId, onProgress: reportScanExportProgress }
+            );
+          } finally {
+            setActiveScanExport(null);
+          }
+        } else {
+          const gcode = await generatePlatformScanGCode(
+            layer,
+            items,
+            canvasWidth,
+            canvasHeight,
+            settings,
+            canvasWidth,
+            canvasHeight
+          );
+
+          setGenerationProgress('正在保存文件...');
+          downloadGCode(gcode, outFileName);
+        }
 
         // 关闭弹窗
         setIsGeneratingGCode(false);
@@ -1987,12 +2143,148 @@ const WhiteboardPage: React.FC<WhiteboardPageProps> = () => {
         setIsGeneratingGCode(false);
       }
     } catch (error) {
-      console.error("G代码生成失败:", error);
       setIsGeneratingGCode(false);
+      if (scanExportCancelledRef.current) {
+        showScanExportPaused();
+        return;
+      }
+      console.error("G代码生成失败:", error);
       alert(`G代码生成失败: ${error instanceof Error ? error.message : String(error)}`);
     }
   };
 
+  const reportScanExportProgress = (doneRows: number, totalRows: number) => {
+    setGenerationProgress(`正在生成平台扫描G代码... ${Math.round((doneRows / Math.max(totalRows, 1)) * 100)}%`);
+  };
+
+  const showScanExportPaused = () => {
+    setToastMessage('导出已暂停，下次打开时可继续');
+    setTimeout(() => setToastMessage(null), 1500);
+  };
+
+  // 取消正在运行的扫描导出，已完成的部分由原生端保留
+  const cancelScanExport = () => {
+    if (activeScanExport && cancelScanExportNative(activeScanExport)) {
+      scanExportCancelledRef.current = true;
+      setGenerationProgress('正在停止...');
+    }
+  };
+
+  // 页面打开时检查上次未完成的扫描导出（例如应用被切到后台后被系统结束）
+  useEffect(() => {
+    const pendingExports = getPendingScanExports();
+    if (pendingExports.length === 0) return;
+    const resumeNext = async () => {
+      for (const job of pendingExports) {
+        const percent = job.totalRows ? Math.round((job.doneRows / job.totalRows) * 100) : 0;
+        if (!window.confirm(`上次导出的 ${job.fileName} 未完成（${percent}%），是否继续？`)) {
+          discardScanExportNative(job.jobId);
+          continue;
+        }
+        scanExportCancelledRef.current = false;
+        setActiveScanExport(job.jobId);
+        setIsGeneratingGCode(true);
+        setGenerationProgress('正在继续平台扫描G代码...');
+        try {
+          await resumeScanExportNative(job.jobId, reportScanExportProgress);
+        } catch (error) {
+          if (scanExportCancelledRef.current) {
+            showScanExportPaused();
+          } else {
+            console.error('继续导出失败:', error);
+            alert(`继续导出失败: ${error instanceof Error ? error.message : String(error)}`);
+          }
+        } finally {
+          setActiveScanExport(null);
+          setIsGeneratingGCode(false);
+        }
+      }
+    };
+    resumeNext();
+  }, []);
+
+  // 合并导出时扫描图层的参数
+  const mergedScanSettings = (layer: Layer): GCodeScanSettings => ({
+    lineDensity: 1 / (layer.lineDensity || 10),
+    isHalftone: !!layer.halftone,
+    negativeImage: false,
+    hFlipped: false,
+    vFlipped: false,
+    minPower: layer.minPower ?? 0,
+    maxPower: layer.maxPower ?? 100,
+    burnSpeed: (layer.moveSpeed ?? 100) * 60, // 转换 mm/s 到 mm/min
+    travelSpeed: (layer.moveSpeed ?? 100) * 60 * 2, // 移动速度通常是燃烧速度的2倍
+    overscanDist: layer.reverseMovementOffset ?? 3,
+  });
+
+  // 合并导出时切割图层的参数
+  const mergedEngraveSettings = (layer: Layer) => ({
+    feedRate: 1000,
+    travelSpeed: 3000,
+    power: layer.power || 50,
+    passes: 1,
+    flipY: true,
+    canvasHeight: canvasHeight,
+  });
+
+  // 原生合并导出：页面只准备各图层的栅格或切割G代码，原生端并行生成各图层分段文件，
+  // 按顺序拼接写入下载目录，页面中不再拼接整份G代码。没有可导出的图层时返回 false
+  const generateMergedGCodeNative = async (fileName: string, orderedLayers: Layer[]): Promise<boolean> => {
+    const validLayers = orderedLayers.filter(layer => items.some(item => item.layerId === layer.id));
+    if (validLayers.length === 0) {
+      return false;
+    }
+
+    setGenerationProgress(`正在准备 ${validLayers.length} 个图层...`);
+    const { generateEngraveGCode } = await import('./lib/gcode');
+    // 原生栅格化与切割G代码生成可以重叠进行；单个图层失败时跳过该图层，与前端合并一致
+    const prepared = await Promise.all(validLayers.map(async layer => {
+      try {
+        if (layer.printingMethod === PrintingMethod.SCAN) {
+          const scan = await prepareNativeScanLayer(
+            layer, items, canvasWidth, canvasHeight, mergedScanSettings(layer), canvasWidth, canvasHeight
+          );
+          return { name: layer.name, kind: 'scan', ...scan };
+        }
+        const layerItems = items.filter(item => item.layerId === layer.id);
+        const text = await generateEngraveGCode(layer, layerItems, mergedEngraveSettings(layer));
+        return { name: layer.name, kind: 'gcode', text };
+      } catch (error) {
+        console.error(`图层 ${layer.name} G代码生成失败:`, error);
+        return null;
+      }
+    }));
+    const jobLayers = prepared.filter(layer => layer !== null);
+
+    const jobId = `merge-${Date.now()}`;
+    const status = jobLayers.map(layer => `${layer!.name} 等待中`);
+    const unsubscribe = onAndroidProgress(jobId, event => {
+      if (event.state === 'merging') {
+        setGenerationProgress('正在合并图层文件...');
+        return;
+      }
+      status[event.index] = event.state === 'failed'
+        ? `${event.name} 失败`
+        : `${event.name} ${Math.round(event.progress * 100)}%`;
+      setGenerationProgress(`正在生成图层: ${status.join(' · ')}`);
+    });
+    try {
+      const raw = await callAndroidAsync('runGCodeJob', JSON.stringify({
+        jobId,
+        fileName: `${fileName}.nc`,
+        layers: jobLayers,
+      }));
+      const result = typeof raw === 'string' ? (raw ? JSON.parse(raw) : null) : raw;
+      if (!result) {
+        throw new Error('原生合并导出失败');
+      }
+      console.log(`原生合并导出: ${result.bytes} 字节, ${result.ms} ms`, result.layers);
+      return true;
+    } finally {
+      unsubscribe();
+    }
+  };
+
   // 合并所有图层的G代码
   const generateMergedGCode = async (fileName: string) => {
     // 显示生成进度弹窗
@@ -2014,6 +2306,20 @@ const WhiteboardPage: React.FC<WhiteboardPageProps> = () => {
         const rank = (l: Layer) => (l.printingMethod === PrintingMethod.SCAN ? 0 : 1);
         return rank(a) - rank(b);
       });
+
+      // 原生端可用时由原生端并行生成并流式合并
+      if (hasAndroidMethod('runGCodeJob') && isNativeScanAvailable()) {
+        try {
+          if (await generateMergedGCodeNative(fileName, orderedLayers)) {
+            setIsGeneratingGCode(false);
+            return;
+          }
+        } catch (error) {
+          console.warn('原生合并导出失败，回退到前端合并:', error);
+          setGenerationProgress('正在生成合并G代码...');
+        }
+      }
+
       for (const layer of orderedLayers) {
         const layerItems = items.filter(item => item.layerId === layer.id);
 
@@ -2038,18 +2344,7 @@ const WhiteboardPage: React.FC<WhiteboardPageProps> = () => {
             const layerImageItems = layerItems;
 
             if (layerImageItems.length > 0) {
-              const settings: GCodeScanSettings = {
-                lineDensity: 1 / (layer.lineDensity || 10),
-                isHalftone: !!layer.halftone,
-                negativeImage: false,
-                hFlipped: false,
-                vFlipped: false,
-                minPower: layer.minPower ?? 0,
-                maxPower: layer.maxPower ?? 100,
-                burnSpeed: (layer.moveSpeed ?? 100) * 60, // 转换 mm/s 到 mm/min
-                travelSpeed: (layer.moveSpeed ?? 100) * 60 * 2, // 移动速度通常是燃烧速度的2倍
-                overscanDist: layer.reverseMovementOffset ?? 3,
-              };
+              const settings = mergedScanSettings(layer);
 
               let gcode = await generatePlatformScanGCode(
                 layer,
@@ -2072,17 +2367,8 @@ const WhiteboardPage: React.FC<WhiteboardPageProps> = () => {
             }
           } else {
             // 切割图层
-            const engraveSettings = {
-              feedRate: 1000,
-              travelSpeed: 3000,
-              power: layer.power || 50,
-              passes: 1,
-              flipY: true,
-              canvasHeight: canvasHeight,
-            };
-
             const { generateEngraveGCode } = await import('./lib/gcode');
-            let gcode = await generateEngraveGCode(layer, layerItems, engraveSettings);
+            let gcode = await generateEngraveGCode(layer, layerItems, mergedEngraveSettings(layer));
 
             if (gcode && gcode.trim().length > 0) {
               // 移除中途结束程序的指令与注释
@@ -2168,7 +2454,21 @@ const WhiteboardPage: React.FC<WhiteboardPageProps> = () => {
     const platform = detectPlatform();
 
     // 检查是否在原生移动应用环境中
-    if (platform === 'android' && window.Android && typeof window.Android.saveBlobFile === 'function') {
+    if (platform === 'android' && window.Android && typeof window.Android.beginFile === 'function' && isBinaryReady()) {
+      // 二进制通道：UTF-8 分块以 ArrayBuffer 发送，不经过字符串桥
+      streamGCodeBinary(gcode, fileName).catch(error => {
+        console.error('Android二进制分块保存文件失败:', error);
+        fallbackDownload(gcode, fileName);
+      });
+    } else if (platform === 'android' && window.Android && typeof window.Android.beginFile === 'function') {
+      // 新接口：分块流式写入，避免整文件 base64 编码带来的多份内存拷贝
+      try {
+        streamGCodeToAndroid(gcode, fileName);
+      } catch (error) {
+        console.error('Android分块保存文件失败:', error);
+        fallbackDownload(gcode, fileName);
+      }
+    } else if (platform === 'android' && window.Android && typeof window.Android.saveBlobFile === 'function') {
       // 在 Android 原生环境中，直接通过 Android 接口保存文件
       try {
         // 将 G-code 字符串转换为 base64
@@ -2196,6 +2496,50 @@ const WhiteboardPage: React.FC<WhiteboardPageProps> = () => {
     }
   };
 
+  // 通过 Android 分块接口写入文件：beginFile -> appendChunk* -> commit
+  const streamGCodeToAndroid = (gcode: string, fileName: string) => {
+    const android = window.Android!;
+    const sessionId = android.beginFile!(fileName, 'text/plain');
+    if (!sessionId) {
+      throw new Error('无法创建文件: ' + fileName);
+    }
+    const CHUNK_SIZE = 256 * 1024;
+    try {
+      let start = 0;
+      while (start < gcode.length) {
+        let end = Math.min(start + CHUNK_SIZE, gcode.length);
+        // 不要把代理对拆到两个分块中
+        const code = gcode.charCodeAt(end - 1);
+        if (end < gcode.length && code >= 0xd800 && code <= 0xdbff) {
+          end--;
+        }
+        if (!android.appendChunk!(sessionId, gcode.slice(start, end))) {
+          throw new Error('写入文件失败: ' + fileName);
+        }
+        start = end;
+      }
+      android.commit!(sessionId);
+    } catch (error) {
+      android.abort!(sessionId);
+      throw error;
+    }
+  };
+
+  // 通过二进制通道写入文件：beginFile -> GCODE_CHUNK 帧*（最后一帧提交）
+  const streamGCodeBinary = async (gcode: string, fileName: string) => {
+    const android = window.Android!;
+    const sessionId = android.beginFile!(fileName, 'text/plain');
+    if (!sessionId) {
+      throw new Error('无法创建文件: ' + fileName);
+    }
+    try {
+      await streamTextBinary(sessionId, gcode);
+    } catch (error) {
+      android.abort!(sessionId);
+      throw error;
+    }
+  };
+
   // 浏览器环境下的下载方式（回退方案）
   const fallbackDownload = (gcode: string, fileName: string) => {
     const blob = new Blob([gcode], { type: 'text/plain' });
@@ -2274,16 +2618,20 @@ const WhiteboardPage: React.FC<WhiteboardPageProps> = () => {
             <button
               className="px-4 py-2 rounded bg-gray-200 text-gray-800 text-sm font-medium shadow-sm hover:bg-gray-300"
               onClick={undo}
-              disabled={history.length === 0}
+              disabled={!historyStatus.canUndo}
             >撤销</button>
+            <button
+              className="px-4 py-2 rounded bg-gray-200 text-gray-800 text-sm font-medium shadow-sm hover:bg-gray-300"
+              onClick={redo}
+              disabled={!historyStatus.canRedo}
+            >重做</button>
             <button
               className="px-4 py-2 rounded bg-gray-200 text-gray-800 text-sm font-medium shadow-sm hover:bg-gray-300"
               onClick={() => {
                 // 清空白板内容与本地存档
                 setItems([]);
-                setHistory([]);
                 // 保留初始两层结构，避免界面异常
-                setLayers([
+                const freshLayers: Layer[] = [
                   {
                     id: `scan_layer_${Date.now()}`,
                     name: '扫描图层',
@@ -2304,7 +2652,9 @@ const WhiteboardPage: React.FC<WhiteboardPageProps> = () => {
                     printingMethod: PrintingMethod.ENGRAVE,
                     power: 50
                   }
-                ]);
+                ];
+                setLayers(freshLayers);
+                setHistoryStatus(editHistory.reset({ layers: freshLayers, items: [] }));
                 setActiveLayerId(null);
                 setSelectedItemId(null);
                 try { localStorage.removeItem('whiteboardAutosave'); } catch { }
@@ -2340,7 +2690,7 @@ const WhiteboardPage: React.FC<WhiteboardPageProps> = () => {
                 activeTool={activeTool}
                 onSetTool={setActiveTool}
                 onUndo={undo}
-                canUndo={history.length > 0}
+                canUndo={historyStatus.canUndo}
                 onImportFile={handleImportFile}
                 onNext={handleNext}
                 onOpenPerformanceConfig={() => setShowPerformanceConfig(true)}
@@ -2448,6 +2798,14 @@ const WhiteboardPage: React.FC<WhiteboardPageProps> = () => {
                       合并所有图层的G代码为一个文件
                     </label>
                   </div>
+                  ${hasAndroidMethod('setSavedGCodeCompaction') ? `
+                  <div style="margin-bottom: 20px;">
+                    <label style="display: flex; align-items: center; font-size: 14px;">
+                      <input id="compactGCode" type="checkbox" ${localStorage.getItem('gcodeAutoCompact') === '1' ? 'checked' : ''} style="margin-right: 8px;" />
+                      压缩G代码（合并共线移动、省略重复的 G0/G1）
+                    </label>
+                    <div style="margin-top: 5px; font-size: 12px; color: #666;">文件更小，但需要控制器支持模态指令（如 GRBL）</div>
+                  </div>` : ''}
                   
                   <div style="display: flex; gap: 10px; justify-content: flex-end;">
                     <button id="cancelBtn" style="padding: 10px 20px; border: 1px solid #ddd; background: white; border-radius: 4px; cursor: pointer; font-size: 14px;">取消</button>
@@ -2460,6 +2818,7 @@ const WhiteboardPage: React.FC<WhiteboardPageProps> = () => {
 
                 const fileNameInput = content.querySelector('#fileName') as HTMLInputElement;
                 const mergeAllLayersInput = content.querySelector('#mergeAllLayers') as HTMLInputElement;
+                const compactGCodeInput = content.querySelector('#compactGCode') as HTMLInputElement | null;
                 const cancelBtn = content.querySelector('#cancelBtn') as HTMLButtonElement;
                 const confirmBtn = content.querySelector('#confirmBtn') as HTMLButtonElement;
 
@@ -2472,6 +2831,12 @@ const WhiteboardPage: React.FC<WhiteboardPageProps> = () => {
                 confirmBtn.addEventListener('click', async () => {
                   const fileName = fileNameInput.value.trim() || '激光雕刻项目';
                   const mergeAllLayers = mergeAllLayersInput.checked;
+                  if (compactGCodeInput) {
+                    // 原生端保存 .nc 后按此选项压缩，默认不压缩
+                    const compact = compactGCodeInput.checked;
+                    try { localStorage.setItem('gcodeAutoCompact', compact ? '1' : '0'); } catch { }
+                    setSavedGCodeCompaction(compact ? {} : null);
+                  }
 
                   cleanup();
 
@@ -2732,6 +3097,16 @@ const WhiteboardPage: React.FC<WhiteboardPageProps> = () => {
             </div>
             <h3 className="text-lg font-semibold text-center mb-2">正在生成G代码</h3>
             <p className="text-gray-600 text-center text-sm">{generationProgress}</p>
+            {activeScanExport && (
+              <div className="flex justify-center mt-4">
+                <button
+                  onClick={cancelScanExport}
+                  className="px-4 py-1 text-sm text-gray-700 border border-gray-300 rounded hover:bg-gray-100"
+                >
+                  取消
+                </button>
+              </div>
+            )}
           </div>
         </div>
       )}
@@ -2801,6 +3176,43 @@ declare global {
       saveTempFile?: (base64: string, fileName: string) => string; // 新增保存临时文件接口
       getPlatformSize?: () => string | { width: number | string; height: number | string }; // 新增获取画布大小接口
       saveBlobFile?: (base64: string, fileName: string, mimeType: string) => void; // 新增保存文件接口
+      beginFile?: (fileName: string, mimeType: string) => string; // 分块保存：开始文件，返回会话ID
+      appendChunk?: (sessionId: string, chunk: string) => boolean; // 分块保存：追加文本分块
+      commit?: (sessionId: string) => boolean; // 分块保存：提交文件
+      abort?: (sessionId: string) => void; // 分块保存：放弃文件
+      generateScanGCode?: (rasterPath: string, width: number, height: number, settingsJson: string, fileName: string) => string; // 原生扫描G代码生成，返回文件路径
+      preprocessVector?: (sourceUrl: string, optionsJson: string) => string; // 原生 DXF/PLT 解析与简化，返回结果 JSON
+      saveTempFileAsync?: (base64: string, fileName: string) => string; // 异步版本，返回请求ID，结果经 __androidBridge 回调
+      generateScanGCodeAsync?: (rasterPath: string, width: number, height: number, settingsJson: string, fileName: string) => string;
+      preprocessVectorAsync?: (sourceUrl: string, optionsJson: string) => string;
+      getBridgeMetrics?: () => string; // 桥方法调用统计 JSON
+      getTempCacheStats?: () => string; // 临时文件缓存统计 JSON
+      getMetrics?: () => string; // 原生端指标汇总 JSON（桥方法、阶段耗时、写入吞吐量、缓存）
+      exportTrace?: (fileName: string) => string; // 导出指标与滚动日志，返回文件路径
+      echoBase64?: (base64: string) => string; // 字符串通道基准：解码后重新编码返回
+      startScanExportAsync?: (jobJson: string) => string; // 可断点续写的扫描导出，返回请求ID
+      resumeScanExportAsync?: (jobId: string) => string; // 从检查点继续扫描导出，返回请求ID
+      getPendingScanExports?: () => string; // 未完成的扫描导出列表 JSON
+      cancelScanExport?: (jobId: string) => boolean; // 取消扫描导出（保留检查点）
+      discardScanExport?: (jobId: string) => boolean; // 放弃未完成的扫描导出
+      indexGCode?: (path: string) => string; // 建立/读取 G 代码索引，返回概况 JSON
+      indexGCodeAsync?: (path: string) => string;
+      queryGCodePreview?: (path: string, queryJson: string) => string; // 视口内的预览折线，返回 {url, polylines, points, ms}
+      queryGCodePreviewAsync?: (path: string, queryJson: string) => string;
+      getGCodeState?: (path: string, queryJson: string) => string; // 模拟到指定行或时刻的机器状态 JSON
+      readGCodeLines?: (path: string, fromLine: number, count: number) => string; // 读取 G 代码原文的若干行
+      compactGCode?: (path: string, optionsJson: string) => string; // 原地压缩 G 代码文件，返回统计 JSON
+      compactGCodeAsync?: (path: string, optionsJson: string) => string;
+      setSavedGCodeCompaction?: (optionsJson: string) => void; // saveBlobFile 保存 G 代码后的自动压缩选项，空字符串关闭
+      rasterizePlatform?: (jobJson: string) => string; // 原生扫描图层栅格化，返回结果 JSON
+      rasterizePlatformAsync?: (jobJson: string) => string;
+      optimizeToolpath?: (pathsJson: string) => string; // 雕刻路径排序，返回排序结果 JSON
+      optimizeToolpathAsync?: (pathsJson: string) => string;
+      runGCodeJob?: (jobJson: string) => string; // 多图层并行生成并合并写入文件，返回结果 JSON
+      runGCodeJobAsync?: (jobJson: string) => string;
+      traceBitmap?: (sourcePath: string, optionsJson: string) => string; // 原生位图矢量化，返回结果 JSON（url 指向 SVG）
+      traceBitmapAsync?: (sourcePath: string, optionsJson: string) => string;
+      setTempCacheBudget?: (megabytes: number) => void; // 设置临时文件缓存容量上限
     };
     iOS?: {
       onNextStep?: (data: string) => void;
@@ -2810,8 +3222,12 @@ declare global {
     };
     // 由原生(Android/iOS)调用，将矢量图数据导入白板。ext 支持 'svg' | 'dxf' | 'plt'
     importVectorToWhiteboard?: (content: string, ext?: string) => void;
-    // 当白板未就绪时，暂存待导入的矢量数据
-    __pendingVectorImport?: { content: string; ext: string } | null;
+    // 从原生端提供的虚拟地址流式导入矢量文件
+    importVectorFromUrl?: (url: string, ext?: string) => Promise<void>;
+    // 当白板未就绪时，暂存待导入的矢量数据（content 为内联文本，url 为原生端虚拟地址）
+    __pendingVectorImport?: { content?: string; url?: string; ext: string } | null;
+    // 原生异步桥方法的结果回调（见 lib/androidBridge.ts）
+    __androidBridge?: { resolve: (id: string, result: any) => void; reject: (id: string, message: string) => void };
   }
 }
 
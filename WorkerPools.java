@@ -0,0 +1,40 @@
+package com.example.opencv.webwhiteboard;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 原生引擎共用的线程池
+ */
+final class WorkerPools {
+
+    /**
+     * CPU 密集型计算（栅格扫描、矢量解析与简化等），线程数与核心数一致
+     */
+    static final ForkJoinPool COMPUTE = new ForkJoinPool(Runtime.getRuntime().availableProcessors());
+
+    /**
+     * 多图层导出中逐图层的生成与分段写入（含阻塞 I/O），图层内部的计算仍提交到 COMPUTE
+     */
+    static final ExecutorService LAYERS = newLayerPool();
+
+    private WorkerPools() {
+    }
+
+    private static ExecutorService newLayerPool() {
+        int threads = Math.max(2, Math.min(4, Runtime.getRuntime().availableProcessors() / 2));
+        AtomicInteger threadId = new AtomicInteger(1);
+        ThreadPoolExecutor pool = new ThreadPoolExecutor(threads, threads, 30L, TimeUnit.SECONDS,
+                new LinkedBlockingQueue<>(), r -> {
+            Thread t = new Thread(r, "gcode-layer-" + threadId.getAndIncrement());
+            t.setDaemon(true);
+            return t;
+        });
+        pool.allowCoreThreadTimeOut(true);
+        return pool;
+    }
+}
@@ -1,5 +1,6 @@
 // 已弃用
 import React, { useState, useEffect } from 'react';
+import { getNativeMetrics } from '../lib/androidBridge';
 
 interface PerformanceStats {
   totalItems: number;
@@ -29,6 +30,16 @@ const PerformanceMonitor: React.FC<PerformanceMonitorProps> = ({
   const [fps, setFps] = useState<number>(0);
   const [frameCount, setFrameCount] = useState<number>(0);
   const [lastTime, setLastTime] = useState<number>(performance.now());
+  const [nativeMetrics, setNativeMetrics] = useState<any>(null);
+
+  // 面板可见时每 2 秒拉取一次原生端指标（非 Android 环境下为 null）
+  useEffect(() => {
+    if (!isVisible) return;
+    const poll = () => setNativeMetrics(getNativeMetrics());
+    poll();
+    const timer = setInterval(poll, 2000);
+    return () => clearInterval(timer);
+  }, [isVisible]);
 
   // 计算FPS
   useEffect(() => {
@@ -133,6 +144,15 @@ const PerformanceMonitor: React.FC<PerformanceMonitorProps> = ({
     }
   };
 
+  // 按 p99 取最慢的几项
+  const slowest = (entries: Record<string, any> | undefined, limit: number) =>
+    Object.entries(entries || {})
+      .sort(([, a], [, b]) => (b.p99Ms || 0) - (a.p99Ms || 0))
+      .slice(0, limit);
+
+  const cache = nativeMetrics?.cache;
+  const cacheLookups = cache ? cache.hits + cache.misses : 0;
+
   if (!isVisible) {
     return (
       <button
@@ -194,6 +214,38 @@ const PerformanceMonitor: React.FC<PerformanceMonitorProps> = ({
         )}
       </div>
       
+      {/* 原生端指标 */}
+      {nativeMetrics && (
+        <div className="mt-2 pt-2 border-t border-gray-200 space-y-1">
+          <div className="text-gray-600">桥方法 p99:</div>
+          {slowest(nativeMetrics.bridge, 3).map(([name, m]) => (
+            <div key={name} className="flex justify-between">
+              <span className="text-gray-600 truncate mr-2">{name}</span>
+              <span className="font-mono">{m.p99Ms}ms</span>
+            </div>
+          ))}
+          <div className="text-gray-600">阶段 p99:</div>
+          {slowest(nativeMetrics.stages, 4).map(([name, m]) => (
+            <div key={name} className="flex justify-between">
+              <span className="text-gray-600 truncate mr-2">{name}</span>
+              <span className="font-mono">{m.p99Ms}ms</span>
+            </div>
+          ))}
+          {Object.entries(nativeMetrics.writes || {}).map(([name, m]: [string, any]) => (
+            <div key={name} className="flex justify-between">
+              <span className="text-gray-600 truncate mr-2">{name}</span>
+              <span className="font-mono">{m.mbps}MB/s</span>
+            </div>
+          ))}
+          {cacheLookups > 0 && (
+            <div className="flex justify-between">
+              <span className="text-gray-600">缓存命中率:</span>
+              <span className="font-mono">{Math.round((cache.hits / cacheLookups) * 100)}%</span>
+            </div>
+          )}
+        </div>
+      )}
+
       {/* 性能建议 */}
       {getPerformanceLevel() !== 'low' && (
         <div className="mt-2 pt-2 border-t border-gray-200">
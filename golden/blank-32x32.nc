@@ -0,0 +1,17 @@
+; Platform Scan G-Code for Nexcut
+; Layer: 空白
+; Image Count: 1
+; Platform Size: 400x400 mm
+; Resolution: 0.1 mm/pixel (32x32 pixels)
+; Mode: Greyscale
+; Power Range: [0, 100] (0-100 scale)
+; Speed: Burn=1000 mm/min, Travel=6000 mm/min
+; Optimization: Skip blank rows/columns, fast travel for blank areas
+;
+G90 ; Absolute positioning
+G21 ; Units in millimeters
+M4 ; Enable laser (variable power mode)
+
+; No content found in layer
+M5 ; Disable laser
+M2 ; End program
\ No newline at end of file
@@ -0,0 +1,111 @@
+/**
+ * 扫描G代码对照文件生成脚本
+ * 用法：在项目根目录执行 node golden/generate.mjs（需已 npm install）
+ *
+ * 通过 Vite 的 ssrLoadModule 直接加载 lib/gcode.ts，对 fixtures.json 中的每个合成栅格调用
+ * generateScanGCodeFromRaster，结果写入 golden/<name>.nc；对 pixel-fixtures.json 中的每个合成彩色图像调用
+ * platformPixelsToGray，灰度结果（每像素一字节）写入 golden/<name>.gray。原生端由 GoldenGCodeCheck 逐字节比对。
+ * JS 生成器的输出有意变更时重新运行本脚本并提交对照文件。
+ */
+import { createServer } from 'vite';
+import { readFileSync, writeFileSync } from 'node:fs';
+import { dirname, join } from 'node:path';
+import { fileURLToPath } from 'node:url';
+
+const dir = dirname(fileURLToPath(import.meta.url));
+const root = join(dir, '..');
+
+// 与 BenchFixtures.raster 逐像素一致，只使用整数运算
+function raster(pattern, width, height, seed) {
+  const data = new Uint8Array(width * height);
+  let state = seed | 0;
+  for (let y = 0; y < height; y++) {
+    for (let x = 0; x < width; x++) {
+      let v;
+      switch (pattern) {
+        case 'gradient': {
+          const inside = x >= Math.floor(width / 8) && x < Math.floor(width * 7 / 8)
+            && y >= Math.floor(height / 8) && y < Math.floor(height * 7 / 8);
+          v = inside ? Math.floor(x * 255 / (width - 1)) : 255;
+          break;
+        }
+        case 'shapes': {
+          const cx = Math.floor(width / 3), cy = Math.floor(height / 2);
+          const r = Math.floor(Math.min(width, height) / 4);
+          const d2 = (x - cx) * (x - cx) + (y - cy) * (y - cy);
+          const hr = Math.floor(r / 2);
+          if (d2 <= r * r && d2 >= hr * hr) {
+            v = 0;
+          } else if (x >= Math.floor(width * 5 / 8) && x < Math.floor(width * 7 / 8)
+            && y >= Math.floor(height / 4) && y < Math.floor(height * 3 / 4)) {
+            v = y < Math.floor(height / 2) ? 128 : 40;
+          } else {
+            v = 255;
+          }
+          break;
+        }
+        case 'noise':
+          state = (Math.imul(state, 1103515245) + 12345) | 0;
+          v = y % 7 === 0 ? 255 : (state >>> 16) & 0xFF;
+          break;
+        case 'blank':
+          v = 255;
+          break;
+        default:
+          throw new Error(`未知的栅格图案: ${pattern}`);
+      }
+      data[y * width + x] = v;
+    }
+  }
+  return data;
+}
+
+// 与 BenchFixtures.argb 逐像素一致，输出 getImageData 形式的 RGBA
+function rgba(width, height, seed) {
+  const data = new Uint8Array(width * height * 4);
+  let state = seed | 0;
+  for (let y = 0, i = 0; y < height; y++) {
+    for (let x = 0; x < width; x++, i += 4) {
+      if (y % 10 === 0) {
+        data.fill(255, i, i + 3);
+      } else if (y % 10 !== 5) {
+        state = (Math.imul(state, 1103515245) + 12345) | 0;
+        data[i] = (state >>> 16) & 0xFF;
+        data[i + 1] = (state >>> 8) & 0xFF;
+        data[i + 2] = (state >>> 24) & 0xFF;
+      }
+      data[i + 3] = 255;
+    }
+  }
+  return data;
+}
+
+const fixtures = JSON.parse(readFileSync(join(dir, 'fixtures.json'), 'utf8'));
+const server = await createServer({
+  root,
+  server: { middlewareMode: true },
+  appType: 'custom',
+  logLevel: 'error',
+});
+try {
+  const { generateScanGCodeFromRaster, platformPixelsToGray } = await server.ssrLoadModule('/lib/gcode.ts');
+  for (const f of fixtures) {
+    const data = raster(f.pattern, f.width, f.height, f.seed);
+    const gcode = generateScanGCodeFromRaster({ width: f.width, height: f.height, data }, f.settings, {
+      layerName: f.layerName,
+      itemCount: f.itemCount,
+      platformWidth: f.platformWidth,
+      platformHeight: f.platformHeight,
+    });
+    writeFileSync(join(dir, `${f.name}.nc`), gcode);
+    console.log(`${f.name}.nc: ${gcode.length} 字符`);
+  }
+  const pixelFixtures = JSON.parse(readFileSync(join(dir, 'pixel-fixtures.json'), 'utf8'));
+  for (const f of pixelFixtures) {
+    const gray = platformPixelsToGray(rgba(f.width, f.height, f.seed), f.width, f.height, f.settings);
+    writeFileSync(join(dir, `${f.name}.gray`), Uint8Array.from(gray));
+    console.log(`${f.name}.gray: ${gray.length} 像素`);
+  }
+} finally {
+  await server.close();
+}
@@ -0,0 +1,2767 @@
+; Platform Scan G-Code for Nexcut
+; Layer: 渐变
+; Image Count: 1
+; Platform Size: 400x400 mm
+; Resolution: 0.1 mm/pixel (96x64 pixels)
+; Mode: Greyscale
+; Power Range: [10, 80] (0-100 scale)
+; Speed: Burn=1200 mm/min, Travel=6000 mm/min
+; Optimization: Skip blank rows/columns, fast travel for blank areas
+;
+G90 ; Absolute positioning
+G21 ; Units in millimeters
+M4 ; Enable laser (variable power mode)
+
+; Content detection: using threshold < 250 (instead of < 255) for better edge protection
+; Halftone processing: DISABLED - greyscale mode
+; Reverse Movement Offset (空移): 3 mm (30 pixels at 0.100 mm/pixel)
+; Content bounds: X[1.2, 8.3] Y[0.8, 5.5] mm
+; Actual scan range: X[-1.8, 11.3] mm (content + overscan)
+; Overscan application: Applied in greyscale mode for power ramping
+; Content pixels: minX=12, maxX=83, minY=8, maxY=55 (72x48 pixels)
+; Content area: 7.2x4.8 mm (reduced by 25.0%x25.0%)
+; Scan area optimized: 48 rows of 64 total (75.0%)
+
+G0 X-1.8Y0.8F6000
+G0 X1.1
+G1 X1.3S71F1200
+G1 X1.4S70
+G1 X1.5S69
+G1 X1.7S68
+G1 X1.8S67
+G1 X1.9S66
+G1 X2.1S65
+G1 X2.2S64
+G1 X2.3S63
+G1 X2.5S62
+G1 X2.6S61
+G1 X2.7S60
+G1 X2.9S59
+G1 X3S58
+G1 X3.2S57
+G1 X3.3S56
+G1 X3.4S55
+G1 X3.6S54
+G1 X3.7S53
+G1 X3.8S52
+G1 X4S51
+G1 X4.1S50
+G1 X4.2S49
+G1 X4.4S48
+G1 X4.5S47
+G1 X4.6S46
+G1 X4.8S45
+G1 X4.9S44
+G1 X5.1S43
+G1 X5.2S42
+G1 X5.3S41
+G1 X5.5S40
+G1 X5.6S39
+G1 X5.7S38
+G1 X5.9S37
+G1 X6S36
+G1 X6.1S35
+G1 X6.3S34
+G1 X6.4S33
+G1 X6.5S32
+G1 X6.7S31
+G1 X6.8S30
+G1 X7S29
+G1 X7.1S28
+G1 X7.2S27
+G1 X7.4S26
+G1 X7.5S25
+G1 X7.6S24
+G1 X7.8S23
+G1 X7.9S22
+G1 X8S21
+G1 X8.2S20
+G1 X8.3S19
+G0 X11.3F6000
+
+G0 Y0.9
+G0 X8.4
+G1 X8.3S19F1200
+G1 X8.1S20
+G1 X8S21
+G1 X7.9S22
+G1 X7.7S23
+G1 X7.6S24
+G1 X7.5S25
+G1 X7.3S26
+G1 X7.2S27
+G1 X7.1S28
+G1 X6.9S29
+G1 X6.8S30
+G1 X6.6S31
+G1 X6.5S32
+G1 X6.4S33
+G1 X6.2S34
+G1 X6.1S35
+G1 X6S36
+G1 X5.8S37
+G1 X5.7S38
+G1 X5.6S39
+G1 X5.4S40
+G1 X5.3S41
+G1 X5.2S42
+G1 X5S43
+G1 X4.9S44
+G1 X4.7S45
+G1 X4.6S46
+G1 X4.5S47
+G1 X4.3S48
+G1 X4.2S49
+G1 X4.1S50
+G1 X3.9S51
+G1 X3.8S52
+G1 X3.7S53
+G1 X3.5S54
+G1 X3.4S55
+G1 X3.3S56
+G1 X3.1S57
+G1 X3S58
+G1 X2.8S59
+G1 X2.7S60
+G1 X2.6S61
+G1 X2.4S62
+G1 X2.3S63
+G1 X2.2S64
+G1 X2S65
+G1 X1.9S66
+G1 X1.8S67
+G1 X1.6S68
+G1 X1.5S69
+G1 X1.4S70
+G1 X1.2S71
+G0 X-1.8F6000
+
+G0 Y1
+G0 X1.1
+G1 X1.3S71F1200
+G1 X1.4S70
+G1 X1.5S69
+G1 X1.7S68
+G1 X1.8S67
+G1 X1.9S66
+G1 X2.1S65
+G1 X2.2S64
+G1 X2.3S63
+G1 X2.5S62
+G1 X2.6S61
+G1 X2.7S60
+G1 X2.9S59
+G1 X3S58
+G1 X3.2S57
+G1 X3.3S56
+G1 X3.4S55
+G1 X3.6S54
+G1 X3.7S53
+G1 X3.8S52
+G1 X4S51
+G1 X4.1S50
+G1 X4.2S49
+G1 X4.4S48
+G1 X4.5S47
+G1 X4.6S46
+G1 X4.8S45
+G1 X4.9S44
+G1 X5.1S43
+G1 X5.2S42
+G1 X5.3S41
+G1 X5.5S40
+G1 X5.6S39
+G1 X5.7S38
+G1 X5.9S37
+G1 X6S36
+G1 X6.1S35
+G1 X6.3S34
+G1 X6.4S33
+G1 X6.5S32
+G1 X6.7S31
+G1 X6.8S30
+G1 X7S29
+G1 X7.1S28
+G1 X7.2S27
+G1 X7.4S26
+G1 X7.5S25
+G1 X7.6S24
+G1 X7.8S23
+G1 X7.9S22
+G1 X8S21
+G1 X8.2S20
+G1 X8.3S19
+G0 X11.3F6000
+
+G0 Y1.1
+G0 X8.4
+G1 X8.3S19F1200
+G1 X8.1S20
+G1 X8S21
+G1 X7.9S22
+G1 X7.7S23
+G1 X7.6S24
+G1 X7.5S25
+G1 X7.3S26
+G1 X7.2S27
+G1 X7.1S28
+G1 X6.9S29
+G1 X6.8S30
+G1 X6.6S31
+G1 X6.5S32
+G1 X6.4S33
+G1 X6.2S34
+G1 X6.1S35
+G1 X6S36
+G1 X5.8S37
+G1 X5.7S38
+G1 X5.6S39
+G1 X5.4S40
+G1 X5.3S41
+G1 X5.2S42
+G1 X5S43
+G1 X4.9S44
+G1 X4.7S45
+G1 X4.6S46
+G1 X4.5S47
+G1 X4.3S48
+G1 X4.2S49
+G1 X4.1S50
+G1 X3.9S51
+G1 X3.8S52
+G1 X3.7S53
+G1 X3.5S54
+G1 X3.4S55
+G1 X3.3S56
+G1 X3.1S57
+G1 X3S58
+G1 X2.8S59
+G1 X2.7S60
+G1 X2.6S61
+G1 X2.4S62
+G1 X2.3S63
+G1 X2.2S64
+G1 X2S65
+G1 X1.9S66
+G1 X1.8S67
+G1 X1.6S68
+G1 X1.5S69
+G1 X1.4S70
+G1 X1.2S71
+G0 X-1.8F6000
+
+G0 Y1.2
+G0 X1.1
+G1 X1.3S71F1200
+G1 X1.4S70
+G1 X1.5S69
+G1 X1.7S68
+G1 X1.8S67
+G1 X1.9S66
+G1 X2.1S65
+G1 X2.2S64
+G1 X2.3S63
+G1 X2.5S62
+G1 X2.6S61
+G1 X2.7S60
+G1 X2.9S59
+G1 X3S58
+G1 X3.2S57
+G1 X3.3S56
+G1 X3.4S55
+G1 X3.6S54
+G1 X3.7S53
+G1 X3.8S52
+G1 X4S51
+G1 X4.1S50
+G1 X4.2S49
+G1 X4.4S48
+G1 X4.5S47
+G1 X4.6S46
+G1 X4.8S45
+G1 X4.9S44
+G1 X5.1S43
+G1 X5.2S42
+G1 X5.3S41
+G1 X5.5S40
+G1 X5.6S39
+G1 X5.7S38
+G1 X5.9S37
+G1 X6S36
+G1 X6.1S35
+G1 X6.3S34
+G1 X6.4S33
+G1 X6.5S32
+G1 X6.7S31
+G1 X6.8S30
+G1 X7S29
+G1 X7.1S28
+G1 X7.2S27
+G1 X7.4S26
+G1 X7.5S25
+G1 X7.6S24
+G1 X7.8S23
+G1 X7.9S22
+G1 X8S21
+G1 X8.2S20
+G1 X8.3S19
+G0 X11.3F6000
+
+G0 Y1.3
+G0 X8.4
+G1 X8.3S19F1200
+G1 X8.1S20
+G1 X8S21
+G1 X7.9S22
+G1 X7.7S23
+G1 X7.6S24
+G1 X7.5S25
+G1 X7.3S26
+G1 X7.2S27
+G1 X7.1S28
+G1 X6.9S29
+G1 X6.8S30
+G1 X6.6S31
+G1 X6.5S32
+G1 X6.4S33
+G1 X6.2S34
+G1 X6.1S35
+G1 X6S36
+G1 X5.8S37
+G1 X5.7S38
+G1 X5.6S39
+G1 X5.4S40
+G1 X5.3S41
+G1 X5.2S42
+G1 X5S43
+G1 X4.9S44
+G1 X4.7S45
+G1 X4.6S46
+G1 X4.5S47
+G1 X4.3S48
+G1 X4.2S49
+G1 X4.1S50
+G1 X3.9S51
+G1 X3.8S52
+G1 X3.7S53
+G1 X3.5S54
+G1 X3.4S55
+G1 X3.3S56
+G1 X3.1S57
+G1 X3S58
+G1 X2.8S59
+G1 X2.7S60
+G1 X2.6S61
+G1 X2.4S62
+G1 X2.3S63
+G1 X2.2S64
+G1 X2S65
+G1 X1.9S66
+G1 X1.8S67
+G1 X1.6S68
+G1 X1.5S69
+G1 X1.4S70
+G1 X1.2S71
+G0 X-1.8F6000
+
+G0 Y1.4
+G0 X1.1
+G1 X1.3S71F1200
+G1 X1.4S70
+G1 X1.5S69
+G1 X1.7S68
+G1 X1.8S67
+G1 X1.9S66
+G1 X2.1S65
+G1 X2.2S64
+G1 X2.3S63
+G1 X2.5S62
+G1 X2.6S61
+G1 X2.7S60
+G1 X2.9S59
+G1 X3S58
+G1 X3.2S57
+G1 X3.3S56
+G1 X3.4S55
+G1 X3.6S54
+G1 X3.7S53
+G1 X3.8S52
+G1 X4S51
+G1 X4.1S50
+G1 X4.2S49
+G1 X4.4S48
+G1 X4.5S47
+G1 X4.6S46
+G1 X4.8S45
+G1 X4.9S44
+G1 X5.1S43
+G1 X5.2S42
+G1 X5.3S41
+G1 X5.5S40
+G1 X5.6S39
+G1 X5.7S38
+G1 X5.9S37
+G1 X6S36
+G1 X6.1S35
+G1 X6.3S34
+G1 X6.4S33
+G1 X6.5S32
+G1 X6.7S31
+G1 X6.8S30
+G1 X7S29
+G1 X7.1S28
+G1 X7.2S27
+G1 X7.4S26
+G1 X7.5S25
+G1 X7.6S24
+G1 X7.8S23
+G1 X7.9S22
+G1 X8S21
+G1 X8.2S20
+G1 X8.3S19
+G0 X11.3F6000
+
+G0 Y1.5
+G0 X8.4
+G1 X8.3S19F1200
+G1 X8.1S20
+G1 X8S21
+G1 X7.9S22
+G1 X7.7S23
+G1 X7.6S24
+G1 X7.5S25
+G1 X7.3S26
+G1 X7.2S27
+G1 X7.1S28
+G1 X6.9S29
+G1 X6.8S30
+G1 X6.6S31
+G1 X6.5S32
+G1 X6.4S33
+G1 X6.2S34
+G1 X6.1S35
+G1 X6S36
+G1 X5.8S37
+G1 X5.7S38
+G1 X5.6S39
+G1 X5.4S40
+G1 X5.3S41
+G1 X5.2S42
+G1 X5S43
+G1 X4.9S44
+G1 X4.7S45
+G1 X4.6S46
+G1 X4.5S47
+G1 X4.3S48
+G1 X4.2S49
+G1 X4.1S50
+G1 X3.9S51
+G1 X3.8S52
+G1 X3.7S53
+G1 X3.5S54
+G1 X3.4S55
+G1 X3.3S56
+G1 X3.1S57
+G1 X3S58
+G1 X2.8S59
+G1 X2.7S60
+G1 X2.6S61
+G1 X2.4S62
+G1 X2.3S63
+G1 X2.2S64
+G1 X2S65
+G1 X1.9S66
+G1 X1.8S67
+G1 X1.6S68
+G1 X1.5S69
+G1 X1.4S70
+G1 X1.2S71
+G0 X-1.8F6000
+
+G0 Y1.6
+G0 X1.1
+G1 X1.3S71F1200
+G1 X1.4S70
+G1 X1.5S69
+G1 X1.7S68
+G1 X1.8S67
+G1 X1.9S66
+G1 X2.1S65
+G1 X2.2S64
+G1 X2.3S63
+G1 X2.5S62
+G1 X2.6S61
+G1 X2.7S60
+G1 X2.9S59
+G1 X3S58
+G1 X3.2S57
+G1 X3.3S56
+G1 X3.4S55
+G1 X3.6S54
+G1 X3.7S53
+G1 X3.8S52
+G1 X4S51
+G1 X4.1S50
+G1 X4.2S49
+G1 X4.4S48
+G1 X4.5S47
+G1 X4.6S46
+G1 X4.8S45
+G1 X4.9S44
+G1 X5.1S43
+G1 X5.2S42
+G1 X5.3S41
+G1 X5.5S40
+G1 X5.6S39
+G1 X5.7S38
+G1 X5.9S37
+G1 X6S36
+G1 X6.1S35
+G1 X6.3S34
+G1 X6.4S33
+G1 X6.5S32
+G1 X6.7S31
+G1 X6.8S30
+G1 X7S29
+G1 X7.1S28
+G1 X7.2S27
+G1 X7.4S26
+G1 X7.5S25
+G1 X7.6S24
+G1 X7.8S23
+G1 X7.9S22
+G1 X8S21
+G1 X8.2S20
+G1 X8.3S19
+G0 X11.3F6000
+
+G0 Y1.7
+G0 X8.4
+G1 X8.3S19F1200
+G1 X8.1S20
+G1 X8S21
+G1 X7.9S22
+G1 X7.7S23
+G1 X7.6S24
+G1 X7.5S25
+G1 X7.3S26
+G1 X7.2S27
+G1 X7.1S28
+G1 X6.9S29
+G1 X6.8S30
+G1 X6.6S31
+G1 X6.5S32
+G1 X6.4S33
+G1 X6.2S34
+G1 X6.1S35
+G1 X6S36
+G1 X5.8S37
+G1 X5.7S38
+G1 X5.6S39
+G1 X5.4S40
+G1 X5.3S41
+G1 X5.2S42
+G1 X5S43
+G1 X4.9S44
+G1 X4.7S45
+G1 X4.6S46
+G1 X4.5S47
+G1 X4.3S48
+G1 X4.2S49
+G1 X4.1S50
+G1 X3.9S51
+G1 X3.8S52
+G1 X3.7S53
+G1 X3.5S54
+G1 X3.4S55
+G1 X3.3S56
+G1 X3.1S57
+G1 X3S58
+G1 X2.8S59
+G1 X2.7S60
+G1 X2.6S61
+G1 X2.4S62
+G1 X2.3S63
+G1 X2.2S64
+G1 X2S65
+G1 X1.9S66
+G1 X1.8S67
+G1 X1.6S68
+G1 X1.5S69
+G1 X1.4S70
+G1 X1.2S71
+G0 X-1.8F6000
+
+G0 Y1.8
+G0 X1.1
+G1 X1.3S71F1200
+G1 X1.4S70
+G1 X1.5S69
+G1 X1.7S68
+G1 X1.8S67
+G1 X1.9S66
+G1 X2.1S65
+G1 X2.2S64
+G1 X2.3S63
+G1 X2.5S62
+G1 X2.6S61
+G1 X2.7S60
+G1 X2.9S59
+G1 X3S58
+G1 X3.2S57
+G1 X3.3S56
+G1 X3.4S55
+G1 X3.6S54
+G1 X3.7S53
+G1 X3.8S52
+G1 X4S51
+G1 X4.1S50
+G1 X4.2S49
+G1 X4.4S48
+G1 X4.5S47
+G1 X4.6S46
+G1 X4.8S45
+G1 X4.9S44
+G1 X5.1S43
+G1 X5.2S42
+G1 X5.3S41
+G1 X5.5S40
+G1 X5.6S39
+G1 X5.7S38
+G1 X5.9S37
+G1 X6S36
+G1 X6.1S35
+G1 X6.3S34
+G1 X6.4S33
+G1 X6.5S32
+G1 X6.7S31
+G1 X6.8S30
+G1 X7S29
+G1 X7.1S28
+G1 X7.2S27
+G1 X7.4S26
+G1 X7.5S25
+G1 X7.6S24
+G1 X7.8S23
+G1 X7.9S22
+G1 X8S21
+G1 X8.2S20
+G1 X8.3S19
+G0 X11.3F6000
+
+G0 Y1.9
+G0 X8.4
+G1 X8.3S19F1200
+G1 X8.1S20
+G1 X8S21
+G1 X7.9S22
+G1 X7.7S23
+G1 X7.6S24
+G1 X7.5S25
+G1 X7.3S26
+G1 X7.2S27
+G1 X7.1S28
+G1 X6.9S29
+G1 X6.8S30
+G1 X6.6S31
+G1 X6.5S32
+G1 X6.4S33
+G1 X6.2S34
+G1 X6.1S35
+G1 X6S36
+G1 X5.8S37
+G1 X5.7S38
+G1 X5.6S39
+G1 X5.4S40
+G1 X5.3S41
+G1 X5.2S42
+G1 X5S43
+G1 X4.9S44
+G1 X4.7S45
+G1 X4.6S46
+G1 X4.5S47
+G1 X4.3S48
+G1 X4.2S49
+G1 X4.1S50
+G1 X3.9S51
+G1 X3.8S52
+G1 X3.7S53
+G1 X3.5S54
+G1 X3.4S55
+G1 X3.3S56
+G1 X3.1S57
+G1 X3S58
+G1 X2.8S59
+G1 X2.7S60
+G1 X2.6S61
+G1 X2.4S62
+G1 X2.3S63
+G1 X2.2S64
+G1 X2S65
+G1 X1.9S66
+G1 X1.8S67
+G1 X1.6S68
+G1 X1.5S69
+G1 X1.4S70
+G1 X1.2S71
+G0 X-1.8F6000
+
+G0 Y2
+G0 X1.1
+G1 X1.3S71F1200
+G1 X1.4S70
+G1 X1.5S69
+G1 X1.7S68
+G1 X1.8S67
+G1 X1.9S66
+G1 X2.1S65
+G1 X2.2S64
+G1 X2.3S63
+G1 X2.5S62
+G1 X2.6S61
+G1 X2.7S60
+G1 X2.9S59
+G1 X3S58
+G1 X3.2S57
+G1 X3.3S56
+G1 X3.4S55
+G1 X3.6S54
+G1 X3.7S53
+G1 X3.8S52
+G1 X4S51
+G1 X4.1S50
+G1 X4.2S49
+G1 X4.4S48
+G1 X4.5S47
+G1 X4.6S46
+G1 X4.8S45
+G1 X4.9S44
+G1 X5.1S43
+G1 X5.2S42
+G1 X5.3S41
+G1 X5.5S40
+G1 X5.6S39
+G1 X5.7S38
+G1 X5.9S37
+G1 X6S36
+G1 X6.1S35
+G1 X6.3S34
+G1 X6.4S33
+G1 X6.5S32
+G1 X6.7S31
+G1 X6.8S30
+G1 X7S29
+G1 X7.1S28
+G1 X7.2S27
+G1 X7.4S26
+G1 X7.5S25
+G1 X7.6S24
+G1 X7.8S23
+G1 X7.9S22
+G1 X8S21
+G1 X8.2S20
+G1 X8.3S19
+G0 X11.3F6000
+
+G0 Y2.1
+G0 X8.4
+G1 X8.3S19F1200
+G1 X8.1S20
+G1 X8S21
+G1 X7.9S22
+G1 X7.7S23
+G1 X7.6S24
+G1 X7.5S25
+G1 X7.3S26
+G1 X7.2S27
+G1 X7.1S28
+G1 X6.9S29
+G1 X6.8S30
+G1 X6.6S31
+G1 X6.5S32
+G1 X6.4S33
+G1 X6.2S34
+G1 X6.1S35
+G1 X6S36
+G1 X5.8S37
+G1 X5.7S38
+G1 X5.6S39
+G1 X5.4S40
+G1 X5.3S41
+G1 X5.2S42
+G1 X5S43
+G1 X4.9S44
+G1 X4.7S45
+G1 X4.6S46
+G1 X4.5S47
+G1 X4.3S48
+G1 X4.2S49
+G1 X4.1S50
+G1 X3.9S51
+G1 X3.8S52
+G1 X3.7S53
+G1 X3.5S54
+G1 X3.4S55
+G1 X3.3S56
+G1 X3.1S57
+G1 X3S58
+G1 X2.8S59
+G1 X2.7S60
+G1 X2.6S61
+G1 X2.4S62
+G1 X2.3S63
+G1 X2.2S64
+G1 X2S65
+G1 X1.9S66
+G1 X1.8S67
+G1 X1.6S68
+G1 X1.5S69
+G1 X1.4S70
+G1 X1.2S71
+G0 X-1.8F6000
+
+G0 Y2.2
+G0 X1.1
+G1 X1.3S71F1200
+G1 X1.4S70
+G1 X1.5S69
+G1 X1.7S68
+G1 X1.8S67
+G1 X1.9S66
+G1 X2.1S65
+G1 X2.2S64
+G1 X2.3S63
+G1 X2.5S62
+G1 X2.6S61
+G1 X2.7S60
+G1 X2.9S59
+G1 X3S58
+G1 X3.2S57
+G1 X3.3S56
+G1 X3.4S55
+G1 X3.6S54
+G1 X3.7S53
+G1 X3.8S52
+G1 X4S51
+G1 X4.1S50
+G1 X4.2S49
+G1 X4.4S48
+G1 X4.5S47
+G1 X4.6S46
+G1 X4.8S45
+G1 X4.9S44
+G1 X5.1S43
+G1 X5.2S42
+G1 X5.3S41
+G1 X5.5S40
+G1 X5.6S39
+G1 X5.7S38
+G1 X5.9S37
+G1 X6S36
+G1 X6.1S35
+G1 X6.3S34
+G1 X6.4S33
+G1 X6.5S32
+G1 X6.7S31
+G1 X6.8S30
+G1 X7S29
+G1 X7.1S28
+G1 X7.2S27
+G1 X7.4S26
+G1 X7.5S25
+G1 X7.6S24
+G1 X7.8S23
+G1 X7.9S22
+G1 X8S21
+G1 X8.2S20
+G1 X8.3S19
+G0 X11.3F6000
+
+G0 Y2.3
+G0 X8.4
+G1 X8.3S19F1200
+G1 X8.1S20
+G1 X8S21
+G1 X7.9S22
+G1 X7.7S23
+G1 X7.6S24
+G1 X7.5S25
+G1 X7.3S26
+G1 X7.2S27
+G1 X7.1S28
+G1 X6.9S29
+G1 X6.8S30
+G1 X6.6S31
+G1 X6.5S32
+G1 X6.4S33
+G1 X6.2S34
+G1 X6.1S35
+G1 X6S36
+G1 X5.8S37
+G1 X5.7S38
+G1 X5.6S39
+G1 X5.4S40
+G1 X5.3S41
+G1 X5.2S42
+G1 X5S43
+G1 X4.9S44
+G1 X4.7S45
+G1 X4.6S46
+G1 X4.5S47
+G1 X4.3S48
+G1 X4.2S49
+G1 X4.1S50
+G1 X3.9S51
+G1 X3.8S52
+G1 X3.7S53
+G1 X3.5S54
+G1 X3.4S55
+G1 X3.3S56
+G1 X3.1S57
+G1 X3S58
+G1 X2.8S59
+G1 X2.7S60
+G1 X2.6S61
+G1 X2.4S62
+G1 X2.3S63
+G1 X2.2S64
+G1 X2S65
+G1 X1.9S66
+G1 X1.8S67
+G1 X1.6S68
+G1 X1.5S69
+G1 X1.4S70
+G1 X1.2S71
+G0 X-1.8F6000
+
+G0 Y2.4
+G0 X1.1
+G1 X1.3S71F1200
+G1 X1.4S70
+G1 X1.5S69
+G1 X1.7S68
+G1 X1.8S67
+G1 X1.9S66
+G1 X2.1S65
+G1 X2.2S64
+G1 X2.3S63
+G1 X2.5S62
+G1 X2.6S61
+G1 X2.7S60
+G1 X2.9S59
+G1 X3S58
+G1 X3.2S57
+G1 X3.3S56
+G1 X3.4S55
+G1 X3.6S54
+G1 X3.7S53
+G1 X3.8S52
+G1 X4S51
+G1 X4.1S50
+G1 X4.2S49
+G1 X4.4S48
+G1 X4.5S47
+G1 X4.6S46
+G1 X4.8S45
+G1 X4.9S44
+G1 X5.1S43
+G1 X5.2S42
+G1 X5.3S41
+G1 X5.5S40
+G1 X5.6S39
+G1 X5.7S38
+G1 X5.9S37
+G1 X6S36
+G1 X6.1S35
+G1 X6.3S34
+G1 X6.4S33
+G1 X6.5S32
+G1 X6.7S31
+G1 X6.8S30
+G1 X7S29
+G1 X7.1S28
+G1 X7.2S27
+G1 X7.4S26
+G1 X7.5S25
+G1 X7.6S24
+G1 X7.8S23
+G1 X7.9S22
+G1 X8S21
+G1 X8.2S20
+G1 X8.3S19
+G0 X11.3F6000
+
+G0 Y2.5
+G0 X8.4
+G1 X8.3S19F1200
+G1 X8.1S20
+G1 X8S21
+G1 X7.9S22
+G1 X7.7S23
+G1 X7.6S24
+G1 X7.5S25
+G1 X7.3S26
+G1 X7.2S27
+G1 X7.1S28
+G1 X6.9S29
+G1 X6.8S30
+G1 X6.6S31
+G1 X6.5S32
+G1 X6.4S33
+G1 X6.2S34
+G1 X6.1S35
+G1 X6S36
+G1 X5.8S37
+G1 X5.7S38
+G1 X5.6S39
+G1 X5.4S40
+G1 X5.3S41
+G1 X5.2S42
+G1 X5S43
+G1 X4.9S44
+G1 X4.7S45
+G1 X4.6S46
+G1 X4.5S47
+G1 X4.3S48
+G1 X4.2S49
+G1 X4.1S50
+G1 X3.9S51
+G1 X3.8S52
+G1 X3.7S53
+G1 X3.5S54
+G1 X3.4S55
+G1 X3.3S56
+G1 X3.1S57
+G1 X3S58
+G1 X2.8S59
+G1 X2.7S60
+G1 X2.6S61
+G1 X2.4S62
+G1 X2.3S63
+G1 X2.2S64
+G1 X2S65
+G1 X1.9S66
+G1 X1.8S67
+G1 X1.6S68
+G1 X1.5S69
+G1 X1.4S70
+G1 X1.2S71
+G0 X-1.8F6000
+
+G0 Y2.6
+G0 X1.1
+G1 X1.3S71F1200
+G1 X1.4S70
+G1 X1.5S69
+G1 X1.7S68
+G1 X1.8S67
+G1 X1.9S66
+G1 X2.1S65
+G1 X2.2S64
+G1 X2.3S63
+G1 X2.5S62
+G1 X2.6S61
+G1 X2.7S60
+G1 X2.9S59
+G1 X3S58
+G1 X3.2S57
+G1 X3.3S56
+G1 X3.4S55
+G1 X3.6S54
+G1 X3.7S53
+G1 X3.8S52
+G1 X4S51
+G1 X4.1S50
+G1 X4.2S49
+G1 X4.4S48
+G1 X4.5S47
+G1 X4.6S46
+G1 X4.8S45
+G1 X4.9S44
+G1 X5.1S43
+G1 X5.2S42
+G1 X5.3S41
+G1 X5.5S40
+G1 X5.6S39
+G1 X5.7S38
+G1 X5.9S37
+G1 X6S36
+G1 X6.1S35
+G1 X6.3S34
+G1 X6.4S33
+G1 X6.5S32
+G1 X6.7S31
+G1 X6.8S30
+G1 X7S29
+G1 X7.1S28
+G1 X7.2S27
+G1 X7.4S26
+G1 X7.5S25
+G1 X7.6S24
+G1 X7.8S23
+G1 X7.9S22
+G1 X8S21
+G1 X8.2S20
+G1 X8.3S19
+G0 X11.3F6000
+
+G0 Y2.7
+G0 X8.4
+G1 X8.3S19F1200
+G1 X8.1S20
+G1 X8S21
+G1 X7.9S22
+G1 X7.7S23
+G1 X7.6S24
+G1 X7.5S25
+G1 X7.3S26
+G1 X7.2S27
+G1 X7.1S28
+G1 X6.9S29
+G1 X6.8S30
+G1 X6.6S31
+G1 X6.5S32
+G1 X6.4S33
+G1 X6.2S34
+G1 X6.1S35
+G1 X6S36
+G1 X5.8S37
+G1 X5.7S38
+G1 X5.6S39
+G1 X5.4S40
+G1 X5.3S41
+G1 X5.2S42
+G1 X5S43
+G1 X4.9S44
+G1 X4.7S45
+G1 X4.6S46
+G1 X4.5S47
+G1 X4.3S48
+G1 X4.2S49
+G1 X4.1S50
+G1 X3.9S51
+G1 X3.8S52
+G1 X3.7S53
+G1 X3.5S54
+G1 X3.4S55
+G1 X3.3S56
+G1 X3.1S57
+G1 X3S58
+G1 X2.8S59
+G1 X2.7S60
+G1 X2.6S61
+G1 X2.4S62
+G1 X2.3S63
+G1 X2.2S64
+G1 X2S65
+G1 X1.9S66
+G1 X1.8S67
+G1 X1.6S68
+G1 X1.5S69
+G1 X1.4S70
+G1 X1.2S71
+G0 X-1.8F6000
+
+G0 Y2.8
+G0 X1.1
+G1 X1.3S71F1200
+G1 X1.4S70
+G1 X1.5S69
+G1 X1.7S68
+G1 X1.8S67
+G1 X1.9S66
+G1 X2.1S65
+G1 X2.2S64
+G1 X2.3S63
+G1 X2.5S62
+G1 X2.6S61
+G1 X2.7S60
+G1 X2.9S59
+G1 X3S58
+G1 X3.2S57
+G1 X3.3S56
+G1 X3.4S55
+G1 X3.6S54
+G1 X3.7S53
+G1 X3.8S52
+G1 X4S51
+G1 X4.1S50
+G1 X4.2S49
+G1 X4.4S48
+G1 X4.5S47
+G1 X4.6S46
+G1 X4.8S45
+G1 X4.9S44
+G1 X5.1S43
+G1 X5.2S42
+G1 X5.3S41
+G1 X5.5S40
+G1 X5.6S39
+G1 X5.7S38
+G1 X5.9S37
+G1 X6S36
+G1 X6.1S35
+G1 X6.3S34
+G1 X6.4S33
+G1 X6.5S32
+G1 X6.7S31
+G1 X6.8S30
+G1 X7S29
+G1 X7.1S28
+G1 X7.2S27
+G1 X7.4S26
+G1 X7.5S25
+G1 X7.6S24
+G1 X7.8S23
+G1 X7.9S22
+G1 X8S21
+G1 X8.2S20
+G1 X8.3S19
+G0 X11.3F6000
+
+G0 Y2.9
+G0 X8.4
+G1 X8.3S19F1200
+G1 X8.1S20
+G1 X8S21
+G1 X7.9S22
+G1 X7.7S23
+G1 X7.6S24
+G1 X7.5S25
+G1 X7.3S26
+G1 X7.2S27
+G1 X7.1S28
+G1 X6.9S29
+G1 X6.8S30
+G1 X6.6S31
+G1 X6.5S32
+G1 X6.4S33
+G1 X6.2S34
+G1 X6.1S35
+G1 X6S36
+G1 X5.8S37
+G1 X5.7S38
+G1 X5.6S39
+G1 X5.4S40
+G1 X5.3S41
+G1 X5.2S42
+G1 X5S43
+G1 X4.9S44
+G1 X4.7S45
+G1 X4.6S46
+G1 X4.5S47
+G1 X4.3S48
+G1 X4.2S49
+G1 X4.1S50
+G1 X3.9S51
+G1 X3.8S52
+G1 X3.7S53
+G1 X3.5S54
+G1 X3.4S55
+G1 X3.3S56
+G1 X3.1S57
+G1 X3S58
+G1 X2.8S59
+G1 X2.7S60
+G1 X2.6S61
+G1 X2.4S62
+G1 X2.3S63
+G1 X2.2S64
+G1 X2S65
+G1 X1.9S66
+G1 X1.8S67
+G1 X1.6S68
+G1 X1.5S69
+G1 X1.4S70
+G1 X1.2S71
+G0 X-1.8F6000
+
+G0 Y3
+G0 X1.1
+G1 X1.3S71F1200
+G1 X1.4S70
+G1 X1.5S69
+G1 X1.7S68
+G1 X1.8S67
+G1 X1.9S66
+G1 X2.1S65
+G1 X2.2S64
+G1 X2.3S63
+G1 X2.5S62
+G1 X2.6S61
+G1 X2.7S60
+G1 X2.9S59
+G1 X3S58
+G1 X3.2S57
+G1 X3.3S56
+G1 X3.4S55
+G1 X3.6S54
+G1 X3.7S53
+G1 X3.8S52
+G1 X4S51
+G1 X4.1S50
+G1 X4.2S49
+G1 X4.4S48
+G1 X4.5S47
+G1 X4.6S46
+G1 X4.8S45
+G1 X4.9S44
+G1 X5.1S43
+G1 X5.2S42
+G1 X5.3S41
+G1 X5.5S40
+G1 X5.6S39
+G1 X5.7S38
+G1 X5.9S37
+G1 X6S36
+G1 X6.1S35
+G1 X6.3S34
+G1 X6.4S33
+G1 X6.5S32
+G1 X6.7S31
+G1 X6.8S30
+G1 X7S29
+G1 X7.1S28
+G1 X7.2S27
+G1 X7.4S26
+G1 X7.5S25
+G1 X7.6S24
+G1 X7.8S23
+G1 X7.9S22
+G1 X8S21
+G1 X8.2S20
+G1 X8.3S19
+G0 X11.3F6000
+
+G0 Y3.1
+G0 X8.4
+G1 X8.3S19F1200
+G1 X8.1S20
+G1 X8S21
+G1 X7.9S22
+G1 X7.7S23
+G1 X7.6S24
+G1 X7.5S25
+G1 X7.3S26
+G1 X7.2S27
+G1 X7.1S28
+G1 X6.9S29
+G1 X6.8S30
+G1 X6.6S31
+G1 X6.5S32
+G1 X6.4S33
+G1 X6.2S34
+G1 X6.1S35
+G1 X6S36
+G1 X5.8S37
+G1 X5.7S38
+G1 X5.6S39
+G1 X5.4S40
+G1 X5.3S41
+G1 X5.2S42
+G1 X5S43
+G1 X4.9S44
+G1 X4.7S45
+G1 X4.6S46
+G1 X4.5S47
+G1 X4.3S48
+G1 X4.2S49
+G1 X4.1S50
+G1 X3.9S51
+G1 X3.8S52
+G1 X3.7S53
+G1 X3.5S54
+G1 X3.4S55
+G1 X3.3S56
+G1 X3.1S57
+G1 X3S58
+G1 X2.8S59
+G1 X2.7S60
+G1 X2.6S61
+G1 X2.4S62
+G1 X2.3S63
+G1 X2.2S64
+G1 X2S65
+G1 X1.9S66
+G1 X1.8S67
+G1 X1.6S68
+G1 X1.5S69
+G1 X1.4S70
+G1 X1.2S71
+G0 X-1.8F6000
+
+G0 Y3.2
+G0 X1.1
+G1 X1.3S71F1200
+G1 X1.4S70
+G1 X1.5S69
+G1 X1.7S68
+G1 X1.8S67
+G1 X1.9S66
+G1 X2.1S65
+G1 X2.2S64
+G1 X2.3S63
+G1 X2.5S62
+G1 X2.6S61
+G1 X2.7S60
+G1 X2.9S59
+G1 X3S58
+G1 X3.2S57
+G1 X3.3S56
+G1 X3.4S55
+G1 X3.6S54
+G1 X3.7S53
+G1 X3.8S52
+G1 X4S51
+G1 X4.1S50
+G1 X4.2S49
+G1 X4.4S48
+G1 X4.5S47
+G1 X4.6S46
+G1 X4.8S45
+G1 X4.9S44
+G1 X5.1S43
+G1 X5.2S42
+G1 X5.3S41
+G1 X5.5S40
+G1 X5.6S39
+G1 X5.7S38
+G1 X5.9S37
+G1 X6S36
+G1 X6.1S35
+G1 X6.3S34
+G1 X6.4S33
+G1 X6.5S32
+G1 X6.7S31
+G1 X6.8S30
+G1 X7S29
+G1 X7.1S28
+G1 X7.2S27
+G1 X7.4S26
+G1 X7.5S25
+G1 X7.6S24
+G1 X7.8S23
+G1 X7.9S22
+G1 X8S21
+G1 X8.2S20
+G1 X8.3S19
+G0 X11.3F6000
+
+G0 Y3.3
+G0 X8.4
+G1 X8.3S19F1200
+G1 X8.1S20
+G1 X8S21
+G1 X7.9S22
+G1 X7.7S23
+G1 X7.6S24
+G1 X7.5S25
+G1 X7.3S26
+G1 X7.2S27
+G1 X7.1S28
+G1 X6.9S29
+G1 X6.8S30
+G1 X6.6S31
+G1 X6.5S32
+G1 X6.4S33
+G1 X6.2S34
+G1 X6.1S35
+G1 X6S36
+G1 X5.8S37
+G1 X5.7S38
+G1 X5.6S39
+G1 X5.4S40
+G1 X5.3S41
+G1 X5.2S42
+G1 X5S43
+G1 X4.9S44
+G1 X4.7S45
+G1 X4.6S46
+G1 X4.5S47
+G1 X4.3S48
+G1 X4.2S49
+G1 X4.1S50
+G1 X3.9S51
+G1 X3.8S52
+G1 X3.7S53
+G1 X3.5S54
+G1 X3.4S55
+G1 X3.3S56
+G1 X3.1S57
+G1 X3S58
+G1 X2.8S59
+G1 X2.7S60
+G1 X2.6S61
+G1 X2.4S62
+G1 X2.3S63
+G1 X2.2S64
+G1 X2S65
+G1 X1.9S66
+G1 X1.8S67
+G1 X1.6S68
+G1 X1.5S69
+G1 X1.4S70
+G1 X1.2S71
+G0 X-1.8F6000
+
+G0 Y3.4
+G0 X1.1
+G1 X1.3S71F1200
+G1 X1.4S70
+G1 X1.5S69
+G1 X1.7S68
+G1 X1.8S67
+G1 X1.9S66
+G1 X2.1S65
+G1 X2.2S64
+G1 X2.3S63
+G1 X2.5S62
+G1 X2.6S61
+G1 X2.7S60
+G1 X2.9S59
+G1 X3S58
+G1 X3.2S57
+G1 X3.3S56
+G1 X3.4S55
+G1 X3.6S54
+G1 X3.7S53
+G1 X3.8S52
+G1 X4S51
+G1 X4.1S50
+G1 X4.2S49
+G1 X4.4S48
+G1 X4.5S47
+G1 X4.6S46
+G1 X4.8S45
+G1 X4.9S44
+G1 X5.1S43
+G1 X5.2S42
+G1 X5.3S41
+G1 X5.5S40
+G1 X5.6S39
+G1 X5.7S38
+G1 X5.9S37
+G1 X6S36
+G1 X6.1S35
+G1 X6.3S34
+G1 X6.4S33
+G1 X6.5S32
+G1 X6.7S31
+G1 X6.8S30
+G1 X7S29
+G1 X7.1S28
+G1 X7.2S27
+G1 X7.4S26
+G1 X7.5S25
+G1 X7.6S24
+G1 X7.8S23
+G1 X7.9S22
+G1 X8S21
+G1 X8.2S20
+G1 X8.3S19
+G0 X11.3F6000
+
+G0 Y3.5
+G0 X8.4
+G1 X8.3S19F1200
+G1 X8.1S20
+G1 X8S21
+G1 X7.9S22
+G1 X7.7S23
+G1 X7.6S24
+G1 X7.5S25
+G1 X7.3S26
+G1 X7.2S27
+G1 X7.1S28
+G1 X6.9S29
+G1 X6.8S30
+G1 X6.6S31
+G1 X6.5S32
+G1 X6.4S33
+G1 X6.2S34
+G1 X6.1S35
+G1 X6S36
+G1 X5.8S37
+G1 X5.7S38
+G1 X5.6S39
+G1 X5.4S40
+G1 X5.3S41
+G1 X5.2S42
+G1 X5S43
+G1 X4.9S44
+G1 X4.7S45
+G1 X4.6S46
+G1 X4.5S47
+G1 X4.3S48
+G1 X4.2S49
+G1 X4.1S50
+G1 X3.9S51
+G1 X3.8S52
+G1 X3.7S53
+G1 X3.5S54
+G1 X3.4S55
+G1 X3.3S56
+G1 X3.1S57
+G1 X3S58
+G1 X2.8S59
+G1 X2.7S60
+G1 X2.6S61
+G1 X2.4S62
+G1 X2.3S63
+G1 X2.2S64
+G1 X2S65
+G1 X1.9S66
+G1 X1.8S67
+G1 X1.6S68
+G1 X1.5S69
+G1 X1.4S70
+G1 X1.2S71
+G0 X-1.8F6000
+
+G0 Y3.6
+G0 X1.1
+G1 X1.3S71F1200
+G1 X1.4S70
+G1 X1.5S69
+G1 X1.7S68
+G1 X1.8S67
+G1 X1.9S66
+G1 X2.1S65
+G1 X2.2S64
+G1 X2.3S63
+G1 X2.5S62
+G1 X2.6S61
+G1 X2.7S60
+G1 X2.9S59
+G1 X3S58
+G1 X3.2S57
+G1 X3.3S56
+G1 X3.4S55
+G1 X3.6S54
+G1 X3.7S53
+G1 X3.8S52
+G1 X4S51
+G1 X4.1S50
+G1 X4.2S49
+G1 X4.4S48
+G1 X4.5S47
+G1 X4.6S46
+G1 X4.8S45
+G1 X4.9S44
+G1 X5.1S43
+G1 X5.2S42
+G1 X5.3S41
+G1 X5.5S40
+G1 X5.6S39
+G1 X5.7S38
+G1 X5.9S37
+G1 X6S36
+G1 X6.1S35
+G1 X6.3S34
+G1 X6.4S33
+G1 X6.5S32
+G1 X6.7S31
+G1 X6.8S30
+G1 X7S29
+G1 X7.1S28
+G1 X7.2S27
+G1 X7.4S26
+G1 X7.5S25
+G1 X7.6S24
+G1 X7.8S23
+G1 X7.9S22
+G1 X8S21
+G1 X8.2S20
+G1 X8.3S19
+G0 X11.3F6000
+
+G0 Y3.7
+G0 X8.4
+G1 X8.3S19F1200
+G1 X8.1S20
+G1 X8S21
+G1 X7.9S22
+G1 X7.7S23
+G1 X7.6S24
+G1 X7.5S25
+G1 X7.3S26
+G1 X7.2S27
+G1 X7.1S28
+G1 X6.9S29
+G1 X6.8S30
+G1 X6.6S31
+G1 X6.5S32
+G1 X6.4S33
+G1 X6.2S34
+G1 X6.1S35
+G1 X6S36
+G1 X5.8S37
+G1 X5.7S38
+G1 X5.6S39
+G1 X5.4S40
+G1 X5.3S41
+G1 X5.2S42
+G1 X5S43
+G1 X4.9S44
+G1 X4.7S45
+G1 X4.6S46
+G1 X4.5S47
+G1 X4.3S48
+G1 X4.2S49
+G1 X4.1S50
+G1 X3.9S51
+G1 X3.8S52
+G1 X3.7S53
+G1 X3.5S54
+G1 X3.4S55
+G1 X3.3S56
+G1 X3.1S57
+G1 X3S58
+G1 X2.8S59
+G1 X2.7S60
+G1 X2.6S61
+G1 X2.4S62
+G1 X2.3S63
+G1 X2.2S64
+G1 X2S65
+G1 X1.9S66
+G1 X1.8S67
+G1 X1.6S68
+G1 X1.5S69
+G1 X1.4S70
+G1 X1.2S71
+G0 X-1.8F6000
+
+G0 Y3.8
+G0 X1.1
+G1 X1.3S71F1200
+G1 X1.4S70
+G1 X1.5S69
+G1 X1.7S68
+G1 X1.8S67
+G1 X1.9S66
+G1 X2.1S65
+G1 X2.2S64
+G1 X2.3S63
+G1 X2.5S62
+G1 X2.6S61
+G1 X2.7S60
+G1 X2.9S59
+G1 X3S58
+G1 X3.2S57
+G1 X3.3S56
+G1 X3.4S55
+G1 X3.6S54
+G1 X3.7S53
+G1 X3.8S52
+G1 X4S51
+G1 X4.1S50
+G1 X4.2S49
+G1 X4.4S48
+G1 X4.5S47
+G1 X4.6S46
+G1 X4.8S45
+G1 X4.9S44
+G1 X5.1S43
+G1 X5.2S42
+G1 X5.3S41
+G1 X5.5S40
+G1 X5.6S39
+G1 X5.7S38
+G1 X5.9S37
+G1 X6S36
+G1 X6.1S35
+G1 X6.3S34
+G1 X6.4S33
+G1 X6.5S32
+G1 X6.7S31
+G1 X6.8S30
+G1 X7S29
+G1 X7.1S28
+G1 X7.2S27
+G1 X7.4S26
+G1 X7.5S25
+G1 X7.6S24
+G1 X7.8S23
+G1 X7.9S22
+G1 X8S21
+G1 X8.2S20
+G1 X8.3S19
+G0 X11.3F6000
+
+G0 Y3.9
+G0 X8.4
+G1 X8.3S19F1200
+G1 X8.1S20
+G1 X8S21
+G1 X7.9S22
+G1 X7.7S23
+G1 X7.6S24
+G1 X7.5S25
+G1 X7.3S26
+G1 X7.2S27
+G1 X7.1S28
+G1 X6.9S29
+G1 X6.8S30
+G1 X6.6S31
+G1 X6.5S32
+G1 X6.4S33
+G1 X6.2S34
+G1 X6.1S35
+G1 X6S36
+G1 X5.8S37
+G1 X5.7S38
+G1 X5.6S39
+G1 X5.4S40
+G1 X5.3S41
+G1 X5.2S42
+G1 X5S43
+G1 X4.9S44
+G1 X4.7S45
+G1 X4.6S46
+G1 X4.5S47
+G1 X4.3S48
+G1 X4.2S49
+G1 X4.1S50
+G1 X3.9S51
+G1 X3.8S52
+G1 X3.7S53
+G1 X3.5S54
+G1 X3.4S55
+G1 X3.3S56
+G1 X3.1S57
+G1 X3S58
+G1 X2.8S59
+G1 X2.7S60
+G1 X2.6S61
+G1 X2.4S62
+G1 X2.3S63
+G1 X2.2S64
+G1 X2S65
+G1 X1.9S66
+G1 X1.8S67
+G1 X1.6S68
+G1 X1.5S69
+G1 X1.4S70
+G1 X1.2S71
+G0 X-1.8F6000
+
+G0 Y4
+G0 X1.1
+G1 X1.3S71F1200
+G1 X1.4S70
+G1 X1.5S69
+G1 X1.7S68
+G1 X1.8S67
+G1 X1.9S66
+G1 X2.1S65
+G1 X2.2S64
+G1 X2.3S63
+G1 X2.5S62
+G1 X2.6S61
+G1 X2.7S60
+G1 X2.9S59
+G1 X3S58
+G1 X3.2S57
+G1 X3.3S56
+G1 X3.4S55
+G1 X3.6S54
+G1 X3.7S53
+G1 X3.8S52
+G1 X4S51
+G1 X4.1S50
+G1 X4.2S49
+G1 X4.4S48
+G1 X4.5S47
+G1 X4.6S46
+G1 X4.8S45
+G1 X4.9S44
+G1 X5.1S43
+G1 X5.2S42
+G1 X5.3S41
+G1 X5.5S40
+G1 X5.6S39
+G1 X5.7S38
+G1 X5.9S37
+G1 X6S36
+G1 X6.1S35
+G1 X6.3S34
+G1 X6.4S33
+G1 X6.5S32
+G1 X6.7S31
+G1 X6.8S30
+G1 X7S29
+G1 X7.1S28
+G1 X7.2S27
+G1 X7.4S26
+G1 X7.5S25
+G1 X7.6S24
+G1 X7.8S23
+G1 X7.9S22
+G1 X8S21
+G1 X8.2S20
+G1 X8.3S19
+G0 X11.3F6000
+
+G0 Y4.1
+G0 X8.4
+G1 X8.3S19F1200
+G1 X8.1S20
+G1 X8S21
+G1 X7.9S22
+G1 X7.7S23
+G1 X7.6S24
+G1 X7.5S25
+G1 X7.3S26
+G1 X7.2S27
+G1 X7.1S28
+G1 X6.9S29
+G1 X6.8S30
+G1 X6.6S31
+G1 X6.5S32
+G1 X6.4S33
+G1 X6.2S34
+G1 X6.1S35
+G1 X6S36
+G1 X5.8S37
+G1 X5.7S38
+G1 X5.6S39
+G1 X5.4S40
+G1 X5.3S41
+G1 X5.2S42
+G1 X5S43
+G1 X4.9S44
+G1 X4.7S45
+G1 X4.6S46
+G1 X4.5S47
+G1 X4.3S48
+G1 X4.2S49
+G1 X4.1S50
+G1 X3.9S51
+G1 X3.8S52
+G1 X3.7S53
+G1 X3.5S54
+G1 X3.4S55
+G1 X3.3S56
+G1 X3.1S57
+G1 X3S58
+G1 X2.8S59
+G1 X2.7S60
+G1 X2.6S61
+G1 X2.4S62
+G1 X2.3S63
+G1 X2.2S64
+G1 X2S65
+G1 X1.9S66
+G1 X1.8S67
+G1 X1.6S68
+G1 X1.5S69
+G1 X1.4S70
+G1 X1.2S71
+G0 X-1.8F6000
+
+G0 Y4.2
+G0 X1.1
+G1 X1.3S71F1200
+G1 X1.4S70
+G1 X1.5S69
+G1 X1.7S68
+G1 X1.8S67
+G1 X1.9S66
+G1 X2.1S65
+G1 X2.2S64
+G1 X2.3S63
+G1 X2.5S62
+G1 X2.6S61
+G1 X2.7S60
+G1 X2.9S59
+G1 X3S58
+G1 X3.2S57
+G1 X3.3S56
+G1 X3.4S55
+G1 X3.6S54
+G1 X3.7S53
+G1 X3.8S52
+G1 X4S51
+G1 X4.1S50
+G1 X4.2S49
+G1 X4.4S48
+G1 X4.5S47
+G1 X4.6S46
+G1 X4.8S45
+G1 X4.9S44
+G1 X5.1S43
+G1 X5.2S42
+G1 X5.3S41
+G1 X5.5S40
+G1 X5.6S39
+G1 X5.7S38
+G1 X5.9S37
+G1 X6S36
+G1 X6.1S35
+G1 X6.3S34
+G1 X6.4S33
+G1 X6.5S32
+G1 X6.7S31
+G1 X6.8S30
+G1 X7S29
+G1 X7.1S28
+G1 X7.2S27
+G1 X7.4S26
+G1 X7.5S25
+G1 X7.6S24
+G1 X7.8S23
+G1 X7.9S22
+G1 X8S21
+G1 X8.2S20
+G1 X8.3S19
+G0 X11.3F6000
+
+G0 Y4.3
+G0 X8.4
+G1 X8.3S19F1200
+G1 X8.1S20
+G1 X8S21
+G1 X7.9S22
+G1 X7.7S23
+G1 X7.6S24
+G1 X7.5S25
+G1 X7.3S26
+G1 X7.2S27
+G1 X7.1S28
+G1 X6.9S29
+G1 X6.8S30
+G1 X6.6S31
+G1 X6.5S32
+G1 X6.4S33
+G1 X6.2S34
+G1 X6.1S35
+G1 X6S36
+G1 X5.8S37
+G1 X5.7S38
+G1 X5.6S39
+G1 X5.4S40
+G1 X5.3S41
+G1 X5.2S42
+G1 X5S43
+G1 X4.9S44
+G1 X4.7S45
+G1 X4.6S46
+G1 X4.5S47
+G1 X4.3S48
+G1 X4.2S49
+G1 X4.1S50
+G1 X3.9S51
+G1 X3.8S52
+G1 X3.7S53
+G1 X3.5S54
+G1 X3.4S55
+G1 X3.3S56
+G1 X3.1S57
+G1 X3S58
+G1 X2.8S59
+G1 X2.7S60
+G1 X2.6S61
+G1 X2.4S62
+G1 X2.3S63
+G1 X2.2S64
+G1 X2S65
+G1 X1.9S66
+G1 X1.8S67
+G1 X1.6S68
+G1 X1.5S69
+G1 X1.4S70
+G1 X1.2S71
+G0 X-1.8F6000
+
+G0 Y4.4
+G0 X1.1
+G1 X1.3S71F1200
+G1 X1.4S70
+G1 X1.5S69
+G1 X1.7S68
+G1 X1.8S67
+G1 X1.9S66
+G1 X2.1S65
+G1 X2.2S64
+G1 X2.3S63
+G1 X2.5S62
+G1 X2.6S61
+G1 X2.7S60
+G1 X2.9S59
+G1 X3S58
+G1 X3.2S57
+G1 X3.3S56
+G1 X3.4S55
+G1 X3.6S54
+G1 X3.7S53
+G1 X3.8S52
+G1 X4S51
+G1 X4.1S50
+G1 X4.2S49
+G1 X4.4S48
+G1 X4.5S47
+G1 X4.6S46
+G1 X4.8S45
+G1 X4.9S44
+G1 X5.1S43
+G1 X5.2S42
+G1 X5.3S41
+G1 X5.5S40
+G1 X5.6S39
+G1 X5.7S38
+G1 X5.9S37
+G1 X6S36
+G1 X6.1S35
+G1 X6.3S34
+G1 X6.4S33
+G1 X6.5S32
+G1 X6.7S31
+G1 X6.8S30
+G1 X7S29
+G1 X7.1S28
+G1 X7.2S27
+G1 X7.4S26
+G1 X7.5S25
+G1 X7.6S24
+G1 X7.8S23
+G1 X7.9S22
+G1 X8S21
+G1 X8.2S20
+G1 X8.3S19
+G0 X11.3F6000
+
+G0 Y4.5
+G0 X8.4
+G1 X8.3S19F1200
+G1 X8.1S20
+G1 X8S21
+G1 X7.9S22
+G1 X7.7S23
+G1 X7.6S24
+G1 X7.5S25
+G1 X7.3S26
+G1 X7.2S27
+G1 X7.1S28
+G1 X6.9S29
+G1 X6.8S30
+G1 X6.6S31
+G1 X6.5S32
+G1 X6.4S33
+G1 X6.2S34
+G1 X6.1S35
+G1 X6S36
+G1 X5.8S37
+G1 X5.7S38
+G1 X5.6S39
+G1 X5.4S40
+G1 X5.3S41
+G1 X5.2S42
+G1 X5S43
+G1 X4.9S44
+G1 X4.7S45
+G1 X4.6S46
+G1 X4.5S47
+G1 X4.3S48
+G1 X4.2S49
+G1 X4.1S50
+G1 X3.9S51
+G1 X3.8S52
+G1 X3.7S53
+G1 X3.5S54
+G1 X3.4S55
+G1 X3.3S56
+G1 X3.1S57
+G1 X3S58
+G1 X2.8S59
+G1 X2.7S60
+G1 X2.6S61
+G1 X2.4S62
+G1 X2.3S63
+G1 X2.2S64
+G1 X2S65
+G1 X1.9S66
+G1 X1.8S67
+G1 X1.6S68
+G1 X1.5S69
+G1 X1.4S70
+G1 X1.2S71
+G0 X-1.8F6000
+
+G0 Y4.6
+G0 X1.1
+G1 X1.3S71F1200
+G1 X1.4S70
+G1 X1.5S69
+G1 X1.7S68
+G1 X1.8S67
+G1 X1.9S66
+G1 X2.1S65
+G1 X2.2S64
+G1 X2.3S63
+G1 X2.5S62
+G1 X2.6S61
+G1 X2.7S60
+G1 X2.9S59
+G1 X3S58
+G1 X3.2S57
+G1 X3.3S56
+G1 X3.4S55
+G1 X3.6S54
+G1 X3.7S53
+G1 X3.8S52
+G1 X4S51
+G1 X4.1S50
+G1 X4.2S49
+G1 X4.4S48
+G1 X4.5S47
+G1 X4.6S46
+G1 X4.8S45
+G1 X4.9S44
+G1 X5.1S43
+G1 X5.2S42
+G1 X5.3S41
+G1 X5.5S40
+G1 X5.6S39
+G1 X5.7S38
+G1 X5.9S37
+G1 X6S36
+G1 X6.1S35
+G1 X6.3S34
+G1 X6.4S33
+G1 X6.5S32
+G1 X6.7S31
+G1 X6.8S30
+G1 X7S29
+G1 X7.1S28
+G1 X7.2S27
+G1 X7.4S26
+G1 X7.5S25
+G1 X7.6S24
+G1 X7.8S23
+G1 X7.9S22
+G1 X8S21
+G1 X8.2S20
+G1 X8.3S19
+G0 X11.3F6000
+
+G0 Y4.7
+G0 X8.4
+G1 X8.3S19F1200
+G1 X8.1S20
+G1 X8S21
+G1 X7.9S22
+G1 X7.7S23
+G1 X7.6S24
+G1 X7.5S25
+G1 X7.3S26
+G1 X7.2S27
+G1 X7.1S28
+G1 X6.9S29
+G1 X6.8S30
+G1 X6.6S31
+G1 X6.5S32
+G1 X6.4S33
+G1 X6.2S34
+G1 X6.1S35
+G1 X6S36
+G1 X5.8S37
+G1 X5.7S38
+G1 X5.6S39
+G1 X5.4S40
+G1 X5.3S41
+G1 X5.2S42
+G1 X5S43
+G1 X4.9S44
+G1 X4.7S45
+G1 X4.6S46
+G1 X4.5S47
+G1 X4.3S48
+G1 X4.2S49
+G1 X4.1S50
+G1 X3.9S51
+G1 X3.8S52
+G1 X3.7S53
+G1 X3.5S54
+G1 X3.4S55
+G1 X3.3S56
+G1 X3.1S57
+G1 X3S58
+G1 X2.8S59
+G1 X2.7S60
+G1 X2.6S61
+G1 X2.4S62
+G1 X2.3S63
+G1 X2.2S64
+G1 X2S65
+G1 X1.9S66
+G1 X1.8S67
+G1 X1.6S68
+G1 X1.5S69
+G1 X1.4S70
+G1 X1.2S71
+G0 X-1.8F6000
+
+G0 Y4.8
+G0 X1.1
+G1 X1.3S71F1200
+G1 X1.4S70
+G1 X1.5S69
+G1 X1.7S68
+G1 X1.8S67
+G1 X1.9S66
+G1 X2.1S65
+G1 X2.2S64
+G1 X2.3S63
+G1 X2.5S62
+G1 X2.6S61
+G1 X2.7S60
+G1 X2.9S59
+G1 X3S58
+G1 X3.2S57
+G1 X3.3S56
+G1 X3.4S55
+G1 X3.6S54
+G1 X3.7S53
+G1 X3.8S52
+G1 X4S51
+G1 X4.1S50
+G1 X4.2S49
+G1 X4.4S48
+G1 X4.5S47
+G1 X4.6S46
+G1 X4.8S45
+G1 X4.9S44
+G1 X5.1S43
+G1 X5.2S42
+G1 X5.3S41
+G1 X5.5S40
+G1 X5.6S39
+G1 X5.7S38
+G1 X5.9S37
+G1 X6S36
+G1 X6.1S35
+G1 X6.3S34
+G1 X6.4S33
+G1 X6.5S32
+G1 X6.7S31
+G1 X6.8S30
+G1 X7S29
+G1 X7.1S28
+G1 X7.2S27
+G1 X7.4S26
+G1 X7.5S25
+G1 X7.6S24
+G1 X7.8S23
+G1 X7.9S22
+G1 X8S21
+G1 X8.2S20
+G1 X8.3S19
+G0 X11.3F6000
+
+G0 Y4.9
+G0 X8.4
+G1 X8.3S19F1200
+G1 X8.1S20
+G1 X8S21
+G1 X7.9S22
+G1 X7.7S23
+G1 X7.6S24
+G1 X7.5S25
+G1 X7.3S26
+G1 X7.2S27
+G1 X7.1S28
+G1 X6.9S29
+G1 X6.8S30
+G1 X6.6S31
+G1 X6.5S32
+G1 X6.4S33
+G1 X6.2S34
+G1 X6.1S35
+G1 X6S36
+G1 X5.8S37
+G1 X5.7S38
+G1 X5.6S39
+G1 X5.4S40
+G1 X5.3S41
+G1 X5.2S42
+G1 X5S43
+G1 X4.9S44
+G1 X4.7S45
+G1 X4.6S46
+G1 X4.5S47
+G1 X4.3S48
+G1 X4.2S49
+G1 X4.1S50
+G1 X3.9S51
+G1 X3.8S52
+G1 X3.7S53
+G1 X3.5S54
+G1 X3.4S55
+G1 X3.3S56
+G1 X3.1S57
+G1 X3S58
+G1 X2.8S59
+G1 X2.7S60
+G1 X2.6S61
+G1 X2.4S62
+G1 X2.3S63
+G1 X2.2S64
+G1 X2S65
+G1 X1.9S66
+G1 X1.8S67
+G1 X1.6S68
+G1 X1.5S69
+G1 X1.4S70
+G1 X1.2S71
+G0 X-1.8F6000
+
+G0 Y5
+G0 X1.1
+G1 X1.3S71F1200
+G1 X1.4S70
+G1 X1.5S69
+G1 X1.7S68
+G1 X1.8S67
+G1 X1.9S66
+G1 X2.1S65
+G1 X2.2S64
+G1 X2.3S63
+G1 X2.5S62
+G1 X2.6S61
+G1 X2.7S60
+G1 X2.9S59
+G1 X3S58
+G1 X3.2S57
+G1 X3.3S56
+G1 X3.4S55
+G1 X3.6S54
+G1 X3.7S53
+G1 X3.8S52
+G1 X4S51
+G1 X4.1S50
+G1 X4.2S49
+G1 X4.4S48
+G1 X4.5S47
+G1 X4.6S46
+G1 X4.8S45
+G1 X4.9S44
+G1 X5.1S43
+G1 X5.2S42
+G1 X5.3S41
+G1 X5.5S40
+G1 X5.6S39
+G1 X5.7S38
+G1 X5.9S37
+G1 X6S36
+G1 X6.1S35
+G1 X6.3S34
+G1 X6.4S33
+G1 X6.5S32
+G1 X6.7S31
+G1 X6.8S30
+G1 X7S29
+G1 X7.1S28
+G1 X7.2S27
+G1 X7.4S26
+G1 X7.5S25
+G1 X7.6S24
+G1 X7.8S23
+G1 X7.9S22
+G1 X8S21
+G1 X8.2S20
+G1 X8.3S19
+G0 X11.3F6000
+
+G0 Y5.1
+G0 X8.4
+G1 X8.3S19F1200
+G1 X8.1S20
+G1 X8S21
+G1 X7.9S22
+G1 X7.7S23
+G1 X7.6S24
+G1 X7.5S25
+G1 X7.3S26
+G1 X7.2S27
+G1 X7.1S28
+G1 X6.9S29
+G1 X6.8S30
+G1 X6.6S31
+G1 X6.5S32
+G1 X6.4S33
+G1 X6.2S34
+G1 X6.1S35
+G1 X6S36
+G1 X5.8S37
+G1 X5.7S38
+G1 X5.6S39
+G1 X5.4S40
+G1 X5.3S41
+G1 X5.2S42
+G1 X5S43
+G1 X4.9S44
+G1 X4.7S45
+G1 X4.6S46
+G1 X4.5S47
+G1 X4.3S48
+G1 X4.2S49
+G1 X4.1S50
+G1 X3.9S51
+G1 X3.8S52
+G1 X3.7S53
+G1 X3.5S54
+G1 X3.4S55
+G1 X3.3S56
+G1 X3.1S57
+G1 X3S58
+G1 X2.8S59
+G1 X2.7S60
+G1 X2.6S61
+G1 X2.4S62
+G1 X2.3S63
+G1 X2.2S64
+G1 X2S65
+G1 X1.9S66
+G1 X1.8S67
+G1 X1.6S68
+G1 X1.5S69
+G1 X1.4S70
+G1 X1.2S71
+G0 X-1.8F6000
+
+G0 Y5.2
+G0 X1.1
+G1 X1.3S71F1200
+G1 X1.4S70
+G1 X1.5S69
+G1 X1.7S68
+G1 X1.8S67
+G1 X1.9S66
+G1 X2.1S65
+G1 X2.2S64
+G1 X2.3S63
+G1 X2.5S62
+G1 X2.6S61
+G1 X2.7S60
+G1 X2.9S59
+G1 X3S58
+G1 X3.2S57
+G1 X3.3S56
+G1 X3.4S55
+G1 X3.6S54
+G1 X3.7S53
+G1 X3.8S52
+G1 X4S51
+G1 X4.1S50
+G1 X4.2S49
+G1 X4.4S48
+G1 X4.5S47
+G1 X4.6S46
+G1 X4.8S45
+G1 X4.9S44
+G1 X5.1S43
+G1 X5.2S42
+G1 X5.3S41
+G1 X5.5S40
+G1 X5.6S39
+G1 X5.7S38
+G1 X5.9S37
+G1 X6S36
+G1 X6.1S35
+G1 X6.3S34
+G1 X6.4S33
+G1 X6.5S32
+G1 X6.7S31
+G1 X6.8S30
+G1 X7S29
+G1 X7.1S28
+G1 X7.2S27
+G1 X7.4S26
+G1 X7.5S25
+G1 X7.6S24
+G1 X7.8S23
+G1 X7.9S22
+G1 X8S21
+G1 X8.2S20
+G1 X8.3S19
+G0 X11.3F6000
+
+G0 Y5.3
+G0 X8.4
+G1 X8.3S19F1200
+G1 X8.1S20
+G1 X8S21
+G1 X7.9S22
+G1 X7.7S23
+G1 X7.6S24
+G1 X7.5S25
+G1 X7.3S26
+G1 X7.2S27
+G1 X7.1S28
+G1 X6.9S29
+G1 X6.8S30
+G1 X6.6S31
+G1 X6.5S32
+G1 X6.4S33
+G1 X6.2S34
+G1 X6.1S35
+G1 X6S36
+G1 X5.8S37
+G1 X5.7S38
+G1 X5.6S39
+G1 X5.4S40
+G1 X5.3S41
+G1 X5.2S42
+G1 X5S43
+G1 X4.9S44
+G1 X4.7S45
+G1 X4.6S46
+G1 X4.5S47
+G1 X4.3S48
+G1 X4.2S49
+G1 X4.1S50
+G1 X3.9S51
+G1 X3.8S52
+G1 X3.7S53
+G1 X3.5S54
+G1 X3.4S55
+G1 X3.3S56
+G1 X3.1S57
+G1 X3S58
+G1 X2.8S59
+G1 X2.7S60
+G1 X2.6S61
+G1 X2.4S62
+G1 X2.3S63
+G1 X2.2S64
+G1 X2S65
+G1 X1.9S66
+G1 X1.8S67
+G1 X1.6S68
+G1 X1.5S69
+G1 X1.4S70
+G1 X1.2S71
+G0 X-1.8F6000
+
+G0 Y5.4
+G0 X1.1
+G1 X1.3S71F1200
+G1 X1.4S70
+G1 X1.5S69
+G1 X1.7S68
+G1 X1.8S67
+G1 X1.9S66
+G1 X2.1S65
+G1 X2.2S64
+G1 X2.3S63
+G1 X2.5S62
+G1 X2.6S61
+G1 X2.7S60
+G1 X2.9S59
+G1 X3S58
+G1 X3.2S57
+G1 X3.3S56
+G1 X3.4S55
+G1 X3.6S54
+G1 X3.7S53
+G1 X3.8S52
+G1 X4S51
+G1 X4.1S50
+G1 X4.2S49
+G1 X4.4S48
+G1 X4.5S47
+G1 X4.6S46
+G1 X4.8S45
+G1 X4.9S44
+G1 X5.1S43
+G1 X5.2S42
+G1 X5.3S41
+G1 X5.5S40
+G1 X5.6S39
+G1 X5.7S38
+G1 X5.9S37
+G1 X6S36
+G1 X6.1S35
+G1 X6.3S34
+G1 X6.4S33
+G1 X6.5S32
+G1 X6.7S31
+G1 X6.8S30
+G1 X7S29
+G1 X7.1S28
+G1 X7.2S27
+G1 X7.4S26
+G1 X7.5S25
+G1 X7.6S24
+G1 X7.8S23
+G1 X7.9S22
+G1 X8S21
+G1 X8.2S20
+G1 X8.3S19
+G0 X11.3F6000
+
+G0 Y5.5
+G0 X8.4
+G1 X8.3S19F1200
+G1 X8.1S20
+G1 X8S21
+G1 X7.9S22
+G1 X7.7S23
+G1 X7.6S24
+G1 X7.5S25
+G1 X7.3S26
+G1 X7.2S27
+G1 X7.1S28
+G1 X6.9S29
+G1 X6.8S30
+G1 X6.6S31
+G1 X6.5S32
+G1 X6.4S33
+G1 X6.2S34
+G1 X6.1S35
+G1 X6S36
+G1 X5.8S37
+G1 X5.7S38
+G1 X5.6S39
+G1 X5.4S40
+G1 X5.3S41
+G1 X5.2S42
+G1 X5S43
+G1 X4.9S44
+G1 X4.7S45
+G1 X4.6S46
+G1 X4.5S47
+G1 X4.3S48
+G1 X4.2S49
+G1 X4.1S50
+G1 X3.9S51
+G1 X3.8S52
+G1 X3.7S53
+G1 X3.5S54
+G1 X3.4S55
+G1 X3.3S56
+G1 X3.1S57
+G1 X3S58
+G1 X2.8S59
+G1 X2.7S60
+G1 X2.6S61
+G1 X2.4S62
+G1 X2.3S63
+G1 X2.2S64
+G1 X2S65
+G1 X1.9S66
+G1 X1.8S67
+G1 X1.6S68
+G1 X1.5S69
+G1 X1.4S70
+G1 X1.2S71
+G0 X-1.8F6000
+
+M5 ; Disable laser
+
+; Optimization Results:
+; - Processed 48 rows, skipped 0 blank rows
+; - Total area reduction: 25.0% width × 25.0% height
+; - Scan time reduced by skipping blank areas
+M2 ; End program
\ No newline at end of file
@@ -0,0 +1,5595 @@
+; Platform Scan G-Code for Nexcut
+; Layer: 噪声
+; Image Count: 1
+; Platform Size: 400x400 mm
+; Resolution: 0.05 mm/pixel (128x96 pixels)
+; Mode: Greyscale
+; Power Range: [60, 60] (0-100 scale)
+; Speed: Burn=1000 mm/min, Travel=6000 mm/min
+; Optimization: Skip blank rows/columns, fast travel for blank areas
+;
+G90 ; Absolute positioning
+G21 ; Units in millimeters
+M4 ; Enable laser (variable power mode)
+
+; Content detection: using threshold < 250 (instead of < 255) for better edge protection
+; Halftone processing: DISABLED - greyscale mode
+; Reverse Movement Offset (空移): 2 mm (40 pixels at 0.050 mm/pixel)
+; Content bounds: X[0.0, 6.4] Y[0.0, 4.7] mm
+; Actual scan range: X[-2.0, 8.4] mm (content + overscan)
+; Overscan application: Applied in greyscale mode for power ramping
+; Content pixels: minX=0, maxX=127, minY=0, maxY=94 (128x95 pixels)
+; Content area: 6.4x4.8 mm (reduced by 0.0%x1.0%)
+; Scan area optimized: 95 rows of 96 total (99.0%)
+
+G0 X-2Y0F6000
+G0 X0
+G0 X0.05F1000
+G1 X0.15S60
+G0 X0.25
+G1 X0.4S60
+G0 X0.45
+G1 X0.5S60
+G0 X0.7F6000
+G1 X0.75S60F1000
+G0 X1.15F6000
+G1 X1.45S60F1000
+G0 X1.5
+G1 X1.6S60
+G0 X1.65
+G1 X1.7S60
+G0 X1.75
+G1 X1.8S60
+G0 X1.9
+G1 X1.95S60
+G0 X2.1
+G1 X2.25S60
+G0 X2.3
+G1 X2.35S60
+G0 X2.4
+G1 X2.5S60
+G0 X2.7F6000
+G1 X2.8S60F1000
+G0 X2.85
+G1 X2.9S60
+G0 X2.95
+G1 X3.05S60
+G0 X3.1
+G1 X3.45S60
+G0 X3.55
+G1 X3.6S60
+G0 X3.75
+G1 X3.9S60
+G0 X3.95
+G1 X4.05S60
+G0 X4.15
+G1 X4.25S60
+G0 X4.45F6000
+G1 X4.5S60F1000
+G0 X4.55
+G1 X4.6S60
+G0 X4.65
+G1 X4.75S60
+G0 X4.85
+G1 X4.95S60
+G0 X5.1
+G1 X5.2S60
+G0 X5.3
+G1 X5.35S60
+G0 X5.45
+G1 X5.5S60
+G0 X5.8F6000
+G1 X5.9S60F1000
+G0 X5.95
+G1 X6S60
+G0 X6.05
+G1 X6.1S60
+G0 X6.3F6000
+G1 X6.35S60F1000
+G0 X8.35F6000
+
+G0 Y0.05
+G0 X6.35
+G0 X6.3F1000
+G1 X6.25S60
+G0 X6.2
+G1 X6.15S60
+G0 X5.95F6000
+G1 X5.9S60F1000
+G0 X5.85
+G1 X5.75S60
+G0 X5.65
+G1 X5.6S60
+G0 X5.3F6000
+G1 X5.2S60F1000
+G0 X5.15
+G1 X5.05S60
+G0 X5
+G1 X4.95S60
+G0 X4.85
+G1 X4.7S60
+G0 X4.65
+G1 X4.6S60
+G0 X4.5
+G1 X4.45S60
+G0 X4.35
+G1 X4.3S60
+G0 X4.25
+G1 X4.2S60
+G0 X4.15
+G1 X4.1S60
+G0 X4
+G1 X3.75S60
+G0 X3.5F6000
+G1 X3.35S60F1000
+G0 X3.3
+G1 X3.25S60
+G0 X3.2
+G1 X3.1S60
+G0 X3.05
+G1 X3S60
+G0 X2.8F6000
+G1 X2.65S60F1000
+G0 X2.6
+G1 X2.55S60
+G0 X2.5
+G1 X2.45S60
+G0 X2.35
+G1 X2.2S60
+G0 X2.1
+G1 X2.05S60
+G0 X1.95
+G1 X1.9S60
+G0 X1.85
+G1 X1.8S60
+G0 X1.75
+G1 X1.7S60
+G0 X1.55
+G1 X1.5S60
+G0 X1.45
+G1 X1.35S60
+G0 X1.25
+G1 X0.7S60
+G0 X0.65
+G1 X0.55S60
+G0 X0.5
+G1 X0.45S60
+G0 X0.35
+G1 X0.25S60
+G0 X0.2
+G1 X0.1S60
+G0 X0
+G0 X-2F6000
+
+G0 Y0.1
+G0 X0
+G1 X0.1S60F1000
+G0 X0.4F6000
+G1 X0.45S60F1000
+G0 X0.65F6000
+G1 X0.75S60F1000
+G0 X0.9
+G1 X1.05S60
+G0 X1.15
+G1 X1.25S60
+G0 X1.35
+G1 X1.4S60
+G0 X1.5
+G1 X1.65S60
+G0 X1.8
+G1 X1.85S60
+G0 X1.9
+G1 X2S60
+G0 X2.1
+G1 X2.15S60
+G0 X2.25
+G1 X2.3S60
+G0 X2.35
+G1 X2.4S60
+G0 X2.45
+G1 X2.55S60
+G0 X2.6
+G1 X2.65S60
+G0 X2.8
+G1 X2.85S60
+G0 X3
+G1 X3.1S60
+G0 X3.15
+G1 X3.4S60
+G0 X3.5
+G1 X3.55S60
+G0 X3.8F6000
+G1 X3.85S60F1000
+G0 X3.95
+G1 X4.05S60
+G0 X4.1
+G1 X4.2S60
+G0 X4.35
+G1 X4.4S60
+G0 X4.55
+G1 X4.6S60
+G0 X4.65
+G1 X4.7S60
+G0 X4.75
+G1 X4.8S60
+G0 X4.85
+G1 X4.9S60
+G0 X4.95
+G1 X5.25S60
+G0 X5.3
+G1 X5.35S60
+G0 X5.5
+G1 X5.65S60
+G0 X5.85F6000
+G1 X5.9S60F1000
+G0 X5.95
+G1 X6.05S60
+G0 X6.15
+G1 X6.25S60
+G0 X6.3
+G1 X6.35S60
+G0 X8.35F6000
+
+G0 Y0.15
+G0 X6.35
+G0 X6.25F1000
+G1 X6.15S60
+G0 X6.1
+G1 X6.05S60
+G0 X6
+G1 X5.7S60
+G0 X5.65
+G1 X5.55S60
+G0 X5.5
+G1 X5.45S60
+G0 X5.4
+G1 X5.3S60
+G0 X5.15
+G1 X5.1S60
+G0 X5.05
+G1 X4.95S60
+G0 X4.9
+G1 X4.85S60
+G0 X4.6F6000
+G1 X4.45S60F1000
+G0 X4.35
+G1 X4.3S60
+G0 X4.25
+G1 X4.2S60
+G0 X4.15
+G1 X4.05S60
+G0 X4
+G1 X3.95S60
+G0 X3.9
+G1 X3.85S60
+G0 X3.7
+G1 X3.6S60
+G0 X3.55
+G1 X3.5S60
+G0 X3.35
+G1 X3.2S60
+G0 X3.15
+G1 X3.1S60
+G0 X2.95
+G1 X2.9S60
+G0 X2.8
+G1 X2.6S60
+G0 X2.55
+G1 X2.5S60
+G0 X2.45
+G1 X2.35S60
+G0 X2.25
+G1 X2.2S60
+G0 X2.1
+G1 X2S60
+G0 X1.95
+G1 X1.9S60
+G0 X1.8
+G1 X1.75S60
+G0 X1.6
+G1 X1.45S60
+G0 X1.4
+G1 X1.35S60
+G0 X1.2
+G1 X1.15S60
+G0 X1.1
+G1 X1S60
+G0 X0.9
+G1 X0.85S60
+G0 X0.75
+G1 X0.7S60
+G0 X0.65
+G1 X0.55S60
+G0 X0.45
+G1 X0.1S60
+G0 X0.05
+G1 X0S60
+G0 X-2F6000
+
+G0 X8.35Y0.25
+G0 X6.35
+G0 X6.3F1000
+G1 X6.2S60
+G0 X6.05
+G1 X5.85S60
+G0 X5.8
+G1 X5.75S60
+G0 X5.7
+G1 X5.55S60
+G0 X5.5
+G1 X5.4S60
+G0 X5.3
+G1 X5.25S60
+G0 X5F6000
+G1 X4.8S60F1000
+G0 X4.65
+G1 X4.6S60
+G0 X4.45
+G1 X4.4S60
+G0 X4.25
+G1 X4.05S60
+G0 X4
+G1 X3.95S60
+G0 X3.8
+G1 X3.75S60
+G0 X3.65
+G1 X3.55S60
+G0 X3.5
+G1 X3.45S60
+G0 X3.4
+G1 X3.35S60
+G0 X3.25
+G1 X3.15S60
+G0 X2.8F6000
+G1 X2.75S60F1000
+G0 X2.7
+G1 X2.5S60
+G0 X2.4
+G1 X2.35S60
+G0 X2.3
+G1 X2.25S60
+G0 X2.15
+G1 X2.05S60
+G0 X2
+G1 X1.95S60
+G0 X1.9
+G1 X1.6S60
+G0 X1.55
+G1 X1.5S60
+G0 X1.3F6000
+G1 X1.25S60F1000
+G0 X1.2
+G1 X1.1S60
+G0 X0.95
+G1 X0.9S60
+G0 X0.7F6000
+G1 X0.65S60F1000
+G0 X0.6
+G1 X0.55S60
+G0 X0.45
+G1 X0.35S60
+G0 X0.3
+G1 X0.15S60
+G0 X0.05
+G1 X0S60
+G0 X-2F6000
+
+G0 Y0.3
+G0 X0
+G0 X0.25
+G1 X0.55S60F1000
+G0 X0.6
+G1 X0.65S60
+G0 X0.7
+G1 X0.9S60
+G0 X0.95
+G1 X1S60
+G0 X1.2F6000
+G1 X1.4S60F1000
+G0 X1.45
+G1 X1.55S60
+G0 X1.7
+G1 X1.75S60
+G0 X1.8
+G1 X1.9S60
+G0 X1.95
+G1 X2.05S60
+G0 X2.1
+G1 X2.15S60
+G0 X2.25
+G1 X2.35S60
+G0 X2.45
+G1 X2.55S60
+G0 X2.7
+G1 X2.75S60
+G0 X2.8
+G1 X2.9S60
+G0 X2.95
+G1 X3.1S60
+G0 X3.15
+G1 X3.25S60
+G0 X3.3
+G1 X3.35S60
+G0 X3.4
+G1 X3.5S60
+G0 X3.55
+G1 X3.65S60
+G0 X3.7
+G1 X3.85S60
+G0 X3.9
+G1 X3.95S60
+G0 X4.05
+G1 X4.1S60
+G0 X4.3F6000
+G1 X4.45S60F1000
+G0 X4.6
+G1 X4.65S60
+G0 X4.75
+G1 X4.8S60
+G0 X4.95
+G1 X5S60
+G0 X5.2F6000
+G1 X5.3S60F1000
+G0 X5.35
+G1 X5.55S60
+G0 X5.6
+G1 X5.65S60
+G0 X5.7
+G1 X5.75S60
+G0 X5.8
+G1 X5.85S60
+G0 X6
+G1 X6.05S60
+G0 X8.35F6000
+
+G0 Y0.35
+G0 X6.35
+G0 X6.25F1000
+G1 X6.2S60
+G0 X6.1
+G1 X6.05S60
+G0 X6
+G1 X5.95S60
+G0 X5.9
+G1 X5.85S60
+G0 X5.55F6000
+G1 X5.35S60F1000
+G0 X5.2
+G1 X5.15S60
+G0 X5.05
+G1 X4.85S60
+G0 X4.4F6000
+G1 X4.35S60F1000
+G0 X4.3
+G1 X4.25S60
+G0 X4.2
+G1 X4S60
+G0 X3.85
+G1 X3.8S60
+G0 X3.7
+G1 X3.5S60
+G0 X3.4
+G1 X3.35S60
+G0 X3.2
+G1 X3.05S60
+G0 X2.95
+G1 X2.8S60
+G0 X2.7
+G1 X2.65S60
+G0 X2.6
+G1 X2.55S60
+G0 X2.5
+G1 X2.3S60
+G0 X2.2
+G1 X2.1S60
+G0 X2.05
+G1 X2S60
+G0 X1.95
+G1 X1.85S60
+G0 X1.75
+G1 X1.7S60
+G0 X1.6
+G1 X1.55S60
+G0 X1.45
+G1 X1.3S60
+G0 X1.25
+G1 X1.1S60
+G0 X1.05
+G1 X0.7S60
+G0 X0.55
+G1 X0.25S60
+G0 X0.2
+G1 X0.05S60
+G0 X0
+G0 X-2F6000
+
+G0 Y0.4
+G0 X0
+G0 X0.1F1000
+G1 X0.2S60
+G0 X0.35
+G1 X0.6S60
+G0 X0.7
+G1 X0.8S60
+G0 X0.95
+G1 X1.15S60
+G0 X1.2
+G1 X1.25S60
+G0 X1.3
+G1 X1.35S60
+G0 X1.45
+G1 X1.55S60
+G0 X1.75F6000
+G1 X1.85S60F1000
+G0 X1.9
+G1 X1.95S60
+G0 X2
+G1 X2.05S60
+G0 X2.2
+G1 X2.3S60
+G0 X2.35
+G1 X2.4S60
+G0 X2.55
+G1 X2.65S60
+G0 X2.7
+G1 X2.75S60
+G0 X2.85
+G1 X3S60
+G0 X3.2F6000
+G1 X3.25S60F1000
+G0 X3.3
+G1 X3.35S60
+G0 X3.4
+G1 X3.5S60
+G0 X3.55
+G1 X3.65S60
+G0 X3.7
+G1 X3.75S60
+G0 X3.85
+G1 X4S60
+G0 X4.05
+G1 X4.1S60
+G0 X4.15
+G1 X4.2S60
+G0 X4.25
+G1 X4.65S60
+G0 X4.7
+G1 X4.75S60
+G0 X4.85
+G1 X4.95S60
+G0 X5.1
+G1 X5.2S60
+G0 X5.3
+G1 X5.45S60
+G0 X5.5
+G1 X5.55S60
+G0 X5.6
+G1 X5.8S60
+G0 X5.85
+G1 X5.95S60
+G0 X6
+G1 X6.05S60
+G0 X6.15
+G1 X6.25S60
+G0 X6.3
+G1 X6.35S60
+G0 X8.35F6000
+
+G0 Y0.45
+G0 X6.35
+G0 X6.3F1000
+G1 X6.2S60
+G0 X6.15
+G1 X5.9S60
+G0 X5.55F6000
+G1 X5.35S60F1000
+G0 X5.25
+G1 X5.2S60
+G0 X5.15
+G1 X5.1S60
+G0 X5
+G1 X4.9S60
+G0 X4.8
+G1 X4.75S60
+G0 X4.7
+G1 X4.65S60
+G0 X4.55
+G1 X4.5S60
+G0 X4.45
+G1 X4.4S60
+G0 X4.35
+G1 X4.2S60
+G0 X4.1
+G1 X3.95S60
+G0 X3.85
+G1 X3.7S60
+G0 X3.65
+G1 X3.6S60
+G0 X3.5
+G1 X3.45S60
+G0 X3.4
+G1 X3.15S60
+G0 X3.05
+G1 X2.9S60
+G0 X2.8
+G1 X2.75S60
+G0 X2.55F6000
+G1 X2.45S60F1000
+G0 X2.4
+G1 X2.35S60
+G0 X2.2
+G1 X2.1S60
+G0 X2.05
+G1 X1.95S60
+G0 X1.9
+G1 X1.8S60
+G0 X1.75
+G1 X1.65S60
+G0 X1.6
+G1 X1.55S60
+G0 X1.45
+G1 X1.4S60
+G0 X1.3
+G1 X1.2S60
+G0 X1.15
+G1 X1.1S60
+G0 X1
+G1 X0.95S60
+G0 X0.85
+G1 X0.8S60
+G0 X0.75
+G1 X0.7S60
+G0 X0.65
+G1 X0.6S60
+G0 X0.55
+G1 X0.5S60
+G0 X0.45
+G1 X0.4S60
+G0 X0.3
+G1 X0.25S60
+G0 X0.2
+G1 X0.1S60
+G0 X0.05
+G1 X0S60
+G0 X-2F6000
+
+G0 Y0.5
+G0 X0
+G1 X0.05S60F1000
+G0 X0.25F6000
+G1 X0.3S60F1000
+G0 X0.4
+G1 X0.45S60
+G0 X0.5
+G1 X0.55S60
+G0 X0.6
+G1 X0.65S60
+G0 X0.7
+G1 X0.75S60
+G0 X0.9
+G1 X1S60
+G0 X1.05
+G1 X1.15S60
+G0 X1.2
+G1 X1.3S60
+G0 X1.35
+G1 X1.4S60
+G0 X1.65F6000
+G1 X1.75S60F1000
+G0 X1.8
+G1 X1.85S60
+G0 X2.05F6000
+G1 X2.5S60F1000
+G0 X2.65
+G1 X2.75S60
+G0 X2.85
+G1 X2.9S60
+G0 X2.95
+G1 X3S60
+G0 X3.05
+G1 X3.2S60
+G0 X3.25
+G1 X3.3S60
+G0 X3.45
+G1 X3.55S60
+G0 X4.05F6000
+G1 X4.25S60F1000
+G0 X4.3
+G1 X4.45S60
+G0 X4.5
+G1 X4.55S60
+G0 X4.6
+G1 X4.65S60
+G0 X4.75
+G1 X4.85S60
+G0 X4.95
+G1 X5S60
+G0 X5.15
+G1 X5.2S60
+G0 X5.25
+G1 X5.35S60
+G0 X5.55F6000
+G1 X5.6S60F1000
+G0 X5.65
+G1 X5.75S60
+G0 X5.8
+G1 X5.85S60
+G0 X5.9
+G1 X6S60
+G0 X6.05
+G1 X6.1S60
+G0 X6.15
+G1 X6.2S60
+G0 X6.35
+G0 X8.35F6000
+
+G0 X-2Y0.6
+G0 X0.2
+G1 X0.25S60F1000
+G0 X0.35
+G1 X0.55S60
+G0 X0.65
+G1 X0.7S60
+G0 X1F6000
+G1 X1.05S60F1000
+G0 X1.1
+G1 X1.3S60
+G0 X1.35
+G1 X1.4S60
+G0 X1.5
+G1 X1.65S60
+G0 X1.7
+G1 X1.75S60
+G0 X1.8
+G1 X1.9S60
+G0 X1.95
+G1 X2S60
+G0 X2.05
+G1 X2.1S60
+G0 X2.15
+G1 X2.4S60
+G0 X2.5
+G1 X2.6S60
+G0 X2.9F6000
+G1 X3.05S60F1000
+G0 X3.15
+G1 X3.45S60
+G0 X3.6
+G1 X3.65S60
+G0 X3.7
+G1 X3.8S60
+G0 X3.85
+G1 X3.95S60
+G0 X4
+G1 X4.05S60
+G0 X4.15
+G1 X4.3S60
+G0 X4.5F6000
+G1 X4.55S60F1000
+G0 X4.6
+G1 X4.65S60
+G0 X4.75
+G1 X4.8S60
+G0 X4.85
+G1 X4.9S60
+G0 X4.95
+G1 X5.1S60
+G0 X5.2
+G1 X5.7S60
+G0 X5.85
+G1 X5.95S60
+G0 X6
+G1 X6.1S60
+G0 X6.2
+G1 X6.25S60
+G0 X6.3
+G1 X6.35S60
+G0 X8.35F6000
+
+G0 Y0.65
+G0 X6.35
+G0 X6.25F1000
+G1 X6.1S60
+G0 X6.05
+G1 X6S60
+G0 X5.9
+G1 X5.7S60
+G0 X5.4F6000
+G1 X5.35S60F1000
+G0 X5.2
+G1 X5.1S60
+G0 X5.05
+G1 X5S60
+G0 X4.95
+G1 X4.9S60
+G0 X4.8
+G1 X4.7S60
+G0 X4.6
+G1 X4.5S60
+G0 X4.45
+G1 X4.35S60
+G0 X4.25
+G1 X4S60
+G0 X3.8F6000
+G1 X3.75S60F1000
+G0 X3.7
+G1 X3.65S60
+G0 X3.55
+G1 X3.5S60
+G0 X3.45
+G1 X3.4S60
+G0 X3.35
+G1 X3.3S60
+G0 X3.25
+G1 X3.15S60
+G0 X2.9F6000
+G1 X2.85S60F1000
+G0 X2.75
+G1 X2.65S60
+G0 X2.6
+G1 X2.55S60
+G0 X2.5
+G1 X2.4S60
+G0 X2.3
+G1 X2.2S60
+G0 X2.1
+G1 X1.95S60
+G0 X1.85
+G1 X1.8S60
+G0 X1.75
+G1 X1.7S60
+G0 X1.5F6000
+G1 X1.35S60F1000
+G0 X1.3
+G1 X1.25S60
+G0 X1F6000
+G1 X0.95S60F1000
+G0 X0.7F6000
+G1 X0.5S60F1000
+G0 X0.45
+G1 X0.4S60
+G0 X0.35
+G1 X0.3S60
+G0 X0.25
+G1 X0.2S60
+G0 X-2F6000
+
+G0 Y0.7
+G0 X0
+G1 X0.2S60F1000
+G0 X0.25
+G1 X0.35S60
+G0 X0.45
+G1 X0.7S60
+G0 X0.85
+G1 X1S60
+G0 X1.05
+G1 X1.1S60
+G0 X1.15
+G1 X1.2S60
+G0 X1.25
+G1 X1.4S60
+G0 X1.5
+G1 X1.6S60
+G0 X1.8F6000
+G1 X1.9S60F1000
+G0 X2.05
+G1 X2.2S60
+G0 X2.25
+G1 X2.4S60
+G0 X2.45
+G1 X2.55S60
+G0 X2.65
+G1 X2.9S60
+G0 X2.95
+G1 X3S60
+G0 X3.05
+G1 X3.1S60
+G0 X3.2
+G1 X3.25S60
+G0 X3.35
+G1 X3.45S60
+G0 X3.55
+G1 X3.7S60
+G0 X3.9F6000
+G1 X4S60F1000
+G0 X4.05
+G1 X4.1S60
+G0 X4.15
+G1 X4.25S60
+G0 X4.3
+G1 X4.4S60
+G0 X4.5
+G1 X4.6S60
+G0 X4.65
+G1 X4.75S60
+G0 X4.9
+G1 X5.05S60
+G0 X5.15
+G1 X5.25S60
+G0 X5.3
+G1 X5.4S60
+G0 X5.45
+G1 X5.55S60
+G0 X5.75F6000
+G1 X5.9S60F1000
+G0 X5.95
+G1 X6.05S60
+G0 X6.1
+G1 X6.2S60
+G0 X6.3
+G1 X6.35S60
+G0 X8.35F6000
+
+G0 Y0.75
+G0 X6.35
+G0 X6.25F1000
+G1 X6.2S60
+G0 X6.05
+G1 X5.95S60
+G0 X5.9
+G1 X5.85S60
+G0 X5.75
+G1 X5.7S60
+G0 X5.6
+G1 X5.5S60
+G0 X5.3F6000
+G1 X5.25S60F1000
+G0 X5.15
+G1 X5S60
+G0 X4.95
+G1 X4.9S60
+G0 X4.85
+G1 X4.8S60
+G0 X4.75
+G1 X4.5S60
+G0 X4.45
+G1 X4.35S60
+G0 X4.3
+G1 X4.25S60
+G0 X4.05F6000
+G1 X3.95S60F1000
+G0 X3.9
+G1 X3.85S60
+G0 X3.8
+G1 X3.75S60
+G0 X3.65
+G1 X3.5S60
+G0 X3.25F6000
+G1 X3.2S60F1000
+G0 X3.05
+G1 X2.9S60
+G0 X2.8
+G1 X2.7S60
+G0 X2.6
+G1 X2.45S60
+G0 X2.35
+G1 X2.25S60
+G0 X2.2
+G1 X2.1S60
+G0 X2.05
+G1 X1.9S60
+G0 X1.85
+G1 X1.8S60
+G0 X1.75
+G1 X1.7S60
+G0 X1.55
+G1 X1.5S60
+G0 X1.45
+G1 X1.4S60
+G0 X1.3
+G1 X1.2S60
+G0 X1.1
+G1 X1S60
+G0 X0.95
+G1 X0.9S60
+G0 X0.8
+G1 X0.7S60
+G0 X0.5F6000
+G1 X0.45S60F1000
+G0 X0.4
+G1 X0.25S60
+G0 X0.15
+G1 X0.1S60
+G0 X0.05
+G1 X0S60
+G0 X-2F6000
+
+G0 Y0.8
+G0 X0
+G0 X0.05F1000
+G1 X0.2S60
+G0 X0.25
+G1 X0.3S60
+G0 X0.35
+G1 X0.55S60
+G0 X0.6
+G1 X0.65S60
+G0 X0.75
+G1 X0.9S60
+G0 X1.1F6000
+G1 X1.15S60F1000
+G0 X1.2
+G1 X1.25S60
+G0 X1.35
+G1 X1.4S60
+G0 X1.5
+G1 X1.55S60
+G0 X1.6
+G1 X1.65S60
+G0 X1.7
+G1 X1.75S60
+G0 X1.9
+G1 X1.95S60
+G0 X2
+G1 X2.05S60
+G0 X2.1
+G1 X2.15S60
+G0 X2.25
+G1 X2.6S60
+G0 X2.65
+G1 X2.7S60
+G0 X2.8
+G1 X2.85S60
+G0 X2.95
+G1 X3.05S60
+G0 X3.25F6000
+G1 X3.35S60F1000
+G0 X3.4
+G1 X3.55S60
+G0 X3.65
+G1 X3.7S60
+G0 X3.75
+G1 X3.8S60
+G0 X3.85
+G1 X4S60
+G0 X4.05
+G1 X4.15S60
+G0 X4.2
+G1 X4.3S60
+G0 X4.35
+G1 X4.4S60
+G0 X4.45
+G1 X4.6S60
+G0 X4.65
+G1 X4.7S60
+G0 X4.75
+G1 X4.9S60
+G0 X4.95
+G1 X5S60
+G0 X5.05
+G1 X5.1S60
+G0 X5.2
+G1 X5.35S60
+G0 X5.4
+G1 X5.45S60
+G0 X5.5
+G1 X5.6S60
+G0 X5.65
+G1 X5.85S60
+G0 X5.9
+G1 X5.95S60
+G0 X6
+G1 X6.2S60
+G0 X6.3
+G1 X6.35S60
+G0 X8.35F6000
+
+G0 Y0.85
+G0 X6.35
+G0 X6.25F1000
+G1 X6.15S60
+G0 X6.1
+G1 X6S60
+G0 X5.85
+G1 X5.7S60
+G0 X5.65
+G1 X5.5S60
+G0 X5.3F6000
+G1 X5.2S60F1000
+G0 X5.15
+G1 X4.9S60
+G0 X4.85
+G1 X4.7S60
+G0 X4.6
+G1 X4.55S60
+G0 X4.35F6000
+G1 X4.3S60F1000
+G0 X4.25
+G1 X4.1S60
+G0 X4
+G1 X3.95S60
+G0 X3.9
+G1 X3.8S60
+G0 X3.75
+G1 X3.6S60
+G0 X3.55
+G1 X3.5S60
+G0 X3.45
+G1 X3.35S60
+G0 X3.3
+G1 X3.2S60
+G0 X3.15
+G1 X3S60
+G0 X2.95
+G1 X2.9S60
+G0 X2.7F6000
+G1 X2.55S60F1000
+G0 X2.5
+G1 X2.35S60
+G0 X2.3
+G1 X2.25S60
+G0 X2.15
+G1 X2S60
+G0 X1.9
+G1 X1.8S60
+G0 X1.7
+G1 X1.6S60
+G0 X1.55
+G1 X1.5S60
+G0 X1.35
+G1 X1.3S60
+G0 X1.2
+G1 X0.8S60
+G0 X0.75
+G1 X0.65S60
+G0 X0.5
+G1 X0.4S60
+G0 X0.2F6000
+G1 X0.05S60F1000
+G0 X0
+G0 X-2F6000
+
+G0 X8.35Y0.95
+G0 X6.35
+G0 X6.25F1000
+G1 X6.2S60
+G0 X6.15
+G1 X6.1S60
+G0 X5.8F6000
+G1 X5.75S60F1000
+G0 X5.6
+G1 X5.55S60
+G0 X5.35F6000
+G1 X5.2S60F1000
+G0 X5.15
+G1 X5.1S60
+G0 X4.85F6000
+G1 X4.8S60F1000
+G0 X4.75
+G1 X4.65S60
+G0 X4.6
+G1 X4.45S60
+G0 X4.4
+G1 X4.3S60
+G0 X4.25
+G1 X4.15S60
+G0 X4
+G1 X3.95S60
+G0 X3.9
+G1 X3.8S60
+G0 X3.7
+G1 X3.65S60
+G0 X3.4F6000
+G1 X3.2S60F1000
+G0 X2.95F6000
+G1 X2.9S60F1000
+G0 X2.8
+G1 X2.75S60
+G0 X2.6
+G1 X2.55S60
+G0 X2.5
+G1 X2.25S60
+G0 X2.2
+G1 X2.05S60
+G0 X2
+G1 X1.9S60
+G0 X1.85
+G1 X1.8S60
+G0 X1.75
+G1 X1.7S60
+G0 X1.65
+G1 X1.5S60
+G0 X1.45
+G1 X1.1S60
+G0 X0.75F6000
+G1 X0.7S60F1000
+G0 X0.65
+G1 X0.4S60
+G0 X0.3
+G1 X0.1S60
+G0 X0.05
+G1 X0S60
+G0 X-2F6000
+
+G0 Y1
+G0 X0
+G0 X0.05F1000
+G1 X0.1S60
+G0 X0.2
+G1 X0.35S60
+G0 X0.45
+G1 X0.5S60
+G0 X0.65
+G1 X0.7S60
+G0 X0.8
+G1 X0.9S60
+G0 X1
+G1 X1.05S60
+G0 X1.1
+G1 X1.2S60
+G0 X1.25
+G1 X1.3S60
+G0 X1.4
+G1 X1.45S60
+G0 X1.5
+G1 X1.65S60
+G0 X1.75
+G1 X1.8S60
+G0 X1.85
+G1 X1.9S60
+G0 X2.15F6000
+G1 X2.3S60F1000
+G0 X2.35
+G1 X2.4S60
+G0 X2.5
+G1 X2.6S60
+G0 X2.65
+G1 X2.75S60
+G0 X2.85
+G1 X3S60
+G0 X3.1
+G1 X3.15S60
+G0 X3.2
+G1 X3.5S60
+G0 X3.65
+G1 X3.7S60
+G0 X3.85
+G1 X3.9S60
+G0 X4.15F6000
+G1 X4.25S60F1000
+G0 X4.3
+G1 X4.35S60
+G0 X4.4
+G1 X4.45S60
+G0 X4.55
+G1 X4.7S60
+G0 X4.8
+G1 X4.85S60
+G0 X5
+G1 X5.05S60
+G0 X5.1
+G1 X5.15S60
+G0 X5.2
+G1 X5.25S60
+G0 X5.3
+G1 X5.4S60
+G0 X5.45
+G1 X5.5S60
+G0 X5.6
+G1 X5.75S60
+G0 X5.85
+G1 X5.9S60
+G0 X5.95
+G1 X6S60
+G0 X6.05
+G1 X6.15S60
+G0 X6.2
+G1 X6.3S60
+G0 X6.35
+G0 X8.35F6000
+
+G0 Y1.05
+G0 X6.35
+G1 X6.3S60F1000
+G0 X6.15
+G1 X6.1S60
+G0 X6.05
+G1 X5.95S60
+G0 X5.9
+G1 X5.85S60
+G0 X5.45F6000
+G1 X5.4S60F1000
+G0 X5.25
+G1 X5.15S60
+G0 X5.1
+G1 X5S60
+G0 X4.85
+G1 X4.8S60
+G0 X4.75
+G1 X4.65S60
+G0 X4.55
+G1 X4.45S60
+G0 X4.4
+G1 X4.35S60
+G0 X4.3
+G1 X4.2S60
+G0 X4.15
+G1 X4.1S60
+G0 X3.9F6000
+G1 X3.75S60F1000
+G0 X3.7
+G1 X3.65S60
+G0 X3.6
+G1 X3.55S60
+G0 X3.45
+G1 X3.3S60
+G0 X3.25
+G1 X3.2S60
+G0 X3.15
+G1 X3.05S60
+G0 X2.85F6000
+G1 X2.8S60F1000
+G0 X2.65
+G1 X2.55S60
+G0 X2.4
+G1 X2.35S60
+G0 X2.25
+G1 X2.2S60
+G0 X2.1
+G1 X2.05S60
+G0 X2
+G1 X1.85S60
+G0 X1.7
+G1 X1.45S60
+G0 X1.4
+G1 X1.15S60
+G0 X1.1
+G1 X1.05S60
+G0 X1
+G1 X0.95S60
+G0 X0.8
+G1 X0.75S60
+G0 X0.7
+G1 X0.6S60
+G0 X0.5
+G1 X0.4S60
+G0 X0.35
+G1 X0.3S60
+G0 X0.25
+G1 X0.2S60
+G0 X0.1
+G1 X0.05S60
+G0 X0
+G0 X-2F6000
+
+G0 Y1.1
+G0 X0
+G0 X0.25
+G1 X0.35S60F1000
+G0 X0.5
+G1 X0.55S60
+G0 X0.6
+G1 X0.65S60
+G0 X0.75
+G1 X0.85S60
+G0 X0.9
+G1 X0.95S60
+G0 X1
+G1 X1.05S60
+G0 X1.1
+G1 X1.15S60
+G0 X1.25
+G1 X1.3S60
+G0 X1.5F6000
+G1 X1.55S60F1000
+G0 X1.6
+G1 X1.65S60
+G0 X1.7
+G1 X1.75S60
+G0 X1.8
+G1 X1.85S60
+G0 X1.9
+G1 X2.05S60
+G0 X2.1
+G1 X2.65S60
+G0 X2.95F6000
+G1 X3.05S60F1000
+G0 X3.1
+G1 X3.2S60
+G0 X3.25
+G1 X3.3S60
+G0 X3.4
+G1 X3.55S60
+G0 X3.8F6000
+G1 X3.85S60F1000
+G0 X3.95
+G1 X4S60
+G0 X4.1
+G1 X4.15S60
+G0 X4.2
+G1 X4.25S60
+G0 X4.3
+G1 X4.35S60
+G0 X4.4
+G1 X4.45S60
+G0 X4.5
+G1 X4.6S60
+G0 X4.65
+G1 X4.85S60
+G0 X5.1F6000
+G1 X5.15S60F1000
+G0 X5.25
+G1 X5.3S60
+G0 X5.45
+G1 X5.5S60
+G0 X5.6
+G1 X5.65S60
+G0 X5.85F6000
+G1 X5.9S60F1000
+G0 X6.05
+G1 X6.1S60
+G0 X6.25
+G1 X6.3S60
+G0 X6.35
+G0 X8.35F6000
+
+G0 Y1.15
+G0 X6.35
+G1 X6.25S60F1000
+G0 X6.2
+G1 X6.05S60
+G0 X6
+G1 X5.95S60
+G0 X5.85
+G1 X5.75S60
+G0 X5.7
+G1 X5.6S60
+G0 X5.55
+G1 X5.5S60
+G0 X5.45
+G1 X5.35S60
+G0 X5.3
+G1 X5.25S60
+G0 X5.2
+G1 X5.1S60
+G0 X5.05
+G1 X4.85S60
+G0 X4.8
+G1 X4.7S60
+G0 X4.6
+G1 X4.55S60
+G0 X4.45
+G1 X4.3S60
+G0 X4.25
+G1 X4S60
+G0 X3.9
+G1 X3.85S60
+G0 X3.8
+G1 X3.75S60
+G0 X3.7
+G1 X3.65S60
+G0 X3.55
+G1 X3.5S60
+G0 X3.45
+G1 X3.3S60
+G0 X3.25
+G1 X3.2S60
+G0 X3.05
+G1 X2.9S60
+G0 X2.7F6000
+G1 X2.65S60F1000
+G0 X2.6
+G1 X2.45S60
+G0 X2.4
+G1 X2.35S60
+G0 X2.25
+G1 X1.9S60
+G0 X1.85
+G1 X1.75S60
+G0 X1.7
+G1 X1.65S60
+G0 X1.6
+G1 X1.5S60
+G0 X1.45
+G1 X1.4S60
+G0 X1.35
+G1 X1.3S60
+G0 X1.25
+G1 X1.2S60
+G0 X1.15
+G1 X1.1S60
+G0 X1.05
+G1 X1S60
+G0 X0.9
+G1 X0.8S60
+G0 X0.7
+G1 X0.5S60
+G0 X0.45
+G1 X0.4S60
+G0 X0.35
+G1 X0.3S60
+G0 X0.2
+G1 X0.1S60
+G0 X0.05
+G1 X0S60
+G0 X-2F6000
+
+G0 Y1.2
+G0 X0
+G1 X0.05S60F1000
+G0 X0.15
+G1 X0.25S60
+G0 X0.35
+G1 X0.45S60
+G0 X0.5
+G1 X0.55S60
+G0 X0.75F6000
+G1 X0.8S60F1000
+G0 X0.9
+G1 X0.95S60
+G0 X1
+G1 X1.05S60
+G0 X1.15
+G1 X1.25S60
+G0 X1.3
+G1 X1.35S60
+G0 X1.4
+G1 X1.45S60
+G0 X1.55
+G1 X1.6S60
+G0 X1.7
+G1 X1.8S60
+G0 X1.85
+G1 X1.9S60
+G0 X1.95
+G1 X2.35S60
+G0 X2.45
+G1 X2.65S60
+G0 X2.7
+G1 X2.75S60
+G0 X2.85
+G1 X2.9S60
+G0 X2.95
+G1 X3.1S60
+G0 X3.2
+G1 X3.25S60
+G0 X3.4
+G1 X3.45S60
+G0 X3.5
+G1 X3.55S60
+G0 X3.7
+G1 X3.75S60
+G0 X3.85
+G1 X3.95S60
+G0 X4
+G1 X4.1S60
+G0 X4.3F6000
+G1 X4.4S60F1000
+G0 X4.5
+G1 X4.55S60
+G0 X4.6
+G1 X4.7S60
+G0 X4.8
+G1 X4.85S60
+G0 X4.9
+G1 X5.2S60
+G0 X5.4F6000
+G1 X5.55S60F1000
+G0 X5.65
+G1 X5.8S60
+G0 X5.9
+G1 X5.95S60
+G0 X6.05
+G1 X6.1S60
+G0 X6.25
+G1 X6.3S60
+G0 X6.35
+G0 X8.35F6000
+
+G0 X-2Y1.3
+G0 X0
+G0 X0.2
+G1 X0.5S60F1000
+G0 X0.65
+G1 X0.75S60
+G0 X0.8
+G1 X0.85S60
+G0 X1.1F6000
+G1 X1.15S60F1000
+G0 X1.2
+G1 X1.35S60
+G0 X1.4
+G1 X1.45S60
+G0 X1.5
+G1 X1.7S60
+G0 X1.8
+G1 X1.9S60
+G0 X1.95
+G1 X2.05S60
+G0 X2.2
+G1 X2.25S60
+G0 X2.3
+G1 X2.35S60
+G0 X2.5
+G1 X2.55S60
+G0 X2.65
+G1 X2.7S60
+G0 X2.75
+G1 X3.05S60
+G0 X3.15
+G1 X3.35S60
+G0 X3.45
+G1 X3.55S60
+G0 X3.7
+G1 X3.75S60
+G0 X3.8
+G1 X3.85S60
+G0 X3.9
+G1 X4S60
+G0 X4.15
+G1 X4.3S60
+G0 X4.45
+G1 X4.5S60
+G0 X4.55
+G1 X4.7S60
+G0 X4.75
+G1 X4.8S60
+G0 X4.85
+G1 X5S60
+G0 X5.05
+G1 X5.15S60
+G0 X5.25
+G1 X5.4S60
+G0 X5.55
+G1 X5.6S60
+G0 X5.65
+G1 X5.7S60
+G0 X5.95F6000
+G1 X6.05S60F1000
+G0 X6.25F6000
+G1 X6.3S60F1000
+G0 X6.35
+G0 X8.35F6000
+
+G0 Y1.35
+G0 X6.35
+G1 X6.3S60F1000
+G0 X5.9F6000
+G1 X5.8S60F1000
+G0 X5.65
+G1 X5.6S60
+G0 X5.5
+G1 X5.45S60
+G0 X5.4
+G1 X5.35S60
+G0 X5.25
+G1 X5.2S60
+G0 X5.15
+G1 X5.05S60
+G0 X5
+G1 X4.9S60
+G0 X4.75
+G1 X4.55S60
+G0 X4.5
+G1 X4.45S60
+G0 X4.1F6000
+G1 X4S60F1000
+G0 X3.95
+G1 X3.85S60
+G0 X3.8
+G1 X3.75S60
+G0 X3.7
+G1 X3.6S60
+G0 X3.55
+G1 X3.4S60
+G0 X3.35
+G1 X3.25S60
+G0 X3.2
+G1 X3.05S60
+G0 X3
+G1 X2.9S60
+G0 X2.85
+G1 X2.8S60
+G0 X2.7
+G1 X2.55S60
+G0 X2.45
+G1 X2.35S60
+G0 X2.3
+G1 X2.25S60
+G0 X2.15
+G1 X2S60
+G0 X1.7F6000
+G1 X1.65S60F1000
+G0 X1.55
+G1 X1.4S60
+G0 X1.35
+G1 X1.3S60
+G0 X1.25
+G1 X1.2S60
+G0 X1.1
+G1 X0.9S60
+G0 X0.75
+G1 X0.7S60
+G0 X0.3F6000
+G1 X0.25S60F1000
+G0 X0.2
+G1 X0.05S60
+G0 X0
+G0 X-2F6000
+
+G0 Y1.4
+G0 X0
+G0 X0.05F1000
+G1 X0.1S60
+G0 X0.2
+G1 X0.25S60
+G0 X0.4
+G1 X0.45S60
+G0 X0.7F6000
+G1 X0.85S60F1000
+G0 X1.2F6000
+G1 X1.3S60F1000
+G0 X1.4
+G1 X1.45S60
+G0 X1.5
+G1 X1.55S60
+G0 X1.8F6000
+G1 X1.85S60F1000
+G0 X1.9
+G1 X2S60
+G0 X2.05
+G1 X2.15S60
+G0 X2.3
+G1 X2.35S60
+G0 X2.4
+G1 X2.7S60
+G0 X2.75
+G1 X2.8S60
+G0 X2.85
+G1 X2.9S60
+G0 X2.95
+G1 X3.1S60
+G0 X3.15
+G1 X3.25S60
+G0 X3.3
+G1 X3.35S60
+G0 X3.4
+G1 X3.45S60
+G0 X3.5
+G1 X3.65S60
+G0 X3.75
+G1 X3.85S60
+G0 X3.9
+G1 X3.95S60
+G0 X4.05
+G1 X4.2S60
+G0 X4.35
+G1 X4.4S60
+G0 X4.45
+G1 X4.5S60
+G0 X4.6
+G1 X4.75S60
+G0 X4.8
+G1 X4.85S60
+G0 X5.15F6000
+G1 X5.2S60F1000
+G0 X5.25
+G1 X5.45S60
+G0 X5.55
+G1 X5.6S60
+G0 X5.7
+G1 X5.8S60
+G0 X5.9
+G1 X5.95S60
+G0 X6.05
+G1 X6.1S60
+G0 X6.15
+G1 X6.3S60
+G0 X6.35
+G0 X8.35F6000
+
+G0 Y1.45
+G0 X6.35
+G0 X6.25F1000
+G1 X6.2S60
+G0 X6.1
+G1 X6.05S60
+G0 X6
+G1 X5.9S60
+G0 X5.8
+G1 X5.7S60
+G0 X5.55
+G1 X5.4S60
+G0 X5.35
+G1 X5.3S60
+G0 X5.2
+G1 X5.15S60
+G0 X5.05
+G1 X5S60
+G0 X4.8F6000
+G1 X4.7S60F1000
+G0 X4.65
+G1 X4.5S60
+G0 X4.45
+G1 X4.3S60
+G0 X4.25
+G1 X4.15S60
+G0 X4.1
+G1 X4.05S60
+G0 X3.95
+G1 X3.85S60
+G0 X3.8
+G1 X3.75S60
+G0 X3.7
+G1 X3.65S60
+G0 X3.55
+G1 X3.5S60
+G0 X3.45
+G1 X3.3S60
+G0 X3.2
+G1 X3.15S60
+G0 X3.1
+G1 X2.85S60
+G0 X2.8
+G1 X2.55S60
+G0 X2.45
+G1 X2.25S60
+G0 X2.2
+G1 X2.15S60
+G0 X2.05
+G1 X2S60
+G0 X1.85
+G1 X1.8S60
+G0 X1.7
+G1 X1.65S60
+G0 X1.55
+G1 X1.3S60
+G0 X1.2
+G1 X1.1S60
+G0 X1.05
+G1 X0.95S60
+G0 X0.9
+G1 X0.7S60
+G0 X0.6
+G1 X0.55S60
+G0 X0.5
+G1 X0.4S60
+G0 X0.3
+G1 X0.2S60
+G0 X0.1
+G1 X0.05S60
+G0 X0
+G0 X-2F6000
+
+G0 Y1.5
+G0 X0.15
+G1 X0.25S60F1000
+G0 X0.35
+G1 X0.4S60
+G0 X0.45
+G1 X0.6S60
+G0 X0.65
+G1 X0.8S60
+G0 X0.85
+G1 X1.05S60
+G0 X1.2
+G1 X1.3S60
+G0 X1.35
+G1 X1.4S60
+G0 X1.5
+G1 X1.55S60
+G0 X1.7
+G1 X1.75S60
+G0 X1.85
+G1 X2.1S60
+G0 X2.15
+G1 X2.2S60
+G0 X2.3
+G1 X2.4S60
+G0 X2.7F6000
+G1 X2.75S60F1000
+G0 X2.8
+G1 X2.85S60
+G0 X2.9
+G1 X3.1S60
+G0 X3.2
+G1 X3.25S60
+G0 X3.3
+G1 X3.35S60
+G0 X3.45
+G1 X3.5S60
+G0 X3.65
+G1 X3.7S60
+G0 X3.75
+G1 X4S60
+G0 X4.1
+G1 X4.3S60
+G0 X4.4
+G1 X4.6S60
+G0 X4.65
+G1 X4.7S60
+G0 X4.75
+G1 X4.8S60
+G0 X5F6000
+G1 X5.05S60F1000
+G0 X5.2
+G1 X5.3S60
+G0 X5.35
+G1 X5.4S60
+G0 X5.5
+G1 X5.6S60
+G0 X5.7
+G1 X5.85S60
+G0 X5.9
+G1 X6.1S60
+G0 X8.35F6000
+
+G0 Y1.55
+G0 X6.35
+G0 X6.2F1000
+G1 X6.15S60
+G0 X6.1
+G1 X6S60
+G0 X5.75F6000
+G1 X5.7S60F1000
+G0 X5.6
+G1 X5.55S60
+G0 X5.5
+G1 X5.4S60
+G0 X5.35
+G1 X5.3S60
+G0 X5.2
+G1 X5.1S60
+G0 X5.05
+G1 X5S60
+G0 X4.9
+G1 X4.8S60
+G0 X4.75
+G1 X4.65S60
+G0 X4.5
+G1 X4.35S60
+G0 X4.2
+G1 X4.05S60
+G0 X3.95
+G1 X3.85S60
+G0 X3.8
+G1 X3.75S60
+G0 X3.6
+G1 X3.55S60
+G0 X3.5
+G1 X3.45S60
+G0 X3.25F6000
+G1 X3.2S60F1000
+G0 X3.15
+G1 X3.1S60
+G0 X3.05
+G1 X3S60
+G0 X2.7F6000
+G1 X2.6S60F1000
+G0 X2.55
+G1 X2.5S60
+G0 X2.45
+G1 X2.4S60
+G0 X2.25
+G1 X2.1S60
+G0 X2
+G1 X1.9S60
+G0 X1.85
+G1 X1.75S60
+G0 X1.6
+G1 X1.4S60
+G0 X1.25
+G1 X1.2S60
+G0 X1F6000
+G1 X0.9S60F1000
+G0 X0.8
+G1 X0.7S60
+G0 X0.45F6000
+G1 X0.4S60F1000
+G0 X0.3
+G1 X0.2S60
+G0 X0.05
+G1 X0S60
+G0 X-2F6000
+
+G0 X8.35Y1.65
+G0 X6.35
+G0 X6.25F1000
+G1 X6.15S60
+G0 X6.1
+G1 X6S60
+G0 X5.95
+G1 X5.8S60
+G0 X5.7
+G1 X5.65S60
+G0 X5.55
+G1 X5.4S60
+G0 X5.35
+G1 X5.25S60
+G0 X5.2
+G1 X5.1S60
+G0 X5.05
+G1 X4.9S60
+G0 X4.85
+G1 X4.8S60
+G0 X4.75
+G1 X4.7S60
+G0 X4.65
+G1 X4.6S60
+G0 X4.5
+G1 X4.45S60
+G0 X4.4
+G1 X4.3S60
+G0 X4.2
+G1 X4.15S60
+G0 X4.1
+G1 X4S60
+G0 X3.85
+G1 X3.75S60
+G0 X3.7
+G1 X3.55S60
+G0 X3.4
+G1 X3.35S60
+G0 X3.25
+G1 X3.2S60
+G0 X3.15
+G1 X3.1S60
+G0 X3.05
+G1 X3S60
+G0 X2.9
+G1 X2.85S60
+G0 X2.75
+G1 X2.6S60
+G0 X2.5
+G1 X2.35S60
+G0 X2.3
+G1 X2.2S60
+G0 X2.15
+G1 X2.1S60
+G0 X2
+G1 X1.95S60
+G0 X1.85
+G1 X1.8S60
+G0 X1.75
+G1 X1.7S60
+G0 X1.55
+G1 X1.45S60
+G0 X1.4
+G1 X1.35S60
+G0 X1.15F6000
+G1 X1.1S60F1000
+G0 X0.85F6000
+G1 X0.7S60F1000
+G0 X0.6
+G1 X0.55S60
+G0 X0.5
+G1 X0.45S60
+G0 X0.35
+G1 X0.15S60
+G0 X0.05
+G1 X0S60
+G0 X-2F6000
+
+G0 Y1.7
+G0 X0
+G0 X0.1F1000
+G1 X0.25S60
+G0 X0.3
+G1 X0.4S60
+G0 X0.5
+G1 X0.6S60
+G0 X0.8F6000
+G1 X0.95S60F1000
+G0 X1.2F6000
+G1 X1.25S60F1000
+G0 X1.3
+G1 X1.45S60
+G0 X1.55
+G1 X1.65S60
+G0 X1.7
+G1 X1.75S60
+G0 X1.9
+G1 X2S60
+G0 X2.25F6000
+G1 X2.35S60F1000
+G0 X2.4
+G1 X2.55S60
+G0 X2.6
+G1 X2.75S60
+G0 X2.8
+G1 X2.95S60
+G0 X3.05
+G1 X3.15S60
+G0 X3.6F6000
+G1 X3.65S60F1000
+G0 X3.7
+G1 X3.8S60
+G0 X4F6000
+G1 X4.1S60F1000
+G0 X4.2
+G1 X4.25S60
+G0 X4.35
+G1 X4.45S60
+G0 X4.5
+G1 X4.55S60
+G0 X4.6
+G1 X4.75S60
+G0 X4.8
+G1 X4.9S60
+G0 X5
+G1 X5.1S60
+G0 X5.25
+G1 X5.3S60
+G0 X5.35
+G1 X5.5S60
+G0 X5.6
+G1 X5.65S60
+G0 X5.8
+G1 X5.9S60
+G0 X6
+G1 X6.15S60
+G0 X6.25
+G1 X6.35S60
+G0 X8.35F6000
+
+G0 Y1.75
+G0 X6.35
+G1 X6.3S60F1000
+G0 X6.2
+G1 X6.05S60
+G0 X6
+G1 X5.85S60
+G0 X5.8
+G1 X5.7S60
+G0 X5.6
+G1 X5.45S60
+G0 X5.35
+G1 X5.3S60
+G0 X5.2
+G1 X5.1S60
+G0 X5.05
+G1 X5S60
+G0 X4.9
+G1 X4.7S60
+G0 X4.65
+G1 X4.15S60
+G0 X4
+G1 X3.95S60
+G0 X3.9
+G1 X3.8S60
+G0 X3.75
+G1 X3.6S60
+G0 X3.55
+G1 X3.5S60
+G0 X3.45
+G1 X3.35S60
+G0 X3.05F6000
+G1 X2.95S60F1000
+G0 X2.9
+G1 X2.75S60
+G0 X2.6
+G1 X2.55S60
+G0 X2.35F6000
+G1 X2.3S60F1000
+G0 X2.25
+G1 X2.2S60
+G0 X2.15
+G1 X2.1S60
+G0 X1.95
+G1 X1.9S60
+G0 X1.85
+G1 X1.75S60
+G0 X1.7
+G1 X1.65S60
+G0 X1.5
+G1 X1.45S60
+G0 X1.4
+G1 X1.35S60
+G0 X1.3
+G1 X1.25S60
+G0 X1.15
+G1 X1.1S60
+G0 X0.95
+G1 X0.85S60
+G0 X0.7
+G1 X0.6S60
+G0 X0.55
+G1 X0.45S60
+G0 X0.4
+G1 X0.2S60
+G0 X0.15
+G1 X0.05S60
+G0 X0
+G0 X-2F6000
+
+G0 Y1.8
+G0 X0
+G1 X0.3S60F1000
+G0 X0.35
+G1 X0.45S60
+G0 X0.55
+G1 X0.7S60
+G0 X0.8
+G1 X0.85S60
+G0 X0.9
+G1 X0.95S60
+G0 X1
+G1 X1.05S60
+G0 X1.1
+G1 X1.2S60
+G0 X1.4F6000
+G1 X1.45S60F1000
+G0 X1.55
+G1 X1.6S60
+G0 X1.65
+G1 X1.75S60
+G0 X2.1F6000
+G1 X2.15S60F1000
+G0 X2.2
+G1 X2.3S60
+G0 X2.35
+G1 X2.4S60
+G0 X2.5
+G1 X2.55S60
+G0 X2.65
+G1 X2.7S60
+G0 X2.8
+G1 X2.9S60
+G0 X2.95
+G1 X3.1S60
+G0 X3.15
+G1 X3.2S60
+G0 X3.35
+G1 X3.45S60
+G0 X3.7F6000
+G1 X4S60F1000
+G0 X4.2F6000
+G1 X4.25S60F1000
+G0 X4.55F6000
+G1 X4.65S60F1000
+G0 X4.9F6000
+G1 X4.95S60F1000
+G0 X5
+G1 X5.05S60
+G0 X5.2
+G1 X5.25S60
+G0 X5.4
+G1 X5.5S60
+G0 X5.55
+G1 X5.6S60
+G0 X5.7
+G1 X5.75S60
+G0 X5.9
+G1 X6S60
+G0 X6.2F6000
+G1 X6.35S60F1000
+G0 X8.35F6000
+
+G0 Y1.85
+G0 X6.35
+G1 X6.15S60F1000
+G0 X6.1
+G1 X6S60
+G0 X5.9
+G1 X5.55S60
+G0 X5.45
+G1 X5.35S60
+G0 X5.15F6000
+G1 X5.1S60F1000
+G0 X4.75F6000
+G1 X4.65S60F1000
+G0 X4.6
+G1 X4.45S60
+G0 X4.35
+G1 X4.15S60
+G0 X4.1
+G1 X4.05S60
+G0 X4
+G1 X3.95S60
+G0 X3.85
+G1 X3.8S60
+G0 X3.75
+G1 X3.7S60
+G0 X3.65
+G1 X3.6S60
+G0 X3.55
+G1 X3.35S60
+G0 X3.25
+G1 X3S60
+G0 X2.75F6000
+G1 X2.7S60F1000
+G0 X2.65
+G1 X2.6S60
+G0 X2.5
+G1 X2.35S60
+G0 X2.25
+G1 X1.9S60
+G0 X1.7F6000
+G1 X1.65S60F1000
+G0 X1.6
+G1 X1.55S60
+G0 X1.5
+G1 X1.4S60
+G0 X1.35
+G1 X1.3S60
+G0 X0.95F6000
+G1 X0.9S60F1000
+G0 X0.85
+G1 X0.75S60
+G0 X0.7
+G1 X0.45S60
+G0 X0.35
+G1 X0.3S60
+G0 X0.25
+G1 X0.2S60
+G0 X0.1
+G1 X0.05S60
+G0 X0
+G0 X-2F6000
+
+G0 Y1.9
+G0 X0
+G0 X0.15F1000
+G1 X0.2S60
+G0 X0.25
+G1 X0.45S60
+G0 X0.55
+G1 X0.6S60
+G0 X0.7
+G1 X0.8S60
+G0 X0.85
+G1 X1.1S60
+G0 X1.2
+G1 X1.25S60
+G0 X1.3
+G1 X1.35S60
+G0 X1.4
+G1 X1.45S60
+G0 X1.5
+G1 X1.75S60
+G0 X1.9
+G1 X1.95S60
+G0 X2.05
+G1 X2.2S60
+G0 X2.25
+G1 X2.4S60
+G0 X3F6000
+G1 X3.05S60F1000
+G0 X3.1
+G1 X3.15S60
+G0 X3.2
+G1 X3.25S60
+G0 X3.4
+G1 X3.55S60
+G0 X3.65
+G1 X3.75S60
+G0 X3.8
+G1 X3.85S60
+G0 X4
+G1 X4.05S60
+G0 X4.15
+G1 X4.2S60
+G0 X4.25
+G1 X4.3S60
+G0 X4.4
+G1 X4.45S60
+G0 X4.6
+G1 X4.65S60
+G0 X4.7
+G1 X4.8S60
+G0 X4.9
+G1 X4.95S60
+G0 X5
+G1 X5.05S60
+G0 X5.1
+G1 X5.15S60
+G0 X5.2
+G1 X5.3S60
+G0 X5.35
+G1 X5.55S60
+G0 X5.6
+G1 X5.65S60
+G0 X5.7
+G1 X5.9S60
+G0 X5.95
+G1 X6S60
+G0 X6.15
+G1 X6.2S60
+G0 X6.25
+G1 X6.3S60
+G0 X6.35
+G0 X8.35F6000
+
+G0 X-2Y2
+G0 X0
+G0 X0.1F1000
+G1 X0.15S60
+G0 X0.2
+G1 X0.35S60
+G0 X0.4
+G1 X0.55S60
+G0 X0.6
+G1 X0.7S60
+G0 X0.75
+G1 X1S60
+G0 X1.15
+G1 X1.2S60
+G0 X1.35
+G1 X1.55S60
+G0 X1.7
+G1 X1.85S60
+G0 X1.9
+G1 X1.95S60
+G0 X2.05
+G1 X2.1S60
+G0 X2.5F6000
+G1 X2.55S60F1000
+G0 X2.7
+G1 X2.75S60
+G0 X2.85
+G1 X3.05S60
+G0 X3.2
+G1 X3.3S60
+G0 X3.5F6000
+G1 X3.55S60F1000
+G0 X3.6
+G1 X3.65S60
+G0 X3.7
+G1 X3.75S60
+G0 X3.8
+G1 X3.85S60
+G0 X4
+G1 X4.05S60
+G0 X4.25F6000
+G1 X4.3S60F1000
+G0 X4.35
+G1 X4.45S60
+G0 X4.55
+G1 X4.65S60
+G0 X4.75
+G1 X4.9S60
+G0 X4.95
+G1 X5S60
+G0 X5.1
+G1 X5.3S60
+G0 X5.4
+G1 X5.5S60
+G0 X5.6
+G1 X5.8S60
+G0 X6.1F6000
+G1 X6.15S60F1000
+G0 X6.2
+G1 X6.25S60
+G0 X6.3
+G1 X6.35S60
+G0 X8.35F6000
+
+G0 Y2.05
+G0 X6.1
+G1 X5.95S60F1000
+G0 X5.8
+G1 X5.75S60
+G0 X5.7
+G1 X5.6S60
+G0 X5.5
+G1 X5.45S60
+G0 X5.4
+G1 X5.3S60
+G0 X5.2
+G1 X4.9S60
+G0 X4.8
+G1 X4.75S60
+G0 X4.7
+G1 X4.65S60
+G0 X4.5
+G1 X4.45S60
+G0 X4.35
+G1 X4.1S60
+G0 X3.95
+G1 X3.65S60
+G0 X3.4F6000
+G1 X3.3S60F1000
+G0 X3.25
+G1 X3.2S60
+G0 X3.05
+G1 X2.85S60
+G0 X2.8
+G1 X2.7S60
+G0 X2.65
+G1 X2.45S60
+G0 X2.4
+G1 X2.3S60
+G0 X2.2
+G1 X2.15S60
+G0 X2.05
+G1 X2S60
+G0 X1.9
+G1 X1.8S60
+G0 X1.75
+G1 X1.7S60
+G0 X1.6
+G1 X1.55S60
+G0 X1.45
+G1 X1.35S60
+G0 X1.3
+G1 X1.25S60
+G0 X1.15
+G1 X1.05S60
+G0 X1
+G1 X0.75S60
+G0 X0.65
+G1 X0.6S60
+G0 X0.55
+G1 X0.5S60
+G0 X0.3F6000
+G1 X0.25S60F1000
+G0 X0.2
+G1 X0.1S60
+G0 X0.05
+G1 X0S60
+G0 X-2F6000
+
+G0 Y2.1
+G0 X0
+G0 X0.05F1000
+G1 X0.15S60
+G0 X0.2
+G1 X0.4S60
+G0 X0.75F6000
+G1 X0.8S60F1000
+G0 X0.85
+G1 X0.95S60
+G0 X1.05
+G1 X1.55S60
+G0 X1.65
+G1 X1.7S60
+G0 X1.8
+G1 X1.85S60
+G0 X2.15F6000
+G1 X2.25S60F1000
+G0 X2.35
+G1 X2.4S60
+G0 X2.45
+G1 X2.5S60
+G0 X2.65
+G1 X2.7S60
+G0 X2.75
+G1 X2.8S60
+G0 X2.9
+G1 X2.95S60
+G0 X3
+G1 X3.1S60
+G0 X3.3F6000
+G1 X3.4S60F1000
+G0 X3.45
+G1 X3.6S60
+G0 X3.7
+G1 X3.75S60
+G0 X3.8
+G1 X3.9S60
+G0 X3.95
+G1 X4.05S60
+G0 X4.15
+G1 X4.2S60
+G0 X4.3
+G1 X4.35S60
+G0 X4.45
+G1 X4.5S60
+G0 X4.55
+G1 X4.6S60
+G0 X4.9F6000
+G1 X4.95S60F1000
+G0 X5.1
+G1 X5.15S60
+G0 X5.35F6000
+G1 X5.75S60F1000
+G0 X5.95F6000
+G1 X6.05S60F1000
+G0 X6.1
+G1 X6.15S60
+G0 X6.3
+G1 X6.35S60
+G0 X8.35F6000
+
+G0 Y2.15
+G0 X6.35
+G1 X6.25S60F1000
+G0 X6.2
+G1 X5.95S60
+G0 X5.9
+G1 X5.85S60
+G0 X5.8
+G1 X5.75S60
+G0 X5.7
+G1 X5.65S60
+G0 X5.6
+G1 X5.35S60
+G0 X5.25
+G1 X5.15S60
+G0 X5.1
+G1 X5.05S60
+G0 X5
+G1 X4.95S60
+G0 X4.85
+G1 X4.8S60
+G0 X4.7
+G1 X4.65S60
+G0 X4.55
+G1 X4.5S60
+G0 X4.35
+G1 X4.3S60
+G0 X4.25
+G1 X4.05S60
+G0 X3.9
+G1 X3.85S60
+G0 X3.65F6000
+G1 X3.5S60F1000
+G0 X3.45
+G1 X3.4S60
+G0 X3.35
+G1 X3.3S60
+G0 X3.25
+G1 X3.2S60
+G0 X3F6000
+G1 X2.95S60F1000
+G0 X2.9
+G1 X2.85S60
+G0 X2.8
+G1 X2.75S60
+G0 X2.7
+G1 X2.65S60
+G0 X2.55
+G1 X2.5S60
+G0 X2.45
+G1 X2.3S60
+G0 X2.15
+G1 X2S60
+G0 X1.95
+G1 X1.85S60
+G0 X1.8
+G1 X1.75S60
+G0 X1.7
+G1 X1.65S60
+G0 X1.4F6000
+G1 X1.3S60F1000
+G0 X1.25
+G1 X1.2S60
+G0 X1.1
+G1 X0.95S60
+G0 X0.85
+G1 X0.75S60
+G0 X0.65
+G1 X0.55S60
+G0 X0.45
+G1 X0.4S60
+G0 X0.35
+G1 X0.3S60
+G0 X0.25
+G1 X0.15S60
+G0 X0
+G0 X-2F6000
+
+G0 Y2.2
+G0 X0
+G0 X0.15F1000
+G1 X0.2S60
+G0 X0.5F6000
+G1 X0.55S60F1000
+G0 X0.65
+G1 X0.7S60
+G0 X0.75
+G1 X0.85S60
+G0 X0.9
+G1 X0.95S60
+G0 X1
+G1 X1.1S60
+G0 X1.15
+G1 X1.2S60
+G0 X1.25
+G1 X1.4S60
+G0 X1.45
+G1 X1.6S60
+G0 X1.75
+G1 X1.8S60
+G0 X1.9
+G1 X1.95S60
+G0 X2.05
+G1 X2.3S60
+G0 X2.35
+G1 X2.45S60
+G0 X2.5
+G1 X2.6S60
+G0 X2.65
+G1 X2.75S60
+G0 X2.8
+G1 X2.85S60
+G0 X2.95
+G1 X3.2S60
+G0 X3.3
+G1 X3.4S60
+G0 X3.7F6000
+G1 X3.75S60F1000
+G0 X3.8
+G1 X4.05S60
+G0 X4.1
+G1 X4.2S60
+G0 X4.35
+G1 X4.4S60
+G0 X4.5
+G1 X4.6S60
+G0 X4.75
+G1 X4.8S60
+G0 X4.85
+G1 X4.9S60
+G0 X4.95
+G1 X5.15S60
+G0 X5.2
+G1 X5.25S60
+G0 X5.3
+G1 X5.4S60
+G0 X5.45
+G1 X5.55S60
+G0 X5.7
+G1 X5.85S60
+G0 X5.9
+G1 X5.95S60
+G0 X6
+G1 X6.1S60
+G0 X6.25
+G1 X6.3S60
+G0 X6.35
+G0 X8.35F6000
+
+G0 Y2.25
+G0 X6.35
+G1 X6.3S60F1000
+G0 X6.25
+G1 X6.2S60
+G0 X6.1
+G1 X5.85S60
+G0 X5.8
+G1 X5.75S60
+G0 X5.6
+G1 X5.55S60
+G0 X5.5
+G1 X5.4S60
+G0 X5.3
+G1 X5.25S60
+G0 X5.05F6000
+G1 X4.95S60F1000
+G0 X4.9
+G1 X4.85S60
+G0 X4.7
+G1 X4.65S60
+G0 X4.4F6000
+G1 X4.25S60F1000
+G0 X4.2
+G1 X4S60
+G0 X3.9
+G1 X3.85S60
+G0 X3.75
+G1 X3.55S60
+G0 X3.45
+G1 X3.4S60
+G0 X3.35
+G1 X3.15S60
+G0 X3.1
+G1 X3S60
+G0 X2.95
+G1 X2.9S60
+G0 X2.8
+G1 X2.75S60
+G0 X2.6
+G1 X2.5S60
+G0 X2.45
+G1 X2.4S60
+G0 X2F6000
+G1 X1.9S60F1000
+G0 X1.8
+G1 X1.75S60
+G0 X1.7
+G1 X1.5S60
+G0 X1.45
+G1 X1.4S60
+G0 X1.35
+G1 X1.3S60
+G0 X1.15
+G1 X1.1S60
+G0 X1
+G1 X0.9S60
+G0 X0.85
+G1 X0.8S60
+G0 X0.5F6000
+G1 X0.45S60F1000
+G0 X0.4
+G1 X0.35S60
+G0 X0.3
+G1 X0.25S60
+G0 X0.2
+G1 X0.05S60
+G0 X0
+G0 X-1.95F6000
+
+G0 X8.35Y2.35
+G0 X6.35
+G0 X6.3F1000
+G1 X6.25S60
+G0 X6.1
+G1 X6.05S60
+G0 X6
+G1 X5.9S60
+G0 X5.8
+G1 X5.75S60
+G0 X5.7
+G1 X5.65S60
+G0 X5.55
+G1 X5.35S60
+G0 X5.3
+G1 X5.25S60
+G0 X5.15
+G1 X4.95S60
+G0 X4.85
+G1 X4.8S60
+G0 X4.65
+G1 X4.6S60
+G0 X4.5
+G1 X4.4S60
+G0 X4.35
+G1 X4.2S60
+G0 X4.05
+G1 X3.9S60
+G0 X3.75
+G1 X3.65S60
+G0 X3.6
+G1 X3.5S60
+G0 X3.4
+G1 X3.35S60
+G0 X3.2
+G1 X3.1S60
+G0 X3.05
+G1 X2.9S60
+G0 X2.6F6000
+G1 X2.55S60F1000
+G0 X2.45
+G1 X2.35S60
+G0 X2.15F6000
+G1 X2.1S60F1000
+G0 X1.9F6000
+G1 X1.8S60F1000
+G0 X1.65
+G1 X1.6S60
+G0 X1.55
+G1 X1.5S60
+G0 X1.4
+G1 X1.2S60
+G0 X1.15
+G1 X1S60
+G0 X0.95
+G1 X0.9S60
+G0 X0.85
+G1 X0.75S60
+G0 X0.65
+G1 X0.45S60
+G0 X0.25F6000
+G1 X0S60F1000
+G0 X-2F6000
+
+G0 Y2.4
+G0 X0
+G1 X0.1S60F1000
+G0 X0.2
+G1 X0.3S60
+G0 X0.35
+G1 X0.6S60
+G0 X0.65
+G1 X0.9S60
+G0 X0.95
+G1 X1.05S60
+G0 X1.15
+G1 X1.2S60
+G0 X1.25
+G1 X1.3S60
+G0 X1.4
+G1 X1.45S60
+G0 X1.65F6000
+G1 X1.8S60F1000
+G0 X1.9
+G1 X1.95S60
+G0 X2.05
+G1 X2.15S60
+G0 X2.2
+G1 X2.25S60
+G0 X2.35
+G1 X2.45S60
+G0 X2.5
+G1 X2.55S60
+G0 X2.6
+G1 X2.65S60
+G0 X2.7
+G1 X2.75S60
+G0 X2.95F6000
+G1 X3S60F1000
+G0 X3.1
+G1 X3.2S60
+G0 X3.25
+G1 X3.3S60
+G0 X3.4
+G1 X3.5S60
+G0 X3.55
+G1 X3.6S60
+G0 X3.65
+G1 X3.7S60
+G0 X3.75
+G1 X3.8S60
+G0 X4.2F6000
+G1 X4.3S60F1000
+G0 X4.35
+G1 X4.45S60
+G0 X4.5
+G1 X4.6S60
+G0 X4.65
+G1 X4.75S60
+G0 X5F6000
+G1 X5.2S60F1000
+G0 X5.35
+G1 X5.5S60
+G0 X5.55
+G1 X5.6S60
+G0 X5.65
+G1 X5.85S60
+G0 X5.9
+G1 X6S60
+G0 X6.05
+G1 X6.1S60
+G0 X6.3F6000
+G1 X6.35S60F1000
+G0 X8.35F6000
+
+G0 Y2.45
+G0 X6.35
+G0 X6.3F1000
+G1 X6.25S60
+G0 X6.2
+G1 X6.15S60
+G0 X6.1
+G1 X6S60
+G0 X5.9
+G1 X5.7S60
+G0 X5.6
+G1 X5.55S60
+G0 X5.5
+G1 X5.45S60
+G0 X5.35
+G1 X5.25S60
+G0 X5.05F6000
+G1 X4.9S60F1000
+G0 X4.8
+G1 X4.7S60
+G0 X4.6
+G1 X4.5S60
+G0 X4.4
+G1 X4.3S60
+G0 X4.1F6000
+G1 X4S60F1000
+G0 X3.95
+G1 X3.8S60
+G0 X3.75
+G1 X3.7S60
+G0 X3.55
+G1 X3.45S60
+G0 X3.4
+G1 X3.3S60
+G0 X3.25
+G1 X3S60
+G0 X2.95
+G1 X2.75S60
+G0 X2.7
+G1 X2.65S60
+G0 X2.5
+G1 X2.45S60
+G0 X2.4
+G1 X2.25S60
+G0 X2.1
+G1 X1.95S60
+G0 X1.85
+G1 X1.8S60
+G0 X1.75
+G1 X1.7S60
+G0 X1.65
+G1 X1.6S60
+G0 X1.5
+G1 X1.4S60
+G0 X1.25
+G1 X1.1S60
+G0 X1.05
+G1 X1S60
+G0 X0.85
+G1 X0.8S60
+G0 X0.7
+G1 X0.65S60
+G0 X0.6
+G1 X0.45S60
+G0 X0.25F6000
+G1 X0S60F1000
+G0 X-2F6000
+
+G0 Y2.5
+G0 X0
+G1 X0.05S60F1000
+G0 X0.25F6000
+G1 X0.3S60F1000
+G0 X0.35
+G1 X0.55S60
+G0 X0.6
+G1 X0.65S60
+G0 X0.7
+G1 X0.85S60
+G0 X0.9
+G1 X0.95S60
+G0 X1
+G1 X1.05S60
+G0 X1.2
+G1 X1.25S60
+G0 X1.3
+G1 X1.4S60
+G0 X1.55
+G1 X1.7S60
+G0 X1.8
+G1 X1.85S60
+G0 X1.95
+G1 X2S60
+G0 X2.1
+G1 X2.2S60
+G0 X2.3
+G1 X2.35S60
+G0 X2.45
+G1 X2.55S60
+G0 X2.6
+G1 X2.65S60
+G0 X2.7
+G1 X2.75S60
+G0 X2.8
+G1 X2.9S60
+G0 X2.95
+G1 X3.05S60
+G0 X3.1
+G1 X3.2S60
+G0 X3.3
+G1 X3.6S60
+G0 X3.65
+G1 X3.75S60
+G0 X3.8
+G1 X3.9S60
+G0 X3.95
+G1 X4S60
+G0 X4.05
+G1 X4.1S60
+G0 X4.15
+G1 X4.2S60
+G0 X4.35
+G1 X4.4S60
+G0 X4.5
+G1 X4.55S60
+G0 X4.6
+G1 X4.7S60
+G0 X4.8
+G1 X4.95S60
+G0 X5.05
+G1 X5.1S60
+G0 X5.15
+G1 X5.3S60
+G0 X5.35
+G1 X5.6S60
+G0 X5.65
+G1 X5.85S60
+G0 X5.9
+G1 X6S60
+G0 X6.05
+G1 X6.35S60
+G0 X8.35F6000
+
+G0 Y2.55
+G0 X6.35
+G1 X6.3S60F1000
+G0 X6.25
+G1 X6.15S60
+G0 X6.1
+G1 X6.05S60
+G0 X6
+G1 X5.95S60
+G0 X5.75F6000
+G1 X5.7S60F1000
+G0 X5.65
+G1 X5.5S60
+G0 X5.45
+G1 X5.35S60
+G0 X5.3
+G1 X5.25S60
+G0 X5.2
+G1 X4.95S60
+G0 X4.9
+G1 X4.85S60
+G0 X4.8
+G1 X4.35S60
+G0 X4.25
+G1 X4.15S60
+G0 X4.1
+G1 X4.05S60
+G0 X3.9
+G1 X3.8S60
+G0 X3.7
+G1 X3.65S60
+G0 X3.6
+G1 X3.55S60
+G0 X3.5
+G1 X3.4S60
+G0 X3.3
+G1 X3.25S60
+G0 X3.05F6000
+G1 X3S60F1000
+G0 X2.8F6000
+G1 X2.65S60F1000
+G0 X2.6
+G1 X2.55S60
+G0 X2.5
+G1 X2.3S60
+G0 X2.25
+G1 X2.15S60
+G0 X2.05
+G1 X1.95S60
+G0 X1.85
+G1 X1.8S60
+G0 X1.75
+G1 X1.65S60
+G0 X1.6
+G1 X1.55S60
+G0 X1.5
+G1 X1.3S60
+G0 X1.25
+G1 X1.2S60
+G0 X1.15
+G1 X0.95S60
+G0 X0.9
+G1 X0.75S60
+G0 X0.7
+G1 X0.6S60
+G0 X0.55
+G1 X0.5S60
+G0 X0.3F6000
+G1 X0.15S60F1000
+G0 X0.1
+G1 X0.05S60
+G0 X0
+G0 X-2F6000
+
+G0 Y2.6
+G0 X0
+G0 X0.05F1000
+G1 X0.15S60
+G0 X0.35F6000
+G1 X0.45S60F1000
+G0 X0.65F6000
+G1 X0.7S60F1000
+G0 X0.75
+G1 X0.8S60
+G0 X0.85
+G1 X0.9S60
+G0 X0.95
+G1 X1S60
+G0 X1.1
+G1 X1.2S60
+G0 X1.25
+G1 X1.35S60
+G0 X1.4
+G1 X1.55S60
+G0 X1.75F6000
+G1 X1.85S60F1000
+G0 X1.95
+G1 X2.15S60
+G0 X2.2
+G1 X2.4S60
+G0 X2.45
+G1 X2.5S60
+G0 X2.55
+G1 X2.6S60
+G0 X2.8F6000
+G1 X2.95S60F1000
+G0 X3.05
+G1 X3.1S60
+G0 X3.3F6000
+G1 X3.4S60F1000
+G0 X3.45
+G1 X3.5S60
+G0 X3.6
+G1 X3.8S60
+G0 X3.85
+G1 X3.9S60
+G0 X4
+G1 X4.05S60
+G0 X4.1
+G1 X4.25S60
+G0 X4.3
+G1 X4.4S60
+G0 X5F6000
+G1 X5.1S60F1000
+G0 X5.2
+G1 X5.35S60
+G0 X5.4
+G1 X5.5S60
+G0 X5.55
+G1 X5.65S60
+G0 X5.75
+G1 X5.85S60
+G0 X6.1F6000
+G1 X6.15S60F1000
+G0 X6.25
+G1 X6.3S60
+G0 X6.35
+G0 X8.35F6000
+
+G0 X-2Y2.7
+G0 X0
+G0 X0.3
+G1 X0.35S60F1000
+G0 X0.45
+G1 X0.55S60
+G0 X0.7
+G1 X0.85S60
+G0 X1.05F6000
+G1 X1.1S60F1000
+G0 X1.2
+G1 X1.3S60
+G0 X1.35
+G1 X1.4S60
+G0 X1.45
+G1 X1.55S60
+G0 X1.65
+G1 X1.8S60
+G0 X1.85
+G1 X1.95S60
+G0 X2.1
+G1 X2.15S60
+G0 X2.2
+G1 X2.25S60
+G0 X2.3
+G1 X2.35S60
+G0 X2.4
+G1 X2.75S60
+G0 X2.8
+G1 X2.85S60
+G0 X3
+G1 X3.1S60
+G0 X3.15
+G1 X3.2S60
+G0 X3.25
+G1 X3.3S60
+G0 X3.65F6000
+G1 X3.7S60F1000
+G0 X3.8
+G1 X3.85S60
+G0 X3.9
+G1 X4S60
+G0 X4.2F6000
+G1 X4.3S60F1000
+G0 X4.4
+G1 X4.6S60
+G0 X4.75
+G1 X4.95S60
+G0 X5
+G1 X5.1S60
+G0 X5.4F6000
+G1 X5.5S60F1000
+G0 X5.65
+G1 X5.7S60
+G0 X5.75
+G1 X5.8S60
+G0 X6F6000
+G1 X6.1S60F1000
+G0 X6.15
+G1 X6.25S60
+G0 X6.35
+G0 X8.35F6000
+
+G0 Y2.75
+G0 X6.35
+G0 X6.3F1000
+G1 X6.05S60
+G0 X5.95
+G1 X5.85S60
+G0 X5.8
+G1 X5.7S60
+G0 X5.65
+G1 X5.6S60
+G0 X5.55
+G1 X5.4S60
+G0 X5.35
+G1 X5.25S60
+G0 X5.05F6000
+G1 X5S60F1000
+G0 X4.7F6000
+G1 X4.65S60F1000
+G0 X4.6
+G1 X4.45S60
+G0 X4.4
+G1 X4.35S60
+G0 X4.1F6000
+G1 X3.9S60F1000
+G0 X3.75
+G1 X3.7S60
+G0 X3.65
+G1 X3.6S60
+G0 X3.5
+G1 X3.4S60
+G0 X3.35
+G1 X3.3S60
+G0 X3.1F6000
+G1 X3.05S60F1000
+G0 X3
+G1 X2.9S60
+G0 X2.8
+G1 X2.6S60
+G0 X2.5
+G1 X2.4S60
+G0 X2.3
+G1 X2.2S60
+G0 X2.15
+G1 X2.05S60
+G0 X2
+G1 X1.85S60
+G0 X1.8
+G1 X1.6S60
+G0 X1.55
+G1 X1.5S60
+G0 X1.4
+G1 X1.35S60
+G0 X1.25
+G1 X1.2S60
+G0 X1.15
+G1 X1.1S60
+G0 X1.05
+G1 X1S60
+G0 X0.95
+G1 X0.8S60
+G0 X0.7
+G1 X0.65S60
+G0 X0.6
+G1 X0.5S60
+G0 X0.45
+G1 X0.4S60
+G0 X0.35
+G1 X0.2S60
+G0 X0.15
+G1 X0S60
+G0 X-2F6000
+
+G0 Y2.8
+G0 X0
+G0 X0.25
+G1 X0.3S60F1000
+G0 X0.35
+G1 X0.4S60
+G0 X0.45
+G1 X0.5S60
+G0 X0.55
+G1 X0.85S60
+G0 X0.9
+G1 X1.15S60
+G0 X1.25
+G1 X1.3S60
+G0 X1.5F6000
+G1 X1.7S60F1000
+G0 X1.75
+G1 X1.8S60
+G0 X1.9
+G1 X2S60
+G0 X2.1
+G1 X2.2S60
+G0 X2.35
+G1 X2.55S60
+G0 X2.65
+G1 X2.8S60
+G0 X2.85
+G1 X2.9S60
+G0 X3.05
+G1 X3.1S60
+G0 X3.15
+G1 X3.25S60
+G0 X3.3
+G1 X3.35S60
+G0 X3.4
+G1 X3.45S60
+G0 X3.55
+G1 X3.6S60
+G0 X3.95F6000
+G1 X4S60F1000
+G0 X4.2F6000
+G1 X4.3S60F1000
+G0 X4.35
+G1 X4.4S60
+G0 X4.45
+G1 X4.5S60
+G0 X4.6
+G1 X5.05S60
+G0 X5.1
+G1 X5.5S60
+G0 X5.65
+G1 X5.8S60
+G0 X5.9
+G1 X6.15S60
+G0 X6.25
+G1 X6.3S60
+G0 X6.35
+G0 X8.35F6000
+
+G0 Y2.85
+G0 X6.35
+G1 X6.3S60F1000
+G0 X6.2
+G1 X6.05S60
+G0 X5.9
+G1 X5.75S60
+G0 X5.7
+G1 X5.65S60
+G0 X5.55
+G1 X5.5S60
+G0 X5.35
+G1 X5.15S60
+G0 X4.95F6000
+G1 X4.85S60F1000
+G0 X4.8
+G1 X4.4S60
+G0 X4.2F6000
+G1 X4.05S60F1000
+G0 X4
+G1 X3.95S60
+G0 X3.9
+G1 X3.85S60
+G0 X3.8
+G1 X3.65S60
+G0 X3.35F6000
+G1 X3.2S60F1000
+G0 X3.15
+G1 X3.1S60
+G0 X3
+G1 X2.95S60
+G0 X2.9
+G1 X2.85S60
+G0 X2.75
+G1 X2.65S60
+G0 X2.45F6000
+G1 X2.4S60F1000
+G0 X2.3
+G1 X2.25S60
+G0 X2.2
+G1 X2.15S60
+G0 X2.05
+G1 X2S60
+G0 X1.95
+G1 X1.9S60
+G0 X1.8
+G1 X1.7S60
+G0 X1.55
+G1 X1.45S60
+G0 X1.4
+G1 X1.35S60
+G0 X1.05F6000
+G1 X0.95S60F1000
+G0 X0.8
+G1 X0.7S60
+G0 X0.65
+G1 X0.55S60
+G0 X0.5
+G1 X0.45S60
+G0 X0.4
+G1 X0.35S60
+G0 X0.3
+G1 X0.15S60
+G0 X0.1
+G1 X0S60
+G0 X-2F6000
+
+G0 Y2.9
+G0 X0
+G1 X0.2S60F1000
+G0 X0.25
+G1 X0.3S60
+G0 X0.45
+G1 X0.7S60
+G0 X0.75
+G1 X0.8S60
+G0 X0.85
+G1 X0.9S60
+G0 X0.95
+G1 X1.05S60
+G0 X1.1
+G1 X1.15S60
+G0 X1.25
+G1 X1.3S60
+G0 X1.4
+G1 X1.45S60
+G0 X1.55
+G1 X1.75S60
+G0 X1.85
+G1 X2.05S60
+G0 X2.25F6000
+G1 X2.3S60F1000
+G0 X2.5F6000
+G1 X2.55S60F1000
+G0 X2.65
+G1 X2.85S60
+G0 X3.1F6000
+G1 X3.15S60F1000
+G0 X3.25
+G1 X3.3S60
+G0 X3.35
+G1 X3.4S60
+G0 X3.45
+G1 X3.5S60
+G0 X3.65
+G1 X3.7S60
+G0 X3.75
+G1 X3.8S60
+G0 X3.9
+G1 X4.2S60
+G0 X4.25
+G1 X4.3S60
+G0 X4.5F6000
+G1 X4.55S60F1000
+G0 X4.6
+G1 X4.75S60
+G0 X4.8
+G1 X4.85S60
+G0 X5.05F6000
+G1 X5.1S60F1000
+G0 X5.15
+G1 X5.25S60
+G0 X5.45F6000
+G1 X5.55S60F1000
+G0 X5.6
+G1 X5.7S60
+G0 X5.8
+G1 X5.85S60
+G0 X5.9
+G1 X6.1S60
+G0 X6.15
+G1 X6.2S60
+G0 X6.25
+G1 X6.35S60
+G0 X8.35F6000
+
+G0 Y2.95
+G0 X6.2
+G1 X6.05S60F1000
+G0 X6
+G1 X5.95S60
+G0 X5.9
+G1 X5.8S60
+G0 X5.5F6000
+G1 X5.45S60F1000
+G0 X5.4
+G1 X5.2S60
+G0 X5.15
+G1 X5.1S60
+G0 X5
+G1 X4.9S60
+G0 X4.85
+G1 X4.65S60
+G0 X4.6
+G1 X4.55S60
+G0 X4.5
+G1 X4.35S60
+G0 X4F6000
+G1 X3.95S60F1000
+G0 X3.85
+G1 X3.75S60
+G0 X3.7
+G1 X3.55S60
+G0 X3.5
+G1 X3.45S60
+G0 X3.2F6000
+G1 X2.95S60F1000
+G0 X2.9
+G1 X2.85S60
+G0 X2.65F6000
+G1 X2.6S60F1000
+G0 X2.5
+G1 X2.35S60
+G0 X2.05F6000
+G1 X2S60F1000
+G0 X1.85
+G1 X1.75S60
+G0 X1.35F6000
+G1 X1.3S60F1000
+G0 X1.25
+G1 X1.1S60
+G0 X0.85F6000
+G1 X0.65S60F1000
+G0 X0.55
+G1 X0.5S60
+G0 X0.45
+G1 X0.25S60
+G0 X0.2
+G1 X0.1S60
+G0 X0.05
+G1 X0S60
+G0 X-2F6000
+
+G0 X8.35Y3.05
+G0 X6.35
+G1 X6.3S60F1000
+G0 X6.25
+G1 X6.15S60
+G0 X6.05
+G1 X6S60
+G0 X5.95
+G1 X5.75S60
+G0 X5.65
+G1 X5.5S60
+G0 X5.4
+G1 X5.35S60
+G0 X5.3
+G1 X5.25S60
+G0 X5.15
+G1 X5.1S60
+G0 X5.05
+G1 X4.9S60
+G0 X4.85
+G1 X4.75S60
+G0 X4.65
+G1 X4.6S60
+G0 X4.55
+G1 X4.5S60
+G0 X4.4
+G1 X4.35S60
+G0 X4.3
+G1 X4.15S60
+G0 X4.1
+G1 X4.05S60
+G0 X3.95
+G1 X3.8S60
+G0 X3.75
+G1 X3.6S60
+G0 X3.35F6000
+G1 X3.3S60F1000
+G0 X3.2
+G1 X3.1S60
+G0 X2.9F6000
+G1 X2.85S60F1000
+G0 X2.8
+G1 X2.75S60
+G0 X2.65
+G1 X2.45S60
+G0 X2.4
+G1 X2.3S60
+G0 X2.25
+G1 X2.2S60
+G0 X2.1
+G1 X2.05S60
+G0 X1.95
+G1 X1.9S60
+G0 X1.8
+G1 X1.75S60
+G0 X1.65
+G1 X1.55S60
+G0 X1.35F6000
+G1 X1.3S60F1000
+G0 X1.2
+G1 X1.15S60
+G0 X1.05
+G1 X0.85S60
+G0 X0.75
+G1 X0.6S60
+G0 X0.55
+G1 X0.5S60
+G0 X0.45
+G1 X0.2S60
+G0 X0.05
+G1 X0S60
+G0 X-2F6000
+
+G0 Y3.1
+G0 X0
+G1 X0.05S60F1000
+G0 X0.2
+G1 X0.3S60
+G0 X0.35
+G1 X0.4S60
+G0 X0.6F6000
+G1 X0.75S60F1000
+G0 X0.8
+G1 X0.85S60
+G0 X0.95
+G1 X1.15S60
+G0 X1.2
+G1 X1.25S60
+G0 X1.45F6000
+G1 X1.55S60F1000
+G0 X1.6
+G1 X1.75S60
+G0 X2.05F6000
+G1 X2.1S60F1000
+G0 X2.3F6000
+G1 X2.35S60F1000
+G0 X2.4
+G1 X2.45S60
+G0 X2.55
+G1 X2.75S60
+G0 X2.9
+G1 X3.05S60
+G0 X3.1
+G1 X3.25S60
+G0 X3.35
+G1 X3.45S60
+G0 X3.55
+G1 X3.6S60
+G0 X3.8F6000
+G1 X3.9S60F1000
+G0 X3.95
+G1 X4.15S60
+G0 X4.2
+G1 X4.25S60
+G0 X4.3
+G1 X4.45S60
+G0 X4.5
+G1 X4.65S60
+G0 X4.75
+G1 X4.8S60
+G0 X4.85
+G1 X4.95S60
+G0 X5.05
+G1 X5.15S60
+G0 X5.2
+G1 X5.3S60
+G0 X5.35
+G1 X5.4S60
+G0 X5.55
+G1 X5.6S60
+G0 X5.7
+G1 X5.95S60
+G0 X6
+G1 X6.1S60
+G0 X6.25
+G1 X6.3S60
+G0 X6.35
+G0 X8.35F6000
+
+G0 Y3.15
+G0 X6.35
+G1 X6.3S60F1000
+G0 X6.2
+G1 X6.15S60
+G0 X5.9F6000
+G1 X5.8S60F1000
+G0 X5.75
+G1 X5.7S60
+G0 X5.3F6000
+G1 X5.25S60F1000
+G0 X5.05F6000
+G1 X5S60F1000
+G0 X4.95
+G1 X4.8S60
+G0 X4.55F6000
+G1 X4.5S60F1000
+G0 X4.45
+G1 X4.05S60
+G0 X4
+G1 X3.95S60
+G0 X3.65F6000
+G1 X3.5S60F1000
+G0 X3.3F6000
+G1 X3.25S60F1000
+G0 X3.15
+G1 X2.95S60
+G0 X2.8
+G1 X2.65S60
+G0 X2.6
+G1 X2.55S60
+G0 X2.5
+G1 X2.45S60
+G0 X2.4
+G1 X2.25S60
+G0 X2.05F6000
+G1 X2S60F1000
+G0 X1.9
+G1 X1.8S60
+G0 X1.75
+G1 X1.7S60
+G0 X1.6
+G1 X1.45S60
+G0 X1.4
+G1 X1.25S60
+G0 X1.15
+G1 X1.1S60
+G0 X0.95
+G1 X0.7S60
+G0 X0.65
+G1 X0.6S60
+G0 X0.55
+G1 X0.3S60
+G0 X0.2
+G1 X0.15S60
+G0 X0.1
+G1 X0.05S60
+G0 X0
+G0 X-2F6000
+
+G0 Y3.2
+G0 X0
+G1 X0.05S60F1000
+G0 X0.15
+G1 X0.25S60
+G0 X0.3
+G1 X0.5S60
+G0 X0.7F6000
+G1 X0.75S60F1000
+G0 X0.95F6000
+G1 X1.1S60F1000
+G0 X1.15
+G1 X1.25S60
+G0 X1.3
+G1 X1.35S60
+G0 X1.4
+G1 X1.45S60
+G0 X1.6
+G1 X1.65S60
+G0 X1.7
+G1 X1.75S60
+G0 X1.9
+G1 X1.95S60
+G0 X2
+G1 X2.1S60
+G0 X2.25
+G1 X2.3S60
+G0 X2.4
+G1 X2.45S60
+G0 X2.65F6000
+G1 X2.7S60F1000
+G0 X2.8
+G1 X2.95S60
+G0 X3.2F6000
+G1 X3.3S60F1000
+G0 X3.35
+G1 X3.4S60
+G0 X3.55
+G1 X3.6S60
+G0 X3.7
+G1 X3.75S60
+G0 X3.85
+G1 X4.15S60
+G0 X4.25
+G1 X4.45S60
+G0 X4.5
+G1 X5.1S60
+G0 X5.2
+G1 X5.3S60
+G0 X5.35
+G1 X5.4S60
+G0 X5.5
+G1 X5.55S60
+G0 X6.05F6000
+G1 X6.1S60F1000
+G0 X6.15
+G1 X6.25S60
+G0 X6.3
+G1 X6.35S60
+G0 X8.35F6000
+
+G0 Y3.25
+G0 X6.35
+G0 X6.3F1000
+G1 X6.25S60
+G0 X6.2
+G1 X6.15S60
+G0 X6.1
+G1 X6S60
+G0 X5.95
+G1 X5.75S60
+G0 X5.5F6000
+G1 X5.45S60F1000
+G0 X5.4
+G1 X5.35S60
+G0 X5.25
+G1 X5.2S60
+G0 X5F6000
+G1 X4.95S60F1000
+G0 X4.75F6000
+G1 X4.7S60F1000
+G0 X4.55
+G1 X4.5S60
+G0 X4.4
+G1 X4.3S60
+G0 X4.15
+G1 X4.05S60
+G0 X3.95
+G1 X3.9S60
+G0 X3.85
+G1 X3.75S60
+G0 X3.65
+G1 X3.55S60
+G0 X3.5
+G1 X3.45S60
+G0 X3.4
+G1 X3.3S60
+G0 X3.2
+G1 X3.1S60
+G0 X2.95
+G1 X2.9S60
+G0 X2.85
+G1 X2.8S60
+G0 X2.75
+G1 X2.65S60
+G0 X2.6
+G1 X2.55S60
+G0 X2.5
+G1 X2.2S60
+G0 X2.15
+G1 X2.1S60
+G0 X1.9F6000
+G1 X1.8S60F1000
+G0 X1.7
+G1 X1.65S60
+G0 X1.5
+G1 X1.45S60
+G0 X1.35
+G1 X1.3S60
+G0 X1.15
+G1 X1.1S60
+G0 X1.05
+G1 X1S60
+G0 X0.95
+G1 X0.9S60
+G0 X0.65F6000
+G1 X0.6S60F1000
+G0 X0.55
+G1 X0.4S60
+G0 X0.35
+G1 X0.3S60
+G0 X0.25
+G1 X0.1S60
+G0 X0.05
+G1 X0S60
+G0 X-2F6000
+
+G0 Y3.3
+G0 X0
+G1 X0.1S60F1000
+G0 X0.15
+G1 X0.2S60
+G0 X0.4F6000
+G1 X0.65S60F1000
+G0 X0.75
+G1 X1S60
+G0 X1.05
+G1 X1.15S60
+G0 X1.25
+G1 X1.3S60
+G0 X1.35
+G1 X1.4S60
+G0 X1.5
+G1 X1.7S60
+G0 X1.75
+G1 X1.85S60
+G0 X1.9
+G1 X2S60
+G0 X2.05
+G1 X2.1S60
+G0 X2.15
+G1 X2.25S60
+G0 X2.45F6000
+G1 X2.5S60F1000
+G0 X2.55
+G1 X2.6S60
+G0 X2.65
+G1 X2.7S60
+G0 X2.75
+G1 X2.85S60
+G0 X2.95
+G1 X3.05S60
+G0 X3.1
+G1 X3.15S60
+G0 X3.25
+G1 X3.4S60
+G0 X3.45
+G1 X3.5S60
+G0 X3.55
+G1 X3.65S60
+G0 X3.75
+G1 X3.9S60
+G0 X3.95
+G1 X4.05S60
+G0 X4.4F6000
+G1 X4.5S60F1000
+G0 X4.55
+G1 X4.6S60
+G0 X4.7
+G1 X4.8S60
+G0 X4.85
+G1 X4.95S60
+G0 X5
+G1 X5.1S60
+G0 X5.15
+G1 X5.2S60
+G0 X5.3
+G1 X5.35S60
+G0 X5.45
+G1 X5.5S60
+G0 X5.55
+G1 X5.6S60
+G0 X5.7
+G1 X5.75S60
+G0 X5.8
+G1 X5.95S60
+G0 X6.05
+G1 X6.2S60
+G0 X6.25
+G1 X6.3S60
+G0 X6.35
+G0 X8.35F6000
+
+G0 X-2Y3.4
+G0 X0
+G1 X0.05S60F1000
+G0 X0.2
+G1 X0.35S60
+G0 X0.4
+G1 X0.45S60
+G0 X0.5
+G1 X0.7S60
+G0 X0.75
+G1 X0.8S60
+G0 X1.05F6000
+G1 X1.2S60F1000
+G0 X1.3
+G1 X1.55S60
+G0 X1.6
+G1 X1.85S60
+G0 X1.9
+G1 X2S60
+G0 X2.2F6000
+G1 X2.3S60F1000
+G0 X2.35
+G1 X2.55S60
+G0 X2.65
+G1 X2.7S60
+G0 X2.9F6000
+G1 X2.95S60F1000
+G0 X3
+G1 X3.05S60
+G0 X3.1
+G1 X3.15S60
+G0 X3.2
+G1 X3.35S60
+G0 X3.45
+G1 X3.5S60
+G0 X3.6
+G1 X3.75S60
+G0 X3.85
+G1 X3.9S60
+G0 X3.95
+G1 X4.05S60
+G0 X4.1
+G1 X4.15S60
+G0 X4.3
+G1 X4.5S60
+G0 X4.55
+G1 X4.6S60
+G0 X4.75
+G1 X4.8S60
+G0 X4.85
+G1 X4.95S60
+G0 X5.05
+G1 X5.15S60
+G0 X5.2
+G1 X5.4S60
+G0 X5.45
+G1 X5.5S60
+G0 X5.55
+G1 X5.7S60
+G0 X5.75
+G1 X5.9S60
+G0 X5.95
+G1 X6S60
+G0 X6.05
+G1 X6.1S60
+G0 X8.35F6000
+
+G0 Y3.45
+G0 X6.35
+G0 X6.3F1000
+G1 X6.2S60
+G0 X6.15
+G1 X6.1S60
+G0 X6
+G1 X5.95S60
+G0 X5.8
+G1 X5.75S60
+G0 X5.7
+G1 X5.65S60
+G0 X5.3F6000
+G1 X5.25S60F1000
+G0 X5.2
+G1 X5.15S60
+G0 X5
+G1 X4.95S60
+G0 X4.9
+G1 X4.85S60
+G0 X4.8
+G1 X4.75S60
+G0 X4.55F6000
+G1 X4.35S60F1000
+G0 X4.2
+G1 X4.15S60
+G0 X4
+G1 X3.95S60
+G0 X3.9
+G1 X3.75S60
+G0 X3.5F6000
+G1 X3.4S60F1000
+G0 X3.35
+G1 X3.3S60
+G0 X3.15
+G1 X3.1S60
+G0 X3
+G1 X2.9S60
+G0 X2.55F6000
+G1 X2.45S60F1000
+G0 X2.35
+G1 X2.25S60
+G0 X2.2
+G1 X2.1S60
+G0 X2
+G1 X1.95S60
+G0 X1.85
+G1 X1.75S60
+G0 X1.65
+G1 X1.6S60
+G0 X1.55
+G1 X1.5S60
+G0 X1.4
+G1 X1.25S60
+G0 X1.15
+G1 X0.85S60
+G0 X0.65F6000
+G1 X0.6S60F1000
+G0 X0.4F6000
+G1 X0.3S60F1000
+G0 X0.2
+G1 X0.1S60
+G0 X0
+G0 X-2F6000
+
+G0 Y3.5
+G0 X0
+G0 X0.3
+G1 X0.45S60F1000
+G0 X0.95F6000
+G1 X1.05S60F1000
+G0 X1.1
+G1 X1.2S60
+G0 X1.25
+G1 X1.45S60
+G0 X1.5
+G1 X1.55S60
+G0 X1.7
+G1 X1.8S60
+G0 X1.85
+G1 X1.9S60
+G0 X1.95
+G1 X2S60
+G0 X2.05
+G1 X2.15S60
+G0 X2.45F6000
+G1 X2.6S60F1000
+G0 X2.65
+G1 X2.7S60
+G0 X2.8
+G1 X2.85S60
+G0 X3
+G1 X3.05S60
+G0 X3.1
+G1 X3.15S60
+G0 X3.35F6000
+G1 X3.4S60F1000
+G0 X3.5
+G1 X3.6S60
+G0 X3.7
+G1 X3.75S60
+G0 X3.8
+G1 X3.95S60
+G0 X4.1
+G1 X4.15S60
+G0 X4.2
+G1 X4.25S60
+G0 X4.3
+G1 X4.5S60
+G0 X4.6
+G1 X4.8S60
+G0 X4.85
+G1 X4.95S60
+G0 X5.1
+G1 X5.25S60
+G0 X5.35
+G1 X5.4S60
+G0 X5.45
+G1 X5.55S60
+G0 X5.65
+G1 X5.7S60
+G0 X5.75
+G1 X5.85S60
+G0 X6.1F6000
+G1 X6.3S60F1000
+G0 X6.35
+G0 X8.35F6000
+
+G0 Y3.55
+G0 X6.35
+G1 X6.3S60F1000
+G0 X6.2
+G1 X6.15S60
+G0 X5.95F6000
+G1 X5.8S60F1000
+G0 X5.75
+G1 X5.7S60
+G0 X5.6
+G1 X5.55S60
+G0 X5.5
+G1 X5.4S60
+G0 X5.35
+G1 X5.3S60
+G0 X5.25
+G1 X5.2S60
+G0 X5.15
+G1 X5.1S60
+G0 X4.95
+G1 X4.9S60
+G0 X4.85
+G1 X4.7S60
+G0 X4.6
+G1 X4.55S60
+G0 X4.45
+G1 X4.25S60
+G0 X4.1
+G1 X4.05S60
+G0 X4
+G1 X3.8S60
+G0 X3.75
+G1 X3.7S60
+G0 X3.65
+G1 X3.55S60
+G0 X3.5
+G1 X3.45S60
+G0 X3.2F6000
+G1 X3.1S60F1000
+G0 X3.05
+G1 X3S60
+G0 X2.95
+G1 X2.8S60
+G0 X2.75
+G1 X2.6S60
+G0 X2.55
+G1 X2.5S60
+G0 X2.45
+G1 X2.35S60
+G0 X2.3
+G1 X2.25S60
+G0 X2.2
+G1 X2.1S60
+G0 X2
+G1 X1.95S60
+G0 X1.9
+G1 X1.8S60
+G0 X1.75
+G1 X1.7S60
+G0 X1.65
+G1 X1.6S60
+G0 X1.45
+G1 X1.3S60
+G0 X1.25
+G1 X1.15S60
+G0 X1.05
+G1 X1S60
+G0 X0.9
+G1 X0.85S60
+G0 X0.8
+G1 X0.7S60
+G0 X0.5F6000
+G1 X0.35S60F1000
+G0 X0.3
+G1 X0.25S60
+G0 X0.15
+G1 X0.1S60
+G0 X0
+G0 X-2F6000
+
+G0 Y3.6
+G0 X0
+G1 X0.1S60F1000
+G0 X0.2
+G1 X0.35S60
+G0 X0.55F6000
+G1 X0.6S60F1000
+G0 X0.7
+G1 X0.85S60
+G0 X0.9
+G1 X0.95S60
+G0 X1
+G1 X1.05S60
+G0 X1.1
+G1 X1.15S60
+G0 X1.2
+G1 X1.3S60
+G0 X1.55F6000
+G1 X1.9S60F1000
+G0 X1.95
+G1 X2S60
+G0 X2.05
+G1 X2.1S60
+G0 X2.2
+G1 X2.35S60
+G0 X2.4
+G1 X2.45S60
+G0 X2.5
+G1 X2.9S60
+G0 X3
+G1 X3.05S60
+G0 X3.15
+G1 X3.3S60
+G0 X3.6F6000
+G1 X3.65S60F1000
+G0 X3.8
+G1 X3.85S60
+G0 X3.95
+G1 X4.1S60
+G0 X4.15
+G1 X4.25S60
+G0 X4.35
+G1 X4.4S60
+G0 X4.45
+G1 X4.5S60
+G0 X4.55
+G1 X4.65S60
+G0 X4.7
+G1 X4.8S60
+G0 X4.9
+G1 X5.15S60
+G0 X5.2
+G1 X5.25S60
+G0 X5.4
+G1 X5.45S60
+G0 X5.6
+G1 X5.8S60
+G0 X5.85
+G1 X6.05S60
+G0 X6.15
+G1 X6.25S60
+G0 X6.3
+G1 X6.35S60
+G0 X8.35F6000
+
+G0 Y3.65
+G0 X6.35
+G0 X6.25F1000
+G1 X6.2S60
+G0 X6F6000
+G1 X5.95S60F1000
+G0 X5.65F6000
+G1 X5.6S60F1000
+G0 X5.55
+G1 X5.5S60
+G0 X5.4
+G1 X5.35S60
+G0 X5.25
+G1 X5.2S60
+G0 X5.15
+G1 X5.05S60
+G0 X5
+G1 X4.95S60
+G0 X4.85
+G1 X4.75S60
+G0 X4.65
+G1 X4.55S60
+G0 X4.5
+G1 X4.45S60
+G0 X4.4
+G1 X4.2S60
+G0 X4.05
+G1 X4S60
+G0 X3.9
+G1 X3.7S60
+G0 X3.5F6000
+G1 X3.35S60F1000
+G0 X3.3
+G1 X3.25S60
+G0 X3.2
+G1 X3S60
+G0 X2.85
+G1 X2.8S60
+G0 X2.75
+G1 X2.7S60
+G0 X2.65
+G1 X2.6S60
+G0 X2.55
+G1 X2.4S60
+G0 X2.1F6000
+G1 X1.95S60F1000
+G0 X1.85
+G1 X1.8S60
+G0 X1.5F6000
+G1 X1.45S60F1000
+G0 X1.4
+G1 X1.25S60
+G0 X1.2
+G1 X1S60
+G0 X0.85
+G1 X0.65S60
+G0 X0.6
+G1 X0.45S60
+G0 X0.3
+G1 X0.25S60
+G0 X0.1
+G1 X0.05S60
+G0 X0
+G0 X-2F6000
+
+G0 X8.35Y3.75
+G0 X6.35
+G1 X6.3S60F1000
+G0 X6.2
+G1 X6.15S60
+G0 X6.05
+G1 X5.95S60
+G0 X5.9
+G1 X5.75S60
+G0 X5.7
+G1 X5.45S60
+G0 X5.4
+G1 X5.35S60
+G0 X5.3
+G1 X5.25S60
+G0 X5.2
+G1 X5.15S60
+G0 X5.05
+G1 X5S60
+G0 X4.85
+G1 X4.75S60
+G0 X4.7
+G1 X4.6S60
+G0 X4.55
+G1 X4.5S60
+G0 X4.25F6000
+G1 X4.2S60F1000
+G0 X4.05
+G1 X3.8S60
+G0 X3.75
+G1 X3.7S60
+G0 X3.65
+G1 X3.6S60
+G0 X3.25F6000
+G1 X3.1S60F1000
+G0 X3
+G1 X2.75S60
+G0 X2.6
+G1 X2.35S60
+G0 X2.05F6000
+G1 X2S60F1000
+G0 X1.9
+G1 X1.85S60
+G0 X1.8
+G1 X1.75S60
+G0 X1.6
+G1 X1.5S60
+G0 X1.4
+G1 X1.15S60
+G0 X1.05
+G1 X1S60
+G0 X0.65F6000
+G1 X0.55S60F1000
+G0 X0.4
+G1 X0.3S60
+G0 X0.25
+G1 X0S60
+G0 X-2F6000
+
+G0 Y3.8
+G0 X0
+G0 X0.05F1000
+G1 X0.2S60
+G0 X0.25
+G1 X0.4S60
+G0 X0.65F6000
+G1 X0.7S60F1000
+G0 X0.9F6000
+G1 X1S60F1000
+G0 X1.15
+G1 X1.2S60
+G0 X1.35
+G1 X1.4S60
+G0 X1.5
+G1 X1.55S60
+G0 X1.65
+G1 X1.7S60
+G0 X1.75
+G1 X1.85S60
+G0 X1.95
+G1 X2S60
+G0 X2.05
+G1 X2.1S60
+G0 X2.2
+G1 X2.3S60
+G0 X2.35
+G1 X2.5S60
+G0 X2.55
+G1 X2.6S60
+G0 X2.75
+G1 X2.95S60
+G0 X3
+G1 X3.05S60
+G0 X3.15
+G1 X3.35S60
+G0 X3.4
+G1 X3.5S60
+G0 X3.55
+G1 X3.7S60
+G0 X3.75
+G1 X3.85S60
+G0 X3.95
+G1 X4S60
+G0 X4.05
+G1 X4.1S60
+G0 X4.3F6000
+G1 X4.35S60F1000
+G0 X4.4
+G1 X4.45S60
+G0 X4.55
+G1 X4.7S60
+G0 X4.85
+G1 X4.9S60
+G0 X5.15F6000
+G1 X5.25S60F1000
+G0 X5.3
+G1 X5.35S60
+G0 X5.4
+G1 X5.5S60
+G0 X5.55
+G1 X5.7S60
+G0 X5.9F6000
+G1 X5.95S60F1000
+G0 X6
+G1 X6.05S60
+G0 X6.1
+G1 X6.25S60
+G0 X6.3
+G1 X6.35S60
+G0 X8.35F6000
+
+G0 Y3.85
+G0 X6.35
+G0 X6.25F1000
+G1 X6.1S60
+G0 X5.85F6000
+G1 X5.7S60F1000
+G0 X5.65
+G1 X5.6S60
+G0 X5.5
+G1 X5.3S60
+G0 X4.85F6000
+G1 X4.6S60F1000
+G0 X4.5
+G1 X4.35S60
+G0 X4.25
+G1 X4.1S60
+G0 X4.05
+G1 X4S60
+G0 X3.85
+G1 X3.8S60
+G0 X3.7
+G1 X3.6S60
+G0 X3.4F6000
+G1 X3.35S60F1000
+G0 X3.3
+G1 X3.1S60
+G0 X3
+G1 X2.9S60
+G0 X2.4F6000
+G1 X2.35S60F1000
+G0 X2.3
+G1 X2.15S60
+G0 X2
+G1 X1.95S60
+G0 X1.85
+G1 X1.8S60
+G0 X1.75
+G1 X1.65S60
+G0 X1.5
+G1 X1.45S60
+G0 X1.3
+G1 X1.25S60
+G0 X1.2
+G1 X1.15S60
+G0 X1.1
+G1 X1.05S60
+G0 X1
+G1 X0.9S60
+G0 X0.8
+G1 X0.75S60
+G0 X0.55F6000
+G1 X0.5S60F1000
+G0 X0.35
+G1 X0.3S60
+G0 X0.25
+G1 X0.2S60
+G0 X0.15
+G1 X0.1S60
+G0 X0.05
+G1 X0S60
+G0 X-2F6000
+
+G0 Y3.9
+G0 X0
+G0 X0.05F1000
+G1 X0.15S60
+G0 X0.2
+G1 X0.4S60
+G0 X0.7F6000
+G1 X0.85S60F1000
+G0 X0.9
+G1 X1S60
+G0 X1.05
+G1 X1.15S60
+G0 X1.2
+G1 X1.25S60
+G0 X1.35
+G1 X1.5S60
+G0 X1.55
+G1 X1.6S60
+G0 X1.65
+G1 X1.7S60
+G0 X1.8
+G1 X1.95S60
+G0 X2
+G1 X2.2S60
+G0 X2.35
+G1 X2.9S60
+G0 X2.95
+G1 X3S60
+G0 X3.1
+G1 X3.2S60
+G0 X3.3
+G1 X3.35S60
+G0 X3.65F6000
+G1 X3.7S60F1000
+G0 X3.75
+G1 X3.8S60
+G0 X3.9
+G1 X4.05S60
+G0 X4.2
+G1 X4.25S60
+G0 X4.3
+G1 X4.35S60
+G0 X4.45
+G1 X4.65S60
+G0 X4.7
+G1 X4.75S60
+G0 X4.95F6000
+G1 X5.25S60F1000
+G0 X5.3
+G1 X5.5S60
+G0 X5.55
+G1 X5.65S60
+G0 X5.7
+G1 X5.9S60
+G0 X6.05
+G1 X6.15S60
+G0 X6.2
+G1 X6.35S60
+G0 X8.35F6000
+
+G0 Y3.95
+G0 X6.35
+G1 X6.3S60F1000
+G0 X6.2
+G1 X6.15S60
+G0 X6.1
+G1 X6S60
+G0 X5.9
+G1 X5.8S60
+G0 X5.45F6000
+G1 X5.3S60F1000
+G0 X5.2
+G1 X5.15S60
+G0 X5.1
+G1 X4.8S60
+G0 X4.7
+G1 X4.5S60
+G0 X4.35
+G1 X4.3S60
+G0 X4.2
+G1 X4.1S60
+G0 X3.95
+G1 X3.9S60
+G0 X3.75
+G1 X3.7S60
+G0 X3.65
+G1 X3.55S60
+G0 X3.5
+G1 X3.45S60
+G0 X3.3
+G1 X3.2S60
+G0 X3.15
+G1 X3.05S60
+G0 X2.95
+G1 X2.75S60
+G0 X2.65
+G1 X2.6S60
+G0 X2.25F6000
+G1 X2.15S60F1000
+G0 X1.8F6000
+G1 X1.7S60F1000
+G0 X1.6
+G1 X1.4S60
+G0 X1.15F6000
+G1 X0.95S60F1000
+G0 X0.9
+G1 X0.7S60
+G0 X0.55
+G1 X0.5S60
+G0 X0.3F6000
+G1 X0.25S60F1000
+G0 X0.15
+G1 X0.05S60
+G0 X0
+G0 X-2F6000
+
+G0 Y4
+G0 X0
+G1 X0.1S60F1000
+G0 X0.15
+G1 X0.4S60
+G0 X0.45
+G1 X0.65S60
+G0 X0.75
+G1 X0.85S60
+G0 X0.9
+G1 X1S60
+G0 X1.05
+G1 X1.1S60
+G0 X1.2
+G1 X1.35S60
+G0 X1.5
+G1 X1.55S60
+G0 X1.65
+G1 X1.7S60
+G0 X1.75
+G1 X1.8S60
+G0 X1.85
+G1 X1.9S60
+G0 X2
+G1 X2.05S60
+G0 X2.2
+G1 X2.3S60
+G0 X2.55F6000
+G1 X2.6S60F1000
+G0 X2.7
+G1 X2.8S60
+G0 X2.9
+G1 X3.05S60
+G0 X3.1
+G1 X3.15S60
+G0 X3.25
+G1 X3.35S60
+G0 X3.5
+G1 X3.6S60
+G0 X3.65
+G1 X3.85S60
+G0 X3.95
+G1 X4.05S60
+G0 X4.15
+G1 X4.2S60
+G0 X4.4F6000
+G1 X4.5S60F1000
+G0 X4.55
+G1 X4.6S60
+G0 X4.65
+G1 X4.7S60
+G0 X4.8
+G1 X4.95S60
+G0 X5.1
+G1 X5.15S60
+G0 X5.3
+G1 X5.45S60
+G0 X5.55
+G1 X5.6S60
+G0 X5.7
+G1 X5.75S60
+G0 X5.8
+G1 X5.9S60
+G0 X5.95
+G1 X6.1S60
+G0 X6.15
+G1 X6.25S60
+G0 X6.3
+G1 X6.35S60
+G0 X8.35F6000
+
+G0 X-2Y4.1
+G0 X0
+G0 X0.1F1000
+G1 X0.15S60
+G0 X0.2
+G1 X0.35S60
+G0 X0.45
+G1 X0.5S60
+G0 X0.6
+G1 X0.75S60
+G0 X0.8
+G1 X1.1S60
+G0 X1.2
+G1 X1.25S60
+G0 X1.35
+G1 X1.65S60
+G0 X1.9F6000
+G1 X2S60F1000
+G0 X2.15
+G1 X2.2S60
+G0 X2.3
+G1 X2.35S60
+G0 X2.4
+G1 X2.45S60
+G0 X2.6
+G1 X2.65S60
+G0 X2.75
+G1 X2.95S60
+G0 X3.1
+G1 X3.2S60
+G0 X3.25
+G1 X3.35S60
+G0 X3.4
+G1 X3.45S60
+G0 X3.5
+G1 X3.6S60
+G0 X3.75
+G1 X3.8S60
+G0 X3.85
+G1 X3.95S60
+G0 X4.15F6000
+G1 X4.25S60F1000
+G0 X4.35
+G1 X4.5S60
+G0 X4.55
+G1 X4.6S60
+G0 X4.75
+G1 X4.8S60
+G0 X4.85
+G1 X5S60
+G0 X5.05
+G1 X5.15S60
+G0 X5.3
+G1 X5.35S60
+G0 X5.6F6000
+G1 X5.8S60F1000
+G0 X5.95
+G1 X6.05S60
+G0 X6.15
+G1 X6.35S60
+G0 X8.35F6000
+
+G0 Y4.15
+G0 X6.35
+G1 X6.3S60F1000
+G0 X6.2
+G1 X6.05S60
+G0 X6
+G1 X5.95S60
+G0 X5.85
+G1 X5.8S60
+G0 X5.75
+G1 X5.7S60
+G0 X5.55
+G1 X5.5S60
+G0 X5.4
+G1 X5.35S60
+G0 X5.2
+G1 X5.15S60
+G0 X5.1
+G1 X5S60
+G0 X4.9
+G1 X4.8S60
+G0 X4.7
+G1 X4.65S60
+G0 X4.55
+G1 X4.5S60
+G0 X4.25F6000
+G1 X3.85S60F1000
+G0 X3.8
+G1 X3.65S60
+G0 X3.6
+G1 X3.45S60
+G0 X3.35
+G1 X3.25S60
+G0 X3.15
+G1 X3.1S60
+G0 X2.95
+G1 X2.7S60
+G0 X2.55
+G1 X2.5S60
+G0 X2.45
+G1 X2.3S60
+G0 X2.25
+G1 X2.15S60
+G0 X2.1
+G1 X2S60
+G0 X1.9
+G1 X1.85S60
+G0 X1.8
+G1 X1.7S60
+G0 X1.55
+G1 X1.1S60
+G0 X1.05
+G1 X1S60
+G0 X0.9
+G1 X0.8S60
+G0 X0.65
+G1 X0.6S60
+G0 X0.45
+G1 X0S60
+G0 X-2F6000
+
+G0 X-1.95Y4.2
+G0 X0.05
+G0 X0F1000
+G1 X0.05S60
+G0 X0.1
+G1 X0.3S60
+G0 X0.35
+G1 X0.55S60
+G0 X0.65
+G1 X0.7S60
+G0 X0.8
+G1 X1S60
+G0 X1.05
+G1 X1.2S60
+G0 X1.35
+G1 X1.45S60
+G0 X1.65F6000
+G1 X1.75S60F1000
+G0 X1.85
+G1 X2.15S60
+G0 X2.2
+G1 X2.3S60
+G0 X2.4
+G1 X2.45S60
+G0 X2.5
+G1 X2.6S60
+G0 X2.7
+G1 X2.85S60
+G0 X2.95
+G1 X3.05S60
+G0 X3.1
+G1 X3.25S60
+G0 X3.7F6000
+G1 X3.75S60F1000
+G0 X3.8
+G1 X3.95S60
+G0 X4
+G1 X4.05S60
+G0 X4.15
+G1 X4.2S60
+G0 X4.25
+G1 X4.3S60
+G0 X4.4
+G1 X4.6S60
+G0 X4.65
+G1 X4.7S60
+G0 X4.75
+G1 X4.8S60
+G0 X4.85
+G1 X4.9S60
+G0 X5.05
+G1 X5.3S60
+G0 X5.45
+G1 X5.5S60
+G0 X5.7F6000
+G1 X5.75S60F1000
+G0 X5.8
+G1 X5.85S60
+G0 X5.9
+G1 X5.95S60
+G0 X6.05
+G1 X6.25S60
+G0 X6.3
+G1 X6.35S60
+G0 X8.35F6000
+
+G0 Y4.25
+G0 X6.35
+G1 X6.3S60F1000
+G0 X6.1F6000
+G1 X6.05S60F1000
+G0 X6
+G1 X5.95S60
+G0 X5.65F6000
+G1 X5.6S60F1000
+G0 X5.3F6000
+G1 X5.2S60F1000
+G0 X5.05
+G1 X5S60
+G0 X4.9
+G1 X4.7S60
+G0 X4.65
+G1 X4.55S60
+G0 X4.3F6000
+G1 X4.25S60F1000
+G0 X4.1
+G1 X4.05S60
+G0 X3.9
+G1 X3.8S60
+G0 X3.7
+G1 X3.5S60
+G0 X3.4
+G1 X3.35S60
+G0 X3.2
+G1 X3.05S60
+G0 X3
+G1 X2.85S60
+G0 X2.75
+G1 X2.7S60
+G0 X2.6
+G1 X2.55S60
+G0 X2.45
+G1 X2.4S60
+G0 X2.35
+G1 X2.3S60
+G0 X2.25
+G1 X2.15S60
+G0 X2.05
+G1 X1.85S60
+G0 X1.8
+G1 X1.7S60
+G0 X1.65
+G1 X1.4S60
+G0 X1.25
+G1 X1.1S60
+G0 X1.05
+G1 X1S60
+G0 X0.9
+G1 X0.85S60
+G0 X0.75
+G1 X0.7S60
+G0 X0.65
+G1 X0.55S60
+G0 X0.35F6000
+G1 X0.3S60F1000
+G0 X0.2
+G1 X0S60
+G0 X-2F6000
+
+G0 Y4.3
+G0 X0.15
+G1 X0.2S60F1000
+G0 X0.25
+G1 X0.35S60
+G0 X0.5
+G1 X0.75S60
+G0 X0.85
+G1 X0.95S60
+G0 X1
+G1 X1.05S60
+G0 X1.15
+G1 X1.25S60
+G0 X1.5F6000
+G1 X1.75S60F1000
+G0 X2F6000
+G1 X2.05S60F1000
+G0 X2.1
+G1 X2.25S60
+G0 X2.4
+G1 X2.45S60
+G0 X2.7F6000
+G1 X2.75S60F1000
+G0 X2.95F6000
+G1 X3.05S60F1000
+G0 X3.1
+G1 X3.15S60
+G0 X3.2
+G1 X3.3S60
+G0 X3.35
+G1 X3.4S60
+G0 X3.45
+G1 X3.5S60
+G0 X3.55
+G1 X3.65S60
+G0 X3.75
+G1 X3.9S60
+G0 X3.95
+G1 X4.05S60
+G0 X4.15
+G1 X4.2S60
+G0 X4.35
+G1 X4.45S60
+G0 X4.75F6000
+G1 X4.95S60F1000
+G0 X5.15F6000
+G1 X5.2S60F1000
+G0 X5.4F6000
+G1 X5.5S60F1000
+G0 X5.7F6000
+G1 X5.75S60F1000
+G0 X5.8
+G1 X5.9S60
+G0 X5.95
+G1 X6.3S60
+G0 X6.35
+G0 X8.35F6000
+
+G0 Y4.35
+G0 X6.35
+G0 X6.25F1000
+G1 X6.2S60
+G0 X6.15
+G1 X6.1S60
+G0 X6.05
+G1 X5.95S60
+G0 X5.75F6000
+G1 X5.7S60F1000
+G0 X5.65
+G1 X5.55S60
+G0 X5.45
+G1 X5.4S60
+G0 X5.35
+G1 X5.3S60
+G0 X5.2
+G1 X5.1S60
+G0 X5.05
+G1 X5S60
+G0 X4.95
+G1 X4.85S60
+G0 X4.4F6000
+G1 X4.2S60F1000
+G0 X4.1
+G1 X4.05S60
+G0 X4
+G1 X3.95S60
+G0 X3.9
+G1 X3.85S60
+G0 X3.8
+G1 X3.7S60
+G0 X3.55
+G1 X3.4S60
+G0 X3.35
+G1 X3.25S60
+G0 X3.2
+G1 X3.05S60
+G0 X2.95
+G1 X2.9S60
+G0 X2.8
+G1 X2.65S60
+G0 X2.4F6000
+G1 X2.25S60F1000
+G0 X2.2
+G1 X2.15S60
+G0 X2.1
+G1 X2.05S60
+G0 X1.9
+G1 X1.85S60
+G0 X1.7
+G1 X1.55S60
+G0 X1.45
+G1 X1.4S60
+G0 X1.35
+G1 X1.25S60
+G0 X1.05F6000
+G1 X1S60F1000
+G0 X0.85
+G1 X0.8S60
+G0 X0.75
+G1 X0.6S60
+G0 X0.55
+G1 X0.35S60
+G0 X0.2
+G1 X0.1S60
+G0 X0.05
+G1 X0S60
+G0 X-2F6000
+
+G0 X8.35Y4.45
+G0 X6.35
+G1 X6.2S60F1000
+G0 X6.15
+G1 X6S60
+G0 X5.85
+G1 X5.8S60
+G0 X5.5F6000
+G1 X5.4S60F1000
+G0 X5.3
+G1 X5.25S60
+G0 X5.1
+G1 X5S60
+G0 X4.95
+G1 X4.8S60
+G0 X4.75
+G1 X4.5S60
+G0 X4.45
+G1 X4.3S60
+G0 X4.1F6000
+G1 X4S60F1000
+G0 X3.95
+G1 X3.85S60
+G0 X3.8
+G1 X3.7S60
+G0 X3.65
+G1 X3.6S60
+G0 X3.5
+G1 X3.45S60
+G0 X3.35
+G1 X3.3S60
+G0 X3.25
+G1 X3.15S60
+G0 X3.1
+G1 X3.05S60
+G0 X3
+G1 X2.95S60
+G0 X2.75F6000
+G1 X2.55S60F1000
+G0 X2.45
+G1 X2.25S60
+G0 X2.2
+G1 X1.9S60
+G0 X1.8
+G1 X1.75S60
+G0 X1.7
+G1 X1.65S60
+G0 X1.6
+G1 X1.5S60
+G0 X1.35
+G1 X1.3S60
+G0 X1.25
+G1 X1.15S60
+G0 X0.95F6000
+G1 X0.85S60F1000
+G0 X0.8
+G1 X0.75S60
+G0 X0.7
+G1 X0.55S60
+G0 X0.4
+G1 X0.35S60
+G0 X0.2
+G1 X0.15S60
+G0 X0.1
+G1 X0S60
+G0 X-2F6000
+
+G0 Y4.5
+G0 X0.15
+G1 X0.25S60F1000
+G0 X0.3
+G1 X0.45S60
+G0 X0.55
+G1 X0.65S60
+G0 X0.75
+G1 X0.8S60
+G0 X1F6000
+G1 X1.05S60F1000
+G0 X1.15
+G1 X1.2S60
+G0 X1.3
+G1 X1.35S60
+G0 X1.5
+G1 X1.7S60
+G0 X1.85
+G1 X2S60
+G0 X2.05
+G1 X2.15S60
+G0 X2.3
+G1 X2.35S60
+G0 X2.4
+G1 X2.45S60
+G0 X2.5
+G1 X2.7S60
+G0 X2.8
+G1 X2.9S60
+G0 X3
+G1 X3.15S60
+G0 X3.3
+G1 X3.35S60
+G0 X3.4
+G1 X3.5S60
+G0 X3.6
+G1 X3.95S60
+G0 X4
+G1 X4.05S60
+G0 X4.1
+G1 X4.3S60
+G0 X4.4
+G1 X4.45S60
+G0 X4.55
+G1 X4.6S60
+G0 X4.7
+G1 X4.85S60
+G0 X4.9
+G1 X4.95S60
+G0 X5.05
+G1 X5.15S60
+G0 X5.35F6000
+G1 X5.5S60F1000
+G0 X5.6
+G1 X5.8S60
+G0 X6.1F6000
+G1 X6.15S60F1000
+G0 X6.2
+G1 X6.25S60
+G0 X6.35
+G0 X8.35F6000
+
+G0 Y4.55
+G0 X6.35
+G0 X6.3F1000
+G1 X6.15S60
+G0 X6
+G1 X5.95S60
+G0 X5.9
+G1 X5.85S60
+G0 X5.65F6000
+G1 X5.4S60F1000
+G0 X5.3
+G1 X5.25S60
+G0 X5.15
+G1 X5S60
+G0 X4.95
+G1 X4.9S60
+G0 X4.7F6000
+G1 X4.6S60F1000
+G0 X4.5
+G1 X4.45S60
+G0 X4.35
+G1 X4.25S60
+G0 X4.2
+G1 X4.05S60
+G0 X3.8F6000
+G1 X3.7S60F1000
+G0 X3.65
+G1 X3.55S60
+G0 X3.45
+G1 X3.3S60
+G0 X3.1F6000
+G1 X2.9S60F1000
+G0 X2.85
+G1 X2.8S60
+G0 X2.75
+G1 X2.7S60
+G0 X2.55
+G1 X2.3S60
+G0 X2.1F6000
+G1 X2.05S60F1000
+G0 X2
+G1 X1.9S60
+G0 X1.85
+G1 X1.75S60
+G0 X1.7
+G1 X1.65S60
+G0 X1.6
+G1 X1.55S60
+G0 X1.5
+G1 X1.45S60
+G0 X1.35
+G1 X1.2S60
+G0 X1.15
+G1 X0.95S60
+G0 X0.9
+G1 X0.8S60
+G0 X0.75
+G1 X0.7S60
+G0 X0.4F6000
+G1 X0.25S60F1000
+G0 X0.2
+G1 X0.15S60
+G0 X0
+G0 X-2F6000
+
+G0 Y4.6
+G0 X0
+G0 X0.1F1000
+G1 X0.2S60
+G0 X0.25
+G1 X0.4S60
+G0 X0.7F6000
+G1 X0.85S60F1000
+G0 X0.9
+G1 X1.15S60
+G0 X1.2
+G1 X1.25S60
+G0 X1.3
+G1 X1.5S60
+G0 X1.55
+G1 X1.6S60
+G0 X1.65
+G1 X1.75S60
+G0 X1.8
+G1 X1.85S60
+G0 X1.9
+G1 X1.95S60
+G0 X2.15F6000
+G1 X2.2S60F1000
+G0 X2.3
+G1 X2.35S60
+G0 X2.55F6000
+G1 X2.65S60F1000
+G0 X2.7
+G1 X2.75S60
+G0 X2.85
+G1 X3S60
+G0 X3.05
+G1 X3.1S60
+G0 X3.15
+G1 X3.35S60
+G0 X3.45
+G1 X3.55S60
+G0 X3.6
+G1 X3.65S60
+G0 X3.7
+G1 X3.8S60
+G0 X3.85
+G1 X3.9S60
+G0 X3.95
+G1 X4.05S60
+G0 X4.2
+G1 X4.35S60
+G0 X4.45
+G1 X4.55S60
+G0 X4.65
+G1 X4.85S60
+G0 X4.95
+G1 X5.15S60
+G0 X5.2
+G1 X5.3S60
+G0 X5.4
+G1 X5.55S60
+G0 X5.6
+G1 X5.75S60
+G0 X5.8
+G1 X5.85S60
+G0 X6.05F6000
+G1 X6.15S60F1000
+G0 X6.2
+G1 X6.35S60
+G0 X8.35F6000
+
+G0 Y4.65
+G0 X6.35
+G0 X6.3F1000
+G1 X6.2S60
+G0 X6.15
+G1 X6.1S60
+G0 X6.05
+G1 X5.95S60
+G0 X5.9
+G1 X5.8S60
+G0 X5.75
+G1 X5.6S60
+G0 X5.55
+G1 X5.5S60
+G0 X5.3F6000
+G1 X5.25S60F1000
+G0 X4.95F6000
+G1 X4.8S60F1000
+G0 X4.75
+G1 X4.65S60
+G0 X4.6
+G1 X4.55S60
+G0 X4.5
+G1 X4.3S60
+G0 X4.2
+G1 X4.15S60
+G0 X3.95F6000
+G1 X3.9S60F1000
+G0 X3.8
+G1 X3.75S60
+G0 X3.7
+G1 X3.5S60
+G0 X3.4
+G1 X3.35S60
+G0 X3.25
+G1 X3.15S60
+G0 X3.05
+G1 X3S60
+G0 X2.9
+G1 X2.85S60
+G0 X2.75
+G1 X2.65S60
+G0 X2.35F6000
+G1 X2.25S60F1000
+G0 X2.1
+G1 X2S60
+G0 X1.9
+G1 X1.7S60
+G0 X1.5F6000
+G1 X1.45S60F1000
+G0 X1.3
+G1 X1.2S60
+G0 X1.15
+G1 X1S60
+G0 X0.95
+G1 X0.9S60
+G0 X0.85
+G1 X0.8S60
+G0 X0.75
+G1 X0.7S60
+G0 X0.65
+G1 X0.6S60
+G0 X0.5
+G1 X0.45S60
+G0 X0.4
+G1 X0.3S60
+G0 X0.2
+G1 X0.15S60
+G0 X0.05
+G1 X0S60
+G0 X-2F6000
+
+G0 Y4.7
+G0 X0
+G1 X0.05S60F1000
+G0 X0.1
+G1 X0.2S60
+G0 X0.35
+G1 X0.4S60
+G0 X0.45
+G1 X0.5S60
+G0 X0.6
+G1 X0.7S60
+G0 X0.8
+G1 X0.85S60
+G0 X0.9
+G1 X1S60
+G0 X1.15
+G1 X1.3S60
+G0 X1.35
+G1 X1.65S60
+G0 X1.7
+G1 X1.95S60
+G0 X2
+G1 X2.05S60
+G0 X2.1
+G1 X2.35S60
+G0 X2.4
+G1 X2.65S60
+G0 X2.8
+G1 X2.85S60
+G0 X2.9
+G1 X2.95S60
+G0 X3
+G1 X3.1S60
+G0 X3.15
+G1 X3.2S60
+G0 X3.35
+G1 X3.4S60
+G0 X3.45
+G1 X3.55S60
+G0 X3.6
+G1 X3.65S60
+G0 X3.8
+G1 X3.85S60
+G0 X3.9
+G1 X3.95S60
+G0 X4.05
+G1 X4.1S60
+G0 X4.15
+G1 X4.4S60
+G0 X4.5
+G1 X4.65S60
+G0 X4.7
+G1 X5.05S60
+G0 X5.1
+G1 X5.15S60
+G0 X5.2
+G1 X5.3S60
+G0 X5.35
+G1 X5.45S60
+G0 X5.6
+G1 X5.7S60
+G0 X5.8
+G1 X5.85S60
+G0 X5.9
+G1 X6S60
+G0 X6.05
+G1 X6.25S60
+G0 X6.35
+G0 X8.35F6000
+
+M5 ; Disable laser
+
+; Optimization Results:
+; - Processed 82 rows, skipped 13 blank rows
+; - Total area reduction: 0.0% width × 1.0% height
+; - Scan time reduced by skipping blank areas
+M2 ; End program
\ No newline at end of file
@@ -0,0 +1,454 @@
+; Platform Scan G-Code for Nexcut
+; Layer: 图形
+; Image Count: 2
+; Platform Size: 400x300 mm
+; Resolution: 0.1 mm/pixel (160x120 pixels)
+; Mode: Halftone
+; Power Range: [0, 100] (0-100 scale)
+; Speed: Burn=1000 mm/min, Travel=6000 mm/min
+; Optimization: Skip blank rows/columns, fast travel for blank areas
+;
+G90 ; Absolute positioning
+G21 ; Units in millimeters
+M4 ; Enable laser (variable power mode)
+
+; Content detection: using threshold < 250 (instead of < 255) for better edge protection
+; Halftone processing: ENABLED - binary threshold at 128, blank areas protected
+; Reverse Movement Offset (空移): 3 mm (30 pixels at 0.100 mm/pixel)
+; Content bounds: X[2.3, 13.9] Y[2.9, 8.9] mm
+; Actual scan range: X[-0.7, 16.9] mm (content + overscan)
+; Overscan application: Applied in halftone mode for smooth edge transitions
+; Content pixels: minX=23, maxX=139, minY=29, maxY=89 (117x61 pixels)
+; Content area: 11.7x6.1 mm (reduced by 26.9%x49.2%)
+; Scan area optimized: 61 rows of 120 total (50.8%)
+
+G0 X8.3Y2.9F6000
+G0 X5.4
+G1 X5.3S100F1000
+G0 X2.3F6000
+
+G0 X1.6Y3
+G0 X4.5
+G1 X6S100F1000
+G0 X9.9F6000
+G1 X13.9S100F1000
+G0 X16.9F6000
+
+G0 Y3.1
+G0 X14
+G1 X10S100F1000
+G0 X6.4F6000
+G1 X4.3S100F1000
+G0 X1.3F6000
+
+G0 X1Y3.2
+G0 X3.9
+G1 X6.6S100F1000
+G0 X9.9F6000
+G1 X13.9S100F1000
+G0 X16.9F6000
+
+G0 Y3.3
+G0 X14
+G1 X10S100F1000
+G0 X6.8F6000
+G1 X3.9S100F1000
+G0 X0.9F6000
+
+G0 X0.7Y3.4
+G0 X3.6
+G1 X6.9S100F1000
+G0 X9.9F6000
+G1 X13.9S100F1000
+G0 X16.9F6000
+
+G0 Y3.5
+G0 X14
+G1 X10S100F1000
+G0 X7.2F6000
+G1 X3.5S100F1000
+G0 X0.5F6000
+
+G0 X0.4Y3.6
+G0 X3.3
+G1 X7.2S100F1000
+G0 X9.9F6000
+G1 X13.9S100F1000
+G0 X16.9F6000
+
+G0 Y3.7
+G0 X14
+G1 X10S100F1000
+G0 X7.4F6000
+G1 X3.3S100F1000
+G0 X0.3F6000
+
+G0 X0.2Y3.8
+G0 X3.1
+G1 X7.4S100F1000
+G0 X9.9F6000
+G1 X13.9S100F1000
+G0 X16.9F6000
+
+G0 Y3.9
+G0 X14
+G1 X10S100F1000
+G0 X7.6F6000
+G1 X3.1S100F1000
+G0 X0.1F6000
+
+G0 X0Y4
+G0 X2.9
+G1 X7.6S100F1000
+G0 X9.9F6000
+G1 X13.9S100F1000
+G0 X16.9F6000
+
+G0 Y4.1
+G0 X14
+G1 X10S100F1000
+G0 X7.8F6000
+G1 X2.9S100F1000
+G0 X-0.1F6000
+
+G0 Y4.2
+G0 X2.8
+G1 X7.7S100F1000
+G0 X9.9F6000
+G1 X13.9S100F1000
+G0 X16.9F6000
+
+G0 Y4.3
+G0 X14
+G1 X10S100F1000
+G0 X7.9F6000
+G1 X2.8S100F1000
+G0 X-0.2F6000
+
+G0 Y4.4
+G0 X2.7
+G1 X7.8S100F1000
+G0 X9.9F6000
+G1 X13.9S100F1000
+G0 X16.9F6000
+
+G0 Y4.5
+G0 X14
+G1 X10S100F1000
+G0 X8F6000
+G1 X5.9S100F1000
+G0 X4.8F6000
+G1 X2.7S100F1000
+G0 X-0.3F6000
+
+G0 X-0.4Y4.6
+G0 X2.5
+G1 X4.5S100F1000
+G0 X6F6000
+G1 X8S100F1000
+G0 X9.9F6000
+G1 X13.9S100F1000
+G0 X16.9F6000
+
+G0 Y4.7
+G0 X14
+G1 X10S100F1000
+G0 X8.1F6000
+G1 X6.2S100F1000
+G0 X4.5F6000
+G1 X2.6S100F1000
+G0 X-0.4F6000
+
+G0 Y4.8
+G0 X2.5
+G1 X4.2S100F1000
+G0 X6.3F6000
+G1 X8S100F1000
+G0 X9.9F6000
+G1 X13.9S100F1000
+G0 X16.9F6000
+
+G0 Y4.9
+G0 X14
+G1 X10S100F1000
+G0 X8.2F6000
+G1 X6.5S100F1000
+G0 X4.2F6000
+G1 X2.5S100F1000
+G0 X-0.5F6000
+
+G0 Y5
+G0 X2.4
+G1 X4.1S100F1000
+G0 X6.4F6000
+G1 X8.1S100F1000
+G0 X9.9F6000
+G1 X13.9S100F1000
+G0 X16.9F6000
+
+G0 Y5.1
+G0 X14
+G1 X10S100F1000
+G0 X8.2F6000
+G1 X6.6S100F1000
+G0 X4.1F6000
+G1 X2.5S100F1000
+G0 X-0.5F6000
+
+G0 X-0.6Y5.2
+G0 X2.3
+G1 X3.9S100F1000
+G0 X6.6F6000
+G1 X8.2S100F1000
+G0 X9.9F6000
+G1 X13.9S100F1000
+G0 X16.9F6000
+
+G0 Y5.3
+G0 X14
+G1 X10S100F1000
+G0 X8.3F6000
+G1 X6.7S100F1000
+G0 X4F6000
+G1 X2.4S100F1000
+G0 X-0.6F6000
+
+G0 Y5.4
+G0 X2.3
+G1 X3.8S100F1000
+G0 X6.7F6000
+G1 X8.2S100F1000
+G0 X9.9F6000
+G1 X13.9S100F1000
+G0 X16.9F6000
+
+G0 Y5.5
+G0 X14
+G1 X10S100F1000
+G0 X8.3F6000
+G1 X6.8S100F1000
+G0 X3.9F6000
+G1 X2.4S100F1000
+G0 X-0.6F6000
+
+G0 Y5.6
+G0 X2.3
+G1 X3.8S100F1000
+G0 X6.7F6000
+G1 X8.2S100F1000
+G0 X9.9F6000
+G1 X13.9S100F1000
+G0 X16.9F6000
+
+G0 Y5.7
+G0 X14
+G1 X10S100F1000
+G0 X8.3F6000
+G1 X6.8S100F1000
+G0 X3.9F6000
+G1 X2.4S100F1000
+G0 X-0.6F6000
+
+G0 Y5.8
+G0 X2.3
+G1 X3.8S100F1000
+G0 X6.7F6000
+G1 X8.2S100F1000
+G0 X9.9F6000
+G1 X13.9S100F1000
+G0 X16.9F6000
+
+G0 Y5.9
+G0 X14
+G1 X10S100F1000
+G0 X8.4F6000
+G1 X6.8S100F1000
+G0 X3.9F6000
+G1 X2.3S100F1000
+G0 X-0.7F6000
+
+G0 X-0.6Y6
+G0 X2.3
+G1 X3.8S100F1000
+G0 X6.7F6000
+G1 X8.2S100F1000
+G0 X16.9F6000
+
+G0 Y6.1
+G0 X8.3
+G1 X6.8S100F1000
+G0 X3.9F6000
+G1 X2.4S100F1000
+G0 X-0.6F6000
+
+G0 Y6.2
+G0 X2.3
+G1 X3.8S100F1000
+G0 X6.7F6000
+G1 X8.2S100F1000
+G0 X16.9F6000
+
+G0 Y6.3
+G0 X8.3
+G1 X6.8S100F1000
+G0 X3.9F6000
+G1 X2.4S100F1000
+G0 X-0.6F6000
+
+G0 Y6.4
+G0 X2.3
+G1 X3.8S100F1000
+G0 X6.7F6000
+G1 X8.2S100F1000
+G0 X16.9F6000
+
+G0 Y6.5
+G0 X8.3
+G1 X6.7S100F1000
+G0 X4F6000
+G1 X2.4S100F1000
+G0 X-0.6F6000
+
+G0 Y6.6
+G0 X2.3
+G1 X3.9S100F1000
+G0 X6.6F6000
+G1 X8.2S100F1000
+G0 X16.9F6000
+
+G0 Y6.7
+G0 X8.2
+G1 X6.6S100F1000
+G0 X4.1F6000
+G1 X2.5S100F1000
+G0 X-0.5F6000
+
+G0 Y6.8
+G0 X2.4
+G1 X4.1S100F1000
+G0 X6.4F6000
+G1 X8.1S100F1000
+G0 X16.9F6000
+
+G0 Y6.9
+G0 X8.2
+G1 X6.5S100F1000
+G0 X4.2F6000
+G1 X2.5S100F1000
+G0 X-0.5F6000
+
+G0 X-0.4Y7
+G0 X2.5
+G1 X4.2S100F1000
+G0 X6.3F6000
+G1 X8S100F1000
+G0 X16.9F6000
+
+G0 Y7.1
+G0 X8.1
+G1 X6.2S100F1000
+G0 X4.5F6000
+G1 X2.6S100F1000
+G0 X-0.4F6000
+
+G0 Y7.2
+G0 X2.5
+G1 X4.5S100F1000
+G0 X6F6000
+G1 X8S100F1000
+G0 X16.9F6000
+
+G0 Y7.3
+G0 X8
+G1 X5.9S100F1000
+G0 X4.8F6000
+G1 X2.7S100F1000
+G0 X-0.3F6000
+
+G0 X-0.2Y7.4
+G0 X2.7
+G1 X7.8S100F1000
+G0 X16.9F6000
+
+G0 Y7.5
+G0 X7.9
+G1 X2.8S100F1000
+G0 X-0.2F6000
+
+G0 X-0.1Y7.6
+G0 X2.8
+G1 X7.7S100F1000
+G0 X16.9F6000
+
+G0 Y7.7
+G0 X7.8
+G1 X2.9S100F1000
+G0 X-0.1F6000
+
+G0 X0Y7.8
+G0 X2.9
+G1 X7.6S100F1000
+G0 X16.9F6000
+
+G0 Y7.9
+G0 X7.6
+G1 X3.1S100F1000
+G0 X0.1F6000
+
+G0 X0.2Y8
+G0 X3.1
+G1 X7.4S100F1000
+G0 X16.9F6000
+
+G0 Y8.1
+G0 X7.4
+G1 X3.3S100F1000
+G0 X0.3F6000
+
+G0 X0.4Y8.2
+G0 X3.3
+G1 X7.2S100F1000
+G0 X16.9F6000
+
+G0 Y8.3
+G0 X7.2
+G1 X3.5S100F1000
+G0 X0.5F6000
+
+G0 X0.7Y8.4
+G0 X3.6
+G1 X6.9S100F1000
+G0 X16.9F6000
+
+G0 Y8.5
+G0 X6.8
+G1 X3.9S100F1000
+G0 X0.9F6000
+
+G0 X1Y8.6
+G0 X3.9
+G1 X6.6S100F1000
+G0 X16.9F6000
+
+G0 Y8.7
+G0 X6.4
+G1 X4.3S100F1000
+G0 X1.3F6000
+
+G0 X1.6Y8.8
+G0 X4.5
+G1 X6S100F1000
+G0 X16.9F6000
+
+G0 Y8.9
+G0 X5.4
+G1 X5.3S100F1000
+G0 X2.3F6000
+
+M5 ; Disable laser
+
+; Optimization Results:
+; - Processed 61 rows, skipped 0 blank rows
+; - Total area reduction: 26.9% width × 49.2% height
+; - Scan time reduced by skipping blank areas
+M2 ; End program
\ No newline at end of file
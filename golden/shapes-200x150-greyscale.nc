@@ -0,0 +1,629 @@
+; Platform Scan G-Code for Nexcut
+; Layer: Scan Layer
+; Image Count: 3
+; Platform Size: 420.5x297 mm
+; Resolution: 0.08 mm/pixel (200x150 pixels)
+; Mode: Greyscale
+; Power Range: [5, 65] (0-100 scale)
+; Speed: Burn=1500 mm/min, Travel=8000 mm/min
+; Optimization: Skip blank rows/columns, fast travel for blank areas
+;
+G90 ; Absolute positioning
+G21 ; Units in millimeters
+M4 ; Enable laser (variable power mode)
+
+; Content detection: using threshold < 250 (instead of < 255) for better edge protection
+; Halftone processing: DISABLED - greyscale mode
+; Reverse Movement Offset (空移): 2.5 mm (32 pixels at 0.080 mm/pixel)
+; Content bounds: X[2.3, 13.9] Y[3.0, 9.0] mm
+; Actual scan range: X[-0.2, 16.4] mm (content + overscan)
+; Overscan application: Applied in greyscale mode for power ramping
+; Content pixels: minX=29, maxX=174, minY=37, maxY=112 (146x76 pixels)
+; Content area: 11.7x6.1 mm (reduced by 27.0%x49.3%)
+; Scan area optimized: 76 rows of 150 total (50.7%)
+
+G0 X7.78Y2.96F8000
+G0 X5.36
+G1 X5.28S65F1500
+G0 X2.78F8000
+
+G0 X2.14Y3.04
+G0 X4.56
+G1 X5.92S65F1500
+G0 X9.92F8000
+G1 X13.92S56F1500
+G0 X16.42F8000
+
+G0 Y3.12
+G0 X14
+G1 X10S56F1500
+G0 X6.32F8000
+G1 X4.32S65F1500
+G0 X1.82F8000
+
+G0 X1.66Y3.2
+G0 X4.08
+G1 X6.4S65F1500
+G0 X9.92F8000
+G1 X13.92S56F1500
+G0 X16.42F8000
+
+G0 Y3.28
+G0 X14
+G1 X10S56F1500
+G0 X6.64F8000
+G1 X4S65F1500
+G0 X1.5F8000
+
+G0 X1.34Y3.36
+G0 X3.76
+G1 X6.72S65F1500
+G0 X9.92F8000
+G1 X13.92S56F1500
+G0 X16.42F8000
+
+G0 Y3.44
+G0 X14
+G1 X10S56F1500
+G0 X6.96F8000
+G1 X3.68S65F1500
+G0 X1.18F8000
+
+G0 X1.1Y3.52
+G0 X3.52
+G1 X6.96S65F1500
+G0 X9.92F8000
+G1 X13.92S56F1500
+G0 X16.42F8000
+
+G0 Y3.6
+G0 X14
+G1 X10S56F1500
+G0 X7.12F8000
+G1 X3.52S65F1500
+G0 X1.02F8000
+
+G0 X0.86Y3.68
+G0 X3.28
+G1 X7.2S65F1500
+G0 X9.92F8000
+G1 X13.92S56F1500
+G0 X16.42F8000
+
+G0 Y3.76
+G0 X14
+G1 X10S56F1500
+G0 X7.36F8000
+G1 X3.28S65F1500
+G0 X0.78F8000
+
+G0 X0.7Y3.84
+G0 X3.12
+G1 X7.36S65F1500
+G0 X9.92F8000
+G1 X13.92S56F1500
+G0 X16.42F8000
+
+G0 Y3.92
+G0 X14
+G1 X10S56F1500
+G0 X7.52F8000
+G1 X3.12S65F1500
+G0 X0.62F8000
+
+G0 X0.54Y4
+G0 X2.96
+G1 X7.52S65F1500
+G0 X9.92F8000
+G1 X13.92S56F1500
+G0 X16.42F8000
+
+G0 Y4.08
+G0 X14
+G1 X10S56F1500
+G0 X7.6F8000
+G1 X3.04S65F1500
+G0 X0.54F8000
+
+G0 X0.46Y4.16
+G0 X2.88
+G1 X7.6S65F1500
+G0 X9.92F8000
+G1 X13.92S56F1500
+G0 X16.42F8000
+
+G0 Y4.24
+G0 X14
+G1 X10S56F1500
+G0 X7.76F8000
+G1 X2.88S65F1500
+G0 X0.38F8000
+
+G0 X0.3Y4.32
+G0 X2.72
+G1 X7.76S65F1500
+G0 X9.92F8000
+G1 X13.92S56F1500
+G0 X16.42F8000
+
+G0 Y4.4
+G0 X14
+G1 X10S56F1500
+G0 X7.84F8000
+G1 X2.8S65F1500
+G0 X0.3F8000
+
+G0 X0.22Y4.48
+G0 X2.64
+G1 X7.84S65F1500
+G0 X9.92F8000
+G1 X13.92S56F1500
+G0 X16.42F8000
+
+G0 Y4.56
+G0 X14
+G1 X10S56F1500
+G0 X7.92F8000
+G1 X5.76S65F1500
+G0 X4.88F8000
+G1 X2.72S65F1500
+G0 X0.22F8000
+
+G0 X0.14Y4.64
+G0 X2.56
+G1 X4.56S65F1500
+G0 X5.92F8000
+G1 X7.92S65F1500
+G0 X9.92F8000
+G1 X13.92S56F1500
+G0 X16.42F8000
+
+G0 Y4.72
+G0 X14
+G1 X10S56F1500
+G0 X8F8000
+G1 X6.08S65F1500
+G0 X4.56F8000
+G1 X2.64S65F1500
+G0 X0.14F8000
+
+G0 X0.06Y4.8
+G0 X2.48
+G1 X4.32S65F1500
+G0 X6.16F8000
+G1 X8S65F1500
+G0 X9.92F8000
+G1 X13.92S56F1500
+G0 X16.42F8000
+
+G0 Y4.88
+G0 X14
+G1 X10S56F1500
+G0 X8.08F8000
+G1 X6.32S65F1500
+G0 X4.32F8000
+G1 X2.56S65F1500
+G0 X0.06F8000
+
+G0 X-0.02Y4.96
+G0 X2.4
+G1 X4.16S65F1500
+G0 X6.32F8000
+G1 X8.08S65F1500
+G0 X9.92F8000
+G1 X13.92S56F1500
+G0 X16.42F8000
+
+G0 Y5.04
+G0 X14
+G1 X10S56F1500
+G0 X8.16F8000
+G1 X6.48S65F1500
+G0 X4.16F8000
+G1 X2.48S65F1500
+G0 X-0.02F8000
+
+G0 Y5.12
+G0 X2.4
+G1 X4.08S65F1500
+G0 X6.4F8000
+G1 X8.08S65F1500
+G0 X9.92F8000
+G1 X13.92S56F1500
+G0 X16.42F8000
+
+G0 Y5.2
+G0 X14
+G1 X10S56F1500
+G0 X8.16F8000
+G1 X6.56S65F1500
+G0 X4.08F8000
+G1 X2.48S65F1500
+G0 X-0.02F8000
+
+G0 X-0.1Y5.28
+G0 X2.32
+G1 X3.92S65F1500
+G0 X6.56F8000
+G1 X8.16S65F1500
+G0 X9.92F8000
+G1 X13.92S56F1500
+G0 X16.42F8000
+
+G0 Y5.36
+G0 X14
+G1 X10S56F1500
+G0 X8.24F8000
+G1 X6.64S65F1500
+G0 X4F8000
+G1 X2.4S65F1500
+G0 X-0.1F8000
+
+G0 Y5.44
+G0 X2.32
+G1 X3.92S65F1500
+G0 X6.56F8000
+G1 X8.16S65F1500
+G0 X9.92F8000
+G1 X13.92S56F1500
+G0 X16.42F8000
+
+G0 Y5.52
+G0 X14
+G1 X10S56F1500
+G0 X8.24F8000
+G1 X6.72S65F1500
+G0 X3.92F8000
+G1 X2.4S65F1500
+G0 X-0.1F8000
+
+G0 Y5.6
+G0 X2.32
+G1 X3.84S65F1500
+G0 X6.64F8000
+G1 X8.16S65F1500
+G0 X9.92F8000
+G1 X13.92S56F1500
+G0 X16.42F8000
+
+G0 Y5.68
+G0 X14
+G1 X10S56F1500
+G0 X8.24F8000
+G1 X6.72S65F1500
+G0 X3.92F8000
+G1 X2.4S65F1500
+G0 X-0.1F8000
+
+G0 Y5.76
+G0 X2.32
+G1 X3.84S65F1500
+G0 X6.64F8000
+G1 X8.16S65F1500
+G0 X9.92F8000
+G1 X13.92S56F1500
+G0 X16.42F8000
+
+G0 Y5.84
+G0 X14
+G1 X10S56F1500
+G0 X8.24F8000
+G1 X6.72S65F1500
+G0 X3.92F8000
+G1 X2.4S65F1500
+G0 X-0.1F8000
+
+G0 X-0.18Y5.92
+G0 X2.24
+G1 X3.84S65F1500
+G0 X6.64F8000
+G1 X8.24S65F1500
+G0 X9.92F8000
+G1 X13.92S56F1500
+G0 X16.42F8000
+
+G0 Y6
+G0 X14
+G1 X10S35F1500
+G0 X8.24F8000
+G1 X6.72S65F1500
+G0 X3.92F8000
+G1 X2.4S65F1500
+G0 X-0.1F8000
+
+G0 Y6.08
+G0 X2.32
+G1 X3.84S65F1500
+G0 X6.64F8000
+G1 X8.16S65F1500
+G0 X9.92F8000
+G1 X13.92S35F1500
+G0 X16.42F8000
+
+G0 Y6.16
+G0 X14
+G1 X10S35F1500
+G0 X8.24F8000
+G1 X6.72S65F1500
+G0 X3.92F8000
+G1 X2.4S65F1500
+G0 X-0.1F8000
+
+G0 Y6.24
+G0 X2.32
+G1 X3.84S65F1500
+G0 X6.64F8000
+G1 X8.16S65F1500
+G0 X9.92F8000
+G1 X13.92S35F1500
+G0 X16.42F8000
+
+G0 Y6.32
+G0 X14
+G1 X10S35F1500
+G0 X8.24F8000
+G1 X6.72S65F1500
+G0 X3.92F8000
+G1 X2.4S65F1500
+G0 X-0.1F8000
+
+G0 Y6.4
+G0 X2.32
+G1 X3.92S65F1500
+G0 X6.56F8000
+G1 X8.16S65F1500
+G0 X9.92F8000
+G1 X13.92S35F1500
+G0 X16.42F8000
+
+G0 Y6.48
+G0 X14
+G1 X10S35F1500
+G0 X8.24F8000
+G1 X6.64S65F1500
+G0 X4F8000
+G1 X2.4S65F1500
+G0 X-0.1F8000
+
+G0 Y6.56
+G0 X2.32
+G1 X3.92S65F1500
+G0 X6.56F8000
+G1 X8.16S65F1500
+G0 X9.92F8000
+G1 X13.92S35F1500
+G0 X16.42F8000
+
+G0 Y6.64
+G0 X14
+G1 X10S35F1500
+G0 X8.16F8000
+G1 X6.56S65F1500
+G0 X4.08F8000
+G1 X2.48S65F1500
+G0 X-0.02F8000
+
+G0 Y6.72
+G0 X2.4
+G1 X4.08S65F1500
+G0 X6.4F8000
+G1 X8.08S65F1500
+G0 X9.92F8000
+G1 X13.92S35F1500
+G0 X16.42F8000
+
+G0 Y6.8
+G0 X14
+G1 X10S35F1500
+G0 X8.16F8000
+G1 X6.48S65F1500
+G0 X4.16F8000
+G1 X2.48S65F1500
+G0 X-0.02F8000
+
+G0 Y6.88
+G0 X2.4
+G1 X4.16S65F1500
+G0 X6.32F8000
+G1 X8.08S65F1500
+G0 X9.92F8000
+G1 X13.92S35F1500
+G0 X16.42F8000
+
+G0 Y6.96
+G0 X14
+G1 X10S35F1500
+G0 X8.08F8000
+G1 X6.32S65F1500
+G0 X4.32F8000
+G1 X2.56S65F1500
+G0 X0.06F8000
+
+G0 Y7.04
+G0 X2.48
+G1 X4.32S65F1500
+G0 X6.16F8000
+G1 X8S65F1500
+G0 X9.92F8000
+G1 X13.92S35F1500
+G0 X16.42F8000
+
+G0 Y7.12
+G0 X14
+G1 X10S35F1500
+G0 X8F8000
+G1 X6.08S65F1500
+G0 X4.56F8000
+G1 X2.64S65F1500
+G0 X0.14F8000
+
+G0 Y7.2
+G0 X2.56
+G1 X4.56S65F1500
+G0 X5.92F8000
+G1 X7.92S65F1500
+G0 X9.92F8000
+G1 X13.92S35F1500
+G0 X16.42F8000
+
+G0 Y7.28
+G0 X14
+G1 X10S35F1500
+G0 X7.92F8000
+G1 X5.76S65F1500
+G0 X4.88F8000
+G1 X2.72S65F1500
+G0 X0.22F8000
+
+G0 Y7.36
+G0 X2.64
+G1 X7.84S65F1500
+G0 X9.92F8000
+G1 X13.92S35F1500
+G0 X16.42F8000
+
+G0 Y7.44
+G0 X14
+G1 X10S35F1500
+G0 X7.84F8000
+G1 X2.8S65F1500
+G0 X0.3F8000
+
+G0 Y7.52
+G0 X2.72
+G1 X7.76S65F1500
+G0 X9.92F8000
+G1 X13.92S35F1500
+G0 X16.42F8000
+
+G0 Y7.6
+G0 X14
+G1 X10S35F1500
+G0 X7.76F8000
+G1 X2.88S65F1500
+G0 X0.38F8000
+
+G0 X0.46Y7.68
+G0 X2.88
+G1 X7.6S65F1500
+G0 X9.92F8000
+G1 X13.92S35F1500
+G0 X16.42F8000
+
+G0 Y7.76
+G0 X14
+G1 X10S35F1500
+G0 X7.6F8000
+G1 X3.04S65F1500
+G0 X0.54F8000
+
+G0 Y7.84
+G0 X2.96
+G1 X7.52S65F1500
+G0 X9.92F8000
+G1 X13.92S35F1500
+G0 X16.42F8000
+
+G0 Y7.92
+G0 X14
+G1 X10S35F1500
+G0 X7.52F8000
+G1 X3.12S65F1500
+G0 X0.62F8000
+
+G0 X0.7Y8
+G0 X3.12
+G1 X7.36S65F1500
+G0 X9.92F8000
+G1 X13.92S35F1500
+G0 X16.42F8000
+
+G0 Y8.08
+G0 X14
+G1 X10S35F1500
+G0 X7.36F8000
+G1 X3.28S65F1500
+G0 X0.78F8000
+
+G0 X0.86Y8.16
+G0 X3.28
+G1 X7.2S65F1500
+G0 X9.92F8000
+G1 X13.92S35F1500
+G0 X16.42F8000
+
+G0 Y8.24
+G0 X14
+G1 X10S35F1500
+G0 X7.12F8000
+G1 X3.52S65F1500
+G0 X1.02F8000
+
+G0 X1.1Y8.32
+G0 X3.52
+G1 X6.96S65F1500
+G0 X9.92F8000
+G1 X13.92S35F1500
+G0 X16.42F8000
+
+G0 Y8.4
+G0 X14
+G1 X10S35F1500
+G0 X6.96F8000
+G1 X3.68S65F1500
+G0 X1.18F8000
+
+G0 X1.34Y8.48
+G0 X3.76
+G1 X6.72S65F1500
+G0 X9.92F8000
+G1 X13.92S35F1500
+G0 X16.42F8000
+
+G0 Y8.56
+G0 X14
+G1 X10S35F1500
+G0 X6.64F8000
+G1 X4S65F1500
+G0 X1.5F8000
+
+G0 X1.66Y8.64
+G0 X4.08
+G1 X6.4S65F1500
+G0 X9.92F8000
+G1 X13.92S35F1500
+G0 X16.42F8000
+
+G0 Y8.72
+G0 X14
+G1 X10S35F1500
+G0 X6.32F8000
+G1 X4.32S65F1500
+G0 X1.82F8000
+
+G0 X2.14Y8.8
+G0 X4.56
+G1 X5.92S65F1500
+G0 X9.92F8000
+G1 X13.92S35F1500
+G0 X16.42F8000
+
+G0 Y8.88
+G0 X14
+G1 X10S35F1500
+G0 X5.36F8000
+G1 X5.28S65F1500
+G0 X2.78F8000
+
+G0 X7.5Y8.96
+G0 X9.92
+G1 X13.92S35F1500
+G0 X16.42F8000
+
+M5 ; Disable laser
+
+; Optimization Results:
+; - Processed 76 rows, skipped 0 blank rows
+; - Total area reduction: 27.0% width × 49.3% height
+; - Scan time reduced by skipping blank areas
+M2 ; End program
\ No newline at end of file
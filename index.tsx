@@ -1,6 +1,8 @@
 import React from 'react';
 import ReactDOM from 'react-dom/client';
 import App from './App';
+import { runOnHomePage } from './lib/androidBridge';
+import { benchmarkBinaryTransport, connectBinary } from './lib/binaryTransport';
 
 // 在应用启动时设置全局的setWhiteboardImage函数
 // 确保在HomePage组件加载前就能处理Android的调用
@@ -10,6 +12,14 @@ import App from './App';
   (window as any).__pendingWhiteboardImage = { base64Data, timestamp: Date.now() };
 };
 
+// 原生端复用已加载的页面时，通过它把新的输入推送到首页（必要时先返回首页）
+(window as any).__runOnHomePage = runOnHomePage;
+
+// 尽早完成二进制通道握手，之后的大数据传输可以同步判断是否走二进制通道
+connectBinary();
+// 调试入口（chrome://inspect 控制台）：对比字符串桥与二进制通道传输 1/10/50 MB 的往返耗时
+(window as any).benchmarkBinaryTransport = benchmarkBinaryTransport;
+
 const rootElement = document.getElementById('root');
 if (!rootElement) {
   throw new Error("Could not find root element to mount to");
@@ -0,0 +1,162 @@
+/**
+ * Android 异步桥调用
+ * 原生端的 xxxAsync 方法立即返回请求ID，完成后调用
+ * window.__androidBridge.resolve(id, result) 或 reject(id, message)；
+ * 页面被归还到 WebView 池（Activity 关闭）时原生端调用 rejectAll(message)，结束所有未完成的请求
+ */
+
+type Pending = { resolve: (value: any) => void; reject: (reason: Error) => void };
+
+const pending = new Map<string, Pending>();
+const progressListeners = new Map<string, (event: any) => void>();
+const resetListeners: Array<(message: string) => void> = [];
+
+function ensureInstalled() {
+  const w = window as any;
+  if (w.__androidBridge) return;
+  w.__androidBridge = {
+    resolve(id: string, result: any) {
+      const p = pending.get(id);
+      if (p) {
+        pending.delete(id);
+        p.resolve(result);
+      }
+    },
+    reject(id: string, message: string) {
+      const p = pending.get(id);
+      if (p) {
+        pending.delete(id);
+        p.reject(new Error(message));
+      }
+    },
+    progress(channel: string, event: any) {
+      progressListeners.get(channel)?.(event);
+    },
+    rejectAll(message: string) {
+      const entries = Array.from(pending.values());
+      pending.clear();
+      entries.forEach(p => p.reject(new Error(message)));
+      resetListeners.forEach(listener => listener(message));
+    },
+  };
+}
+
+/**
+ * 原生端结束所有未完成请求时（见 rejectAll）通知，供其他通道（二进制帧）同样结束等待
+ */
+export function onAndroidBridgeReset(listener: (message: string) => void): void {
+  ensureInstalled();
+  resetListeners.push(listener);
+}
+
+/**
+ * 订阅原生端长任务的进度通知（channel 由页面在请求参数中指定），返回取消订阅函数
+ */
+export function onAndroidProgress(channel: string, listener: (event: any) => void): () => void {
+  ensureInstalled();
+  progressListeners.set(channel, listener);
+  return () => {
+    progressListeners.delete(channel);
+  };
+}
+
+/**
+ * 原生端是否提供指定的桥方法
+ */
+export function hasAndroidMethod(name: string): boolean {
+  const android = (window as any).Android;
+  return !!android && typeof android[name] === 'function';
+}
+
+/**
+ * 调用原生异步桥方法（方法名不含 Async 后缀），返回结果 Promise
+ * 原生端不支持异步版本时退回同步调用
+ */
+export function callAndroidAsync<T = any>(method: string, ...args: any[]): Promise<T> {
+  const android = (window as any).Android;
+  const asyncName = `${method}Async`;
+  if (!hasAndroidMethod(asyncName)) {
+    if (!hasAndroidMethod(method)) {
+      return Promise.reject(new Error(`Android.${method} 不可用`));
+    }
+    try {
+      return Promise.resolve(android[method](...args));
+    } catch (e) {
+      return Promise.reject(e);
+    }
+  }
+  ensureInstalled();
+  return new Promise<T>((resolve, reject) => {
+    const id: string = android[asyncName](...args);
+    if (!id) {
+      // 原生端繁忙（在途请求过多）或已关闭
+      reject(new Error(`Android.${asyncName} 繁忙，请稍后重试`));
+      return;
+    }
+    pending.set(id, { resolve, reject });
+  });
+}
+
+/**
+ * 查询桥方法调用统计
+ */
+export function getBridgeMetrics(): any {
+  if (!hasAndroidMethod('getBridgeMetrics')) return null;
+  try {
+    return JSON.parse((window as any).Android.getBridgeMetrics());
+  } catch {
+    return null;
+  }
+}
+
+/**
+ * 查询原生临时文件缓存统计（命中、未命中、淘汰）
+ */
+export function getTempCacheStats(): any {
+  if (!hasAndroidMethod('getTempCacheStats')) return null;
+  try {
+    return JSON.parse((window as any).Android.getTempCacheStats());
+  } catch {
+    return null;
+  }
+}
+
+/**
+ * 查询原生端指标：{uptimeMs, bridge, stages, writes, counters, cache, traceBytes}
+ */
+export function getNativeMetrics(): any {
+  if (!hasAndroidMethod('getMetrics')) return null;
+  try {
+    return JSON.parse((window as any).Android.getMetrics());
+  } catch {
+    return null;
+  }
+}
+
+let homePageReady = false;
+const homePageTasks: Array<() => void> = [];
+
+/**
+ * 在首页就绪（已注册 setHomePageImage 等原生回调）后执行任务
+ * 原生端复用已加载的页面时，页面可能停留在白板页，此时先回到首页再执行
+ */
+export function runOnHomePage(task: () => void): void {
+  if (homePageReady) {
+    task();
+    return;
+  }
+  homePageTasks.push(task);
+  if (window.location.hash !== '#/' && window.location.hash !== '') {
+    window.location.hash = '#/';
+  }
+}
+
+/**
+ * 首页挂载并注册回调后调用 setHomePageReady(true)，执行排队的任务；卸载时传 false
+ */
+export function setHomePageReady(ready: boolean): void {
+  homePageReady = ready;
+  while (homePageReady && homePageTasks.length > 0) {
+    homePageTasks.shift()!();
+  }
+}
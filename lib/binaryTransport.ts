@@ -0,0 +1,327 @@
+/**
+ * 页面与原生之间的二进制通道
+ * 原生端通过 addWebMessageListener 注入 window.WhiteboardBinary，两端以 ArrayBuffer 收发帧，
+ * 不经过 base64 / JSON 字符串。帧格式与 BinaryFrames.java 一致（小端序）：
+ *   u32 magic "WBF1" | u8 type | u8 flags | u16 metaLength | u32 id | u32 payloadLength
+ *   | meta（UTF-8 JSON，补齐到 4 字节）| payload
+ * 系统 WebView 不支持时 isBinaryReady() 为 false，调用方继续使用字符串桥方法。
+ */
+import { onAndroidBridgeReset } from './androidBridge';
+
+export const FRAME_MAGIC = 0x31464257;
+export const FRAME_HEADER_BYTES = 16;
+
+export const FrameType = {
+  HELLO: 1,
+  RESULT: 2,
+  ERROR: 3,
+  POLYLINES: 16,
+  RASTER_TILE: 17,
+  GCODE_CHUNK: 18,
+  ECHO: 127,
+} as const;
+
+export const FLAG_FINAL = 1;
+export const POLYLINE_CLOSED = 1;
+export const POLYLINE_REVERSIBLE = 2;
+
+export interface Frame {
+  type: number;
+  flags: number;
+  id: number;
+  meta: any;
+  // 指向帧缓冲区的视图，起始位置 4 字节对齐
+  payload: Uint8Array;
+}
+
+export interface BinaryPolyline {
+  // x0, y0, x1, y1 ...
+  pts: ArrayLike<number>;
+  closed?: boolean;
+  reversible?: boolean;
+}
+
+type Pending = { resolve: (frame: Frame) => void; reject: (reason: Error) => void };
+
+const encoder = new TextEncoder();
+const decoder = new TextDecoder();
+const pending = new Map<number, Pending>();
+let nextId = 1;
+let ready = false;
+let connecting: Promise<boolean> | null = null;
+
+// 页面归还到 WebView 池后原生端不再应答，未完成的帧请求与字符串桥请求一起结束等待
+onAndroidBridgeReset(message => {
+  const entries = Array.from(pending.values());
+  pending.clear();
+  entries.forEach(p => p.reject(new Error(message)));
+});
+
+const align4 = (n: number) => (n + 3) & ~3;
+
+export function encodeFrame(
+  type: number,
+  flags: number,
+  id: number,
+  meta: any,
+  payload?: Uint8Array | null
+): ArrayBuffer {
+  const metaBytes = meta ? encoder.encode(JSON.stringify(meta)) : new Uint8Array(0);
+  if (metaBytes.length > 0xffff) throw new Error('meta 过大: ' + metaBytes.length);
+  const payloadStart = FRAME_HEADER_BYTES + align4(metaBytes.length);
+  const payloadLength = payload ? payload.length : 0;
+  const buffer = new ArrayBuffer(payloadStart + payloadLength);
+  const view = new DataView(buffer);
+  view.setUint32(0, FRAME_MAGIC, true);
+  view.setUint8(4, type);
+  view.setUint8(5, flags);
+  view.setUint16(6, metaBytes.length, true);
+  view.setUint32(8, id, true);
+  view.setUint32(12, payloadLength, true);
+  const bytes = new Uint8Array(buffer);
+  bytes.set(metaBytes, FRAME_HEADER_BYTES);
+  if (payload) bytes.set(payload, payloadStart);
+  return buffer;
+}
+
+export function decodeFrame(buffer: ArrayBuffer): Frame {
+  const view = new DataView(buffer);
+  if (buffer.byteLength < FRAME_HEADER_BYTES || view.getUint32(0, true) !== FRAME_MAGIC) {
+    throw new Error('不是有效的二进制帧');
+  }
+  const metaLength = view.getUint16(6, true);
+  const payloadStart = FRAME_HEADER_BYTES + align4(metaLength);
+  const payloadLength = view.getUint32(12, true);
+  if (payloadStart + payloadLength > buffer.byteLength) {
+    throw new Error('帧长度不符: ' + buffer.byteLength);
+  }
+  const metaText = metaLength ? decoder.decode(new Uint8Array(buffer, FRAME_HEADER_BYTES, metaLength)) : '';
+  return {
+    type: view.getUint8(4),
+    flags: view.getUint8(5),
+    id: view.getUint32(8, true),
+    meta: metaText ? JSON.parse(metaText) : {},
+    payload: new Uint8Array(buffer, payloadStart, payloadLength),
+  };
+}
+
+/**
+ * 折线负载：u32 count，u32 pointCounts[count]，u8 flags[count]（补齐到 4 字节），f32 坐标
+ */
+export function encodePolylines(polylines: BinaryPolyline[]): Uint8Array {
+  const count = polylines.length;
+  let coords = 0;
+  for (const p of polylines) coords += p.pts.length - (p.pts.length % 2);
+  const flagsStart = 4 + count * 4;
+  const coordsStart = flagsStart + align4(count);
+  const buffer = new ArrayBuffer(coordsStart + coords * 4);
+  const view = new DataView(buffer);
+  view.setUint32(0, count, true);
+  const flags = new Uint8Array(buffer, flagsStart, count);
+  const xy = new Float32Array(buffer, coordsStart, coords);
+  let offset = 0;
+  polylines.forEach((p, i) => {
+    const n = p.pts.length >> 1;
+    view.setUint32(4 + i * 4, n, true);
+    flags[i] = (p.closed ? POLYLINE_CLOSED : 0) | (p.reversible ? POLYLINE_REVERSIBLE : 0);
+    for (let k = 0; k < n * 2; k++) xy[offset + k] = p.pts[k];
+    offset += n * 2;
+  });
+  return new Uint8Array(buffer);
+}
+
+/**
+ * 栅格分块负载：u32 x, y, width, height, channels，随后为逐行像素
+ */
+export function encodeRasterTile(
+  x: number, y: number, width: number, height: number, channels: number, pixels: Uint8Array
+): Uint8Array {
+  if (pixels.length !== width * height * channels) {
+    throw new Error(`栅格尺寸不符: ${width}x${height}x${channels}`);
+  }
+  const out = new Uint8Array(20 + pixels.length);
+  const view = new DataView(out.buffer);
+  [x, y, width, height, channels].forEach((v, i) => view.setUint32(i * 4, v, true));
+  out.set(pixels, 20);
+  return out;
+}
+
+function channel(): any {
+  return (window as any).WhiteboardBinary;
+}
+
+function onFrame(event: MessageEvent) {
+  if (!(event.data instanceof ArrayBuffer)) return;
+  let frame: Frame;
+  try {
+    frame = decodeFrame(event.data);
+  } catch (error) {
+    console.warn('二进制通道收到无效帧:', error);
+    return;
+  }
+  const p = pending.get(frame.id);
+  if (!p) return;
+  pending.delete(frame.id);
+  if (frame.type === FrameType.ERROR) {
+    p.reject(new Error(frame.meta.message || '原生端处理失败'));
+  } else {
+    p.resolve(frame);
+  }
+}
+
+/**
+ * 建立二进制通道（握手一次，之后直接返回结果）
+ */
+export function connectBinary(timeoutMs = 1000): Promise<boolean> {
+  if (connecting) return connecting;
+  const ch = channel();
+  if (!ch || typeof ch.postMessage !== 'function') return Promise.resolve(false);
+  ch.onmessage = onFrame;
+  connecting = new Promise<boolean>(resolve => {
+    const id = nextId++;
+    const timer = setTimeout(() => {
+      pending.delete(id);
+      resolve(false);
+    }, timeoutMs);
+    pending.set(id, {
+      resolve: () => {
+        clearTimeout(timer);
+        ready = true;
+        resolve(true);
+      },
+      reject: () => {
+        clearTimeout(timer);
+        resolve(false);
+      },
+    });
+    ch.postMessage(encodeFrame(FrameType.HELLO, FLAG_FINAL, id, null));
+  });
+  return connecting;
+}
+
+/**
+ * 二进制通道是否已握手成功
+ */
+export function isBinaryReady(): boolean {
+  return ready;
+}
+
+/**
+ * 发送一帧并等待同一 id 的应答帧
+ */
+export function requestFrame(type: number, meta: any, payload?: Uint8Array | null, flags = FLAG_FINAL): Promise<Frame> {
+  if (!ready) return Promise.reject(new Error('二进制通道不可用'));
+  const id = nextId++;
+  return new Promise<Frame>((resolve, reject) => {
+    pending.set(id, { resolve, reject });
+    try {
+      channel().postMessage(encodeFrame(type, flags, id, meta, payload));
+    } catch (error) {
+      pending.delete(id);
+      reject(error as Error);
+    }
+  });
+}
+
+/**
+ * 原生路径排序（参数与结果同 optimizeToolpath），坐标以 float32 传递
+ */
+export async function optimizeToolpathBinary(
+  paths: BinaryPolyline[],
+  options: { startX: number; startY: number; budgetMs: number }
+): Promise<any> {
+  const frame = await requestFrame(FrameType.POLYLINES, { method: 'optimizeToolpath', ...options }, encodePolylines(paths));
+  return frame.meta;
+}
+
+/**
+ * 把栅格像素存入原生临时文件缓存，返回 {path, width, height, bitsPerPixel}
+ */
+export async function saveRasterBinary(
+  pixels: Uint8Array, width: number, height: number, channels: number, fileName: string
+): Promise<any> {
+  const payload = encodeRasterTile(0, 0, width, height, channels, pixels);
+  const frame = await requestFrame(FrameType.RASTER_TILE, { method: 'saveTempFile', fileName }, payload);
+  return frame.meta;
+}
+
+/**
+ * 以 UTF-8 分块写入 beginFile 打开的会话并提交。最多 4 个分块在途，原生端写入积压时自然限速
+ */
+export async function streamTextBinary(sessionId: string, text: string, chunkChars = 256 * 1024): Promise<void> {
+  const inFlight: Promise<Frame>[] = [];
+  let start = 0;
+  do {
+    let end = Math.min(start + chunkChars, text.length);
+    // 不要把代理对拆到两个分块中
+    const code = text.charCodeAt(end - 1);
+    if (end < text.length && code >= 0xd800 && code <= 0xdbff) end--;
+    const last = end >= text.length;
+    inFlight.push(requestFrame(FrameType.GCODE_CHUNK, { session: sessionId },
+      encoder.encode(text.slice(start, end)), last ? FLAG_FINAL : 0));
+    if (inFlight.length >= 4 || last) {
+      const frame = await inFlight.shift()!;
+      if (!frame.meta.ok) throw new Error('写入文件失败');
+    }
+    start = end;
+  } while (start < text.length);
+  for (const p of inFlight) {
+    const frame = await p;
+    if (!frame.meta.ok) throw new Error('写入文件失败');
+  }
+}
+
+function bytesToBase64(bytes: Uint8Array): string {
+  let binary = '';
+  const CHUNK = 0x8000;
+  for (let i = 0; i < bytes.length; i += CHUNK) {
+    binary += String.fromCharCode.apply(null, bytes.subarray(i, i + CHUNK) as unknown as number[]);
+  }
+  return btoa(binary);
+}
+
+function base64ToBytes(base64: string): Uint8Array {
+  const binary = atob(base64);
+  const bytes = new Uint8Array(binary.length);
+  for (let i = 0; i < binary.length; i++) bytes[i] = binary.charCodeAt(i);
+  return bytes;
+}
+
+/**
+ * 对比字符串桥（base64 往返 echoBase64）与二进制通道（ECHO 帧往返）传输同一负载的耗时
+ * 每种大小各测 rounds 次取中位数，结果为 [{mb, stringMs, binaryMs}]，不支持的通道记为 null
+ */
+export async function benchmarkBinaryTransport(sizesMB: number[] = [1, 10, 50], rounds = 3): Promise<any[]> {
+  const android = (window as any).Android;
+  await connectBinary();
+  const median = (xs: number[]) => xs.sort((a, b) => a - b)[xs.length >> 1];
+  const results: any[] = [];
+  for (const mb of sizesMB) {
+    const data = new Uint8Array(mb * 1024 * 1024);
+    for (let i = 0; i < data.length; i++) data[i] = (i * 31 + (i >> 7)) & 0xff;
+    const stringTimes: number[] = [];
+    const binaryTimes: number[] = [];
+    for (let r = 0; r < rounds; r++) {
+      if (android && typeof android.echoBase64 === 'function') {
+        const t0 = performance.now();
+        const echoed = base64ToBytes(android.echoBase64(bytesToBase64(data)));
+        if (echoed.length !== data.length) throw new Error('字符串通道回送长度不符');
+        stringTimes.push(performance.now() - t0);
+      }
+      if (ready) {
+        const t0 = performance.now();
+        const frame = await requestFrame(FrameType.ECHO, null, data);
+        if (frame.payload.length !== data.length) throw new Error('二进制通道回送长度不符');
+        binaryTimes.push(performance.now() - t0);
+      }
+    }
+    const result = {
+      mb,
+      stringMs: stringTimes.length ? Math.round(median(stringTimes)) : null,
+      binaryMs: binaryTimes.length ? Math.round(median(binaryTimes)) : null,
+    };
+    console.log('[二进制通道基准]', result);
+    results.push(result);
+  }
+  return results;
+}
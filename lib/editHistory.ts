@@ -0,0 +1,314 @@
+/**
+ * 白板撤销/重做历史
+ * 在 Android 上由原生端保存（见 EditHistory.java）：页面只持有当前位置的状态（anchor），每次记录时发送
+ * 变化对象的正向与反向差异，未变化的对象按引用判断、不重复发送。对象中的长字符串（内嵌图片的 data URL、
+ * 矢量原文）替换为内容哈希引用，内容只上传一次。撤销/重做时原生端返回一条差异，页面应用到 anchor 上，
+ * 耗时与历史长度无关；原生端保存的历史在页面被杀或应用重启后可以恢复。
+ * 没有原生端时（浏览器调试）退回为内存中的快照栈。
+ */
+import type { CanvasItem, Layer } from '../types';
+import { hasAndroidMethod } from './androidBridge';
+
+export interface BoardState {
+  layers: Layer[];
+  items: CanvasItem[];
+}
+
+export interface HistoryStatus {
+  canUndo: boolean;
+  canRedo: boolean;
+}
+
+export interface EditHistory {
+  /** 恢复上次会话，返回恢复的当前状态；没有可恢复的会话时以 initial 开始新历史并返回 null */
+  open(initial: BoardState): BoardState | null;
+  /** 以给定状态开始新历史 */
+  reset(state: BoardState): HistoryStatus;
+  /** 记录修改前的状态（与原 pushHistory 的语义相同） */
+  push(before: BoardState): HistoryStatus;
+  /** 撤销，返回要显示的状态，不能撤销时返回 null */
+  undo(current: BoardState): BoardState | null;
+  /** 重做，返回要显示的状态，不能重做时返回 null */
+  redo(current: BoardState): BoardState | null;
+  /** 同步尚未记录的修改，用于崩溃后恢复（调用方节流） */
+  saveLive(current: BoardState): void;
+  status(): HistoryStatus;
+}
+
+interface Diff {
+  put?: any[];
+  remove?: string[];
+  order?: string[];
+  layers?: Layer[];
+}
+
+// 内存快照栈的最大步数
+const MAX_MEMORY_HISTORY = 50;
+// 超过此长度的字符串以内容哈希引用
+const BLOB_MIN_CHARS = 8192;
+const BLOB_REF_PREFIX = '\u0000blob:';
+// 页面缓存的长字符串数量（内容与哈希双向），其余按需向原生端读取
+const BLOB_CACHE_SIZE = 16;
+
+/**
+ * 64 位 FNV 风格哈希（两路 32 位）加长度，只用于内容寻址
+ */
+function contentHash(text: string): string {
+  let h1 = 0x811c9dc5;
+  let h2 = 0x01000193 ^ text.length;
+  for (let i = 0; i < text.length; i++) {
+    const c = text.charCodeAt(i);
+    h1 = Math.imul(h1 ^ c, 0x01000193);
+    h2 = Math.imul(h2 ^ c, 0x5bd1e995);
+    h2 ^= h2 >>> 15;
+  }
+  return (h1 >>> 0).toString(16).padStart(8, '0') + (h2 >>> 0).toString(16).padStart(8, '0') + text.length.toString(16);
+}
+
+/**
+ * 按插入顺序淘汰的小缓存
+ */
+class LruMap<K, V> {
+  private map = new Map<K, V>();
+  constructor(private capacity: number) {}
+  get(key: K): V | undefined {
+    const value = this.map.get(key);
+    if (value !== undefined) {
+      this.map.delete(key);
+      this.map.set(key, value);
+    }
+    return value;
+  }
+  set(key: K, value: V) {
+    this.map.delete(key);
+    this.map.set(key, value);
+    if (this.map.size > this.capacity) this.map.delete(this.map.keys().next().value as K);
+  }
+}
+
+function createMemoryHistory(): EditHistory {
+  let undoStack: BoardState[] = [];
+  let redoStack: BoardState[] = [];
+  const status = () => ({ canUndo: undoStack.length > 0, canRedo: redoStack.length > 0 });
+  return {
+    open() {
+      undoStack = [];
+      redoStack = [];
+      return null;
+    },
+    reset() {
+      undoStack = [];
+      redoStack = [];
+      return status();
+    },
+    push(before) {
+      undoStack = [...undoStack.slice(undoStack.length - MAX_MEMORY_HISTORY + 1), before];
+      redoStack = [];
+      return status();
+    },
+    undo(current) {
+      const previous = undoStack.pop();
+      if (!previous) return null;
+      redoStack.push(current);
+      return previous;
+    },
+    redo(current) {
+      const next = redoStack.pop();
+      if (!next) return null;
+      undoStack.push(current);
+      return next;
+    },
+    saveLive() {},
+    status,
+  };
+}
+
+function createNativeHistory(): EditHistory {
+  const android = (window as any).Android;
+  // 当前位置的状态；页面显示的状态与它不同时，差异尚未记录
+  let anchor: BoardState | null = null;
+  let current: HistoryStatus = { canUndo: false, canRedo: false };
+  const hashes = new LruMap<string, string>(BLOB_CACHE_SIZE);
+  const contents = new LruMap<string, string>(BLOB_CACHE_SIZE);
+  const stored = new Set<string>();
+
+  const blobRef = (text: string): string => {
+    let hash = hashes.get(text);
+    if (!hash) {
+      hash = contentHash(text);
+      hashes.set(text, hash);
+    }
+    if (!stored.has(hash)) {
+      if (!android.hasHistoryBlob(hash) && !android.putHistoryBlob(hash, text)) {
+        throw new Error('历史内容保存失败');
+      }
+      stored.add(hash);
+    }
+    contents.set(hash, text);
+    return BLOB_REF_PREFIX + hash;
+  };
+
+  const encode = (value: any): any => {
+    if (typeof value === 'string') return value.length >= BLOB_MIN_CHARS ? blobRef(value) : value;
+    if (Array.isArray(value)) return value.map(encode);
+    if (value && typeof value === 'object') {
+      const out: any = {};
+      for (const key of Object.keys(value)) out[key] = encode(value[key]);
+      return out;
+    }
+    return value;
+  };
+
+  // 就地替换原生端返回的 JSON 中的内容引用
+  const resolve = (value: any): any => {
+    if (typeof value === 'string') {
+      if (!value.startsWith(BLOB_REF_PREFIX)) return value;
+      const hash = value.slice(BLOB_REF_PREFIX.length);
+      let text = contents.get(hash);
+      if (text === undefined) {
+        text = android.getHistoryBlob(hash) as string;
+        if (!text) throw new Error('历史内容缺失: ' + hash);
+        contents.set(hash, text);
+        hashes.set(text, hash);
+        stored.add(hash);
+      }
+      return text;
+    }
+    if (Array.isArray(value)) {
+      for (let i = 0; i < value.length; i++) value[i] = resolve(value[i]);
+    } else if (value && typeof value === 'object') {
+      for (const key of Object.keys(value)) value[key] = resolve(value[key]);
+    }
+    return value;
+  };
+
+  // 对象按引用比较：只有被替换的对象进入差异
+  const diffStates = (from: BoardState, to: BoardState): Diff | null => {
+    const diff: Diff = {};
+    const fromById = new Map(from.items.map(item => [item.id, item]));
+    const toIds = new Set(to.items.map(item => item.id));
+    const remove = from.items.filter(item => !toIds.has(item.id)).map(item => item.id);
+    const put = to.items.filter(item => fromById.get(item.id) !== item);
+    if (remove.length) diff.remove = remove;
+    if (put.length) diff.put = put.map(encode);
+    // 保留下来的对象维持原顺序、新对象追加在末尾时不需要发送顺序
+    const expected = from.items.filter(item => toIds.has(item.id)).map(item => item.id)
+      .concat(to.items.filter(item => !fromById.has(item.id)).map(item => item.id));
+    if (expected.some((id, i) => id !== to.items[i].id)) diff.order = to.items.map(item => item.id);
+    if (from.layers !== to.layers && JSON.stringify(from.layers) !== JSON.stringify(to.layers)) diff.layers = to.layers;
+    return diff.remove || diff.put || diff.order || diff.layers ? diff : null;
+  };
+
+  // 与 EditHistory.applyDiff 相同：先删除，再替换或追加，最后按 order 排序
+  const applyDiff = (state: BoardState, diff: Diff): BoardState => {
+    const removed = new Set(diff.remove || []);
+    const puts = new Map<string, CanvasItem>((diff.put || []).map(item => [item.id, resolve(item)]));
+    let items = state.items.filter(item => !removed.has(item.id));
+    const existing = new Set(items.map(item => item.id));
+    items = items.map(item => puts.get(item.id) ?? item);
+    puts.forEach((item, id) => {
+      if (!existing.has(id)) items.push(item);
+    });
+    if (diff.order) {
+      const byId = new Map(items.map(item => [item.id, item]));
+      items = diff.order.map(id => byId.get(id)).filter((item): item is CanvasItem => !!item);
+    }
+    return { layers: diff.layers ?? state.layers, items };
+  };
+
+  const parseStatus = (raw: string) => {
+    if (!raw) throw new Error('原生历史不可用');
+    const json = JSON.parse(raw);
+    current = { canUndo: !!json.canUndo, canRedo: !!json.canRedo };
+    return json;
+  };
+
+  const step = (method: 'historyUndo' | 'historyRedo'): BoardState | null => {
+    try {
+      const result = parseStatus(android[method]());
+      if (!result.diff || !anchor) return null;
+      anchor = applyDiff(anchor, result.diff);
+      return anchor;
+    } catch (e) {
+      console.warn(`[历史] ${method} 失败:`, e);
+      return null;
+    }
+  };
+
+  // 把 before 记录为新的一步（丢弃可重做的记录），返回 before 与当前位置相同（unchanged）、已记录或记录失败
+  const record = (before: BoardState): 'unchanged' | 'recorded' | 'failed' => {
+    if (!anchor) return 'failed';
+    try {
+      const forward = diffStates(anchor, before);
+      if (!forward) return 'unchanged';
+      const inverse = diffStates(before, anchor)!;
+      parseStatus(android.historyPush(JSON.stringify(forward), JSON.stringify(inverse)));
+      anchor = before;
+      return 'recorded';
+    } catch (e) {
+      // 记录失败不影响编辑，只是这一步不能撤销
+      console.warn('[历史] 记录失败:', e);
+      return 'failed';
+    }
+  };
+
+  const history: EditHistory = {
+    open(initial) {
+      try {
+        const result = parseStatus(android.historyOpen());
+        if (result.recovered) {
+          anchor = resolve(result.state) as BoardState;
+          return result.live ? applyDiff(anchor, result.live) : anchor;
+        }
+      } catch (e) {
+        console.warn('[历史] 恢复上次会话失败:', e);
+      }
+      history.reset(initial);
+      return null;
+    },
+    reset(state) {
+      try {
+        parseStatus(android.historyReset(JSON.stringify(encode(state))));
+        anchor = state;
+      } catch (e) {
+        console.warn('[历史] 重置失败:', e);
+        anchor = null;
+        current = { canUndo: false, canRedo: false };
+      }
+      return current;
+    },
+    push(before) {
+      // 撤销后的第一次修改：before 就是当前位置，没有需要记录的差异，但修改之后不能再重做
+      // （原生端的可重做记录在下一次记录时丢弃，见 redo）
+      if (record(before) === 'unchanged' && current.canRedo) current = { ...current, canRedo: false };
+      return current;
+    },
+    undo(state) {
+      // 显示的状态有未记录的修改时先记录，重做可以回到这里
+      record(state);
+      return step('historyUndo');
+    },
+    redo(state) {
+      // 撤销后又做了修改：先记录修改（丢弃可重做的记录）且不再前进，否则重做会覆盖这次修改
+      if (record(state) !== 'unchanged') return null;
+      return step('historyRedo');
+    },
+    saveLive(state) {
+      if (!anchor) return;
+      try {
+        android.historySetLive(JSON.stringify(diffStates(anchor, state) || {}));
+      } catch (e) {
+        console.warn('[历史] 同步失败:', e);
+      }
+    },
+    status: () => current,
+  };
+  return history;
+}
+
+/**
+ * 创建历史：有原生端时使用原生保存的历史，否则使用内存快照栈
+ */
+export function createEditHistory(): EditHistory {
+  return hasAndroidMethod('historyPush') ? createNativeHistory() : createMemoryHistory();
+}
@@ -1,6 +1,8 @@
 import type { ImageObject, CanvasItem, Layer } from '../types';
 import { CanvasItemType, PrintingMethod } from '../types';
 import { Helper, parseString as parseDxf } from 'dxf';
+import { callAndroidAsync, hasAndroidMethod, onAndroidProgress } from './androidBridge';
+import { isBinaryReady, optimizeToolpathBinary, saveRasterBinary } from './binaryTransport';
 
 // 定义G代码生成所需的参数
 export interface GCodeScanSettings {
@@ -549,28 +551,36 @@ async function createPlatformImage(
   console.log("生成的平台扫描预览图 (栅格化结果):");
   console.log(platformCanvas.toDataURL());
 
-  // 后续的像素数据提取、灰度化、翻转、半色调处理保持不变...
   const srcData = platformCtx.getImageData(0, 0, pixelWidth, pixelHeight).data;
-  const destData = new Int16Array(pixelWidth * pixelHeight);
+  return {
+    width: pixelWidth,
+    height: pixelHeight,
+    data: platformPixelsToGray(srcData, pixelWidth, pixelHeight, settings),
+  };
+}
 
-  for (let y = 0, i = 0; y < pixelHeight; y++) {
-    for (let x = 0; x < pixelWidth; x++, i++) {
+/**
+ * 平台像素的灰度化（原生端 RasterPipeline 与本函数逐像素一致，golden/ 中的 .gray 对照文件由本函数生成）
+ * 半调网屏模式不在这里处理：generateScanGCodeFromRaster 按 128 的阈值决定出光。
+ * hFlipped / vFlipped 在扫描图层上没有实现，原生端 PlatformRasterizer 同样不翻转
+ * @param rgba - 不透明的 RGBA 像素（getImageData 的结果）
+ * @returns 每像素一个灰度值 0-255
+ */
+export function platformPixelsToGray(
+  rgba: ArrayLike<number>,
+  width: number,
+  height: number,
+  settings: Pick<GCodeScanSettings, 'negativeImage'>
+): Int16Array {
+  const destData = new Int16Array(width * height);
+  for (let y = 0, i = 0; y < height; y++) {
+    for (let x = 0; x < width; x++, i++) {
       const si = i << 2;
-      const l = 0.2126 * sRGB2Linear(srcData[si]) + 0.7152 * sRGB2Linear(srcData[si + 1]) + 0.0722 * sRGB2Linear(srcData[si + 2]);
+      const l = 0.2126 * sRGB2Linear(rgba[si]) + 0.7152 * sRGB2Linear(rgba[si + 1]) + 0.0722 * sRGB2Linear(rgba[si + 2]);
       destData[i] = linear2sRGB(Math.pow(settings.negativeImage ? 1 - l : l, 1.0));
     }
   }
-  
-  // ... (翻转和半色调逻辑与原文件一致，此处省略)
-  if (settings.hFlipped) { /* ... */ }
-  if (settings.vFlipped) { /* ... */ }
-  if (settings.isHalftone) { /* ... */ }
-
-  return {
-    width: pixelWidth,
-    height: pixelHeight,
-    data: destData,
-  };
+  return destData;
 }
 
 
@@ -607,6 +617,38 @@ export async function generatePlatformScanGCode(
     throw new Error('扫描图层中没有可绘制的对象（图片、形状或零件）');
   }
 
+  // 【核心修改】将筛选出的所有可绘制对象传递给 createPlatformImage
+  const platformImage = await createPlatformImage(
+    drawableItems,
+    platformWidth,
+    platformHeight,
+    settings.lineDensity,
+    settings,
+    canvasWidth,
+    canvasHeight
+  );
+
+  return generateScanGCodeFromRaster(platformImage, settings, {
+    layerName: layer.name,
+    itemCount: drawableItems.length,
+    platformWidth,
+    platformHeight,
+  });
+}
+
+/**
+ * 由平台栅格生成扫描G代码
+ * 原生端 ScanGCodeEngine 的输出应与本函数逐字节一致，golden/ 目录下的对照文件由本函数生成
+ * @param raster - 平台栅格（自上而下逐行，每像素一个灰度值 0-255）
+ * @param settings - G代码生成设置
+ * @param info - 文件头信息：图层名、对象数量与平台尺寸 (mm)
+ * @returns 生成的G代码字符串
+ */
+export function generateScanGCodeFromRaster(
+  raster: { width: number; height: number; data: ArrayLike<number> },
+  settings: GCodeScanSettings,
+  info: { layerName: string; itemCount: number; platformWidth: number; platformHeight: number }
+): string {
   const {
     lineDensity,
     minPower = 0,
@@ -619,18 +661,7 @@ export async function generatePlatformScanGCode(
   // 对接近白色的像素强制不出光，避免边缘与超扫描区域轻微出光（例如用户设置了最小功率>0的情况）
   const whiteCutoff = 250; // 0-255，>= 250 视为白色
 
-  // 【核心修改】将筛选出的所有可绘制对象传递给 createPlatformImage
-  const platformImage = await createPlatformImage(
-    drawableItems,
-    platformWidth,
-    platformHeight,
-    lineDensity,
-    settings,
-    canvasWidth,
-    canvasHeight
-  );
-
-  const { width, height, data } = platformImage;
+  const { width, height, data } = raster;
   const dx = lineDensity;
   const dy = lineDensity;
 
@@ -683,9 +714,9 @@ export async function generatePlatformScanGCode(
 
   // G代码头部信息
   gcode.push(`; Platform Scan G-Code for Nexcut`);
-  gcode.push(`; Layer: ${layer.name}`);
-  gcode.push(`; Image Count: ${drawableItems.length}`);
-  gcode.push(`; Platform Size: ${platformWidth}x${platformHeight} mm`);
+  gcode.push(`; Layer: ${info.layerName}`);
+  gcode.push(`; Image Count: ${info.itemCount}`);
+  gcode.push(`; Platform Size: ${info.platformWidth}x${info.platformHeight} mm`);
   gcode.push(`; Resolution: ${lineDensity} mm/pixel (${width}x${height} pixels)`);
   gcode.push(`; Mode: ${settings.isHalftone ? "Halftone" : "Greyscale"}`);
   gcode.push(`; Power Range: [${minPower}, ${maxPower}] (0-100 scale)`);
@@ -888,6 +919,281 @@ export async function generatePlatformScanGCode(
   return gcode.join('\n');
 }
 
+/**
+ * 是否可以使用 Android 原生扫描引擎
+ */
+export function isNativeScanAvailable(): boolean {
+  const android = (window as any).Android;
+  return !!android && typeof android.generateScanGCode === 'function' && typeof android.saveTempFile === 'function';
+}
+
+// 将字节数组编码为 base64（分段处理，避免参数过多导致栈溢出）
+function bytesToBase64(bytes: Uint8Array): string {
+  let binary = '';
+  const CHUNK = 0x8000;
+  for (let i = 0; i < bytes.length; i += CHUNK) {
+    binary += String.fromCharCode.apply(null, bytes.subarray(i, i + CHUNK) as unknown as number[]);
+  }
+  return btoa(binary);
+}
+
+/**
+ * 由原生端完成栅格化（重采样与灰度化），图片以缓存文件句柄传递。
+ * 仅适用于只包含图片的图层，含矢量图形或图片来源不支持时返回 null，由前端栅格化
+ */
+async function rasterizePlatformNative(
+  drawableItems: CanvasItem[],
+  platformWidth: number,
+  platformHeight: number,
+  settings: GCodeScanSettings,
+  canvasWidth: number,
+  canvasHeight: number
+): Promise<{ path: string; width: number; height: number; bitsPerPixel: number } | null> {
+  if (!hasAndroidMethod('rasterizePlatform')) return null;
+  if (drawableItems.some(item => item.type !== CanvasItemType.IMAGE)) return null;
+
+  const sources: { source: string; x: number; y: number; width: number; height: number }[] = [];
+  for (const item of drawableItems as ImageObject[]) {
+    let source: string;
+    if (item.sourceHref) {
+      // 分块导入的大图：预览只用于显示，原生端按原图分辨率栅格化
+      source = item.sourceHref;
+    } else if (item.href.startsWith('data:')) {
+      // 按内容寻址缓存，重复导出相同图片不会重复写入
+      const ext = (item.href.match(/^data:image\/(\w+)/)?.[1] || 'png').replace('jpeg', 'jpg');
+      source = await callAndroidAsync('saveTempFile', item.href, `scan_source.${ext}`);
+    } else if (item.href.startsWith('https://appassets.androidplatform.net/')) {
+      source = item.href;
+    } else {
+      return null;
+    }
+    if (!source) return null;
+    sources.push({ source, x: item.x, y: item.y, width: item.width, height: item.height });
+  }
+
+  try {
+    const raw = await callAndroidAsync('rasterizePlatform', JSON.stringify({
+      platformWidth,
+      platformHeight,
+      lineDensity: settings.lineDensity,
+      canvasWidth,
+      canvasHeight,
+      negativeImage: !!settings.negativeImage,
+      isHalftone: !!settings.isHalftone,
+      items: sources,
+    }));
+    const result = typeof raw === 'string' ? (raw ? JSON.parse(raw) : null) : raw;
+    if (result) {
+      console.log(`原生栅格化: ${result.width}x${result.height}, ${result.bitsPerPixel} bit, ${result.ms} ms`);
+    }
+    return result;
+  } catch (e) {
+    console.warn('原生栅格化失败，回退到前端栅格化:', e);
+    return null;
+  }
+}
+
+/**
+ * 原生扫描图层任务：栅格文件及 ScanGCodeEngine 所需的参数
+ */
+export interface NativeScanLayer {
+  rasterPath: string;
+  width: number;
+  height: number;
+  settings: GCodeScanSettings & {
+    layerName: string;
+    itemCount: number;
+    platformWidth: number;
+    platformHeight: number;
+    rasterBits: number;
+  };
+}
+
+/**
+ * 为原生扫描准备图层：纯图片图层由原生端栅格化；含矢量图形时栅格化仍在前端完成，
+ * 栅格数据写入原生临时文件缓存
+ */
+export async function prepareNativeScanLayer(
+  layer: Layer,
+  items: CanvasItem[],
+  platformWidth: number,
+  platformHeight: number,
+  settings: GCodeScanSettings,
+  canvasWidth: number,
+  canvasHeight: number
+): Promise<NativeScanLayer> {
+  const drawableItems = items.filter(item =>
+    item.layerId === layer.id &&
+    (item.type === CanvasItemType.IMAGE || 'parameters' in item)
+  );
+
+  if (drawableItems.length === 0) {
+    throw new Error('扫描图层中没有可绘制的对象（图片、形状或零件）');
+  }
+
+  let raster = await rasterizePlatformNative(
+    drawableItems, platformWidth, platformHeight, settings, canvasWidth, canvasHeight
+  );
+  if (!raster) {
+    const { width, height, data } = await createPlatformImage(
+      drawableItems,
+      platformWidth,
+      platformHeight,
+      settings.lineDensity,
+      settings,
+      canvasWidth,
+      canvasHeight
+    );
+
+    // 灰度值范围为 0-255，按每像素1字节传给原生端
+    const bytes = new Uint8Array(data.length);
+    for (let i = 0; i < data.length; i++) {
+      bytes[i] = data[i];
+    }
+    // 写文件与G代码生成都在原生后台线程中进行，不阻塞页面；二进制通道可用时不做 base64 编码
+    const fileName = `scan_raster_${layer.id}.bin`;
+    const path: string = isBinaryReady()
+      ? (await saveRasterBinary(bytes, width, height, 1, fileName)).path
+      : await callAndroidAsync('saveTempFile', bytesToBase64(bytes), fileName);
+    if (!path) {
+      throw new Error('保存扫描栅格失败');
+    }
+    raster = { path, width, height, bitsPerPixel: 8 };
+  }
+  return {
+    rasterPath: raster.path,
+    width: raster.width,
+    height: raster.height,
+    settings: {
+      ...settings,
+      layerName: layer.name,
+      itemCount: drawableItems.length,
+      platformWidth,
+      platformHeight,
+      rasterBits: raster.bitsPerPixel,
+    },
+  };
+}
+
+/**
+ * 可续写扫描导出的进度回调（已完成行数 / 内容总行数）
+ */
+export type ScanExportProgress = (doneRows: number, totalRows: number) => void;
+
+/**
+ * 原生端未完成的扫描导出（进程被杀或被取消后留下的检查点）
+ */
+export interface PendingScanExport {
+  jobId: string;
+  fileName: string;
+  doneRows: number;
+  totalRows?: number;
+  bytes?: number;
+  createdAt: number;
+  updatedAt?: number;
+}
+
+/**
+ * 原生端是否支持可断点续写的扫描导出
+ */
+export function isResumableScanAvailable(): boolean {
+  return hasAndroidMethod('startScanExportAsync') && hasAndroidMethod('cancelScanExport');
+}
+
+// 等待可续写导出完成，期间转发进度
+async function awaitScanExport(jobId: string, start: () => Promise<any>, onProgress?: ScanExportProgress): Promise<string> {
+  const unsubscribe = onAndroidProgress(jobId, event => {
+    if (event.state === 'running') {
+      onProgress?.(event.doneRows, event.totalRows);
+    }
+  });
+  try {
+    const raw = await start();
+    const result = typeof raw === 'string' ? (raw ? JSON.parse(raw) : null) : raw;
+    if (!result || !result.path) {
+      throw new Error('原生扫描G代码生成失败');
+    }
+    console.log(`原生扫描导出: ${result.bytes} 字节, ${result.ms} ms` +
+      (result.resumedFromRow >= 0 ? `（从第 ${result.resumedFromRow} 行继续）` : ''));
+    return result.path;
+  } finally {
+    unsubscribe();
+  }
+}
+
+/**
+ * 继续原生端未完成的扫描导出
+ * @returns 原生端写入的文件路径
+ */
+export function resumeScanExportNative(jobId: string, onProgress?: ScanExportProgress): Promise<string> {
+  return awaitScanExport(jobId, () => callAndroidAsync('resumeScanExport', jobId), onProgress);
+}
+
+/**
+ * 取消正在运行的扫描导出（已完成的部分保留，可用 resumeScanExportNative 继续）
+ */
+export function cancelScanExportNative(jobId: string): boolean {
+  return hasAndroidMethod('cancelScanExport') && !!(window as any).Android.cancelScanExport(jobId);
+}
+
+/**
+ * 放弃未完成的扫描导出
+ */
+export function discardScanExportNative(jobId: string): boolean {
+  return hasAndroidMethod('discardScanExport') && !!(window as any).Android.discardScanExport(jobId);
+}
+
+/**
+ * 查询原生端未完成的扫描导出
+ */
+export function getPendingScanExports(): PendingScanExport[] {
+  if (!hasAndroidMethod('getPendingScanExports')) return [];
+  try {
+    return JSON.parse((window as any).Android.getPendingScanExports()) || [];
+  } catch {
+    return [];
+  }
+}
+
+/**
+ * 使用 Android 原生扫描引擎为整个扫描图层生成G代码
+ * 像素遍历与指令生成交给原生端并行处理，结果由原生端直接写入文件。
+ * 指定 jobId 且原生端支持时按行带写入检查点，中断后可用 resumeScanExportNative 继续
+ * @param fileName - 输出文件名
+ * @returns 原生端写入的文件路径
+ */
+export async function generatePlatformScanGCodeNative(
+  layer: Layer,
+  items: CanvasItem[],
+  platformWidth: number,
+  platformHeight: number,
+  settings: GCodeScanSettings,
+  canvasWidth: number,
+  canvasHeight: number,
+  fileName: string,
+  resumable?: { jobId: string; onProgress?: ScanExportProgress }
+): Promise<string> {
+  const { rasterPath, width, height, settings: nativeSettings } = await prepareNativeScanLayer(
+    layer, items, platformWidth, platformHeight, settings, canvasWidth, canvasHeight
+  );
+  if (resumable && isResumableScanAvailable()) {
+    const { jobId, onProgress } = resumable;
+    return awaitScanExport(jobId, () => callAndroidAsync('startScanExport', JSON.stringify({
+      jobId,
+      rasterPath,
+      width,
+      height,
+      settings: nativeSettings,
+      fileName,
+    })), onProgress);
+  }
+  const outPath: string = await callAndroidAsync('generateScanGCode', rasterPath, width, height, JSON.stringify(nativeSettings), fileName);
+  if (!outPath) {
+    throw new Error('原生扫描G代码生成失败');
+  }
+  return outPath;
+}
+
 /**
  * 为单个图像对象生成G代码（保留原有功能）
  * @deprecated 建议使用 generatePlatformScanGCode 来处理整个图层
@@ -2742,6 +3048,183 @@ function itemToGCodePaths(item: CanvasItem, settings: GCodeEngraveSettings): str
 
 
 
+/**
+ * 雕刻切割块：从 G0 定位到 M5 关光的一段连续切割
+ */
+interface CutBlock {
+  item: CanvasItem;
+  lines: string[];
+  // 端点坐标（机器坐标系），依次为 G0 目标点和各运动目标点
+  pts: number[];
+  // 可逆块中各点的原始坐标文本，重排时原样输出，避免格式变化
+  coords: [string, string][];
+  // 可逆块中开光指令和各 G1 指令除 X/Y 外的其余字（如 F）
+  laserOn: string;
+  tails: string[];
+  reversible: boolean;
+  closed: boolean;
+}
+
+const MOTION_RE = /^G0?([0-3])(?:\s|$)/i;
+
+function wordOf(line: string, letter: string): string | null {
+  const m = line.match(new RegExp(`(?:^|\\s)${letter}(-?[\\d.]+(?:e-?\\d+)?)`, 'i'));
+  return m ? m[1] : null;
+}
+
+/**
+ * 把单个对象的 G 代码拆分为切割块，块外的其余行（注释等）原样保留
+ * 只有形如 G0 -> M3 -> G1... -> M5 的直线块允许反向或改变闭合路径的起点
+ */
+function splitCutBlocks(item: CanvasItem, lines: string[], pos: { x: number; y: number }): { blocks: CutBlock[]; rest: string[] } {
+  const blocks: CutBlock[] = [];
+  const rest: string[] = [];
+  let i = 0;
+  while (i < lines.length) {
+    const line = lines[i].trim();
+    const motion = line.match(MOTION_RE);
+    const x0 = wordOf(line, 'X');
+    const y0 = wordOf(line, 'Y');
+    if (!motion || motion[1] !== '0' || x0 === null || y0 === null) {
+      if (motion) {
+        // 块外的运动指令保持原有顺序，但仍需跟踪当前位置
+        pos.x = Number(wordOf(line, 'X') ?? pos.x);
+        pos.y = Number(wordOf(line, 'Y') ?? pos.y);
+      }
+      rest.push(lines[i]);
+      i++;
+      continue;
+    }
+    const block: CutBlock = {
+      item, lines: [lines[i]], pts: [Number(x0), Number(y0)], coords: [[x0, y0]],
+      laserOn: '', tails: [], reversible: true, closed: false,
+    };
+    pos.x = Number(x0);
+    pos.y = Number(y0);
+    i++;
+    while (i < lines.length) {
+      const l = lines[i].trim();
+      const m = l.match(MOTION_RE);
+      if (m && m[1] === '0') break;
+      block.lines.push(lines[i]);
+      i++;
+      if (/^M5\b/i.test(l)) break;
+      if (/^M[34]\b/i.test(l)) {
+        if (block.laserOn || block.tails.length > 0) block.reversible = false;
+        block.laserOn = lines[i - 1];
+        continue;
+      }
+      if (!m) {
+        block.reversible = false;
+        continue;
+      }
+      const x = wordOf(l, 'X');
+      const y = wordOf(l, 'Y');
+      pos.x = Number(x ?? pos.x);
+      pos.y = Number(y ?? pos.y);
+      block.pts.push(pos.x, pos.y);
+      if (m[1] !== '1' || x === null || y === null || !block.laserOn) {
+        block.reversible = false;
+        continue;
+      }
+      block.coords.push([x, y]);
+      block.tails.push(l.replace(/^G0?1\s*/i, '').replace(/(?:^|\s)[XY]-?[\d.]+(?:e-?\d+)?/gi, '').trim());
+    }
+    const n = block.pts.length;
+    block.closed = n >= 6 && block.pts[0] === block.pts[n - 2] && block.pts[1] === block.pts[n - 1];
+    if (block.tails.length === 0) block.reversible = false;
+    blocks.push(block);
+  }
+  return { blocks, rest };
+}
+
+/**
+ * 按给定方向和起点重新生成可逆切割块
+ */
+function emitCutBlock(block: CutBlock, reverse: boolean, start: number): string[] {
+  if (!block.reversible || (!reverse && start === 0)) return block.lines;
+  let coords = block.coords;
+  if (block.closed) {
+    const ring = coords.slice(0, coords.length - 1);
+    const s = start % ring.length;
+    coords = [...ring.slice(s), ...ring.slice(0, s), ring[s]];
+  } else if (reverse) {
+    coords = [...coords].reverse();
+  }
+  const out = [`G0 X${coords[0][0]} Y${coords[0][1]}`, block.laserOn];
+  for (let k = 1; k < coords.length; k++) {
+    const tail = block.tails[Math.min(k - 1, block.tails.length - 1)];
+    out.push(`G1 X${coords[k][0]} Y${coords[k][1]}${tail ? ' ' + tail : ''}`);
+  }
+  out.push('M5');
+  return out;
+}
+
+/**
+ * 调用原生路径排序（最近邻 + 2-opt，内轮廓先于外轮廓），重新排列各对象的切割块以减少空程
+ * 对象的块外行（注释等）随该对象排序后的第一个块输出，没有切割块的对象按原顺序放在最后
+ * 原生端不可用或出错时返回 null，由调用方保持原有顺序
+ */
+async function optimizeEngraveOrder(
+  entries: { item: CanvasItem; paths: string[] }[]
+): Promise<string[] | null> {
+  if (!hasAndroidMethod('optimizeToolpath')) return null;
+  const pos = { x: 0, y: 0 };
+  const rests = new Map<CanvasItem, string[]>();
+  const blockless: { item: CanvasItem; rest: string[] }[] = [];
+  const blocks: CutBlock[] = [];
+  for (const { item, paths } of entries) {
+    const split = splitCutBlocks(item, paths, pos);
+    if (split.blocks.length === 0) {
+      blockless.push({ item, rest: split.rest });
+    } else if (split.rest.length > 0) {
+      rests.set(item, split.rest);
+    }
+    blocks.push(...split.blocks);
+  }
+  if (blocks.length < 2) return null;
+  try {
+    const paths = blocks.map(b => ({ pts: b.pts, reversible: b.reversible, closed: b.closed }));
+    const options = { startX: 0, startY: 0, budgetMs: 500 };
+    let result: any;
+    if (isBinaryReady()) {
+      // 坐标以 float32 数组传递，省去 JSON 序列化与解析
+      result = await optimizeToolpathBinary(paths, options);
+    } else {
+      const raw = await callAndroidAsync('optimizeToolpath', JSON.stringify({ paths, ...options }));
+      result = typeof raw === 'string' ? (raw ? JSON.parse(raw) : null) : raw;
+    }
+    if (!result || !Array.isArray(result.order) || result.order.length !== blocks.length) return null;
+
+    const out: string[] = [
+      `; 路径排序: 空程 ${Number(result.before).toFixed(1)} mm -> ${Number(result.after).toFixed(1)} mm`,
+    ];
+    let current: CanvasItem | null = null;
+    for (const step of result.order) {
+      const block = blocks[step.i];
+      if (block.item !== current) {
+        if (current) out.push('');
+        current = block.item;
+        out.push(`; Object: ${current.type} at (${current.x}, ${current.y})`);
+        const rest = rests.get(current);
+        if (rest) {
+          out.push(...rest);
+          rests.delete(current);
+        }
+      }
+      out.push(...emitCutBlock(block, !!step.reverse, step.start || 0));
+    }
+    for (const { item, rest } of blockless) {
+      out.push('', `; Object: ${item.type} at (${item.x}, ${item.y})`, ...rest);
+    }
+    out.push('');
+    return out;
+  } catch (error) {
+    console.warn('原生路径排序失败，保持原有顺序:', error);
+    return null;
+  }
+}
+
 /**
  * 为雕刻图层生成G代码
  * @param layer 雕刻图层
@@ -2776,12 +3259,11 @@ export async function generateEngraveGCode(
   let supportedItemsCount = 0;
 
   // 为每个对象生成G代码路径
+  const entries: { item: CanvasItem; paths: string[] }[] = [];
   for (const item of layerItems) {
     const itemPaths = itemToGCodePaths(item, settings);
     if (itemPaths.length > 0) {
-      gcode.push(`; Object: ${item.type} at (${item.x}, ${item.y})`);
-      gcode.push(...itemPaths);
-      gcode.push('');
+      entries.push({ item, paths: itemPaths });
 
       // 统计实际生成了G代码路径的对象（不包括纯注释）
       if (itemPaths.some(path => !path.startsWith(';'))) {
@@ -2790,6 +3272,18 @@ export async function generateEngraveGCode(
     }
   }
 
+  // 路径优化：跨对象重排切割顺序（默认开启）
+  const optimized = settings.pathOptimization !== false ? await optimizeEngraveOrder(entries) : null;
+  if (optimized) {
+    gcode.push(...optimized);
+  } else {
+    for (const { item, paths } of entries) {
+      gcode.push(`; Object: ${item.type} at (${item.x}, ${item.y})`);
+      gcode.push(...paths);
+      gcode.push('');
+    }
+  }
+
   // G代码文件尾
   gcode.push(
     'M5 ; Ensure laser is off',
@@ -2803,4 +3297,120 @@ export async function generateEngraveGCode(
   gcode.unshift(`; 总对象数: ${layerItems.length}, 支持雕刻的对象数: ${supportedItemsCount}`);
 
   return gcode.join('\n');
-}
\ No newline at end of file
+}
+/**
+ * 原生 G 代码索引概况（见 GCodeIndex.java）
+ */
+export interface GCodeIndexInfo {
+  lines: number;
+  moves: number;
+  bands: number;
+  cutDistance: number;
+  travelDistance: number;
+  seconds: number;
+  bounds: [number, number, number, number];
+  cached: boolean;
+  ms: number;
+}
+
+/**
+ * 预览折线：points 为 x0, y0, x1, y1 ...，rapid 表示空移
+ */
+export interface GCodePreviewPolyline {
+  points: Float32Array;
+  rapid: boolean;
+}
+
+/**
+ * 打开（必要时建立）原生 G 代码索引，原生端不支持时返回 null
+ * @param path - 导出文件的绝对路径或下载目录中的文件名
+ */
+export async function indexGCodeNative(path: string): Promise<GCodeIndexInfo | null> {
+  if (!hasAndroidMethod('indexGCode')) return null;
+  const raw = await callAndroidAsync('indexGCode', path);
+  return typeof raw === 'string' ? (raw ? JSON.parse(raw) : null) : raw;
+}
+
+/**
+ * 查询视口内的 G 代码路径（视口缺省时为整个文件），tolerance 通常取一个屏幕像素对应的毫米数
+ */
+export async function queryGCodePreviewNative(
+  path: string,
+  query: { minX?: number; minY?: number; maxX?: number; maxY?: number; tolerance?: number; travel?: boolean; maxPoints?: number }
+): Promise<GCodePreviewPolyline[] | null> {
+  if (!hasAndroidMethod('queryGCodePreview')) return null;
+  const raw = await callAndroidAsync('queryGCodePreview', path, JSON.stringify(query));
+  const result = typeof raw === 'string' ? (raw ? JSON.parse(raw) : null) : raw;
+  if (!result) return null;
+  const buffer = await (await fetch(result.url)).arrayBuffer();
+  return decodePreviewBuffer(buffer);
+}
+
+// 解析二进制折线缓冲区（格式见 VectorPreprocessor.java），坐标直接引用缓冲区不复制
+function decodePreviewBuffer(buffer: ArrayBuffer): GCodePreviewPolyline[] {
+  const view = new DataView(buffer);
+  if (view.getInt32(0, true) !== 0x4C50584E || view.getInt32(4, true) !== 1) {
+    throw new Error('无效的折线缓冲区');
+  }
+  const count = view.getInt32(8, true);
+  const countsOffset = 32;
+  const flagsOffset = countsOffset + count * 4;
+  let coordOffset = flagsOffset + Math.ceil(count / 4) * 4;
+  const polylines: GCodePreviewPolyline[] = new Array(count);
+  for (let i = 0; i < count; i++) {
+    const n = view.getInt32(countsOffset + i * 4, true);
+    polylines[i] = {
+      points: new Float32Array(buffer, coordOffset, n * 2),
+      rapid: (view.getUint8(flagsOffset + i) & 2) !== 0,
+    };
+    coordOffset += n * 8;
+  }
+  return polylines;
+}
+
+/**
+ * G 代码压缩选项（见 GCodeCompactor.java），长度单位为毫米
+ */
+export interface GCodeCompactOptions {
+  mergeTolerance?: number; // 合并共线 G1 的容差，0 表示不合并，默认 0.01
+  fitArcs?: boolean; // 把折线拟合为 G2/G3，默认关闭
+  arcTolerance?: number;
+  arcDecimals?: number;
+  modalMotion?: boolean; // 省略重复的 G0/G1，默认开启
+  modalPower?: boolean; // 省略重复的 S，默认关闭
+  stripComments?: boolean; // 默认开启
+}
+
+/**
+ * 压缩结果：ratio 为 outBytes / inBytes，applied 为 false 时文件没有变小、保持原样
+ */
+export interface GCodeCompactStats {
+  path: string;
+  inBytes: number;
+  outBytes: number;
+  inLines: number;
+  outLines: number;
+  mergedMoves: number;
+  arcs: number;
+  ratio: number;
+  applied: boolean;
+  ms: number;
+}
+
+/**
+ * 原地压缩已导出的 G 代码文件，原生端不支持时返回 null
+ * @param path - 导出文件的绝对路径或下载目录中的文件名
+ */
+export async function compactGCodeNative(path: string, options: GCodeCompactOptions = {}): Promise<GCodeCompactStats | null> {
+  if (!hasAndroidMethod('compactGCode')) return null;
+  const raw = await callAndroidAsync('compactGCode', path, JSON.stringify(options));
+  return typeof raw === 'string' ? (raw ? JSON.parse(raw) : null) : raw;
+}
+
+/**
+ * 设置保存或导出 .nc/.gcode 文件后的自动压缩选项（默认关闭），传 null 关闭自动压缩
+ */
+export function setSavedGCodeCompaction(options: GCodeCompactOptions | null): void {
+  if (!hasAndroidMethod('setSavedGCodeCompaction')) return;
+  (window as any).Android.setSavedGCodeCompaction(options ? JSON.stringify(options) : '');
+}
@@ -0,0 +1,103 @@
+/**
+ * 大图分块读取（与 TiledImageStore.java 对应）
+ * 原生端把超大图片切成逐级减半的 256×256 分块，第 0 级为原始分辨率。页面只按当前需要的显示尺寸
+ * 选择级别，并只请求与可见区域相交的分块，内存与显示区域成正比，而不是与原图大小成正比。
+ * 原图地址 sourceUrl 只在导出时交给原生端读取。
+ */
+
+export interface TiledImageInfo {
+  id: string;
+  width: number;
+  height: number;
+  tileSize: number;
+  levels: number;
+  // 含 {level} {col} {row} 占位符
+  tileUrl: string;
+  sourceUrl: string | null;
+}
+
+export interface TileRegion {
+  // 第 0 级（原始分辨率）坐标
+  x: number;
+  y: number;
+  width: number;
+  height: number;
+}
+
+const MAX_CONCURRENT_TILES = 6;
+
+export async function loadTiledImageInfo(url: string): Promise<TiledImageInfo> {
+  const response = await fetch(url);
+  if (!response.ok) throw new Error(`HTTP ${response.status}`);
+  return response.json();
+}
+
+/**
+ * 选择最粗的、仍能以不少于 targetPixels 的像素显示 sourcePixels 原始像素的级别
+ */
+export function levelForScale(info: TiledImageInfo, sourcePixels: number, targetPixels: number): number {
+  let level = 0;
+  while (level < info.levels - 1 && sourcePixels / 2 ** (level + 1) >= targetPixels) level++;
+  return level;
+}
+
+function tileUrl(info: TiledImageInfo, level: number, col: number, row: number): string {
+  return info.tileUrl
+    .replace('{level}', String(level))
+    .replace('{col}', String(col))
+    .replace('{row}', String(row));
+}
+
+async function loadTile(url: string): Promise<ImageBitmap> {
+  const response = await fetch(url);
+  if (!response.ok) throw new Error(`分块读取失败: HTTP ${response.status}`);
+  return createImageBitmap(await response.blob());
+}
+
+/**
+ * 把原图的一块区域按指定级别绘制到新画布上（画布尺寸为区域在该级别下的像素数），只读取相交的分块
+ */
+export async function renderRegion(info: TiledImageInfo, level: number, region: TileRegion): Promise<HTMLCanvasElement> {
+  const scale = 2 ** level;
+  const size = info.tileSize;
+  const x0 = Math.max(0, region.x) / scale;
+  const y0 = Math.max(0, region.y) / scale;
+  const x1 = Math.min(info.width, region.x + region.width) / scale;
+  const y1 = Math.min(info.height, region.y + region.height) / scale;
+  const canvas = document.createElement('canvas');
+  canvas.width = Math.max(1, Math.round(x1 - x0));
+  canvas.height = Math.max(1, Math.round(y1 - y0));
+  const ctx = canvas.getContext('2d');
+  if (!ctx) throw new Error('无法创建画布');
+
+  const jobs: Array<{ col: number; row: number }> = [];
+  for (let row = Math.floor(y0 / size); row * size < y1; row++) {
+    for (let col = Math.floor(x0 / size); col * size < x1; col++) {
+      jobs.push({ col, row });
+    }
+  }
+  let next = 0;
+  const worker = async () => {
+    while (next < jobs.length) {
+      const { col, row } = jobs[next++];
+      const bitmap = await loadTile(tileUrl(info, level, col, row));
+      ctx.drawImage(bitmap, col * size - x0, row * size - y0);
+      bitmap.close();
+    }
+  };
+  await Promise.all(Array.from({ length: Math.min(MAX_CONCURRENT_TILES, jobs.length) }, worker));
+  return canvas;
+}
+
+/**
+ * 生成长边不小于 maxEdge（不超过原图）的整图预览，返回 blob URL
+ */
+export async function renderPreview(info: TiledImageInfo, maxEdge: number): Promise<string> {
+  const level = levelForScale(info, Math.max(info.width, info.height), maxEdge);
+  const canvas = await renderRegion(info, level, { x: 0, y: 0, width: info.width, height: info.height });
+  // PNG 分块保留透明通道，预览同样用 PNG
+  const type = info.tileUrl.endsWith('.png') ? 'image/png' : 'image/jpeg';
+  const blob = await new Promise<Blob | null>(resolve => canvas.toBlob(resolve, type, 0.92));
+  if (!blob) throw new Error('预览编码失败');
+  return URL.createObjectURL(blob);
+}
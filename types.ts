@@ -120,6 +120,8 @@ export interface ImageObject {
   width: number;
   height: number;
   href: string; // data URL
+  // 分块导入的大图：href 为屏幕分辨率的预览，导出时由原生端按此地址读取原图
+  sourceHref?: string;
   rotation: number;
   layerId: string;
   // 新增：原始矢量数据，用于G代码生成